@@ -0,0 +1,1029 @@
+package com.facebook.buck.android;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Objects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractAndroidInstrumentationTestJVMArgs}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code AndroidInstrumentationTestJVMArgs.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractAndroidInstrumentationTestJVMArgs"})
+@Immutable
+public final class AndroidInstrumentationTestJVMArgs
+    extends AbstractAndroidInstrumentationTestJVMArgs {
+  private final String pathToAdbExecutable;
+  private final @Nullable Path directoryForTestResults;
+  private final String testPackage;
+  private final String testRunner;
+  private final String ddmlibJarPath;
+  private final String kxmlJarPath;
+  private final String guavaJarPath;
+  private final String androidToolsCommonJarPath;
+  private final @Nullable String deviceSerial;
+  private final @Nullable Path instrumentationApkPath;
+  private final @Nullable Path apkUnderTestPath;
+  private final @Nullable String testFilter;
+  private final Path testRunnerClasspath;
+
+  private AndroidInstrumentationTestJVMArgs(
+      String pathToAdbExecutable,
+      @Nullable Path directoryForTestResults,
+      String testPackage,
+      String testRunner,
+      String ddmlibJarPath,
+      String kxmlJarPath,
+      String guavaJarPath,
+      String androidToolsCommonJarPath,
+      @Nullable String deviceSerial,
+      @Nullable Path instrumentationApkPath,
+      @Nullable Path apkUnderTestPath,
+      @Nullable String testFilter,
+      Path testRunnerClasspath) {
+    this.pathToAdbExecutable = pathToAdbExecutable;
+    this.directoryForTestResults = directoryForTestResults;
+    this.testPackage = testPackage;
+    this.testRunner = testRunner;
+    this.ddmlibJarPath = ddmlibJarPath;
+    this.kxmlJarPath = kxmlJarPath;
+    this.guavaJarPath = guavaJarPath;
+    this.androidToolsCommonJarPath = androidToolsCommonJarPath;
+    this.deviceSerial = deviceSerial;
+    this.instrumentationApkPath = instrumentationApkPath;
+    this.apkUnderTestPath = apkUnderTestPath;
+    this.testFilter = testFilter;
+    this.testRunnerClasspath = testRunnerClasspath;
+  }
+
+  /**
+   * @return The value of the {@code pathToAdbExecutable} attribute
+   */
+  @Override
+  public String getPathToAdbExecutable() {
+    return pathToAdbExecutable;
+  }
+
+  /**
+   * @return The value of the {@code directoryForTestResults} attribute
+   */
+  @Override
+  public Optional<Path> getDirectoryForTestResults() {
+    return Optional.ofNullable(directoryForTestResults);
+  }
+
+  /**
+   * @return The value of the {@code testPackage} attribute
+   */
+  @Override
+  public String getTestPackage() {
+    return testPackage;
+  }
+
+  /**
+   * @return The value of the {@code testRunner} attribute
+   */
+  @Override
+  public String getTestRunner() {
+    return testRunner;
+  }
+
+  /**
+   * @return The value of the {@code ddmlibJarPath} attribute
+   */
+  @Override
+  public String getDdmlibJarPath() {
+    return ddmlibJarPath;
+  }
+
+  /**
+   * @return The value of the {@code kxmlJarPath} attribute
+   */
+  @Override
+  public String getKxmlJarPath() {
+    return kxmlJarPath;
+  }
+
+  /**
+   * @return The value of the {@code guavaJarPath} attribute
+   */
+  @Override
+  public String getGuavaJarPath() {
+    return guavaJarPath;
+  }
+
+  /**
+   * @return The value of the {@code androidToolsCommonJarPath} attribute
+   */
+  @Override
+  public String getAndroidToolsCommonJarPath() {
+    return androidToolsCommonJarPath;
+  }
+
+  /**
+   * @return The value of the {@code deviceSerial} attribute
+   */
+  @Override
+  public Optional<String> getDeviceSerial() {
+    return Optional.ofNullable(deviceSerial);
+  }
+
+  /**
+   * @return The value of the {@code instrumentationApkPath} attribute
+   */
+  @Override
+  public Optional<Path> getInstrumentationApkPath() {
+    return Optional.ofNullable(instrumentationApkPath);
+  }
+
+  /**
+   * @return The value of the {@code apkUnderTestPath} attribute
+   */
+  @Override
+  public Optional<Path> getApkUnderTestPath() {
+    return Optional.ofNullable(apkUnderTestPath);
+  }
+
+  /**
+   * @return The value of the {@code testFilter} attribute
+   */
+  @Override
+  public Optional<String> getTestFilter() {
+    return Optional.ofNullable(testFilter);
+  }
+
+  /**
+   * @return The filesystem path to the compiled Buck test runner classes.
+   */
+  @Override
+  public Path getTestRunnerClasspath() {
+    return testRunnerClasspath;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractAndroidInstrumentationTestJVMArgs#getPathToAdbExecutable() pathToAdbExecutable} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for pathToAdbExecutable
+   * @return A modified copy of the {@code this} object
+   */
+  public final AndroidInstrumentationTestJVMArgs withPathToAdbExecutable(String value) {
+    if (this.pathToAdbExecutable.equals(value)) return this;
+    String newValue = Preconditions.checkNotNull(value, "pathToAdbExecutable");
+    return new AndroidInstrumentationTestJVMArgs(
+        newValue,
+        this.directoryForTestResults,
+        this.testPackage,
+        this.testRunner,
+        this.ddmlibJarPath,
+        this.kxmlJarPath,
+        this.guavaJarPath,
+        this.androidToolsCommonJarPath,
+        this.deviceSerial,
+        this.instrumentationApkPath,
+        this.apkUnderTestPath,
+        this.testFilter,
+        this.testRunnerClasspath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractAndroidInstrumentationTestJVMArgs#getDirectoryForTestResults() directoryForTestResults} attribute.
+   * @param value The value for directoryForTestResults
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidInstrumentationTestJVMArgs withDirectoryForTestResults(Path value) {
+    @Nullable Path newValue = Preconditions.checkNotNull(value, "directoryForTestResults");
+    if (this.directoryForTestResults == newValue) return this;
+    return new AndroidInstrumentationTestJVMArgs(
+        this.pathToAdbExecutable,
+        newValue,
+        this.testPackage,
+        this.testRunner,
+        this.ddmlibJarPath,
+        this.kxmlJarPath,
+        this.guavaJarPath,
+        this.androidToolsCommonJarPath,
+        this.deviceSerial,
+        this.instrumentationApkPath,
+        this.apkUnderTestPath,
+        this.testFilter,
+        this.testRunnerClasspath);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractAndroidInstrumentationTestJVMArgs#getDirectoryForTestResults() directoryForTestResults} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for directoryForTestResults
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidInstrumentationTestJVMArgs withDirectoryForTestResults(Optional<Path> optional) {
+    @Nullable Path value = optional.orElse(null);
+    if (this.directoryForTestResults == value) return this;
+    return new AndroidInstrumentationTestJVMArgs(
+        this.pathToAdbExecutable,
+        value,
+        this.testPackage,
+        this.testRunner,
+        this.ddmlibJarPath,
+        this.kxmlJarPath,
+        this.guavaJarPath,
+        this.androidToolsCommonJarPath,
+        this.deviceSerial,
+        this.instrumentationApkPath,
+        this.apkUnderTestPath,
+        this.testFilter,
+        this.testRunnerClasspath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractAndroidInstrumentationTestJVMArgs#getTestPackage() testPackage} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for testPackage
+   * @return A modified copy of the {@code this} object
+   */
+  public final AndroidInstrumentationTestJVMArgs withTestPackage(String value) {
+    if (this.testPackage.equals(value)) return this;
+    String newValue = Preconditions.checkNotNull(value, "testPackage");
+    return new AndroidInstrumentationTestJVMArgs(
+        this.pathToAdbExecutable,
+        this.directoryForTestResults,
+        newValue,
+        this.testRunner,
+        this.ddmlibJarPath,
+        this.kxmlJarPath,
+        this.guavaJarPath,
+        this.androidToolsCommonJarPath,
+        this.deviceSerial,
+        this.instrumentationApkPath,
+        this.apkUnderTestPath,
+        this.testFilter,
+        this.testRunnerClasspath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractAndroidInstrumentationTestJVMArgs#getTestRunner() testRunner} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for testRunner
+   * @return A modified copy of the {@code this} object
+   */
+  public final AndroidInstrumentationTestJVMArgs withTestRunner(String value) {
+    if (this.testRunner.equals(value)) return this;
+    String newValue = Preconditions.checkNotNull(value, "testRunner");
+    return new AndroidInstrumentationTestJVMArgs(
+        this.pathToAdbExecutable,
+        this.directoryForTestResults,
+        this.testPackage,
+        newValue,
+        this.ddmlibJarPath,
+        this.kxmlJarPath,
+        this.guavaJarPath,
+        this.androidToolsCommonJarPath,
+        this.deviceSerial,
+        this.instrumentationApkPath,
+        this.apkUnderTestPath,
+        this.testFilter,
+        this.testRunnerClasspath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractAndroidInstrumentationTestJVMArgs#getDdmlibJarPath() ddmlibJarPath} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for ddmlibJarPath
+   * @return A modified copy of the {@code this} object
+   */
+  public final AndroidInstrumentationTestJVMArgs withDdmlibJarPath(String value) {
+    if (this.ddmlibJarPath.equals(value)) return this;
+    String newValue = Preconditions.checkNotNull(value, "ddmlibJarPath");
+    return new AndroidInstrumentationTestJVMArgs(
+        this.pathToAdbExecutable,
+        this.directoryForTestResults,
+        this.testPackage,
+        this.testRunner,
+        newValue,
+        this.kxmlJarPath,
+        this.guavaJarPath,
+        this.androidToolsCommonJarPath,
+        this.deviceSerial,
+        this.instrumentationApkPath,
+        this.apkUnderTestPath,
+        this.testFilter,
+        this.testRunnerClasspath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractAndroidInstrumentationTestJVMArgs#getKxmlJarPath() kxmlJarPath} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for kxmlJarPath
+   * @return A modified copy of the {@code this} object
+   */
+  public final AndroidInstrumentationTestJVMArgs withKxmlJarPath(String value) {
+    if (this.kxmlJarPath.equals(value)) return this;
+    String newValue = Preconditions.checkNotNull(value, "kxmlJarPath");
+    return new AndroidInstrumentationTestJVMArgs(
+        this.pathToAdbExecutable,
+        this.directoryForTestResults,
+        this.testPackage,
+        this.testRunner,
+        this.ddmlibJarPath,
+        newValue,
+        this.guavaJarPath,
+        this.androidToolsCommonJarPath,
+        this.deviceSerial,
+        this.instrumentationApkPath,
+        this.apkUnderTestPath,
+        this.testFilter,
+        this.testRunnerClasspath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractAndroidInstrumentationTestJVMArgs#getGuavaJarPath() guavaJarPath} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for guavaJarPath
+   * @return A modified copy of the {@code this} object
+   */
+  public final AndroidInstrumentationTestJVMArgs withGuavaJarPath(String value) {
+    if (this.guavaJarPath.equals(value)) return this;
+    String newValue = Preconditions.checkNotNull(value, "guavaJarPath");
+    return new AndroidInstrumentationTestJVMArgs(
+        this.pathToAdbExecutable,
+        this.directoryForTestResults,
+        this.testPackage,
+        this.testRunner,
+        this.ddmlibJarPath,
+        this.kxmlJarPath,
+        newValue,
+        this.androidToolsCommonJarPath,
+        this.deviceSerial,
+        this.instrumentationApkPath,
+        this.apkUnderTestPath,
+        this.testFilter,
+        this.testRunnerClasspath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractAndroidInstrumentationTestJVMArgs#getAndroidToolsCommonJarPath() androidToolsCommonJarPath} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for androidToolsCommonJarPath
+   * @return A modified copy of the {@code this} object
+   */
+  public final AndroidInstrumentationTestJVMArgs withAndroidToolsCommonJarPath(String value) {
+    if (this.androidToolsCommonJarPath.equals(value)) return this;
+    String newValue = Preconditions.checkNotNull(value, "androidToolsCommonJarPath");
+    return new AndroidInstrumentationTestJVMArgs(
+        this.pathToAdbExecutable,
+        this.directoryForTestResults,
+        this.testPackage,
+        this.testRunner,
+        this.ddmlibJarPath,
+        this.kxmlJarPath,
+        this.guavaJarPath,
+        newValue,
+        this.deviceSerial,
+        this.instrumentationApkPath,
+        this.apkUnderTestPath,
+        this.testFilter,
+        this.testRunnerClasspath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractAndroidInstrumentationTestJVMArgs#getDeviceSerial() deviceSerial} attribute.
+   * @param value The value for deviceSerial
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidInstrumentationTestJVMArgs withDeviceSerial(String value) {
+    @Nullable String newValue = Preconditions.checkNotNull(value, "deviceSerial");
+    if (Objects.equal(this.deviceSerial, newValue)) return this;
+    return new AndroidInstrumentationTestJVMArgs(
+        this.pathToAdbExecutable,
+        this.directoryForTestResults,
+        this.testPackage,
+        this.testRunner,
+        this.ddmlibJarPath,
+        this.kxmlJarPath,
+        this.guavaJarPath,
+        this.androidToolsCommonJarPath,
+        newValue,
+        this.instrumentationApkPath,
+        this.apkUnderTestPath,
+        this.testFilter,
+        this.testRunnerClasspath);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractAndroidInstrumentationTestJVMArgs#getDeviceSerial() deviceSerial} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for deviceSerial
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidInstrumentationTestJVMArgs withDeviceSerial(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equal(this.deviceSerial, value)) return this;
+    return new AndroidInstrumentationTestJVMArgs(
+        this.pathToAdbExecutable,
+        this.directoryForTestResults,
+        this.testPackage,
+        this.testRunner,
+        this.ddmlibJarPath,
+        this.kxmlJarPath,
+        this.guavaJarPath,
+        this.androidToolsCommonJarPath,
+        value,
+        this.instrumentationApkPath,
+        this.apkUnderTestPath,
+        this.testFilter,
+        this.testRunnerClasspath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractAndroidInstrumentationTestJVMArgs#getInstrumentationApkPath() instrumentationApkPath} attribute.
+   * @param value The value for instrumentationApkPath
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidInstrumentationTestJVMArgs withInstrumentationApkPath(Path value) {
+    @Nullable Path newValue = Preconditions.checkNotNull(value, "instrumentationApkPath");
+    if (this.instrumentationApkPath == newValue) return this;
+    return new AndroidInstrumentationTestJVMArgs(
+        this.pathToAdbExecutable,
+        this.directoryForTestResults,
+        this.testPackage,
+        this.testRunner,
+        this.ddmlibJarPath,
+        this.kxmlJarPath,
+        this.guavaJarPath,
+        this.androidToolsCommonJarPath,
+        this.deviceSerial,
+        newValue,
+        this.apkUnderTestPath,
+        this.testFilter,
+        this.testRunnerClasspath);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractAndroidInstrumentationTestJVMArgs#getInstrumentationApkPath() instrumentationApkPath} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for instrumentationApkPath
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidInstrumentationTestJVMArgs withInstrumentationApkPath(Optional<Path> optional) {
+    @Nullable Path value = optional.orElse(null);
+    if (this.instrumentationApkPath == value) return this;
+    return new AndroidInstrumentationTestJVMArgs(
+        this.pathToAdbExecutable,
+        this.directoryForTestResults,
+        this.testPackage,
+        this.testRunner,
+        this.ddmlibJarPath,
+        this.kxmlJarPath,
+        this.guavaJarPath,
+        this.androidToolsCommonJarPath,
+        this.deviceSerial,
+        value,
+        this.apkUnderTestPath,
+        this.testFilter,
+        this.testRunnerClasspath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractAndroidInstrumentationTestJVMArgs#getApkUnderTestPath() apkUnderTestPath} attribute.
+   * @param value The value for apkUnderTestPath
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidInstrumentationTestJVMArgs withApkUnderTestPath(Path value) {
+    @Nullable Path newValue = Preconditions.checkNotNull(value, "apkUnderTestPath");
+    if (this.apkUnderTestPath == newValue) return this;
+    return new AndroidInstrumentationTestJVMArgs(
+        this.pathToAdbExecutable,
+        this.directoryForTestResults,
+        this.testPackage,
+        this.testRunner,
+        this.ddmlibJarPath,
+        this.kxmlJarPath,
+        this.guavaJarPath,
+        this.androidToolsCommonJarPath,
+        this.deviceSerial,
+        this.instrumentationApkPath,
+        newValue,
+        this.testFilter,
+        this.testRunnerClasspath);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractAndroidInstrumentationTestJVMArgs#getApkUnderTestPath() apkUnderTestPath} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for apkUnderTestPath
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidInstrumentationTestJVMArgs withApkUnderTestPath(Optional<Path> optional) {
+    @Nullable Path value = optional.orElse(null);
+    if (this.apkUnderTestPath == value) return this;
+    return new AndroidInstrumentationTestJVMArgs(
+        this.pathToAdbExecutable,
+        this.directoryForTestResults,
+        this.testPackage,
+        this.testRunner,
+        this.ddmlibJarPath,
+        this.kxmlJarPath,
+        this.guavaJarPath,
+        this.androidToolsCommonJarPath,
+        this.deviceSerial,
+        this.instrumentationApkPath,
+        value,
+        this.testFilter,
+        this.testRunnerClasspath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractAndroidInstrumentationTestJVMArgs#getTestFilter() testFilter} attribute.
+   * @param value The value for testFilter
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidInstrumentationTestJVMArgs withTestFilter(String value) {
+    @Nullable String newValue = Preconditions.checkNotNull(value, "testFilter");
+    if (Objects.equal(this.testFilter, newValue)) return this;
+    return new AndroidInstrumentationTestJVMArgs(
+        this.pathToAdbExecutable,
+        this.directoryForTestResults,
+        this.testPackage,
+        this.testRunner,
+        this.ddmlibJarPath,
+        this.kxmlJarPath,
+        this.guavaJarPath,
+        this.androidToolsCommonJarPath,
+        this.deviceSerial,
+        this.instrumentationApkPath,
+        this.apkUnderTestPath,
+        newValue,
+        this.testRunnerClasspath);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractAndroidInstrumentationTestJVMArgs#getTestFilter() testFilter} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for testFilter
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidInstrumentationTestJVMArgs withTestFilter(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equal(this.testFilter, value)) return this;
+    return new AndroidInstrumentationTestJVMArgs(
+        this.pathToAdbExecutable,
+        this.directoryForTestResults,
+        this.testPackage,
+        this.testRunner,
+        this.ddmlibJarPath,
+        this.kxmlJarPath,
+        this.guavaJarPath,
+        this.androidToolsCommonJarPath,
+        this.deviceSerial,
+        this.instrumentationApkPath,
+        this.apkUnderTestPath,
+        value,
+        this.testRunnerClasspath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractAndroidInstrumentationTestJVMArgs#getTestRunnerClasspath() testRunnerClasspath} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for testRunnerClasspath
+   * @return A modified copy of the {@code this} object
+   */
+  public final AndroidInstrumentationTestJVMArgs withTestRunnerClasspath(Path value) {
+    if (this.testRunnerClasspath == value) return this;
+    Path newValue = Preconditions.checkNotNull(value, "testRunnerClasspath");
+    return new AndroidInstrumentationTestJVMArgs(
+        this.pathToAdbExecutable,
+        this.directoryForTestResults,
+        this.testPackage,
+        this.testRunner,
+        this.ddmlibJarPath,
+        this.kxmlJarPath,
+        this.guavaJarPath,
+        this.androidToolsCommonJarPath,
+        this.deviceSerial,
+        this.instrumentationApkPath,
+        this.apkUnderTestPath,
+        this.testFilter,
+        newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code AndroidInstrumentationTestJVMArgs} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof AndroidInstrumentationTestJVMArgs
+        && equalTo((AndroidInstrumentationTestJVMArgs) another);
+  }
+
+  private boolean equalTo(AndroidInstrumentationTestJVMArgs another) {
+    return pathToAdbExecutable.equals(another.pathToAdbExecutable)
+        && Objects.equal(directoryForTestResults, another.directoryForTestResults)
+        && testPackage.equals(another.testPackage)
+        && testRunner.equals(another.testRunner)
+        && ddmlibJarPath.equals(another.ddmlibJarPath)
+        && kxmlJarPath.equals(another.kxmlJarPath)
+        && guavaJarPath.equals(another.guavaJarPath)
+        && androidToolsCommonJarPath.equals(another.androidToolsCommonJarPath)
+        && Objects.equal(deviceSerial, another.deviceSerial)
+        && Objects.equal(instrumentationApkPath, another.instrumentationApkPath)
+        && Objects.equal(apkUnderTestPath, another.apkUnderTestPath)
+        && Objects.equal(testFilter, another.testFilter)
+        && testRunnerClasspath.equals(another.testRunnerClasspath);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code pathToAdbExecutable}, {@code directoryForTestResults}, {@code testPackage}, {@code testRunner}, {@code ddmlibJarPath}, {@code kxmlJarPath}, {@code guavaJarPath}, {@code androidToolsCommonJarPath}, {@code deviceSerial}, {@code instrumentationApkPath}, {@code apkUnderTestPath}, {@code testFilter}, {@code testRunnerClasspath}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + pathToAdbExecutable.hashCode();
+    h = h * 17 + Objects.hashCode(directoryForTestResults);
+    h = h * 17 + testPackage.hashCode();
+    h = h * 17 + testRunner.hashCode();
+    h = h * 17 + ddmlibJarPath.hashCode();
+    h = h * 17 + kxmlJarPath.hashCode();
+    h = h * 17 + guavaJarPath.hashCode();
+    h = h * 17 + androidToolsCommonJarPath.hashCode();
+    h = h * 17 + Objects.hashCode(deviceSerial);
+    h = h * 17 + Objects.hashCode(instrumentationApkPath);
+    h = h * 17 + Objects.hashCode(apkUnderTestPath);
+    h = h * 17 + Objects.hashCode(testFilter);
+    h = h * 17 + testRunnerClasspath.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AndroidInstrumentationTestJVMArgs} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AndroidInstrumentationTestJVMArgs")
+        .omitNullValues()
+        .add("pathToAdbExecutable", pathToAdbExecutable)
+        .add("directoryForTestResults", directoryForTestResults)
+        .add("testPackage", testPackage)
+        .add("testRunner", testRunner)
+        .add("ddmlibJarPath", ddmlibJarPath)
+        .add("kxmlJarPath", kxmlJarPath)
+        .add("guavaJarPath", guavaJarPath)
+        .add("androidToolsCommonJarPath", androidToolsCommonJarPath)
+        .add("deviceSerial", deviceSerial)
+        .add("instrumentationApkPath", instrumentationApkPath)
+        .add("apkUnderTestPath", apkUnderTestPath)
+        .add("testFilter", testFilter)
+        .add("testRunnerClasspath", testRunnerClasspath)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractAndroidInstrumentationTestJVMArgs} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable AndroidInstrumentationTestJVMArgs instance
+   */
+  static AndroidInstrumentationTestJVMArgs copyOf(AbstractAndroidInstrumentationTestJVMArgs instance) {
+    if (instance instanceof AndroidInstrumentationTestJVMArgs) {
+      return (AndroidInstrumentationTestJVMArgs) instance;
+    }
+    return AndroidInstrumentationTestJVMArgs.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link AndroidInstrumentationTestJVMArgs AndroidInstrumentationTestJVMArgs}.
+   * @return A new AndroidInstrumentationTestJVMArgs builder
+   */
+  public static AndroidInstrumentationTestJVMArgs.Builder builder() {
+    return new AndroidInstrumentationTestJVMArgs.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link AndroidInstrumentationTestJVMArgs AndroidInstrumentationTestJVMArgs}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_PATH_TO_ADB_EXECUTABLE = 0x1L;
+    private static final long INIT_BIT_TEST_PACKAGE = 0x2L;
+    private static final long INIT_BIT_TEST_RUNNER = 0x4L;
+    private static final long INIT_BIT_DDMLIB_JAR_PATH = 0x8L;
+    private static final long INIT_BIT_KXML_JAR_PATH = 0x10L;
+    private static final long INIT_BIT_GUAVA_JAR_PATH = 0x20L;
+    private static final long INIT_BIT_ANDROID_TOOLS_COMMON_JAR_PATH = 0x40L;
+    private static final long INIT_BIT_TEST_RUNNER_CLASSPATH = 0x80L;
+    private long initBits = 0xffL;
+
+    private @Nullable String pathToAdbExecutable;
+    private @Nullable Path directoryForTestResults;
+    private @Nullable String testPackage;
+    private @Nullable String testRunner;
+    private @Nullable String ddmlibJarPath;
+    private @Nullable String kxmlJarPath;
+    private @Nullable String guavaJarPath;
+    private @Nullable String androidToolsCommonJarPath;
+    private @Nullable String deviceSerial;
+    private @Nullable Path instrumentationApkPath;
+    private @Nullable Path apkUnderTestPath;
+    private @Nullable String testFilter;
+    private @Nullable Path testRunnerClasspath;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AndroidInstrumentationTestJVMArgs} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(AndroidInstrumentationTestJVMArgs instance) {
+      return from((AbstractAndroidInstrumentationTestJVMArgs) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractAndroidInstrumentationTestJVMArgs} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractAndroidInstrumentationTestJVMArgs instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      setPathToAdbExecutable(instance.getPathToAdbExecutable());
+      Optional<Path> directoryForTestResultsOptional = instance.getDirectoryForTestResults();
+      if (directoryForTestResultsOptional.isPresent()) {
+        setDirectoryForTestResults(directoryForTestResultsOptional);
+      }
+      setTestPackage(instance.getTestPackage());
+      setTestRunner(instance.getTestRunner());
+      setDdmlibJarPath(instance.getDdmlibJarPath());
+      setKxmlJarPath(instance.getKxmlJarPath());
+      setGuavaJarPath(instance.getGuavaJarPath());
+      setAndroidToolsCommonJarPath(instance.getAndroidToolsCommonJarPath());
+      Optional<String> deviceSerialOptional = instance.getDeviceSerial();
+      if (deviceSerialOptional.isPresent()) {
+        setDeviceSerial(deviceSerialOptional);
+      }
+      Optional<Path> instrumentationApkPathOptional = instance.getInstrumentationApkPath();
+      if (instrumentationApkPathOptional.isPresent()) {
+        setInstrumentationApkPath(instrumentationApkPathOptional);
+      }
+      Optional<Path> apkUnderTestPathOptional = instance.getApkUnderTestPath();
+      if (apkUnderTestPathOptional.isPresent()) {
+        setApkUnderTestPath(apkUnderTestPathOptional);
+      }
+      Optional<String> testFilterOptional = instance.getTestFilter();
+      if (testFilterOptional.isPresent()) {
+        setTestFilter(testFilterOptional);
+      }
+      setTestRunnerClasspath(instance.getTestRunnerClasspath());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractAndroidInstrumentationTestJVMArgs#getPathToAdbExecutable() pathToAdbExecutable} attribute.
+     * @param pathToAdbExecutable The value for pathToAdbExecutable 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPathToAdbExecutable(String pathToAdbExecutable) {
+      this.pathToAdbExecutable = Preconditions.checkNotNull(pathToAdbExecutable, "pathToAdbExecutable");
+      initBits &= ~INIT_BIT_PATH_TO_ADB_EXECUTABLE;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractAndroidInstrumentationTestJVMArgs#getDirectoryForTestResults() directoryForTestResults} to directoryForTestResults.
+     * @param directoryForTestResults The value for directoryForTestResults
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setDirectoryForTestResults(Path directoryForTestResults) {
+      this.directoryForTestResults = Preconditions.checkNotNull(directoryForTestResults, "directoryForTestResults");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractAndroidInstrumentationTestJVMArgs#getDirectoryForTestResults() directoryForTestResults} to directoryForTestResults.
+     * @param directoryForTestResults The value for directoryForTestResults
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDirectoryForTestResults(Optional<Path> directoryForTestResults) {
+      this.directoryForTestResults = directoryForTestResults.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractAndroidInstrumentationTestJVMArgs#getTestPackage() testPackage} attribute.
+     * @param testPackage The value for testPackage 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setTestPackage(String testPackage) {
+      this.testPackage = Preconditions.checkNotNull(testPackage, "testPackage");
+      initBits &= ~INIT_BIT_TEST_PACKAGE;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractAndroidInstrumentationTestJVMArgs#getTestRunner() testRunner} attribute.
+     * @param testRunner The value for testRunner 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setTestRunner(String testRunner) {
+      this.testRunner = Preconditions.checkNotNull(testRunner, "testRunner");
+      initBits &= ~INIT_BIT_TEST_RUNNER;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractAndroidInstrumentationTestJVMArgs#getDdmlibJarPath() ddmlibJarPath} attribute.
+     * @param ddmlibJarPath The value for ddmlibJarPath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDdmlibJarPath(String ddmlibJarPath) {
+      this.ddmlibJarPath = Preconditions.checkNotNull(ddmlibJarPath, "ddmlibJarPath");
+      initBits &= ~INIT_BIT_DDMLIB_JAR_PATH;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractAndroidInstrumentationTestJVMArgs#getKxmlJarPath() kxmlJarPath} attribute.
+     * @param kxmlJarPath The value for kxmlJarPath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setKxmlJarPath(String kxmlJarPath) {
+      this.kxmlJarPath = Preconditions.checkNotNull(kxmlJarPath, "kxmlJarPath");
+      initBits &= ~INIT_BIT_KXML_JAR_PATH;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractAndroidInstrumentationTestJVMArgs#getGuavaJarPath() guavaJarPath} attribute.
+     * @param guavaJarPath The value for guavaJarPath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setGuavaJarPath(String guavaJarPath) {
+      this.guavaJarPath = Preconditions.checkNotNull(guavaJarPath, "guavaJarPath");
+      initBits &= ~INIT_BIT_GUAVA_JAR_PATH;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractAndroidInstrumentationTestJVMArgs#getAndroidToolsCommonJarPath() androidToolsCommonJarPath} attribute.
+     * @param androidToolsCommonJarPath The value for androidToolsCommonJarPath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setAndroidToolsCommonJarPath(String androidToolsCommonJarPath) {
+      this.androidToolsCommonJarPath = Preconditions.checkNotNull(androidToolsCommonJarPath, "androidToolsCommonJarPath");
+      initBits &= ~INIT_BIT_ANDROID_TOOLS_COMMON_JAR_PATH;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractAndroidInstrumentationTestJVMArgs#getDeviceSerial() deviceSerial} to deviceSerial.
+     * @param deviceSerial The value for deviceSerial
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setDeviceSerial(String deviceSerial) {
+      this.deviceSerial = Preconditions.checkNotNull(deviceSerial, "deviceSerial");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractAndroidInstrumentationTestJVMArgs#getDeviceSerial() deviceSerial} to deviceSerial.
+     * @param deviceSerial The value for deviceSerial
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDeviceSerial(Optional<String> deviceSerial) {
+      this.deviceSerial = deviceSerial.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractAndroidInstrumentationTestJVMArgs#getInstrumentationApkPath() instrumentationApkPath} to instrumentationApkPath.
+     * @param instrumentationApkPath The value for instrumentationApkPath
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setInstrumentationApkPath(Path instrumentationApkPath) {
+      this.instrumentationApkPath = Preconditions.checkNotNull(instrumentationApkPath, "instrumentationApkPath");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractAndroidInstrumentationTestJVMArgs#getInstrumentationApkPath() instrumentationApkPath} to instrumentationApkPath.
+     * @param instrumentationApkPath The value for instrumentationApkPath
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setInstrumentationApkPath(Optional<Path> instrumentationApkPath) {
+      this.instrumentationApkPath = instrumentationApkPath.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractAndroidInstrumentationTestJVMArgs#getApkUnderTestPath() apkUnderTestPath} to apkUnderTestPath.
+     * @param apkUnderTestPath The value for apkUnderTestPath
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setApkUnderTestPath(Path apkUnderTestPath) {
+      this.apkUnderTestPath = Preconditions.checkNotNull(apkUnderTestPath, "apkUnderTestPath");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractAndroidInstrumentationTestJVMArgs#getApkUnderTestPath() apkUnderTestPath} to apkUnderTestPath.
+     * @param apkUnderTestPath The value for apkUnderTestPath
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setApkUnderTestPath(Optional<Path> apkUnderTestPath) {
+      this.apkUnderTestPath = apkUnderTestPath.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractAndroidInstrumentationTestJVMArgs#getTestFilter() testFilter} to testFilter.
+     * @param testFilter The value for testFilter
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setTestFilter(String testFilter) {
+      this.testFilter = Preconditions.checkNotNull(testFilter, "testFilter");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractAndroidInstrumentationTestJVMArgs#getTestFilter() testFilter} to testFilter.
+     * @param testFilter The value for testFilter
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setTestFilter(Optional<String> testFilter) {
+      this.testFilter = testFilter.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractAndroidInstrumentationTestJVMArgs#getTestRunnerClasspath() testRunnerClasspath} attribute.
+     * @param testRunnerClasspath The value for testRunnerClasspath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setTestRunnerClasspath(Path testRunnerClasspath) {
+      this.testRunnerClasspath = Preconditions.checkNotNull(testRunnerClasspath, "testRunnerClasspath");
+      initBits &= ~INIT_BIT_TEST_RUNNER_CLASSPATH;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link AndroidInstrumentationTestJVMArgs AndroidInstrumentationTestJVMArgs}.
+     * @return An immutable instance of AndroidInstrumentationTestJVMArgs
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public AndroidInstrumentationTestJVMArgs build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new AndroidInstrumentationTestJVMArgs(
+          pathToAdbExecutable,
+          directoryForTestResults,
+          testPackage,
+          testRunner,
+          ddmlibJarPath,
+          kxmlJarPath,
+          guavaJarPath,
+          androidToolsCommonJarPath,
+          deviceSerial,
+          instrumentationApkPath,
+          apkUnderTestPath,
+          testFilter,
+          testRunnerClasspath);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_PATH_TO_ADB_EXECUTABLE) != 0) attributes.add("pathToAdbExecutable");
+      if ((initBits & INIT_BIT_TEST_PACKAGE) != 0) attributes.add("testPackage");
+      if ((initBits & INIT_BIT_TEST_RUNNER) != 0) attributes.add("testRunner");
+      if ((initBits & INIT_BIT_DDMLIB_JAR_PATH) != 0) attributes.add("ddmlibJarPath");
+      if ((initBits & INIT_BIT_KXML_JAR_PATH) != 0) attributes.add("kxmlJarPath");
+      if ((initBits & INIT_BIT_GUAVA_JAR_PATH) != 0) attributes.add("guavaJarPath");
+      if ((initBits & INIT_BIT_ANDROID_TOOLS_COMMON_JAR_PATH) != 0) attributes.add("androidToolsCommonJarPath");
+      if ((initBits & INIT_BIT_TEST_RUNNER_CLASSPATH) != 0) attributes.add("testRunnerClasspath");
+      return "Cannot build AndroidInstrumentationTestJVMArgs, some of required attributes are not set " + attributes;
+    }
+  }
+}
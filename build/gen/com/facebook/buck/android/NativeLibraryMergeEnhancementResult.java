@@ -0,0 +1,373 @@
+package com.facebook.buck.android;
+
+import com.facebook.buck.cxx.NativeLinkable;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMultimap;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Multimap;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link NativeLibraryMergeEnhancer.AbstractNativeLibraryMergeEnhancementResult}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code NativeLibraryMergeEnhancementResult.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "NativeLibraryMergeEnhancer.AbstractNativeLibraryMergeEnhancementResult"})
+@Immutable
+public final class NativeLibraryMergeEnhancementResult
+    extends NativeLibraryMergeEnhancer.AbstractNativeLibraryMergeEnhancementResult {
+  private final ImmutableMultimap<APKModule, NativeLinkable> mergedLinkables;
+  private final ImmutableMultimap<APKModule, NativeLinkable> mergedLinkablesAssets;
+  private final ImmutableSortedMap<String, String> sonameMapping;
+
+  private NativeLibraryMergeEnhancementResult(
+      ImmutableMultimap<APKModule, NativeLinkable> mergedLinkables,
+      ImmutableMultimap<APKModule, NativeLinkable> mergedLinkablesAssets,
+      ImmutableSortedMap<String, String> sonameMapping) {
+    this.mergedLinkables = mergedLinkables;
+    this.mergedLinkablesAssets = mergedLinkablesAssets;
+    this.sonameMapping = sonameMapping;
+  }
+
+  /**
+   * @return The value of the {@code mergedLinkables} attribute
+   */
+  @Override
+  public ImmutableMultimap<APKModule, NativeLinkable> getMergedLinkables() {
+    return mergedLinkables;
+  }
+
+  /**
+   * @return The value of the {@code mergedLinkablesAssets} attribute
+   */
+  @Override
+  public ImmutableMultimap<APKModule, NativeLinkable> getMergedLinkablesAssets() {
+    return mergedLinkablesAssets;
+  }
+
+  /**
+   * @return The value of the {@code sonameMapping} attribute
+   */
+  @Override
+  public ImmutableSortedMap<String, String> getSonameMapping() {
+    return sonameMapping;
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link NativeLibraryMergeEnhancer.AbstractNativeLibraryMergeEnhancementResult#getMergedLinkables() mergedLinkables} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the mergedLinkables map
+   * @return A modified copy of {@code this} object
+   */
+  public final NativeLibraryMergeEnhancementResult withMergedLinkables(Multimap<? extends APKModule, ? extends NativeLinkable> entries) {
+    if (this.mergedLinkables == entries) return this;
+    ImmutableMultimap<APKModule, NativeLinkable> newValue = ImmutableMultimap.copyOf(entries);
+    return new NativeLibraryMergeEnhancementResult(newValue, this.mergedLinkablesAssets, this.sonameMapping);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link NativeLibraryMergeEnhancer.AbstractNativeLibraryMergeEnhancementResult#getMergedLinkablesAssets() mergedLinkablesAssets} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the mergedLinkablesAssets map
+   * @return A modified copy of {@code this} object
+   */
+  public final NativeLibraryMergeEnhancementResult withMergedLinkablesAssets(Multimap<? extends APKModule, ? extends NativeLinkable> entries) {
+    if (this.mergedLinkablesAssets == entries) return this;
+    ImmutableMultimap<APKModule, NativeLinkable> newValue = ImmutableMultimap.copyOf(entries);
+    return new NativeLibraryMergeEnhancementResult(this.mergedLinkables, newValue, this.sonameMapping);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link NativeLibraryMergeEnhancer.AbstractNativeLibraryMergeEnhancementResult#getSonameMapping() sonameMapping} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for sonameMapping
+   * @return A modified copy of the {@code this} object
+   */
+  public final NativeLibraryMergeEnhancementResult withSonameMapping(ImmutableSortedMap<String, String> value) {
+    if (this.sonameMapping == value) return this;
+    ImmutableSortedMap<String, String> newValue = Preconditions.checkNotNull(value, "sonameMapping");
+    return new NativeLibraryMergeEnhancementResult(this.mergedLinkables, this.mergedLinkablesAssets, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code NativeLibraryMergeEnhancementResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof NativeLibraryMergeEnhancementResult
+        && equalTo((NativeLibraryMergeEnhancementResult) another);
+  }
+
+  private boolean equalTo(NativeLibraryMergeEnhancementResult another) {
+    return mergedLinkables.equals(another.mergedLinkables)
+        && mergedLinkablesAssets.equals(another.mergedLinkablesAssets)
+        && sonameMapping.equals(another.sonameMapping);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code mergedLinkables}, {@code mergedLinkablesAssets}, {@code sonameMapping}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + mergedLinkables.hashCode();
+    h = h * 17 + mergedLinkablesAssets.hashCode();
+    h = h * 17 + sonameMapping.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code NativeLibraryMergeEnhancementResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("NativeLibraryMergeEnhancementResult")
+        .omitNullValues()
+        .add("mergedLinkables", mergedLinkables)
+        .add("mergedLinkablesAssets", mergedLinkablesAssets)
+        .add("sonameMapping", sonameMapping)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link NativeLibraryMergeEnhancer.AbstractNativeLibraryMergeEnhancementResult} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable NativeLibraryMergeEnhancementResult instance
+   */
+  static NativeLibraryMergeEnhancementResult copyOf(NativeLibraryMergeEnhancer.AbstractNativeLibraryMergeEnhancementResult instance) {
+    if (instance instanceof NativeLibraryMergeEnhancementResult) {
+      return (NativeLibraryMergeEnhancementResult) instance;
+    }
+    return NativeLibraryMergeEnhancementResult.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link NativeLibraryMergeEnhancementResult NativeLibraryMergeEnhancementResult}.
+   * @return A new NativeLibraryMergeEnhancementResult builder
+   */
+  public static NativeLibraryMergeEnhancementResult.Builder builder() {
+    return new NativeLibraryMergeEnhancementResult.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link NativeLibraryMergeEnhancementResult NativeLibraryMergeEnhancementResult}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_SONAME_MAPPING = 0x1L;
+    private long initBits = 0x1L;
+
+    private ImmutableMultimap.Builder<APKModule, NativeLinkable> mergedLinkables = ImmutableMultimap.builder();
+    private ImmutableMultimap.Builder<APKModule, NativeLinkable> mergedLinkablesAssets = ImmutableMultimap.builder();
+    private @Nullable ImmutableSortedMap<String, String> sonameMapping;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code NativeLibraryMergeEnhancementResult} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(NativeLibraryMergeEnhancementResult instance) {
+      return from((NativeLibraryMergeEnhancer.AbstractNativeLibraryMergeEnhancementResult) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractNativeLibraryMergeEnhancementResult} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(NativeLibraryMergeEnhancer.AbstractNativeLibraryMergeEnhancementResult instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      putAllMergedLinkables(instance.getMergedLinkables());
+      putAllMergedLinkablesAssets(instance.getMergedLinkablesAssets());
+      setSonameMapping(instance.getSonameMapping());
+      return this;
+    }
+
+    /**
+     * Put all mappings from the specified key to values for {@link NativeLibraryMergeEnhancer.AbstractNativeLibraryMergeEnhancementResult#getMergedLinkables() mergedLinkables} true. Nulls are not permitted
+     * @param key The key for mergedLinkables
+     * @param values The values for mergedLinkables
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putMergedLinkables(APKModule key, NativeLinkable... values) {
+      this.mergedLinkables.putAll(key, Arrays.asList(values));
+      return this;
+    }
+
+    /**
+     * Put all mappings from the specified key to values for {@link NativeLibraryMergeEnhancer.AbstractNativeLibraryMergeEnhancementResult#getMergedLinkables() mergedLinkables} true. Nulls are not permitted
+     * @param key The key for mergedLinkables
+     * @param values The values for mergedLinkables
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllMergedLinkables(APKModule key, Iterable<NativeLinkable> values) {
+      this.mergedLinkables.putAll(key, values);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link NativeLibraryMergeEnhancer.AbstractNativeLibraryMergeEnhancementResult#getMergedLinkables() mergedLinkables} map.
+     * @param key The key in the mergedLinkables map
+     * @param value The associated value in the mergedLinkables map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putMergedLinkables(APKModule key, NativeLinkable value) {
+      this.mergedLinkables.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link NativeLibraryMergeEnhancer.AbstractNativeLibraryMergeEnhancementResult#getMergedLinkables() mergedLinkables} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putMergedLinkables(Map.Entry<? extends APKModule, ? extends NativeLinkable> entry) {
+      this.mergedLinkables.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link NativeLibraryMergeEnhancer.AbstractNativeLibraryMergeEnhancementResult#getMergedLinkables() mergedLinkables} map. Nulls are not permitted
+     * @param mergedLinkables The entries that will be added to the mergedLinkables map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setMergedLinkables(Multimap<? extends APKModule, ? extends NativeLinkable> mergedLinkables) {
+      this.mergedLinkables = ImmutableMultimap.builder();
+      return putAllMergedLinkables(mergedLinkables);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link NativeLibraryMergeEnhancer.AbstractNativeLibraryMergeEnhancementResult#getMergedLinkables() mergedLinkables} map. Nulls are not permitted
+     * @param mergedLinkables The entries that will be added to the mergedLinkables map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllMergedLinkables(Multimap<? extends APKModule, ? extends NativeLinkable> mergedLinkables) {
+      this.mergedLinkables.putAll(mergedLinkables);
+      return this;
+    }
+
+    /**
+     * Put all mappings from the specified key to values for {@link NativeLibraryMergeEnhancer.AbstractNativeLibraryMergeEnhancementResult#getMergedLinkablesAssets() mergedLinkablesAssets} true. Nulls are not permitted
+     * @param key The key for mergedLinkablesAssets
+     * @param values The values for mergedLinkablesAssets
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putMergedLinkablesAssets(APKModule key, NativeLinkable... values) {
+      this.mergedLinkablesAssets.putAll(key, Arrays.asList(values));
+      return this;
+    }
+
+    /**
+     * Put all mappings from the specified key to values for {@link NativeLibraryMergeEnhancer.AbstractNativeLibraryMergeEnhancementResult#getMergedLinkablesAssets() mergedLinkablesAssets} true. Nulls are not permitted
+     * @param key The key for mergedLinkablesAssets
+     * @param values The values for mergedLinkablesAssets
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllMergedLinkablesAssets(APKModule key, Iterable<NativeLinkable> values) {
+      this.mergedLinkablesAssets.putAll(key, values);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link NativeLibraryMergeEnhancer.AbstractNativeLibraryMergeEnhancementResult#getMergedLinkablesAssets() mergedLinkablesAssets} map.
+     * @param key The key in the mergedLinkablesAssets map
+     * @param value The associated value in the mergedLinkablesAssets map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putMergedLinkablesAssets(APKModule key, NativeLinkable value) {
+      this.mergedLinkablesAssets.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link NativeLibraryMergeEnhancer.AbstractNativeLibraryMergeEnhancementResult#getMergedLinkablesAssets() mergedLinkablesAssets} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putMergedLinkablesAssets(Map.Entry<? extends APKModule, ? extends NativeLinkable> entry) {
+      this.mergedLinkablesAssets.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link NativeLibraryMergeEnhancer.AbstractNativeLibraryMergeEnhancementResult#getMergedLinkablesAssets() mergedLinkablesAssets} map. Nulls are not permitted
+     * @param mergedLinkablesAssets The entries that will be added to the mergedLinkablesAssets map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setMergedLinkablesAssets(Multimap<? extends APKModule, ? extends NativeLinkable> mergedLinkablesAssets) {
+      this.mergedLinkablesAssets = ImmutableMultimap.builder();
+      return putAllMergedLinkablesAssets(mergedLinkablesAssets);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link NativeLibraryMergeEnhancer.AbstractNativeLibraryMergeEnhancementResult#getMergedLinkablesAssets() mergedLinkablesAssets} map. Nulls are not permitted
+     * @param mergedLinkablesAssets The entries that will be added to the mergedLinkablesAssets map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllMergedLinkablesAssets(Multimap<? extends APKModule, ? extends NativeLinkable> mergedLinkablesAssets) {
+      this.mergedLinkablesAssets.putAll(mergedLinkablesAssets);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link NativeLibraryMergeEnhancer.AbstractNativeLibraryMergeEnhancementResult#getSonameMapping() sonameMapping} attribute.
+     * @param sonameMapping The value for sonameMapping 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSonameMapping(ImmutableSortedMap<String, String> sonameMapping) {
+      this.sonameMapping = Preconditions.checkNotNull(sonameMapping, "sonameMapping");
+      initBits &= ~INIT_BIT_SONAME_MAPPING;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link NativeLibraryMergeEnhancementResult NativeLibraryMergeEnhancementResult}.
+     * @return An immutable instance of NativeLibraryMergeEnhancementResult
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public NativeLibraryMergeEnhancementResult build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new NativeLibraryMergeEnhancementResult(mergedLinkables.build(), mergedLinkablesAssets.build(), sonameMapping);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_SONAME_MAPPING) != 0) attributes.add("sonameMapping");
+      return "Cannot build NativeLibraryMergeEnhancementResult, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,372 @@
+package com.facebook.buck.apple;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Objects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Paths to Apple SDK directories under an installation of Xcode.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractAppleSdkPaths"})
+@Immutable
+public final class AppleSdkPaths extends AbstractAppleSdkPaths {
+  private final @Nullable Path developerPath;
+  private final ImmutableSet<Path> toolchainPaths;
+  private final Path platformPath;
+  private final Path sdkPath;
+
+  private AppleSdkPaths(
+      @Nullable Path developerPath,
+      ImmutableSet<Path> toolchainPaths,
+      Path platformPath,
+      Path sdkPath) {
+    this.developerPath = developerPath;
+    this.toolchainPaths = toolchainPaths;
+    this.platformPath = platformPath;
+    this.sdkPath = sdkPath;
+  }
+
+  /**
+   * Absolute path to the active DEVELOPER_DIR.
+   * Example:
+   * {@code /Applications/Xcode.app/Contents/Developer}
+   */
+  @Override
+  public Optional<Path> getDeveloperPath() {
+    return Optional.ofNullable(developerPath);
+  }
+
+  /**
+   * Absolute paths to tools and files independent of the platform.
+   * Example:
+   * {@code [/Applications/Xcode.app/Contents/Developer/Toolchains/XcodeDefault.xctoolchain]}
+   */
+  @Override
+  public ImmutableSet<Path> getToolchainPaths() {
+    return toolchainPaths;
+  }
+
+  /**
+   * Absolute path to tools and files which depend on a particular platform.
+   * Example:
+   * {@code /Applications/Xcode.app/Contents/Developer/Platforms/iPhoneSimulator.platform}
+   */
+  @Override
+  public Path getPlatformPath() {
+    return platformPath;
+  }
+
+  /**
+   * Absolute path to tools and files which depend on a particular SDK on a particular platform.
+   * Example:
+   * {@code /Applications/Xcode.app/Contents/Developer/Platforms/iPhoneSimulator.platform/Developer/SDKs/iPhoneSimulator8.0.sdk}
+   */
+  @Override
+  public Path getSdkPath() {
+    return sdkPath;
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractAppleSdkPaths#getDeveloperPath() developerPath} attribute.
+   * @param value The value for developerPath
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleSdkPaths withDeveloperPath(Path value) {
+    @Nullable Path newValue = Preconditions.checkNotNull(value, "developerPath");
+    if (this.developerPath == newValue) return this;
+    return new AppleSdkPaths(newValue, this.toolchainPaths, this.platformPath, this.sdkPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractAppleSdkPaths#getDeveloperPath() developerPath} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for developerPath
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleSdkPaths withDeveloperPath(Optional<Path> optional) {
+    @Nullable Path value = optional.orElse(null);
+    if (this.developerPath == value) return this;
+    return new AppleSdkPaths(value, this.toolchainPaths, this.platformPath, this.sdkPath);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractAppleSdkPaths#getToolchainPaths() toolchainPaths}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleSdkPaths withToolchainPaths(Path... elements) {
+    ImmutableSet<Path> newValue = ImmutableSet.copyOf(elements);
+    return new AppleSdkPaths(this.developerPath, newValue, this.platformPath, this.sdkPath);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractAppleSdkPaths#getToolchainPaths() toolchainPaths}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of toolchainPaths elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleSdkPaths withToolchainPaths(Iterable<? extends Path> elements) {
+    if (this.toolchainPaths == elements) return this;
+    ImmutableSet<Path> newValue = ImmutableSet.copyOf(elements);
+    return new AppleSdkPaths(this.developerPath, newValue, this.platformPath, this.sdkPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractAppleSdkPaths#getPlatformPath() platformPath} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for platformPath
+   * @return A modified copy of the {@code this} object
+   */
+  public final AppleSdkPaths withPlatformPath(Path value) {
+    if (this.platformPath == value) return this;
+    Path newValue = Preconditions.checkNotNull(value, "platformPath");
+    return new AppleSdkPaths(this.developerPath, this.toolchainPaths, newValue, this.sdkPath);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractAppleSdkPaths#getSdkPath() sdkPath} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for sdkPath
+   * @return A modified copy of the {@code this} object
+   */
+  public final AppleSdkPaths withSdkPath(Path value) {
+    if (this.sdkPath == value) return this;
+    Path newValue = Preconditions.checkNotNull(value, "sdkPath");
+    return new AppleSdkPaths(this.developerPath, this.toolchainPaths, this.platformPath, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code AppleSdkPaths} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof AppleSdkPaths
+        && equalTo((AppleSdkPaths) another);
+  }
+
+  private boolean equalTo(AppleSdkPaths another) {
+    return Objects.equal(developerPath, another.developerPath)
+        && toolchainPaths.equals(another.toolchainPaths)
+        && platformPath.equals(another.platformPath)
+        && sdkPath.equals(another.sdkPath);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code developerPath}, {@code toolchainPaths}, {@code platformPath}, {@code sdkPath}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + Objects.hashCode(developerPath);
+    h = h * 17 + toolchainPaths.hashCode();
+    h = h * 17 + platformPath.hashCode();
+    h = h * 17 + sdkPath.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AppleSdkPaths} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AppleSdkPaths")
+        .omitNullValues()
+        .add("developerPath", developerPath)
+        .add("toolchainPaths", toolchainPaths)
+        .add("platformPath", platformPath)
+        .add("sdkPath", sdkPath)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractAppleSdkPaths} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable AppleSdkPaths instance
+   */
+  static AppleSdkPaths copyOf(AbstractAppleSdkPaths instance) {
+    if (instance instanceof AppleSdkPaths) {
+      return (AppleSdkPaths) instance;
+    }
+    return AppleSdkPaths.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link AppleSdkPaths AppleSdkPaths}.
+   * @return A new AppleSdkPaths builder
+   */
+  public static AppleSdkPaths.Builder builder() {
+    return new AppleSdkPaths.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link AppleSdkPaths AppleSdkPaths}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_PLATFORM_PATH = 0x1L;
+    private static final long INIT_BIT_SDK_PATH = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable Path developerPath;
+    private ImmutableSet.Builder<Path> toolchainPaths = ImmutableSet.builder();
+    private @Nullable Path platformPath;
+    private @Nullable Path sdkPath;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AppleSdkPaths} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(AppleSdkPaths instance) {
+      return from((AbstractAppleSdkPaths) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractAppleSdkPaths} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractAppleSdkPaths instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      Optional<Path> developerPathOptional = instance.getDeveloperPath();
+      if (developerPathOptional.isPresent()) {
+        setDeveloperPath(developerPathOptional);
+      }
+      addAllToolchainPaths(instance.getToolchainPaths());
+      setPlatformPath(instance.getPlatformPath());
+      setSdkPath(instance.getSdkPath());
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractAppleSdkPaths#getDeveloperPath() developerPath} to developerPath.
+     * @param developerPath The value for developerPath
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setDeveloperPath(Path developerPath) {
+      this.developerPath = Preconditions.checkNotNull(developerPath, "developerPath");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractAppleSdkPaths#getDeveloperPath() developerPath} to developerPath.
+     * @param developerPath The value for developerPath
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDeveloperPath(Optional<Path> developerPath) {
+      this.developerPath = developerPath.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractAppleSdkPaths#getToolchainPaths() toolchainPaths} set.
+     * @param element A toolchainPaths element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addToolchainPaths(Path element) {
+      this.toolchainPaths.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractAppleSdkPaths#getToolchainPaths() toolchainPaths} set.
+     * @param elements An array of toolchainPaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addToolchainPaths(Path... elements) {
+      this.toolchainPaths.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractAppleSdkPaths#getToolchainPaths() toolchainPaths} set.
+     * @param elements An iterable of toolchainPaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setToolchainPaths(Iterable<? extends Path> elements) {
+      this.toolchainPaths = ImmutableSet.builder();
+      return addAllToolchainPaths(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractAppleSdkPaths#getToolchainPaths() toolchainPaths} set.
+     * @param elements An iterable of toolchainPaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllToolchainPaths(Iterable<? extends Path> elements) {
+      this.toolchainPaths.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractAppleSdkPaths#getPlatformPath() platformPath} attribute.
+     * @param platformPath The value for platformPath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPlatformPath(Path platformPath) {
+      this.platformPath = Preconditions.checkNotNull(platformPath, "platformPath");
+      initBits &= ~INIT_BIT_PLATFORM_PATH;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractAppleSdkPaths#getSdkPath() sdkPath} attribute.
+     * @param sdkPath The value for sdkPath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSdkPath(Path sdkPath) {
+      this.sdkPath = Preconditions.checkNotNull(sdkPath, "sdkPath");
+      initBits &= ~INIT_BIT_SDK_PATH;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link AppleSdkPaths AppleSdkPaths}.
+     * @return An immutable instance of AppleSdkPaths
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public AppleSdkPaths build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new AppleSdkPaths(developerPath, toolchainPaths.build(), platformPath, sdkPath);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_PLATFORM_PATH) != 0) attributes.add("platformPath");
+      if ((initBits & INIT_BIT_SDK_PATH) != 0) attributes.add("sdkPath");
+      return "Cannot build AppleSdkPaths, some of required attributes are not set " + attributes;
+    }
+  }
+}
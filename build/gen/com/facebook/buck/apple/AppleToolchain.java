@@ -0,0 +1,284 @@
+package com.facebook.buck.apple;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Objects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Metadata about an Apple toolchain.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractAppleToolchain"})
+@Immutable
+public final class AppleToolchain implements AbstractAppleToolchain {
+  private final String identifier;
+  private final @Nullable String version;
+  private final Path path;
+
+  private AppleToolchain(
+      String identifier,
+      @Nullable String version,
+      Path path) {
+    this.identifier = identifier;
+    this.version = version;
+    this.path = path;
+  }
+
+  /**
+   * The identifier of the toolchain. For example: {@code com.apple.dt.XcodeDefault}.
+   */
+  @Override
+  public String getIdentifier() {
+    return identifier;
+  }
+
+  /**
+   * The version number of the toolchain. For example: {@code 0630}.
+   */
+  @Override
+  public Optional<String> getVersion() {
+    return Optional.ofNullable(version);
+  }
+
+  /**
+   * The path to the toolchain. For example, {@code .../XcodeDefault.xctoolchain}.
+   */
+  @Override
+  public Path getPath() {
+    return path;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractAppleToolchain#getIdentifier() identifier} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for identifier
+   * @return A modified copy of the {@code this} object
+   */
+  public final AppleToolchain withIdentifier(String value) {
+    if (this.identifier.equals(value)) return this;
+    String newValue = Preconditions.checkNotNull(value, "identifier");
+    return new AppleToolchain(newValue, this.version, this.path);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractAppleToolchain#getVersion() version} attribute.
+   * @param value The value for version
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleToolchain withVersion(String value) {
+    @Nullable String newValue = Preconditions.checkNotNull(value, "version");
+    if (Objects.equal(this.version, newValue)) return this;
+    return new AppleToolchain(this.identifier, newValue, this.path);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractAppleToolchain#getVersion() version} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for version
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleToolchain withVersion(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equal(this.version, value)) return this;
+    return new AppleToolchain(this.identifier, value, this.path);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractAppleToolchain#getPath() path} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for path
+   * @return A modified copy of the {@code this} object
+   */
+  public final AppleToolchain withPath(Path value) {
+    if (this.path == value) return this;
+    Path newValue = Preconditions.checkNotNull(value, "path");
+    return new AppleToolchain(this.identifier, this.version, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code AppleToolchain} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof AppleToolchain
+        && equalTo((AppleToolchain) another);
+  }
+
+  private boolean equalTo(AppleToolchain another) {
+    return identifier.equals(another.identifier)
+        && Objects.equal(version, another.version)
+        && path.equals(another.path);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code identifier}, {@code version}, {@code path}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + identifier.hashCode();
+    h = h * 17 + Objects.hashCode(version);
+    h = h * 17 + path.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AppleToolchain} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AppleToolchain")
+        .omitNullValues()
+        .add("identifier", identifier)
+        .add("version", version)
+        .add("path", path)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractAppleToolchain} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable AppleToolchain instance
+   */
+  static AppleToolchain copyOf(AbstractAppleToolchain instance) {
+    if (instance instanceof AppleToolchain) {
+      return (AppleToolchain) instance;
+    }
+    return AppleToolchain.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link AppleToolchain AppleToolchain}.
+   * @return A new AppleToolchain builder
+   */
+  public static AppleToolchain.Builder builder() {
+    return new AppleToolchain.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link AppleToolchain AppleToolchain}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_IDENTIFIER = 0x1L;
+    private static final long INIT_BIT_PATH = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable String identifier;
+    private @Nullable String version;
+    private @Nullable Path path;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AppleToolchain} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(AppleToolchain instance) {
+      return from((AbstractAppleToolchain) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractAppleToolchain} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractAppleToolchain instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      setIdentifier(instance.getIdentifier());
+      Optional<String> versionOptional = instance.getVersion();
+      if (versionOptional.isPresent()) {
+        setVersion(versionOptional);
+      }
+      setPath(instance.getPath());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractAppleToolchain#getIdentifier() identifier} attribute.
+     * @param identifier The value for identifier 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setIdentifier(String identifier) {
+      this.identifier = Preconditions.checkNotNull(identifier, "identifier");
+      initBits &= ~INIT_BIT_IDENTIFIER;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractAppleToolchain#getVersion() version} to version.
+     * @param version The value for version
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setVersion(String version) {
+      this.version = Preconditions.checkNotNull(version, "version");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractAppleToolchain#getVersion() version} to version.
+     * @param version The value for version
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setVersion(Optional<String> version) {
+      this.version = version.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractAppleToolchain#getPath() path} attribute.
+     * @param path The value for path 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPath(Path path) {
+      this.path = Preconditions.checkNotNull(path, "path");
+      initBits &= ~INIT_BIT_PATH;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link AppleToolchain AppleToolchain}.
+     * @return An immutable instance of AppleToolchain
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public AppleToolchain build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new AppleToolchain(identifier, version, path);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_IDENTIFIER) != 0) attributes.add("identifier");
+      if ((initBits & INIT_BIT_PATH) != 0) attributes.add("path");
+      return "Cannot build AppleToolchain, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,235 @@
+package com.facebook.buck.apple.project_generator;
+
+import com.facebook.buck.apple.xcode.xcodeproj.PBXTarget;
+import com.facebook.buck.model.BuildTarget;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.primitives.Booleans;
+import java.nio.file.Path;
+import java.util.Map;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractGenerationResult}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code GenerationResult.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractGenerationResult"})
+@Immutable
+public final class GenerationResult extends AbstractGenerationResult {
+  private final Path projectPath;
+  private final boolean projectGenerated;
+  private final ImmutableSet<BuildTarget> requiredBuildTargets;
+  private final ImmutableMap<BuildTarget, PBXTarget> buildTargetToGeneratedTargetMap;
+
+  private GenerationResult(
+      Path projectPath,
+      boolean projectGenerated,
+      Iterable<? extends BuildTarget> requiredBuildTargets,
+      Map<? extends BuildTarget, ? extends PBXTarget> buildTargetToGeneratedTargetMap) {
+    this.projectPath = Preconditions.checkNotNull(projectPath, "projectPath");
+    this.projectGenerated = projectGenerated;
+    this.requiredBuildTargets = ImmutableSet.copyOf(requiredBuildTargets);
+    this.buildTargetToGeneratedTargetMap = ImmutableMap.copyOf(buildTargetToGeneratedTargetMap);
+  }
+
+  private GenerationResult(
+      GenerationResult original,
+      Path projectPath,
+      boolean projectGenerated,
+      ImmutableSet<BuildTarget> requiredBuildTargets,
+      ImmutableMap<BuildTarget, PBXTarget> buildTargetToGeneratedTargetMap) {
+    this.projectPath = projectPath;
+    this.projectGenerated = projectGenerated;
+    this.requiredBuildTargets = requiredBuildTargets;
+    this.buildTargetToGeneratedTargetMap = buildTargetToGeneratedTargetMap;
+  }
+
+  /**
+   * @return The value of the {@code projectPath} attribute
+   */
+  @Override
+  public Path getProjectPath() {
+    return projectPath;
+  }
+
+  /**
+   * @return The value of the {@code projectGenerated} attribute
+   */
+  @Override
+  public boolean isProjectGenerated() {
+    return projectGenerated;
+  }
+
+  /**
+   * @return The value of the {@code requiredBuildTargets} attribute
+   */
+  @Override
+  public ImmutableSet<BuildTarget> getRequiredBuildTargets() {
+    return requiredBuildTargets;
+  }
+
+  /**
+   * @return The value of the {@code buildTargetToGeneratedTargetMap} attribute
+   */
+  @Override
+  public ImmutableMap<BuildTarget, PBXTarget> getBuildTargetToGeneratedTargetMap() {
+    return buildTargetToGeneratedTargetMap;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractGenerationResult#getProjectPath() projectPath} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for projectPath
+   * @return A modified copy of the {@code this} object
+   */
+  public final GenerationResult withProjectPath(Path value) {
+    if (this.projectPath == value) return this;
+    Path newValue = Preconditions.checkNotNull(value, "projectPath");
+    return new GenerationResult(
+        this,
+        newValue,
+        this.projectGenerated,
+        this.requiredBuildTargets,
+        this.buildTargetToGeneratedTargetMap);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractGenerationResult#isProjectGenerated() projectGenerated} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for projectGenerated
+   * @return A modified copy of the {@code this} object
+   */
+  public final GenerationResult withProjectGenerated(boolean value) {
+    if (this.projectGenerated == value) return this;
+    return new GenerationResult(this, this.projectPath, value, this.requiredBuildTargets, this.buildTargetToGeneratedTargetMap);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractGenerationResult#getRequiredBuildTargets() requiredBuildTargets}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GenerationResult withRequiredBuildTargets(BuildTarget... elements) {
+    ImmutableSet<BuildTarget> newValue = ImmutableSet.copyOf(elements);
+    return new GenerationResult(this, this.projectPath, this.projectGenerated, newValue, this.buildTargetToGeneratedTargetMap);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractGenerationResult#getRequiredBuildTargets() requiredBuildTargets}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of requiredBuildTargets elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final GenerationResult withRequiredBuildTargets(Iterable<? extends BuildTarget> elements) {
+    if (this.requiredBuildTargets == elements) return this;
+    ImmutableSet<BuildTarget> newValue = ImmutableSet.copyOf(elements);
+    return new GenerationResult(this, this.projectPath, this.projectGenerated, newValue, this.buildTargetToGeneratedTargetMap);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AbstractGenerationResult#getBuildTargetToGeneratedTargetMap() buildTargetToGeneratedTargetMap} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the buildTargetToGeneratedTargetMap map
+   * @return A modified copy of {@code this} object
+   */
+  public final GenerationResult withBuildTargetToGeneratedTargetMap(Map<? extends BuildTarget, ? extends PBXTarget> entries) {
+    if (this.buildTargetToGeneratedTargetMap == entries) return this;
+    ImmutableMap<BuildTarget, PBXTarget> newValue = ImmutableMap.copyOf(entries);
+    return new GenerationResult(this, this.projectPath, this.projectGenerated, this.requiredBuildTargets, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code GenerationResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof GenerationResult
+        && equalTo((GenerationResult) another);
+  }
+
+  private boolean equalTo(GenerationResult another) {
+    return projectPath.equals(another.projectPath)
+        && projectGenerated == another.projectGenerated
+        && requiredBuildTargets.equals(another.requiredBuildTargets)
+        && buildTargetToGeneratedTargetMap.equals(another.buildTargetToGeneratedTargetMap);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code projectPath}, {@code projectGenerated}, {@code requiredBuildTargets}, {@code buildTargetToGeneratedTargetMap}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + projectPath.hashCode();
+    h = h * 17 + Booleans.hashCode(projectGenerated);
+    h = h * 17 + requiredBuildTargets.hashCode();
+    h = h * 17 + buildTargetToGeneratedTargetMap.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code GenerationResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("GenerationResult")
+        .omitNullValues()
+        .add("projectPath", projectPath)
+        .add("projectGenerated", projectGenerated)
+        .add("requiredBuildTargets", requiredBuildTargets)
+        .add("buildTargetToGeneratedTargetMap", buildTargetToGeneratedTargetMap)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code GenerationResult} instance.
+   * @param projectPath The value for the {@code projectPath} attribute
+   * @param projectGenerated The value for the {@code projectGenerated} attribute
+   * @param requiredBuildTargets The value for the {@code requiredBuildTargets} attribute
+   * @param buildTargetToGeneratedTargetMap The value for the {@code buildTargetToGeneratedTargetMap} attribute
+   * @return An immutable GenerationResult instance
+   */
+  public static GenerationResult of(Path projectPath, boolean projectGenerated, ImmutableSet<BuildTarget> requiredBuildTargets, ImmutableMap<BuildTarget, PBXTarget> buildTargetToGeneratedTargetMap) {
+    return of(projectPath, projectGenerated, (Iterable<? extends BuildTarget>) requiredBuildTargets, buildTargetToGeneratedTargetMap);
+  }
+
+  /**
+   * Construct a new immutable {@code GenerationResult} instance.
+   * @param projectPath The value for the {@code projectPath} attribute
+   * @param projectGenerated The value for the {@code projectGenerated} attribute
+   * @param requiredBuildTargets The value for the {@code requiredBuildTargets} attribute
+   * @param buildTargetToGeneratedTargetMap The value for the {@code buildTargetToGeneratedTargetMap} attribute
+   * @return An immutable GenerationResult instance
+   */
+  public static GenerationResult of(Path projectPath, boolean projectGenerated, Iterable<? extends BuildTarget> requiredBuildTargets, Map<? extends BuildTarget, ? extends PBXTarget> buildTargetToGeneratedTargetMap) {
+    return new GenerationResult(projectPath, projectGenerated, requiredBuildTargets, buildTargetToGeneratedTargetMap);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractGenerationResult} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable GenerationResult instance
+   */
+  static GenerationResult copyOf(AbstractGenerationResult instance) {
+    if (instance instanceof GenerationResult) {
+      return (GenerationResult) instance;
+    }
+    return GenerationResult.of(instance.getProjectPath(), instance.isProjectGenerated(), instance.getRequiredBuildTargets(), instance.getBuildTargetToGeneratedTargetMap());
+  }
+}
@@ -0,0 +1,289 @@
+package com.facebook.buck.apple.simulator;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.primitives.Ints;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable value type containing metadata about an Apple simulator.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractAppleSimulatorProfile"})
+@Immutable
+public final class AppleSimulatorProfile
+    implements AbstractAppleSimulatorProfile {
+  private final ImmutableSet<Integer> supportedProductFamilyIDs;
+  private final ImmutableSet<String> supportedArchitectures;
+
+  private AppleSimulatorProfile(
+      ImmutableSet<Integer> supportedProductFamilyIDs,
+      ImmutableSet<String> supportedArchitectures) {
+    this.supportedProductFamilyIDs = supportedProductFamilyIDs;
+    this.supportedArchitectures = supportedArchitectures;
+  }
+
+  /**
+   * Set of integers describing which Apple product families this simulator
+   * supports (1: iPhone, 2: iPad, 4: Apple Watch, etc.)
+   * We don't return an enum here since new identifiers are introduced over
+   * time, and we don't want to lost the information at this level.
+   */
+  @Override
+  public ImmutableSet<Integer> getSupportedProductFamilyIDs() {
+    return supportedProductFamilyIDs;
+  }
+
+  /**
+   * Set of strings containing the architectures supported by this
+   * simulator (i.e., i386, x86_64, etc.)
+   */
+  @Override
+  public ImmutableSet<String> getSupportedArchitectures() {
+    return supportedArchitectures;
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractAppleSimulatorProfile#getSupportedProductFamilyIDs() supportedProductFamilyIDs}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleSimulatorProfile withSupportedProductFamilyIDs(int... elements) {
+    ImmutableSet<Integer> newValue = ImmutableSet.copyOf(Ints.asList(elements));
+    return new AppleSimulatorProfile(newValue, this.supportedArchitectures);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractAppleSimulatorProfile#getSupportedProductFamilyIDs() supportedProductFamilyIDs}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of supportedProductFamilyIDs elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleSimulatorProfile withSupportedProductFamilyIDs(Iterable<Integer> elements) {
+    if (this.supportedProductFamilyIDs == elements) return this;
+    ImmutableSet<Integer> newValue = ImmutableSet.copyOf(elements);
+    return new AppleSimulatorProfile(newValue, this.supportedArchitectures);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractAppleSimulatorProfile#getSupportedArchitectures() supportedArchitectures}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleSimulatorProfile withSupportedArchitectures(String... elements) {
+    ImmutableSet<String> newValue = ImmutableSet.copyOf(elements);
+    return new AppleSimulatorProfile(this.supportedProductFamilyIDs, newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractAppleSimulatorProfile#getSupportedArchitectures() supportedArchitectures}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of supportedArchitectures elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AppleSimulatorProfile withSupportedArchitectures(Iterable<String> elements) {
+    if (this.supportedArchitectures == elements) return this;
+    ImmutableSet<String> newValue = ImmutableSet.copyOf(elements);
+    return new AppleSimulatorProfile(this.supportedProductFamilyIDs, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code AppleSimulatorProfile} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof AppleSimulatorProfile
+        && equalTo((AppleSimulatorProfile) another);
+  }
+
+  private boolean equalTo(AppleSimulatorProfile another) {
+    return supportedProductFamilyIDs.equals(another.supportedProductFamilyIDs)
+        && supportedArchitectures.equals(another.supportedArchitectures);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code supportedProductFamilyIDs}, {@code supportedArchitectures}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + supportedProductFamilyIDs.hashCode();
+    h = h * 17 + supportedArchitectures.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AppleSimulatorProfile} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AppleSimulatorProfile")
+        .omitNullValues()
+        .add("supportedProductFamilyIDs", supportedProductFamilyIDs)
+        .add("supportedArchitectures", supportedArchitectures)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractAppleSimulatorProfile} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable AppleSimulatorProfile instance
+   */
+  static AppleSimulatorProfile copyOf(AbstractAppleSimulatorProfile instance) {
+    if (instance instanceof AppleSimulatorProfile) {
+      return (AppleSimulatorProfile) instance;
+    }
+    return AppleSimulatorProfile.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link AppleSimulatorProfile AppleSimulatorProfile}.
+   * @return A new AppleSimulatorProfile builder
+   */
+  public static AppleSimulatorProfile.Builder builder() {
+    return new AppleSimulatorProfile.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link AppleSimulatorProfile AppleSimulatorProfile}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private ImmutableSet.Builder<Integer> supportedProductFamilyIDs = ImmutableSet.builder();
+    private ImmutableSet.Builder<String> supportedArchitectures = ImmutableSet.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AppleSimulatorProfile} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(AppleSimulatorProfile instance) {
+      return from((AbstractAppleSimulatorProfile) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractAppleSimulatorProfile} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractAppleSimulatorProfile instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      addAllSupportedProductFamilyIDs(instance.getSupportedProductFamilyIDs());
+      addAllSupportedArchitectures(instance.getSupportedArchitectures());
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractAppleSimulatorProfile#getSupportedProductFamilyIDs() supportedProductFamilyIDs} set.
+     * @param element A supportedProductFamilyIDs element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addSupportedProductFamilyIDs(int element) {
+      this.supportedProductFamilyIDs.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractAppleSimulatorProfile#getSupportedProductFamilyIDs() supportedProductFamilyIDs} set.
+     * @param elements An array of supportedProductFamilyIDs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addSupportedProductFamilyIDs(int... elements) {
+      this.supportedProductFamilyIDs.addAll(Ints.asList(elements));
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractAppleSimulatorProfile#getSupportedProductFamilyIDs() supportedProductFamilyIDs} set.
+     * @param elements An iterable of supportedProductFamilyIDs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSupportedProductFamilyIDs(Iterable<Integer> elements) {
+      this.supportedProductFamilyIDs = ImmutableSet.builder();
+      return addAllSupportedProductFamilyIDs(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractAppleSimulatorProfile#getSupportedProductFamilyIDs() supportedProductFamilyIDs} set.
+     * @param elements An iterable of supportedProductFamilyIDs elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllSupportedProductFamilyIDs(Iterable<Integer> elements) {
+      this.supportedProductFamilyIDs.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractAppleSimulatorProfile#getSupportedArchitectures() supportedArchitectures} set.
+     * @param element A supportedArchitectures element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addSupportedArchitectures(String element) {
+      this.supportedArchitectures.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractAppleSimulatorProfile#getSupportedArchitectures() supportedArchitectures} set.
+     * @param elements An array of supportedArchitectures elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addSupportedArchitectures(String... elements) {
+      this.supportedArchitectures.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractAppleSimulatorProfile#getSupportedArchitectures() supportedArchitectures} set.
+     * @param elements An iterable of supportedArchitectures elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSupportedArchitectures(Iterable<String> elements) {
+      this.supportedArchitectures = ImmutableSet.builder();
+      return addAllSupportedArchitectures(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractAppleSimulatorProfile#getSupportedArchitectures() supportedArchitectures} set.
+     * @param elements An iterable of supportedArchitectures elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllSupportedArchitectures(Iterable<String> elements) {
+      this.supportedArchitectures.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link AppleSimulatorProfile AppleSimulatorProfile}.
+     * @return An immutable instance of AppleSimulatorProfile
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public AppleSimulatorProfile build() {
+      return new AppleSimulatorProfile(supportedProductFamilyIDs.build(), supportedArchitectures.build());
+    }
+  }
+}
@@ -0,0 +1,1035 @@
+package com.facebook.buck.artifact_cache;
+
+import com.facebook.buck.event.BuckEventBus;
+import com.facebook.buck.io.ProjectFilesystem;
+import com.facebook.buck.slb.HttpService;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Objects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import java.util.List;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractNetworkCacheArgs}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code NetworkCacheArgs.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractNetworkCacheArgs"})
+@Immutable
+public final class NetworkCacheArgs implements AbstractNetworkCacheArgs {
+  private final String cacheName;
+  private final String repository;
+  private final String scheduleType;
+  private final HttpService fetchClient;
+  private final HttpService storeClient;
+  private final CacheReadMode cacheReadMode;
+  private final ProjectFilesystem projectFilesystem;
+  private final BuckEventBus buckEventBus;
+  private final ListeningExecutorService httpWriteExecutorService;
+  private final @Nullable Integer maxConcurrentFetches;
+  private final String errorTextTemplate;
+  private final @Nullable Long maxStoreSizeBytes;
+  private final @Nullable String thriftEndpointPath;
+  private final boolean distributedBuildModeEnabled;
+
+  private NetworkCacheArgs(
+      String cacheName,
+      String repository,
+      String scheduleType,
+      HttpService fetchClient,
+      HttpService storeClient,
+      CacheReadMode cacheReadMode,
+      ProjectFilesystem projectFilesystem,
+      BuckEventBus buckEventBus,
+      ListeningExecutorService httpWriteExecutorService,
+      @Nullable Integer maxConcurrentFetches,
+      String errorTextTemplate,
+      @Nullable Long maxStoreSizeBytes,
+      @Nullable String thriftEndpointPath,
+      boolean distributedBuildModeEnabled) {
+    this.cacheName = cacheName;
+    this.repository = repository;
+    this.scheduleType = scheduleType;
+    this.fetchClient = fetchClient;
+    this.storeClient = storeClient;
+    this.cacheReadMode = cacheReadMode;
+    this.projectFilesystem = projectFilesystem;
+    this.buckEventBus = buckEventBus;
+    this.httpWriteExecutorService = httpWriteExecutorService;
+    this.maxConcurrentFetches = maxConcurrentFetches;
+    this.errorTextTemplate = errorTextTemplate;
+    this.maxStoreSizeBytes = maxStoreSizeBytes;
+    this.thriftEndpointPath = thriftEndpointPath;
+    this.distributedBuildModeEnabled = distributedBuildModeEnabled;
+  }
+
+  /**
+   * @return The value of the {@code cacheName} attribute
+   */
+  @Override
+  public String getCacheName() {
+    return cacheName;
+  }
+
+  /**
+   * @return The value of the {@code repository} attribute
+   */
+  @Override
+  public String getRepository() {
+    return repository;
+  }
+
+  /**
+   * @return The value of the {@code scheduleType} attribute
+   */
+  @Override
+  public String getScheduleType() {
+    return scheduleType;
+  }
+
+  /**
+   * @return The value of the {@code fetchClient} attribute
+   */
+  @Override
+  public HttpService getFetchClient() {
+    return fetchClient;
+  }
+
+  /**
+   * @return The value of the {@code storeClient} attribute
+   */
+  @Override
+  public HttpService getStoreClient() {
+    return storeClient;
+  }
+
+  /**
+   * @return The value of the {@code cacheReadMode} attribute
+   */
+  @Override
+  public CacheReadMode getCacheReadMode() {
+    return cacheReadMode;
+  }
+
+  /**
+   * @return The value of the {@code projectFilesystem} attribute
+   */
+  @Override
+  public ProjectFilesystem getProjectFilesystem() {
+    return projectFilesystem;
+  }
+
+  /**
+   * @return The value of the {@code buckEventBus} attribute
+   */
+  @Override
+  public BuckEventBus getBuckEventBus() {
+    return buckEventBus;
+  }
+
+  /**
+   * @return The value of the {@code httpWriteExecutorService} attribute
+   */
+  @Override
+  public ListeningExecutorService getHttpWriteExecutorService() {
+    return httpWriteExecutorService;
+  }
+
+  /**
+   *The number of keys of a {@link ArtifactCache#multiFetch} requested concurrently. 
+   */
+  @Override
+  public Optional<Integer> getMaxConcurrentFetches() {
+    return Optional.ofNullable(maxConcurrentFetches);
+  }
+
+  /**
+   * @return The value of the {@code errorTextTemplate} attribute
+   */
+  @Override
+  public String getErrorTextTemplate() {
+    return errorTextTemplate;
+  }
+
+  /**
+   * @return The value of the {@code maxStoreSizeBytes} attribute
+   */
+  @Override
+  public Optional<Long> getMaxStoreSizeBytes() {
+    return Optional.ofNullable(maxStoreSizeBytes);
+  }
+
+  /**
+   * @return The value of the {@code thriftEndpointPath} attribute
+   */
+  @Override
+  public Optional<String> getThriftEndpointPath() {
+    return Optional.ofNullable(thriftEndpointPath);
+  }
+
+  /**
+   * @return The value of the {@code distributedBuildModeEnabled} attribute
+   */
+  @Override
+  public boolean distributedBuildModeEnabled() {
+    return distributedBuildModeEnabled;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractNetworkCacheArgs#getCacheName() cacheName} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for cacheName
+   * @return A modified copy of the {@code this} object
+   */
+  public final NetworkCacheArgs withCacheName(String value) {
+    if (this.cacheName.equals(value)) return this;
+    String newValue = Preconditions.checkNotNull(value, "cacheName");
+    return new NetworkCacheArgs(
+        newValue,
+        this.repository,
+        this.scheduleType,
+        this.fetchClient,
+        this.storeClient,
+        this.cacheReadMode,
+        this.projectFilesystem,
+        this.buckEventBus,
+        this.httpWriteExecutorService,
+        this.maxConcurrentFetches,
+        this.errorTextTemplate,
+        this.maxStoreSizeBytes,
+        this.thriftEndpointPath,
+        this.distributedBuildModeEnabled);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractNetworkCacheArgs#getRepository() repository} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for repository
+   * @return A modified copy of the {@code this} object
+   */
+  public final NetworkCacheArgs withRepository(String value) {
+    if (this.repository.equals(value)) return this;
+    String newValue = Preconditions.checkNotNull(value, "repository");
+    return new NetworkCacheArgs(
+        this.cacheName,
+        newValue,
+        this.scheduleType,
+        this.fetchClient,
+        this.storeClient,
+        this.cacheReadMode,
+        this.projectFilesystem,
+        this.buckEventBus,
+        this.httpWriteExecutorService,
+        this.maxConcurrentFetches,
+        this.errorTextTemplate,
+        this.maxStoreSizeBytes,
+        this.thriftEndpointPath,
+        this.distributedBuildModeEnabled);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractNetworkCacheArgs#getScheduleType() scheduleType} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for scheduleType
+   * @return A modified copy of the {@code this} object
+   */
+  public final NetworkCacheArgs withScheduleType(String value) {
+    if (this.scheduleType.equals(value)) return this;
+    String newValue = Preconditions.checkNotNull(value, "scheduleType");
+    return new NetworkCacheArgs(
+        this.cacheName,
+        this.repository,
+        newValue,
+        this.fetchClient,
+        this.storeClient,
+        this.cacheReadMode,
+        this.projectFilesystem,
+        this.buckEventBus,
+        this.httpWriteExecutorService,
+        this.maxConcurrentFetches,
+        this.errorTextTemplate,
+        this.maxStoreSizeBytes,
+        this.thriftEndpointPath,
+        this.distributedBuildModeEnabled);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractNetworkCacheArgs#getFetchClient() fetchClient} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for fetchClient
+   * @return A modified copy of the {@code this} object
+   */
+  public final NetworkCacheArgs withFetchClient(HttpService value) {
+    if (this.fetchClient == value) return this;
+    HttpService newValue = Preconditions.checkNotNull(value, "fetchClient");
+    return new NetworkCacheArgs(
+        this.cacheName,
+        this.repository,
+        this.scheduleType,
+        newValue,
+        this.storeClient,
+        this.cacheReadMode,
+        this.projectFilesystem,
+        this.buckEventBus,
+        this.httpWriteExecutorService,
+        this.maxConcurrentFetches,
+        this.errorTextTemplate,
+        this.maxStoreSizeBytes,
+        this.thriftEndpointPath,
+        this.distributedBuildModeEnabled);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractNetworkCacheArgs#getStoreClient() storeClient} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for storeClient
+   * @return A modified copy of the {@code this} object
+   */
+  public final NetworkCacheArgs withStoreClient(HttpService value) {
+    if (this.storeClient == value) return this;
+    HttpService newValue = Preconditions.checkNotNull(value, "storeClient");
+    return new NetworkCacheArgs(
+        this.cacheName,
+        this.repository,
+        this.scheduleType,
+        this.fetchClient,
+        newValue,
+        this.cacheReadMode,
+        this.projectFilesystem,
+        this.buckEventBus,
+        this.httpWriteExecutorService,
+        this.maxConcurrentFetches,
+        this.errorTextTemplate,
+        this.maxStoreSizeBytes,
+        this.thriftEndpointPath,
+        this.distributedBuildModeEnabled);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractNetworkCacheArgs#getCacheReadMode() cacheReadMode} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for cacheReadMode
+   * @return A modified copy of the {@code this} object
+   */
+  public final NetworkCacheArgs withCacheReadMode(CacheReadMode value) {
+    if (this.cacheReadMode == value) return this;
+    CacheReadMode newValue = Preconditions.checkNotNull(value, "cacheReadMode");
+    return new NetworkCacheArgs(
+        this.cacheName,
+        this.repository,
+        this.scheduleType,
+        this.fetchClient,
+        this.storeClient,
+        newValue,
+        this.projectFilesystem,
+        this.buckEventBus,
+        this.httpWriteExecutorService,
+        this.maxConcurrentFetches,
+        this.errorTextTemplate,
+        this.maxStoreSizeBytes,
+        this.thriftEndpointPath,
+        this.distributedBuildModeEnabled);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractNetworkCacheArgs#getProjectFilesystem() projectFilesystem} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for projectFilesystem
+   * @return A modified copy of the {@code this} object
+   */
+  public final NetworkCacheArgs withProjectFilesystem(ProjectFilesystem value) {
+    if (this.projectFilesystem == value) return this;
+    ProjectFilesystem newValue = Preconditions.checkNotNull(value, "projectFilesystem");
+    return new NetworkCacheArgs(
+        this.cacheName,
+        this.repository,
+        this.scheduleType,
+        this.fetchClient,
+        this.storeClient,
+        this.cacheReadMode,
+        newValue,
+        this.buckEventBus,
+        this.httpWriteExecutorService,
+        this.maxConcurrentFetches,
+        this.errorTextTemplate,
+        this.maxStoreSizeBytes,
+        this.thriftEndpointPath,
+        this.distributedBuildModeEnabled);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractNetworkCacheArgs#getBuckEventBus() buckEventBus} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for buckEventBus
+   * @return A modified copy of the {@code this} object
+   */
+  public final NetworkCacheArgs withBuckEventBus(BuckEventBus value) {
+    if (this.buckEventBus == value) return this;
+    BuckEventBus newValue = Preconditions.checkNotNull(value, "buckEventBus");
+    return new NetworkCacheArgs(
+        this.cacheName,
+        this.repository,
+        this.scheduleType,
+        this.fetchClient,
+        this.storeClient,
+        this.cacheReadMode,
+        this.projectFilesystem,
+        newValue,
+        this.httpWriteExecutorService,
+        this.maxConcurrentFetches,
+        this.errorTextTemplate,
+        this.maxStoreSizeBytes,
+        this.thriftEndpointPath,
+        this.distributedBuildModeEnabled);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractNetworkCacheArgs#getHttpWriteExecutorService() httpWriteExecutorService} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for httpWriteExecutorService
+   * @return A modified copy of the {@code this} object
+   */
+  public final NetworkCacheArgs withHttpWriteExecutorService(ListeningExecutorService value) {
+    if (this.httpWriteExecutorService == value) return this;
+    ListeningExecutorService newValue = Preconditions.checkNotNull(value, "httpWriteExecutorService");
+    return new NetworkCacheArgs(
+        this.cacheName,
+        this.repository,
+        this.scheduleType,
+        this.fetchClient,
+        this.storeClient,
+        this.cacheReadMode,
+        this.projectFilesystem,
+        this.buckEventBus,
+        newValue,
+        this.maxConcurrentFetches,
+        this.errorTextTemplate,
+        this.maxStoreSizeBytes,
+        this.thriftEndpointPath,
+        this.distributedBuildModeEnabled);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractNetworkCacheArgs#getMaxConcurrentFetches() maxConcurrentFetches} attribute.
+   * @param value The value for maxConcurrentFetches
+   * @return A modified copy of {@code this} object
+   */
+  public final NetworkCacheArgs withMaxConcurrentFetches(int value) {
+    @Nullable Integer newValue = value;
+    if (Objects.equal(this.maxConcurrentFetches, newValue)) return this;
+    return new NetworkCacheArgs(
+        this.cacheName,
+        this.repository,
+        this.scheduleType,
+        this.fetchClient,
+        this.storeClient,
+        this.cacheReadMode,
+        this.projectFilesystem,
+        this.buckEventBus,
+        this.httpWriteExecutorService,
+        newValue,
+        this.errorTextTemplate,
+        this.maxStoreSizeBytes,
+        this.thriftEndpointPath,
+        this.distributedBuildModeEnabled);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractNetworkCacheArgs#getMaxConcurrentFetches() maxConcurrentFetches} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for maxConcurrentFetches
+   * @return A modified copy of {@code this} object
+   */
+  public final NetworkCacheArgs withMaxConcurrentFetches(Optional<Integer> optional) {
+    @Nullable Integer value = optional.orElse(null);
+    if (Objects.equal(this.maxConcurrentFetches, value)) return this;
+    return new NetworkCacheArgs(
+        this.cacheName,
+        this.repository,
+        this.scheduleType,
+        this.fetchClient,
+        this.storeClient,
+        this.cacheReadMode,
+        this.projectFilesystem,
+        this.buckEventBus,
+        this.httpWriteExecutorService,
+        value,
+        this.errorTextTemplate,
+        this.maxStoreSizeBytes,
+        this.thriftEndpointPath,
+        this.distributedBuildModeEnabled);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractNetworkCacheArgs#getErrorTextTemplate() errorTextTemplate} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for errorTextTemplate
+   * @return A modified copy of the {@code this} object
+   */
+  public final NetworkCacheArgs withErrorTextTemplate(String value) {
+    if (this.errorTextTemplate.equals(value)) return this;
+    String newValue = Preconditions.checkNotNull(value, "errorTextTemplate");
+    return new NetworkCacheArgs(
+        this.cacheName,
+        this.repository,
+        this.scheduleType,
+        this.fetchClient,
+        this.storeClient,
+        this.cacheReadMode,
+        this.projectFilesystem,
+        this.buckEventBus,
+        this.httpWriteExecutorService,
+        this.maxConcurrentFetches,
+        newValue,
+        this.maxStoreSizeBytes,
+        this.thriftEndpointPath,
+        this.distributedBuildModeEnabled);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractNetworkCacheArgs#getMaxStoreSizeBytes() maxStoreSizeBytes} attribute.
+   * @param value The value for maxStoreSizeBytes
+   * @return A modified copy of {@code this} object
+   */
+  public final NetworkCacheArgs withMaxStoreSizeBytes(long value) {
+    @Nullable Long newValue = value;
+    if (Objects.equal(this.maxStoreSizeBytes, newValue)) return this;
+    return new NetworkCacheArgs(
+        this.cacheName,
+        this.repository,
+        this.scheduleType,
+        this.fetchClient,
+        this.storeClient,
+        this.cacheReadMode,
+        this.projectFilesystem,
+        this.buckEventBus,
+        this.httpWriteExecutorService,
+        this.maxConcurrentFetches,
+        this.errorTextTemplate,
+        newValue,
+        this.thriftEndpointPath,
+        this.distributedBuildModeEnabled);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractNetworkCacheArgs#getMaxStoreSizeBytes() maxStoreSizeBytes} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for maxStoreSizeBytes
+   * @return A modified copy of {@code this} object
+   */
+  public final NetworkCacheArgs withMaxStoreSizeBytes(Optional<Long> optional) {
+    @Nullable Long value = optional.orElse(null);
+    if (Objects.equal(this.maxStoreSizeBytes, value)) return this;
+    return new NetworkCacheArgs(
+        this.cacheName,
+        this.repository,
+        this.scheduleType,
+        this.fetchClient,
+        this.storeClient,
+        this.cacheReadMode,
+        this.projectFilesystem,
+        this.buckEventBus,
+        this.httpWriteExecutorService,
+        this.maxConcurrentFetches,
+        this.errorTextTemplate,
+        value,
+        this.thriftEndpointPath,
+        this.distributedBuildModeEnabled);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractNetworkCacheArgs#getThriftEndpointPath() thriftEndpointPath} attribute.
+   * @param value The value for thriftEndpointPath
+   * @return A modified copy of {@code this} object
+   */
+  public final NetworkCacheArgs withThriftEndpointPath(String value) {
+    @Nullable String newValue = Preconditions.checkNotNull(value, "thriftEndpointPath");
+    if (Objects.equal(this.thriftEndpointPath, newValue)) return this;
+    return new NetworkCacheArgs(
+        this.cacheName,
+        this.repository,
+        this.scheduleType,
+        this.fetchClient,
+        this.storeClient,
+        this.cacheReadMode,
+        this.projectFilesystem,
+        this.buckEventBus,
+        this.httpWriteExecutorService,
+        this.maxConcurrentFetches,
+        this.errorTextTemplate,
+        this.maxStoreSizeBytes,
+        newValue,
+        this.distributedBuildModeEnabled);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractNetworkCacheArgs#getThriftEndpointPath() thriftEndpointPath} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for thriftEndpointPath
+   * @return A modified copy of {@code this} object
+   */
+  public final NetworkCacheArgs withThriftEndpointPath(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equal(this.thriftEndpointPath, value)) return this;
+    return new NetworkCacheArgs(
+        this.cacheName,
+        this.repository,
+        this.scheduleType,
+        this.fetchClient,
+        this.storeClient,
+        this.cacheReadMode,
+        this.projectFilesystem,
+        this.buckEventBus,
+        this.httpWriteExecutorService,
+        this.maxConcurrentFetches,
+        this.errorTextTemplate,
+        this.maxStoreSizeBytes,
+        value,
+        this.distributedBuildModeEnabled);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractNetworkCacheArgs#distributedBuildModeEnabled() distributedBuildModeEnabled} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for distributedBuildModeEnabled
+   * @return A modified copy of the {@code this} object
+   */
+  public final NetworkCacheArgs withDistributedBuildModeEnabled(boolean value) {
+    if (this.distributedBuildModeEnabled == value) return this;
+    return new NetworkCacheArgs(
+        this.cacheName,
+        this.repository,
+        this.scheduleType,
+        this.fetchClient,
+        this.storeClient,
+        this.cacheReadMode,
+        this.projectFilesystem,
+        this.buckEventBus,
+        this.httpWriteExecutorService,
+        this.maxConcurrentFetches,
+        this.errorTextTemplate,
+        this.maxStoreSizeBytes,
+        this.thriftEndpointPath,
+        value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code NetworkCacheArgs} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof NetworkCacheArgs
+        && equalTo((NetworkCacheArgs) another);
+  }
+
+  private boolean equalTo(NetworkCacheArgs another) {
+    return cacheName.equals(another.cacheName)
+        && repository.equals(another.repository)
+        && scheduleType.equals(another.scheduleType)
+        && fetchClient.equals(another.fetchClient)
+        && storeClient.equals(another.storeClient)
+        && cacheReadMode.equals(another.cacheReadMode)
+        && projectFilesystem.equals(another.projectFilesystem)
+        && buckEventBus.equals(another.buckEventBus)
+        && httpWriteExecutorService.equals(another.httpWriteExecutorService)
+        && Objects.equal(maxConcurrentFetches, another.maxConcurrentFetches)
+        && errorTextTemplate.equals(another.errorTextTemplate)
+        && Objects.equal(maxStoreSizeBytes, another.maxStoreSizeBytes)
+        && Objects.equal(thriftEndpointPath, another.thriftEndpointPath)
+        && distributedBuildModeEnabled == another.distributedBuildModeEnabled;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code cacheName}, {@code repository}, {@code scheduleType}, {@code fetchClient}, {@code storeClient}, {@code cacheReadMode}, {@code projectFilesystem}, {@code buckEventBus}, {@code httpWriteExecutorService}, {@code maxConcurrentFetches}, {@code errorTextTemplate}, {@code maxStoreSizeBytes}, {@code thriftEndpointPath}, {@code distributedBuildModeEnabled}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + cacheName.hashCode();
+    h = h * 17 + repository.hashCode();
+    h = h * 17 + scheduleType.hashCode();
+    h = h * 17 + fetchClient.hashCode();
+    h = h * 17 + storeClient.hashCode();
+    h = h * 17 + cacheReadMode.hashCode();
+    h = h * 17 + projectFilesystem.hashCode();
+    h = h * 17 + buckEventBus.hashCode();
+    h = h * 17 + httpWriteExecutorService.hashCode();
+    h = h * 17 + Objects.hashCode(maxConcurrentFetches);
+    h = h * 17 + errorTextTemplate.hashCode();
+    h = h * 17 + Objects.hashCode(maxStoreSizeBytes);
+    h = h * 17 + Objects.hashCode(thriftEndpointPath);
+    h = h * 17 + Booleans.hashCode(distributedBuildModeEnabled);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code NetworkCacheArgs} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("NetworkCacheArgs")
+        .omitNullValues()
+        .add("cacheName", cacheName)
+        .add("repository", repository)
+        .add("scheduleType", scheduleType)
+        .add("fetchClient", fetchClient)
+        .add("storeClient", storeClient)
+        .add("cacheReadMode", cacheReadMode)
+        .add("projectFilesystem", projectFilesystem)
+        .add("buckEventBus", buckEventBus)
+        .add("httpWriteExecutorService", httpWriteExecutorService)
+        .add("maxConcurrentFetches", maxConcurrentFetches)
+        .add("errorTextTemplate", errorTextTemplate)
+        .add("maxStoreSizeBytes", maxStoreSizeBytes)
+        .add("thriftEndpointPath", thriftEndpointPath)
+        .add("distributedBuildModeEnabled", distributedBuildModeEnabled)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractNetworkCacheArgs} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable NetworkCacheArgs instance
+   */
+  static NetworkCacheArgs copyOf(AbstractNetworkCacheArgs instance) {
+    if (instance instanceof NetworkCacheArgs) {
+      return (NetworkCacheArgs) instance;
+    }
+    return NetworkCacheArgs.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link NetworkCacheArgs NetworkCacheArgs}.
+   * @return A new NetworkCacheArgs builder
+   */
+  public static NetworkCacheArgs.Builder builder() {
+    return new NetworkCacheArgs.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link NetworkCacheArgs NetworkCacheArgs}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_CACHE_NAME = 0x1L;
+    private static final long INIT_BIT_REPOSITORY = 0x2L;
+    private static final long INIT_BIT_SCHEDULE_TYPE = 0x4L;
+    private static final long INIT_BIT_FETCH_CLIENT = 0x8L;
+    private static final long INIT_BIT_STORE_CLIENT = 0x10L;
+    private static final long INIT_BIT_CACHE_READ_MODE = 0x20L;
+    private static final long INIT_BIT_PROJECT_FILESYSTEM = 0x40L;
+    private static final long INIT_BIT_BUCK_EVENT_BUS = 0x80L;
+    private static final long INIT_BIT_HTTP_WRITE_EXECUTOR_SERVICE = 0x100L;
+    private static final long INIT_BIT_ERROR_TEXT_TEMPLATE = 0x200L;
+    private static final long INIT_BIT_DISTRIBUTED_BUILD_MODE_ENABLED = 0x400L;
+    private long initBits = 0x7ffL;
+
+    private @Nullable String cacheName;
+    private @Nullable String repository;
+    private @Nullable String scheduleType;
+    private @Nullable HttpService fetchClient;
+    private @Nullable HttpService storeClient;
+    private @Nullable CacheReadMode cacheReadMode;
+    private @Nullable ProjectFilesystem projectFilesystem;
+    private @Nullable BuckEventBus buckEventBus;
+    private @Nullable ListeningExecutorService httpWriteExecutorService;
+    private @Nullable Integer maxConcurrentFetches;
+    private @Nullable String errorTextTemplate;
+    private @Nullable Long maxStoreSizeBytes;
+    private @Nullable String thriftEndpointPath;
+    private boolean distributedBuildModeEnabled;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code NetworkCacheArgs} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(NetworkCacheArgs instance) {
+      return from((AbstractNetworkCacheArgs) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractNetworkCacheArgs} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractNetworkCacheArgs instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      setCacheName(instance.getCacheName());
+      setRepository(instance.getRepository());
+      setScheduleType(instance.getScheduleType());
+      setFetchClient(instance.getFetchClient());
+      setStoreClient(instance.getStoreClient());
+      setCacheReadMode(instance.getCacheReadMode());
+      setProjectFilesystem(instance.getProjectFilesystem());
+      setBuckEventBus(instance.getBuckEventBus());
+      setHttpWriteExecutorService(instance.getHttpWriteExecutorService());
+      Optional<Integer> maxConcurrentFetchesOptional = instance.getMaxConcurrentFetches();
+      if (maxConcurrentFetchesOptional.isPresent()) {
+        setMaxConcurrentFetches(maxConcurrentFetchesOptional);
+      }
+      setErrorTextTemplate(instance.getErrorTextTemplate());
+      Optional<Long> maxStoreSizeBytesOptional = instance.getMaxStoreSizeBytes();
+      if (maxStoreSizeBytesOptional.isPresent()) {
+        setMaxStoreSizeBytes(maxStoreSizeBytesOptional);
+      }
+      Optional<String> thriftEndpointPathOptional = instance.getThriftEndpointPath();
+      if (thriftEndpointPathOptional.isPresent()) {
+        setThriftEndpointPath(thriftEndpointPathOptional);
+      }
+      setDistributedBuildModeEnabled(instance.distributedBuildModeEnabled());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractNetworkCacheArgs#getCacheName() cacheName} attribute.
+     * @param cacheName The value for cacheName 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCacheName(String cacheName) {
+      this.cacheName = Preconditions.checkNotNull(cacheName, "cacheName");
+      initBits &= ~INIT_BIT_CACHE_NAME;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractNetworkCacheArgs#getRepository() repository} attribute.
+     * @param repository The value for repository 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRepository(String repository) {
+      this.repository = Preconditions.checkNotNull(repository, "repository");
+      initBits &= ~INIT_BIT_REPOSITORY;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractNetworkCacheArgs#getScheduleType() scheduleType} attribute.
+     * @param scheduleType The value for scheduleType 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setScheduleType(String scheduleType) {
+      this.scheduleType = Preconditions.checkNotNull(scheduleType, "scheduleType");
+      initBits &= ~INIT_BIT_SCHEDULE_TYPE;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractNetworkCacheArgs#getFetchClient() fetchClient} attribute.
+     * @param fetchClient The value for fetchClient 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setFetchClient(HttpService fetchClient) {
+      this.fetchClient = Preconditions.checkNotNull(fetchClient, "fetchClient");
+      initBits &= ~INIT_BIT_FETCH_CLIENT;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractNetworkCacheArgs#getStoreClient() storeClient} attribute.
+     * @param storeClient The value for storeClient 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setStoreClient(HttpService storeClient) {
+      this.storeClient = Preconditions.checkNotNull(storeClient, "storeClient");
+      initBits &= ~INIT_BIT_STORE_CLIENT;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractNetworkCacheArgs#getCacheReadMode() cacheReadMode} attribute.
+     * @param cacheReadMode The value for cacheReadMode 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCacheReadMode(CacheReadMode cacheReadMode) {
+      this.cacheReadMode = Preconditions.checkNotNull(cacheReadMode, "cacheReadMode");
+      initBits &= ~INIT_BIT_CACHE_READ_MODE;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractNetworkCacheArgs#getProjectFilesystem() projectFilesystem} attribute.
+     * @param projectFilesystem The value for projectFilesystem 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setProjectFilesystem(ProjectFilesystem projectFilesystem) {
+      this.projectFilesystem = Preconditions.checkNotNull(projectFilesystem, "projectFilesystem");
+      initBits &= ~INIT_BIT_PROJECT_FILESYSTEM;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractNetworkCacheArgs#getBuckEventBus() buckEventBus} attribute.
+     * @param buckEventBus The value for buckEventBus 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBuckEventBus(BuckEventBus buckEventBus) {
+      this.buckEventBus = Preconditions.checkNotNull(buckEventBus, "buckEventBus");
+      initBits &= ~INIT_BIT_BUCK_EVENT_BUS;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractNetworkCacheArgs#getHttpWriteExecutorService() httpWriteExecutorService} attribute.
+     * @param httpWriteExecutorService The value for httpWriteExecutorService 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setHttpWriteExecutorService(ListeningExecutorService httpWriteExecutorService) {
+      this.httpWriteExecutorService = Preconditions.checkNotNull(httpWriteExecutorService, "httpWriteExecutorService");
+      initBits &= ~INIT_BIT_HTTP_WRITE_EXECUTOR_SERVICE;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractNetworkCacheArgs#getMaxConcurrentFetches() maxConcurrentFetches} to maxConcurrentFetches.
+     * @param maxConcurrentFetches The value for maxConcurrentFetches
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setMaxConcurrentFetches(int maxConcurrentFetches) {
+      this.maxConcurrentFetches = maxConcurrentFetches;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractNetworkCacheArgs#getMaxConcurrentFetches() maxConcurrentFetches} to maxConcurrentFetches.
+     * @param maxConcurrentFetches The value for maxConcurrentFetches
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setMaxConcurrentFetches(Optional<Integer> maxConcurrentFetches) {
+      this.maxConcurrentFetches = maxConcurrentFetches.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractNetworkCacheArgs#getErrorTextTemplate() errorTextTemplate} attribute.
+     * @param errorTextTemplate The value for errorTextTemplate 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setErrorTextTemplate(String errorTextTemplate) {
+      this.errorTextTemplate = Preconditions.checkNotNull(errorTextTemplate, "errorTextTemplate");
+      initBits &= ~INIT_BIT_ERROR_TEXT_TEMPLATE;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractNetworkCacheArgs#getMaxStoreSizeBytes() maxStoreSizeBytes} to maxStoreSizeBytes.
+     * @param maxStoreSizeBytes The value for maxStoreSizeBytes
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setMaxStoreSizeBytes(long maxStoreSizeBytes) {
+      this.maxStoreSizeBytes = maxStoreSizeBytes;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractNetworkCacheArgs#getMaxStoreSizeBytes() maxStoreSizeBytes} to maxStoreSizeBytes.
+     * @param maxStoreSizeBytes The value for maxStoreSizeBytes
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setMaxStoreSizeBytes(Optional<Long> maxStoreSizeBytes) {
+      this.maxStoreSizeBytes = maxStoreSizeBytes.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractNetworkCacheArgs#getThriftEndpointPath() thriftEndpointPath} to thriftEndpointPath.
+     * @param thriftEndpointPath The value for thriftEndpointPath
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setThriftEndpointPath(String thriftEndpointPath) {
+      this.thriftEndpointPath = Preconditions.checkNotNull(thriftEndpointPath, "thriftEndpointPath");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractNetworkCacheArgs#getThriftEndpointPath() thriftEndpointPath} to thriftEndpointPath.
+     * @param thriftEndpointPath The value for thriftEndpointPath
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setThriftEndpointPath(Optional<String> thriftEndpointPath) {
+      this.thriftEndpointPath = thriftEndpointPath.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractNetworkCacheArgs#distributedBuildModeEnabled() distributedBuildModeEnabled} attribute.
+     * @param distributedBuildModeEnabled The value for distributedBuildModeEnabled 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDistributedBuildModeEnabled(boolean distributedBuildModeEnabled) {
+      this.distributedBuildModeEnabled = distributedBuildModeEnabled;
+      initBits &= ~INIT_BIT_DISTRIBUTED_BUILD_MODE_ENABLED;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link NetworkCacheArgs NetworkCacheArgs}.
+     * @return An immutable instance of NetworkCacheArgs
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public NetworkCacheArgs build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new NetworkCacheArgs(
+          cacheName,
+          repository,
+          scheduleType,
+          fetchClient,
+          storeClient,
+          cacheReadMode,
+          projectFilesystem,
+          buckEventBus,
+          httpWriteExecutorService,
+          maxConcurrentFetches,
+          errorTextTemplate,
+          maxStoreSizeBytes,
+          thriftEndpointPath,
+          distributedBuildModeEnabled);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_CACHE_NAME) != 0) attributes.add("cacheName");
+      if ((initBits & INIT_BIT_REPOSITORY) != 0) attributes.add("repository");
+      if ((initBits & INIT_BIT_SCHEDULE_TYPE) != 0) attributes.add("scheduleType");
+      if ((initBits & INIT_BIT_FETCH_CLIENT) != 0) attributes.add("fetchClient");
+      if ((initBits & INIT_BIT_STORE_CLIENT) != 0) attributes.add("storeClient");
+      if ((initBits & INIT_BIT_CACHE_READ_MODE) != 0) attributes.add("cacheReadMode");
+      if ((initBits & INIT_BIT_PROJECT_FILESYSTEM) != 0) attributes.add("projectFilesystem");
+      if ((initBits & INIT_BIT_BUCK_EVENT_BUS) != 0) attributes.add("buckEventBus");
+      if ((initBits & INIT_BIT_HTTP_WRITE_EXECUTOR_SERVICE) != 0) attributes.add("httpWriteExecutorService");
+      if ((initBits & INIT_BIT_ERROR_TEXT_TEMPLATE) != 0) attributes.add("errorTextTemplate");
+      if ((initBits & INIT_BIT_DISTRIBUTED_BUILD_MODE_ENABLED) != 0) attributes.add("distributedBuildModeEnabled");
+      return "Cannot build NetworkCacheArgs, some of required attributes are not set " + attributes;
+    }
+  }
+}
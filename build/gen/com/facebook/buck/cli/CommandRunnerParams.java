@@ -0,0 +1,2030 @@
+package com.facebook.buck.cli;
+
+import com.facebook.buck.android.AndroidPlatformTarget;
+import com.facebook.buck.artifact_cache.ArtifactCacheFactory;
+import com.facebook.buck.event.BuckEventBus;
+import com.facebook.buck.httpserver.WebServer;
+import com.facebook.buck.jvm.core.JavaPackageFinder;
+import com.facebook.buck.log.InvocationInfo;
+import com.facebook.buck.parser.Parser;
+import com.facebook.buck.rules.ActionGraphCache;
+import com.facebook.buck.rules.Cell;
+import com.facebook.buck.rules.KnownBuildRuleTypesFactory;
+import com.facebook.buck.rules.RuleKey;
+import com.facebook.buck.rules.keys.RuleKeyCacheRecycler;
+import com.facebook.buck.shell.WorkerProcessPool;
+import com.facebook.buck.step.ExecutorPool;
+import com.facebook.buck.timing.Clock;
+import com.facebook.buck.util.Console;
+import com.facebook.buck.util.ProcessManager;
+import com.facebook.buck.util.cache.StackedFileHashCache;
+import com.facebook.buck.util.environment.BuildEnvironmentDescription;
+import com.facebook.buck.util.environment.Platform;
+import com.facebook.buck.util.versioncontrol.VersionControlStatsGenerator;
+import com.facebook.buck.versions.VersionedTargetGraphCache;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Objects;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Supplier;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentMap;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractCommandRunnerParams}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code CommandRunnerParams.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractCommandRunnerParams"})
+@Immutable
+public final class CommandRunnerParams implements AbstractCommandRunnerParams {
+  private final Console console;
+  private final InputStream stdIn;
+  private final Cell cell;
+  private final VersionedTargetGraphCache versionedTargetGraphCache;
+  private final ArtifactCacheFactory artifactCacheFactory;
+  private final Parser parser;
+  private final BuckEventBus buckEventBus;
+  private final Supplier<AndroidPlatformTarget> androidPlatformTargetSupplier;
+  private final Platform platform;
+  private final ImmutableMap<String, String> environment;
+  private final JavaPackageFinder javaPackageFinder;
+  private final Clock clock;
+  private final VersionControlStatsGenerator versionControlStatsGenerator;
+  private final @Nullable ProcessManager processManager;
+  private final @Nullable WebServer webServer;
+  private final @Nullable ConcurrentMap<String, WorkerProcessPool> persistentWorkerPools;
+  private final BuckConfig buckConfig;
+  private final StackedFileHashCache fileHashCache;
+  private final ImmutableMap<ExecutorPool, ListeningExecutorService> executors;
+  private final BuildEnvironmentDescription buildEnvironmentDescription;
+  private final ActionGraphCache actionGraphCache;
+  private final KnownBuildRuleTypesFactory knownBuildRuleTypesFactory;
+  private final @Nullable InvocationInfo invocationInfo;
+  private final @Nullable RuleKeyCacheRecycler<RuleKey> defaultRuleKeyFactoryCacheRecycler;
+
+  private CommandRunnerParams(
+      Console console,
+      InputStream stdIn,
+      Cell cell,
+      VersionedTargetGraphCache versionedTargetGraphCache,
+      ArtifactCacheFactory artifactCacheFactory,
+      Parser parser,
+      BuckEventBus buckEventBus,
+      Supplier<AndroidPlatformTarget> androidPlatformTargetSupplier,
+      Platform platform,
+      ImmutableMap<String, String> environment,
+      JavaPackageFinder javaPackageFinder,
+      Clock clock,
+      VersionControlStatsGenerator versionControlStatsGenerator,
+      @Nullable ProcessManager processManager,
+      @Nullable WebServer webServer,
+      @Nullable ConcurrentMap<String, WorkerProcessPool> persistentWorkerPools,
+      BuckConfig buckConfig,
+      StackedFileHashCache fileHashCache,
+      ImmutableMap<ExecutorPool, ListeningExecutorService> executors,
+      BuildEnvironmentDescription buildEnvironmentDescription,
+      ActionGraphCache actionGraphCache,
+      KnownBuildRuleTypesFactory knownBuildRuleTypesFactory,
+      @Nullable InvocationInfo invocationInfo,
+      @Nullable RuleKeyCacheRecycler<RuleKey> defaultRuleKeyFactoryCacheRecycler) {
+    this.console = console;
+    this.stdIn = stdIn;
+    this.cell = cell;
+    this.versionedTargetGraphCache = versionedTargetGraphCache;
+    this.artifactCacheFactory = artifactCacheFactory;
+    this.parser = parser;
+    this.buckEventBus = buckEventBus;
+    this.androidPlatformTargetSupplier = androidPlatformTargetSupplier;
+    this.platform = platform;
+    this.environment = environment;
+    this.javaPackageFinder = javaPackageFinder;
+    this.clock = clock;
+    this.versionControlStatsGenerator = versionControlStatsGenerator;
+    this.processManager = processManager;
+    this.webServer = webServer;
+    this.persistentWorkerPools = persistentWorkerPools;
+    this.buckConfig = buckConfig;
+    this.fileHashCache = fileHashCache;
+    this.executors = executors;
+    this.buildEnvironmentDescription = buildEnvironmentDescription;
+    this.actionGraphCache = actionGraphCache;
+    this.knownBuildRuleTypesFactory = knownBuildRuleTypesFactory;
+    this.invocationInfo = invocationInfo;
+    this.defaultRuleKeyFactoryCacheRecycler = defaultRuleKeyFactoryCacheRecycler;
+  }
+
+  /**
+   * @return The value of the {@code console} attribute
+   */
+  @Override
+  public Console getConsole() {
+    return console;
+  }
+
+  /**
+   * @return The value of the {@code stdIn} attribute
+   */
+  @Override
+  public InputStream getStdIn() {
+    return stdIn;
+  }
+
+  /**
+   * @return The value of the {@code cell} attribute
+   */
+  @Override
+  public Cell getCell() {
+    return cell;
+  }
+
+  /**
+   * @return The value of the {@code versionedTargetGraphCache} attribute
+   */
+  @Override
+  public VersionedTargetGraphCache getVersionedTargetGraphCache() {
+    return versionedTargetGraphCache;
+  }
+
+  /**
+   * @return The value of the {@code artifactCacheFactory} attribute
+   */
+  @Override
+  public ArtifactCacheFactory getArtifactCacheFactory() {
+    return artifactCacheFactory;
+  }
+
+  /**
+   * @return The value of the {@code parser} attribute
+   */
+  @Override
+  public Parser getParser() {
+    return parser;
+  }
+
+  /**
+   * @return The value of the {@code buckEventBus} attribute
+   */
+  @Override
+  public BuckEventBus getBuckEventBus() {
+    return buckEventBus;
+  }
+
+  /**
+   * @return The value of the {@code androidPlatformTargetSupplier} attribute
+   */
+  @Override
+  public Supplier<AndroidPlatformTarget> getAndroidPlatformTargetSupplier() {
+    return androidPlatformTargetSupplier;
+  }
+
+  /**
+   * @return The value of the {@code platform} attribute
+   */
+  @Override
+  public Platform getPlatform() {
+    return platform;
+  }
+
+  /**
+   * @return The value of the {@code environment} attribute
+   */
+  @Override
+  public ImmutableMap<String, String> getEnvironment() {
+    return environment;
+  }
+
+  /**
+   * @return The value of the {@code javaPackageFinder} attribute
+   */
+  @Override
+  public JavaPackageFinder getJavaPackageFinder() {
+    return javaPackageFinder;
+  }
+
+  /**
+   * @return The value of the {@code clock} attribute
+   */
+  @Override
+  public Clock getClock() {
+    return clock;
+  }
+
+  /**
+   * @return The value of the {@code versionControlStatsGenerator} attribute
+   */
+  @Override
+  public VersionControlStatsGenerator getVersionControlStatsGenerator() {
+    return versionControlStatsGenerator;
+  }
+
+  /**
+   * @return The value of the {@code processManager} attribute
+   */
+  @Override
+  public Optional<ProcessManager> getProcessManager() {
+    return Optional.ofNullable(processManager);
+  }
+
+  /**
+   * @return The value of the {@code webServer} attribute
+   */
+  @Override
+  public Optional<WebServer> getWebServer() {
+    return Optional.ofNullable(webServer);
+  }
+
+  /**
+   * @return The value of the {@code persistentWorkerPools} attribute
+   */
+  @Override
+  public Optional<ConcurrentMap<String, WorkerProcessPool>> getPersistentWorkerPools() {
+    return Optional.ofNullable(persistentWorkerPools);
+  }
+
+  /**
+   * @return The value of the {@code buckConfig} attribute
+   */
+  @Override
+  public BuckConfig getBuckConfig() {
+    return buckConfig;
+  }
+
+  /**
+   * @return The value of the {@code fileHashCache} attribute
+   */
+  @Override
+  public StackedFileHashCache getFileHashCache() {
+    return fileHashCache;
+  }
+
+  /**
+   * @return The value of the {@code executors} attribute
+   */
+  @Override
+  public ImmutableMap<ExecutorPool, ListeningExecutorService> getExecutors() {
+    return executors;
+  }
+
+  /**
+   * @return The value of the {@code buildEnvironmentDescription} attribute
+   */
+  @Override
+  public BuildEnvironmentDescription getBuildEnvironmentDescription() {
+    return buildEnvironmentDescription;
+  }
+
+  /**
+   * @return The value of the {@code actionGraphCache} attribute
+   */
+  @Override
+  public ActionGraphCache getActionGraphCache() {
+    return actionGraphCache;
+  }
+
+  /**
+   * @return The value of the {@code knownBuildRuleTypesFactory} attribute
+   */
+  @Override
+  public KnownBuildRuleTypesFactory getKnownBuildRuleTypesFactory() {
+    return knownBuildRuleTypesFactory;
+  }
+
+  /**
+   * @return The value of the {@code invocationInfo} attribute
+   */
+  @Override
+  public Optional<InvocationInfo> getInvocationInfo() {
+    return Optional.ofNullable(invocationInfo);
+  }
+
+  /**
+   * @return The value of the {@code defaultRuleKeyFactoryCacheRecycler} attribute
+   */
+  @Override
+  public Optional<RuleKeyCacheRecycler<RuleKey>> getDefaultRuleKeyFactoryCacheRecycler() {
+    return Optional.ofNullable(defaultRuleKeyFactoryCacheRecycler);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCommandRunnerParams#getConsole() console} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for console
+   * @return A modified copy of the {@code this} object
+   */
+  public final CommandRunnerParams withConsole(Console value) {
+    if (this.console == value) return this;
+    Console newValue = Preconditions.checkNotNull(value, "console");
+    return new CommandRunnerParams(
+        newValue,
+        this.stdIn,
+        this.cell,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.parser,
+        this.buckEventBus,
+        this.androidPlatformTargetSupplier,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.buildEnvironmentDescription,
+        this.actionGraphCache,
+        this.knownBuildRuleTypesFactory,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCommandRunnerParams#getStdIn() stdIn} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for stdIn
+   * @return A modified copy of the {@code this} object
+   */
+  public final CommandRunnerParams withStdIn(InputStream value) {
+    if (this.stdIn == value) return this;
+    InputStream newValue = Preconditions.checkNotNull(value, "stdIn");
+    return new CommandRunnerParams(
+        this.console,
+        newValue,
+        this.cell,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.parser,
+        this.buckEventBus,
+        this.androidPlatformTargetSupplier,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.buildEnvironmentDescription,
+        this.actionGraphCache,
+        this.knownBuildRuleTypesFactory,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCommandRunnerParams#getCell() cell} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for cell
+   * @return A modified copy of the {@code this} object
+   */
+  public final CommandRunnerParams withCell(Cell value) {
+    if (this.cell == value) return this;
+    Cell newValue = Preconditions.checkNotNull(value, "cell");
+    return new CommandRunnerParams(
+        this.console,
+        this.stdIn,
+        newValue,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.parser,
+        this.buckEventBus,
+        this.androidPlatformTargetSupplier,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.buildEnvironmentDescription,
+        this.actionGraphCache,
+        this.knownBuildRuleTypesFactory,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCommandRunnerParams#getVersionedTargetGraphCache() versionedTargetGraphCache} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for versionedTargetGraphCache
+   * @return A modified copy of the {@code this} object
+   */
+  public final CommandRunnerParams withVersionedTargetGraphCache(VersionedTargetGraphCache value) {
+    if (this.versionedTargetGraphCache == value) return this;
+    VersionedTargetGraphCache newValue = Preconditions.checkNotNull(value, "versionedTargetGraphCache");
+    return new CommandRunnerParams(
+        this.console,
+        this.stdIn,
+        this.cell,
+        newValue,
+        this.artifactCacheFactory,
+        this.parser,
+        this.buckEventBus,
+        this.androidPlatformTargetSupplier,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.buildEnvironmentDescription,
+        this.actionGraphCache,
+        this.knownBuildRuleTypesFactory,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCommandRunnerParams#getArtifactCacheFactory() artifactCacheFactory} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for artifactCacheFactory
+   * @return A modified copy of the {@code this} object
+   */
+  public final CommandRunnerParams withArtifactCacheFactory(ArtifactCacheFactory value) {
+    if (this.artifactCacheFactory == value) return this;
+    ArtifactCacheFactory newValue = Preconditions.checkNotNull(value, "artifactCacheFactory");
+    return new CommandRunnerParams(
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.versionedTargetGraphCache,
+        newValue,
+        this.parser,
+        this.buckEventBus,
+        this.androidPlatformTargetSupplier,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.buildEnvironmentDescription,
+        this.actionGraphCache,
+        this.knownBuildRuleTypesFactory,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCommandRunnerParams#getParser() parser} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for parser
+   * @return A modified copy of the {@code this} object
+   */
+  public final CommandRunnerParams withParser(Parser value) {
+    if (this.parser == value) return this;
+    Parser newValue = Preconditions.checkNotNull(value, "parser");
+    return new CommandRunnerParams(
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        newValue,
+        this.buckEventBus,
+        this.androidPlatformTargetSupplier,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.buildEnvironmentDescription,
+        this.actionGraphCache,
+        this.knownBuildRuleTypesFactory,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCommandRunnerParams#getBuckEventBus() buckEventBus} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for buckEventBus
+   * @return A modified copy of the {@code this} object
+   */
+  public final CommandRunnerParams withBuckEventBus(BuckEventBus value) {
+    if (this.buckEventBus == value) return this;
+    BuckEventBus newValue = Preconditions.checkNotNull(value, "buckEventBus");
+    return new CommandRunnerParams(
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.parser,
+        newValue,
+        this.androidPlatformTargetSupplier,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.buildEnvironmentDescription,
+        this.actionGraphCache,
+        this.knownBuildRuleTypesFactory,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCommandRunnerParams#getAndroidPlatformTargetSupplier() androidPlatformTargetSupplier} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for androidPlatformTargetSupplier
+   * @return A modified copy of the {@code this} object
+   */
+  public final CommandRunnerParams withAndroidPlatformTargetSupplier(Supplier<AndroidPlatformTarget> value) {
+    if (this.androidPlatformTargetSupplier == value) return this;
+    Supplier<AndroidPlatformTarget> newValue = Preconditions.checkNotNull(value, "androidPlatformTargetSupplier");
+    return new CommandRunnerParams(
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.parser,
+        this.buckEventBus,
+        newValue,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.buildEnvironmentDescription,
+        this.actionGraphCache,
+        this.knownBuildRuleTypesFactory,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCommandRunnerParams#getPlatform() platform} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for platform
+   * @return A modified copy of the {@code this} object
+   */
+  public final CommandRunnerParams withPlatform(Platform value) {
+    if (this.platform == value) return this;
+    Platform newValue = Preconditions.checkNotNull(value, "platform");
+    return new CommandRunnerParams(
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.parser,
+        this.buckEventBus,
+        this.androidPlatformTargetSupplier,
+        newValue,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.buildEnvironmentDescription,
+        this.actionGraphCache,
+        this.knownBuildRuleTypesFactory,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AbstractCommandRunnerParams#getEnvironment() environment} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the environment map
+   * @return A modified copy of {@code this} object
+   */
+  public final CommandRunnerParams withEnvironment(Map<String, ? extends String> entries) {
+    if (this.environment == entries) return this;
+    ImmutableMap<String, String> newValue = ImmutableMap.copyOf(entries);
+    return new CommandRunnerParams(
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.parser,
+        this.buckEventBus,
+        this.androidPlatformTargetSupplier,
+        this.platform,
+        newValue,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.buildEnvironmentDescription,
+        this.actionGraphCache,
+        this.knownBuildRuleTypesFactory,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCommandRunnerParams#getJavaPackageFinder() javaPackageFinder} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for javaPackageFinder
+   * @return A modified copy of the {@code this} object
+   */
+  public final CommandRunnerParams withJavaPackageFinder(JavaPackageFinder value) {
+    if (this.javaPackageFinder == value) return this;
+    JavaPackageFinder newValue = Preconditions.checkNotNull(value, "javaPackageFinder");
+    return new CommandRunnerParams(
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.parser,
+        this.buckEventBus,
+        this.androidPlatformTargetSupplier,
+        this.platform,
+        this.environment,
+        newValue,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.buildEnvironmentDescription,
+        this.actionGraphCache,
+        this.knownBuildRuleTypesFactory,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCommandRunnerParams#getClock() clock} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for clock
+   * @return A modified copy of the {@code this} object
+   */
+  public final CommandRunnerParams withClock(Clock value) {
+    if (this.clock == value) return this;
+    Clock newValue = Preconditions.checkNotNull(value, "clock");
+    return new CommandRunnerParams(
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.parser,
+        this.buckEventBus,
+        this.androidPlatformTargetSupplier,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        newValue,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.buildEnvironmentDescription,
+        this.actionGraphCache,
+        this.knownBuildRuleTypesFactory,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCommandRunnerParams#getVersionControlStatsGenerator() versionControlStatsGenerator} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for versionControlStatsGenerator
+   * @return A modified copy of the {@code this} object
+   */
+  public final CommandRunnerParams withVersionControlStatsGenerator(VersionControlStatsGenerator value) {
+    if (this.versionControlStatsGenerator == value) return this;
+    VersionControlStatsGenerator newValue = Preconditions.checkNotNull(value, "versionControlStatsGenerator");
+    return new CommandRunnerParams(
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.parser,
+        this.buckEventBus,
+        this.androidPlatformTargetSupplier,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        newValue,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.buildEnvironmentDescription,
+        this.actionGraphCache,
+        this.knownBuildRuleTypesFactory,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractCommandRunnerParams#getProcessManager() processManager} attribute.
+   * @param value The value for processManager
+   * @return A modified copy of {@code this} object
+   */
+  public final CommandRunnerParams withProcessManager(ProcessManager value) {
+    @Nullable ProcessManager newValue = Preconditions.checkNotNull(value, "processManager");
+    if (this.processManager == newValue) return this;
+    return new CommandRunnerParams(
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.parser,
+        this.buckEventBus,
+        this.androidPlatformTargetSupplier,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        newValue,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.buildEnvironmentDescription,
+        this.actionGraphCache,
+        this.knownBuildRuleTypesFactory,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractCommandRunnerParams#getProcessManager() processManager} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for processManager
+   * @return A modified copy of {@code this} object
+   */
+  public final CommandRunnerParams withProcessManager(Optional<ProcessManager> optional) {
+    @Nullable ProcessManager value = optional.orElse(null);
+    if (this.processManager == value) return this;
+    return new CommandRunnerParams(
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.parser,
+        this.buckEventBus,
+        this.androidPlatformTargetSupplier,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        value,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.buildEnvironmentDescription,
+        this.actionGraphCache,
+        this.knownBuildRuleTypesFactory,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractCommandRunnerParams#getWebServer() webServer} attribute.
+   * @param value The value for webServer
+   * @return A modified copy of {@code this} object
+   */
+  public final CommandRunnerParams withWebServer(WebServer value) {
+    @Nullable WebServer newValue = Preconditions.checkNotNull(value, "webServer");
+    if (this.webServer == newValue) return this;
+    return new CommandRunnerParams(
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.parser,
+        this.buckEventBus,
+        this.androidPlatformTargetSupplier,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        newValue,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.buildEnvironmentDescription,
+        this.actionGraphCache,
+        this.knownBuildRuleTypesFactory,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractCommandRunnerParams#getWebServer() webServer} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for webServer
+   * @return A modified copy of {@code this} object
+   */
+  public final CommandRunnerParams withWebServer(Optional<WebServer> optional) {
+    @Nullable WebServer value = optional.orElse(null);
+    if (this.webServer == value) return this;
+    return new CommandRunnerParams(
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.parser,
+        this.buckEventBus,
+        this.androidPlatformTargetSupplier,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        value,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.buildEnvironmentDescription,
+        this.actionGraphCache,
+        this.knownBuildRuleTypesFactory,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractCommandRunnerParams#getPersistentWorkerPools() persistentWorkerPools} attribute.
+   * @param value The value for persistentWorkerPools
+   * @return A modified copy of {@code this} object
+   */
+  public final CommandRunnerParams withPersistentWorkerPools(ConcurrentMap<String, WorkerProcessPool> value) {
+    @Nullable ConcurrentMap<String, WorkerProcessPool> newValue = Preconditions.checkNotNull(value, "persistentWorkerPools");
+    if (this.persistentWorkerPools == newValue) return this;
+    return new CommandRunnerParams(
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.parser,
+        this.buckEventBus,
+        this.androidPlatformTargetSupplier,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        newValue,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.buildEnvironmentDescription,
+        this.actionGraphCache,
+        this.knownBuildRuleTypesFactory,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractCommandRunnerParams#getPersistentWorkerPools() persistentWorkerPools} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for persistentWorkerPools
+   * @return A modified copy of {@code this} object
+   */
+  public final CommandRunnerParams withPersistentWorkerPools(Optional<ConcurrentMap<String, WorkerProcessPool>> optional) {
+    @Nullable ConcurrentMap<String, WorkerProcessPool> value = optional.orElse(null);
+    if (this.persistentWorkerPools == value) return this;
+    return new CommandRunnerParams(
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.parser,
+        this.buckEventBus,
+        this.androidPlatformTargetSupplier,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        value,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.buildEnvironmentDescription,
+        this.actionGraphCache,
+        this.knownBuildRuleTypesFactory,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCommandRunnerParams#getBuckConfig() buckConfig} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for buckConfig
+   * @return A modified copy of the {@code this} object
+   */
+  public final CommandRunnerParams withBuckConfig(BuckConfig value) {
+    if (this.buckConfig == value) return this;
+    BuckConfig newValue = Preconditions.checkNotNull(value, "buckConfig");
+    return new CommandRunnerParams(
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.parser,
+        this.buckEventBus,
+        this.androidPlatformTargetSupplier,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        newValue,
+        this.fileHashCache,
+        this.executors,
+        this.buildEnvironmentDescription,
+        this.actionGraphCache,
+        this.knownBuildRuleTypesFactory,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCommandRunnerParams#getFileHashCache() fileHashCache} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for fileHashCache
+   * @return A modified copy of the {@code this} object
+   */
+  public final CommandRunnerParams withFileHashCache(StackedFileHashCache value) {
+    if (this.fileHashCache == value) return this;
+    StackedFileHashCache newValue = Preconditions.checkNotNull(value, "fileHashCache");
+    return new CommandRunnerParams(
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.parser,
+        this.buckEventBus,
+        this.androidPlatformTargetSupplier,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        newValue,
+        this.executors,
+        this.buildEnvironmentDescription,
+        this.actionGraphCache,
+        this.knownBuildRuleTypesFactory,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AbstractCommandRunnerParams#getExecutors() executors} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the executors map
+   * @return A modified copy of {@code this} object
+   */
+  public final CommandRunnerParams withExecutors(Map<ExecutorPool, ? extends ListeningExecutorService> entries) {
+    if (this.executors == entries) return this;
+    ImmutableMap<ExecutorPool, ListeningExecutorService> newValue = Maps.immutableEnumMap(entries);
+    return new CommandRunnerParams(
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.parser,
+        this.buckEventBus,
+        this.androidPlatformTargetSupplier,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        newValue,
+        this.buildEnvironmentDescription,
+        this.actionGraphCache,
+        this.knownBuildRuleTypesFactory,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCommandRunnerParams#getBuildEnvironmentDescription() buildEnvironmentDescription} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for buildEnvironmentDescription
+   * @return A modified copy of the {@code this} object
+   */
+  public final CommandRunnerParams withBuildEnvironmentDescription(BuildEnvironmentDescription value) {
+    if (this.buildEnvironmentDescription == value) return this;
+    BuildEnvironmentDescription newValue = Preconditions.checkNotNull(value, "buildEnvironmentDescription");
+    return new CommandRunnerParams(
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.parser,
+        this.buckEventBus,
+        this.androidPlatformTargetSupplier,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        newValue,
+        this.actionGraphCache,
+        this.knownBuildRuleTypesFactory,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCommandRunnerParams#getActionGraphCache() actionGraphCache} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for actionGraphCache
+   * @return A modified copy of the {@code this} object
+   */
+  public final CommandRunnerParams withActionGraphCache(ActionGraphCache value) {
+    if (this.actionGraphCache == value) return this;
+    ActionGraphCache newValue = Preconditions.checkNotNull(value, "actionGraphCache");
+    return new CommandRunnerParams(
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.parser,
+        this.buckEventBus,
+        this.androidPlatformTargetSupplier,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.buildEnvironmentDescription,
+        newValue,
+        this.knownBuildRuleTypesFactory,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCommandRunnerParams#getKnownBuildRuleTypesFactory() knownBuildRuleTypesFactory} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for knownBuildRuleTypesFactory
+   * @return A modified copy of the {@code this} object
+   */
+  public final CommandRunnerParams withKnownBuildRuleTypesFactory(KnownBuildRuleTypesFactory value) {
+    if (this.knownBuildRuleTypesFactory == value) return this;
+    KnownBuildRuleTypesFactory newValue = Preconditions.checkNotNull(value, "knownBuildRuleTypesFactory");
+    return new CommandRunnerParams(
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.parser,
+        this.buckEventBus,
+        this.androidPlatformTargetSupplier,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.buildEnvironmentDescription,
+        this.actionGraphCache,
+        newValue,
+        this.invocationInfo,
+        this.defaultRuleKeyFactoryCacheRecycler);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractCommandRunnerParams#getInvocationInfo() invocationInfo} attribute.
+   * @param value The value for invocationInfo
+   * @return A modified copy of {@code this} object
+   */
+  public final CommandRunnerParams withInvocationInfo(InvocationInfo value) {
+    @Nullable InvocationInfo newValue = Preconditions.checkNotNull(value, "invocationInfo");
+    if (this.invocationInfo == newValue) return this;
+    return new CommandRunnerParams(
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.parser,
+        this.buckEventBus,
+        this.androidPlatformTargetSupplier,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.buildEnvironmentDescription,
+        this.actionGraphCache,
+        this.knownBuildRuleTypesFactory,
+        newValue,
+        this.defaultRuleKeyFactoryCacheRecycler);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractCommandRunnerParams#getInvocationInfo() invocationInfo} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for invocationInfo
+   * @return A modified copy of {@code this} object
+   */
+  public final CommandRunnerParams withInvocationInfo(Optional<InvocationInfo> optional) {
+    @Nullable InvocationInfo value = optional.orElse(null);
+    if (this.invocationInfo == value) return this;
+    return new CommandRunnerParams(
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.parser,
+        this.buckEventBus,
+        this.androidPlatformTargetSupplier,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.buildEnvironmentDescription,
+        this.actionGraphCache,
+        this.knownBuildRuleTypesFactory,
+        value,
+        this.defaultRuleKeyFactoryCacheRecycler);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractCommandRunnerParams#getDefaultRuleKeyFactoryCacheRecycler() defaultRuleKeyFactoryCacheRecycler} attribute.
+   * @param value The value for defaultRuleKeyFactoryCacheRecycler
+   * @return A modified copy of {@code this} object
+   */
+  public final CommandRunnerParams withDefaultRuleKeyFactoryCacheRecycler(RuleKeyCacheRecycler<RuleKey> value) {
+    @Nullable RuleKeyCacheRecycler<RuleKey> newValue = Preconditions.checkNotNull(value, "defaultRuleKeyFactoryCacheRecycler");
+    if (this.defaultRuleKeyFactoryCacheRecycler == newValue) return this;
+    return new CommandRunnerParams(
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.parser,
+        this.buckEventBus,
+        this.androidPlatformTargetSupplier,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.buildEnvironmentDescription,
+        this.actionGraphCache,
+        this.knownBuildRuleTypesFactory,
+        this.invocationInfo,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractCommandRunnerParams#getDefaultRuleKeyFactoryCacheRecycler() defaultRuleKeyFactoryCacheRecycler} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for defaultRuleKeyFactoryCacheRecycler
+   * @return A modified copy of {@code this} object
+   */
+  public final CommandRunnerParams withDefaultRuleKeyFactoryCacheRecycler(Optional<RuleKeyCacheRecycler<RuleKey>> optional) {
+    @Nullable RuleKeyCacheRecycler<RuleKey> value = optional.orElse(null);
+    if (this.defaultRuleKeyFactoryCacheRecycler == value) return this;
+    return new CommandRunnerParams(
+        this.console,
+        this.stdIn,
+        this.cell,
+        this.versionedTargetGraphCache,
+        this.artifactCacheFactory,
+        this.parser,
+        this.buckEventBus,
+        this.androidPlatformTargetSupplier,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.clock,
+        this.versionControlStatsGenerator,
+        this.processManager,
+        this.webServer,
+        this.persistentWorkerPools,
+        this.buckConfig,
+        this.fileHashCache,
+        this.executors,
+        this.buildEnvironmentDescription,
+        this.actionGraphCache,
+        this.knownBuildRuleTypesFactory,
+        this.invocationInfo,
+        value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code CommandRunnerParams} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof CommandRunnerParams
+        && equalTo((CommandRunnerParams) another);
+  }
+
+  private boolean equalTo(CommandRunnerParams another) {
+    return console.equals(another.console)
+        && stdIn.equals(another.stdIn)
+        && cell.equals(another.cell)
+        && versionedTargetGraphCache.equals(another.versionedTargetGraphCache)
+        && artifactCacheFactory.equals(another.artifactCacheFactory)
+        && parser.equals(another.parser)
+        && buckEventBus.equals(another.buckEventBus)
+        && androidPlatformTargetSupplier.equals(another.androidPlatformTargetSupplier)
+        && platform.equals(another.platform)
+        && environment.equals(another.environment)
+        && javaPackageFinder.equals(another.javaPackageFinder)
+        && clock.equals(another.clock)
+        && versionControlStatsGenerator.equals(another.versionControlStatsGenerator)
+        && Objects.equal(processManager, another.processManager)
+        && Objects.equal(webServer, another.webServer)
+        && Objects.equal(persistentWorkerPools, another.persistentWorkerPools)
+        && buckConfig.equals(another.buckConfig)
+        && fileHashCache.equals(another.fileHashCache)
+        && executors.equals(another.executors)
+        && buildEnvironmentDescription.equals(another.buildEnvironmentDescription)
+        && actionGraphCache.equals(another.actionGraphCache)
+        && knownBuildRuleTypesFactory.equals(another.knownBuildRuleTypesFactory)
+        && Objects.equal(invocationInfo, another.invocationInfo)
+        && Objects.equal(defaultRuleKeyFactoryCacheRecycler, another.defaultRuleKeyFactoryCacheRecycler);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code console}, {@code stdIn}, {@code cell}, {@code versionedTargetGraphCache}, {@code artifactCacheFactory}, {@code parser}, {@code buckEventBus}, {@code androidPlatformTargetSupplier}, {@code platform}, {@code environment}, {@code javaPackageFinder}, {@code clock}, {@code versionControlStatsGenerator}, {@code processManager}, {@code webServer}, {@code persistentWorkerPools}, {@code buckConfig}, {@code fileHashCache}, {@code executors}, {@code buildEnvironmentDescription}, {@code actionGraphCache}, {@code knownBuildRuleTypesFactory}, {@code invocationInfo}, {@code defaultRuleKeyFactoryCacheRecycler}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + console.hashCode();
+    h = h * 17 + stdIn.hashCode();
+    h = h * 17 + cell.hashCode();
+    h = h * 17 + versionedTargetGraphCache.hashCode();
+    h = h * 17 + artifactCacheFactory.hashCode();
+    h = h * 17 + parser.hashCode();
+    h = h * 17 + buckEventBus.hashCode();
+    h = h * 17 + androidPlatformTargetSupplier.hashCode();
+    h = h * 17 + platform.hashCode();
+    h = h * 17 + environment.hashCode();
+    h = h * 17 + javaPackageFinder.hashCode();
+    h = h * 17 + clock.hashCode();
+    h = h * 17 + versionControlStatsGenerator.hashCode();
+    h = h * 17 + Objects.hashCode(processManager);
+    h = h * 17 + Objects.hashCode(webServer);
+    h = h * 17 + Objects.hashCode(persistentWorkerPools);
+    h = h * 17 + buckConfig.hashCode();
+    h = h * 17 + fileHashCache.hashCode();
+    h = h * 17 + executors.hashCode();
+    h = h * 17 + buildEnvironmentDescription.hashCode();
+    h = h * 17 + actionGraphCache.hashCode();
+    h = h * 17 + knownBuildRuleTypesFactory.hashCode();
+    h = h * 17 + Objects.hashCode(invocationInfo);
+    h = h * 17 + Objects.hashCode(defaultRuleKeyFactoryCacheRecycler);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CommandRunnerParams} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CommandRunnerParams")
+        .omitNullValues()
+        .add("console", console)
+        .add("stdIn", stdIn)
+        .add("cell", cell)
+        .add("versionedTargetGraphCache", versionedTargetGraphCache)
+        .add("artifactCacheFactory", artifactCacheFactory)
+        .add("parser", parser)
+        .add("buckEventBus", buckEventBus)
+        .add("androidPlatformTargetSupplier", androidPlatformTargetSupplier)
+        .add("platform", platform)
+        .add("environment", environment)
+        .add("javaPackageFinder", javaPackageFinder)
+        .add("clock", clock)
+        .add("versionControlStatsGenerator", versionControlStatsGenerator)
+        .add("processManager", processManager)
+        .add("webServer", webServer)
+        .add("persistentWorkerPools", persistentWorkerPools)
+        .add("buckConfig", buckConfig)
+        .add("fileHashCache", fileHashCache)
+        .add("executors", executors)
+        .add("buildEnvironmentDescription", buildEnvironmentDescription)
+        .add("actionGraphCache", actionGraphCache)
+        .add("knownBuildRuleTypesFactory", knownBuildRuleTypesFactory)
+        .add("invocationInfo", invocationInfo)
+        .add("defaultRuleKeyFactoryCacheRecycler", defaultRuleKeyFactoryCacheRecycler)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractCommandRunnerParams} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable CommandRunnerParams instance
+   */
+  public static CommandRunnerParams copyOf(AbstractCommandRunnerParams instance) {
+    if (instance instanceof CommandRunnerParams) {
+      return (CommandRunnerParams) instance;
+    }
+    return CommandRunnerParams.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link CommandRunnerParams CommandRunnerParams}.
+   * @return A new CommandRunnerParams builder
+   */
+  public static CommandRunnerParams.Builder builder() {
+    return new CommandRunnerParams.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link CommandRunnerParams CommandRunnerParams}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_CONSOLE = 0x1L;
+    private static final long INIT_BIT_STD_IN = 0x2L;
+    private static final long INIT_BIT_CELL = 0x4L;
+    private static final long INIT_BIT_VERSIONED_TARGET_GRAPH_CACHE = 0x8L;
+    private static final long INIT_BIT_ARTIFACT_CACHE_FACTORY = 0x10L;
+    private static final long INIT_BIT_PARSER = 0x20L;
+    private static final long INIT_BIT_BUCK_EVENT_BUS = 0x40L;
+    private static final long INIT_BIT_ANDROID_PLATFORM_TARGET_SUPPLIER = 0x80L;
+    private static final long INIT_BIT_PLATFORM = 0x100L;
+    private static final long INIT_BIT_JAVA_PACKAGE_FINDER = 0x200L;
+    private static final long INIT_BIT_CLOCK = 0x400L;
+    private static final long INIT_BIT_VERSION_CONTROL_STATS_GENERATOR = 0x800L;
+    private static final long INIT_BIT_BUCK_CONFIG = 0x1000L;
+    private static final long INIT_BIT_FILE_HASH_CACHE = 0x2000L;
+    private static final long INIT_BIT_BUILD_ENVIRONMENT_DESCRIPTION = 0x4000L;
+    private static final long INIT_BIT_ACTION_GRAPH_CACHE = 0x8000L;
+    private static final long INIT_BIT_KNOWN_BUILD_RULE_TYPES_FACTORY = 0x10000L;
+    private long initBits = 0x1ffffL;
+
+    private @Nullable Console console;
+    private @Nullable InputStream stdIn;
+    private @Nullable Cell cell;
+    private @Nullable VersionedTargetGraphCache versionedTargetGraphCache;
+    private @Nullable ArtifactCacheFactory artifactCacheFactory;
+    private @Nullable Parser parser;
+    private @Nullable BuckEventBus buckEventBus;
+    private @Nullable Supplier<AndroidPlatformTarget> androidPlatformTargetSupplier;
+    private @Nullable Platform platform;
+    private ImmutableMap.Builder<String, String> environment = ImmutableMap.builder();
+    private @Nullable JavaPackageFinder javaPackageFinder;
+    private @Nullable Clock clock;
+    private @Nullable VersionControlStatsGenerator versionControlStatsGenerator;
+    private @Nullable ProcessManager processManager;
+    private @Nullable WebServer webServer;
+    private @Nullable ConcurrentMap<String, WorkerProcessPool> persistentWorkerPools;
+    private @Nullable BuckConfig buckConfig;
+    private @Nullable StackedFileHashCache fileHashCache;
+    private ImmutableMap.Builder<ExecutorPool, ListeningExecutorService> executors = ImmutableMap.builder();
+    private @Nullable BuildEnvironmentDescription buildEnvironmentDescription;
+    private @Nullable ActionGraphCache actionGraphCache;
+    private @Nullable KnownBuildRuleTypesFactory knownBuildRuleTypesFactory;
+    private @Nullable InvocationInfo invocationInfo;
+    private @Nullable RuleKeyCacheRecycler<RuleKey> defaultRuleKeyFactoryCacheRecycler;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AbstractCommandRunnerParams} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(AbstractCommandRunnerParams instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      setConsole(instance.getConsole());
+      setStdIn(instance.getStdIn());
+      setCell(instance.getCell());
+      setVersionedTargetGraphCache(instance.getVersionedTargetGraphCache());
+      setArtifactCacheFactory(instance.getArtifactCacheFactory());
+      setParser(instance.getParser());
+      setBuckEventBus(instance.getBuckEventBus());
+      setAndroidPlatformTargetSupplier(instance.getAndroidPlatformTargetSupplier());
+      setPlatform(instance.getPlatform());
+      putAllEnvironment(instance.getEnvironment());
+      setJavaPackageFinder(instance.getJavaPackageFinder());
+      setClock(instance.getClock());
+      setVersionControlStatsGenerator(instance.getVersionControlStatsGenerator());
+      Optional<ProcessManager> processManagerOptional = instance.getProcessManager();
+      if (processManagerOptional.isPresent()) {
+        setProcessManager(processManagerOptional);
+      }
+      Optional<WebServer> webServerOptional = instance.getWebServer();
+      if (webServerOptional.isPresent()) {
+        setWebServer(webServerOptional);
+      }
+      Optional<ConcurrentMap<String, WorkerProcessPool>> persistentWorkerPoolsOptional = instance.getPersistentWorkerPools();
+      if (persistentWorkerPoolsOptional.isPresent()) {
+        setPersistentWorkerPools(persistentWorkerPoolsOptional);
+      }
+      setBuckConfig(instance.getBuckConfig());
+      setFileHashCache(instance.getFileHashCache());
+      putAllExecutors(instance.getExecutors());
+      setBuildEnvironmentDescription(instance.getBuildEnvironmentDescription());
+      setActionGraphCache(instance.getActionGraphCache());
+      setKnownBuildRuleTypesFactory(instance.getKnownBuildRuleTypesFactory());
+      Optional<InvocationInfo> invocationInfoOptional = instance.getInvocationInfo();
+      if (invocationInfoOptional.isPresent()) {
+        setInvocationInfo(invocationInfoOptional);
+      }
+      Optional<RuleKeyCacheRecycler<RuleKey>> defaultRuleKeyFactoryCacheRecyclerOptional = instance.getDefaultRuleKeyFactoryCacheRecycler();
+      if (defaultRuleKeyFactoryCacheRecyclerOptional.isPresent()) {
+        setDefaultRuleKeyFactoryCacheRecycler(defaultRuleKeyFactoryCacheRecyclerOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractCommandRunnerParams#getConsole() console} attribute.
+     * @param console The value for console 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setConsole(Console console) {
+      this.console = Preconditions.checkNotNull(console, "console");
+      initBits &= ~INIT_BIT_CONSOLE;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractCommandRunnerParams#getStdIn() stdIn} attribute.
+     * @param stdIn The value for stdIn 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setStdIn(InputStream stdIn) {
+      this.stdIn = Preconditions.checkNotNull(stdIn, "stdIn");
+      initBits &= ~INIT_BIT_STD_IN;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractCommandRunnerParams#getCell() cell} attribute.
+     * @param cell The value for cell 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCell(Cell cell) {
+      this.cell = Preconditions.checkNotNull(cell, "cell");
+      initBits &= ~INIT_BIT_CELL;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractCommandRunnerParams#getVersionedTargetGraphCache() versionedTargetGraphCache} attribute.
+     * @param versionedTargetGraphCache The value for versionedTargetGraphCache 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setVersionedTargetGraphCache(VersionedTargetGraphCache versionedTargetGraphCache) {
+      this.versionedTargetGraphCache = Preconditions.checkNotNull(versionedTargetGraphCache, "versionedTargetGraphCache");
+      initBits &= ~INIT_BIT_VERSIONED_TARGET_GRAPH_CACHE;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractCommandRunnerParams#getArtifactCacheFactory() artifactCacheFactory} attribute.
+     * @param artifactCacheFactory The value for artifactCacheFactory 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setArtifactCacheFactory(ArtifactCacheFactory artifactCacheFactory) {
+      this.artifactCacheFactory = Preconditions.checkNotNull(artifactCacheFactory, "artifactCacheFactory");
+      initBits &= ~INIT_BIT_ARTIFACT_CACHE_FACTORY;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractCommandRunnerParams#getParser() parser} attribute.
+     * @param parser The value for parser 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setParser(Parser parser) {
+      this.parser = Preconditions.checkNotNull(parser, "parser");
+      initBits &= ~INIT_BIT_PARSER;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractCommandRunnerParams#getBuckEventBus() buckEventBus} attribute.
+     * @param buckEventBus The value for buckEventBus 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBuckEventBus(BuckEventBus buckEventBus) {
+      this.buckEventBus = Preconditions.checkNotNull(buckEventBus, "buckEventBus");
+      initBits &= ~INIT_BIT_BUCK_EVENT_BUS;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractCommandRunnerParams#getAndroidPlatformTargetSupplier() androidPlatformTargetSupplier} attribute.
+     * @param androidPlatformTargetSupplier The value for androidPlatformTargetSupplier 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setAndroidPlatformTargetSupplier(Supplier<AndroidPlatformTarget> androidPlatformTargetSupplier) {
+      this.androidPlatformTargetSupplier = Preconditions.checkNotNull(androidPlatformTargetSupplier, "androidPlatformTargetSupplier");
+      initBits &= ~INIT_BIT_ANDROID_PLATFORM_TARGET_SUPPLIER;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractCommandRunnerParams#getPlatform() platform} attribute.
+     * @param platform The value for platform 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPlatform(Platform platform) {
+      this.platform = Preconditions.checkNotNull(platform, "platform");
+      initBits &= ~INIT_BIT_PLATFORM;
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractCommandRunnerParams#getEnvironment() environment} map.
+     * @param key The key in the environment map
+     * @param value The associated value in the environment map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putEnvironment(String key, String value) {
+      this.environment.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractCommandRunnerParams#getEnvironment() environment} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putEnvironment(Map.Entry<String, ? extends String> entry) {
+      this.environment.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AbstractCommandRunnerParams#getEnvironment() environment} map. Nulls are not permitted
+     * @param environment The entries that will be added to the environment map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setEnvironment(Map<String, ? extends String> environment) {
+      this.environment = ImmutableMap.builder();
+      return putAllEnvironment(environment);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AbstractCommandRunnerParams#getEnvironment() environment} map. Nulls are not permitted
+     * @param environment The entries that will be added to the environment map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllEnvironment(Map<String, ? extends String> environment) {
+      this.environment.putAll(environment);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractCommandRunnerParams#getJavaPackageFinder() javaPackageFinder} attribute.
+     * @param javaPackageFinder The value for javaPackageFinder 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setJavaPackageFinder(JavaPackageFinder javaPackageFinder) {
+      this.javaPackageFinder = Preconditions.checkNotNull(javaPackageFinder, "javaPackageFinder");
+      initBits &= ~INIT_BIT_JAVA_PACKAGE_FINDER;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractCommandRunnerParams#getClock() clock} attribute.
+     * @param clock The value for clock 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setClock(Clock clock) {
+      this.clock = Preconditions.checkNotNull(clock, "clock");
+      initBits &= ~INIT_BIT_CLOCK;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractCommandRunnerParams#getVersionControlStatsGenerator() versionControlStatsGenerator} attribute.
+     * @param versionControlStatsGenerator The value for versionControlStatsGenerator 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setVersionControlStatsGenerator(VersionControlStatsGenerator versionControlStatsGenerator) {
+      this.versionControlStatsGenerator = Preconditions.checkNotNull(versionControlStatsGenerator, "versionControlStatsGenerator");
+      initBits &= ~INIT_BIT_VERSION_CONTROL_STATS_GENERATOR;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractCommandRunnerParams#getProcessManager() processManager} to processManager.
+     * @param processManager The value for processManager
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setProcessManager(ProcessManager processManager) {
+      this.processManager = Preconditions.checkNotNull(processManager, "processManager");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractCommandRunnerParams#getProcessManager() processManager} to processManager.
+     * @param processManager The value for processManager
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setProcessManager(Optional<ProcessManager> processManager) {
+      this.processManager = processManager.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractCommandRunnerParams#getWebServer() webServer} to webServer.
+     * @param webServer The value for webServer
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setWebServer(WebServer webServer) {
+      this.webServer = Preconditions.checkNotNull(webServer, "webServer");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractCommandRunnerParams#getWebServer() webServer} to webServer.
+     * @param webServer The value for webServer
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setWebServer(Optional<WebServer> webServer) {
+      this.webServer = webServer.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractCommandRunnerParams#getPersistentWorkerPools() persistentWorkerPools} to persistentWorkerPools.
+     * @param persistentWorkerPools The value for persistentWorkerPools
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPersistentWorkerPools(ConcurrentMap<String, WorkerProcessPool> persistentWorkerPools) {
+      this.persistentWorkerPools = Preconditions.checkNotNull(persistentWorkerPools, "persistentWorkerPools");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractCommandRunnerParams#getPersistentWorkerPools() persistentWorkerPools} to persistentWorkerPools.
+     * @param persistentWorkerPools The value for persistentWorkerPools
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPersistentWorkerPools(Optional<ConcurrentMap<String, WorkerProcessPool>> persistentWorkerPools) {
+      this.persistentWorkerPools = persistentWorkerPools.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractCommandRunnerParams#getBuckConfig() buckConfig} attribute.
+     * @param buckConfig The value for buckConfig 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBuckConfig(BuckConfig buckConfig) {
+      this.buckConfig = Preconditions.checkNotNull(buckConfig, "buckConfig");
+      initBits &= ~INIT_BIT_BUCK_CONFIG;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractCommandRunnerParams#getFileHashCache() fileHashCache} attribute.
+     * @param fileHashCache The value for fileHashCache 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setFileHashCache(StackedFileHashCache fileHashCache) {
+      this.fileHashCache = Preconditions.checkNotNull(fileHashCache, "fileHashCache");
+      initBits &= ~INIT_BIT_FILE_HASH_CACHE;
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractCommandRunnerParams#getExecutors() executors} map.
+     * @param key The key in the executors map
+     * @param value The associated value in the executors map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putExecutors(ExecutorPool key, ListeningExecutorService value) {
+      this.executors.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractCommandRunnerParams#getExecutors() executors} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putExecutors(Map.Entry<ExecutorPool, ? extends ListeningExecutorService> entry) {
+      this.executors.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AbstractCommandRunnerParams#getExecutors() executors} map. Nulls are not permitted
+     * @param executors The entries that will be added to the executors map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setExecutors(Map<ExecutorPool, ? extends ListeningExecutorService> executors) {
+      this.executors = ImmutableMap.builder();
+      return putAllExecutors(executors);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AbstractCommandRunnerParams#getExecutors() executors} map. Nulls are not permitted
+     * @param executors The entries that will be added to the executors map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllExecutors(Map<ExecutorPool, ? extends ListeningExecutorService> executors) {
+      this.executors.putAll(executors);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractCommandRunnerParams#getBuildEnvironmentDescription() buildEnvironmentDescription} attribute.
+     * @param buildEnvironmentDescription The value for buildEnvironmentDescription 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBuildEnvironmentDescription(BuildEnvironmentDescription buildEnvironmentDescription) {
+      this.buildEnvironmentDescription = Preconditions.checkNotNull(buildEnvironmentDescription, "buildEnvironmentDescription");
+      initBits &= ~INIT_BIT_BUILD_ENVIRONMENT_DESCRIPTION;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractCommandRunnerParams#getActionGraphCache() actionGraphCache} attribute.
+     * @param actionGraphCache The value for actionGraphCache 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setActionGraphCache(ActionGraphCache actionGraphCache) {
+      this.actionGraphCache = Preconditions.checkNotNull(actionGraphCache, "actionGraphCache");
+      initBits &= ~INIT_BIT_ACTION_GRAPH_CACHE;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractCommandRunnerParams#getKnownBuildRuleTypesFactory() knownBuildRuleTypesFactory} attribute.
+     * @param knownBuildRuleTypesFactory The value for knownBuildRuleTypesFactory 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setKnownBuildRuleTypesFactory(KnownBuildRuleTypesFactory knownBuildRuleTypesFactory) {
+      this.knownBuildRuleTypesFactory = Preconditions.checkNotNull(knownBuildRuleTypesFactory, "knownBuildRuleTypesFactory");
+      initBits &= ~INIT_BIT_KNOWN_BUILD_RULE_TYPES_FACTORY;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractCommandRunnerParams#getInvocationInfo() invocationInfo} to invocationInfo.
+     * @param invocationInfo The value for invocationInfo
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setInvocationInfo(InvocationInfo invocationInfo) {
+      this.invocationInfo = Preconditions.checkNotNull(invocationInfo, "invocationInfo");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractCommandRunnerParams#getInvocationInfo() invocationInfo} to invocationInfo.
+     * @param invocationInfo The value for invocationInfo
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setInvocationInfo(Optional<InvocationInfo> invocationInfo) {
+      this.invocationInfo = invocationInfo.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractCommandRunnerParams#getDefaultRuleKeyFactoryCacheRecycler() defaultRuleKeyFactoryCacheRecycler} to defaultRuleKeyFactoryCacheRecycler.
+     * @param defaultRuleKeyFactoryCacheRecycler The value for defaultRuleKeyFactoryCacheRecycler
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setDefaultRuleKeyFactoryCacheRecycler(RuleKeyCacheRecycler<RuleKey> defaultRuleKeyFactoryCacheRecycler) {
+      this.defaultRuleKeyFactoryCacheRecycler = Preconditions.checkNotNull(defaultRuleKeyFactoryCacheRecycler, "defaultRuleKeyFactoryCacheRecycler");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractCommandRunnerParams#getDefaultRuleKeyFactoryCacheRecycler() defaultRuleKeyFactoryCacheRecycler} to defaultRuleKeyFactoryCacheRecycler.
+     * @param defaultRuleKeyFactoryCacheRecycler The value for defaultRuleKeyFactoryCacheRecycler
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDefaultRuleKeyFactoryCacheRecycler(Optional<RuleKeyCacheRecycler<RuleKey>> defaultRuleKeyFactoryCacheRecycler) {
+      this.defaultRuleKeyFactoryCacheRecycler = defaultRuleKeyFactoryCacheRecycler.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link CommandRunnerParams CommandRunnerParams}.
+     * @return An immutable instance of CommandRunnerParams
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public CommandRunnerParams build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new CommandRunnerParams(
+          console,
+          stdIn,
+          cell,
+          versionedTargetGraphCache,
+          artifactCacheFactory,
+          parser,
+          buckEventBus,
+          androidPlatformTargetSupplier,
+          platform,
+          environment.build(),
+          javaPackageFinder,
+          clock,
+          versionControlStatsGenerator,
+          processManager,
+          webServer,
+          persistentWorkerPools,
+          buckConfig,
+          fileHashCache,
+          Maps.immutableEnumMap(executors.build()),
+          buildEnvironmentDescription,
+          actionGraphCache,
+          knownBuildRuleTypesFactory,
+          invocationInfo,
+          defaultRuleKeyFactoryCacheRecycler);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_CONSOLE) != 0) attributes.add("console");
+      if ((initBits & INIT_BIT_STD_IN) != 0) attributes.add("stdIn");
+      if ((initBits & INIT_BIT_CELL) != 0) attributes.add("cell");
+      if ((initBits & INIT_BIT_VERSIONED_TARGET_GRAPH_CACHE) != 0) attributes.add("versionedTargetGraphCache");
+      if ((initBits & INIT_BIT_ARTIFACT_CACHE_FACTORY) != 0) attributes.add("artifactCacheFactory");
+      if ((initBits & INIT_BIT_PARSER) != 0) attributes.add("parser");
+      if ((initBits & INIT_BIT_BUCK_EVENT_BUS) != 0) attributes.add("buckEventBus");
+      if ((initBits & INIT_BIT_ANDROID_PLATFORM_TARGET_SUPPLIER) != 0) attributes.add("androidPlatformTargetSupplier");
+      if ((initBits & INIT_BIT_PLATFORM) != 0) attributes.add("platform");
+      if ((initBits & INIT_BIT_JAVA_PACKAGE_FINDER) != 0) attributes.add("javaPackageFinder");
+      if ((initBits & INIT_BIT_CLOCK) != 0) attributes.add("clock");
+      if ((initBits & INIT_BIT_VERSION_CONTROL_STATS_GENERATOR) != 0) attributes.add("versionControlStatsGenerator");
+      if ((initBits & INIT_BIT_BUCK_CONFIG) != 0) attributes.add("buckConfig");
+      if ((initBits & INIT_BIT_FILE_HASH_CACHE) != 0) attributes.add("fileHashCache");
+      if ((initBits & INIT_BIT_BUILD_ENVIRONMENT_DESCRIPTION) != 0) attributes.add("buildEnvironmentDescription");
+      if ((initBits & INIT_BIT_ACTION_GRAPH_CACHE) != 0) attributes.add("actionGraphCache");
+      if ((initBits & INIT_BIT_KNOWN_BUILD_RULE_TYPES_FACTORY) != 0) attributes.add("knownBuildRuleTypesFactory");
+      return "Cannot build CommandRunnerParams, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,243 @@
+package com.facebook.buck.cli;
+
+import com.facebook.buck.rules.AssociatedTargetNodePredicate;
+import com.facebook.buck.rules.TargetNode;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Predicate;
+import com.google.common.collect.Lists;
+import java.util.List;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Value type containing predicates to identify nodes associated
+ * with an IDE project.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractProjectPredicates"})
+@Immutable
+public final class ProjectPredicates extends AbstractProjectPredicates {
+  private final Predicate<TargetNode<?, ?>> projectRootsPredicate;
+  private final AssociatedTargetNodePredicate associatedProjectPredicate;
+
+  private ProjectPredicates(
+      Predicate<TargetNode<?, ?>> projectRootsPredicate,
+      AssociatedTargetNodePredicate associatedProjectPredicate) {
+    this.projectRootsPredicate = Preconditions.checkNotNull(projectRootsPredicate, "projectRootsPredicate");
+    this.associatedProjectPredicate = Preconditions.checkNotNull(associatedProjectPredicate, "associatedProjectPredicate");
+  }
+
+  private ProjectPredicates(
+      ProjectPredicates original,
+      Predicate<TargetNode<?, ?>> projectRootsPredicate,
+      AssociatedTargetNodePredicate associatedProjectPredicate) {
+    this.projectRootsPredicate = projectRootsPredicate;
+    this.associatedProjectPredicate = associatedProjectPredicate;
+  }
+
+  /**
+   * {@link Predicate} returning nodes that represent roots of the IDE
+   * project.
+   */
+  @Override
+  public Predicate<TargetNode<?, ?>> getProjectRootsPredicate() {
+    return projectRootsPredicate;
+  }
+
+  /**
+   * {@link AssociatedTargetNodePredicate} returning nodes associated
+   * with the IDE project.
+   */
+  @Override
+  public AssociatedTargetNodePredicate getAssociatedProjectPredicate() {
+    return associatedProjectPredicate;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractProjectPredicates#getProjectRootsPredicate() projectRootsPredicate} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for projectRootsPredicate
+   * @return A modified copy of the {@code this} object
+   */
+  public final ProjectPredicates withProjectRootsPredicate(Predicate<TargetNode<?, ?>> value) {
+    if (this.projectRootsPredicate == value) return this;
+    Predicate<TargetNode<?, ?>> newValue = Preconditions.checkNotNull(value, "projectRootsPredicate");
+    return new ProjectPredicates(this, newValue, this.associatedProjectPredicate);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractProjectPredicates#getAssociatedProjectPredicate() associatedProjectPredicate} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for associatedProjectPredicate
+   * @return A modified copy of the {@code this} object
+   */
+  public final ProjectPredicates withAssociatedProjectPredicate(AssociatedTargetNodePredicate value) {
+    if (this.associatedProjectPredicate == value) return this;
+    AssociatedTargetNodePredicate newValue = Preconditions.checkNotNull(value, "associatedProjectPredicate");
+    return new ProjectPredicates(this, this.projectRootsPredicate, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ProjectPredicates} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ProjectPredicates
+        && equalTo((ProjectPredicates) another);
+  }
+
+  private boolean equalTo(ProjectPredicates another) {
+    return projectRootsPredicate.equals(another.projectRootsPredicate)
+        && associatedProjectPredicate.equals(another.associatedProjectPredicate);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code projectRootsPredicate}, {@code associatedProjectPredicate}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + projectRootsPredicate.hashCode();
+    h = h * 17 + associatedProjectPredicate.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ProjectPredicates} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ProjectPredicates")
+        .omitNullValues()
+        .add("projectRootsPredicate", projectRootsPredicate)
+        .add("associatedProjectPredicate", associatedProjectPredicate)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ProjectPredicates} instance.
+   * @param projectRootsPredicate The value for the {@code projectRootsPredicate} attribute
+   * @param associatedProjectPredicate The value for the {@code associatedProjectPredicate} attribute
+   * @return An immutable ProjectPredicates instance
+   */
+  public static ProjectPredicates of(Predicate<TargetNode<?, ?>> projectRootsPredicate, AssociatedTargetNodePredicate associatedProjectPredicate) {
+    return new ProjectPredicates(projectRootsPredicate, associatedProjectPredicate);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractProjectPredicates} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable ProjectPredicates instance
+   */
+  static ProjectPredicates copyOf(AbstractProjectPredicates instance) {
+    if (instance instanceof ProjectPredicates) {
+      return (ProjectPredicates) instance;
+    }
+    return ProjectPredicates.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link ProjectPredicates ProjectPredicates}.
+   * @return A new ProjectPredicates builder
+   */
+  public static ProjectPredicates.Builder builder() {
+    return new ProjectPredicates.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link ProjectPredicates ProjectPredicates}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_PROJECT_ROOTS_PREDICATE = 0x1L;
+    private static final long INIT_BIT_ASSOCIATED_PROJECT_PREDICATE = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable Predicate<TargetNode<?, ?>> projectRootsPredicate;
+    private @Nullable AssociatedTargetNodePredicate associatedProjectPredicate;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code ProjectPredicates} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(ProjectPredicates instance) {
+      return from((AbstractProjectPredicates) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractProjectPredicates} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractProjectPredicates instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      setProjectRootsPredicate(instance.getProjectRootsPredicate());
+      setAssociatedProjectPredicate(instance.getAssociatedProjectPredicate());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractProjectPredicates#getProjectRootsPredicate() projectRootsPredicate} attribute.
+     * @param projectRootsPredicate The value for projectRootsPredicate 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setProjectRootsPredicate(Predicate<TargetNode<?, ?>> projectRootsPredicate) {
+      this.projectRootsPredicate = Preconditions.checkNotNull(projectRootsPredicate, "projectRootsPredicate");
+      initBits &= ~INIT_BIT_PROJECT_ROOTS_PREDICATE;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractProjectPredicates#getAssociatedProjectPredicate() associatedProjectPredicate} attribute.
+     * @param associatedProjectPredicate The value for associatedProjectPredicate 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setAssociatedProjectPredicate(AssociatedTargetNodePredicate associatedProjectPredicate) {
+      this.associatedProjectPredicate = Preconditions.checkNotNull(associatedProjectPredicate, "associatedProjectPredicate");
+      initBits &= ~INIT_BIT_ASSOCIATED_PROJECT_PREDICATE;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link ProjectPredicates ProjectPredicates}.
+     * @return An immutable instance of ProjectPredicates
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ProjectPredicates build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ProjectPredicates(null, projectRootsPredicate, associatedProjectPredicate);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_PROJECT_ROOTS_PREDICATE) != 0) attributes.add("projectRootsPredicate");
+      if ((initBits & INIT_BIT_ASSOCIATED_PROJECT_PREDICATE) != 0) attributes.add("associatedProjectPredicate");
+      return "Cannot build ProjectPredicates, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,285 @@
+package com.facebook.buck.command;
+
+import com.facebook.buck.rules.BuildResult;
+import com.facebook.buck.rules.BuildRule;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.util.Map;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link Build.AbstractBuildExecutionResult}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code BuildExecutionResult.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "Build.AbstractBuildExecutionResult"})
+@Immutable
+public final class BuildExecutionResult extends Build.AbstractBuildExecutionResult {
+  private final ImmutableMap<BuildRule, Optional<BuildResult>> results;
+  private final ImmutableSet<BuildResult> failures;
+
+  private BuildExecutionResult(
+      ImmutableMap<BuildRule, Optional<BuildResult>> results,
+      ImmutableSet<BuildResult> failures) {
+    this.results = results;
+    this.failures = failures;
+  }
+
+  /**
+   * @return Keys are build rules built during this invocation of Buck. Values reflect
+   * the success of each build rule, if it succeeded. ({@link Optional#empty()} represents a
+   * failed build rule.)
+   */
+  @Override
+  public ImmutableMap<BuildRule, Optional<BuildResult>> getResults() {
+    return results;
+  }
+
+  /**
+   * @return The value of the {@code failures} attribute
+   */
+  @Override
+  public ImmutableSet<BuildResult> getFailures() {
+    return failures;
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link Build.AbstractBuildExecutionResult#getResults() results} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the results map
+   * @return A modified copy of {@code this} object
+   */
+  public final BuildExecutionResult withResults(Map<? extends BuildRule, ? extends Optional<BuildResult>> entries) {
+    if (this.results == entries) return this;
+    ImmutableMap<BuildRule, Optional<BuildResult>> newValue = ImmutableMap.copyOf(entries);
+    return new BuildExecutionResult(newValue, this.failures);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link Build.AbstractBuildExecutionResult#getFailures() failures}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final BuildExecutionResult withFailures(BuildResult... elements) {
+    ImmutableSet<BuildResult> newValue = ImmutableSet.copyOf(elements);
+    return new BuildExecutionResult(this.results, newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link Build.AbstractBuildExecutionResult#getFailures() failures}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of failures elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final BuildExecutionResult withFailures(Iterable<? extends BuildResult> elements) {
+    if (this.failures == elements) return this;
+    ImmutableSet<BuildResult> newValue = ImmutableSet.copyOf(elements);
+    return new BuildExecutionResult(this.results, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code BuildExecutionResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof BuildExecutionResult
+        && equalTo((BuildExecutionResult) another);
+  }
+
+  private boolean equalTo(BuildExecutionResult another) {
+    return results.equals(another.results)
+        && failures.equals(another.failures);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code results}, {@code failures}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + results.hashCode();
+    h = h * 17 + failures.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code BuildExecutionResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("BuildExecutionResult")
+        .omitNullValues()
+        .add("results", results)
+        .add("failures", failures)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link Build.AbstractBuildExecutionResult} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable BuildExecutionResult instance
+   */
+  static BuildExecutionResult copyOf(Build.AbstractBuildExecutionResult instance) {
+    if (instance instanceof BuildExecutionResult) {
+      return (BuildExecutionResult) instance;
+    }
+    return BuildExecutionResult.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link BuildExecutionResult BuildExecutionResult}.
+   * @return A new BuildExecutionResult builder
+   */
+  public static BuildExecutionResult.Builder builder() {
+    return new BuildExecutionResult.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link BuildExecutionResult BuildExecutionResult}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private ImmutableMap.Builder<BuildRule, Optional<BuildResult>> results = ImmutableMap.builder();
+    private ImmutableSet.Builder<BuildResult> failures = ImmutableSet.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code BuildExecutionResult} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(BuildExecutionResult instance) {
+      return from((Build.AbstractBuildExecutionResult) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractBuildExecutionResult} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(Build.AbstractBuildExecutionResult instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      putAllResults(instance.getResults());
+      addAllFailures(instance.getFailures());
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link Build.AbstractBuildExecutionResult#getResults() results} map.
+     * @param key The key in the results map
+     * @param value The associated value in the results map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putResults(BuildRule key, Optional<BuildResult> value) {
+      this.results.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link Build.AbstractBuildExecutionResult#getResults() results} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putResults(Map.Entry<? extends BuildRule, ? extends Optional<BuildResult>> entry) {
+      this.results.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link Build.AbstractBuildExecutionResult#getResults() results} map. Nulls are not permitted
+     * @param results The entries that will be added to the results map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setResults(Map<? extends BuildRule, ? extends Optional<BuildResult>> results) {
+      this.results = ImmutableMap.builder();
+      return putAllResults(results);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link Build.AbstractBuildExecutionResult#getResults() results} map. Nulls are not permitted
+     * @param results The entries that will be added to the results map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllResults(Map<? extends BuildRule, ? extends Optional<BuildResult>> results) {
+      this.results.putAll(results);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link Build.AbstractBuildExecutionResult#getFailures() failures} set.
+     * @param element A failures element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addFailures(BuildResult element) {
+      this.failures.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link Build.AbstractBuildExecutionResult#getFailures() failures} set.
+     * @param elements An array of failures elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addFailures(BuildResult... elements) {
+      this.failures.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link Build.AbstractBuildExecutionResult#getFailures() failures} set.
+     * @param elements An iterable of failures elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setFailures(Iterable<? extends BuildResult> elements) {
+      this.failures = ImmutableSet.builder();
+      return addAllFailures(elements);
+    }
+
+    /**
+     * Adds elements to {@link Build.AbstractBuildExecutionResult#getFailures() failures} set.
+     * @param elements An iterable of failures elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllFailures(Iterable<? extends BuildResult> elements) {
+      this.failures.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link BuildExecutionResult BuildExecutionResult}.
+     * @return An immutable instance of BuildExecutionResult
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public BuildExecutionResult build() {
+      return new BuildExecutionResult(results.build(), failures.build());
+    }
+  }
+}
@@ -0,0 +1,419 @@
+package com.facebook.buck.counters;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSetMultimap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Multimap;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractCounterSnapshot}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code CounterSnapshot.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractCounterSnapshot"})
+@Immutable
+public final class CounterSnapshot extends AbstractCounterSnapshot {
+  private final String category;
+  private final ImmutableMap<String, String> tags;
+  private final ImmutableSetMultimap<String, String> tagSets;
+  private final ImmutableMap<String, Long> values;
+
+  private CounterSnapshot(
+      String category,
+      ImmutableMap<String, String> tags,
+      ImmutableSetMultimap<String, String> tagSets,
+      ImmutableMap<String, Long> values) {
+    this.category = category;
+    this.tags = tags;
+    this.tagSets = tagSets;
+    this.values = values;
+  }
+
+  /**
+   * @return The value of the {@code category} attribute
+   */
+  @Override
+  public String getCategory() {
+    return category;
+  }
+
+  /**
+   * @return The value of the {@code tags} attribute
+   */
+  @Override
+  public ImmutableMap<String, String> getTags() {
+    return tags;
+  }
+
+  /**
+   * @return The value of the {@code tagSets} attribute
+   */
+  @Override
+  public ImmutableSetMultimap<String, String> getTagSets() {
+    return tagSets;
+  }
+
+  /**
+   * @return The value of the {@code values} attribute
+   */
+  @Override
+  public ImmutableMap<String, Long> getValues() {
+    return values;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCounterSnapshot#getCategory() category} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for category
+   * @return A modified copy of the {@code this} object
+   */
+  public final CounterSnapshot withCategory(String value) {
+    if (this.category.equals(value)) return this;
+    String newValue = Preconditions.checkNotNull(value, "category");
+    return new CounterSnapshot(newValue, this.tags, this.tagSets, this.values);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AbstractCounterSnapshot#getTags() tags} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the tags map
+   * @return A modified copy of {@code this} object
+   */
+  public final CounterSnapshot withTags(Map<String, ? extends String> entries) {
+    if (this.tags == entries) return this;
+    ImmutableMap<String, String> newValue = ImmutableMap.copyOf(entries);
+    return new CounterSnapshot(this.category, newValue, this.tagSets, this.values);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AbstractCounterSnapshot#getTagSets() tagSets} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the tagSets map
+   * @return A modified copy of {@code this} object
+   */
+  public final CounterSnapshot withTagSets(Multimap<String, ? extends String> entries) {
+    if (this.tagSets == entries) return this;
+    ImmutableSetMultimap<String, String> newValue = ImmutableSetMultimap.copyOf(entries);
+    return new CounterSnapshot(this.category, this.tags, newValue, this.values);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AbstractCounterSnapshot#getValues() values} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the values map
+   * @return A modified copy of {@code this} object
+   */
+  public final CounterSnapshot withValues(Map<String, ? extends Long> entries) {
+    if (this.values == entries) return this;
+    ImmutableMap<String, Long> newValue = ImmutableMap.copyOf(entries);
+    return new CounterSnapshot(this.category, this.tags, this.tagSets, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code CounterSnapshot} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof CounterSnapshot
+        && equalTo((CounterSnapshot) another);
+  }
+
+  private boolean equalTo(CounterSnapshot another) {
+    return category.equals(another.category)
+        && tags.equals(another.tags)
+        && tagSets.equals(another.tagSets)
+        && values.equals(another.values);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code category}, {@code tags}, {@code tagSets}, {@code values}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + category.hashCode();
+    h = h * 17 + tags.hashCode();
+    h = h * 17 + tagSets.hashCode();
+    h = h * 17 + values.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CounterSnapshot} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CounterSnapshot")
+        .omitNullValues()
+        .add("category", category)
+        .add("tags", tags)
+        .add("tagSets", tagSets)
+        .add("values", values)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractCounterSnapshot} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable CounterSnapshot instance
+   */
+  static CounterSnapshot copyOf(AbstractCounterSnapshot instance) {
+    if (instance instanceof CounterSnapshot) {
+      return (CounterSnapshot) instance;
+    }
+    return CounterSnapshot.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link CounterSnapshot CounterSnapshot}.
+   * @return A new CounterSnapshot builder
+   */
+  public static CounterSnapshot.Builder builder() {
+    return new CounterSnapshot.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link CounterSnapshot CounterSnapshot}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_CATEGORY = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable String category;
+    private ImmutableMap.Builder<String, String> tags = ImmutableMap.builder();
+    private ImmutableSetMultimap.Builder<String, String> tagSets = ImmutableSetMultimap.builder();
+    private ImmutableMap.Builder<String, Long> values = ImmutableMap.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code CounterSnapshot} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CounterSnapshot instance) {
+      return from((AbstractCounterSnapshot) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractCounterSnapshot} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractCounterSnapshot instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      setCategory(instance.getCategory());
+      putAllTags(instance.getTags());
+      putAllTagSets(instance.getTagSets());
+      putAllValues(instance.getValues());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractCounterSnapshot#getCategory() category} attribute.
+     * @param category The value for category 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCategory(String category) {
+      this.category = Preconditions.checkNotNull(category, "category");
+      initBits &= ~INIT_BIT_CATEGORY;
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractCounterSnapshot#getTags() tags} map.
+     * @param key The key in the tags map
+     * @param value The associated value in the tags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putTags(String key, String value) {
+      this.tags.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractCounterSnapshot#getTags() tags} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putTags(Map.Entry<String, ? extends String> entry) {
+      this.tags.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AbstractCounterSnapshot#getTags() tags} map. Nulls are not permitted
+     * @param tags The entries that will be added to the tags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setTags(Map<String, ? extends String> tags) {
+      this.tags = ImmutableMap.builder();
+      return putAllTags(tags);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AbstractCounterSnapshot#getTags() tags} map. Nulls are not permitted
+     * @param tags The entries that will be added to the tags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllTags(Map<String, ? extends String> tags) {
+      this.tags.putAll(tags);
+      return this;
+    }
+
+    /**
+     * Put all mappings from the specified key to values for {@link AbstractCounterSnapshot#getTagSets() tagSets} true. Nulls are not permitted
+     * @param key The key for tagSets
+     * @param values The values for tagSets
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putTagSets(String key, String... values) {
+      this.tagSets.putAll(key, Arrays.asList(values));
+      return this;
+    }
+
+    /**
+     * Put all mappings from the specified key to values for {@link AbstractCounterSnapshot#getTagSets() tagSets} true. Nulls are not permitted
+     * @param key The key for tagSets
+     * @param values The values for tagSets
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllTagSets(String key, Iterable<String> values) {
+      this.tagSets.putAll(key, values);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractCounterSnapshot#getTagSets() tagSets} map.
+     * @param key The key in the tagSets map
+     * @param value The associated value in the tagSets map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putTagSets(String key, String value) {
+      this.tagSets.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractCounterSnapshot#getTagSets() tagSets} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putTagSets(Map.Entry<String, ? extends String> entry) {
+      this.tagSets.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AbstractCounterSnapshot#getTagSets() tagSets} map. Nulls are not permitted
+     * @param tagSets The entries that will be added to the tagSets map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setTagSets(Multimap<String, ? extends String> tagSets) {
+      this.tagSets = ImmutableSetMultimap.builder();
+      return putAllTagSets(tagSets);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AbstractCounterSnapshot#getTagSets() tagSets} map. Nulls are not permitted
+     * @param tagSets The entries that will be added to the tagSets map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllTagSets(Multimap<String, ? extends String> tagSets) {
+      this.tagSets.putAll(tagSets);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractCounterSnapshot#getValues() values} map.
+     * @param key The key in the values map
+     * @param value The associated value in the values map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putValues(String key, long value) {
+      this.values.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractCounterSnapshot#getValues() values} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putValues(Map.Entry<String, ? extends Long> entry) {
+      this.values.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AbstractCounterSnapshot#getValues() values} map. Nulls are not permitted
+     * @param values The entries that will be added to the values map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setValues(Map<String, ? extends Long> values) {
+      this.values = ImmutableMap.builder();
+      return putAllValues(values);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AbstractCounterSnapshot#getValues() values} map. Nulls are not permitted
+     * @param values The entries that will be added to the values map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllValues(Map<String, ? extends Long> values) {
+      this.values.putAll(values);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link CounterSnapshot CounterSnapshot}.
+     * @return An immutable instance of CounterSnapshot
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public CounterSnapshot build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new CounterSnapshot(category, tags.build(), tagSets.build(), values.build());
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_CATEGORY) != 0) attributes.add("category");
+      return "Cannot build CounterSnapshot, some of required attributes are not set " + attributes;
+    }
+  }
+}
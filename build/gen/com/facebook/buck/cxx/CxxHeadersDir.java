@@ -0,0 +1,274 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import java.util.List;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Wraps a header directory to add to the preprocessors search path.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractCxxHeadersDir"})
+@Immutable
+public final class CxxHeadersDir extends AbstractCxxHeadersDir {
+  private final CxxPreprocessables.IncludeType includeType;
+  private final SourcePath root;
+
+  private CxxHeadersDir(
+      CxxPreprocessables.IncludeType includeType,
+      SourcePath root) {
+    this.includeType = Preconditions.checkNotNull(includeType, "includeType");
+    this.root = Preconditions.checkNotNull(root, "root");
+  }
+
+  private CxxHeadersDir(
+      CxxHeadersDir original,
+      CxxPreprocessables.IncludeType includeType,
+      SourcePath root) {
+    this.includeType = includeType;
+    this.root = root;
+  }
+
+  /**
+   * @return The value of the {@code includeType} attribute
+   */
+  @Override
+  public CxxPreprocessables.IncludeType getIncludeType() {
+    return includeType;
+  }
+
+  /**
+   * @return The value of the {@code root} attribute
+   */
+  @Override
+  public SourcePath getRoot() {
+    return root;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCxxHeadersDir#getIncludeType() includeType} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for includeType
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxHeadersDir withIncludeType(CxxPreprocessables.IncludeType value) {
+    if (this.includeType == value) return this;
+    CxxPreprocessables.IncludeType newValue = Preconditions.checkNotNull(value, "includeType");
+    return new CxxHeadersDir(this, newValue, this.root);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCxxHeadersDir#getRoot() root} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for root
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxHeadersDir withRoot(SourcePath value) {
+    if (this.root == value) return this;
+    SourcePath newValue = Preconditions.checkNotNull(value, "root");
+    return new CxxHeadersDir(this, this.includeType, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code CxxHeadersDir} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof CxxHeadersDir
+        && equalTo((CxxHeadersDir) another);
+  }
+
+  private boolean equalTo(CxxHeadersDir another) {
+    return includeType.equals(another.includeType)
+        && root.equals(another.root);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code includeType}, {@code root}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + includeType.hashCode();
+    h = h * 17 + root.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CxxHeadersDir} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CxxHeadersDir")
+        .omitNullValues()
+        .add("includeType", includeType)
+        .add("root", root)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code CxxHeadersDir} instance.
+   * @param includeType The value for the {@code includeType} attribute
+   * @param root The value for the {@code root} attribute
+   * @return An immutable CxxHeadersDir instance
+   */
+  public static CxxHeadersDir of(CxxPreprocessables.IncludeType includeType, SourcePath root) {
+    return new CxxHeadersDir(includeType, root);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractCxxHeadersDir} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable CxxHeadersDir instance
+   */
+  static CxxHeadersDir copyOf(AbstractCxxHeadersDir instance) {
+    if (instance instanceof CxxHeadersDir) {
+      return (CxxHeadersDir) instance;
+    }
+    return CxxHeadersDir.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link CxxHeadersDir CxxHeadersDir}.
+   * @return A new CxxHeadersDir builder
+   */
+  public static CxxHeadersDir.Builder builder() {
+    return new CxxHeadersDir.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link CxxHeadersDir CxxHeadersDir}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_INCLUDE_TYPE = 0x1L;
+    private static final long INIT_BIT_ROOT = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable CxxPreprocessables.IncludeType includeType;
+    private @Nullable SourcePath root;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.cxx.CxxHeaders} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CxxHeaders instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code CxxHeadersDir} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CxxHeadersDir instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractCxxHeadersDir} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractCxxHeadersDir instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      long bits = 0;
+      if (object instanceof CxxHeaders) {
+        CxxHeaders instance = (CxxHeaders) object;
+        if ((bits & 0x1L) == 0) {
+          setIncludeType(instance.getIncludeType());
+          bits |= 0x1L;
+        }
+        if ((bits & 0x2L) == 0) {
+          setRoot(instance.getRoot());
+          bits |= 0x2L;
+        }
+      }
+      if (object instanceof AbstractCxxHeadersDir) {
+        AbstractCxxHeadersDir instance = (AbstractCxxHeadersDir) object;
+        if ((bits & 0x1L) == 0) {
+          setIncludeType(instance.getIncludeType());
+          bits |= 0x1L;
+        }
+        if ((bits & 0x2L) == 0) {
+          setRoot(instance.getRoot());
+          bits |= 0x2L;
+        }
+      }
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractCxxHeadersDir#getIncludeType() includeType} attribute.
+     * @param includeType The value for includeType 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setIncludeType(CxxPreprocessables.IncludeType includeType) {
+      this.includeType = Preconditions.checkNotNull(includeType, "includeType");
+      initBits &= ~INIT_BIT_INCLUDE_TYPE;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractCxxHeadersDir#getRoot() root} attribute.
+     * @param root The value for root 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRoot(SourcePath root) {
+      this.root = Preconditions.checkNotNull(root, "root");
+      initBits &= ~INIT_BIT_ROOT;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link CxxHeadersDir CxxHeadersDir}.
+     * @return An immutable instance of CxxHeadersDir
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public CxxHeadersDir build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new CxxHeadersDir(null, includeType, root);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_INCLUDE_TYPE) != 0) attributes.add("includeType");
+      if ((initBits & INIT_BIT_ROOT) != 0) attributes.add("root");
+      return "Cannot build CxxHeadersDir, some of required attributes are not set " + attributes;
+    }
+  }
+}
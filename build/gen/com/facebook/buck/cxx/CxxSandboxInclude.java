@@ -0,0 +1,323 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import java.util.List;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractCxxSandboxInclude}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code CxxSandboxInclude.builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code CxxSandboxInclude.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractCxxSandboxInclude"})
+@Immutable
+public final class CxxSandboxInclude extends AbstractCxxSandboxInclude {
+  private final CxxPreprocessables.IncludeType includeType;
+  private final SourcePath root;
+  private final String includeDir;
+
+  private CxxSandboxInclude(
+      CxxPreprocessables.IncludeType includeType,
+      SourcePath root,
+      String includeDir) {
+    this.includeType = Preconditions.checkNotNull(includeType, "includeType");
+    this.root = Preconditions.checkNotNull(root, "root");
+    this.includeDir = Preconditions.checkNotNull(includeDir, "includeDir");
+  }
+
+  private CxxSandboxInclude(
+      CxxSandboxInclude original,
+      CxxPreprocessables.IncludeType includeType,
+      SourcePath root,
+      String includeDir) {
+    this.includeType = includeType;
+    this.root = root;
+    this.includeDir = includeDir;
+  }
+
+  /**
+   * @return The value of the {@code includeType} attribute
+   */
+  @Override
+  public CxxPreprocessables.IncludeType getIncludeType() {
+    return includeType;
+  }
+
+  /**
+   * @return The value of the {@code root} attribute
+   */
+  @Override
+  public SourcePath getRoot() {
+    return root;
+  }
+
+  /**
+   * @return The value of the {@code includeDir} attribute
+   */
+  @Override
+  public String getIncludeDir() {
+    return includeDir;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCxxSandboxInclude#getIncludeType() includeType} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for includeType
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxSandboxInclude withIncludeType(CxxPreprocessables.IncludeType value) {
+    if (this.includeType == value) return this;
+    CxxPreprocessables.IncludeType newValue = Preconditions.checkNotNull(value, "includeType");
+    return new CxxSandboxInclude(this, newValue, this.root, this.includeDir);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCxxSandboxInclude#getRoot() root} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for root
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxSandboxInclude withRoot(SourcePath value) {
+    if (this.root == value) return this;
+    SourcePath newValue = Preconditions.checkNotNull(value, "root");
+    return new CxxSandboxInclude(this, this.includeType, newValue, this.includeDir);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCxxSandboxInclude#getIncludeDir() includeDir} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for includeDir
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxSandboxInclude withIncludeDir(String value) {
+    if (this.includeDir.equals(value)) return this;
+    String newValue = Preconditions.checkNotNull(value, "includeDir");
+    return new CxxSandboxInclude(this, this.includeType, this.root, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code CxxSandboxInclude} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof CxxSandboxInclude
+        && equalTo((CxxSandboxInclude) another);
+  }
+
+  private boolean equalTo(CxxSandboxInclude another) {
+    return includeType.equals(another.includeType)
+        && root.equals(another.root)
+        && includeDir.equals(another.includeDir);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code includeType}, {@code root}, {@code includeDir}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + includeType.hashCode();
+    h = h * 17 + root.hashCode();
+    h = h * 17 + includeDir.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CxxSandboxInclude} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CxxSandboxInclude")
+        .omitNullValues()
+        .add("includeType", includeType)
+        .add("root", root)
+        .add("includeDir", includeDir)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code CxxSandboxInclude} instance.
+   * @param includeType The value for the {@code includeType} attribute
+   * @param root The value for the {@code root} attribute
+   * @param includeDir The value for the {@code includeDir} attribute
+   * @return An immutable CxxSandboxInclude instance
+   */
+  public static CxxSandboxInclude of(CxxPreprocessables.IncludeType includeType, SourcePath root, String includeDir) {
+    return new CxxSandboxInclude(includeType, root, includeDir);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractCxxSandboxInclude} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable CxxSandboxInclude instance
+   */
+  static CxxSandboxInclude copyOf(AbstractCxxSandboxInclude instance) {
+    if (instance instanceof CxxSandboxInclude) {
+      return (CxxSandboxInclude) instance;
+    }
+    return CxxSandboxInclude.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link CxxSandboxInclude CxxSandboxInclude}.
+   * @return A new CxxSandboxInclude builder
+   */
+  public static CxxSandboxInclude.Builder builder() {
+    return new CxxSandboxInclude.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link CxxSandboxInclude CxxSandboxInclude}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_INCLUDE_TYPE = 0x1L;
+    private static final long INIT_BIT_ROOT = 0x2L;
+    private static final long INIT_BIT_INCLUDE_DIR = 0x4L;
+    private long initBits = 0x7L;
+
+    private @Nullable CxxPreprocessables.IncludeType includeType;
+    private @Nullable SourcePath root;
+    private @Nullable String includeDir;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code CxxSandboxInclude} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CxxSandboxInclude instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractCxxSandboxInclude} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractCxxSandboxInclude instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.cxx.CxxHeaders} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CxxHeaders instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      long bits = 0;
+      if (object instanceof AbstractCxxSandboxInclude) {
+        AbstractCxxSandboxInclude instance = (AbstractCxxSandboxInclude) object;
+        if ((bits & 0x1L) == 0) {
+          setIncludeType(instance.getIncludeType());
+          bits |= 0x1L;
+        }
+        setIncludeDir(instance.getIncludeDir());
+        if ((bits & 0x2L) == 0) {
+          setRoot(instance.getRoot());
+          bits |= 0x2L;
+        }
+      }
+      if (object instanceof CxxHeaders) {
+        CxxHeaders instance = (CxxHeaders) object;
+        if ((bits & 0x1L) == 0) {
+          setIncludeType(instance.getIncludeType());
+          bits |= 0x1L;
+        }
+        if ((bits & 0x2L) == 0) {
+          setRoot(instance.getRoot());
+          bits |= 0x2L;
+        }
+      }
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractCxxSandboxInclude#getIncludeType() includeType} attribute.
+     * @param includeType The value for includeType 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setIncludeType(CxxPreprocessables.IncludeType includeType) {
+      this.includeType = Preconditions.checkNotNull(includeType, "includeType");
+      initBits &= ~INIT_BIT_INCLUDE_TYPE;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractCxxSandboxInclude#getRoot() root} attribute.
+     * @param root The value for root 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRoot(SourcePath root) {
+      this.root = Preconditions.checkNotNull(root, "root");
+      initBits &= ~INIT_BIT_ROOT;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractCxxSandboxInclude#getIncludeDir() includeDir} attribute.
+     * @param includeDir The value for includeDir 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setIncludeDir(String includeDir) {
+      this.includeDir = Preconditions.checkNotNull(includeDir, "includeDir");
+      initBits &= ~INIT_BIT_INCLUDE_DIR;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link CxxSandboxInclude CxxSandboxInclude}.
+     * @return An immutable instance of CxxSandboxInclude
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public CxxSandboxInclude build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new CxxSandboxInclude(null, includeType, root, includeDir);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_INCLUDE_TYPE) != 0) attributes.add("includeType");
+      if ((initBits & INIT_BIT_ROOT) != 0) attributes.add("root");
+      if ((initBits & INIT_BIT_INCLUDE_DIR) != 0) attributes.add("includeDir");
+      return "Cannot build CxxSandboxInclude, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,1145 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.rules.BuildRuleParams;
+import com.facebook.buck.rules.BuildRuleResolver;
+import com.facebook.buck.rules.SourcePath;
+import com.facebook.buck.rules.SourcePathResolver;
+import com.facebook.buck.rules.SourcePathRuleFinder;
+import com.facebook.buck.rules.SymlinkTree;
+import com.facebook.buck.rules.coercer.FrameworkPath;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Objects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMultimap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Multimap;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractCxxSourceRuleFactory}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code CxxSourceRuleFactory.builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code CxxSourceRuleFactory.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractCxxSourceRuleFactory"})
+@Immutable
+public final class CxxSourceRuleFactory extends AbstractCxxSourceRuleFactory {
+  private final BuildRuleParams params;
+  private final BuildRuleResolver resolver;
+  private final SourcePathResolver pathResolver;
+  private final SourcePathRuleFinder ruleFinder;
+  private final CxxBuckConfig cxxBuckConfig;
+  private final CxxPlatform cxxPlatform;
+  private final ImmutableList<CxxPreprocessorInput> cxxPreprocessorInput;
+  private final ImmutableMultimap<CxxSource.Type, String> compilerFlags;
+  private final @Nullable SourcePath prefixHeader;
+  private final @Nullable SourcePath precompiledHeader;
+  private final AbstractCxxSourceRuleFactory.PicType picType;
+  private final @Nullable SymlinkTree sandboxTree;
+
+  private CxxSourceRuleFactory(
+      BuildRuleParams params,
+      BuildRuleResolver resolver,
+      SourcePathResolver pathResolver,
+      SourcePathRuleFinder ruleFinder,
+      CxxBuckConfig cxxBuckConfig,
+      CxxPlatform cxxPlatform,
+      Iterable<? extends CxxPreprocessorInput> cxxPreprocessorInput,
+      Multimap<? extends CxxSource.Type, ? extends String> compilerFlags,
+      Optional<SourcePath> prefixHeader,
+      Optional<SourcePath> precompiledHeader,
+      AbstractCxxSourceRuleFactory.PicType picType,
+      Optional<SymlinkTree> sandboxTree) {
+    this.params = Preconditions.checkNotNull(params, "params");
+    this.resolver = Preconditions.checkNotNull(resolver, "resolver");
+    this.pathResolver = Preconditions.checkNotNull(pathResolver, "pathResolver");
+    this.ruleFinder = Preconditions.checkNotNull(ruleFinder, "ruleFinder");
+    this.cxxBuckConfig = Preconditions.checkNotNull(cxxBuckConfig, "cxxBuckConfig");
+    this.cxxPlatform = Preconditions.checkNotNull(cxxPlatform, "cxxPlatform");
+    this.cxxPreprocessorInput = ImmutableList.copyOf(cxxPreprocessorInput);
+    this.compilerFlags = ImmutableMultimap.copyOf(compilerFlags);
+    this.prefixHeader = prefixHeader.orElse(null);
+    this.precompiledHeader = precompiledHeader.orElse(null);
+    this.picType = Preconditions.checkNotNull(picType, "picType");
+    this.sandboxTree = sandboxTree.orElse(null);
+  }
+
+  private CxxSourceRuleFactory(
+      CxxSourceRuleFactory original,
+      BuildRuleParams params,
+      BuildRuleResolver resolver,
+      SourcePathResolver pathResolver,
+      SourcePathRuleFinder ruleFinder,
+      CxxBuckConfig cxxBuckConfig,
+      CxxPlatform cxxPlatform,
+      ImmutableList<CxxPreprocessorInput> cxxPreprocessorInput,
+      ImmutableMultimap<CxxSource.Type, String> compilerFlags,
+      @Nullable SourcePath prefixHeader,
+      @Nullable SourcePath precompiledHeader,
+      AbstractCxxSourceRuleFactory.PicType picType,
+      @Nullable SymlinkTree sandboxTree) {
+    this.params = params;
+    this.resolver = resolver;
+    this.pathResolver = pathResolver;
+    this.ruleFinder = ruleFinder;
+    this.cxxBuckConfig = cxxBuckConfig;
+    this.cxxPlatform = cxxPlatform;
+    this.cxxPreprocessorInput = cxxPreprocessorInput;
+    this.compilerFlags = compilerFlags;
+    this.prefixHeader = prefixHeader;
+    this.precompiledHeader = precompiledHeader;
+    this.picType = picType;
+    this.sandboxTree = sandboxTree;
+  }
+
+  /**
+   * @return The value of the {@code params} attribute
+   */
+  @Override
+  public BuildRuleParams getParams() {
+    return params;
+  }
+
+  /**
+   * @return The value of the {@code resolver} attribute
+   */
+  @Override
+  public BuildRuleResolver getResolver() {
+    return resolver;
+  }
+
+  /**
+   * @return The value of the {@code pathResolver} attribute
+   */
+  @Override
+  public SourcePathResolver getPathResolver() {
+    return pathResolver;
+  }
+
+  /**
+   * @return The value of the {@code ruleFinder} attribute
+   */
+  @Override
+  public SourcePathRuleFinder getRuleFinder() {
+    return ruleFinder;
+  }
+
+  /**
+   * @return The value of the {@code cxxBuckConfig} attribute
+   */
+  @Override
+  public CxxBuckConfig getCxxBuckConfig() {
+    return cxxBuckConfig;
+  }
+
+  /**
+   * @return The value of the {@code cxxPlatform} attribute
+   */
+  @Override
+  public CxxPlatform getCxxPlatform() {
+    return cxxPlatform;
+  }
+
+  /**
+   * @return The value of the {@code cxxPreprocessorInput} attribute
+   */
+  @Override
+  public ImmutableList<CxxPreprocessorInput> getCxxPreprocessorInput() {
+    return cxxPreprocessorInput;
+  }
+
+  /**
+   * @return The value of the {@code compilerFlags} attribute
+   */
+  @Override
+  public ImmutableMultimap<CxxSource.Type, String> getCompilerFlags() {
+    return compilerFlags;
+  }
+
+  /**
+   *NOTE: {@code prefix_header} is incompatible with {@code precompiled_header}. 
+   */
+  @Override
+  public Optional<SourcePath> getPrefixHeader() {
+    return Optional.ofNullable(prefixHeader);
+  }
+
+  /**
+   *NOTE: {@code precompiled_header} is incompatible with {@code prefix_header}. 
+   */
+  @Override
+  public Optional<SourcePath> getPrecompiledHeader() {
+    return Optional.ofNullable(precompiledHeader);
+  }
+
+  /**
+   * @return The value of the {@code picType} attribute
+   */
+  @Override
+  public AbstractCxxSourceRuleFactory.PicType getPicType() {
+    return picType;
+  }
+
+  /**
+   * @return The value of the {@code sandboxTree} attribute
+   */
+  @Override
+  public Optional<SymlinkTree> getSandboxTree() {
+    return Optional.ofNullable(sandboxTree);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCxxSourceRuleFactory#getParams() params} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for params
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxSourceRuleFactory withParams(BuildRuleParams value) {
+    if (this.params == value) return this;
+    BuildRuleParams newValue = Preconditions.checkNotNull(value, "params");
+    return validate(new CxxSourceRuleFactory(
+        this,
+        newValue,
+        this.resolver,
+        this.pathResolver,
+        this.ruleFinder,
+        this.cxxBuckConfig,
+        this.cxxPlatform,
+        this.cxxPreprocessorInput,
+        this.compilerFlags,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.picType,
+        this.sandboxTree));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCxxSourceRuleFactory#getResolver() resolver} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for resolver
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxSourceRuleFactory withResolver(BuildRuleResolver value) {
+    if (this.resolver == value) return this;
+    BuildRuleResolver newValue = Preconditions.checkNotNull(value, "resolver");
+    return validate(new CxxSourceRuleFactory(
+        this,
+        this.params,
+        newValue,
+        this.pathResolver,
+        this.ruleFinder,
+        this.cxxBuckConfig,
+        this.cxxPlatform,
+        this.cxxPreprocessorInput,
+        this.compilerFlags,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.picType,
+        this.sandboxTree));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCxxSourceRuleFactory#getPathResolver() pathResolver} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for pathResolver
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxSourceRuleFactory withPathResolver(SourcePathResolver value) {
+    if (this.pathResolver == value) return this;
+    SourcePathResolver newValue = Preconditions.checkNotNull(value, "pathResolver");
+    return validate(new CxxSourceRuleFactory(
+        this,
+        this.params,
+        this.resolver,
+        newValue,
+        this.ruleFinder,
+        this.cxxBuckConfig,
+        this.cxxPlatform,
+        this.cxxPreprocessorInput,
+        this.compilerFlags,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.picType,
+        this.sandboxTree));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCxxSourceRuleFactory#getRuleFinder() ruleFinder} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for ruleFinder
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxSourceRuleFactory withRuleFinder(SourcePathRuleFinder value) {
+    if (this.ruleFinder == value) return this;
+    SourcePathRuleFinder newValue = Preconditions.checkNotNull(value, "ruleFinder");
+    return validate(new CxxSourceRuleFactory(
+        this,
+        this.params,
+        this.resolver,
+        this.pathResolver,
+        newValue,
+        this.cxxBuckConfig,
+        this.cxxPlatform,
+        this.cxxPreprocessorInput,
+        this.compilerFlags,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.picType,
+        this.sandboxTree));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCxxSourceRuleFactory#getCxxBuckConfig() cxxBuckConfig} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for cxxBuckConfig
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxSourceRuleFactory withCxxBuckConfig(CxxBuckConfig value) {
+    if (this.cxxBuckConfig == value) return this;
+    CxxBuckConfig newValue = Preconditions.checkNotNull(value, "cxxBuckConfig");
+    return validate(new CxxSourceRuleFactory(
+        this,
+        this.params,
+        this.resolver,
+        this.pathResolver,
+        this.ruleFinder,
+        newValue,
+        this.cxxPlatform,
+        this.cxxPreprocessorInput,
+        this.compilerFlags,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.picType,
+        this.sandboxTree));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCxxSourceRuleFactory#getCxxPlatform() cxxPlatform} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for cxxPlatform
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxSourceRuleFactory withCxxPlatform(CxxPlatform value) {
+    if (this.cxxPlatform == value) return this;
+    CxxPlatform newValue = Preconditions.checkNotNull(value, "cxxPlatform");
+    return validate(new CxxSourceRuleFactory(
+        this,
+        this.params,
+        this.resolver,
+        this.pathResolver,
+        this.ruleFinder,
+        this.cxxBuckConfig,
+        newValue,
+        this.cxxPreprocessorInput,
+        this.compilerFlags,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.picType,
+        this.sandboxTree));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractCxxSourceRuleFactory#getCxxPreprocessorInput() cxxPreprocessorInput}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxSourceRuleFactory withCxxPreprocessorInput(CxxPreprocessorInput... elements) {
+    ImmutableList<CxxPreprocessorInput> newValue = ImmutableList.copyOf(elements);
+    return validate(new CxxSourceRuleFactory(
+        this,
+        this.params,
+        this.resolver,
+        this.pathResolver,
+        this.ruleFinder,
+        this.cxxBuckConfig,
+        this.cxxPlatform,
+        newValue,
+        this.compilerFlags,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.picType,
+        this.sandboxTree));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractCxxSourceRuleFactory#getCxxPreprocessorInput() cxxPreprocessorInput}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of cxxPreprocessorInput elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxSourceRuleFactory withCxxPreprocessorInput(Iterable<? extends CxxPreprocessorInput> elements) {
+    if (this.cxxPreprocessorInput == elements) return this;
+    ImmutableList<CxxPreprocessorInput> newValue = ImmutableList.copyOf(elements);
+    return validate(new CxxSourceRuleFactory(
+        this,
+        this.params,
+        this.resolver,
+        this.pathResolver,
+        this.ruleFinder,
+        this.cxxBuckConfig,
+        this.cxxPlatform,
+        newValue,
+        this.compilerFlags,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.picType,
+        this.sandboxTree));
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AbstractCxxSourceRuleFactory#getCompilerFlags() compilerFlags} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the compilerFlags map
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxSourceRuleFactory withCompilerFlags(Multimap<? extends CxxSource.Type, ? extends String> entries) {
+    if (this.compilerFlags == entries) return this;
+    ImmutableMultimap<CxxSource.Type, String> newValue = ImmutableMultimap.copyOf(entries);
+    return validate(new CxxSourceRuleFactory(
+        this,
+        this.params,
+        this.resolver,
+        this.pathResolver,
+        this.ruleFinder,
+        this.cxxBuckConfig,
+        this.cxxPlatform,
+        this.cxxPreprocessorInput,
+        newValue,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.picType,
+        this.sandboxTree));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractCxxSourceRuleFactory#getPrefixHeader() prefixHeader} attribute.
+   * @param value The value for prefixHeader
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxSourceRuleFactory withPrefixHeader(SourcePath value) {
+    @Nullable SourcePath newValue = Preconditions.checkNotNull(value, "prefixHeader");
+    if (this.prefixHeader == newValue) return this;
+    return validate(new CxxSourceRuleFactory(
+        this,
+        this.params,
+        this.resolver,
+        this.pathResolver,
+        this.ruleFinder,
+        this.cxxBuckConfig,
+        this.cxxPlatform,
+        this.cxxPreprocessorInput,
+        this.compilerFlags,
+        newValue,
+        this.precompiledHeader,
+        this.picType,
+        this.sandboxTree));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractCxxSourceRuleFactory#getPrefixHeader() prefixHeader} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for prefixHeader
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxSourceRuleFactory withPrefixHeader(Optional<SourcePath> optional) {
+    @Nullable SourcePath value = optional.orElse(null);
+    if (this.prefixHeader == value) return this;
+    return validate(new CxxSourceRuleFactory(
+        this,
+        this.params,
+        this.resolver,
+        this.pathResolver,
+        this.ruleFinder,
+        this.cxxBuckConfig,
+        this.cxxPlatform,
+        this.cxxPreprocessorInput,
+        this.compilerFlags,
+        value,
+        this.precompiledHeader,
+        this.picType,
+        this.sandboxTree));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractCxxSourceRuleFactory#getPrecompiledHeader() precompiledHeader} attribute.
+   * @param value The value for precompiledHeader
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxSourceRuleFactory withPrecompiledHeader(SourcePath value) {
+    @Nullable SourcePath newValue = Preconditions.checkNotNull(value, "precompiledHeader");
+    if (this.precompiledHeader == newValue) return this;
+    return validate(new CxxSourceRuleFactory(
+        this,
+        this.params,
+        this.resolver,
+        this.pathResolver,
+        this.ruleFinder,
+        this.cxxBuckConfig,
+        this.cxxPlatform,
+        this.cxxPreprocessorInput,
+        this.compilerFlags,
+        this.prefixHeader,
+        newValue,
+        this.picType,
+        this.sandboxTree));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractCxxSourceRuleFactory#getPrecompiledHeader() precompiledHeader} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for precompiledHeader
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxSourceRuleFactory withPrecompiledHeader(Optional<SourcePath> optional) {
+    @Nullable SourcePath value = optional.orElse(null);
+    if (this.precompiledHeader == value) return this;
+    return validate(new CxxSourceRuleFactory(
+        this,
+        this.params,
+        this.resolver,
+        this.pathResolver,
+        this.ruleFinder,
+        this.cxxBuckConfig,
+        this.cxxPlatform,
+        this.cxxPreprocessorInput,
+        this.compilerFlags,
+        this.prefixHeader,
+        value,
+        this.picType,
+        this.sandboxTree));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCxxSourceRuleFactory#getPicType() picType} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for picType
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxSourceRuleFactory withPicType(AbstractCxxSourceRuleFactory.PicType value) {
+    if (this.picType == value) return this;
+    AbstractCxxSourceRuleFactory.PicType newValue = Preconditions.checkNotNull(value, "picType");
+    return validate(new CxxSourceRuleFactory(
+        this,
+        this.params,
+        this.resolver,
+        this.pathResolver,
+        this.ruleFinder,
+        this.cxxBuckConfig,
+        this.cxxPlatform,
+        this.cxxPreprocessorInput,
+        this.compilerFlags,
+        this.prefixHeader,
+        this.precompiledHeader,
+        newValue,
+        this.sandboxTree));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractCxxSourceRuleFactory#getSandboxTree() sandboxTree} attribute.
+   * @param value The value for sandboxTree
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxSourceRuleFactory withSandboxTree(SymlinkTree value) {
+    @Nullable SymlinkTree newValue = Preconditions.checkNotNull(value, "sandboxTree");
+    if (this.sandboxTree == newValue) return this;
+    return validate(new CxxSourceRuleFactory(
+        this,
+        this.params,
+        this.resolver,
+        this.pathResolver,
+        this.ruleFinder,
+        this.cxxBuckConfig,
+        this.cxxPlatform,
+        this.cxxPreprocessorInput,
+        this.compilerFlags,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.picType,
+        newValue));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractCxxSourceRuleFactory#getSandboxTree() sandboxTree} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for sandboxTree
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxSourceRuleFactory withSandboxTree(Optional<SymlinkTree> optional) {
+    @Nullable SymlinkTree value = optional.orElse(null);
+    if (this.sandboxTree == value) return this;
+    return validate(new CxxSourceRuleFactory(
+        this,
+        this.params,
+        this.resolver,
+        this.pathResolver,
+        this.ruleFinder,
+        this.cxxBuckConfig,
+        this.cxxPlatform,
+        this.cxxPreprocessorInput,
+        this.compilerFlags,
+        this.prefixHeader,
+        this.precompiledHeader,
+        this.picType,
+        value));
+  }
+
+  /**
+   * This instance is equal to all instances of {@code CxxSourceRuleFactory} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof CxxSourceRuleFactory
+        && equalTo((CxxSourceRuleFactory) another);
+  }
+
+  private boolean equalTo(CxxSourceRuleFactory another) {
+    return params.equals(another.params)
+        && resolver.equals(another.resolver)
+        && pathResolver.equals(another.pathResolver)
+        && ruleFinder.equals(another.ruleFinder)
+        && cxxBuckConfig.equals(another.cxxBuckConfig)
+        && cxxPlatform.equals(another.cxxPlatform)
+        && cxxPreprocessorInput.equals(another.cxxPreprocessorInput)
+        && compilerFlags.equals(another.compilerFlags)
+        && Objects.equal(prefixHeader, another.prefixHeader)
+        && Objects.equal(precompiledHeader, another.precompiledHeader)
+        && picType.equals(another.picType)
+        && Objects.equal(sandboxTree, another.sandboxTree);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code params}, {@code resolver}, {@code pathResolver}, {@code ruleFinder}, {@code cxxBuckConfig}, {@code cxxPlatform}, {@code cxxPreprocessorInput}, {@code compilerFlags}, {@code prefixHeader}, {@code precompiledHeader}, {@code picType}, {@code sandboxTree}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + params.hashCode();
+    h = h * 17 + resolver.hashCode();
+    h = h * 17 + pathResolver.hashCode();
+    h = h * 17 + ruleFinder.hashCode();
+    h = h * 17 + cxxBuckConfig.hashCode();
+    h = h * 17 + cxxPlatform.hashCode();
+    h = h * 17 + cxxPreprocessorInput.hashCode();
+    h = h * 17 + compilerFlags.hashCode();
+    h = h * 17 + Objects.hashCode(prefixHeader);
+    h = h * 17 + Objects.hashCode(precompiledHeader);
+    h = h * 17 + picType.hashCode();
+    h = h * 17 + Objects.hashCode(sandboxTree);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CxxSourceRuleFactory} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CxxSourceRuleFactory")
+        .omitNullValues()
+        .add("params", params)
+        .add("resolver", resolver)
+        .add("pathResolver", pathResolver)
+        .add("ruleFinder", ruleFinder)
+        .add("cxxBuckConfig", cxxBuckConfig)
+        .add("cxxPlatform", cxxPlatform)
+        .add("cxxPreprocessorInput", cxxPreprocessorInput)
+        .add("compilerFlags", compilerFlags)
+        .add("prefixHeader", prefixHeader)
+        .add("precompiledHeader", precompiledHeader)
+        .add("picType", picType)
+        .add("sandboxTree", sandboxTree)
+        .toString();
+  }
+
+  private volatile long lazyInitBitmap;
+
+  private static final long FRAMEWORKS_LAZY_INIT_BIT = 0x1L;
+
+  private ImmutableSet<FrameworkPath> frameworks;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractCxxSourceRuleFactory#getFrameworks() frameworks} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public ImmutableSet<FrameworkPath> getFrameworks() {
+    if ((lazyInitBitmap & FRAMEWORKS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & FRAMEWORKS_LAZY_INIT_BIT) == 0) {
+          this.frameworks = Preconditions.checkNotNull(super.getFrameworks(), "frameworks");
+          lazyInitBitmap |= FRAMEWORKS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return frameworks;
+  }
+
+  private static final long INCLUDES_LAZY_INIT_BIT = 0x2L;
+
+  private ImmutableList<CxxHeaders> includes;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractCxxSourceRuleFactory#getIncludes() includes} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public ImmutableList<CxxHeaders> getIncludes() {
+    if ((lazyInitBitmap & INCLUDES_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & INCLUDES_LAZY_INIT_BIT) == 0) {
+          this.includes = Preconditions.checkNotNull(super.getIncludes(), "includes");
+          lazyInitBitmap |= INCLUDES_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return includes;
+  }
+
+  /**
+   * Construct a new immutable {@code CxxSourceRuleFactory} instance.
+   * @param params The value for the {@code params} attribute
+   * @param resolver The value for the {@code resolver} attribute
+   * @param pathResolver The value for the {@code pathResolver} attribute
+   * @param ruleFinder The value for the {@code ruleFinder} attribute
+   * @param cxxBuckConfig The value for the {@code cxxBuckConfig} attribute
+   * @param cxxPlatform The value for the {@code cxxPlatform} attribute
+   * @param cxxPreprocessorInput The value for the {@code cxxPreprocessorInput} attribute
+   * @param compilerFlags The value for the {@code compilerFlags} attribute
+   * @param prefixHeader The value for the {@code prefixHeader} attribute
+   * @param precompiledHeader The value for the {@code precompiledHeader} attribute
+   * @param picType The value for the {@code picType} attribute
+   * @param sandboxTree The value for the {@code sandboxTree} attribute
+   * @return An immutable CxxSourceRuleFactory instance
+   */
+  public static CxxSourceRuleFactory of(BuildRuleParams params, BuildRuleResolver resolver, SourcePathResolver pathResolver, SourcePathRuleFinder ruleFinder, CxxBuckConfig cxxBuckConfig, CxxPlatform cxxPlatform, ImmutableList<CxxPreprocessorInput> cxxPreprocessorInput, ImmutableMultimap<CxxSource.Type, String> compilerFlags, Optional<SourcePath> prefixHeader, Optional<SourcePath> precompiledHeader, AbstractCxxSourceRuleFactory.PicType picType, Optional<SymlinkTree> sandboxTree) {
+    return of(params, resolver, pathResolver, ruleFinder, cxxBuckConfig, cxxPlatform, (Iterable<? extends CxxPreprocessorInput>) cxxPreprocessorInput, compilerFlags, prefixHeader, precompiledHeader, picType, sandboxTree);
+  }
+
+  /**
+   * Construct a new immutable {@code CxxSourceRuleFactory} instance.
+   * @param params The value for the {@code params} attribute
+   * @param resolver The value for the {@code resolver} attribute
+   * @param pathResolver The value for the {@code pathResolver} attribute
+   * @param ruleFinder The value for the {@code ruleFinder} attribute
+   * @param cxxBuckConfig The value for the {@code cxxBuckConfig} attribute
+   * @param cxxPlatform The value for the {@code cxxPlatform} attribute
+   * @param cxxPreprocessorInput The value for the {@code cxxPreprocessorInput} attribute
+   * @param compilerFlags The value for the {@code compilerFlags} attribute
+   * @param prefixHeader The value for the {@code prefixHeader} attribute
+   * @param precompiledHeader The value for the {@code precompiledHeader} attribute
+   * @param picType The value for the {@code picType} attribute
+   * @param sandboxTree The value for the {@code sandboxTree} attribute
+   * @return An immutable CxxSourceRuleFactory instance
+   */
+  public static CxxSourceRuleFactory of(BuildRuleParams params, BuildRuleResolver resolver, SourcePathResolver pathResolver, SourcePathRuleFinder ruleFinder, CxxBuckConfig cxxBuckConfig, CxxPlatform cxxPlatform, Iterable<? extends CxxPreprocessorInput> cxxPreprocessorInput, Multimap<? extends CxxSource.Type, ? extends String> compilerFlags, Optional<SourcePath> prefixHeader, Optional<SourcePath> precompiledHeader, AbstractCxxSourceRuleFactory.PicType picType, Optional<SymlinkTree> sandboxTree) {
+    return validate(new CxxSourceRuleFactory(params, resolver, pathResolver, ruleFinder, cxxBuckConfig, cxxPlatform, cxxPreprocessorInput, compilerFlags, prefixHeader, precompiledHeader, picType, sandboxTree));
+  }
+
+  private static CxxSourceRuleFactory validate(CxxSourceRuleFactory instance) {
+    instance.checkPrefixAndPrecompiledHeaderArgs();
+    return instance;
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractCxxSourceRuleFactory} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable CxxSourceRuleFactory instance
+   */
+  static CxxSourceRuleFactory copyOf(AbstractCxxSourceRuleFactory instance) {
+    if (instance instanceof CxxSourceRuleFactory) {
+      return (CxxSourceRuleFactory) instance;
+    }
+    return CxxSourceRuleFactory.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link CxxSourceRuleFactory CxxSourceRuleFactory}.
+   * @return A new CxxSourceRuleFactory builder
+   */
+  public static CxxSourceRuleFactory.Builder builder() {
+    return new CxxSourceRuleFactory.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link CxxSourceRuleFactory CxxSourceRuleFactory}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_PARAMS = 0x1L;
+    private static final long INIT_BIT_RESOLVER = 0x2L;
+    private static final long INIT_BIT_PATH_RESOLVER = 0x4L;
+    private static final long INIT_BIT_RULE_FINDER = 0x8L;
+    private static final long INIT_BIT_CXX_BUCK_CONFIG = 0x10L;
+    private static final long INIT_BIT_CXX_PLATFORM = 0x20L;
+    private static final long INIT_BIT_PIC_TYPE = 0x40L;
+    private long initBits = 0x7fL;
+
+    private @Nullable BuildRuleParams params;
+    private @Nullable BuildRuleResolver resolver;
+    private @Nullable SourcePathResolver pathResolver;
+    private @Nullable SourcePathRuleFinder ruleFinder;
+    private @Nullable CxxBuckConfig cxxBuckConfig;
+    private @Nullable CxxPlatform cxxPlatform;
+    private ImmutableList.Builder<CxxPreprocessorInput> cxxPreprocessorInput = ImmutableList.builder();
+    private ImmutableMultimap.Builder<CxxSource.Type, String> compilerFlags = ImmutableMultimap.builder();
+    private @Nullable SourcePath prefixHeader;
+    private @Nullable SourcePath precompiledHeader;
+    private @Nullable AbstractCxxSourceRuleFactory.PicType picType;
+    private @Nullable SymlinkTree sandboxTree;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code CxxSourceRuleFactory} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CxxSourceRuleFactory instance) {
+      return from((AbstractCxxSourceRuleFactory) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractCxxSourceRuleFactory} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractCxxSourceRuleFactory instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      setParams(instance.getParams());
+      setResolver(instance.getResolver());
+      setPathResolver(instance.getPathResolver());
+      setRuleFinder(instance.getRuleFinder());
+      setCxxBuckConfig(instance.getCxxBuckConfig());
+      setCxxPlatform(instance.getCxxPlatform());
+      addAllCxxPreprocessorInput(instance.getCxxPreprocessorInput());
+      putAllCompilerFlags(instance.getCompilerFlags());
+      Optional<SourcePath> prefixHeaderOptional = instance.getPrefixHeader();
+      if (prefixHeaderOptional.isPresent()) {
+        setPrefixHeader(prefixHeaderOptional);
+      }
+      Optional<SourcePath> precompiledHeaderOptional = instance.getPrecompiledHeader();
+      if (precompiledHeaderOptional.isPresent()) {
+        setPrecompiledHeader(precompiledHeaderOptional);
+      }
+      setPicType(instance.getPicType());
+      Optional<SymlinkTree> sandboxTreeOptional = instance.getSandboxTree();
+      if (sandboxTreeOptional.isPresent()) {
+        setSandboxTree(sandboxTreeOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractCxxSourceRuleFactory#getParams() params} attribute.
+     * @param params The value for params 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setParams(BuildRuleParams params) {
+      this.params = Preconditions.checkNotNull(params, "params");
+      initBits &= ~INIT_BIT_PARAMS;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractCxxSourceRuleFactory#getResolver() resolver} attribute.
+     * @param resolver The value for resolver 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setResolver(BuildRuleResolver resolver) {
+      this.resolver = Preconditions.checkNotNull(resolver, "resolver");
+      initBits &= ~INIT_BIT_RESOLVER;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractCxxSourceRuleFactory#getPathResolver() pathResolver} attribute.
+     * @param pathResolver The value for pathResolver 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPathResolver(SourcePathResolver pathResolver) {
+      this.pathResolver = Preconditions.checkNotNull(pathResolver, "pathResolver");
+      initBits &= ~INIT_BIT_PATH_RESOLVER;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractCxxSourceRuleFactory#getRuleFinder() ruleFinder} attribute.
+     * @param ruleFinder The value for ruleFinder 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRuleFinder(SourcePathRuleFinder ruleFinder) {
+      this.ruleFinder = Preconditions.checkNotNull(ruleFinder, "ruleFinder");
+      initBits &= ~INIT_BIT_RULE_FINDER;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractCxxSourceRuleFactory#getCxxBuckConfig() cxxBuckConfig} attribute.
+     * @param cxxBuckConfig The value for cxxBuckConfig 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCxxBuckConfig(CxxBuckConfig cxxBuckConfig) {
+      this.cxxBuckConfig = Preconditions.checkNotNull(cxxBuckConfig, "cxxBuckConfig");
+      initBits &= ~INIT_BIT_CXX_BUCK_CONFIG;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractCxxSourceRuleFactory#getCxxPlatform() cxxPlatform} attribute.
+     * @param cxxPlatform The value for cxxPlatform 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCxxPlatform(CxxPlatform cxxPlatform) {
+      this.cxxPlatform = Preconditions.checkNotNull(cxxPlatform, "cxxPlatform");
+      initBits &= ~INIT_BIT_CXX_PLATFORM;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractCxxSourceRuleFactory#getCxxPreprocessorInput() cxxPreprocessorInput} list.
+     * @param element A cxxPreprocessorInput element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addCxxPreprocessorInput(CxxPreprocessorInput element) {
+      this.cxxPreprocessorInput.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxSourceRuleFactory#getCxxPreprocessorInput() cxxPreprocessorInput} list.
+     * @param elements An array of cxxPreprocessorInput elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addCxxPreprocessorInput(CxxPreprocessorInput... elements) {
+      this.cxxPreprocessorInput.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractCxxSourceRuleFactory#getCxxPreprocessorInput() cxxPreprocessorInput} list.
+     * @param elements An iterable of cxxPreprocessorInput elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCxxPreprocessorInput(Iterable<? extends CxxPreprocessorInput> elements) {
+      this.cxxPreprocessorInput = ImmutableList.builder();
+      return addAllCxxPreprocessorInput(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxSourceRuleFactory#getCxxPreprocessorInput() cxxPreprocessorInput} list.
+     * @param elements An iterable of cxxPreprocessorInput elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllCxxPreprocessorInput(Iterable<? extends CxxPreprocessorInput> elements) {
+      this.cxxPreprocessorInput.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Put all mappings from the specified key to values for {@link AbstractCxxSourceRuleFactory#getCompilerFlags() compilerFlags} true. Nulls are not permitted
+     * @param key The key for compilerFlags
+     * @param values The values for compilerFlags
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putCompilerFlags(CxxSource.Type key, String... values) {
+      this.compilerFlags.putAll(key, Arrays.asList(values));
+      return this;
+    }
+
+    /**
+     * Put all mappings from the specified key to values for {@link AbstractCxxSourceRuleFactory#getCompilerFlags() compilerFlags} true. Nulls are not permitted
+     * @param key The key for compilerFlags
+     * @param values The values for compilerFlags
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllCompilerFlags(CxxSource.Type key, Iterable<String> values) {
+      this.compilerFlags.putAll(key, values);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractCxxSourceRuleFactory#getCompilerFlags() compilerFlags} map.
+     * @param key The key in the compilerFlags map
+     * @param value The associated value in the compilerFlags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putCompilerFlags(CxxSource.Type key, String value) {
+      this.compilerFlags.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractCxxSourceRuleFactory#getCompilerFlags() compilerFlags} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putCompilerFlags(Map.Entry<? extends CxxSource.Type, ? extends String> entry) {
+      this.compilerFlags.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AbstractCxxSourceRuleFactory#getCompilerFlags() compilerFlags} map. Nulls are not permitted
+     * @param compilerFlags The entries that will be added to the compilerFlags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCompilerFlags(Multimap<? extends CxxSource.Type, ? extends String> compilerFlags) {
+      this.compilerFlags = ImmutableMultimap.builder();
+      return putAllCompilerFlags(compilerFlags);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AbstractCxxSourceRuleFactory#getCompilerFlags() compilerFlags} map. Nulls are not permitted
+     * @param compilerFlags The entries that will be added to the compilerFlags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllCompilerFlags(Multimap<? extends CxxSource.Type, ? extends String> compilerFlags) {
+      this.compilerFlags.putAll(compilerFlags);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractCxxSourceRuleFactory#getPrefixHeader() prefixHeader} to prefixHeader.
+     * @param prefixHeader The value for prefixHeader
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPrefixHeader(SourcePath prefixHeader) {
+      this.prefixHeader = Preconditions.checkNotNull(prefixHeader, "prefixHeader");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractCxxSourceRuleFactory#getPrefixHeader() prefixHeader} to prefixHeader.
+     * @param prefixHeader The value for prefixHeader
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPrefixHeader(Optional<SourcePath> prefixHeader) {
+      this.prefixHeader = prefixHeader.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractCxxSourceRuleFactory#getPrecompiledHeader() precompiledHeader} to precompiledHeader.
+     * @param precompiledHeader The value for precompiledHeader
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPrecompiledHeader(SourcePath precompiledHeader) {
+      this.precompiledHeader = Preconditions.checkNotNull(precompiledHeader, "precompiledHeader");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractCxxSourceRuleFactory#getPrecompiledHeader() precompiledHeader} to precompiledHeader.
+     * @param precompiledHeader The value for precompiledHeader
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPrecompiledHeader(Optional<SourcePath> precompiledHeader) {
+      this.precompiledHeader = precompiledHeader.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractCxxSourceRuleFactory#getPicType() picType} attribute.
+     * @param picType The value for picType 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPicType(AbstractCxxSourceRuleFactory.PicType picType) {
+      this.picType = Preconditions.checkNotNull(picType, "picType");
+      initBits &= ~INIT_BIT_PIC_TYPE;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractCxxSourceRuleFactory#getSandboxTree() sandboxTree} to sandboxTree.
+     * @param sandboxTree The value for sandboxTree
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSandboxTree(SymlinkTree sandboxTree) {
+      this.sandboxTree = Preconditions.checkNotNull(sandboxTree, "sandboxTree");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractCxxSourceRuleFactory#getSandboxTree() sandboxTree} to sandboxTree.
+     * @param sandboxTree The value for sandboxTree
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSandboxTree(Optional<SymlinkTree> sandboxTree) {
+      this.sandboxTree = sandboxTree.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link CxxSourceRuleFactory CxxSourceRuleFactory}.
+     * @return An immutable instance of CxxSourceRuleFactory
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public CxxSourceRuleFactory build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return CxxSourceRuleFactory.validate(new CxxSourceRuleFactory(
+          null,
+          params,
+          resolver,
+          pathResolver,
+          ruleFinder,
+          cxxBuckConfig,
+          cxxPlatform,
+          cxxPreprocessorInput.build(),
+          compilerFlags.build(),
+          prefixHeader,
+          precompiledHeader,
+          picType,
+          sandboxTree));
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_PARAMS) != 0) attributes.add("params");
+      if ((initBits & INIT_BIT_RESOLVER) != 0) attributes.add("resolver");
+      if ((initBits & INIT_BIT_PATH_RESOLVER) != 0) attributes.add("pathResolver");
+      if ((initBits & INIT_BIT_RULE_FINDER) != 0) attributes.add("ruleFinder");
+      if ((initBits & INIT_BIT_CXX_BUCK_CONFIG) != 0) attributes.add("cxxBuckConfig");
+      if ((initBits & INIT_BIT_CXX_PLATFORM) != 0) attributes.add("cxxPlatform");
+      if ((initBits & INIT_BIT_PIC_TYPE) != 0) attributes.add("picType");
+      return "Cannot build CxxSourceRuleFactory, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,139 @@
+package com.facebook.buck.cxx;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * {@code CxxToolFlags} implementation where the flags are stored as composed Iterables.
+ * This improves sharing and reduce copying and memory pressure.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractIterableCxxToolFlags"})
+@Immutable
+public final class IterableCxxToolFlags extends AbstractIterableCxxToolFlags {
+  private final Iterable<String> platformFlags;
+  private final Iterable<String> ruleFlags;
+
+  private IterableCxxToolFlags(Iterable<String> platformFlags, Iterable<String> ruleFlags) {
+    this.platformFlags = Preconditions.checkNotNull(platformFlags, "platformFlags");
+    this.ruleFlags = Preconditions.checkNotNull(ruleFlags, "ruleFlags");
+  }
+
+  private IterableCxxToolFlags(
+      IterableCxxToolFlags original,
+      Iterable<String> platformFlags,
+      Iterable<String> ruleFlags) {
+    this.platformFlags = platformFlags;
+    this.ruleFlags = ruleFlags;
+  }
+
+  /**
+   * @return The value of the {@code platformFlags} attribute
+   */
+  @Override
+  public Iterable<String> getPlatformFlags() {
+    return platformFlags;
+  }
+
+  /**
+   * @return The value of the {@code ruleFlags} attribute
+   */
+  @Override
+  public Iterable<String> getRuleFlags() {
+    return ruleFlags;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractIterableCxxToolFlags#getPlatformFlags() platformFlags} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for platformFlags
+   * @return A modified copy of the {@code this} object
+   */
+  public final IterableCxxToolFlags withPlatformFlags(Iterable<String> value) {
+    if (this.platformFlags == value) return this;
+    Iterable<String> newValue = Preconditions.checkNotNull(value, "platformFlags");
+    return new IterableCxxToolFlags(this, newValue, this.ruleFlags);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractIterableCxxToolFlags#getRuleFlags() ruleFlags} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for ruleFlags
+   * @return A modified copy of the {@code this} object
+   */
+  public final IterableCxxToolFlags withRuleFlags(Iterable<String> value) {
+    if (this.ruleFlags == value) return this;
+    Iterable<String> newValue = Preconditions.checkNotNull(value, "ruleFlags");
+    return new IterableCxxToolFlags(this, this.platformFlags, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code IterableCxxToolFlags} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof IterableCxxToolFlags
+        && equalTo((IterableCxxToolFlags) another);
+  }
+
+  private boolean equalTo(IterableCxxToolFlags another) {
+    return platformFlags.equals(another.platformFlags)
+        && ruleFlags.equals(another.ruleFlags);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code platformFlags}, {@code ruleFlags}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + platformFlags.hashCode();
+    h = h * 17 + ruleFlags.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code IterableCxxToolFlags} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("IterableCxxToolFlags")
+        .omitNullValues()
+        .add("platformFlags", platformFlags)
+        .add("ruleFlags", ruleFlags)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code IterableCxxToolFlags} instance.
+   * @param platformFlags The value for the {@code platformFlags} attribute
+   * @param ruleFlags The value for the {@code ruleFlags} attribute
+   * @return An immutable IterableCxxToolFlags instance
+   */
+  public static IterableCxxToolFlags of(Iterable<String> platformFlags, Iterable<String> ruleFlags) {
+    return new IterableCxxToolFlags(platformFlags, ruleFlags);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractIterableCxxToolFlags} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable IterableCxxToolFlags instance
+   */
+  static IterableCxxToolFlags copyOf(AbstractIterableCxxToolFlags instance) {
+    if (instance instanceof IterableCxxToolFlags) {
+      return (IterableCxxToolFlags) instance;
+    }
+    return IterableCxxToolFlags.of(instance.getPlatformFlags(), instance.getRuleFlags());
+  }
+}
@@ -0,0 +1,159 @@
+package com.facebook.buck.cxx;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Objects;
+import com.google.common.base.Preconditions;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractNativeLinkTargetMode}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code NativeLinkTargetMode.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractNativeLinkTargetMode"})
+@Immutable
+public final class NativeLinkTargetMode extends AbstractNativeLinkTargetMode {
+  private final Linker.LinkType type;
+  private final @Nullable String libraryName;
+
+  private NativeLinkTargetMode(Linker.LinkType type, Optional<String> libraryName) {
+    this.type = Preconditions.checkNotNull(type, "type");
+    this.libraryName = libraryName.orElse(null);
+  }
+
+  private NativeLinkTargetMode(
+      NativeLinkTargetMode original,
+      Linker.LinkType type,
+      @Nullable String libraryName) {
+    this.type = type;
+    this.libraryName = libraryName;
+  }
+
+  /**
+   * @return the link type.
+   */
+  @Override
+  public Linker.LinkType getType() {
+    return type;
+  }
+
+  /**
+   * @return the name of the library, if applicable.
+   */
+  @Override
+  public Optional<String> getLibraryName() {
+    return Optional.ofNullable(libraryName);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractNativeLinkTargetMode#getType() type} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for type
+   * @return A modified copy of the {@code this} object
+   */
+  public final NativeLinkTargetMode withType(Linker.LinkType value) {
+    if (this.type == value) return this;
+    Linker.LinkType newValue = Preconditions.checkNotNull(value, "type");
+    return validate(new NativeLinkTargetMode(this, newValue, this.libraryName));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractNativeLinkTargetMode#getLibraryName() libraryName} attribute.
+   * @param value The value for libraryName
+   * @return A modified copy of {@code this} object
+   */
+  public final NativeLinkTargetMode withLibraryName(String value) {
+    @Nullable String newValue = Preconditions.checkNotNull(value, "libraryName");
+    if (Objects.equal(this.libraryName, newValue)) return this;
+    return validate(new NativeLinkTargetMode(this, this.type, newValue));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractNativeLinkTargetMode#getLibraryName() libraryName} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for libraryName
+   * @return A modified copy of {@code this} object
+   */
+  public final NativeLinkTargetMode withLibraryName(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equal(this.libraryName, value)) return this;
+    return validate(new NativeLinkTargetMode(this, this.type, value));
+  }
+
+  /**
+   * This instance is equal to all instances of {@code NativeLinkTargetMode} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof NativeLinkTargetMode
+        && equalTo((NativeLinkTargetMode) another);
+  }
+
+  private boolean equalTo(NativeLinkTargetMode another) {
+    return type.equals(another.type)
+        && Objects.equal(libraryName, another.libraryName);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code type}, {@code libraryName}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + type.hashCode();
+    h = h * 17 + Objects.hashCode(libraryName);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code NativeLinkTargetMode} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("NativeLinkTargetMode")
+        .omitNullValues()
+        .add("type", type)
+        .add("libraryName", libraryName)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code NativeLinkTargetMode} instance.
+   * @param type The value for the {@code type} attribute
+   * @param libraryName The value for the {@code libraryName} attribute
+   * @return An immutable NativeLinkTargetMode instance
+   */
+  public static NativeLinkTargetMode of(Linker.LinkType type, Optional<String> libraryName) {
+    return validate(new NativeLinkTargetMode(type, libraryName));
+  }
+
+  private static NativeLinkTargetMode validate(NativeLinkTargetMode instance) {
+    instance.check();
+    return instance;
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractNativeLinkTargetMode} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable NativeLinkTargetMode instance
+   */
+  static NativeLinkTargetMode copyOf(AbstractNativeLinkTargetMode instance) {
+    if (instance instanceof NativeLinkTargetMode) {
+      return (NativeLinkTargetMode) instance;
+    }
+    return NativeLinkTargetMode.of(instance.getType(), instance.getLibraryName());
+  }
+}
@@ -0,0 +1,163 @@
+package com.facebook.buck.cxx;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractCxxSourceRuleFactory.AbstractPreprocessorDelegateCacheKey}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code PreprocessorDelegateCacheKey.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractCxxSourceRuleFactory.AbstractPreprocessorDelegateCacheKey"})
+@Immutable
+public final class PreprocessorDelegateCacheKey
+    implements AbstractCxxSourceRuleFactory.AbstractPreprocessorDelegateCacheKey {
+  private final CxxSource.Type sourceType;
+  private final ImmutableList<String> sourceFlags;
+
+  private PreprocessorDelegateCacheKey(CxxSource.Type sourceType, Iterable<String> sourceFlags) {
+    this.sourceType = Preconditions.checkNotNull(sourceType, "sourceType");
+    this.sourceFlags = ImmutableList.copyOf(sourceFlags);
+  }
+
+  private PreprocessorDelegateCacheKey(
+      PreprocessorDelegateCacheKey original,
+      CxxSource.Type sourceType,
+      ImmutableList<String> sourceFlags) {
+    this.sourceType = sourceType;
+    this.sourceFlags = sourceFlags;
+  }
+
+  /**
+   * @return The value of the {@code sourceType} attribute
+   */
+  @Override
+  public CxxSource.Type getSourceType() {
+    return sourceType;
+  }
+
+  /**
+   * @return The value of the {@code sourceFlags} attribute
+   */
+  @Override
+  public ImmutableList<String> getSourceFlags() {
+    return sourceFlags;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCxxSourceRuleFactory.AbstractPreprocessorDelegateCacheKey#getSourceType() sourceType} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for sourceType
+   * @return A modified copy of the {@code this} object
+   */
+  public final PreprocessorDelegateCacheKey withSourceType(CxxSource.Type value) {
+    if (this.sourceType == value) return this;
+    CxxSource.Type newValue = Preconditions.checkNotNull(value, "sourceType");
+    return new PreprocessorDelegateCacheKey(this, newValue, this.sourceFlags);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractCxxSourceRuleFactory.AbstractPreprocessorDelegateCacheKey#getSourceFlags() sourceFlags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PreprocessorDelegateCacheKey withSourceFlags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new PreprocessorDelegateCacheKey(this, this.sourceType, newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractCxxSourceRuleFactory.AbstractPreprocessorDelegateCacheKey#getSourceFlags() sourceFlags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of sourceFlags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PreprocessorDelegateCacheKey withSourceFlags(Iterable<String> elements) {
+    if (this.sourceFlags == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new PreprocessorDelegateCacheKey(this, this.sourceType, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code PreprocessorDelegateCacheKey} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof PreprocessorDelegateCacheKey
+        && equalTo((PreprocessorDelegateCacheKey) another);
+  }
+
+  private boolean equalTo(PreprocessorDelegateCacheKey another) {
+    return sourceType.equals(another.sourceType)
+        && sourceFlags.equals(another.sourceFlags);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code sourceType}, {@code sourceFlags}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + sourceType.hashCode();
+    h = h * 17 + sourceFlags.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code PreprocessorDelegateCacheKey} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("PreprocessorDelegateCacheKey")
+        .omitNullValues()
+        .add("sourceType", sourceType)
+        .add("sourceFlags", sourceFlags)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code PreprocessorDelegateCacheKey} instance.
+   * @param sourceType The value for the {@code sourceType} attribute
+   * @param sourceFlags The value for the {@code sourceFlags} attribute
+   * @return An immutable PreprocessorDelegateCacheKey instance
+   */
+  public static PreprocessorDelegateCacheKey of(CxxSource.Type sourceType, ImmutableList<String> sourceFlags) {
+    return of(sourceType, (Iterable<String>) sourceFlags);
+  }
+
+  /**
+   * Construct a new immutable {@code PreprocessorDelegateCacheKey} instance.
+   * @param sourceType The value for the {@code sourceType} attribute
+   * @param sourceFlags The value for the {@code sourceFlags} attribute
+   * @return An immutable PreprocessorDelegateCacheKey instance
+   */
+  public static PreprocessorDelegateCacheKey of(CxxSource.Type sourceType, Iterable<String> sourceFlags) {
+    return new PreprocessorDelegateCacheKey(sourceType, sourceFlags);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractCxxSourceRuleFactory.AbstractPreprocessorDelegateCacheKey} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable PreprocessorDelegateCacheKey instance
+   */
+  static PreprocessorDelegateCacheKey copyOf(AbstractCxxSourceRuleFactory.AbstractPreprocessorDelegateCacheKey instance) {
+    if (instance instanceof PreprocessorDelegateCacheKey) {
+      return (PreprocessorDelegateCacheKey) instance;
+    }
+    return PreprocessorDelegateCacheKey.of(instance.getSourceType(), instance.getSourceFlags());
+  }
+}
@@ -0,0 +1,463 @@
+package com.facebook.buck.doctor.config;
+
+import com.facebook.buck.model.BuildId;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Objects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import java.util.List;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractDoctorEndpointRequest}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code DoctorEndpointRequest.builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code DoctorEndpointRequest.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractDoctorEndpointRequest"})
+@Immutable
+public final class DoctorEndpointRequest extends AbstractDoctorEndpointRequest {
+  private final @Nullable BuildId buildId;
+  private final String logDirPath;
+  private final @Nullable String machineReadableLog;
+  private final @Nullable String rageMessage;
+  private final @Nullable String rageUrl;
+
+  private DoctorEndpointRequest(
+      Optional<BuildId> buildId,
+      String logDirPath,
+      Optional<String> machineReadableLog,
+      Optional<String> rageMessage,
+      Optional<String> rageUrl) {
+    this.buildId = buildId.orElse(null);
+    this.logDirPath = Preconditions.checkNotNull(logDirPath, "logDirPath");
+    this.machineReadableLog = machineReadableLog.orElse(null);
+    this.rageMessage = rageMessage.orElse(null);
+    this.rageUrl = rageUrl.orElse(null);
+  }
+
+  private DoctorEndpointRequest(
+      DoctorEndpointRequest original,
+      @Nullable BuildId buildId,
+      String logDirPath,
+      @Nullable String machineReadableLog,
+      @Nullable String rageMessage,
+      @Nullable String rageUrl) {
+    this.buildId = buildId;
+    this.logDirPath = logDirPath;
+    this.machineReadableLog = machineReadableLog;
+    this.rageMessage = rageMessage;
+    this.rageUrl = rageUrl;
+  }
+
+  /**
+   * @return The value of the {@code buildId} attribute
+   */
+  @Override
+  public Optional<BuildId> getBuildId() {
+    return Optional.ofNullable(buildId);
+  }
+
+  /**
+   * @return the directory where all logs are under.
+   */
+  @Override
+  public String getLogDirPath() {
+    return logDirPath;
+  }
+
+  /**
+   * For more information how MachineReadableLog works check
+   * {@link com.facebook.buck.event.listener.MachineReadableLoggerListener}.
+   * @return the contents of the machine readable logs. Each line marks a different key to json.
+   */
+  @Override
+  public Optional<String> getMachineReadableLog() {
+    return Optional.ofNullable(machineReadableLog);
+  }
+
+  /**
+   * @return the contents of the message that rage returned.
+   */
+  @Override
+  public Optional<String> getRageMessage() {
+    return Optional.ofNullable(rageMessage);
+  }
+
+  /**
+   * @return if rage command returned a redirect link this will be saved here.
+   */
+  @Override
+  public Optional<String> getRageUrl() {
+    return Optional.ofNullable(rageUrl);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractDoctorEndpointRequest#getBuildId() buildId} attribute.
+   * @param value The value for buildId
+   * @return A modified copy of {@code this} object
+   */
+  public final DoctorEndpointRequest withBuildId(BuildId value) {
+    @Nullable BuildId newValue = Preconditions.checkNotNull(value, "buildId");
+    if (this.buildId == newValue) return this;
+    return new DoctorEndpointRequest(this, newValue, this.logDirPath, this.machineReadableLog, this.rageMessage, this.rageUrl);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractDoctorEndpointRequest#getBuildId() buildId} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for buildId
+   * @return A modified copy of {@code this} object
+   */
+  public final DoctorEndpointRequest withBuildId(Optional<BuildId> optional) {
+    @Nullable BuildId value = optional.orElse(null);
+    if (this.buildId == value) return this;
+    return new DoctorEndpointRequest(this, value, this.logDirPath, this.machineReadableLog, this.rageMessage, this.rageUrl);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractDoctorEndpointRequest#getLogDirPath() logDirPath} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for logDirPath
+   * @return A modified copy of the {@code this} object
+   */
+  public final DoctorEndpointRequest withLogDirPath(String value) {
+    if (this.logDirPath.equals(value)) return this;
+    String newValue = Preconditions.checkNotNull(value, "logDirPath");
+    return new DoctorEndpointRequest(this, this.buildId, newValue, this.machineReadableLog, this.rageMessage, this.rageUrl);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractDoctorEndpointRequest#getMachineReadableLog() machineReadableLog} attribute.
+   * @param value The value for machineReadableLog
+   * @return A modified copy of {@code this} object
+   */
+  public final DoctorEndpointRequest withMachineReadableLog(String value) {
+    @Nullable String newValue = Preconditions.checkNotNull(value, "machineReadableLog");
+    if (Objects.equal(this.machineReadableLog, newValue)) return this;
+    return new DoctorEndpointRequest(this, this.buildId, this.logDirPath, newValue, this.rageMessage, this.rageUrl);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractDoctorEndpointRequest#getMachineReadableLog() machineReadableLog} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for machineReadableLog
+   * @return A modified copy of {@code this} object
+   */
+  public final DoctorEndpointRequest withMachineReadableLog(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equal(this.machineReadableLog, value)) return this;
+    return new DoctorEndpointRequest(this, this.buildId, this.logDirPath, value, this.rageMessage, this.rageUrl);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractDoctorEndpointRequest#getRageMessage() rageMessage} attribute.
+   * @param value The value for rageMessage
+   * @return A modified copy of {@code this} object
+   */
+  public final DoctorEndpointRequest withRageMessage(String value) {
+    @Nullable String newValue = Preconditions.checkNotNull(value, "rageMessage");
+    if (Objects.equal(this.rageMessage, newValue)) return this;
+    return new DoctorEndpointRequest(this, this.buildId, this.logDirPath, this.machineReadableLog, newValue, this.rageUrl);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractDoctorEndpointRequest#getRageMessage() rageMessage} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for rageMessage
+   * @return A modified copy of {@code this} object
+   */
+  public final DoctorEndpointRequest withRageMessage(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equal(this.rageMessage, value)) return this;
+    return new DoctorEndpointRequest(this, this.buildId, this.logDirPath, this.machineReadableLog, value, this.rageUrl);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractDoctorEndpointRequest#getRageUrl() rageUrl} attribute.
+   * @param value The value for rageUrl
+   * @return A modified copy of {@code this} object
+   */
+  public final DoctorEndpointRequest withRageUrl(String value) {
+    @Nullable String newValue = Preconditions.checkNotNull(value, "rageUrl");
+    if (Objects.equal(this.rageUrl, newValue)) return this;
+    return new DoctorEndpointRequest(this, this.buildId, this.logDirPath, this.machineReadableLog, this.rageMessage, newValue);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractDoctorEndpointRequest#getRageUrl() rageUrl} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for rageUrl
+   * @return A modified copy of {@code this} object
+   */
+  public final DoctorEndpointRequest withRageUrl(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equal(this.rageUrl, value)) return this;
+    return new DoctorEndpointRequest(this, this.buildId, this.logDirPath, this.machineReadableLog, this.rageMessage, value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code DoctorEndpointRequest} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof DoctorEndpointRequest
+        && equalTo((DoctorEndpointRequest) another);
+  }
+
+  private boolean equalTo(DoctorEndpointRequest another) {
+    return Objects.equal(buildId, another.buildId)
+        && logDirPath.equals(another.logDirPath)
+        && Objects.equal(machineReadableLog, another.machineReadableLog)
+        && Objects.equal(rageMessage, another.rageMessage)
+        && Objects.equal(rageUrl, another.rageUrl);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code buildId}, {@code logDirPath}, {@code machineReadableLog}, {@code rageMessage}, {@code rageUrl}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + Objects.hashCode(buildId);
+    h = h * 17 + logDirPath.hashCode();
+    h = h * 17 + Objects.hashCode(machineReadableLog);
+    h = h * 17 + Objects.hashCode(rageMessage);
+    h = h * 17 + Objects.hashCode(rageUrl);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DoctorEndpointRequest} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DoctorEndpointRequest")
+        .omitNullValues()
+        .add("buildId", buildId)
+        .add("logDirPath", logDirPath)
+        .add("machineReadableLog", machineReadableLog)
+        .add("rageMessage", rageMessage)
+        .add("rageUrl", rageUrl)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code DoctorEndpointRequest} instance.
+   * @param buildId The value for the {@code buildId} attribute
+   * @param logDirPath The value for the {@code logDirPath} attribute
+   * @param machineReadableLog The value for the {@code machineReadableLog} attribute
+   * @param rageMessage The value for the {@code rageMessage} attribute
+   * @param rageUrl The value for the {@code rageUrl} attribute
+   * @return An immutable DoctorEndpointRequest instance
+   */
+  public static DoctorEndpointRequest of(Optional<BuildId> buildId, String logDirPath, Optional<String> machineReadableLog, Optional<String> rageMessage, Optional<String> rageUrl) {
+    return new DoctorEndpointRequest(buildId, logDirPath, machineReadableLog, rageMessage, rageUrl);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractDoctorEndpointRequest} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable DoctorEndpointRequest instance
+   */
+  static DoctorEndpointRequest copyOf(AbstractDoctorEndpointRequest instance) {
+    if (instance instanceof DoctorEndpointRequest) {
+      return (DoctorEndpointRequest) instance;
+    }
+    return DoctorEndpointRequest.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link DoctorEndpointRequest DoctorEndpointRequest}.
+   * @return A new DoctorEndpointRequest builder
+   */
+  public static DoctorEndpointRequest.Builder builder() {
+    return new DoctorEndpointRequest.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link DoctorEndpointRequest DoctorEndpointRequest}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_LOG_DIR_PATH = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable BuildId buildId;
+    private @Nullable String logDirPath;
+    private @Nullable String machineReadableLog;
+    private @Nullable String rageMessage;
+    private @Nullable String rageUrl;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code DoctorEndpointRequest} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(DoctorEndpointRequest instance) {
+      return from((AbstractDoctorEndpointRequest) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractDoctorEndpointRequest} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractDoctorEndpointRequest instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      Optional<BuildId> buildIdOptional = instance.getBuildId();
+      if (buildIdOptional.isPresent()) {
+        setBuildId(buildIdOptional);
+      }
+      setLogDirPath(instance.getLogDirPath());
+      Optional<String> machineReadableLogOptional = instance.getMachineReadableLog();
+      if (machineReadableLogOptional.isPresent()) {
+        setMachineReadableLog(machineReadableLogOptional);
+      }
+      Optional<String> rageMessageOptional = instance.getRageMessage();
+      if (rageMessageOptional.isPresent()) {
+        setRageMessage(rageMessageOptional);
+      }
+      Optional<String> rageUrlOptional = instance.getRageUrl();
+      if (rageUrlOptional.isPresent()) {
+        setRageUrl(rageUrlOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDoctorEndpointRequest#getBuildId() buildId} to buildId.
+     * @param buildId The value for buildId
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setBuildId(BuildId buildId) {
+      this.buildId = Preconditions.checkNotNull(buildId, "buildId");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDoctorEndpointRequest#getBuildId() buildId} to buildId.
+     * @param buildId The value for buildId
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBuildId(Optional<BuildId> buildId) {
+      this.buildId = buildId.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractDoctorEndpointRequest#getLogDirPath() logDirPath} attribute.
+     * @param logDirPath The value for logDirPath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLogDirPath(String logDirPath) {
+      this.logDirPath = Preconditions.checkNotNull(logDirPath, "logDirPath");
+      initBits &= ~INIT_BIT_LOG_DIR_PATH;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDoctorEndpointRequest#getMachineReadableLog() machineReadableLog} to machineReadableLog.
+     * @param machineReadableLog The value for machineReadableLog
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setMachineReadableLog(String machineReadableLog) {
+      this.machineReadableLog = Preconditions.checkNotNull(machineReadableLog, "machineReadableLog");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDoctorEndpointRequest#getMachineReadableLog() machineReadableLog} to machineReadableLog.
+     * @param machineReadableLog The value for machineReadableLog
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setMachineReadableLog(Optional<String> machineReadableLog) {
+      this.machineReadableLog = machineReadableLog.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDoctorEndpointRequest#getRageMessage() rageMessage} to rageMessage.
+     * @param rageMessage The value for rageMessage
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setRageMessage(String rageMessage) {
+      this.rageMessage = Preconditions.checkNotNull(rageMessage, "rageMessage");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDoctorEndpointRequest#getRageMessage() rageMessage} to rageMessage.
+     * @param rageMessage The value for rageMessage
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRageMessage(Optional<String> rageMessage) {
+      this.rageMessage = rageMessage.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDoctorEndpointRequest#getRageUrl() rageUrl} to rageUrl.
+     * @param rageUrl The value for rageUrl
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setRageUrl(String rageUrl) {
+      this.rageUrl = Preconditions.checkNotNull(rageUrl, "rageUrl");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractDoctorEndpointRequest#getRageUrl() rageUrl} to rageUrl.
+     * @param rageUrl The value for rageUrl
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRageUrl(Optional<String> rageUrl) {
+      this.rageUrl = rageUrl.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link DoctorEndpointRequest DoctorEndpointRequest}.
+     * @return An immutable instance of DoctorEndpointRequest
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public DoctorEndpointRequest build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new DoctorEndpointRequest(null, buildId, logDirPath, machineReadableLog, rageMessage, rageUrl);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_LOG_DIR_PATH) != 0) attributes.add("logDirPath");
+      return "Cannot build DoctorEndpointRequest, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,287 @@
+package com.facebook.buck.go;
+
+import com.facebook.buck.cxx.CxxPlatform;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Objects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import java.util.List;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractGoPlatform}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code GoPlatform.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractGoPlatform"})
+@Immutable
+public final class GoPlatform extends AbstractGoPlatform {
+  private final String goOs;
+  private final String goArch;
+  private final @Nullable CxxPlatform cxxPlatform;
+
+  private GoPlatform(
+      String goOs,
+      String goArch,
+      @Nullable CxxPlatform cxxPlatform) {
+    this.goOs = goOs;
+    this.goArch = goArch;
+    this.cxxPlatform = cxxPlatform;
+  }
+
+  /**
+   * @return The value of the {@code goOs} attribute
+   */
+  @Override
+  public String getGoOs() {
+    return goOs;
+  }
+
+  /**
+   * @return The value of the {@code goArch} attribute
+   */
+  @Override
+  public String getGoArch() {
+    return goArch;
+  }
+
+  /**
+   * @return The value of the {@code cxxPlatform} attribute
+   */
+  @Override
+  public Optional<CxxPlatform> getCxxPlatform() {
+    return Optional.ofNullable(cxxPlatform);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractGoPlatform#getGoOs() goOs} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for goOs
+   * @return A modified copy of the {@code this} object
+   */
+  public final GoPlatform withGoOs(String value) {
+    if (this.goOs.equals(value)) return this;
+    String newValue = Preconditions.checkNotNull(value, "goOs");
+    return new GoPlatform(newValue, this.goArch, this.cxxPlatform);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractGoPlatform#getGoArch() goArch} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for goArch
+   * @return A modified copy of the {@code this} object
+   */
+  public final GoPlatform withGoArch(String value) {
+    if (this.goArch.equals(value)) return this;
+    String newValue = Preconditions.checkNotNull(value, "goArch");
+    return new GoPlatform(this.goOs, newValue, this.cxxPlatform);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractGoPlatform#getCxxPlatform() cxxPlatform} attribute.
+   * @param value The value for cxxPlatform
+   * @return A modified copy of {@code this} object
+   */
+  public final GoPlatform withCxxPlatform(CxxPlatform value) {
+    @Nullable CxxPlatform newValue = Preconditions.checkNotNull(value, "cxxPlatform");
+    if (this.cxxPlatform == newValue) return this;
+    return new GoPlatform(this.goOs, this.goArch, newValue);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractGoPlatform#getCxxPlatform() cxxPlatform} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for cxxPlatform
+   * @return A modified copy of {@code this} object
+   */
+  public final GoPlatform withCxxPlatform(Optional<CxxPlatform> optional) {
+    @Nullable CxxPlatform value = optional.orElse(null);
+    if (this.cxxPlatform == value) return this;
+    return new GoPlatform(this.goOs, this.goArch, value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code GoPlatform} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof GoPlatform
+        && equalTo((GoPlatform) another);
+  }
+
+  private boolean equalTo(GoPlatform another) {
+    return goOs.equals(another.goOs)
+        && goArch.equals(another.goArch)
+        && Objects.equal(cxxPlatform, another.cxxPlatform);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code goOs}, {@code goArch}, {@code cxxPlatform}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + goOs.hashCode();
+    h = h * 17 + goArch.hashCode();
+    h = h * 17 + Objects.hashCode(cxxPlatform);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code GoPlatform} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("GoPlatform")
+        .omitNullValues()
+        .add("goOs", goOs)
+        .add("goArch", goArch)
+        .add("cxxPlatform", cxxPlatform)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractGoPlatform} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable GoPlatform instance
+   */
+  static GoPlatform copyOf(AbstractGoPlatform instance) {
+    if (instance instanceof GoPlatform) {
+      return (GoPlatform) instance;
+    }
+    return GoPlatform.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link GoPlatform GoPlatform}.
+   * @return A new GoPlatform builder
+   */
+  public static GoPlatform.Builder builder() {
+    return new GoPlatform.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link GoPlatform GoPlatform}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_GO_OS = 0x1L;
+    private static final long INIT_BIT_GO_ARCH = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable String goOs;
+    private @Nullable String goArch;
+    private @Nullable CxxPlatform cxxPlatform;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code GoPlatform} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(GoPlatform instance) {
+      return from((AbstractGoPlatform) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractGoPlatform} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractGoPlatform instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      setGoOs(instance.getGoOs());
+      setGoArch(instance.getGoArch());
+      Optional<CxxPlatform> cxxPlatformOptional = instance.getCxxPlatform();
+      if (cxxPlatformOptional.isPresent()) {
+        setCxxPlatform(cxxPlatformOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractGoPlatform#getGoOs() goOs} attribute.
+     * @param goOs The value for goOs 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setGoOs(String goOs) {
+      this.goOs = Preconditions.checkNotNull(goOs, "goOs");
+      initBits &= ~INIT_BIT_GO_OS;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractGoPlatform#getGoArch() goArch} attribute.
+     * @param goArch The value for goArch 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setGoArch(String goArch) {
+      this.goArch = Preconditions.checkNotNull(goArch, "goArch");
+      initBits &= ~INIT_BIT_GO_ARCH;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractGoPlatform#getCxxPlatform() cxxPlatform} to cxxPlatform.
+     * @param cxxPlatform The value for cxxPlatform
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCxxPlatform(CxxPlatform cxxPlatform) {
+      this.cxxPlatform = Preconditions.checkNotNull(cxxPlatform, "cxxPlatform");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractGoPlatform#getCxxPlatform() cxxPlatform} to cxxPlatform.
+     * @param cxxPlatform The value for cxxPlatform
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCxxPlatform(Optional<CxxPlatform> cxxPlatform) {
+      this.cxxPlatform = cxxPlatform.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link GoPlatform GoPlatform}.
+     * @return An immutable instance of GoPlatform
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public GoPlatform build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new GoPlatform(goOs, goArch, cxxPlatform);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_GO_OS) != 0) attributes.add("goOs");
+      if ((initBits & INIT_BIT_GO_ARCH) != 0) attributes.add("goArch");
+      return "Cannot build GoPlatform, some of required attributes are not set " + attributes;
+    }
+  }
+}
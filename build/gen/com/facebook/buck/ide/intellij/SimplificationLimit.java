@@ -0,0 +1,191 @@
+package com.facebook.buck.ide.intellij;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import java.util.List;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link IjSourceRootSimplifier.AbstractSimplificationLimit}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code SimplificationLimit.builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code SimplificationLimit.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "IjSourceRootSimplifier.AbstractSimplificationLimit"})
+@Immutable
+public final class SimplificationLimit
+    extends IjSourceRootSimplifier.AbstractSimplificationLimit {
+  private final int value;
+
+  private SimplificationLimit(int value) {
+    this.value = value;
+  }
+
+  /**
+   * @return The value of the {@code value} attribute
+   */
+  @Override
+  public int getValue() {
+    return value;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link IjSourceRootSimplifier.AbstractSimplificationLimit#getValue() value} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for value
+   * @return A modified copy of the {@code this} object
+   */
+  public final SimplificationLimit withValue(int value) {
+    if (this.value == value) return this;
+    return new SimplificationLimit(value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code SimplificationLimit} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof SimplificationLimit
+        && equalTo((SimplificationLimit) another);
+  }
+
+  private boolean equalTo(SimplificationLimit another) {
+    return value == another.value;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code value}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + value;
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code SimplificationLimit} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("SimplificationLimit")
+        .omitNullValues()
+        .add("value", value)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code SimplificationLimit} instance.
+   * @param value The value for the {@code value} attribute
+   * @return An immutable SimplificationLimit instance
+   */
+  public static SimplificationLimit of(int value) {
+    return new SimplificationLimit(value);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link IjSourceRootSimplifier.AbstractSimplificationLimit} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable SimplificationLimit instance
+   */
+  static SimplificationLimit copyOf(IjSourceRootSimplifier.AbstractSimplificationLimit instance) {
+    if (instance instanceof SimplificationLimit) {
+      return (SimplificationLimit) instance;
+    }
+    return SimplificationLimit.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link SimplificationLimit SimplificationLimit}.
+   * @return A new SimplificationLimit builder
+   */
+  public static SimplificationLimit.Builder builder() {
+    return new SimplificationLimit.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link SimplificationLimit SimplificationLimit}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_VALUE = 0x1L;
+    private long initBits = 0x1L;
+
+    private int value;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code SimplificationLimit} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(SimplificationLimit instance) {
+      return from((IjSourceRootSimplifier.AbstractSimplificationLimit) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractSimplificationLimit} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(IjSourceRootSimplifier.AbstractSimplificationLimit instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      setValue(instance.getValue());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link IjSourceRootSimplifier.AbstractSimplificationLimit#getValue() value} attribute.
+     * @param value The value for value 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setValue(int value) {
+      this.value = value;
+      initBits &= ~INIT_BIT_VALUE;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link SimplificationLimit SimplificationLimit}.
+     * @return An immutable instance of SimplificationLimit
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public SimplificationLimit build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new SimplificationLimit(value);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_VALUE) != 0) attributes.add("value");
+      return "Cannot build SimplificationLimit, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,1951 @@
+package com.facebook.buck.ide.intellij.model;
+
+import com.facebook.buck.cli.BuckConfig;
+import com.facebook.buck.ide.intellij.aggregation.AggregationMode;
+import com.facebook.buck.jvm.java.JavaBuckConfig;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Objects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractIjProjectConfig}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code IjProjectConfig.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractIjProjectConfig"})
+@Immutable
+public final class IjProjectConfig extends AbstractIjProjectConfig {
+  private final JavaBuckConfig javaBuckConfig;
+  private final BuckConfig buckConfig;
+  private final boolean autogenerateAndroidFacetSourcesEnabled;
+  private final @Nullable String projectJdkName;
+  private final @Nullable String projectJdkType;
+  private final @Nullable String androidModuleSdkName;
+  private final @Nullable String androidModuleSdkType;
+  private final @Nullable String intellijModuleSdkName;
+  private final ImmutableSet<String> intellijSdkTargets;
+  private final @Nullable String javaModuleSdkName;
+  private final @Nullable String javaModuleSdkType;
+  private final @Nullable String projectLanguageLevel;
+  private final ImmutableList<String> excludedResourcePaths;
+  private final ImmutableMap<String, String> depToGeneratedSourcesMap;
+  private final @Nullable Path androidManifest;
+  private final boolean cleanerEnabled;
+  private final boolean removingUnusedLibrariesEnabled;
+  private final boolean excludeArtifactsEnabled;
+  private final AggregationMode aggregationMode;
+  private final @Nullable String generatedFilesListFilename;
+
+  private IjProjectConfig(IjProjectConfig.Builder builder) {
+    this.javaBuckConfig = builder.javaBuckConfig;
+    this.buckConfig = builder.buckConfig;
+    this.projectJdkName = builder.projectJdkName;
+    this.projectJdkType = builder.projectJdkType;
+    this.androidModuleSdkName = builder.androidModuleSdkName;
+    this.androidModuleSdkType = builder.androidModuleSdkType;
+    this.intellijModuleSdkName = builder.intellijModuleSdkName;
+    this.intellijSdkTargets = builder.intellijSdkTargets.build();
+    this.javaModuleSdkName = builder.javaModuleSdkName;
+    this.javaModuleSdkType = builder.javaModuleSdkType;
+    this.projectLanguageLevel = builder.projectLanguageLevel;
+    this.excludedResourcePaths = builder.excludedResourcePaths.build();
+    this.depToGeneratedSourcesMap = builder.depToGeneratedSourcesMap.build();
+    this.androidManifest = builder.androidManifest;
+    this.cleanerEnabled = builder.cleanerEnabled;
+    this.removingUnusedLibrariesEnabled = builder.removingUnusedLibrariesEnabled;
+    this.excludeArtifactsEnabled = builder.excludeArtifactsEnabled;
+    this.aggregationMode = builder.aggregationMode;
+    this.generatedFilesListFilename = builder.generatedFilesListFilename;
+    this.autogenerateAndroidFacetSourcesEnabled = builder.autogenerateAndroidFacetSourcesEnabledIsSet()
+        ? builder.autogenerateAndroidFacetSourcesEnabled
+        : super.isAutogenerateAndroidFacetSourcesEnabled();
+  }
+
+  private IjProjectConfig(
+      JavaBuckConfig javaBuckConfig,
+      BuckConfig buckConfig,
+      boolean autogenerateAndroidFacetSourcesEnabled,
+      @Nullable String projectJdkName,
+      @Nullable String projectJdkType,
+      @Nullable String androidModuleSdkName,
+      @Nullable String androidModuleSdkType,
+      @Nullable String intellijModuleSdkName,
+      ImmutableSet<String> intellijSdkTargets,
+      @Nullable String javaModuleSdkName,
+      @Nullable String javaModuleSdkType,
+      @Nullable String projectLanguageLevel,
+      ImmutableList<String> excludedResourcePaths,
+      ImmutableMap<String, String> depToGeneratedSourcesMap,
+      @Nullable Path androidManifest,
+      boolean cleanerEnabled,
+      boolean removingUnusedLibrariesEnabled,
+      boolean excludeArtifactsEnabled,
+      AggregationMode aggregationMode,
+      @Nullable String generatedFilesListFilename) {
+    this.javaBuckConfig = javaBuckConfig;
+    this.buckConfig = buckConfig;
+    this.autogenerateAndroidFacetSourcesEnabled = autogenerateAndroidFacetSourcesEnabled;
+    this.projectJdkName = projectJdkName;
+    this.projectJdkType = projectJdkType;
+    this.androidModuleSdkName = androidModuleSdkName;
+    this.androidModuleSdkType = androidModuleSdkType;
+    this.intellijModuleSdkName = intellijModuleSdkName;
+    this.intellijSdkTargets = intellijSdkTargets;
+    this.javaModuleSdkName = javaModuleSdkName;
+    this.javaModuleSdkType = javaModuleSdkType;
+    this.projectLanguageLevel = projectLanguageLevel;
+    this.excludedResourcePaths = excludedResourcePaths;
+    this.depToGeneratedSourcesMap = depToGeneratedSourcesMap;
+    this.androidManifest = androidManifest;
+    this.cleanerEnabled = cleanerEnabled;
+    this.removingUnusedLibrariesEnabled = removingUnusedLibrariesEnabled;
+    this.excludeArtifactsEnabled = excludeArtifactsEnabled;
+    this.aggregationMode = aggregationMode;
+    this.generatedFilesListFilename = generatedFilesListFilename;
+  }
+
+  /**
+   * @return The value of the {@code javaBuckConfig} attribute
+   */
+  @Override
+  public JavaBuckConfig getJavaBuckConfig() {
+    return javaBuckConfig;
+  }
+
+  /**
+   * @return The value of the {@code buckConfig} attribute
+   */
+  @Override
+  public BuckConfig getBuckConfig() {
+    return buckConfig;
+  }
+
+  /**
+   * @return The value of the {@code autogenerateAndroidFacetSourcesEnabled} attribute
+   */
+  @Override
+  public boolean isAutogenerateAndroidFacetSourcesEnabled() {
+    return autogenerateAndroidFacetSourcesEnabled;
+  }
+
+  /**
+   * @return The value of the {@code projectJdkName} attribute
+   */
+  @Override
+  public Optional<String> getProjectJdkName() {
+    return Optional.ofNullable(projectJdkName);
+  }
+
+  /**
+   * @return The value of the {@code projectJdkType} attribute
+   */
+  @Override
+  public Optional<String> getProjectJdkType() {
+    return Optional.ofNullable(projectJdkType);
+  }
+
+  /**
+   * @return The value of the {@code androidModuleSdkName} attribute
+   */
+  @Override
+  public Optional<String> getAndroidModuleSdkName() {
+    return Optional.ofNullable(androidModuleSdkName);
+  }
+
+  /**
+   * @return The value of the {@code androidModuleSdkType} attribute
+   */
+  @Override
+  public Optional<String> getAndroidModuleSdkType() {
+    return Optional.ofNullable(androidModuleSdkType);
+  }
+
+  /**
+   * @return The value of the {@code intellijModuleSdkName} attribute
+   */
+  @Override
+  public Optional<String> getIntellijModuleSdkName() {
+    return Optional.ofNullable(intellijModuleSdkName);
+  }
+
+  /**
+   * @return The value of the {@code intellijSdkTargets} attribute
+   */
+  @Override
+  public ImmutableSet<String> getIntellijSdkTargets() {
+    return intellijSdkTargets;
+  }
+
+  /**
+   * @return The value of the {@code javaModuleSdkName} attribute
+   */
+  @Override
+  public Optional<String> getJavaModuleSdkName() {
+    return Optional.ofNullable(javaModuleSdkName);
+  }
+
+  /**
+   * @return The value of the {@code javaModuleSdkType} attribute
+   */
+  @Override
+  public Optional<String> getJavaModuleSdkType() {
+    return Optional.ofNullable(javaModuleSdkType);
+  }
+
+  /**
+   * @return The value of the {@code projectLanguageLevel} attribute
+   */
+  @Override
+  public Optional<String> getProjectLanguageLevel() {
+    return Optional.ofNullable(projectLanguageLevel);
+  }
+
+  /**
+   * @return The value of the {@code excludedResourcePaths} attribute
+   */
+  @Override
+  public ImmutableList<String> getExcludedResourcePaths() {
+    return excludedResourcePaths;
+  }
+
+  /**
+   * @return The value of the {@code depToGeneratedSourcesMap} attribute
+   */
+  @Override
+  public ImmutableMap<String, String> getDepToGeneratedSourcesMap() {
+    return depToGeneratedSourcesMap;
+  }
+
+  /**
+   * @return The value of the {@code androidManifest} attribute
+   */
+  @Override
+  public Optional<Path> getAndroidManifest() {
+    return Optional.ofNullable(androidManifest);
+  }
+
+  /**
+   * @return The value of the {@code cleanerEnabled} attribute
+   */
+  @Override
+  public boolean isCleanerEnabled() {
+    return cleanerEnabled;
+  }
+
+  /**
+   * @return The value of the {@code removingUnusedLibrariesEnabled} attribute
+   */
+  @Override
+  public boolean isRemovingUnusedLibrariesEnabled() {
+    return removingUnusedLibrariesEnabled;
+  }
+
+  /**
+   * @return The value of the {@code excludeArtifactsEnabled} attribute
+   */
+  @Override
+  public boolean isExcludeArtifactsEnabled() {
+    return excludeArtifactsEnabled;
+  }
+
+  /**
+   * @return The value of the {@code aggregationMode} attribute
+   */
+  @Override
+  public AggregationMode getAggregationMode() {
+    return aggregationMode;
+  }
+
+  /**
+   * @return The value of the {@code generatedFilesListFilename} attribute
+   */
+  @Override
+  public Optional<String> getGeneratedFilesListFilename() {
+    return Optional.ofNullable(generatedFilesListFilename);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractIjProjectConfig#getJavaBuckConfig() javaBuckConfig} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for javaBuckConfig
+   * @return A modified copy of the {@code this} object
+   */
+  public final IjProjectConfig withJavaBuckConfig(JavaBuckConfig value) {
+    if (this.javaBuckConfig == value) return this;
+    JavaBuckConfig newValue = Preconditions.checkNotNull(value, "javaBuckConfig");
+    return new IjProjectConfig(
+        newValue,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        this.projectJdkName,
+        this.projectJdkType,
+        this.androidModuleSdkName,
+        this.androidModuleSdkType,
+        this.intellijModuleSdkName,
+        this.intellijSdkTargets,
+        this.javaModuleSdkName,
+        this.javaModuleSdkType,
+        this.projectLanguageLevel,
+        this.excludedResourcePaths,
+        this.depToGeneratedSourcesMap,
+        this.androidManifest,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        this.aggregationMode,
+        this.generatedFilesListFilename);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractIjProjectConfig#getBuckConfig() buckConfig} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for buckConfig
+   * @return A modified copy of the {@code this} object
+   */
+  public final IjProjectConfig withBuckConfig(BuckConfig value) {
+    if (this.buckConfig == value) return this;
+    BuckConfig newValue = Preconditions.checkNotNull(value, "buckConfig");
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        newValue,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        this.projectJdkName,
+        this.projectJdkType,
+        this.androidModuleSdkName,
+        this.androidModuleSdkType,
+        this.intellijModuleSdkName,
+        this.intellijSdkTargets,
+        this.javaModuleSdkName,
+        this.javaModuleSdkType,
+        this.projectLanguageLevel,
+        this.excludedResourcePaths,
+        this.depToGeneratedSourcesMap,
+        this.androidManifest,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        this.aggregationMode,
+        this.generatedFilesListFilename);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractIjProjectConfig#isAutogenerateAndroidFacetSourcesEnabled() autogenerateAndroidFacetSourcesEnabled} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for autogenerateAndroidFacetSourcesEnabled
+   * @return A modified copy of the {@code this} object
+   */
+  public final IjProjectConfig withAutogenerateAndroidFacetSourcesEnabled(boolean value) {
+    if (this.autogenerateAndroidFacetSourcesEnabled == value) return this;
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        value,
+        this.projectJdkName,
+        this.projectJdkType,
+        this.androidModuleSdkName,
+        this.androidModuleSdkType,
+        this.intellijModuleSdkName,
+        this.intellijSdkTargets,
+        this.javaModuleSdkName,
+        this.javaModuleSdkType,
+        this.projectLanguageLevel,
+        this.excludedResourcePaths,
+        this.depToGeneratedSourcesMap,
+        this.androidManifest,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        this.aggregationMode,
+        this.generatedFilesListFilename);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractIjProjectConfig#getProjectJdkName() projectJdkName} attribute.
+   * @param value The value for projectJdkName
+   * @return A modified copy of {@code this} object
+   */
+  public final IjProjectConfig withProjectJdkName(String value) {
+    @Nullable String newValue = Preconditions.checkNotNull(value, "projectJdkName");
+    if (Objects.equal(this.projectJdkName, newValue)) return this;
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        newValue,
+        this.projectJdkType,
+        this.androidModuleSdkName,
+        this.androidModuleSdkType,
+        this.intellijModuleSdkName,
+        this.intellijSdkTargets,
+        this.javaModuleSdkName,
+        this.javaModuleSdkType,
+        this.projectLanguageLevel,
+        this.excludedResourcePaths,
+        this.depToGeneratedSourcesMap,
+        this.androidManifest,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        this.aggregationMode,
+        this.generatedFilesListFilename);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractIjProjectConfig#getProjectJdkName() projectJdkName} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for projectJdkName
+   * @return A modified copy of {@code this} object
+   */
+  public final IjProjectConfig withProjectJdkName(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equal(this.projectJdkName, value)) return this;
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        value,
+        this.projectJdkType,
+        this.androidModuleSdkName,
+        this.androidModuleSdkType,
+        this.intellijModuleSdkName,
+        this.intellijSdkTargets,
+        this.javaModuleSdkName,
+        this.javaModuleSdkType,
+        this.projectLanguageLevel,
+        this.excludedResourcePaths,
+        this.depToGeneratedSourcesMap,
+        this.androidManifest,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        this.aggregationMode,
+        this.generatedFilesListFilename);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractIjProjectConfig#getProjectJdkType() projectJdkType} attribute.
+   * @param value The value for projectJdkType
+   * @return A modified copy of {@code this} object
+   */
+  public final IjProjectConfig withProjectJdkType(String value) {
+    @Nullable String newValue = Preconditions.checkNotNull(value, "projectJdkType");
+    if (Objects.equal(this.projectJdkType, newValue)) return this;
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        this.projectJdkName,
+        newValue,
+        this.androidModuleSdkName,
+        this.androidModuleSdkType,
+        this.intellijModuleSdkName,
+        this.intellijSdkTargets,
+        this.javaModuleSdkName,
+        this.javaModuleSdkType,
+        this.projectLanguageLevel,
+        this.excludedResourcePaths,
+        this.depToGeneratedSourcesMap,
+        this.androidManifest,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        this.aggregationMode,
+        this.generatedFilesListFilename);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractIjProjectConfig#getProjectJdkType() projectJdkType} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for projectJdkType
+   * @return A modified copy of {@code this} object
+   */
+  public final IjProjectConfig withProjectJdkType(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equal(this.projectJdkType, value)) return this;
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        this.projectJdkName,
+        value,
+        this.androidModuleSdkName,
+        this.androidModuleSdkType,
+        this.intellijModuleSdkName,
+        this.intellijSdkTargets,
+        this.javaModuleSdkName,
+        this.javaModuleSdkType,
+        this.projectLanguageLevel,
+        this.excludedResourcePaths,
+        this.depToGeneratedSourcesMap,
+        this.androidManifest,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        this.aggregationMode,
+        this.generatedFilesListFilename);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractIjProjectConfig#getAndroidModuleSdkName() androidModuleSdkName} attribute.
+   * @param value The value for androidModuleSdkName
+   * @return A modified copy of {@code this} object
+   */
+  public final IjProjectConfig withAndroidModuleSdkName(String value) {
+    @Nullable String newValue = Preconditions.checkNotNull(value, "androidModuleSdkName");
+    if (Objects.equal(this.androidModuleSdkName, newValue)) return this;
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        this.projectJdkName,
+        this.projectJdkType,
+        newValue,
+        this.androidModuleSdkType,
+        this.intellijModuleSdkName,
+        this.intellijSdkTargets,
+        this.javaModuleSdkName,
+        this.javaModuleSdkType,
+        this.projectLanguageLevel,
+        this.excludedResourcePaths,
+        this.depToGeneratedSourcesMap,
+        this.androidManifest,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        this.aggregationMode,
+        this.generatedFilesListFilename);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractIjProjectConfig#getAndroidModuleSdkName() androidModuleSdkName} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for androidModuleSdkName
+   * @return A modified copy of {@code this} object
+   */
+  public final IjProjectConfig withAndroidModuleSdkName(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equal(this.androidModuleSdkName, value)) return this;
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        this.projectJdkName,
+        this.projectJdkType,
+        value,
+        this.androidModuleSdkType,
+        this.intellijModuleSdkName,
+        this.intellijSdkTargets,
+        this.javaModuleSdkName,
+        this.javaModuleSdkType,
+        this.projectLanguageLevel,
+        this.excludedResourcePaths,
+        this.depToGeneratedSourcesMap,
+        this.androidManifest,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        this.aggregationMode,
+        this.generatedFilesListFilename);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractIjProjectConfig#getAndroidModuleSdkType() androidModuleSdkType} attribute.
+   * @param value The value for androidModuleSdkType
+   * @return A modified copy of {@code this} object
+   */
+  public final IjProjectConfig withAndroidModuleSdkType(String value) {
+    @Nullable String newValue = Preconditions.checkNotNull(value, "androidModuleSdkType");
+    if (Objects.equal(this.androidModuleSdkType, newValue)) return this;
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        this.projectJdkName,
+        this.projectJdkType,
+        this.androidModuleSdkName,
+        newValue,
+        this.intellijModuleSdkName,
+        this.intellijSdkTargets,
+        this.javaModuleSdkName,
+        this.javaModuleSdkType,
+        this.projectLanguageLevel,
+        this.excludedResourcePaths,
+        this.depToGeneratedSourcesMap,
+        this.androidManifest,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        this.aggregationMode,
+        this.generatedFilesListFilename);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractIjProjectConfig#getAndroidModuleSdkType() androidModuleSdkType} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for androidModuleSdkType
+   * @return A modified copy of {@code this} object
+   */
+  public final IjProjectConfig withAndroidModuleSdkType(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equal(this.androidModuleSdkType, value)) return this;
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        this.projectJdkName,
+        this.projectJdkType,
+        this.androidModuleSdkName,
+        value,
+        this.intellijModuleSdkName,
+        this.intellijSdkTargets,
+        this.javaModuleSdkName,
+        this.javaModuleSdkType,
+        this.projectLanguageLevel,
+        this.excludedResourcePaths,
+        this.depToGeneratedSourcesMap,
+        this.androidManifest,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        this.aggregationMode,
+        this.generatedFilesListFilename);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractIjProjectConfig#getIntellijModuleSdkName() intellijModuleSdkName} attribute.
+   * @param value The value for intellijModuleSdkName
+   * @return A modified copy of {@code this} object
+   */
+  public final IjProjectConfig withIntellijModuleSdkName(String value) {
+    @Nullable String newValue = Preconditions.checkNotNull(value, "intellijModuleSdkName");
+    if (Objects.equal(this.intellijModuleSdkName, newValue)) return this;
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        this.projectJdkName,
+        this.projectJdkType,
+        this.androidModuleSdkName,
+        this.androidModuleSdkType,
+        newValue,
+        this.intellijSdkTargets,
+        this.javaModuleSdkName,
+        this.javaModuleSdkType,
+        this.projectLanguageLevel,
+        this.excludedResourcePaths,
+        this.depToGeneratedSourcesMap,
+        this.androidManifest,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        this.aggregationMode,
+        this.generatedFilesListFilename);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractIjProjectConfig#getIntellijModuleSdkName() intellijModuleSdkName} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for intellijModuleSdkName
+   * @return A modified copy of {@code this} object
+   */
+  public final IjProjectConfig withIntellijModuleSdkName(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equal(this.intellijModuleSdkName, value)) return this;
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        this.projectJdkName,
+        this.projectJdkType,
+        this.androidModuleSdkName,
+        this.androidModuleSdkType,
+        value,
+        this.intellijSdkTargets,
+        this.javaModuleSdkName,
+        this.javaModuleSdkType,
+        this.projectLanguageLevel,
+        this.excludedResourcePaths,
+        this.depToGeneratedSourcesMap,
+        this.androidManifest,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        this.aggregationMode,
+        this.generatedFilesListFilename);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractIjProjectConfig#getIntellijSdkTargets() intellijSdkTargets}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final IjProjectConfig withIntellijSdkTargets(String... elements) {
+    ImmutableSet<String> newValue = ImmutableSet.copyOf(elements);
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        this.projectJdkName,
+        this.projectJdkType,
+        this.androidModuleSdkName,
+        this.androidModuleSdkType,
+        this.intellijModuleSdkName,
+        newValue,
+        this.javaModuleSdkName,
+        this.javaModuleSdkType,
+        this.projectLanguageLevel,
+        this.excludedResourcePaths,
+        this.depToGeneratedSourcesMap,
+        this.androidManifest,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        this.aggregationMode,
+        this.generatedFilesListFilename);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractIjProjectConfig#getIntellijSdkTargets() intellijSdkTargets}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of intellijSdkTargets elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final IjProjectConfig withIntellijSdkTargets(Iterable<String> elements) {
+    if (this.intellijSdkTargets == elements) return this;
+    ImmutableSet<String> newValue = ImmutableSet.copyOf(elements);
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        this.projectJdkName,
+        this.projectJdkType,
+        this.androidModuleSdkName,
+        this.androidModuleSdkType,
+        this.intellijModuleSdkName,
+        newValue,
+        this.javaModuleSdkName,
+        this.javaModuleSdkType,
+        this.projectLanguageLevel,
+        this.excludedResourcePaths,
+        this.depToGeneratedSourcesMap,
+        this.androidManifest,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        this.aggregationMode,
+        this.generatedFilesListFilename);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractIjProjectConfig#getJavaModuleSdkName() javaModuleSdkName} attribute.
+   * @param value The value for javaModuleSdkName
+   * @return A modified copy of {@code this} object
+   */
+  public final IjProjectConfig withJavaModuleSdkName(String value) {
+    @Nullable String newValue = Preconditions.checkNotNull(value, "javaModuleSdkName");
+    if (Objects.equal(this.javaModuleSdkName, newValue)) return this;
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        this.projectJdkName,
+        this.projectJdkType,
+        this.androidModuleSdkName,
+        this.androidModuleSdkType,
+        this.intellijModuleSdkName,
+        this.intellijSdkTargets,
+        newValue,
+        this.javaModuleSdkType,
+        this.projectLanguageLevel,
+        this.excludedResourcePaths,
+        this.depToGeneratedSourcesMap,
+        this.androidManifest,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        this.aggregationMode,
+        this.generatedFilesListFilename);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractIjProjectConfig#getJavaModuleSdkName() javaModuleSdkName} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for javaModuleSdkName
+   * @return A modified copy of {@code this} object
+   */
+  public final IjProjectConfig withJavaModuleSdkName(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equal(this.javaModuleSdkName, value)) return this;
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        this.projectJdkName,
+        this.projectJdkType,
+        this.androidModuleSdkName,
+        this.androidModuleSdkType,
+        this.intellijModuleSdkName,
+        this.intellijSdkTargets,
+        value,
+        this.javaModuleSdkType,
+        this.projectLanguageLevel,
+        this.excludedResourcePaths,
+        this.depToGeneratedSourcesMap,
+        this.androidManifest,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        this.aggregationMode,
+        this.generatedFilesListFilename);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractIjProjectConfig#getJavaModuleSdkType() javaModuleSdkType} attribute.
+   * @param value The value for javaModuleSdkType
+   * @return A modified copy of {@code this} object
+   */
+  public final IjProjectConfig withJavaModuleSdkType(String value) {
+    @Nullable String newValue = Preconditions.checkNotNull(value, "javaModuleSdkType");
+    if (Objects.equal(this.javaModuleSdkType, newValue)) return this;
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        this.projectJdkName,
+        this.projectJdkType,
+        this.androidModuleSdkName,
+        this.androidModuleSdkType,
+        this.intellijModuleSdkName,
+        this.intellijSdkTargets,
+        this.javaModuleSdkName,
+        newValue,
+        this.projectLanguageLevel,
+        this.excludedResourcePaths,
+        this.depToGeneratedSourcesMap,
+        this.androidManifest,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        this.aggregationMode,
+        this.generatedFilesListFilename);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractIjProjectConfig#getJavaModuleSdkType() javaModuleSdkType} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for javaModuleSdkType
+   * @return A modified copy of {@code this} object
+   */
+  public final IjProjectConfig withJavaModuleSdkType(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equal(this.javaModuleSdkType, value)) return this;
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        this.projectJdkName,
+        this.projectJdkType,
+        this.androidModuleSdkName,
+        this.androidModuleSdkType,
+        this.intellijModuleSdkName,
+        this.intellijSdkTargets,
+        this.javaModuleSdkName,
+        value,
+        this.projectLanguageLevel,
+        this.excludedResourcePaths,
+        this.depToGeneratedSourcesMap,
+        this.androidManifest,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        this.aggregationMode,
+        this.generatedFilesListFilename);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractIjProjectConfig#getProjectLanguageLevel() projectLanguageLevel} attribute.
+   * @param value The value for projectLanguageLevel
+   * @return A modified copy of {@code this} object
+   */
+  public final IjProjectConfig withProjectLanguageLevel(String value) {
+    @Nullable String newValue = Preconditions.checkNotNull(value, "projectLanguageLevel");
+    if (Objects.equal(this.projectLanguageLevel, newValue)) return this;
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        this.projectJdkName,
+        this.projectJdkType,
+        this.androidModuleSdkName,
+        this.androidModuleSdkType,
+        this.intellijModuleSdkName,
+        this.intellijSdkTargets,
+        this.javaModuleSdkName,
+        this.javaModuleSdkType,
+        newValue,
+        this.excludedResourcePaths,
+        this.depToGeneratedSourcesMap,
+        this.androidManifest,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        this.aggregationMode,
+        this.generatedFilesListFilename);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractIjProjectConfig#getProjectLanguageLevel() projectLanguageLevel} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for projectLanguageLevel
+   * @return A modified copy of {@code this} object
+   */
+  public final IjProjectConfig withProjectLanguageLevel(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equal(this.projectLanguageLevel, value)) return this;
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        this.projectJdkName,
+        this.projectJdkType,
+        this.androidModuleSdkName,
+        this.androidModuleSdkType,
+        this.intellijModuleSdkName,
+        this.intellijSdkTargets,
+        this.javaModuleSdkName,
+        this.javaModuleSdkType,
+        value,
+        this.excludedResourcePaths,
+        this.depToGeneratedSourcesMap,
+        this.androidManifest,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        this.aggregationMode,
+        this.generatedFilesListFilename);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractIjProjectConfig#getExcludedResourcePaths() excludedResourcePaths}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final IjProjectConfig withExcludedResourcePaths(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        this.projectJdkName,
+        this.projectJdkType,
+        this.androidModuleSdkName,
+        this.androidModuleSdkType,
+        this.intellijModuleSdkName,
+        this.intellijSdkTargets,
+        this.javaModuleSdkName,
+        this.javaModuleSdkType,
+        this.projectLanguageLevel,
+        newValue,
+        this.depToGeneratedSourcesMap,
+        this.androidManifest,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        this.aggregationMode,
+        this.generatedFilesListFilename);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractIjProjectConfig#getExcludedResourcePaths() excludedResourcePaths}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of excludedResourcePaths elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final IjProjectConfig withExcludedResourcePaths(Iterable<String> elements) {
+    if (this.excludedResourcePaths == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        this.projectJdkName,
+        this.projectJdkType,
+        this.androidModuleSdkName,
+        this.androidModuleSdkType,
+        this.intellijModuleSdkName,
+        this.intellijSdkTargets,
+        this.javaModuleSdkName,
+        this.javaModuleSdkType,
+        this.projectLanguageLevel,
+        newValue,
+        this.depToGeneratedSourcesMap,
+        this.androidManifest,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        this.aggregationMode,
+        this.generatedFilesListFilename);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AbstractIjProjectConfig#getDepToGeneratedSourcesMap() depToGeneratedSourcesMap} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the depToGeneratedSourcesMap map
+   * @return A modified copy of {@code this} object
+   */
+  public final IjProjectConfig withDepToGeneratedSourcesMap(Map<String, ? extends String> entries) {
+    if (this.depToGeneratedSourcesMap == entries) return this;
+    ImmutableMap<String, String> newValue = ImmutableMap.copyOf(entries);
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        this.projectJdkName,
+        this.projectJdkType,
+        this.androidModuleSdkName,
+        this.androidModuleSdkType,
+        this.intellijModuleSdkName,
+        this.intellijSdkTargets,
+        this.javaModuleSdkName,
+        this.javaModuleSdkType,
+        this.projectLanguageLevel,
+        this.excludedResourcePaths,
+        newValue,
+        this.androidManifest,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        this.aggregationMode,
+        this.generatedFilesListFilename);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractIjProjectConfig#getAndroidManifest() androidManifest} attribute.
+   * @param value The value for androidManifest
+   * @return A modified copy of {@code this} object
+   */
+  public final IjProjectConfig withAndroidManifest(Path value) {
+    @Nullable Path newValue = Preconditions.checkNotNull(value, "androidManifest");
+    if (this.androidManifest == newValue) return this;
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        this.projectJdkName,
+        this.projectJdkType,
+        this.androidModuleSdkName,
+        this.androidModuleSdkType,
+        this.intellijModuleSdkName,
+        this.intellijSdkTargets,
+        this.javaModuleSdkName,
+        this.javaModuleSdkType,
+        this.projectLanguageLevel,
+        this.excludedResourcePaths,
+        this.depToGeneratedSourcesMap,
+        newValue,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        this.aggregationMode,
+        this.generatedFilesListFilename);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractIjProjectConfig#getAndroidManifest() androidManifest} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for androidManifest
+   * @return A modified copy of {@code this} object
+   */
+  public final IjProjectConfig withAndroidManifest(Optional<Path> optional) {
+    @Nullable Path value = optional.orElse(null);
+    if (this.androidManifest == value) return this;
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        this.projectJdkName,
+        this.projectJdkType,
+        this.androidModuleSdkName,
+        this.androidModuleSdkType,
+        this.intellijModuleSdkName,
+        this.intellijSdkTargets,
+        this.javaModuleSdkName,
+        this.javaModuleSdkType,
+        this.projectLanguageLevel,
+        this.excludedResourcePaths,
+        this.depToGeneratedSourcesMap,
+        value,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        this.aggregationMode,
+        this.generatedFilesListFilename);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractIjProjectConfig#isCleanerEnabled() cleanerEnabled} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for cleanerEnabled
+   * @return A modified copy of the {@code this} object
+   */
+  public final IjProjectConfig withCleanerEnabled(boolean value) {
+    if (this.cleanerEnabled == value) return this;
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        this.projectJdkName,
+        this.projectJdkType,
+        this.androidModuleSdkName,
+        this.androidModuleSdkType,
+        this.intellijModuleSdkName,
+        this.intellijSdkTargets,
+        this.javaModuleSdkName,
+        this.javaModuleSdkType,
+        this.projectLanguageLevel,
+        this.excludedResourcePaths,
+        this.depToGeneratedSourcesMap,
+        this.androidManifest,
+        value,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        this.aggregationMode,
+        this.generatedFilesListFilename);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractIjProjectConfig#isRemovingUnusedLibrariesEnabled() removingUnusedLibrariesEnabled} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for removingUnusedLibrariesEnabled
+   * @return A modified copy of the {@code this} object
+   */
+  public final IjProjectConfig withRemovingUnusedLibrariesEnabled(boolean value) {
+    if (this.removingUnusedLibrariesEnabled == value) return this;
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        this.projectJdkName,
+        this.projectJdkType,
+        this.androidModuleSdkName,
+        this.androidModuleSdkType,
+        this.intellijModuleSdkName,
+        this.intellijSdkTargets,
+        this.javaModuleSdkName,
+        this.javaModuleSdkType,
+        this.projectLanguageLevel,
+        this.excludedResourcePaths,
+        this.depToGeneratedSourcesMap,
+        this.androidManifest,
+        this.cleanerEnabled,
+        value,
+        this.excludeArtifactsEnabled,
+        this.aggregationMode,
+        this.generatedFilesListFilename);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractIjProjectConfig#isExcludeArtifactsEnabled() excludeArtifactsEnabled} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for excludeArtifactsEnabled
+   * @return A modified copy of the {@code this} object
+   */
+  public final IjProjectConfig withExcludeArtifactsEnabled(boolean value) {
+    if (this.excludeArtifactsEnabled == value) return this;
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        this.projectJdkName,
+        this.projectJdkType,
+        this.androidModuleSdkName,
+        this.androidModuleSdkType,
+        this.intellijModuleSdkName,
+        this.intellijSdkTargets,
+        this.javaModuleSdkName,
+        this.javaModuleSdkType,
+        this.projectLanguageLevel,
+        this.excludedResourcePaths,
+        this.depToGeneratedSourcesMap,
+        this.androidManifest,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        value,
+        this.aggregationMode,
+        this.generatedFilesListFilename);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractIjProjectConfig#getAggregationMode() aggregationMode} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for aggregationMode
+   * @return A modified copy of the {@code this} object
+   */
+  public final IjProjectConfig withAggregationMode(AggregationMode value) {
+    if (this.aggregationMode == value) return this;
+    AggregationMode newValue = Preconditions.checkNotNull(value, "aggregationMode");
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        this.projectJdkName,
+        this.projectJdkType,
+        this.androidModuleSdkName,
+        this.androidModuleSdkType,
+        this.intellijModuleSdkName,
+        this.intellijSdkTargets,
+        this.javaModuleSdkName,
+        this.javaModuleSdkType,
+        this.projectLanguageLevel,
+        this.excludedResourcePaths,
+        this.depToGeneratedSourcesMap,
+        this.androidManifest,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        newValue,
+        this.generatedFilesListFilename);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractIjProjectConfig#getGeneratedFilesListFilename() generatedFilesListFilename} attribute.
+   * @param value The value for generatedFilesListFilename
+   * @return A modified copy of {@code this} object
+   */
+  public final IjProjectConfig withGeneratedFilesListFilename(String value) {
+    @Nullable String newValue = Preconditions.checkNotNull(value, "generatedFilesListFilename");
+    if (Objects.equal(this.generatedFilesListFilename, newValue)) return this;
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        this.projectJdkName,
+        this.projectJdkType,
+        this.androidModuleSdkName,
+        this.androidModuleSdkType,
+        this.intellijModuleSdkName,
+        this.intellijSdkTargets,
+        this.javaModuleSdkName,
+        this.javaModuleSdkType,
+        this.projectLanguageLevel,
+        this.excludedResourcePaths,
+        this.depToGeneratedSourcesMap,
+        this.androidManifest,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        this.aggregationMode,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractIjProjectConfig#getGeneratedFilesListFilename() generatedFilesListFilename} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for generatedFilesListFilename
+   * @return A modified copy of {@code this} object
+   */
+  public final IjProjectConfig withGeneratedFilesListFilename(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equal(this.generatedFilesListFilename, value)) return this;
+    return new IjProjectConfig(
+        this.javaBuckConfig,
+        this.buckConfig,
+        this.autogenerateAndroidFacetSourcesEnabled,
+        this.projectJdkName,
+        this.projectJdkType,
+        this.androidModuleSdkName,
+        this.androidModuleSdkType,
+        this.intellijModuleSdkName,
+        this.intellijSdkTargets,
+        this.javaModuleSdkName,
+        this.javaModuleSdkType,
+        this.projectLanguageLevel,
+        this.excludedResourcePaths,
+        this.depToGeneratedSourcesMap,
+        this.androidManifest,
+        this.cleanerEnabled,
+        this.removingUnusedLibrariesEnabled,
+        this.excludeArtifactsEnabled,
+        this.aggregationMode,
+        value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code IjProjectConfig} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof IjProjectConfig
+        && equalTo((IjProjectConfig) another);
+  }
+
+  private boolean equalTo(IjProjectConfig another) {
+    return javaBuckConfig.equals(another.javaBuckConfig)
+        && buckConfig.equals(another.buckConfig)
+        && autogenerateAndroidFacetSourcesEnabled == another.autogenerateAndroidFacetSourcesEnabled
+        && Objects.equal(projectJdkName, another.projectJdkName)
+        && Objects.equal(projectJdkType, another.projectJdkType)
+        && Objects.equal(androidModuleSdkName, another.androidModuleSdkName)
+        && Objects.equal(androidModuleSdkType, another.androidModuleSdkType)
+        && Objects.equal(intellijModuleSdkName, another.intellijModuleSdkName)
+        && intellijSdkTargets.equals(another.intellijSdkTargets)
+        && Objects.equal(javaModuleSdkName, another.javaModuleSdkName)
+        && Objects.equal(javaModuleSdkType, another.javaModuleSdkType)
+        && Objects.equal(projectLanguageLevel, another.projectLanguageLevel)
+        && excludedResourcePaths.equals(another.excludedResourcePaths)
+        && depToGeneratedSourcesMap.equals(another.depToGeneratedSourcesMap)
+        && Objects.equal(androidManifest, another.androidManifest)
+        && cleanerEnabled == another.cleanerEnabled
+        && removingUnusedLibrariesEnabled == another.removingUnusedLibrariesEnabled
+        && excludeArtifactsEnabled == another.excludeArtifactsEnabled
+        && aggregationMode.equals(another.aggregationMode)
+        && Objects.equal(generatedFilesListFilename, another.generatedFilesListFilename);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code javaBuckConfig}, {@code buckConfig}, {@code autogenerateAndroidFacetSourcesEnabled}, {@code projectJdkName}, {@code projectJdkType}, {@code androidModuleSdkName}, {@code androidModuleSdkType}, {@code intellijModuleSdkName}, {@code intellijSdkTargets}, {@code javaModuleSdkName}, {@code javaModuleSdkType}, {@code projectLanguageLevel}, {@code excludedResourcePaths}, {@code depToGeneratedSourcesMap}, {@code androidManifest}, {@code cleanerEnabled}, {@code removingUnusedLibrariesEnabled}, {@code excludeArtifactsEnabled}, {@code aggregationMode}, {@code generatedFilesListFilename}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + javaBuckConfig.hashCode();
+    h = h * 17 + buckConfig.hashCode();
+    h = h * 17 + Booleans.hashCode(autogenerateAndroidFacetSourcesEnabled);
+    h = h * 17 + Objects.hashCode(projectJdkName);
+    h = h * 17 + Objects.hashCode(projectJdkType);
+    h = h * 17 + Objects.hashCode(androidModuleSdkName);
+    h = h * 17 + Objects.hashCode(androidModuleSdkType);
+    h = h * 17 + Objects.hashCode(intellijModuleSdkName);
+    h = h * 17 + intellijSdkTargets.hashCode();
+    h = h * 17 + Objects.hashCode(javaModuleSdkName);
+    h = h * 17 + Objects.hashCode(javaModuleSdkType);
+    h = h * 17 + Objects.hashCode(projectLanguageLevel);
+    h = h * 17 + excludedResourcePaths.hashCode();
+    h = h * 17 + depToGeneratedSourcesMap.hashCode();
+    h = h * 17 + Objects.hashCode(androidManifest);
+    h = h * 17 + Booleans.hashCode(cleanerEnabled);
+    h = h * 17 + Booleans.hashCode(removingUnusedLibrariesEnabled);
+    h = h * 17 + Booleans.hashCode(excludeArtifactsEnabled);
+    h = h * 17 + aggregationMode.hashCode();
+    h = h * 17 + Objects.hashCode(generatedFilesListFilename);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code IjProjectConfig} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("IjProjectConfig")
+        .omitNullValues()
+        .add("javaBuckConfig", javaBuckConfig)
+        .add("buckConfig", buckConfig)
+        .add("autogenerateAndroidFacetSourcesEnabled", autogenerateAndroidFacetSourcesEnabled)
+        .add("projectJdkName", projectJdkName)
+        .add("projectJdkType", projectJdkType)
+        .add("androidModuleSdkName", androidModuleSdkName)
+        .add("androidModuleSdkType", androidModuleSdkType)
+        .add("intellijModuleSdkName", intellijModuleSdkName)
+        .add("intellijSdkTargets", intellijSdkTargets)
+        .add("javaModuleSdkName", javaModuleSdkName)
+        .add("javaModuleSdkType", javaModuleSdkType)
+        .add("projectLanguageLevel", projectLanguageLevel)
+        .add("excludedResourcePaths", excludedResourcePaths)
+        .add("depToGeneratedSourcesMap", depToGeneratedSourcesMap)
+        .add("androidManifest", androidManifest)
+        .add("cleanerEnabled", cleanerEnabled)
+        .add("removingUnusedLibrariesEnabled", removingUnusedLibrariesEnabled)
+        .add("excludeArtifactsEnabled", excludeArtifactsEnabled)
+        .add("aggregationMode", aggregationMode)
+        .add("generatedFilesListFilename", generatedFilesListFilename)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractIjProjectConfig} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable IjProjectConfig instance
+   */
+  static IjProjectConfig copyOf(AbstractIjProjectConfig instance) {
+    if (instance instanceof IjProjectConfig) {
+      return (IjProjectConfig) instance;
+    }
+    return IjProjectConfig.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link IjProjectConfig IjProjectConfig}.
+   * @return A new IjProjectConfig builder
+   */
+  public static IjProjectConfig.Builder builder() {
+    return new IjProjectConfig.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link IjProjectConfig IjProjectConfig}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_JAVA_BUCK_CONFIG = 0x1L;
+    private static final long INIT_BIT_BUCK_CONFIG = 0x2L;
+    private static final long INIT_BIT_CLEANER_ENABLED = 0x4L;
+    private static final long INIT_BIT_REMOVING_UNUSED_LIBRARIES_ENABLED = 0x8L;
+    private static final long INIT_BIT_EXCLUDE_ARTIFACTS_ENABLED = 0x10L;
+    private static final long INIT_BIT_AGGREGATION_MODE = 0x20L;
+    private static final long OPT_BIT_AUTOGENERATE_ANDROID_FACET_SOURCES_ENABLED = 0x1L;
+    private long initBits = 0x3fL;
+    private long optBits;
+
+    private @Nullable JavaBuckConfig javaBuckConfig;
+    private @Nullable BuckConfig buckConfig;
+    private boolean autogenerateAndroidFacetSourcesEnabled;
+    private @Nullable String projectJdkName;
+    private @Nullable String projectJdkType;
+    private @Nullable String androidModuleSdkName;
+    private @Nullable String androidModuleSdkType;
+    private @Nullable String intellijModuleSdkName;
+    private ImmutableSet.Builder<String> intellijSdkTargets = ImmutableSet.builder();
+    private @Nullable String javaModuleSdkName;
+    private @Nullable String javaModuleSdkType;
+    private @Nullable String projectLanguageLevel;
+    private ImmutableList.Builder<String> excludedResourcePaths = ImmutableList.builder();
+    private ImmutableMap.Builder<String, String> depToGeneratedSourcesMap = ImmutableMap.builder();
+    private @Nullable Path androidManifest;
+    private boolean cleanerEnabled;
+    private boolean removingUnusedLibrariesEnabled;
+    private boolean excludeArtifactsEnabled;
+    private @Nullable AggregationMode aggregationMode;
+    private @Nullable String generatedFilesListFilename;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code IjProjectConfig} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(IjProjectConfig instance) {
+      return from((AbstractIjProjectConfig) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractIjProjectConfig} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractIjProjectConfig instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      setJavaBuckConfig(instance.getJavaBuckConfig());
+      setBuckConfig(instance.getBuckConfig());
+      setAutogenerateAndroidFacetSourcesEnabled(instance.isAutogenerateAndroidFacetSourcesEnabled());
+      Optional<String> projectJdkNameOptional = instance.getProjectJdkName();
+      if (projectJdkNameOptional.isPresent()) {
+        setProjectJdkName(projectJdkNameOptional);
+      }
+      Optional<String> projectJdkTypeOptional = instance.getProjectJdkType();
+      if (projectJdkTypeOptional.isPresent()) {
+        setProjectJdkType(projectJdkTypeOptional);
+      }
+      Optional<String> androidModuleSdkNameOptional = instance.getAndroidModuleSdkName();
+      if (androidModuleSdkNameOptional.isPresent()) {
+        setAndroidModuleSdkName(androidModuleSdkNameOptional);
+      }
+      Optional<String> androidModuleSdkTypeOptional = instance.getAndroidModuleSdkType();
+      if (androidModuleSdkTypeOptional.isPresent()) {
+        setAndroidModuleSdkType(androidModuleSdkTypeOptional);
+      }
+      Optional<String> intellijModuleSdkNameOptional = instance.getIntellijModuleSdkName();
+      if (intellijModuleSdkNameOptional.isPresent()) {
+        setIntellijModuleSdkName(intellijModuleSdkNameOptional);
+      }
+      addAllIntellijSdkTargets(instance.getIntellijSdkTargets());
+      Optional<String> javaModuleSdkNameOptional = instance.getJavaModuleSdkName();
+      if (javaModuleSdkNameOptional.isPresent()) {
+        setJavaModuleSdkName(javaModuleSdkNameOptional);
+      }
+      Optional<String> javaModuleSdkTypeOptional = instance.getJavaModuleSdkType();
+      if (javaModuleSdkTypeOptional.isPresent()) {
+        setJavaModuleSdkType(javaModuleSdkTypeOptional);
+      }
+      Optional<String> projectLanguageLevelOptional = instance.getProjectLanguageLevel();
+      if (projectLanguageLevelOptional.isPresent()) {
+        setProjectLanguageLevel(projectLanguageLevelOptional);
+      }
+      addAllExcludedResourcePaths(instance.getExcludedResourcePaths());
+      putAllDepToGeneratedSourcesMap(instance.getDepToGeneratedSourcesMap());
+      Optional<Path> androidManifestOptional = instance.getAndroidManifest();
+      if (androidManifestOptional.isPresent()) {
+        setAndroidManifest(androidManifestOptional);
+      }
+      setCleanerEnabled(instance.isCleanerEnabled());
+      setRemovingUnusedLibrariesEnabled(instance.isRemovingUnusedLibrariesEnabled());
+      setExcludeArtifactsEnabled(instance.isExcludeArtifactsEnabled());
+      setAggregationMode(instance.getAggregationMode());
+      Optional<String> generatedFilesListFilenameOptional = instance.getGeneratedFilesListFilename();
+      if (generatedFilesListFilenameOptional.isPresent()) {
+        setGeneratedFilesListFilename(generatedFilesListFilenameOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractIjProjectConfig#getJavaBuckConfig() javaBuckConfig} attribute.
+     * @param javaBuckConfig The value for javaBuckConfig 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setJavaBuckConfig(JavaBuckConfig javaBuckConfig) {
+      this.javaBuckConfig = Preconditions.checkNotNull(javaBuckConfig, "javaBuckConfig");
+      initBits &= ~INIT_BIT_JAVA_BUCK_CONFIG;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractIjProjectConfig#getBuckConfig() buckConfig} attribute.
+     * @param buckConfig The value for buckConfig 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBuckConfig(BuckConfig buckConfig) {
+      this.buckConfig = Preconditions.checkNotNull(buckConfig, "buckConfig");
+      initBits &= ~INIT_BIT_BUCK_CONFIG;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractIjProjectConfig#isAutogenerateAndroidFacetSourcesEnabled() autogenerateAndroidFacetSourcesEnabled} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractIjProjectConfig#isAutogenerateAndroidFacetSourcesEnabled() autogenerateAndroidFacetSourcesEnabled}.</em>
+     * @param autogenerateAndroidFacetSourcesEnabled The value for autogenerateAndroidFacetSourcesEnabled 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setAutogenerateAndroidFacetSourcesEnabled(boolean autogenerateAndroidFacetSourcesEnabled) {
+      this.autogenerateAndroidFacetSourcesEnabled = autogenerateAndroidFacetSourcesEnabled;
+      optBits |= OPT_BIT_AUTOGENERATE_ANDROID_FACET_SOURCES_ENABLED;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractIjProjectConfig#getProjectJdkName() projectJdkName} to projectJdkName.
+     * @param projectJdkName The value for projectJdkName
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setProjectJdkName(String projectJdkName) {
+      this.projectJdkName = Preconditions.checkNotNull(projectJdkName, "projectJdkName");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractIjProjectConfig#getProjectJdkName() projectJdkName} to projectJdkName.
+     * @param projectJdkName The value for projectJdkName
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setProjectJdkName(Optional<String> projectJdkName) {
+      this.projectJdkName = projectJdkName.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractIjProjectConfig#getProjectJdkType() projectJdkType} to projectJdkType.
+     * @param projectJdkType The value for projectJdkType
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setProjectJdkType(String projectJdkType) {
+      this.projectJdkType = Preconditions.checkNotNull(projectJdkType, "projectJdkType");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractIjProjectConfig#getProjectJdkType() projectJdkType} to projectJdkType.
+     * @param projectJdkType The value for projectJdkType
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setProjectJdkType(Optional<String> projectJdkType) {
+      this.projectJdkType = projectJdkType.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractIjProjectConfig#getAndroidModuleSdkName() androidModuleSdkName} to androidModuleSdkName.
+     * @param androidModuleSdkName The value for androidModuleSdkName
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setAndroidModuleSdkName(String androidModuleSdkName) {
+      this.androidModuleSdkName = Preconditions.checkNotNull(androidModuleSdkName, "androidModuleSdkName");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractIjProjectConfig#getAndroidModuleSdkName() androidModuleSdkName} to androidModuleSdkName.
+     * @param androidModuleSdkName The value for androidModuleSdkName
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setAndroidModuleSdkName(Optional<String> androidModuleSdkName) {
+      this.androidModuleSdkName = androidModuleSdkName.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractIjProjectConfig#getAndroidModuleSdkType() androidModuleSdkType} to androidModuleSdkType.
+     * @param androidModuleSdkType The value for androidModuleSdkType
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setAndroidModuleSdkType(String androidModuleSdkType) {
+      this.androidModuleSdkType = Preconditions.checkNotNull(androidModuleSdkType, "androidModuleSdkType");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractIjProjectConfig#getAndroidModuleSdkType() androidModuleSdkType} to androidModuleSdkType.
+     * @param androidModuleSdkType The value for androidModuleSdkType
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setAndroidModuleSdkType(Optional<String> androidModuleSdkType) {
+      this.androidModuleSdkType = androidModuleSdkType.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractIjProjectConfig#getIntellijModuleSdkName() intellijModuleSdkName} to intellijModuleSdkName.
+     * @param intellijModuleSdkName The value for intellijModuleSdkName
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setIntellijModuleSdkName(String intellijModuleSdkName) {
+      this.intellijModuleSdkName = Preconditions.checkNotNull(intellijModuleSdkName, "intellijModuleSdkName");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractIjProjectConfig#getIntellijModuleSdkName() intellijModuleSdkName} to intellijModuleSdkName.
+     * @param intellijModuleSdkName The value for intellijModuleSdkName
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setIntellijModuleSdkName(Optional<String> intellijModuleSdkName) {
+      this.intellijModuleSdkName = intellijModuleSdkName.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractIjProjectConfig#getIntellijSdkTargets() intellijSdkTargets} set.
+     * @param element A intellijSdkTargets element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addIntellijSdkTargets(String element) {
+      this.intellijSdkTargets.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractIjProjectConfig#getIntellijSdkTargets() intellijSdkTargets} set.
+     * @param elements An array of intellijSdkTargets elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addIntellijSdkTargets(String... elements) {
+      this.intellijSdkTargets.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractIjProjectConfig#getIntellijSdkTargets() intellijSdkTargets} set.
+     * @param elements An iterable of intellijSdkTargets elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setIntellijSdkTargets(Iterable<String> elements) {
+      this.intellijSdkTargets = ImmutableSet.builder();
+      return addAllIntellijSdkTargets(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractIjProjectConfig#getIntellijSdkTargets() intellijSdkTargets} set.
+     * @param elements An iterable of intellijSdkTargets elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllIntellijSdkTargets(Iterable<String> elements) {
+      this.intellijSdkTargets.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractIjProjectConfig#getJavaModuleSdkName() javaModuleSdkName} to javaModuleSdkName.
+     * @param javaModuleSdkName The value for javaModuleSdkName
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setJavaModuleSdkName(String javaModuleSdkName) {
+      this.javaModuleSdkName = Preconditions.checkNotNull(javaModuleSdkName, "javaModuleSdkName");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractIjProjectConfig#getJavaModuleSdkName() javaModuleSdkName} to javaModuleSdkName.
+     * @param javaModuleSdkName The value for javaModuleSdkName
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setJavaModuleSdkName(Optional<String> javaModuleSdkName) {
+      this.javaModuleSdkName = javaModuleSdkName.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractIjProjectConfig#getJavaModuleSdkType() javaModuleSdkType} to javaModuleSdkType.
+     * @param javaModuleSdkType The value for javaModuleSdkType
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setJavaModuleSdkType(String javaModuleSdkType) {
+      this.javaModuleSdkType = Preconditions.checkNotNull(javaModuleSdkType, "javaModuleSdkType");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractIjProjectConfig#getJavaModuleSdkType() javaModuleSdkType} to javaModuleSdkType.
+     * @param javaModuleSdkType The value for javaModuleSdkType
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setJavaModuleSdkType(Optional<String> javaModuleSdkType) {
+      this.javaModuleSdkType = javaModuleSdkType.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractIjProjectConfig#getProjectLanguageLevel() projectLanguageLevel} to projectLanguageLevel.
+     * @param projectLanguageLevel The value for projectLanguageLevel
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setProjectLanguageLevel(String projectLanguageLevel) {
+      this.projectLanguageLevel = Preconditions.checkNotNull(projectLanguageLevel, "projectLanguageLevel");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractIjProjectConfig#getProjectLanguageLevel() projectLanguageLevel} to projectLanguageLevel.
+     * @param projectLanguageLevel The value for projectLanguageLevel
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setProjectLanguageLevel(Optional<String> projectLanguageLevel) {
+      this.projectLanguageLevel = projectLanguageLevel.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractIjProjectConfig#getExcludedResourcePaths() excludedResourcePaths} list.
+     * @param element A excludedResourcePaths element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addExcludedResourcePaths(String element) {
+      this.excludedResourcePaths.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractIjProjectConfig#getExcludedResourcePaths() excludedResourcePaths} list.
+     * @param elements An array of excludedResourcePaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addExcludedResourcePaths(String... elements) {
+      this.excludedResourcePaths.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractIjProjectConfig#getExcludedResourcePaths() excludedResourcePaths} list.
+     * @param elements An iterable of excludedResourcePaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setExcludedResourcePaths(Iterable<String> elements) {
+      this.excludedResourcePaths = ImmutableList.builder();
+      return addAllExcludedResourcePaths(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractIjProjectConfig#getExcludedResourcePaths() excludedResourcePaths} list.
+     * @param elements An iterable of excludedResourcePaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllExcludedResourcePaths(Iterable<String> elements) {
+      this.excludedResourcePaths.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractIjProjectConfig#getDepToGeneratedSourcesMap() depToGeneratedSourcesMap} map.
+     * @param key The key in the depToGeneratedSourcesMap map
+     * @param value The associated value in the depToGeneratedSourcesMap map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putDepToGeneratedSourcesMap(String key, String value) {
+      this.depToGeneratedSourcesMap.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractIjProjectConfig#getDepToGeneratedSourcesMap() depToGeneratedSourcesMap} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putDepToGeneratedSourcesMap(Map.Entry<String, ? extends String> entry) {
+      this.depToGeneratedSourcesMap.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AbstractIjProjectConfig#getDepToGeneratedSourcesMap() depToGeneratedSourcesMap} map. Nulls are not permitted
+     * @param depToGeneratedSourcesMap The entries that will be added to the depToGeneratedSourcesMap map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDepToGeneratedSourcesMap(Map<String, ? extends String> depToGeneratedSourcesMap) {
+      this.depToGeneratedSourcesMap = ImmutableMap.builder();
+      return putAllDepToGeneratedSourcesMap(depToGeneratedSourcesMap);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AbstractIjProjectConfig#getDepToGeneratedSourcesMap() depToGeneratedSourcesMap} map. Nulls are not permitted
+     * @param depToGeneratedSourcesMap The entries that will be added to the depToGeneratedSourcesMap map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllDepToGeneratedSourcesMap(Map<String, ? extends String> depToGeneratedSourcesMap) {
+      this.depToGeneratedSourcesMap.putAll(depToGeneratedSourcesMap);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractIjProjectConfig#getAndroidManifest() androidManifest} to androidManifest.
+     * @param androidManifest The value for androidManifest
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setAndroidManifest(Path androidManifest) {
+      this.androidManifest = Preconditions.checkNotNull(androidManifest, "androidManifest");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractIjProjectConfig#getAndroidManifest() androidManifest} to androidManifest.
+     * @param androidManifest The value for androidManifest
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setAndroidManifest(Optional<Path> androidManifest) {
+      this.androidManifest = androidManifest.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractIjProjectConfig#isCleanerEnabled() cleanerEnabled} attribute.
+     * @param cleanerEnabled The value for cleanerEnabled 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCleanerEnabled(boolean cleanerEnabled) {
+      this.cleanerEnabled = cleanerEnabled;
+      initBits &= ~INIT_BIT_CLEANER_ENABLED;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractIjProjectConfig#isRemovingUnusedLibrariesEnabled() removingUnusedLibrariesEnabled} attribute.
+     * @param removingUnusedLibrariesEnabled The value for removingUnusedLibrariesEnabled 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRemovingUnusedLibrariesEnabled(boolean removingUnusedLibrariesEnabled) {
+      this.removingUnusedLibrariesEnabled = removingUnusedLibrariesEnabled;
+      initBits &= ~INIT_BIT_REMOVING_UNUSED_LIBRARIES_ENABLED;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractIjProjectConfig#isExcludeArtifactsEnabled() excludeArtifactsEnabled} attribute.
+     * @param excludeArtifactsEnabled The value for excludeArtifactsEnabled 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setExcludeArtifactsEnabled(boolean excludeArtifactsEnabled) {
+      this.excludeArtifactsEnabled = excludeArtifactsEnabled;
+      initBits &= ~INIT_BIT_EXCLUDE_ARTIFACTS_ENABLED;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractIjProjectConfig#getAggregationMode() aggregationMode} attribute.
+     * @param aggregationMode The value for aggregationMode 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setAggregationMode(AggregationMode aggregationMode) {
+      this.aggregationMode = Preconditions.checkNotNull(aggregationMode, "aggregationMode");
+      initBits &= ~INIT_BIT_AGGREGATION_MODE;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractIjProjectConfig#getGeneratedFilesListFilename() generatedFilesListFilename} to generatedFilesListFilename.
+     * @param generatedFilesListFilename The value for generatedFilesListFilename
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setGeneratedFilesListFilename(String generatedFilesListFilename) {
+      this.generatedFilesListFilename = Preconditions.checkNotNull(generatedFilesListFilename, "generatedFilesListFilename");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractIjProjectConfig#getGeneratedFilesListFilename() generatedFilesListFilename} to generatedFilesListFilename.
+     * @param generatedFilesListFilename The value for generatedFilesListFilename
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setGeneratedFilesListFilename(Optional<String> generatedFilesListFilename) {
+      this.generatedFilesListFilename = generatedFilesListFilename.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link IjProjectConfig IjProjectConfig}.
+     * @return An immutable instance of IjProjectConfig
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public IjProjectConfig build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new IjProjectConfig(this);
+    }
+
+    private boolean autogenerateAndroidFacetSourcesEnabledIsSet() {
+      return (optBits & OPT_BIT_AUTOGENERATE_ANDROID_FACET_SOURCES_ENABLED) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_JAVA_BUCK_CONFIG) != 0) attributes.add("javaBuckConfig");
+      if ((initBits & INIT_BIT_BUCK_CONFIG) != 0) attributes.add("buckConfig");
+      if ((initBits & INIT_BIT_CLEANER_ENABLED) != 0) attributes.add("cleanerEnabled");
+      if ((initBits & INIT_BIT_REMOVING_UNUSED_LIBRARIES_ENABLED) != 0) attributes.add("removingUnusedLibrariesEnabled");
+      if ((initBits & INIT_BIT_EXCLUDE_ARTIFACTS_ENABLED) != 0) attributes.add("excludeArtifactsEnabled");
+      if ((initBits & INIT_BIT_AGGREGATION_MODE) != 0) attributes.add("aggregationMode");
+      return "Cannot build IjProjectConfig, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,344 @@
+package com.facebook.buck.ide.intellij.model.folders;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Objects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import java.util.List;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractIjSourceFolder}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code IjSourceFolder.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractIjSourceFolder"})
+@Immutable
+public final class IjSourceFolder extends AbstractIjSourceFolder {
+  private final String type;
+  private final String url;
+  private final boolean isTestSource;
+  private final boolean isAndroidResources;
+  private final @Nullable String packagePrefix;
+
+  private IjSourceFolder(
+      String type,
+      String url,
+      boolean isTestSource,
+      boolean isAndroidResources,
+      @Nullable String packagePrefix) {
+    this.type = type;
+    this.url = url;
+    this.isTestSource = isTestSource;
+    this.isAndroidResources = isAndroidResources;
+    this.packagePrefix = packagePrefix;
+  }
+
+  /**
+   * @return The value of the {@code type} attribute
+   */
+  @Override
+  public String getType() {
+    return type;
+  }
+
+  /**
+   * @return The value of the {@code url} attribute
+   */
+  @Override
+  public String getUrl() {
+    return url;
+  }
+
+  /**
+   * @return The value of the {@code isTestSource} attribute
+   */
+  @Override
+  public boolean getIsTestSource() {
+    return isTestSource;
+  }
+
+  /**
+   * @return The value of the {@code isAndroidResources} attribute
+   */
+  @Override
+  public boolean getIsAndroidResources() {
+    return isAndroidResources;
+  }
+
+  /**
+   * @return The value of the {@code packagePrefix} attribute
+   */
+  @Override
+  public @Nullable String getPackagePrefix() {
+    return packagePrefix;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractIjSourceFolder#getType() type} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for type
+   * @return A modified copy of the {@code this} object
+   */
+  public final IjSourceFolder withType(String value) {
+    if (this.type.equals(value)) return this;
+    String newValue = Preconditions.checkNotNull(value, "type");
+    return new IjSourceFolder(newValue, this.url, this.isTestSource, this.isAndroidResources, this.packagePrefix);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractIjSourceFolder#getUrl() url} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for url
+   * @return A modified copy of the {@code this} object
+   */
+  public final IjSourceFolder withUrl(String value) {
+    if (this.url.equals(value)) return this;
+    String newValue = Preconditions.checkNotNull(value, "url");
+    return new IjSourceFolder(this.type, newValue, this.isTestSource, this.isAndroidResources, this.packagePrefix);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractIjSourceFolder#getIsTestSource() isTestSource} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for isTestSource
+   * @return A modified copy of the {@code this} object
+   */
+  public final IjSourceFolder withIsTestSource(boolean value) {
+    if (this.isTestSource == value) return this;
+    return new IjSourceFolder(this.type, this.url, value, this.isAndroidResources, this.packagePrefix);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractIjSourceFolder#getIsAndroidResources() isAndroidResources} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for isAndroidResources
+   * @return A modified copy of the {@code this} object
+   */
+  public final IjSourceFolder withIsAndroidResources(boolean value) {
+    if (this.isAndroidResources == value) return this;
+    return new IjSourceFolder(this.type, this.url, this.isTestSource, value, this.packagePrefix);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractIjSourceFolder#getPackagePrefix() packagePrefix} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for packagePrefix (can be {@code null})
+   * @return A modified copy of the {@code this} object
+   */
+  public final IjSourceFolder withPackagePrefix(@Nullable String value) {
+    if (Objects.equal(this.packagePrefix, value)) return this;
+    return new IjSourceFolder(this.type, this.url, this.isTestSource, this.isAndroidResources, value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code IjSourceFolder} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof IjSourceFolder
+        && equalTo((IjSourceFolder) another);
+  }
+
+  private boolean equalTo(IjSourceFolder another) {
+    return type.equals(another.type)
+        && url.equals(another.url)
+        && isTestSource == another.isTestSource
+        && isAndroidResources == another.isAndroidResources
+        && Objects.equal(packagePrefix, another.packagePrefix);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code type}, {@code url}, {@code isTestSource}, {@code isAndroidResources}, {@code packagePrefix}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + type.hashCode();
+    h = h * 17 + url.hashCode();
+    h = h * 17 + Booleans.hashCode(isTestSource);
+    h = h * 17 + Booleans.hashCode(isAndroidResources);
+    h = h * 17 + Objects.hashCode(packagePrefix);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code IjSourceFolder} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("IjSourceFolder")
+        .omitNullValues()
+        .add("type", type)
+        .add("url", url)
+        .add("isTestSource", isTestSource)
+        .add("isAndroidResources", isAndroidResources)
+        .add("packagePrefix", packagePrefix)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractIjSourceFolder} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable IjSourceFolder instance
+   */
+  static IjSourceFolder copyOf(AbstractIjSourceFolder instance) {
+    if (instance instanceof IjSourceFolder) {
+      return (IjSourceFolder) instance;
+    }
+    return IjSourceFolder.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link IjSourceFolder IjSourceFolder}.
+   * @return A new IjSourceFolder builder
+   */
+  public static IjSourceFolder.Builder builder() {
+    return new IjSourceFolder.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link IjSourceFolder IjSourceFolder}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_TYPE = 0x1L;
+    private static final long INIT_BIT_URL = 0x2L;
+    private static final long INIT_BIT_IS_TEST_SOURCE = 0x4L;
+    private static final long INIT_BIT_IS_ANDROID_RESOURCES = 0x8L;
+    private long initBits = 0xfL;
+
+    private @Nullable String type;
+    private @Nullable String url;
+    private boolean isTestSource;
+    private boolean isAndroidResources;
+    private @Nullable String packagePrefix;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code IjSourceFolder} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(IjSourceFolder instance) {
+      return from((AbstractIjSourceFolder) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractIjSourceFolder} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractIjSourceFolder instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      setType(instance.getType());
+      setUrl(instance.getUrl());
+      setIsTestSource(instance.getIsTestSource());
+      setIsAndroidResources(instance.getIsAndroidResources());
+      @Nullable String packagePrefixValue = instance.getPackagePrefix();
+      if (packagePrefixValue != null) {
+        setPackagePrefix(packagePrefixValue);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractIjSourceFolder#getType() type} attribute.
+     * @param type The value for type 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setType(String type) {
+      this.type = Preconditions.checkNotNull(type, "type");
+      initBits &= ~INIT_BIT_TYPE;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractIjSourceFolder#getUrl() url} attribute.
+     * @param url The value for url 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setUrl(String url) {
+      this.url = Preconditions.checkNotNull(url, "url");
+      initBits &= ~INIT_BIT_URL;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractIjSourceFolder#getIsTestSource() isTestSource} attribute.
+     * @param isTestSource The value for isTestSource 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setIsTestSource(boolean isTestSource) {
+      this.isTestSource = isTestSource;
+      initBits &= ~INIT_BIT_IS_TEST_SOURCE;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractIjSourceFolder#getIsAndroidResources() isAndroidResources} attribute.
+     * @param isAndroidResources The value for isAndroidResources 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setIsAndroidResources(boolean isAndroidResources) {
+      this.isAndroidResources = isAndroidResources;
+      initBits &= ~INIT_BIT_IS_ANDROID_RESOURCES;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractIjSourceFolder#getPackagePrefix() packagePrefix} attribute.
+     * @param packagePrefix The value for packagePrefix (can be {@code null})
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPackagePrefix(@Nullable String packagePrefix) {
+      this.packagePrefix = packagePrefix;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link IjSourceFolder IjSourceFolder}.
+     * @return An immutable instance of IjSourceFolder
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public IjSourceFolder build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new IjSourceFolder(type, url, isTestSource, isAndroidResources, packagePrefix);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_TYPE) != 0) attributes.add("type");
+      if ((initBits & INIT_BIT_URL) != 0) attributes.add("url");
+      if ((initBits & INIT_BIT_IS_TEST_SOURCE) != 0) attributes.add("isTestSource");
+      if ((initBits & INIT_BIT_IS_ANDROID_RESOURCES) != 0) attributes.add("isAndroidResources");
+      return "Cannot build IjSourceFolder, some of required attributes are not set " + attributes;
+    }
+  }
+}
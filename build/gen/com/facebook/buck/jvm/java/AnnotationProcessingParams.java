@@ -0,0 +1,814 @@
+package com.facebook.buck.jvm.java;
+
+import com.facebook.buck.io.ProjectFilesystem;
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.rules.BuildRule;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Objects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Ordering;
+import com.google.common.primitives.Booleans;
+import java.util.Arrays;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Information for annotation processing.
+ * Annotation processing involves a set of processors, their classpath(s), and a few other
+ * command-line options for javac.  We want to be able to specify all this various information
+ * in a BUCK configuration file and use it when we generate the javac command.  This facilitates
+ * threading the information through buck in a more descriptive package rather than passing all
+ * the components separately.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractAnnotationProcessingParams"})
+@Immutable
+public final class AnnotationProcessingParams
+    extends AbstractAnnotationProcessingParams {
+  private final @Nullable BuildTarget ownerTarget;
+  private final @Nullable ProjectFilesystem projectFilesystem;
+  private final ImmutableSet<String> legacySafeAnnotationProcessors;
+  private final ImmutableList<BuildRule> legacyAnnotationProcessorDeps;
+  private final ImmutableSortedSet<String> legacyAnnotationProcessorNames;
+  private final ImmutableList<ResolvedJavacPluginProperties> modernProcessors;
+  private final ImmutableSortedSet<String> parameters;
+  private final boolean processOnly;
+
+  private AnnotationProcessingParams(AnnotationProcessingParams.Builder builder) {
+    this.ownerTarget = builder.ownerTarget;
+    this.projectFilesystem = builder.projectFilesystem;
+    this.legacySafeAnnotationProcessors = builder.legacySafeAnnotationProcessors.build();
+    this.legacyAnnotationProcessorDeps = builder.legacyAnnotationProcessorDeps.build();
+    this.legacyAnnotationProcessorNames = builder.legacyAnnotationProcessorNames.build();
+    this.modernProcessors = builder.modernProcessors.build();
+    this.parameters = builder.parameters.build();
+    this.processOnly = builder.processOnlyIsSet()
+        ? builder.processOnly
+        : super.getProcessOnly();
+  }
+
+  private AnnotationProcessingParams(
+      @Nullable BuildTarget ownerTarget,
+      @Nullable ProjectFilesystem projectFilesystem,
+      ImmutableSet<String> legacySafeAnnotationProcessors,
+      ImmutableList<BuildRule> legacyAnnotationProcessorDeps,
+      ImmutableSortedSet<String> legacyAnnotationProcessorNames,
+      ImmutableList<ResolvedJavacPluginProperties> modernProcessors,
+      ImmutableSortedSet<String> parameters,
+      boolean processOnly) {
+    this.ownerTarget = ownerTarget;
+    this.projectFilesystem = projectFilesystem;
+    this.legacySafeAnnotationProcessors = legacySafeAnnotationProcessors;
+    this.legacyAnnotationProcessorDeps = legacyAnnotationProcessorDeps;
+    this.legacyAnnotationProcessorNames = legacyAnnotationProcessorNames;
+    this.modernProcessors = modernProcessors;
+    this.parameters = parameters;
+    this.processOnly = processOnly;
+  }
+
+  /**
+   * @return The value of the {@code ownerTarget} attribute
+   */
+  @Override
+  public @Nullable BuildTarget getOwnerTarget() {
+    return ownerTarget;
+  }
+
+  /**
+   * @return The value of the {@code projectFilesystem} attribute
+   */
+  @Override
+  public @Nullable ProjectFilesystem getProjectFilesystem() {
+    return projectFilesystem;
+  }
+
+  /**
+   * @return The value of the {@code legacySafeAnnotationProcessors} attribute
+   */
+  @Override
+  public ImmutableSet<String> getLegacySafeAnnotationProcessors() {
+    return legacySafeAnnotationProcessors;
+  }
+
+  /**
+   * @return The value of the {@code legacyAnnotationProcessorDeps} attribute
+   */
+  @Override
+  public ImmutableList<BuildRule> getLegacyAnnotationProcessorDeps() {
+    return legacyAnnotationProcessorDeps;
+  }
+
+  /**
+   * @return The value of the {@code legacyAnnotationProcessorNames} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getLegacyAnnotationProcessorNames() {
+    return legacyAnnotationProcessorNames;
+  }
+
+  /**
+   * @return The value of the {@code modernProcessors} attribute
+   */
+  @Override
+  public ImmutableList<ResolvedJavacPluginProperties> getModernProcessors() {
+    return modernProcessors;
+  }
+
+  /**
+   * @return The value of the {@code parameters} attribute
+   */
+  @Override
+  public ImmutableSortedSet<String> getParameters() {
+    return parameters;
+  }
+
+  /**
+   * @return The value of the {@code processOnly} attribute
+   */
+  @Override
+  public boolean getProcessOnly() {
+    return processOnly;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractAnnotationProcessingParams#getOwnerTarget() ownerTarget} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for ownerTarget (can be {@code null})
+   * @return A modified copy of the {@code this} object
+   */
+  public final AnnotationProcessingParams withOwnerTarget(@Nullable BuildTarget value) {
+    if (this.ownerTarget == value) return this;
+    return validate(new AnnotationProcessingParams(
+        value,
+        this.projectFilesystem,
+        this.legacySafeAnnotationProcessors,
+        this.legacyAnnotationProcessorDeps,
+        this.legacyAnnotationProcessorNames,
+        this.modernProcessors,
+        this.parameters,
+        this.processOnly));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractAnnotationProcessingParams#getProjectFilesystem() projectFilesystem} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for projectFilesystem (can be {@code null})
+   * @return A modified copy of the {@code this} object
+   */
+  public final AnnotationProcessingParams withProjectFilesystem(@Nullable ProjectFilesystem value) {
+    if (this.projectFilesystem == value) return this;
+    return validate(new AnnotationProcessingParams(
+        this.ownerTarget,
+        value,
+        this.legacySafeAnnotationProcessors,
+        this.legacyAnnotationProcessorDeps,
+        this.legacyAnnotationProcessorNames,
+        this.modernProcessors,
+        this.parameters,
+        this.processOnly));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractAnnotationProcessingParams#getLegacySafeAnnotationProcessors() legacySafeAnnotationProcessors}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AnnotationProcessingParams withLegacySafeAnnotationProcessors(String... elements) {
+    ImmutableSet<String> newValue = ImmutableSet.copyOf(elements);
+    return validate(new AnnotationProcessingParams(
+        this.ownerTarget,
+        this.projectFilesystem,
+        newValue,
+        this.legacyAnnotationProcessorDeps,
+        this.legacyAnnotationProcessorNames,
+        this.modernProcessors,
+        this.parameters,
+        this.processOnly));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractAnnotationProcessingParams#getLegacySafeAnnotationProcessors() legacySafeAnnotationProcessors}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of legacySafeAnnotationProcessors elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AnnotationProcessingParams withLegacySafeAnnotationProcessors(Iterable<String> elements) {
+    if (this.legacySafeAnnotationProcessors == elements) return this;
+    ImmutableSet<String> newValue = ImmutableSet.copyOf(elements);
+    return validate(new AnnotationProcessingParams(
+        this.ownerTarget,
+        this.projectFilesystem,
+        newValue,
+        this.legacyAnnotationProcessorDeps,
+        this.legacyAnnotationProcessorNames,
+        this.modernProcessors,
+        this.parameters,
+        this.processOnly));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractAnnotationProcessingParams#getLegacyAnnotationProcessorDeps() legacyAnnotationProcessorDeps}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AnnotationProcessingParams withLegacyAnnotationProcessorDeps(BuildRule... elements) {
+    ImmutableList<BuildRule> newValue = ImmutableList.copyOf(elements);
+    return validate(new AnnotationProcessingParams(
+        this.ownerTarget,
+        this.projectFilesystem,
+        this.legacySafeAnnotationProcessors,
+        newValue,
+        this.legacyAnnotationProcessorNames,
+        this.modernProcessors,
+        this.parameters,
+        this.processOnly));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractAnnotationProcessingParams#getLegacyAnnotationProcessorDeps() legacyAnnotationProcessorDeps}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of legacyAnnotationProcessorDeps elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AnnotationProcessingParams withLegacyAnnotationProcessorDeps(Iterable<? extends BuildRule> elements) {
+    if (this.legacyAnnotationProcessorDeps == elements) return this;
+    ImmutableList<BuildRule> newValue = ImmutableList.copyOf(elements);
+    return validate(new AnnotationProcessingParams(
+        this.ownerTarget,
+        this.projectFilesystem,
+        this.legacySafeAnnotationProcessors,
+        newValue,
+        this.legacyAnnotationProcessorNames,
+        this.modernProcessors,
+        this.parameters,
+        this.processOnly));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractAnnotationProcessingParams#getLegacyAnnotationProcessorNames() legacyAnnotationProcessorNames}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AnnotationProcessingParams withLegacyAnnotationProcessorNames(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return validate(new AnnotationProcessingParams(
+        this.ownerTarget,
+        this.projectFilesystem,
+        this.legacySafeAnnotationProcessors,
+        this.legacyAnnotationProcessorDeps,
+        newValue,
+        this.modernProcessors,
+        this.parameters,
+        this.processOnly));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractAnnotationProcessingParams#getLegacyAnnotationProcessorNames() legacyAnnotationProcessorNames}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of legacyAnnotationProcessorNames elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AnnotationProcessingParams withLegacyAnnotationProcessorNames(Iterable<String> elements) {
+    if (this.legacyAnnotationProcessorNames == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return validate(new AnnotationProcessingParams(
+        this.ownerTarget,
+        this.projectFilesystem,
+        this.legacySafeAnnotationProcessors,
+        this.legacyAnnotationProcessorDeps,
+        newValue,
+        this.modernProcessors,
+        this.parameters,
+        this.processOnly));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractAnnotationProcessingParams#getModernProcessors() modernProcessors}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AnnotationProcessingParams withModernProcessors(ResolvedJavacPluginProperties... elements) {
+    ImmutableList<ResolvedJavacPluginProperties> newValue = ImmutableList.copyOf(elements);
+    return validate(new AnnotationProcessingParams(
+        this.ownerTarget,
+        this.projectFilesystem,
+        this.legacySafeAnnotationProcessors,
+        this.legacyAnnotationProcessorDeps,
+        this.legacyAnnotationProcessorNames,
+        newValue,
+        this.parameters,
+        this.processOnly));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractAnnotationProcessingParams#getModernProcessors() modernProcessors}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of modernProcessors elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AnnotationProcessingParams withModernProcessors(Iterable<? extends ResolvedJavacPluginProperties> elements) {
+    if (this.modernProcessors == elements) return this;
+    ImmutableList<ResolvedJavacPluginProperties> newValue = ImmutableList.copyOf(elements);
+    return validate(new AnnotationProcessingParams(
+        this.ownerTarget,
+        this.projectFilesystem,
+        this.legacySafeAnnotationProcessors,
+        this.legacyAnnotationProcessorDeps,
+        this.legacyAnnotationProcessorNames,
+        newValue,
+        this.parameters,
+        this.processOnly));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractAnnotationProcessingParams#getParameters() parameters}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AnnotationProcessingParams withParameters(String... elements) {
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        Arrays.asList(elements));
+    return validate(new AnnotationProcessingParams(
+        this.ownerTarget,
+        this.projectFilesystem,
+        this.legacySafeAnnotationProcessors,
+        this.legacyAnnotationProcessorDeps,
+        this.legacyAnnotationProcessorNames,
+        this.modernProcessors,
+        newValue,
+        this.processOnly));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractAnnotationProcessingParams#getParameters() parameters}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of parameters elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AnnotationProcessingParams withParameters(Iterable<String> elements) {
+    if (this.parameters == elements) return this;
+    ImmutableSortedSet<String> newValue = ImmutableSortedSet.copyOf(
+        Ordering.<String>natural(),
+        elements);
+    return validate(new AnnotationProcessingParams(
+        this.ownerTarget,
+        this.projectFilesystem,
+        this.legacySafeAnnotationProcessors,
+        this.legacyAnnotationProcessorDeps,
+        this.legacyAnnotationProcessorNames,
+        this.modernProcessors,
+        newValue,
+        this.processOnly));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractAnnotationProcessingParams#getProcessOnly() processOnly} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for processOnly
+   * @return A modified copy of the {@code this} object
+   */
+  public final AnnotationProcessingParams withProcessOnly(boolean value) {
+    if (this.processOnly == value) return this;
+    return validate(new AnnotationProcessingParams(
+        this.ownerTarget,
+        this.projectFilesystem,
+        this.legacySafeAnnotationProcessors,
+        this.legacyAnnotationProcessorDeps,
+        this.legacyAnnotationProcessorNames,
+        this.modernProcessors,
+        this.parameters,
+        value));
+  }
+
+  /**
+   * This instance is equal to all instances of {@code AnnotationProcessingParams} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof AnnotationProcessingParams
+        && equalTo((AnnotationProcessingParams) another);
+  }
+
+  private boolean equalTo(AnnotationProcessingParams another) {
+    return Objects.equal(ownerTarget, another.ownerTarget)
+        && Objects.equal(projectFilesystem, another.projectFilesystem)
+        && legacySafeAnnotationProcessors.equals(another.legacySafeAnnotationProcessors)
+        && legacyAnnotationProcessorDeps.equals(another.legacyAnnotationProcessorDeps)
+        && legacyAnnotationProcessorNames.equals(another.legacyAnnotationProcessorNames)
+        && modernProcessors.equals(another.modernProcessors)
+        && parameters.equals(another.parameters)
+        && processOnly == another.processOnly;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code ownerTarget}, {@code projectFilesystem}, {@code legacySafeAnnotationProcessors}, {@code legacyAnnotationProcessorDeps}, {@code legacyAnnotationProcessorNames}, {@code modernProcessors}, {@code parameters}, {@code processOnly}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + Objects.hashCode(ownerTarget);
+    h = h * 17 + Objects.hashCode(projectFilesystem);
+    h = h * 17 + legacySafeAnnotationProcessors.hashCode();
+    h = h * 17 + legacyAnnotationProcessorDeps.hashCode();
+    h = h * 17 + legacyAnnotationProcessorNames.hashCode();
+    h = h * 17 + modernProcessors.hashCode();
+    h = h * 17 + parameters.hashCode();
+    h = h * 17 + Booleans.hashCode(processOnly);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AnnotationProcessingParams} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AnnotationProcessingParams")
+        .omitNullValues()
+        .add("ownerTarget", ownerTarget)
+        .add("projectFilesystem", projectFilesystem)
+        .add("legacySafeAnnotationProcessors", legacySafeAnnotationProcessors)
+        .add("legacyAnnotationProcessorDeps", legacyAnnotationProcessorDeps)
+        .add("legacyAnnotationProcessorNames", legacyAnnotationProcessorNames)
+        .add("modernProcessors", modernProcessors)
+        .add("parameters", parameters)
+        .add("processOnly", processOnly)
+        .toString();
+  }
+
+  private volatile long lazyInitBitmap;
+
+  private static final long LEGACY_PROCESSORS_LAZY_INIT_BIT = 0x1L;
+
+  private ImmutableList<JavacPluginProperties> legacyProcessors;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractAnnotationProcessingParams#getLegacyProcessors() legacyProcessors} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public ImmutableList<JavacPluginProperties> getLegacyProcessors() {
+    if ((lazyInitBitmap & LEGACY_PROCESSORS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & LEGACY_PROCESSORS_LAZY_INIT_BIT) == 0) {
+          this.legacyProcessors = Preconditions.checkNotNull(super.getLegacyProcessors(), "legacyProcessors");
+          lazyInitBitmap |= LEGACY_PROCESSORS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return legacyProcessors;
+  }
+
+  private static AnnotationProcessingParams validate(AnnotationProcessingParams instance) {
+    instance.check();
+    return instance;
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractAnnotationProcessingParams} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable AnnotationProcessingParams instance
+   */
+  static AnnotationProcessingParams copyOf(AbstractAnnotationProcessingParams instance) {
+    if (instance instanceof AnnotationProcessingParams) {
+      return (AnnotationProcessingParams) instance;
+    }
+    return AnnotationProcessingParams.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link AnnotationProcessingParams AnnotationProcessingParams}.
+   * @return A new AnnotationProcessingParams builder
+   */
+  public static AnnotationProcessingParams.Builder builder() {
+    return new AnnotationProcessingParams.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link AnnotationProcessingParams AnnotationProcessingParams}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long OPT_BIT_PROCESS_ONLY = 0x1L;
+    private long optBits;
+
+    private @Nullable BuildTarget ownerTarget;
+    private @Nullable ProjectFilesystem projectFilesystem;
+    private ImmutableSet.Builder<String> legacySafeAnnotationProcessors = ImmutableSet.builder();
+    private ImmutableList.Builder<BuildRule> legacyAnnotationProcessorDeps = ImmutableList.builder();
+    private ImmutableSortedSet.Builder<String> legacyAnnotationProcessorNames = ImmutableSortedSet.naturalOrder();
+    private ImmutableList.Builder<ResolvedJavacPluginProperties> modernProcessors = ImmutableList.builder();
+    private ImmutableSortedSet.Builder<String> parameters = ImmutableSortedSet.naturalOrder();
+    private boolean processOnly;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AnnotationProcessingParams} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(AnnotationProcessingParams instance) {
+      return from((AbstractAnnotationProcessingParams) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractAnnotationProcessingParams} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractAnnotationProcessingParams instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      @Nullable BuildTarget ownerTargetValue = instance.getOwnerTarget();
+      if (ownerTargetValue != null) {
+        setOwnerTarget(ownerTargetValue);
+      }
+      @Nullable ProjectFilesystem projectFilesystemValue = instance.getProjectFilesystem();
+      if (projectFilesystemValue != null) {
+        setProjectFilesystem(projectFilesystemValue);
+      }
+      addAllLegacySafeAnnotationProcessors(instance.getLegacySafeAnnotationProcessors());
+      addAllLegacyAnnotationProcessorDeps(instance.getLegacyAnnotationProcessorDeps());
+      addAllLegacyAnnotationProcessorNames(instance.getLegacyAnnotationProcessorNames());
+      addAllModernProcessors(instance.getModernProcessors());
+      addAllParameters(instance.getParameters());
+      setProcessOnly(instance.getProcessOnly());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractAnnotationProcessingParams#getOwnerTarget() ownerTarget} attribute.
+     * @param ownerTarget The value for ownerTarget (can be {@code null})
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setOwnerTarget(@Nullable BuildTarget ownerTarget) {
+      this.ownerTarget = ownerTarget;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractAnnotationProcessingParams#getProjectFilesystem() projectFilesystem} attribute.
+     * @param projectFilesystem The value for projectFilesystem (can be {@code null})
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setProjectFilesystem(@Nullable ProjectFilesystem projectFilesystem) {
+      this.projectFilesystem = projectFilesystem;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractAnnotationProcessingParams#getLegacySafeAnnotationProcessors() legacySafeAnnotationProcessors} set.
+     * @param element A legacySafeAnnotationProcessors element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLegacySafeAnnotationProcessors(String element) {
+      this.legacySafeAnnotationProcessors.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractAnnotationProcessingParams#getLegacySafeAnnotationProcessors() legacySafeAnnotationProcessors} set.
+     * @param elements An array of legacySafeAnnotationProcessors elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLegacySafeAnnotationProcessors(String... elements) {
+      this.legacySafeAnnotationProcessors.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractAnnotationProcessingParams#getLegacySafeAnnotationProcessors() legacySafeAnnotationProcessors} set.
+     * @param elements An iterable of legacySafeAnnotationProcessors elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLegacySafeAnnotationProcessors(Iterable<String> elements) {
+      this.legacySafeAnnotationProcessors = ImmutableSet.builder();
+      return addAllLegacySafeAnnotationProcessors(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractAnnotationProcessingParams#getLegacySafeAnnotationProcessors() legacySafeAnnotationProcessors} set.
+     * @param elements An iterable of legacySafeAnnotationProcessors elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLegacySafeAnnotationProcessors(Iterable<String> elements) {
+      this.legacySafeAnnotationProcessors.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractAnnotationProcessingParams#getLegacyAnnotationProcessorDeps() legacyAnnotationProcessorDeps} list.
+     * @param element A legacyAnnotationProcessorDeps element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLegacyAnnotationProcessorDeps(BuildRule element) {
+      this.legacyAnnotationProcessorDeps.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractAnnotationProcessingParams#getLegacyAnnotationProcessorDeps() legacyAnnotationProcessorDeps} list.
+     * @param elements An array of legacyAnnotationProcessorDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLegacyAnnotationProcessorDeps(BuildRule... elements) {
+      this.legacyAnnotationProcessorDeps.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractAnnotationProcessingParams#getLegacyAnnotationProcessorDeps() legacyAnnotationProcessorDeps} list.
+     * @param elements An iterable of legacyAnnotationProcessorDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLegacyAnnotationProcessorDeps(Iterable<? extends BuildRule> elements) {
+      this.legacyAnnotationProcessorDeps = ImmutableList.builder();
+      return addAllLegacyAnnotationProcessorDeps(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractAnnotationProcessingParams#getLegacyAnnotationProcessorDeps() legacyAnnotationProcessorDeps} list.
+     * @param elements An iterable of legacyAnnotationProcessorDeps elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLegacyAnnotationProcessorDeps(Iterable<? extends BuildRule> elements) {
+      this.legacyAnnotationProcessorDeps.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractAnnotationProcessingParams#getLegacyAnnotationProcessorNames() legacyAnnotationProcessorNames} sortedSet.
+     * @param element A legacyAnnotationProcessorNames element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLegacyAnnotationProcessorNames(String element) {
+      this.legacyAnnotationProcessorNames.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractAnnotationProcessingParams#getLegacyAnnotationProcessorNames() legacyAnnotationProcessorNames} sortedSet.
+     * @param elements An array of legacyAnnotationProcessorNames elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLegacyAnnotationProcessorNames(String... elements) {
+      this.legacyAnnotationProcessorNames.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractAnnotationProcessingParams#getLegacyAnnotationProcessorNames() legacyAnnotationProcessorNames} sortedSet.
+     * @param elements An iterable of legacyAnnotationProcessorNames elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLegacyAnnotationProcessorNames(Iterable<String> elements) {
+      this.legacyAnnotationProcessorNames = ImmutableSortedSet.naturalOrder();
+      return addAllLegacyAnnotationProcessorNames(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractAnnotationProcessingParams#getLegacyAnnotationProcessorNames() legacyAnnotationProcessorNames} sortedSet.
+     * @param elements An iterable of legacyAnnotationProcessorNames elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLegacyAnnotationProcessorNames(Iterable<String> elements) {
+      this.legacyAnnotationProcessorNames.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractAnnotationProcessingParams#getModernProcessors() modernProcessors} list.
+     * @param element A modernProcessors element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addModernProcessors(ResolvedJavacPluginProperties element) {
+      this.modernProcessors.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractAnnotationProcessingParams#getModernProcessors() modernProcessors} list.
+     * @param elements An array of modernProcessors elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addModernProcessors(ResolvedJavacPluginProperties... elements) {
+      this.modernProcessors.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractAnnotationProcessingParams#getModernProcessors() modernProcessors} list.
+     * @param elements An iterable of modernProcessors elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setModernProcessors(Iterable<? extends ResolvedJavacPluginProperties> elements) {
+      this.modernProcessors = ImmutableList.builder();
+      return addAllModernProcessors(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractAnnotationProcessingParams#getModernProcessors() modernProcessors} list.
+     * @param elements An iterable of modernProcessors elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllModernProcessors(Iterable<? extends ResolvedJavacPluginProperties> elements) {
+      this.modernProcessors.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractAnnotationProcessingParams#getParameters() parameters} sortedSet.
+     * @param element A parameters element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addParameters(String element) {
+      this.parameters.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractAnnotationProcessingParams#getParameters() parameters} sortedSet.
+     * @param elements An array of parameters elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addParameters(String... elements) {
+      this.parameters.addAll(Arrays.asList(elements));
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractAnnotationProcessingParams#getParameters() parameters} sortedSet.
+     * @param elements An iterable of parameters elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setParameters(Iterable<String> elements) {
+      this.parameters = ImmutableSortedSet.naturalOrder();
+      return addAllParameters(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractAnnotationProcessingParams#getParameters() parameters} sortedSet.
+     * @param elements An iterable of parameters elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllParameters(Iterable<String> elements) {
+      this.parameters.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractAnnotationProcessingParams#getProcessOnly() processOnly} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractAnnotationProcessingParams#getProcessOnly() processOnly}.</em>
+     * @param processOnly The value for processOnly 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setProcessOnly(boolean processOnly) {
+      this.processOnly = processOnly;
+      optBits |= OPT_BIT_PROCESS_ONLY;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link AnnotationProcessingParams AnnotationProcessingParams}.
+     * @return An immutable instance of AnnotationProcessingParams
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public AnnotationProcessingParams build() {
+      return AnnotationProcessingParams.validate(new AnnotationProcessingParams(this));
+    }
+
+    private boolean processOnlyIsSet() {
+      return (optBits & OPT_BIT_PROCESS_ONLY) != 0;
+    }
+  }
+}
@@ -0,0 +1,1276 @@
+package com.facebook.buck.jvm.java;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Objects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Represents the command line options that should be passed to javac. Note that the options do not
+ * include either the classpath or the directory for storing class files.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractJavacOptions"})
+@Immutable
+public final class JavacOptions extends AbstractJavacOptions {
+  private final AbstractJavacOptions.SpoolMode spoolMode;
+  private final boolean productionBuild;
+  private final boolean verbose;
+  private final String sourceLevel;
+  private final String targetLevel;
+  private final AnnotationProcessingParams annotationProcessingParams;
+  private final ImmutableSet<String> safeAnnotationProcessors;
+  private final ImmutableList<String> extraArguments;
+  private final ImmutableSet<Pattern> classesToRemoveFromJar;
+  private final @Nullable String bootclasspath;
+  private final ImmutableMap<String, String> sourceToBootclasspath;
+  private final boolean trackClassUsage;
+  private final Javac.CompilationMode compilationMode;
+
+  private JavacOptions(JavacOptions.Builder builder) {
+    this.safeAnnotationProcessors = builder.safeAnnotationProcessors.build();
+    this.extraArguments = builder.extraArguments.build();
+    this.classesToRemoveFromJar = builder.classesToRemoveFromJar.build();
+    this.bootclasspath = builder.bootclasspath;
+    this.sourceToBootclasspath = builder.sourceToBootclasspath.build();
+    if (builder.spoolMode != null) {
+      initShim.setSpoolMode(builder.spoolMode);
+    }
+    if (builder.productionBuildIsSet()) {
+      initShim.setProductionBuild(builder.productionBuild);
+    }
+    if (builder.verboseIsSet()) {
+      initShim.setVerbose(builder.verbose);
+    }
+    if (builder.sourceLevel != null) {
+      initShim.setSourceLevel(builder.sourceLevel);
+    }
+    if (builder.targetLevel != null) {
+      initShim.setTargetLevel(builder.targetLevel);
+    }
+    if (builder.annotationProcessingParams != null) {
+      initShim.setAnnotationProcessingParams(builder.annotationProcessingParams);
+    }
+    if (builder.trackClassUsageIsSet()) {
+      initShim.setTrackClassUsage(builder.trackClassUsage);
+    }
+    if (builder.compilationMode != null) {
+      initShim.setCompilationMode(builder.compilationMode);
+    }
+    this.spoolMode = initShim.getSpoolMode();
+    this.productionBuild = initShim.isProductionBuild();
+    this.verbose = initShim.isVerbose();
+    this.sourceLevel = initShim.getSourceLevel();
+    this.targetLevel = initShim.getTargetLevel();
+    this.annotationProcessingParams = initShim.getAnnotationProcessingParams();
+    this.trackClassUsage = initShim.trackClassUsage();
+    this.compilationMode = initShim.getCompilationMode();
+    this.initShim = null;
+  }
+
+  private JavacOptions(
+      AbstractJavacOptions.SpoolMode spoolMode,
+      boolean productionBuild,
+      boolean verbose,
+      String sourceLevel,
+      String targetLevel,
+      AnnotationProcessingParams annotationProcessingParams,
+      ImmutableSet<String> safeAnnotationProcessors,
+      ImmutableList<String> extraArguments,
+      ImmutableSet<Pattern> classesToRemoveFromJar,
+      @Nullable String bootclasspath,
+      ImmutableMap<String, String> sourceToBootclasspath,
+      boolean trackClassUsage,
+      Javac.CompilationMode compilationMode) {
+    this.spoolMode = spoolMode;
+    this.productionBuild = productionBuild;
+    this.verbose = verbose;
+    this.sourceLevel = sourceLevel;
+    this.targetLevel = targetLevel;
+    this.annotationProcessingParams = annotationProcessingParams;
+    this.safeAnnotationProcessors = safeAnnotationProcessors;
+    this.extraArguments = extraArguments;
+    this.classesToRemoveFromJar = classesToRemoveFromJar;
+    this.bootclasspath = bootclasspath;
+    this.sourceToBootclasspath = sourceToBootclasspath;
+    this.trackClassUsage = trackClassUsage;
+    this.compilationMode = compilationMode;
+    this.initShim = null;
+  }
+
+  private static final int STAGE_INITIALIZING = -1;
+  private static final int STAGE_UNINITIALIZED = 0;
+  private static final int STAGE_INITIALIZED = 1;
+  private transient volatile InitShim initShim = new InitShim();
+
+  private final class InitShim {
+    private AbstractJavacOptions.SpoolMode spoolMode;
+    private int spoolModeBuildStage;
+
+    AbstractJavacOptions.SpoolMode getSpoolMode() {
+      if (spoolModeBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (spoolModeBuildStage == STAGE_UNINITIALIZED) {
+        spoolModeBuildStage = STAGE_INITIALIZING;
+        this.spoolMode = Preconditions.checkNotNull(JavacOptions.super.getSpoolMode(), "spoolMode");
+        spoolModeBuildStage = STAGE_INITIALIZED;
+      }
+      return this.spoolMode;
+    }
+
+    void setSpoolMode(AbstractJavacOptions.SpoolMode spoolMode) {
+      this.spoolMode = spoolMode;
+      spoolModeBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean productionBuild;
+    private int productionBuildBuildStage;
+
+    boolean isProductionBuild() {
+      if (productionBuildBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (productionBuildBuildStage == STAGE_UNINITIALIZED) {
+        productionBuildBuildStage = STAGE_INITIALIZING;
+        this.productionBuild = JavacOptions.super.isProductionBuild();
+        productionBuildBuildStage = STAGE_INITIALIZED;
+      }
+      return this.productionBuild;
+    }
+
+    void setProductionBuild(boolean productionBuild) {
+      this.productionBuild = productionBuild;
+      productionBuildBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean verbose;
+    private int verboseBuildStage;
+
+    boolean isVerbose() {
+      if (verboseBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (verboseBuildStage == STAGE_UNINITIALIZED) {
+        verboseBuildStage = STAGE_INITIALIZING;
+        this.verbose = JavacOptions.super.isVerbose();
+        verboseBuildStage = STAGE_INITIALIZED;
+      }
+      return this.verbose;
+    }
+
+    void setVerbose(boolean verbose) {
+      this.verbose = verbose;
+      verboseBuildStage = STAGE_INITIALIZED;
+    }
+    private String sourceLevel;
+    private int sourceLevelBuildStage;
+
+    String getSourceLevel() {
+      if (sourceLevelBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (sourceLevelBuildStage == STAGE_UNINITIALIZED) {
+        sourceLevelBuildStage = STAGE_INITIALIZING;
+        this.sourceLevel = Preconditions.checkNotNull(JavacOptions.super.getSourceLevel(), "sourceLevel");
+        sourceLevelBuildStage = STAGE_INITIALIZED;
+      }
+      return this.sourceLevel;
+    }
+
+    void setSourceLevel(String sourceLevel) {
+      this.sourceLevel = sourceLevel;
+      sourceLevelBuildStage = STAGE_INITIALIZED;
+    }
+    private String targetLevel;
+    private int targetLevelBuildStage;
+
+    String getTargetLevel() {
+      if (targetLevelBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (targetLevelBuildStage == STAGE_UNINITIALIZED) {
+        targetLevelBuildStage = STAGE_INITIALIZING;
+        this.targetLevel = Preconditions.checkNotNull(JavacOptions.super.getTargetLevel(), "targetLevel");
+        targetLevelBuildStage = STAGE_INITIALIZED;
+      }
+      return this.targetLevel;
+    }
+
+    void setTargetLevel(String targetLevel) {
+      this.targetLevel = targetLevel;
+      targetLevelBuildStage = STAGE_INITIALIZED;
+    }
+    private AnnotationProcessingParams annotationProcessingParams;
+    private int annotationProcessingParamsBuildStage;
+
+    AnnotationProcessingParams getAnnotationProcessingParams() {
+      if (annotationProcessingParamsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (annotationProcessingParamsBuildStage == STAGE_UNINITIALIZED) {
+        annotationProcessingParamsBuildStage = STAGE_INITIALIZING;
+        this.annotationProcessingParams = Preconditions.checkNotNull(JavacOptions.super.getAnnotationProcessingParams(), "annotationProcessingParams");
+        annotationProcessingParamsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.annotationProcessingParams;
+    }
+
+    void setAnnotationProcessingParams(AnnotationProcessingParams annotationProcessingParams) {
+      this.annotationProcessingParams = annotationProcessingParams;
+      annotationProcessingParamsBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean trackClassUsage;
+    private int trackClassUsageBuildStage;
+
+    boolean trackClassUsage() {
+      if (trackClassUsageBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (trackClassUsageBuildStage == STAGE_UNINITIALIZED) {
+        trackClassUsageBuildStage = STAGE_INITIALIZING;
+        this.trackClassUsage = JavacOptions.super.trackClassUsage();
+        trackClassUsageBuildStage = STAGE_INITIALIZED;
+      }
+      return this.trackClassUsage;
+    }
+
+    void setTrackClassUsage(boolean trackClassUsage) {
+      this.trackClassUsage = trackClassUsage;
+      trackClassUsageBuildStage = STAGE_INITIALIZED;
+    }
+    private Javac.CompilationMode compilationMode;
+    private int compilationModeBuildStage;
+
+    Javac.CompilationMode getCompilationMode() {
+      if (compilationModeBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (compilationModeBuildStage == STAGE_UNINITIALIZED) {
+        compilationModeBuildStage = STAGE_INITIALIZING;
+        this.compilationMode = Preconditions.checkNotNull(JavacOptions.super.getCompilationMode(), "compilationMode");
+        compilationModeBuildStage = STAGE_INITIALIZED;
+      }
+      return this.compilationMode;
+    }
+
+    void setCompilationMode(Javac.CompilationMode compilationMode) {
+      this.compilationMode = compilationMode;
+      compilationModeBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      ArrayList<String> attributes = Lists.newArrayList();
+      if (spoolModeBuildStage == STAGE_INITIALIZING) attributes.add("spoolMode");
+      if (productionBuildBuildStage == STAGE_INITIALIZING) attributes.add("productionBuild");
+      if (verboseBuildStage == STAGE_INITIALIZING) attributes.add("verbose");
+      if (sourceLevelBuildStage == STAGE_INITIALIZING) attributes.add("sourceLevel");
+      if (targetLevelBuildStage == STAGE_INITIALIZING) attributes.add("targetLevel");
+      if (annotationProcessingParamsBuildStage == STAGE_INITIALIZING) attributes.add("annotationProcessingParams");
+      if (trackClassUsageBuildStage == STAGE_INITIALIZING) attributes.add("trackClassUsage");
+      if (compilationModeBuildStage == STAGE_INITIALIZING) attributes.add("compilationMode");
+      return "Cannot build JavacOptions, attribute initializers form cycle" + attributes;
+    }
+  }
+
+  /**
+   * @return The value of the {@code spoolMode} attribute
+   */
+  @Override
+  public AbstractJavacOptions.SpoolMode getSpoolMode() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getSpoolMode()
+        : this.spoolMode;
+  }
+
+  /**
+   * @return The value of the {@code productionBuild} attribute
+   */
+  @Override
+  public boolean isProductionBuild() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isProductionBuild()
+        : this.productionBuild;
+  }
+
+  /**
+   * @return The value of the {@code verbose} attribute
+   */
+  @Override
+  public boolean isVerbose() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isVerbose()
+        : this.verbose;
+  }
+
+  /**
+   * @return The value of the {@code sourceLevel} attribute
+   */
+  @Override
+  public String getSourceLevel() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getSourceLevel()
+        : this.sourceLevel;
+  }
+
+  /**
+   * @return The value of the {@code targetLevel} attribute
+   */
+  @Override
+  public String getTargetLevel() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getTargetLevel()
+        : this.targetLevel;
+  }
+
+  /**
+   * @return The value of the {@code annotationProcessingParams} attribute
+   */
+  @Override
+  public AnnotationProcessingParams getAnnotationProcessingParams() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getAnnotationProcessingParams()
+        : this.annotationProcessingParams;
+  }
+
+  /**
+   * @return The value of the {@code safeAnnotationProcessors} attribute
+   */
+  @Override
+  public ImmutableSet<String> getSafeAnnotationProcessors() {
+    return safeAnnotationProcessors;
+  }
+
+  /**
+   * @return The value of the {@code extraArguments} attribute
+   */
+  @Override
+  public ImmutableList<String> getExtraArguments() {
+    return extraArguments;
+  }
+
+  /**
+   * @return The value of the {@code classesToRemoveFromJar} attribute
+   */
+  @Override
+  public ImmutableSet<Pattern> getClassesToRemoveFromJar() {
+    return classesToRemoveFromJar;
+  }
+
+  /**
+   * @return The value of the {@code bootclasspath} attribute
+   */
+  @Override
+  public Optional<String> getBootclasspath() {
+    return Optional.ofNullable(bootclasspath);
+  }
+
+  /**
+   * @return The value of the {@code sourceToBootclasspath} attribute
+   */
+  @Override
+  public ImmutableMap<String, String> getSourceToBootclasspath() {
+    return sourceToBootclasspath;
+  }
+
+  /**
+   * @return The value of the {@code trackClassUsage} attribute
+   */
+  @Override
+  public boolean trackClassUsage() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.trackClassUsage()
+        : this.trackClassUsage;
+  }
+
+  /**
+   * @return The value of the {@code compilationMode} attribute
+   */
+  @Override
+  public Javac.CompilationMode getCompilationMode() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getCompilationMode()
+        : this.compilationMode;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractJavacOptions#getSpoolMode() spoolMode} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for spoolMode
+   * @return A modified copy of the {@code this} object
+   */
+  public final JavacOptions withSpoolMode(AbstractJavacOptions.SpoolMode value) {
+    if (this.spoolMode == value) return this;
+    AbstractJavacOptions.SpoolMode newValue = Preconditions.checkNotNull(value, "spoolMode");
+    return new JavacOptions(
+        newValue,
+        this.productionBuild,
+        this.verbose,
+        this.sourceLevel,
+        this.targetLevel,
+        this.annotationProcessingParams,
+        this.safeAnnotationProcessors,
+        this.extraArguments,
+        this.classesToRemoveFromJar,
+        this.bootclasspath,
+        this.sourceToBootclasspath,
+        this.trackClassUsage,
+        this.compilationMode);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractJavacOptions#isProductionBuild() productionBuild} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for productionBuild
+   * @return A modified copy of the {@code this} object
+   */
+  public final JavacOptions withProductionBuild(boolean value) {
+    if (this.productionBuild == value) return this;
+    return new JavacOptions(
+        this.spoolMode,
+        value,
+        this.verbose,
+        this.sourceLevel,
+        this.targetLevel,
+        this.annotationProcessingParams,
+        this.safeAnnotationProcessors,
+        this.extraArguments,
+        this.classesToRemoveFromJar,
+        this.bootclasspath,
+        this.sourceToBootclasspath,
+        this.trackClassUsage,
+        this.compilationMode);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractJavacOptions#isVerbose() verbose} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for verbose
+   * @return A modified copy of the {@code this} object
+   */
+  public final JavacOptions withVerbose(boolean value) {
+    if (this.verbose == value) return this;
+    return new JavacOptions(
+        this.spoolMode,
+        this.productionBuild,
+        value,
+        this.sourceLevel,
+        this.targetLevel,
+        this.annotationProcessingParams,
+        this.safeAnnotationProcessors,
+        this.extraArguments,
+        this.classesToRemoveFromJar,
+        this.bootclasspath,
+        this.sourceToBootclasspath,
+        this.trackClassUsage,
+        this.compilationMode);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractJavacOptions#getSourceLevel() sourceLevel} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for sourceLevel
+   * @return A modified copy of the {@code this} object
+   */
+  public final JavacOptions withSourceLevel(String value) {
+    if (this.sourceLevel.equals(value)) return this;
+    String newValue = Preconditions.checkNotNull(value, "sourceLevel");
+    return new JavacOptions(
+        this.spoolMode,
+        this.productionBuild,
+        this.verbose,
+        newValue,
+        this.targetLevel,
+        this.annotationProcessingParams,
+        this.safeAnnotationProcessors,
+        this.extraArguments,
+        this.classesToRemoveFromJar,
+        this.bootclasspath,
+        this.sourceToBootclasspath,
+        this.trackClassUsage,
+        this.compilationMode);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractJavacOptions#getTargetLevel() targetLevel} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for targetLevel
+   * @return A modified copy of the {@code this} object
+   */
+  public final JavacOptions withTargetLevel(String value) {
+    if (this.targetLevel.equals(value)) return this;
+    String newValue = Preconditions.checkNotNull(value, "targetLevel");
+    return new JavacOptions(
+        this.spoolMode,
+        this.productionBuild,
+        this.verbose,
+        this.sourceLevel,
+        newValue,
+        this.annotationProcessingParams,
+        this.safeAnnotationProcessors,
+        this.extraArguments,
+        this.classesToRemoveFromJar,
+        this.bootclasspath,
+        this.sourceToBootclasspath,
+        this.trackClassUsage,
+        this.compilationMode);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractJavacOptions#getAnnotationProcessingParams() annotationProcessingParams} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for annotationProcessingParams
+   * @return A modified copy of the {@code this} object
+   */
+  public final JavacOptions withAnnotationProcessingParams(AnnotationProcessingParams value) {
+    if (this.annotationProcessingParams == value) return this;
+    AnnotationProcessingParams newValue = Preconditions.checkNotNull(value, "annotationProcessingParams");
+    return new JavacOptions(
+        this.spoolMode,
+        this.productionBuild,
+        this.verbose,
+        this.sourceLevel,
+        this.targetLevel,
+        newValue,
+        this.safeAnnotationProcessors,
+        this.extraArguments,
+        this.classesToRemoveFromJar,
+        this.bootclasspath,
+        this.sourceToBootclasspath,
+        this.trackClassUsage,
+        this.compilationMode);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractJavacOptions#getSafeAnnotationProcessors() safeAnnotationProcessors}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final JavacOptions withSafeAnnotationProcessors(String... elements) {
+    ImmutableSet<String> newValue = ImmutableSet.copyOf(elements);
+    return new JavacOptions(
+        this.spoolMode,
+        this.productionBuild,
+        this.verbose,
+        this.sourceLevel,
+        this.targetLevel,
+        this.annotationProcessingParams,
+        newValue,
+        this.extraArguments,
+        this.classesToRemoveFromJar,
+        this.bootclasspath,
+        this.sourceToBootclasspath,
+        this.trackClassUsage,
+        this.compilationMode);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractJavacOptions#getSafeAnnotationProcessors() safeAnnotationProcessors}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of safeAnnotationProcessors elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final JavacOptions withSafeAnnotationProcessors(Iterable<String> elements) {
+    if (this.safeAnnotationProcessors == elements) return this;
+    ImmutableSet<String> newValue = ImmutableSet.copyOf(elements);
+    return new JavacOptions(
+        this.spoolMode,
+        this.productionBuild,
+        this.verbose,
+        this.sourceLevel,
+        this.targetLevel,
+        this.annotationProcessingParams,
+        newValue,
+        this.extraArguments,
+        this.classesToRemoveFromJar,
+        this.bootclasspath,
+        this.sourceToBootclasspath,
+        this.trackClassUsage,
+        this.compilationMode);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractJavacOptions#getExtraArguments() extraArguments}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final JavacOptions withExtraArguments(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new JavacOptions(
+        this.spoolMode,
+        this.productionBuild,
+        this.verbose,
+        this.sourceLevel,
+        this.targetLevel,
+        this.annotationProcessingParams,
+        this.safeAnnotationProcessors,
+        newValue,
+        this.classesToRemoveFromJar,
+        this.bootclasspath,
+        this.sourceToBootclasspath,
+        this.trackClassUsage,
+        this.compilationMode);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractJavacOptions#getExtraArguments() extraArguments}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of extraArguments elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final JavacOptions withExtraArguments(Iterable<String> elements) {
+    if (this.extraArguments == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new JavacOptions(
+        this.spoolMode,
+        this.productionBuild,
+        this.verbose,
+        this.sourceLevel,
+        this.targetLevel,
+        this.annotationProcessingParams,
+        this.safeAnnotationProcessors,
+        newValue,
+        this.classesToRemoveFromJar,
+        this.bootclasspath,
+        this.sourceToBootclasspath,
+        this.trackClassUsage,
+        this.compilationMode);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractJavacOptions#getClassesToRemoveFromJar() classesToRemoveFromJar}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final JavacOptions withClassesToRemoveFromJar(Pattern... elements) {
+    ImmutableSet<Pattern> newValue = ImmutableSet.copyOf(elements);
+    return new JavacOptions(
+        this.spoolMode,
+        this.productionBuild,
+        this.verbose,
+        this.sourceLevel,
+        this.targetLevel,
+        this.annotationProcessingParams,
+        this.safeAnnotationProcessors,
+        this.extraArguments,
+        newValue,
+        this.bootclasspath,
+        this.sourceToBootclasspath,
+        this.trackClassUsage,
+        this.compilationMode);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractJavacOptions#getClassesToRemoveFromJar() classesToRemoveFromJar}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of classesToRemoveFromJar elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final JavacOptions withClassesToRemoveFromJar(Iterable<? extends Pattern> elements) {
+    if (this.classesToRemoveFromJar == elements) return this;
+    ImmutableSet<Pattern> newValue = ImmutableSet.copyOf(elements);
+    return new JavacOptions(
+        this.spoolMode,
+        this.productionBuild,
+        this.verbose,
+        this.sourceLevel,
+        this.targetLevel,
+        this.annotationProcessingParams,
+        this.safeAnnotationProcessors,
+        this.extraArguments,
+        newValue,
+        this.bootclasspath,
+        this.sourceToBootclasspath,
+        this.trackClassUsage,
+        this.compilationMode);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractJavacOptions#getBootclasspath() bootclasspath} attribute.
+   * @param value The value for bootclasspath
+   * @return A modified copy of {@code this} object
+   */
+  public final JavacOptions withBootclasspath(String value) {
+    @Nullable String newValue = Preconditions.checkNotNull(value, "bootclasspath");
+    if (Objects.equal(this.bootclasspath, newValue)) return this;
+    return new JavacOptions(
+        this.spoolMode,
+        this.productionBuild,
+        this.verbose,
+        this.sourceLevel,
+        this.targetLevel,
+        this.annotationProcessingParams,
+        this.safeAnnotationProcessors,
+        this.extraArguments,
+        this.classesToRemoveFromJar,
+        newValue,
+        this.sourceToBootclasspath,
+        this.trackClassUsage,
+        this.compilationMode);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractJavacOptions#getBootclasspath() bootclasspath} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for bootclasspath
+   * @return A modified copy of {@code this} object
+   */
+  public final JavacOptions withBootclasspath(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equal(this.bootclasspath, value)) return this;
+    return new JavacOptions(
+        this.spoolMode,
+        this.productionBuild,
+        this.verbose,
+        this.sourceLevel,
+        this.targetLevel,
+        this.annotationProcessingParams,
+        this.safeAnnotationProcessors,
+        this.extraArguments,
+        this.classesToRemoveFromJar,
+        value,
+        this.sourceToBootclasspath,
+        this.trackClassUsage,
+        this.compilationMode);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AbstractJavacOptions#getSourceToBootclasspath() sourceToBootclasspath} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the sourceToBootclasspath map
+   * @return A modified copy of {@code this} object
+   */
+  public final JavacOptions withSourceToBootclasspath(Map<String, ? extends String> entries) {
+    if (this.sourceToBootclasspath == entries) return this;
+    ImmutableMap<String, String> newValue = ImmutableMap.copyOf(entries);
+    return new JavacOptions(
+        this.spoolMode,
+        this.productionBuild,
+        this.verbose,
+        this.sourceLevel,
+        this.targetLevel,
+        this.annotationProcessingParams,
+        this.safeAnnotationProcessors,
+        this.extraArguments,
+        this.classesToRemoveFromJar,
+        this.bootclasspath,
+        newValue,
+        this.trackClassUsage,
+        this.compilationMode);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractJavacOptions#trackClassUsage() trackClassUsage} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for trackClassUsage
+   * @return A modified copy of the {@code this} object
+   */
+  public final JavacOptions withTrackClassUsage(boolean value) {
+    if (this.trackClassUsage == value) return this;
+    return new JavacOptions(
+        this.spoolMode,
+        this.productionBuild,
+        this.verbose,
+        this.sourceLevel,
+        this.targetLevel,
+        this.annotationProcessingParams,
+        this.safeAnnotationProcessors,
+        this.extraArguments,
+        this.classesToRemoveFromJar,
+        this.bootclasspath,
+        this.sourceToBootclasspath,
+        value,
+        this.compilationMode);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractJavacOptions#getCompilationMode() compilationMode} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for compilationMode
+   * @return A modified copy of the {@code this} object
+   */
+  public final JavacOptions withCompilationMode(Javac.CompilationMode value) {
+    if (this.compilationMode == value) return this;
+    Javac.CompilationMode newValue = Preconditions.checkNotNull(value, "compilationMode");
+    return new JavacOptions(
+        this.spoolMode,
+        this.productionBuild,
+        this.verbose,
+        this.sourceLevel,
+        this.targetLevel,
+        this.annotationProcessingParams,
+        this.safeAnnotationProcessors,
+        this.extraArguments,
+        this.classesToRemoveFromJar,
+        this.bootclasspath,
+        this.sourceToBootclasspath,
+        this.trackClassUsage,
+        newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code JavacOptions} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof JavacOptions
+        && equalTo((JavacOptions) another);
+  }
+
+  private boolean equalTo(JavacOptions another) {
+    return spoolMode.equals(another.spoolMode)
+        && productionBuild == another.productionBuild
+        && verbose == another.verbose
+        && sourceLevel.equals(another.sourceLevel)
+        && targetLevel.equals(another.targetLevel)
+        && annotationProcessingParams.equals(another.annotationProcessingParams)
+        && safeAnnotationProcessors.equals(another.safeAnnotationProcessors)
+        && extraArguments.equals(another.extraArguments)
+        && classesToRemoveFromJar.equals(another.classesToRemoveFromJar)
+        && Objects.equal(bootclasspath, another.bootclasspath)
+        && sourceToBootclasspath.equals(another.sourceToBootclasspath)
+        && trackClassUsage == another.trackClassUsage
+        && compilationMode.equals(another.compilationMode);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code spoolMode}, {@code productionBuild}, {@code verbose}, {@code sourceLevel}, {@code targetLevel}, {@code annotationProcessingParams}, {@code safeAnnotationProcessors}, {@code extraArguments}, {@code classesToRemoveFromJar}, {@code bootclasspath}, {@code sourceToBootclasspath}, {@code trackClassUsage}, {@code compilationMode}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + spoolMode.hashCode();
+    h = h * 17 + Booleans.hashCode(productionBuild);
+    h = h * 17 + Booleans.hashCode(verbose);
+    h = h * 17 + sourceLevel.hashCode();
+    h = h * 17 + targetLevel.hashCode();
+    h = h * 17 + annotationProcessingParams.hashCode();
+    h = h * 17 + safeAnnotationProcessors.hashCode();
+    h = h * 17 + extraArguments.hashCode();
+    h = h * 17 + classesToRemoveFromJar.hashCode();
+    h = h * 17 + Objects.hashCode(bootclasspath);
+    h = h * 17 + sourceToBootclasspath.hashCode();
+    h = h * 17 + Booleans.hashCode(trackClassUsage);
+    h = h * 17 + compilationMode.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code JavacOptions} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("JavacOptions")
+        .omitNullValues()
+        .add("spoolMode", spoolMode)
+        .add("productionBuild", productionBuild)
+        .add("verbose", verbose)
+        .add("sourceLevel", sourceLevel)
+        .add("targetLevel", targetLevel)
+        .add("annotationProcessingParams", annotationProcessingParams)
+        .add("safeAnnotationProcessors", safeAnnotationProcessors)
+        .add("extraArguments", extraArguments)
+        .add("classesToRemoveFromJar", classesToRemoveFromJar)
+        .add("bootclasspath", bootclasspath)
+        .add("sourceToBootclasspath", sourceToBootclasspath)
+        .add("trackClassUsage", trackClassUsage)
+        .add("compilationMode", compilationMode)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractJavacOptions} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable JavacOptions instance
+   */
+  static JavacOptions copyOf(AbstractJavacOptions instance) {
+    if (instance instanceof JavacOptions) {
+      return (JavacOptions) instance;
+    }
+    return JavacOptions.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link JavacOptions JavacOptions}.
+   * @return A new JavacOptions builder
+   */
+  public static JavacOptions.Builder builder() {
+    return new JavacOptions.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link JavacOptions JavacOptions}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long OPT_BIT_PRODUCTION_BUILD = 0x1L;
+    private static final long OPT_BIT_VERBOSE = 0x2L;
+    private static final long OPT_BIT_TRACK_CLASS_USAGE = 0x4L;
+    private long optBits;
+
+    private @Nullable AbstractJavacOptions.SpoolMode spoolMode;
+    private boolean productionBuild;
+    private boolean verbose;
+    private @Nullable String sourceLevel;
+    private @Nullable String targetLevel;
+    private @Nullable AnnotationProcessingParams annotationProcessingParams;
+    private ImmutableSet.Builder<String> safeAnnotationProcessors = ImmutableSet.builder();
+    private ImmutableList.Builder<String> extraArguments = ImmutableList.builder();
+    private ImmutableSet.Builder<Pattern> classesToRemoveFromJar = ImmutableSet.builder();
+    private @Nullable String bootclasspath;
+    private ImmutableMap.Builder<String, String> sourceToBootclasspath = ImmutableMap.builder();
+    private boolean trackClassUsage;
+    private @Nullable Javac.CompilationMode compilationMode;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code JavacOptions} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(JavacOptions instance) {
+      return from((AbstractJavacOptions) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractJavacOptions} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractJavacOptions instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      setSpoolMode(instance.getSpoolMode());
+      setProductionBuild(instance.isProductionBuild());
+      setVerbose(instance.isVerbose());
+      setSourceLevel(instance.getSourceLevel());
+      setTargetLevel(instance.getTargetLevel());
+      setAnnotationProcessingParams(instance.getAnnotationProcessingParams());
+      addAllSafeAnnotationProcessors(instance.getSafeAnnotationProcessors());
+      addAllExtraArguments(instance.getExtraArguments());
+      addAllClassesToRemoveFromJar(instance.getClassesToRemoveFromJar());
+      Optional<String> bootclasspathOptional = instance.getBootclasspath();
+      if (bootclasspathOptional.isPresent()) {
+        setBootclasspath(bootclasspathOptional);
+      }
+      putAllSourceToBootclasspath(instance.getSourceToBootclasspath());
+      setTrackClassUsage(instance.trackClassUsage());
+      setCompilationMode(instance.getCompilationMode());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractJavacOptions#getSpoolMode() spoolMode} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractJavacOptions#getSpoolMode() spoolMode}.</em>
+     * @param spoolMode The value for spoolMode 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSpoolMode(AbstractJavacOptions.SpoolMode spoolMode) {
+      this.spoolMode = Preconditions.checkNotNull(spoolMode, "spoolMode");
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractJavacOptions#isProductionBuild() productionBuild} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractJavacOptions#isProductionBuild() productionBuild}.</em>
+     * @param productionBuild The value for productionBuild 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setProductionBuild(boolean productionBuild) {
+      this.productionBuild = productionBuild;
+      optBits |= OPT_BIT_PRODUCTION_BUILD;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractJavacOptions#isVerbose() verbose} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractJavacOptions#isVerbose() verbose}.</em>
+     * @param verbose The value for verbose 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setVerbose(boolean verbose) {
+      this.verbose = verbose;
+      optBits |= OPT_BIT_VERBOSE;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractJavacOptions#getSourceLevel() sourceLevel} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractJavacOptions#getSourceLevel() sourceLevel}.</em>
+     * @param sourceLevel The value for sourceLevel 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSourceLevel(String sourceLevel) {
+      this.sourceLevel = Preconditions.checkNotNull(sourceLevel, "sourceLevel");
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractJavacOptions#getTargetLevel() targetLevel} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractJavacOptions#getTargetLevel() targetLevel}.</em>
+     * @param targetLevel The value for targetLevel 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setTargetLevel(String targetLevel) {
+      this.targetLevel = Preconditions.checkNotNull(targetLevel, "targetLevel");
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractJavacOptions#getAnnotationProcessingParams() annotationProcessingParams} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractJavacOptions#getAnnotationProcessingParams() annotationProcessingParams}.</em>
+     * @param annotationProcessingParams The value for annotationProcessingParams 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setAnnotationProcessingParams(AnnotationProcessingParams annotationProcessingParams) {
+      this.annotationProcessingParams = Preconditions.checkNotNull(annotationProcessingParams, "annotationProcessingParams");
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractJavacOptions#getSafeAnnotationProcessors() safeAnnotationProcessors} set.
+     * @param element A safeAnnotationProcessors element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addSafeAnnotationProcessors(String element) {
+      this.safeAnnotationProcessors.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractJavacOptions#getSafeAnnotationProcessors() safeAnnotationProcessors} set.
+     * @param elements An array of safeAnnotationProcessors elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addSafeAnnotationProcessors(String... elements) {
+      this.safeAnnotationProcessors.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractJavacOptions#getSafeAnnotationProcessors() safeAnnotationProcessors} set.
+     * @param elements An iterable of safeAnnotationProcessors elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSafeAnnotationProcessors(Iterable<String> elements) {
+      this.safeAnnotationProcessors = ImmutableSet.builder();
+      return addAllSafeAnnotationProcessors(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractJavacOptions#getSafeAnnotationProcessors() safeAnnotationProcessors} set.
+     * @param elements An iterable of safeAnnotationProcessors elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllSafeAnnotationProcessors(Iterable<String> elements) {
+      this.safeAnnotationProcessors.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractJavacOptions#getExtraArguments() extraArguments} list.
+     * @param element A extraArguments element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addExtraArguments(String element) {
+      this.extraArguments.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractJavacOptions#getExtraArguments() extraArguments} list.
+     * @param elements An array of extraArguments elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addExtraArguments(String... elements) {
+      this.extraArguments.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractJavacOptions#getExtraArguments() extraArguments} list.
+     * @param elements An iterable of extraArguments elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setExtraArguments(Iterable<String> elements) {
+      this.extraArguments = ImmutableList.builder();
+      return addAllExtraArguments(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractJavacOptions#getExtraArguments() extraArguments} list.
+     * @param elements An iterable of extraArguments elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllExtraArguments(Iterable<String> elements) {
+      this.extraArguments.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractJavacOptions#getClassesToRemoveFromJar() classesToRemoveFromJar} set.
+     * @param element A classesToRemoveFromJar element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addClassesToRemoveFromJar(Pattern element) {
+      this.classesToRemoveFromJar.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractJavacOptions#getClassesToRemoveFromJar() classesToRemoveFromJar} set.
+     * @param elements An array of classesToRemoveFromJar elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addClassesToRemoveFromJar(Pattern... elements) {
+      this.classesToRemoveFromJar.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractJavacOptions#getClassesToRemoveFromJar() classesToRemoveFromJar} set.
+     * @param elements An iterable of classesToRemoveFromJar elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setClassesToRemoveFromJar(Iterable<? extends Pattern> elements) {
+      this.classesToRemoveFromJar = ImmutableSet.builder();
+      return addAllClassesToRemoveFromJar(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractJavacOptions#getClassesToRemoveFromJar() classesToRemoveFromJar} set.
+     * @param elements An iterable of classesToRemoveFromJar elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllClassesToRemoveFromJar(Iterable<? extends Pattern> elements) {
+      this.classesToRemoveFromJar.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractJavacOptions#getBootclasspath() bootclasspath} to bootclasspath.
+     * @param bootclasspath The value for bootclasspath
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setBootclasspath(String bootclasspath) {
+      this.bootclasspath = Preconditions.checkNotNull(bootclasspath, "bootclasspath");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractJavacOptions#getBootclasspath() bootclasspath} to bootclasspath.
+     * @param bootclasspath The value for bootclasspath
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBootclasspath(Optional<String> bootclasspath) {
+      this.bootclasspath = bootclasspath.orElse(null);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractJavacOptions#getSourceToBootclasspath() sourceToBootclasspath} map.
+     * @param key The key in the sourceToBootclasspath map
+     * @param value The associated value in the sourceToBootclasspath map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putSourceToBootclasspath(String key, String value) {
+      this.sourceToBootclasspath.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractJavacOptions#getSourceToBootclasspath() sourceToBootclasspath} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putSourceToBootclasspath(Map.Entry<String, ? extends String> entry) {
+      this.sourceToBootclasspath.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AbstractJavacOptions#getSourceToBootclasspath() sourceToBootclasspath} map. Nulls are not permitted
+     * @param sourceToBootclasspath The entries that will be added to the sourceToBootclasspath map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSourceToBootclasspath(Map<String, ? extends String> sourceToBootclasspath) {
+      this.sourceToBootclasspath = ImmutableMap.builder();
+      return putAllSourceToBootclasspath(sourceToBootclasspath);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AbstractJavacOptions#getSourceToBootclasspath() sourceToBootclasspath} map. Nulls are not permitted
+     * @param sourceToBootclasspath The entries that will be added to the sourceToBootclasspath map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllSourceToBootclasspath(Map<String, ? extends String> sourceToBootclasspath) {
+      this.sourceToBootclasspath.putAll(sourceToBootclasspath);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractJavacOptions#trackClassUsage() trackClassUsage} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractJavacOptions#trackClassUsage() trackClassUsage}.</em>
+     * @param trackClassUsage The value for trackClassUsage 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setTrackClassUsage(boolean trackClassUsage) {
+      this.trackClassUsage = trackClassUsage;
+      optBits |= OPT_BIT_TRACK_CLASS_USAGE;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractJavacOptions#getCompilationMode() compilationMode} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractJavacOptions#getCompilationMode() compilationMode}.</em>
+     * @param compilationMode The value for compilationMode 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCompilationMode(Javac.CompilationMode compilationMode) {
+      this.compilationMode = Preconditions.checkNotNull(compilationMode, "compilationMode");
+      return this;
+    }
+
+    /**
+     * Builds a new {@link JavacOptions JavacOptions}.
+     * @return An immutable instance of JavacOptions
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public JavacOptions build() {
+      return new JavacOptions(this);
+    }
+
+    private boolean productionBuildIsSet() {
+      return (optBits & OPT_BIT_PRODUCTION_BUILD) != 0;
+    }
+
+    private boolean verboseIsSet() {
+      return (optBits & OPT_BIT_VERBOSE) != 0;
+    }
+
+    private boolean trackClassUsageIsSet() {
+      return (optBits & OPT_BIT_TRACK_CLASS_USAGE) != 0;
+    }
+  }
+}
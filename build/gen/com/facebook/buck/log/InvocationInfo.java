@@ -0,0 +1,711 @@
+package com.facebook.buck.log;
+
+import com.facebook.buck.log.views.JsonViews;
+import com.facebook.buck.model.BuildId;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonView;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import com.google.common.primitives.Longs;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractInvocationInfo}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code InvocationInfo.builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code InvocationInfo.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractInvocationInfo"})
+@Immutable
+public final class InvocationInfo extends AbstractInvocationInfo {
+  private final BuildId buildId;
+  private final boolean superConsoleEnabled;
+  private final boolean isDaemon;
+  private final String subCommand;
+  private final String[] commandArgs;
+  private final String[] unexpandedCommandArgs;
+  private final Path buckLogDir;
+  private final long timestampMillis;
+
+  private InvocationInfo(
+      BuildId buildId,
+      boolean superConsoleEnabled,
+      boolean isDaemon,
+      String subCommand,
+      String[] commandArgs,
+      String[] unexpandedCommandArgs,
+      Path buckLogDir) {
+    this.buildId = Preconditions.checkNotNull(buildId, "buildId");
+    this.superConsoleEnabled = superConsoleEnabled;
+    this.isDaemon = isDaemon;
+    this.subCommand = Preconditions.checkNotNull(subCommand, "subCommand");
+    this.commandArgs = commandArgs.clone();
+    this.unexpandedCommandArgs = unexpandedCommandArgs.clone();
+    this.buckLogDir = Preconditions.checkNotNull(buckLogDir, "buckLogDir");
+    this.timestampMillis = super.getTimestampMillis();
+  }
+
+  private InvocationInfo(InvocationInfo.Builder builder) {
+    this.buildId = builder.buildId;
+    this.superConsoleEnabled = builder.superConsoleEnabled;
+    this.isDaemon = builder.isDaemon;
+    this.subCommand = builder.subCommand;
+    this.commandArgs = builder.commandArgs;
+    this.unexpandedCommandArgs = builder.unexpandedCommandArgs;
+    this.buckLogDir = builder.buckLogDir;
+    this.timestampMillis = builder.timestampMillisIsSet()
+        ? builder.timestampMillis
+        : super.getTimestampMillis();
+  }
+
+  private InvocationInfo(
+      BuildId buildId,
+      boolean superConsoleEnabled,
+      boolean isDaemon,
+      String subCommand,
+      String[] commandArgs,
+      String[] unexpandedCommandArgs,
+      Path buckLogDir,
+      long timestampMillis) {
+    this.buildId = buildId;
+    this.superConsoleEnabled = superConsoleEnabled;
+    this.isDaemon = isDaemon;
+    this.subCommand = subCommand;
+    this.commandArgs = commandArgs;
+    this.unexpandedCommandArgs = unexpandedCommandArgs;
+    this.buckLogDir = buckLogDir;
+    this.timestampMillis = timestampMillis;
+  }
+
+  /**
+   * @return The value of the {@code buildId} attribute
+   */
+  @JsonProperty
+  @JsonView({JsonViews.MachineReadableLog.class})
+  @Override
+  public BuildId getBuildId() {
+    return buildId;
+  }
+
+  /**
+   * @return The value of the {@code superConsoleEnabled} attribute
+   */
+  @JsonProperty
+  @JsonView({JsonViews.MachineReadableLog.class})
+  @Override
+  public boolean getSuperConsoleEnabled() {
+    return superConsoleEnabled;
+  }
+
+  /**
+   * @return The value of the {@code isDaemon} attribute
+   */
+  @JsonProperty
+  @JsonView({JsonViews.MachineReadableLog.class})
+  @Override
+  public boolean getIsDaemon() {
+    return isDaemon;
+  }
+
+  /**
+   * @return The value of the {@code subCommand} attribute
+   */
+  @JsonProperty
+  @JsonView({JsonViews.MachineReadableLog.class})
+  @Override
+  public String getSubCommand() {
+    return subCommand;
+  }
+
+  /**
+   * @return A cloned {@code commandArgs} array
+   */
+  @JsonProperty
+  @JsonView({JsonViews.MachineReadableLog.class})
+  @Override
+  public String[] getCommandArgs() {
+    return commandArgs.clone();
+  }
+
+  /**
+   * @return A cloned {@code unexpandedCommandArgs} array
+   */
+  @JsonProperty
+  @JsonView({JsonViews.MachineReadableLog.class})
+  @Override
+  public String[] getUnexpandedCommandArgs() {
+    return unexpandedCommandArgs.clone();
+  }
+
+  /**
+   * @return The value of the {@code buckLogDir} attribute
+   */
+  @JsonProperty
+  @JsonView({JsonViews.MachineReadableLog.class})
+  @Override
+  public Path getBuckLogDir() {
+    return buckLogDir;
+  }
+
+  /**
+   * @return The value of the {@code timestampMillis} attribute
+   */
+  @JsonProperty
+  @JsonView({JsonViews.MachineReadableLog.class})
+  @Override
+  public long getTimestampMillis() {
+    return timestampMillis;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractInvocationInfo#getBuildId() buildId} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for buildId
+   * @return A modified copy of the {@code this} object
+   */
+  public final InvocationInfo withBuildId(BuildId value) {
+    if (this.buildId == value) return this;
+    BuildId newValue = Preconditions.checkNotNull(value, "buildId");
+    return new InvocationInfo(
+        newValue,
+        this.superConsoleEnabled,
+        this.isDaemon,
+        this.subCommand,
+        this.commandArgs,
+        this.unexpandedCommandArgs,
+        this.buckLogDir,
+        this.timestampMillis);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractInvocationInfo#getSuperConsoleEnabled() superConsoleEnabled} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for superConsoleEnabled
+   * @return A modified copy of the {@code this} object
+   */
+  public final InvocationInfo withSuperConsoleEnabled(boolean value) {
+    if (this.superConsoleEnabled == value) return this;
+    return new InvocationInfo(
+        this.buildId,
+        value,
+        this.isDaemon,
+        this.subCommand,
+        this.commandArgs,
+        this.unexpandedCommandArgs,
+        this.buckLogDir,
+        this.timestampMillis);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractInvocationInfo#getIsDaemon() isDaemon} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for isDaemon
+   * @return A modified copy of the {@code this} object
+   */
+  public final InvocationInfo withIsDaemon(boolean value) {
+    if (this.isDaemon == value) return this;
+    return new InvocationInfo(
+        this.buildId,
+        this.superConsoleEnabled,
+        value,
+        this.subCommand,
+        this.commandArgs,
+        this.unexpandedCommandArgs,
+        this.buckLogDir,
+        this.timestampMillis);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractInvocationInfo#getSubCommand() subCommand} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for subCommand
+   * @return A modified copy of the {@code this} object
+   */
+  public final InvocationInfo withSubCommand(String value) {
+    if (this.subCommand.equals(value)) return this;
+    String newValue = Preconditions.checkNotNull(value, "subCommand");
+    return new InvocationInfo(
+        this.buildId,
+        this.superConsoleEnabled,
+        this.isDaemon,
+        newValue,
+        this.commandArgs,
+        this.unexpandedCommandArgs,
+        this.buckLogDir,
+        this.timestampMillis);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractInvocationInfo#getCommandArgs() commandArgs}.
+   * The array is cloned before being saved as attribute values.
+   * @param elements The non-null elements for commandArgs
+   * @return A modified copy of {@code this} object
+   */
+  public final InvocationInfo withCommandArgs(String... elements) {
+    String[] newValue = elements.clone();
+    return new InvocationInfo(
+        this.buildId,
+        this.superConsoleEnabled,
+        this.isDaemon,
+        this.subCommand,
+        newValue,
+        this.unexpandedCommandArgs,
+        this.buckLogDir,
+        this.timestampMillis);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractInvocationInfo#getUnexpandedCommandArgs() unexpandedCommandArgs}.
+   * The array is cloned before being saved as attribute values.
+   * @param elements The non-null elements for unexpandedCommandArgs
+   * @return A modified copy of {@code this} object
+   */
+  public final InvocationInfo withUnexpandedCommandArgs(String... elements) {
+    String[] newValue = elements.clone();
+    return new InvocationInfo(
+        this.buildId,
+        this.superConsoleEnabled,
+        this.isDaemon,
+        this.subCommand,
+        this.commandArgs,
+        newValue,
+        this.buckLogDir,
+        this.timestampMillis);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractInvocationInfo#getBuckLogDir() buckLogDir} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for buckLogDir
+   * @return A modified copy of the {@code this} object
+   */
+  public final InvocationInfo withBuckLogDir(Path value) {
+    if (this.buckLogDir == value) return this;
+    Path newValue = Preconditions.checkNotNull(value, "buckLogDir");
+    return new InvocationInfo(
+        this.buildId,
+        this.superConsoleEnabled,
+        this.isDaemon,
+        this.subCommand,
+        this.commandArgs,
+        this.unexpandedCommandArgs,
+        newValue,
+        this.timestampMillis);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractInvocationInfo#getTimestampMillis() timestampMillis} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for timestampMillis
+   * @return A modified copy of the {@code this} object
+   */
+  public final InvocationInfo withTimestampMillis(long value) {
+    if (this.timestampMillis == value) return this;
+    return new InvocationInfo(
+        this.buildId,
+        this.superConsoleEnabled,
+        this.isDaemon,
+        this.subCommand,
+        this.commandArgs,
+        this.unexpandedCommandArgs,
+        this.buckLogDir,
+        value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code InvocationInfo} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof InvocationInfo
+        && equalTo((InvocationInfo) another);
+  }
+
+  private boolean equalTo(InvocationInfo another) {
+    return buildId.equals(another.buildId)
+        && superConsoleEnabled == another.superConsoleEnabled
+        && isDaemon == another.isDaemon
+        && subCommand.equals(another.subCommand)
+        && Arrays.equals(commandArgs, another.commandArgs)
+        && Arrays.equals(unexpandedCommandArgs, another.unexpandedCommandArgs)
+        && buckLogDir.equals(another.buckLogDir)
+        && timestampMillis == another.timestampMillis;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code buildId}, {@code superConsoleEnabled}, {@code isDaemon}, {@code subCommand}, {@code commandArgs}, {@code unexpandedCommandArgs}, {@code buckLogDir}, {@code timestampMillis}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + buildId.hashCode();
+    h = h * 17 + Booleans.hashCode(superConsoleEnabled);
+    h = h * 17 + Booleans.hashCode(isDaemon);
+    h = h * 17 + subCommand.hashCode();
+    h = h * 17 + Arrays.hashCode(commandArgs);
+    h = h * 17 + Arrays.hashCode(unexpandedCommandArgs);
+    h = h * 17 + buckLogDir.hashCode();
+    h = h * 17 + Longs.hashCode(timestampMillis);
+    return h;
+  }
+
+  /**
+   * Utility type used to correctly read immutable object from JSON representation.
+   * @deprecated Do not use this type directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonDeserialize
+  @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.NONE)
+  static final class Json extends AbstractInvocationInfo {
+    @Nullable BuildId buildId;
+    boolean superConsoleEnabled;
+    boolean superConsoleEnabledIsSet;
+    boolean isDaemon;
+    boolean isDaemonIsSet;
+    @Nullable String subCommand;
+    @Nullable String[] commandArgs;
+    @Nullable String[] unexpandedCommandArgs;
+    @Nullable Path buckLogDir;
+    long timestampMillis;
+    boolean timestampMillisIsSet;
+    @JsonProperty
+    @JsonView({JsonViews.MachineReadableLog.class})
+    public void setBuildId(BuildId buildId) {
+      this.buildId = buildId;
+    }
+    @JsonProperty
+    @JsonView({JsonViews.MachineReadableLog.class})
+    public void setSuperConsoleEnabled(boolean superConsoleEnabled) {
+      this.superConsoleEnabled = superConsoleEnabled;
+      this.superConsoleEnabledIsSet = true;
+    }
+    @JsonProperty
+    @JsonView({JsonViews.MachineReadableLog.class})
+    public void setIsDaemon(boolean isDaemon) {
+      this.isDaemon = isDaemon;
+      this.isDaemonIsSet = true;
+    }
+    @JsonProperty
+    @JsonView({JsonViews.MachineReadableLog.class})
+    public void setSubCommand(String subCommand) {
+      this.subCommand = subCommand;
+    }
+    @JsonProperty
+    @JsonView({JsonViews.MachineReadableLog.class})
+    public void setCommandArgs(String[] commandArgs) {
+      this.commandArgs = commandArgs;
+    }
+    @JsonProperty
+    @JsonView({JsonViews.MachineReadableLog.class})
+    public void setUnexpandedCommandArgs(String[] unexpandedCommandArgs) {
+      this.unexpandedCommandArgs = unexpandedCommandArgs;
+    }
+    @JsonProperty
+    @JsonView({JsonViews.MachineReadableLog.class})
+    public void setBuckLogDir(Path buckLogDir) {
+      this.buckLogDir = buckLogDir;
+    }
+    @JsonProperty
+    @JsonView({JsonViews.MachineReadableLog.class})
+    public void setTimestampMillis(long timestampMillis) {
+      this.timestampMillis = timestampMillis;
+      this.timestampMillisIsSet = true;
+    }
+    @Override
+    public BuildId getBuildId() { throw new UnsupportedOperationException(); }
+    @Override
+    public boolean getSuperConsoleEnabled() { throw new UnsupportedOperationException(); }
+    @Override
+    public boolean getIsDaemon() { throw new UnsupportedOperationException(); }
+    @Override
+    public String getSubCommand() { throw new UnsupportedOperationException(); }
+    @Override
+    public String[] getCommandArgs() { throw new UnsupportedOperationException(); }
+    @Override
+    public String[] getUnexpandedCommandArgs() { throw new UnsupportedOperationException(); }
+    @Override
+    public Path getBuckLogDir() { throw new UnsupportedOperationException(); }
+    @Override
+    public long getTimestampMillis() { throw new UnsupportedOperationException(); }
+  }
+
+  /**
+   * @param json A JSON-bindable data structure
+   * @return An immutable value type
+   * @deprecated Do not use this method directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+  static InvocationInfo fromJson(Json json) {
+    InvocationInfo.Builder builder = InvocationInfo.builder();
+    if (json.buildId != null) {
+      builder.setBuildId(json.buildId);
+    }
+    if (json.superConsoleEnabledIsSet) {
+      builder.setSuperConsoleEnabled(json.superConsoleEnabled);
+    }
+    if (json.isDaemonIsSet) {
+      builder.setIsDaemon(json.isDaemon);
+    }
+    if (json.subCommand != null) {
+      builder.setSubCommand(json.subCommand);
+    }
+    if (json.commandArgs != null) {
+      builder.setCommandArgs(json.commandArgs);
+    }
+    if (json.unexpandedCommandArgs != null) {
+      builder.setUnexpandedCommandArgs(json.unexpandedCommandArgs);
+    }
+    if (json.buckLogDir != null) {
+      builder.setBuckLogDir(json.buckLogDir);
+    }
+    if (json.timestampMillisIsSet) {
+      builder.setTimestampMillis(json.timestampMillis);
+    }
+    return builder.build();
+  }
+
+  /**
+   * Construct a new immutable {@code InvocationInfo} instance.
+   * @param buildId The value for the {@code buildId} attribute
+   * @param superConsoleEnabled The value for the {@code superConsoleEnabled} attribute
+   * @param isDaemon The value for the {@code isDaemon} attribute
+   * @param subCommand The value for the {@code subCommand} attribute
+   * @param commandArgs The value for the {@code commandArgs} attribute
+   * @param unexpandedCommandArgs The value for the {@code unexpandedCommandArgs} attribute
+   * @param buckLogDir The value for the {@code buckLogDir} attribute
+   * @return An immutable InvocationInfo instance
+   */
+  public static InvocationInfo of(BuildId buildId, boolean superConsoleEnabled, boolean isDaemon, String subCommand, String[] commandArgs, String[] unexpandedCommandArgs, Path buckLogDir) {
+    return new InvocationInfo(buildId, superConsoleEnabled, isDaemon, subCommand, commandArgs, unexpandedCommandArgs, buckLogDir);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractInvocationInfo} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable InvocationInfo instance
+   */
+  static InvocationInfo copyOf(AbstractInvocationInfo instance) {
+    if (instance instanceof InvocationInfo) {
+      return (InvocationInfo) instance;
+    }
+    return InvocationInfo.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link InvocationInfo InvocationInfo}.
+   * @return A new InvocationInfo builder
+   */
+  public static InvocationInfo.Builder builder() {
+    return new InvocationInfo.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link InvocationInfo InvocationInfo}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_BUILD_ID = 0x1L;
+    private static final long INIT_BIT_SUPER_CONSOLE_ENABLED = 0x2L;
+    private static final long INIT_BIT_IS_DAEMON = 0x4L;
+    private static final long INIT_BIT_SUB_COMMAND = 0x8L;
+    private static final long INIT_BIT_COMMAND_ARGS = 0x10L;
+    private static final long INIT_BIT_UNEXPANDED_COMMAND_ARGS = 0x20L;
+    private static final long INIT_BIT_BUCK_LOG_DIR = 0x40L;
+    private static final long OPT_BIT_TIMESTAMP_MILLIS = 0x1L;
+    private long initBits = 0x7fL;
+    private long optBits;
+
+    private @Nullable BuildId buildId;
+    private boolean superConsoleEnabled;
+    private boolean isDaemon;
+    private @Nullable String subCommand;
+    private @Nullable String[] commandArgs;
+    private @Nullable String[] unexpandedCommandArgs;
+    private @Nullable Path buckLogDir;
+    private long timestampMillis;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code InvocationInfo} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(InvocationInfo instance) {
+      return from((AbstractInvocationInfo) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractInvocationInfo} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractInvocationInfo instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      setBuildId(instance.getBuildId());
+      setSuperConsoleEnabled(instance.getSuperConsoleEnabled());
+      setIsDaemon(instance.getIsDaemon());
+      setSubCommand(instance.getSubCommand());
+      setCommandArgs(instance.getCommandArgs());
+      setUnexpandedCommandArgs(instance.getUnexpandedCommandArgs());
+      setBuckLogDir(instance.getBuckLogDir());
+      setTimestampMillis(instance.getTimestampMillis());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractInvocationInfo#getBuildId() buildId} attribute.
+     * @param buildId The value for buildId 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @JsonProperty
+    public final Builder setBuildId(BuildId buildId) {
+      this.buildId = Preconditions.checkNotNull(buildId, "buildId");
+      initBits &= ~INIT_BIT_BUILD_ID;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractInvocationInfo#getSuperConsoleEnabled() superConsoleEnabled} attribute.
+     * @param superConsoleEnabled The value for superConsoleEnabled 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @JsonProperty
+    public final Builder setSuperConsoleEnabled(boolean superConsoleEnabled) {
+      this.superConsoleEnabled = superConsoleEnabled;
+      initBits &= ~INIT_BIT_SUPER_CONSOLE_ENABLED;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractInvocationInfo#getIsDaemon() isDaemon} attribute.
+     * @param isDaemon The value for isDaemon 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @JsonProperty
+    public final Builder setIsDaemon(boolean isDaemon) {
+      this.isDaemon = isDaemon;
+      initBits &= ~INIT_BIT_IS_DAEMON;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractInvocationInfo#getSubCommand() subCommand} attribute.
+     * @param subCommand The value for subCommand 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @JsonProperty
+    public final Builder setSubCommand(String subCommand) {
+      this.subCommand = Preconditions.checkNotNull(subCommand, "subCommand");
+      initBits &= ~INIT_BIT_SUB_COMMAND;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractInvocationInfo#getCommandArgs() commandArgs} attribute.
+     * @param commandArgs The elements for commandArgs
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @JsonProperty
+    public final Builder setCommandArgs(String... commandArgs) {
+      this.commandArgs = commandArgs.clone();
+      initBits &= ~INIT_BIT_COMMAND_ARGS;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractInvocationInfo#getUnexpandedCommandArgs() unexpandedCommandArgs} attribute.
+     * @param unexpandedCommandArgs The elements for unexpandedCommandArgs
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @JsonProperty
+    public final Builder setUnexpandedCommandArgs(String... unexpandedCommandArgs) {
+      this.unexpandedCommandArgs = unexpandedCommandArgs.clone();
+      initBits &= ~INIT_BIT_UNEXPANDED_COMMAND_ARGS;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractInvocationInfo#getBuckLogDir() buckLogDir} attribute.
+     * @param buckLogDir The value for buckLogDir 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @JsonProperty
+    public final Builder setBuckLogDir(Path buckLogDir) {
+      this.buckLogDir = Preconditions.checkNotNull(buckLogDir, "buckLogDir");
+      initBits &= ~INIT_BIT_BUCK_LOG_DIR;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractInvocationInfo#getTimestampMillis() timestampMillis} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractInvocationInfo#getTimestampMillis() timestampMillis}.</em>
+     * @param timestampMillis The value for timestampMillis 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @JsonProperty
+    public final Builder setTimestampMillis(long timestampMillis) {
+      this.timestampMillis = timestampMillis;
+      optBits |= OPT_BIT_TIMESTAMP_MILLIS;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link InvocationInfo InvocationInfo}.
+     * @return An immutable instance of InvocationInfo
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public InvocationInfo build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new InvocationInfo(this);
+    }
+
+    private boolean timestampMillisIsSet() {
+      return (optBits & OPT_BIT_TIMESTAMP_MILLIS) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_BUILD_ID) != 0) attributes.add("buildId");
+      if ((initBits & INIT_BIT_SUPER_CONSOLE_ENABLED) != 0) attributes.add("superConsoleEnabled");
+      if ((initBits & INIT_BIT_IS_DAEMON) != 0) attributes.add("isDaemon");
+      if ((initBits & INIT_BIT_SUB_COMMAND) != 0) attributes.add("subCommand");
+      if ((initBits & INIT_BIT_COMMAND_ARGS) != 0) attributes.add("commandArgs");
+      if ((initBits & INIT_BIT_UNEXPANDED_COMMAND_ARGS) != 0) attributes.add("unexpandedCommandArgs");
+      if ((initBits & INIT_BIT_BUCK_LOG_DIR) != 0) attributes.add("buckLogDir");
+      return "Cannot build InvocationInfo, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,492 @@
+package com.facebook.buck.macho;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.primitives.UnsignedInteger;
+import com.google.common.primitives.UnsignedLong;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractSegmentCommand}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code SegmentCommand.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractSegmentCommand"})
+@Immutable
+public final class SegmentCommand extends AbstractSegmentCommand {
+  private final LoadCommandCommonFields loadCommandCommonFields;
+  private final String segname;
+  private final UnsignedLong vmaddr;
+  private final UnsignedLong vmsize;
+  private final UnsignedLong fileoff;
+  private final UnsignedLong filesize;
+  private final Integer maxprot;
+  private final Integer initprot;
+  private final UnsignedInteger nsects;
+  private final UnsignedInteger flags;
+
+  private SegmentCommand(
+      LoadCommandCommonFields loadCommandCommonFields,
+      String segname,
+      UnsignedLong vmaddr,
+      UnsignedLong vmsize,
+      UnsignedLong fileoff,
+      UnsignedLong filesize,
+      Integer maxprot,
+      Integer initprot,
+      UnsignedInteger nsects,
+      UnsignedInteger flags) {
+    this.loadCommandCommonFields = Preconditions.checkNotNull(loadCommandCommonFields, "loadCommandCommonFields");
+    this.segname = Preconditions.checkNotNull(segname, "segname");
+    this.vmaddr = Preconditions.checkNotNull(vmaddr, "vmaddr");
+    this.vmsize = Preconditions.checkNotNull(vmsize, "vmsize");
+    this.fileoff = Preconditions.checkNotNull(fileoff, "fileoff");
+    this.filesize = Preconditions.checkNotNull(filesize, "filesize");
+    this.maxprot = Preconditions.checkNotNull(maxprot, "maxprot");
+    this.initprot = Preconditions.checkNotNull(initprot, "initprot");
+    this.nsects = Preconditions.checkNotNull(nsects, "nsects");
+    this.flags = Preconditions.checkNotNull(flags, "flags");
+  }
+
+  private SegmentCommand(
+      SegmentCommand original,
+      LoadCommandCommonFields loadCommandCommonFields,
+      String segname,
+      UnsignedLong vmaddr,
+      UnsignedLong vmsize,
+      UnsignedLong fileoff,
+      UnsignedLong filesize,
+      Integer maxprot,
+      Integer initprot,
+      UnsignedInteger nsects,
+      UnsignedInteger flags) {
+    this.loadCommandCommonFields = loadCommandCommonFields;
+    this.segname = segname;
+    this.vmaddr = vmaddr;
+    this.vmsize = vmsize;
+    this.fileoff = fileoff;
+    this.filesize = filesize;
+    this.maxprot = maxprot;
+    this.initprot = initprot;
+    this.nsects = nsects;
+    this.flags = flags;
+  }
+
+  /**
+   * @return The value of the {@code loadCommandCommonFields} attribute
+   */
+  @Override
+  public LoadCommandCommonFields getLoadCommandCommonFields() {
+    return loadCommandCommonFields;
+  }
+
+  /**
+   * @return The value of the {@code segname} attribute
+   */
+  @Override
+  public String getSegname() {
+    return segname;
+  }
+
+  /**
+   * @return The value of the {@code vmaddr} attribute
+   */
+  @Override
+  public UnsignedLong getVmaddr() {
+    return vmaddr;
+  }
+
+  /**
+   * @return The value of the {@code vmsize} attribute
+   */
+  @Override
+  public UnsignedLong getVmsize() {
+    return vmsize;
+  }
+
+  /**
+   * @return The value of the {@code fileoff} attribute
+   */
+  @Override
+  public UnsignedLong getFileoff() {
+    return fileoff;
+  }
+
+  /**
+   * @return The value of the {@code filesize} attribute
+   */
+  @Override
+  public UnsignedLong getFilesize() {
+    return filesize;
+  }
+
+  /**
+   * @return The value of the {@code maxprot} attribute
+   */
+  @Override
+  public Integer getMaxprot() {
+    return maxprot;
+  }
+
+  /**
+   * @return The value of the {@code initprot} attribute
+   */
+  @Override
+  public Integer getInitprot() {
+    return initprot;
+  }
+
+  /**
+   * @return The value of the {@code nsects} attribute
+   */
+  @Override
+  public UnsignedInteger getNsects() {
+    return nsects;
+  }
+
+  /**
+   * @return The value of the {@code flags} attribute
+   */
+  @Override
+  public UnsignedInteger getFlags() {
+    return flags;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractSegmentCommand#getLoadCommandCommonFields() loadCommandCommonFields} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for loadCommandCommonFields
+   * @return A modified copy of the {@code this} object
+   */
+  public final SegmentCommand withLoadCommandCommonFields(LoadCommandCommonFields value) {
+    if (this.loadCommandCommonFields == value) return this;
+    LoadCommandCommonFields newValue = Preconditions.checkNotNull(value, "loadCommandCommonFields");
+    return validate(new SegmentCommand(
+        this,
+        newValue,
+        this.segname,
+        this.vmaddr,
+        this.vmsize,
+        this.fileoff,
+        this.filesize,
+        this.maxprot,
+        this.initprot,
+        this.nsects,
+        this.flags));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractSegmentCommand#getSegname() segname} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for segname
+   * @return A modified copy of the {@code this} object
+   */
+  public final SegmentCommand withSegname(String value) {
+    if (this.segname.equals(value)) return this;
+    String newValue = Preconditions.checkNotNull(value, "segname");
+    return validate(new SegmentCommand(
+        this,
+        this.loadCommandCommonFields,
+        newValue,
+        this.vmaddr,
+        this.vmsize,
+        this.fileoff,
+        this.filesize,
+        this.maxprot,
+        this.initprot,
+        this.nsects,
+        this.flags));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractSegmentCommand#getVmaddr() vmaddr} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for vmaddr
+   * @return A modified copy of the {@code this} object
+   */
+  public final SegmentCommand withVmaddr(UnsignedLong value) {
+    if (this.vmaddr == value) return this;
+    UnsignedLong newValue = Preconditions.checkNotNull(value, "vmaddr");
+    return validate(new SegmentCommand(
+        this,
+        this.loadCommandCommonFields,
+        this.segname,
+        newValue,
+        this.vmsize,
+        this.fileoff,
+        this.filesize,
+        this.maxprot,
+        this.initprot,
+        this.nsects,
+        this.flags));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractSegmentCommand#getVmsize() vmsize} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for vmsize
+   * @return A modified copy of the {@code this} object
+   */
+  public final SegmentCommand withVmsize(UnsignedLong value) {
+    if (this.vmsize == value) return this;
+    UnsignedLong newValue = Preconditions.checkNotNull(value, "vmsize");
+    return validate(new SegmentCommand(
+        this,
+        this.loadCommandCommonFields,
+        this.segname,
+        this.vmaddr,
+        newValue,
+        this.fileoff,
+        this.filesize,
+        this.maxprot,
+        this.initprot,
+        this.nsects,
+        this.flags));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractSegmentCommand#getFileoff() fileoff} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for fileoff
+   * @return A modified copy of the {@code this} object
+   */
+  public final SegmentCommand withFileoff(UnsignedLong value) {
+    if (this.fileoff == value) return this;
+    UnsignedLong newValue = Preconditions.checkNotNull(value, "fileoff");
+    return validate(new SegmentCommand(
+        this,
+        this.loadCommandCommonFields,
+        this.segname,
+        this.vmaddr,
+        this.vmsize,
+        newValue,
+        this.filesize,
+        this.maxprot,
+        this.initprot,
+        this.nsects,
+        this.flags));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractSegmentCommand#getFilesize() filesize} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for filesize
+   * @return A modified copy of the {@code this} object
+   */
+  public final SegmentCommand withFilesize(UnsignedLong value) {
+    if (this.filesize == value) return this;
+    UnsignedLong newValue = Preconditions.checkNotNull(value, "filesize");
+    return validate(new SegmentCommand(
+        this,
+        this.loadCommandCommonFields,
+        this.segname,
+        this.vmaddr,
+        this.vmsize,
+        this.fileoff,
+        newValue,
+        this.maxprot,
+        this.initprot,
+        this.nsects,
+        this.flags));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractSegmentCommand#getMaxprot() maxprot} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for maxprot
+   * @return A modified copy of the {@code this} object
+   */
+  public final SegmentCommand withMaxprot(Integer value) {
+    if (this.maxprot.equals(value)) return this;
+    Integer newValue = Preconditions.checkNotNull(value, "maxprot");
+    return validate(new SegmentCommand(
+        this,
+        this.loadCommandCommonFields,
+        this.segname,
+        this.vmaddr,
+        this.vmsize,
+        this.fileoff,
+        this.filesize,
+        newValue,
+        this.initprot,
+        this.nsects,
+        this.flags));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractSegmentCommand#getInitprot() initprot} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for initprot
+   * @return A modified copy of the {@code this} object
+   */
+  public final SegmentCommand withInitprot(Integer value) {
+    if (this.initprot.equals(value)) return this;
+    Integer newValue = Preconditions.checkNotNull(value, "initprot");
+    return validate(new SegmentCommand(
+        this,
+        this.loadCommandCommonFields,
+        this.segname,
+        this.vmaddr,
+        this.vmsize,
+        this.fileoff,
+        this.filesize,
+        this.maxprot,
+        newValue,
+        this.nsects,
+        this.flags));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractSegmentCommand#getNsects() nsects} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for nsects
+   * @return A modified copy of the {@code this} object
+   */
+  public final SegmentCommand withNsects(UnsignedInteger value) {
+    if (this.nsects == value) return this;
+    UnsignedInteger newValue = Preconditions.checkNotNull(value, "nsects");
+    return validate(new SegmentCommand(
+        this,
+        this.loadCommandCommonFields,
+        this.segname,
+        this.vmaddr,
+        this.vmsize,
+        this.fileoff,
+        this.filesize,
+        this.maxprot,
+        this.initprot,
+        newValue,
+        this.flags));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractSegmentCommand#getFlags() flags} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for flags
+   * @return A modified copy of the {@code this} object
+   */
+  public final SegmentCommand withFlags(UnsignedInteger value) {
+    if (this.flags == value) return this;
+    UnsignedInteger newValue = Preconditions.checkNotNull(value, "flags");
+    return validate(new SegmentCommand(
+        this,
+        this.loadCommandCommonFields,
+        this.segname,
+        this.vmaddr,
+        this.vmsize,
+        this.fileoff,
+        this.filesize,
+        this.maxprot,
+        this.initprot,
+        this.nsects,
+        newValue));
+  }
+
+  /**
+   * This instance is equal to all instances of {@code SegmentCommand} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof SegmentCommand
+        && equalTo((SegmentCommand) another);
+  }
+
+  private boolean equalTo(SegmentCommand another) {
+    return loadCommandCommonFields.equals(another.loadCommandCommonFields)
+        && segname.equals(another.segname)
+        && vmaddr.equals(another.vmaddr)
+        && vmsize.equals(another.vmsize)
+        && fileoff.equals(another.fileoff)
+        && filesize.equals(another.filesize)
+        && maxprot.equals(another.maxprot)
+        && initprot.equals(another.initprot)
+        && nsects.equals(another.nsects)
+        && flags.equals(another.flags);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code loadCommandCommonFields}, {@code segname}, {@code vmaddr}, {@code vmsize}, {@code fileoff}, {@code filesize}, {@code maxprot}, {@code initprot}, {@code nsects}, {@code flags}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + loadCommandCommonFields.hashCode();
+    h = h * 17 + segname.hashCode();
+    h = h * 17 + vmaddr.hashCode();
+    h = h * 17 + vmsize.hashCode();
+    h = h * 17 + fileoff.hashCode();
+    h = h * 17 + filesize.hashCode();
+    h = h * 17 + maxprot.hashCode();
+    h = h * 17 + initprot.hashCode();
+    h = h * 17 + nsects.hashCode();
+    h = h * 17 + flags.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code SegmentCommand} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("SegmentCommand")
+        .omitNullValues()
+        .add("loadCommandCommonFields", loadCommandCommonFields)
+        .add("segname", segname)
+        .add("vmaddr", vmaddr)
+        .add("vmsize", vmsize)
+        .add("fileoff", fileoff)
+        .add("filesize", filesize)
+        .add("maxprot", maxprot)
+        .add("initprot", initprot)
+        .add("nsects", nsects)
+        .add("flags", flags)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code SegmentCommand} instance.
+   * @param loadCommandCommonFields The value for the {@code loadCommandCommonFields} attribute
+   * @param segname The value for the {@code segname} attribute
+   * @param vmaddr The value for the {@code vmaddr} attribute
+   * @param vmsize The value for the {@code vmsize} attribute
+   * @param fileoff The value for the {@code fileoff} attribute
+   * @param filesize The value for the {@code filesize} attribute
+   * @param maxprot The value for the {@code maxprot} attribute
+   * @param initprot The value for the {@code initprot} attribute
+   * @param nsects The value for the {@code nsects} attribute
+   * @param flags The value for the {@code flags} attribute
+   * @return An immutable SegmentCommand instance
+   */
+  public static SegmentCommand of(LoadCommandCommonFields loadCommandCommonFields, String segname, UnsignedLong vmaddr, UnsignedLong vmsize, UnsignedLong fileoff, UnsignedLong filesize, Integer maxprot, Integer initprot, UnsignedInteger nsects, UnsignedInteger flags) {
+    return validate(new SegmentCommand(loadCommandCommonFields, segname, vmaddr, vmsize, fileoff, filesize, maxprot, initprot, nsects, flags));
+  }
+
+  private static SegmentCommand validate(SegmentCommand instance) {
+    instance.check();
+    return instance;
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractSegmentCommand} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable SegmentCommand instance
+   */
+  static SegmentCommand copyOf(AbstractSegmentCommand instance) {
+    if (instance instanceof SegmentCommand) {
+      return (SegmentCommand) instance;
+    }
+    return SegmentCommand.of(instance.getLoadCommandCommonFields(), instance.getSegname(), instance.getVmaddr(), instance.getVmsize(), instance.getFileoff(), instance.getFilesize(), instance.getMaxprot(), instance.getInitprot(), instance.getNsects(), instance.getFlags());
+  }
+}
@@ -0,0 +1,236 @@
+package com.facebook.buck.macho;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.primitives.UnsignedInteger;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractSymTabCommand}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code SymTabCommand.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractSymTabCommand"})
+@Immutable
+public final class SymTabCommand extends AbstractSymTabCommand {
+  private final LoadCommandCommonFields loadCommandCommonFields;
+  private final UnsignedInteger symoff;
+  private final UnsignedInteger nsyms;
+  private final UnsignedInteger stroff;
+  private final UnsignedInteger strsize;
+
+  private SymTabCommand(
+      LoadCommandCommonFields loadCommandCommonFields,
+      UnsignedInteger symoff,
+      UnsignedInteger nsyms,
+      UnsignedInteger stroff,
+      UnsignedInteger strsize) {
+    this.loadCommandCommonFields = Preconditions.checkNotNull(loadCommandCommonFields, "loadCommandCommonFields");
+    this.symoff = Preconditions.checkNotNull(symoff, "symoff");
+    this.nsyms = Preconditions.checkNotNull(nsyms, "nsyms");
+    this.stroff = Preconditions.checkNotNull(stroff, "stroff");
+    this.strsize = Preconditions.checkNotNull(strsize, "strsize");
+  }
+
+  private SymTabCommand(
+      SymTabCommand original,
+      LoadCommandCommonFields loadCommandCommonFields,
+      UnsignedInteger symoff,
+      UnsignedInteger nsyms,
+      UnsignedInteger stroff,
+      UnsignedInteger strsize) {
+    this.loadCommandCommonFields = loadCommandCommonFields;
+    this.symoff = symoff;
+    this.nsyms = nsyms;
+    this.stroff = stroff;
+    this.strsize = strsize;
+  }
+
+  /**
+   * @return The value of the {@code loadCommandCommonFields} attribute
+   */
+  @Override
+  public LoadCommandCommonFields getLoadCommandCommonFields() {
+    return loadCommandCommonFields;
+  }
+
+  /**
+   * @return The value of the {@code symoff} attribute
+   */
+  @Override
+  public UnsignedInteger getSymoff() {
+    return symoff;
+  }
+
+  /**
+   * @return The value of the {@code nsyms} attribute
+   */
+  @Override
+  public UnsignedInteger getNsyms() {
+    return nsyms;
+  }
+
+  /**
+   * @return The value of the {@code stroff} attribute
+   */
+  @Override
+  public UnsignedInteger getStroff() {
+    return stroff;
+  }
+
+  /**
+   * @return The value of the {@code strsize} attribute
+   */
+  @Override
+  public UnsignedInteger getStrsize() {
+    return strsize;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractSymTabCommand#getLoadCommandCommonFields() loadCommandCommonFields} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for loadCommandCommonFields
+   * @return A modified copy of the {@code this} object
+   */
+  public final SymTabCommand withLoadCommandCommonFields(LoadCommandCommonFields value) {
+    if (this.loadCommandCommonFields == value) return this;
+    LoadCommandCommonFields newValue = Preconditions.checkNotNull(value, "loadCommandCommonFields");
+    return validate(new SymTabCommand(this, newValue, this.symoff, this.nsyms, this.stroff, this.strsize));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractSymTabCommand#getSymoff() symoff} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for symoff
+   * @return A modified copy of the {@code this} object
+   */
+  public final SymTabCommand withSymoff(UnsignedInteger value) {
+    if (this.symoff == value) return this;
+    UnsignedInteger newValue = Preconditions.checkNotNull(value, "symoff");
+    return validate(new SymTabCommand(this, this.loadCommandCommonFields, newValue, this.nsyms, this.stroff, this.strsize));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractSymTabCommand#getNsyms() nsyms} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for nsyms
+   * @return A modified copy of the {@code this} object
+   */
+  public final SymTabCommand withNsyms(UnsignedInteger value) {
+    if (this.nsyms == value) return this;
+    UnsignedInteger newValue = Preconditions.checkNotNull(value, "nsyms");
+    return validate(new SymTabCommand(this, this.loadCommandCommonFields, this.symoff, newValue, this.stroff, this.strsize));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractSymTabCommand#getStroff() stroff} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for stroff
+   * @return A modified copy of the {@code this} object
+   */
+  public final SymTabCommand withStroff(UnsignedInteger value) {
+    if (this.stroff == value) return this;
+    UnsignedInteger newValue = Preconditions.checkNotNull(value, "stroff");
+    return validate(new SymTabCommand(this, this.loadCommandCommonFields, this.symoff, this.nsyms, newValue, this.strsize));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractSymTabCommand#getStrsize() strsize} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for strsize
+   * @return A modified copy of the {@code this} object
+   */
+  public final SymTabCommand withStrsize(UnsignedInteger value) {
+    if (this.strsize == value) return this;
+    UnsignedInteger newValue = Preconditions.checkNotNull(value, "strsize");
+    return validate(new SymTabCommand(this, this.loadCommandCommonFields, this.symoff, this.nsyms, this.stroff, newValue));
+  }
+
+  /**
+   * This instance is equal to all instances of {@code SymTabCommand} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof SymTabCommand
+        && equalTo((SymTabCommand) another);
+  }
+
+  private boolean equalTo(SymTabCommand another) {
+    return loadCommandCommonFields.equals(another.loadCommandCommonFields)
+        && symoff.equals(another.symoff)
+        && nsyms.equals(another.nsyms)
+        && stroff.equals(another.stroff)
+        && strsize.equals(another.strsize);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code loadCommandCommonFields}, {@code symoff}, {@code nsyms}, {@code stroff}, {@code strsize}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + loadCommandCommonFields.hashCode();
+    h = h * 17 + symoff.hashCode();
+    h = h * 17 + nsyms.hashCode();
+    h = h * 17 + stroff.hashCode();
+    h = h * 17 + strsize.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code SymTabCommand} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("SymTabCommand")
+        .omitNullValues()
+        .add("loadCommandCommonFields", loadCommandCommonFields)
+        .add("symoff", symoff)
+        .add("nsyms", nsyms)
+        .add("stroff", stroff)
+        .add("strsize", strsize)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code SymTabCommand} instance.
+   * @param loadCommandCommonFields The value for the {@code loadCommandCommonFields} attribute
+   * @param symoff The value for the {@code symoff} attribute
+   * @param nsyms The value for the {@code nsyms} attribute
+   * @param stroff The value for the {@code stroff} attribute
+   * @param strsize The value for the {@code strsize} attribute
+   * @return An immutable SymTabCommand instance
+   */
+  public static SymTabCommand of(LoadCommandCommonFields loadCommandCommonFields, UnsignedInteger symoff, UnsignedInteger nsyms, UnsignedInteger stroff, UnsignedInteger strsize) {
+    return validate(new SymTabCommand(loadCommandCommonFields, symoff, nsyms, stroff, strsize));
+  }
+
+  private static SymTabCommand validate(SymTabCommand instance) {
+    instance.check();
+    return instance;
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractSymTabCommand} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable SymTabCommand instance
+   */
+  static SymTabCommand copyOf(AbstractSymTabCommand instance) {
+    if (instance instanceof SymTabCommand) {
+      return (SymTabCommand) instance;
+    }
+    return SymTabCommand.of(instance.getLoadCommandCommonFields(), instance.getSymoff(), instance.getNsyms(), instance.getStroff(), instance.getStrsize());
+  }
+}
@@ -0,0 +1,147 @@
+package com.facebook.buck.macho;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import java.util.UUID;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractUUIDCommand}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code UUIDCommand.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractUUIDCommand"})
+@Immutable
+public final class UUIDCommand extends AbstractUUIDCommand {
+  private final LoadCommandCommonFields loadCommandCommonFields;
+  private final UUID uuid;
+
+  private UUIDCommand(LoadCommandCommonFields loadCommandCommonFields, UUID uuid) {
+    this.loadCommandCommonFields = Preconditions.checkNotNull(loadCommandCommonFields, "loadCommandCommonFields");
+    this.uuid = Preconditions.checkNotNull(uuid, "uuid");
+  }
+
+  private UUIDCommand(
+      UUIDCommand original,
+      LoadCommandCommonFields loadCommandCommonFields,
+      UUID uuid) {
+    this.loadCommandCommonFields = loadCommandCommonFields;
+    this.uuid = uuid;
+  }
+
+  /**
+   * @return The value of the {@code loadCommandCommonFields} attribute
+   */
+  @Override
+  public LoadCommandCommonFields getLoadCommandCommonFields() {
+    return loadCommandCommonFields;
+  }
+
+  /**
+   * @return The value of the {@code uuid} attribute
+   */
+  @Override
+  public UUID getUuid() {
+    return uuid;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractUUIDCommand#getLoadCommandCommonFields() loadCommandCommonFields} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for loadCommandCommonFields
+   * @return A modified copy of the {@code this} object
+   */
+  public final UUIDCommand withLoadCommandCommonFields(LoadCommandCommonFields value) {
+    if (this.loadCommandCommonFields == value) return this;
+    LoadCommandCommonFields newValue = Preconditions.checkNotNull(value, "loadCommandCommonFields");
+    return validate(new UUIDCommand(this, newValue, this.uuid));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractUUIDCommand#getUuid() uuid} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for uuid
+   * @return A modified copy of the {@code this} object
+   */
+  public final UUIDCommand withUuid(UUID value) {
+    if (this.uuid == value) return this;
+    UUID newValue = Preconditions.checkNotNull(value, "uuid");
+    return validate(new UUIDCommand(this, this.loadCommandCommonFields, newValue));
+  }
+
+  /**
+   * This instance is equal to all instances of {@code UUIDCommand} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof UUIDCommand
+        && equalTo((UUIDCommand) another);
+  }
+
+  private boolean equalTo(UUIDCommand another) {
+    return loadCommandCommonFields.equals(another.loadCommandCommonFields)
+        && uuid.equals(another.uuid);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code loadCommandCommonFields}, {@code uuid}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + loadCommandCommonFields.hashCode();
+    h = h * 17 + uuid.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code UUIDCommand} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("UUIDCommand")
+        .omitNullValues()
+        .add("loadCommandCommonFields", loadCommandCommonFields)
+        .add("uuid", uuid)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code UUIDCommand} instance.
+   * @param loadCommandCommonFields The value for the {@code loadCommandCommonFields} attribute
+   * @param uuid The value for the {@code uuid} attribute
+   * @return An immutable UUIDCommand instance
+   */
+  public static UUIDCommand of(LoadCommandCommonFields loadCommandCommonFields, UUID uuid) {
+    return validate(new UUIDCommand(loadCommandCommonFields, uuid));
+  }
+
+  private static UUIDCommand validate(UUIDCommand instance) {
+    instance.check();
+    return instance;
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractUUIDCommand} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable UUIDCommand instance
+   */
+  static UUIDCommand copyOf(AbstractUUIDCommand instance) {
+    if (instance instanceof UUIDCommand) {
+      return (UUIDCommand) instance;
+    }
+    return UUIDCommand.of(instance.getLoadCommandCommonFields(), instance.getUuid());
+  }
+}
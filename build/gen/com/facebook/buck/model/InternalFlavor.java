@@ -0,0 +1,186 @@
+package com.facebook.buck.model;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import java.util.List;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A {@link Flavor} passing information between targets, which is irrelevant to the end user.
+ * Historically, all flavors were converted to internal, some need to be moved to UserFlavor.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractInternalFlavor"})
+@Immutable
+public final class InternalFlavor extends AbstractInternalFlavor {
+  private final String name;
+
+  private InternalFlavor(String name) {
+    this.name = Preconditions.checkNotNull(name, "name");
+  }
+
+  private InternalFlavor(InternalFlavor original, String name) {
+    this.name = name;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractInternalFlavor#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final InternalFlavor withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Preconditions.checkNotNull(value, "name");
+    return validate(new InternalFlavor(this, newValue));
+  }
+
+  /**
+   * Construct a new immutable {@code InternalFlavor} instance.
+   * @param name The value for the {@code name} attribute
+   * @return An immutable InternalFlavor instance
+   */
+  public static InternalFlavor of(String name) {
+    return validate(new InternalFlavor(name));
+  }
+
+  private static InternalFlavor validate(InternalFlavor instance) {
+    instance.check();
+    return instance;
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractInternalFlavor} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable InternalFlavor instance
+   */
+  static InternalFlavor copyOf(AbstractInternalFlavor instance) {
+    if (instance instanceof InternalFlavor) {
+      return (InternalFlavor) instance;
+    }
+    return InternalFlavor.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link InternalFlavor InternalFlavor}.
+   * @return A new InternalFlavor builder
+   */
+  public static InternalFlavor.Builder builder() {
+    return new InternalFlavor.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link InternalFlavor InternalFlavor}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable String name;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code InternalFlavor} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(InternalFlavor instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractInternalFlavor} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractInternalFlavor instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.model.Flavor} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(Flavor instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      long bits = 0;
+      if (object instanceof AbstractInternalFlavor) {
+        AbstractInternalFlavor instance = (AbstractInternalFlavor) object;
+        if ((bits & 0x1L) == 0) {
+          setName(instance.getName());
+          bits |= 0x1L;
+        }
+      }
+      if (object instanceof Flavor) {
+        Flavor instance = (Flavor) object;
+        if ((bits & 0x1L) == 0) {
+          setName(instance.getName());
+          bits |= 0x1L;
+        }
+      }
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractInternalFlavor#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Preconditions.checkNotNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link InternalFlavor InternalFlavor}.
+     * @return An immutable instance of InternalFlavor
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public InternalFlavor build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return InternalFlavor.validate(new InternalFlavor(null, name));
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build InternalFlavor, some of required attributes are not set " + attributes;
+    }
+  }
+}
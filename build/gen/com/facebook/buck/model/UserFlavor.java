@@ -0,0 +1,224 @@
+package com.facebook.buck.model;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import java.util.List;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A {@link Flavor} visible to the user, with which they can modify output of a target.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractUserFlavor"})
+@Immutable
+public final class UserFlavor extends AbstractUserFlavor {
+  private final String name;
+  private final String description;
+
+  private UserFlavor(String name, String description) {
+    this.name = Preconditions.checkNotNull(name, "name");
+    this.description = Preconditions.checkNotNull(description, "description");
+  }
+
+  private UserFlavor(UserFlavor original, String name, String description) {
+    this.name = name;
+    this.description = description;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The value of the {@code description} attribute
+   */
+  @Override
+  public String getDescription() {
+    return description;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractUserFlavor#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final UserFlavor withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Preconditions.checkNotNull(value, "name");
+    return validate(new UserFlavor(this, newValue, this.description));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractUserFlavor#getDescription() description} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for description
+   * @return A modified copy of the {@code this} object
+   */
+  public final UserFlavor withDescription(String value) {
+    if (this.description.equals(value)) return this;
+    String newValue = Preconditions.checkNotNull(value, "description");
+    return validate(new UserFlavor(this, this.name, newValue));
+  }
+
+  /**
+   * Construct a new immutable {@code UserFlavor} instance.
+   * @param name The value for the {@code name} attribute
+   * @param description The value for the {@code description} attribute
+   * @return An immutable UserFlavor instance
+   */
+  public static UserFlavor of(String name, String description) {
+    return validate(new UserFlavor(name, description));
+  }
+
+  private static UserFlavor validate(UserFlavor instance) {
+    instance.check();
+    return instance;
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractUserFlavor} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable UserFlavor instance
+   */
+  static UserFlavor copyOf(AbstractUserFlavor instance) {
+    if (instance instanceof UserFlavor) {
+      return (UserFlavor) instance;
+    }
+    return UserFlavor.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link UserFlavor UserFlavor}.
+   * @return A new UserFlavor builder
+   */
+  public static UserFlavor.Builder builder() {
+    return new UserFlavor.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link UserFlavor UserFlavor}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private static final long INIT_BIT_DESCRIPTION = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable String name;
+    private @Nullable String description;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code UserFlavor} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(UserFlavor instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractUserFlavor} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractUserFlavor instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.model.Flavor} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(Flavor instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      long bits = 0;
+      if (object instanceof AbstractUserFlavor) {
+        AbstractUserFlavor instance = (AbstractUserFlavor) object;
+        if ((bits & 0x1L) == 0) {
+          setName(instance.getName());
+          bits |= 0x1L;
+        }
+        setDescription(instance.getDescription());
+      }
+      if (object instanceof Flavor) {
+        Flavor instance = (Flavor) object;
+        if ((bits & 0x1L) == 0) {
+          setName(instance.getName());
+          bits |= 0x1L;
+        }
+      }
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractUserFlavor#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Preconditions.checkNotNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractUserFlavor#getDescription() description} attribute.
+     * @param description The value for description 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDescription(String description) {
+      this.description = Preconditions.checkNotNull(description, "description");
+      initBits &= ~INIT_BIT_DESCRIPTION;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link UserFlavor UserFlavor}.
+     * @return An immutable instance of UserFlavor
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public UserFlavor build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return UserFlavor.validate(new UserFlavor(null, name, description));
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      if ((initBits & INIT_BIT_DESCRIPTION) != 0) attributes.add("description");
+      return "Cannot build UserFlavor, some of required attributes are not set " + attributes;
+    }
+  }
+}
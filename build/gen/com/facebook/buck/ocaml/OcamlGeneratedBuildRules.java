@@ -0,0 +1,424 @@
+package com.facebook.buck.ocaml;
+
+import com.facebook.buck.rules.BuildRule;
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import java.util.List;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractOcamlGeneratedBuildRules}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code OcamlGeneratedBuildRules.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractOcamlGeneratedBuildRules"})
+@Immutable
+public final class OcamlGeneratedBuildRules extends AbstractOcamlGeneratedBuildRules {
+  private final ImmutableList<BuildRule> rules;
+  private final ImmutableSortedSet<BuildRule> nativeCompileDeps;
+  private final ImmutableSortedSet<BuildRule> bytecodeCompileDeps;
+  private final ImmutableList<SourcePath> objectFiles;
+  private final BuildRule bytecodeLink;
+
+  private OcamlGeneratedBuildRules(
+      ImmutableList<BuildRule> rules,
+      ImmutableSortedSet<BuildRule> nativeCompileDeps,
+      ImmutableSortedSet<BuildRule> bytecodeCompileDeps,
+      ImmutableList<SourcePath> objectFiles,
+      BuildRule bytecodeLink) {
+    this.rules = rules;
+    this.nativeCompileDeps = nativeCompileDeps;
+    this.bytecodeCompileDeps = bytecodeCompileDeps;
+    this.objectFiles = objectFiles;
+    this.bytecodeLink = bytecodeLink;
+  }
+
+  /**
+   * @return The value of the {@code rules} attribute
+   */
+  @Override
+  public ImmutableList<BuildRule> getRules() {
+    return rules;
+  }
+
+  /**
+   * @return The value of the {@code nativeCompileDeps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildRule> getNativeCompileDeps() {
+    return nativeCompileDeps;
+  }
+
+  /**
+   * @return The value of the {@code bytecodeCompileDeps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildRule> getBytecodeCompileDeps() {
+    return bytecodeCompileDeps;
+  }
+
+  /**
+   * @return The value of the {@code objectFiles} attribute
+   */
+  @Override
+  public ImmutableList<SourcePath> getObjectFiles() {
+    return objectFiles;
+  }
+
+  /**
+   * @return The value of the {@code bytecodeLink} attribute
+   */
+  @Override
+  public BuildRule getBytecodeLink() {
+    return bytecodeLink;
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractOcamlGeneratedBuildRules#getRules() rules}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final OcamlGeneratedBuildRules withRules(BuildRule... elements) {
+    ImmutableList<BuildRule> newValue = ImmutableList.copyOf(elements);
+    return new OcamlGeneratedBuildRules(newValue, this.nativeCompileDeps, this.bytecodeCompileDeps, this.objectFiles, this.bytecodeLink);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractOcamlGeneratedBuildRules#getRules() rules}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of rules elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final OcamlGeneratedBuildRules withRules(Iterable<? extends BuildRule> elements) {
+    if (this.rules == elements) return this;
+    ImmutableList<BuildRule> newValue = ImmutableList.copyOf(elements);
+    return new OcamlGeneratedBuildRules(newValue, this.nativeCompileDeps, this.bytecodeCompileDeps, this.objectFiles, this.bytecodeLink);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractOcamlGeneratedBuildRules#getNativeCompileDeps() nativeCompileDeps} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for nativeCompileDeps
+   * @return A modified copy of the {@code this} object
+   */
+  public final OcamlGeneratedBuildRules withNativeCompileDeps(ImmutableSortedSet<BuildRule> value) {
+    if (this.nativeCompileDeps == value) return this;
+    ImmutableSortedSet<BuildRule> newValue = Preconditions.checkNotNull(value, "nativeCompileDeps");
+    return new OcamlGeneratedBuildRules(this.rules, newValue, this.bytecodeCompileDeps, this.objectFiles, this.bytecodeLink);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractOcamlGeneratedBuildRules#getBytecodeCompileDeps() bytecodeCompileDeps} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for bytecodeCompileDeps
+   * @return A modified copy of the {@code this} object
+   */
+  public final OcamlGeneratedBuildRules withBytecodeCompileDeps(ImmutableSortedSet<BuildRule> value) {
+    if (this.bytecodeCompileDeps == value) return this;
+    ImmutableSortedSet<BuildRule> newValue = Preconditions.checkNotNull(value, "bytecodeCompileDeps");
+    return new OcamlGeneratedBuildRules(this.rules, this.nativeCompileDeps, newValue, this.objectFiles, this.bytecodeLink);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractOcamlGeneratedBuildRules#getObjectFiles() objectFiles}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final OcamlGeneratedBuildRules withObjectFiles(SourcePath... elements) {
+    ImmutableList<SourcePath> newValue = ImmutableList.copyOf(elements);
+    return new OcamlGeneratedBuildRules(this.rules, this.nativeCompileDeps, this.bytecodeCompileDeps, newValue, this.bytecodeLink);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractOcamlGeneratedBuildRules#getObjectFiles() objectFiles}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of objectFiles elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final OcamlGeneratedBuildRules withObjectFiles(Iterable<? extends SourcePath> elements) {
+    if (this.objectFiles == elements) return this;
+    ImmutableList<SourcePath> newValue = ImmutableList.copyOf(elements);
+    return new OcamlGeneratedBuildRules(this.rules, this.nativeCompileDeps, this.bytecodeCompileDeps, newValue, this.bytecodeLink);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractOcamlGeneratedBuildRules#getBytecodeLink() bytecodeLink} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for bytecodeLink
+   * @return A modified copy of the {@code this} object
+   */
+  public final OcamlGeneratedBuildRules withBytecodeLink(BuildRule value) {
+    if (this.bytecodeLink == value) return this;
+    BuildRule newValue = Preconditions.checkNotNull(value, "bytecodeLink");
+    return new OcamlGeneratedBuildRules(this.rules, this.nativeCompileDeps, this.bytecodeCompileDeps, this.objectFiles, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code OcamlGeneratedBuildRules} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof OcamlGeneratedBuildRules
+        && equalTo((OcamlGeneratedBuildRules) another);
+  }
+
+  private boolean equalTo(OcamlGeneratedBuildRules another) {
+    return rules.equals(another.rules)
+        && nativeCompileDeps.equals(another.nativeCompileDeps)
+        && bytecodeCompileDeps.equals(another.bytecodeCompileDeps)
+        && objectFiles.equals(another.objectFiles)
+        && bytecodeLink.equals(another.bytecodeLink);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code rules}, {@code nativeCompileDeps}, {@code bytecodeCompileDeps}, {@code objectFiles}, {@code bytecodeLink}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + rules.hashCode();
+    h = h * 17 + nativeCompileDeps.hashCode();
+    h = h * 17 + bytecodeCompileDeps.hashCode();
+    h = h * 17 + objectFiles.hashCode();
+    h = h * 17 + bytecodeLink.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code OcamlGeneratedBuildRules} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("OcamlGeneratedBuildRules")
+        .omitNullValues()
+        .add("rules", rules)
+        .add("nativeCompileDeps", nativeCompileDeps)
+        .add("bytecodeCompileDeps", bytecodeCompileDeps)
+        .add("objectFiles", objectFiles)
+        .add("bytecodeLink", bytecodeLink)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractOcamlGeneratedBuildRules} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable OcamlGeneratedBuildRules instance
+   */
+  static OcamlGeneratedBuildRules copyOf(AbstractOcamlGeneratedBuildRules instance) {
+    if (instance instanceof OcamlGeneratedBuildRules) {
+      return (OcamlGeneratedBuildRules) instance;
+    }
+    return OcamlGeneratedBuildRules.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link OcamlGeneratedBuildRules OcamlGeneratedBuildRules}.
+   * @return A new OcamlGeneratedBuildRules builder
+   */
+  public static OcamlGeneratedBuildRules.Builder builder() {
+    return new OcamlGeneratedBuildRules.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link OcamlGeneratedBuildRules OcamlGeneratedBuildRules}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NATIVE_COMPILE_DEPS = 0x1L;
+    private static final long INIT_BIT_BYTECODE_COMPILE_DEPS = 0x2L;
+    private static final long INIT_BIT_BYTECODE_LINK = 0x4L;
+    private long initBits = 0x7L;
+
+    private ImmutableList.Builder<BuildRule> rules = ImmutableList.builder();
+    private @Nullable ImmutableSortedSet<BuildRule> nativeCompileDeps;
+    private @Nullable ImmutableSortedSet<BuildRule> bytecodeCompileDeps;
+    private ImmutableList.Builder<SourcePath> objectFiles = ImmutableList.builder();
+    private @Nullable BuildRule bytecodeLink;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code OcamlGeneratedBuildRules} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(OcamlGeneratedBuildRules instance) {
+      return from((AbstractOcamlGeneratedBuildRules) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractOcamlGeneratedBuildRules} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractOcamlGeneratedBuildRules instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      addAllRules(instance.getRules());
+      setNativeCompileDeps(instance.getNativeCompileDeps());
+      setBytecodeCompileDeps(instance.getBytecodeCompileDeps());
+      addAllObjectFiles(instance.getObjectFiles());
+      setBytecodeLink(instance.getBytecodeLink());
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractOcamlGeneratedBuildRules#getRules() rules} list.
+     * @param element A rules element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addRules(BuildRule element) {
+      this.rules.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractOcamlGeneratedBuildRules#getRules() rules} list.
+     * @param elements An array of rules elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addRules(BuildRule... elements) {
+      this.rules.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractOcamlGeneratedBuildRules#getRules() rules} list.
+     * @param elements An iterable of rules elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRules(Iterable<? extends BuildRule> elements) {
+      this.rules = ImmutableList.builder();
+      return addAllRules(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractOcamlGeneratedBuildRules#getRules() rules} list.
+     * @param elements An iterable of rules elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllRules(Iterable<? extends BuildRule> elements) {
+      this.rules.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractOcamlGeneratedBuildRules#getNativeCompileDeps() nativeCompileDeps} attribute.
+     * @param nativeCompileDeps The value for nativeCompileDeps 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setNativeCompileDeps(ImmutableSortedSet<BuildRule> nativeCompileDeps) {
+      this.nativeCompileDeps = Preconditions.checkNotNull(nativeCompileDeps, "nativeCompileDeps");
+      initBits &= ~INIT_BIT_NATIVE_COMPILE_DEPS;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractOcamlGeneratedBuildRules#getBytecodeCompileDeps() bytecodeCompileDeps} attribute.
+     * @param bytecodeCompileDeps The value for bytecodeCompileDeps 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBytecodeCompileDeps(ImmutableSortedSet<BuildRule> bytecodeCompileDeps) {
+      this.bytecodeCompileDeps = Preconditions.checkNotNull(bytecodeCompileDeps, "bytecodeCompileDeps");
+      initBits &= ~INIT_BIT_BYTECODE_COMPILE_DEPS;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractOcamlGeneratedBuildRules#getObjectFiles() objectFiles} list.
+     * @param element A objectFiles element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addObjectFiles(SourcePath element) {
+      this.objectFiles.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractOcamlGeneratedBuildRules#getObjectFiles() objectFiles} list.
+     * @param elements An array of objectFiles elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addObjectFiles(SourcePath... elements) {
+      this.objectFiles.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractOcamlGeneratedBuildRules#getObjectFiles() objectFiles} list.
+     * @param elements An iterable of objectFiles elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setObjectFiles(Iterable<? extends SourcePath> elements) {
+      this.objectFiles = ImmutableList.builder();
+      return addAllObjectFiles(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractOcamlGeneratedBuildRules#getObjectFiles() objectFiles} list.
+     * @param elements An iterable of objectFiles elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllObjectFiles(Iterable<? extends SourcePath> elements) {
+      this.objectFiles.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractOcamlGeneratedBuildRules#getBytecodeLink() bytecodeLink} attribute.
+     * @param bytecodeLink The value for bytecodeLink 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBytecodeLink(BuildRule bytecodeLink) {
+      this.bytecodeLink = Preconditions.checkNotNull(bytecodeLink, "bytecodeLink");
+      initBits &= ~INIT_BIT_BYTECODE_LINK;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link OcamlGeneratedBuildRules OcamlGeneratedBuildRules}.
+     * @return An immutable instance of OcamlGeneratedBuildRules
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public OcamlGeneratedBuildRules build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new OcamlGeneratedBuildRules(rules.build(), nativeCompileDeps, bytecodeCompileDeps, objectFiles.build(), bytecodeLink);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_NATIVE_COMPILE_DEPS) != 0) attributes.add("nativeCompileDeps");
+      if ((initBits & INIT_BIT_BYTECODE_COMPILE_DEPS) != 0) attributes.add("bytecodeCompileDeps");
+      if ((initBits & INIT_BIT_BYTECODE_LINK) != 0) attributes.add("bytecodeLink");
+      return "Cannot build OcamlGeneratedBuildRules, some of required attributes are not set " + attributes;
+    }
+  }
+}
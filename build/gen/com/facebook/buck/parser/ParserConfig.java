@@ -0,0 +1,616 @@
+package com.facebook.buck.parser;
+
+import com.facebook.buck.cli.BuckConfig;
+import com.facebook.buck.util.WatchmanWatcher;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import java.nio.file.Path;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractParserConfig}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ParserConfig.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractParserConfig"})
+@Immutable
+public final class ParserConfig extends AbstractParserConfig {
+  private final BuckConfig delegate;
+
+  private ParserConfig(BuckConfig delegate) {
+    this.delegate = Preconditions.checkNotNull(delegate, "delegate");
+  }
+
+  /**
+   * @return The value of the {@code delegate} attribute
+   */
+  @Override
+  public BuckConfig getDelegate() {
+    return delegate;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ParserConfig} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ParserConfig
+        && equalTo((ParserConfig) another);
+  }
+
+  private boolean equalTo(ParserConfig another) {
+    return delegate.equals(another.delegate);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code delegate}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + delegate.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ParserConfig} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ParserConfig")
+        .omitNullValues()
+        .add("delegate", delegate)
+        .toString();
+  }
+
+  private volatile long lazyInitBitmap;
+
+  private static final long ALLOW_EMPTY_GLOBS_LAZY_INIT_BIT = 0x1L;
+
+  private boolean allowEmptyGlobs;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractParserConfig#getAllowEmptyGlobs() allowEmptyGlobs} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public boolean getAllowEmptyGlobs() {
+    if ((lazyInitBitmap & ALLOW_EMPTY_GLOBS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & ALLOW_EMPTY_GLOBS_LAZY_INIT_BIT) == 0) {
+          this.allowEmptyGlobs = super.getAllowEmptyGlobs();
+          lazyInitBitmap |= ALLOW_EMPTY_GLOBS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return allowEmptyGlobs;
+  }
+
+  private static final long BUILD_FILE_NAME_LAZY_INIT_BIT = 0x2L;
+
+  private String buildFileName;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractParserConfig#getBuildFileName() buildFileName} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public String getBuildFileName() {
+    if ((lazyInitBitmap & BUILD_FILE_NAME_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & BUILD_FILE_NAME_LAZY_INIT_BIT) == 0) {
+          this.buildFileName = Preconditions.checkNotNull(super.getBuildFileName(), "buildFileName");
+          lazyInitBitmap |= BUILD_FILE_NAME_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return buildFileName;
+  }
+
+  private static final long DEFAULT_INCLUDES_LAZY_INIT_BIT = 0x4L;
+
+  private Iterable<String> defaultIncludes;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractParserConfig#getDefaultIncludes() defaultIncludes} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public Iterable<String> getDefaultIncludes() {
+    if ((lazyInitBitmap & DEFAULT_INCLUDES_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & DEFAULT_INCLUDES_LAZY_INIT_BIT) == 0) {
+          this.defaultIncludes = Preconditions.checkNotNull(super.getDefaultIncludes(), "defaultIncludes");
+          lazyInitBitmap |= DEFAULT_INCLUDES_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return defaultIncludes;
+  }
+
+  private static final long ENFORCE_BUCK_PACKAGE_BOUNDARY_LAZY_INIT_BIT = 0x8L;
+
+  private boolean enforceBuckPackageBoundary;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractParserConfig#getEnforceBuckPackageBoundary() enforceBuckPackageBoundary} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public boolean getEnforceBuckPackageBoundary() {
+    if ((lazyInitBitmap & ENFORCE_BUCK_PACKAGE_BOUNDARY_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & ENFORCE_BUCK_PACKAGE_BOUNDARY_LAZY_INIT_BIT) == 0) {
+          this.enforceBuckPackageBoundary = super.getEnforceBuckPackageBoundary();
+          lazyInitBitmap |= ENFORCE_BUCK_PACKAGE_BOUNDARY_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return enforceBuckPackageBoundary;
+  }
+
+  private static final long BUCK_PACKAGE_BOUNDARY_EXCEPTIONS_LAZY_INIT_BIT = 0x10L;
+
+  private ImmutableList<Path> buckPackageBoundaryExceptions;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractParserConfig#getBuckPackageBoundaryExceptions() buckPackageBoundaryExceptions} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public ImmutableList<Path> getBuckPackageBoundaryExceptions() {
+    if ((lazyInitBitmap & BUCK_PACKAGE_BOUNDARY_EXCEPTIONS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & BUCK_PACKAGE_BOUNDARY_EXCEPTIONS_LAZY_INIT_BIT) == 0) {
+          this.buckPackageBoundaryExceptions = Preconditions.checkNotNull(super.getBuckPackageBoundaryExceptions(), "buckPackageBoundaryExceptions");
+          lazyInitBitmap |= BUCK_PACKAGE_BOUNDARY_EXCEPTIONS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return buckPackageBoundaryExceptions;
+  }
+
+  private static final long READ_ONLY_PATHS_LAZY_INIT_BIT = 0x20L;
+
+  private Optional<ImmutableList<Path>> readOnlyPaths;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractParserConfig#getReadOnlyPaths() readOnlyPaths} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public Optional<ImmutableList<Path>> getReadOnlyPaths() {
+    if ((lazyInitBitmap & READ_ONLY_PATHS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & READ_ONLY_PATHS_LAZY_INIT_BIT) == 0) {
+          this.readOnlyPaths = Preconditions.checkNotNull(super.getReadOnlyPaths(), "readOnlyPaths");
+          lazyInitBitmap |= READ_ONLY_PATHS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return readOnlyPaths;
+  }
+
+  private static final long ALLOW_SYMLINKS_LAZY_INIT_BIT = 0x40L;
+
+  private AbstractParserConfig.AllowSymlinks allowSymlinks;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractParserConfig#getAllowSymlinks() allowSymlinks} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public AbstractParserConfig.AllowSymlinks getAllowSymlinks() {
+    if ((lazyInitBitmap & ALLOW_SYMLINKS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & ALLOW_SYMLINKS_LAZY_INIT_BIT) == 0) {
+          this.allowSymlinks = Preconditions.checkNotNull(super.getAllowSymlinks(), "allowSymlinks");
+          lazyInitBitmap |= ALLOW_SYMLINKS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return allowSymlinks;
+  }
+
+  private static final long BUILD_FILE_SEARCH_METHOD_LAZY_INIT_BIT = 0x80L;
+
+  private Optional<AbstractParserConfig.BuildFileSearchMethod> buildFileSearchMethod;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractParserConfig#getBuildFileSearchMethod() buildFileSearchMethod} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public Optional<AbstractParserConfig.BuildFileSearchMethod> getBuildFileSearchMethod() {
+    if ((lazyInitBitmap & BUILD_FILE_SEARCH_METHOD_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & BUILD_FILE_SEARCH_METHOD_LAZY_INIT_BIT) == 0) {
+          this.buildFileSearchMethod = Preconditions.checkNotNull(super.getBuildFileSearchMethod(), "buildFileSearchMethod");
+          lazyInitBitmap |= BUILD_FILE_SEARCH_METHOD_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return buildFileSearchMethod;
+  }
+
+  private static final long GLOB_HANDLER_LAZY_INIT_BIT = 0x100L;
+
+  private AbstractParserConfig.GlobHandler globHandler;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractParserConfig#getGlobHandler() globHandler} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public AbstractParserConfig.GlobHandler getGlobHandler() {
+    if ((lazyInitBitmap & GLOB_HANDLER_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & GLOB_HANDLER_LAZY_INIT_BIT) == 0) {
+          this.globHandler = Preconditions.checkNotNull(super.getGlobHandler(), "globHandler");
+          lazyInitBitmap |= GLOB_HANDLER_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return globHandler;
+  }
+
+  private static final long WATCHMAN_GLOB_SANITY_CHECK_LAZY_INIT_BIT = 0x200L;
+
+  private AbstractParserConfig.WatchmanGlobSanityCheck watchmanGlobSanityCheck;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractParserConfig#getWatchmanGlobSanityCheck() watchmanGlobSanityCheck} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public AbstractParserConfig.WatchmanGlobSanityCheck getWatchmanGlobSanityCheck() {
+    if ((lazyInitBitmap & WATCHMAN_GLOB_SANITY_CHECK_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & WATCHMAN_GLOB_SANITY_CHECK_LAZY_INIT_BIT) == 0) {
+          this.watchmanGlobSanityCheck = Preconditions.checkNotNull(super.getWatchmanGlobSanityCheck(), "watchmanGlobSanityCheck");
+          lazyInitBitmap |= WATCHMAN_GLOB_SANITY_CHECK_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return watchmanGlobSanityCheck;
+  }
+
+  private static final long WATCHMAN_QUERY_TIMEOUT_MS_LAZY_INIT_BIT = 0x400L;
+
+  private Optional<Long> watchmanQueryTimeoutMs;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractParserConfig#getWatchmanQueryTimeoutMs() watchmanQueryTimeoutMs} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public Optional<Long> getWatchmanQueryTimeoutMs() {
+    if ((lazyInitBitmap & WATCHMAN_QUERY_TIMEOUT_MS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & WATCHMAN_QUERY_TIMEOUT_MS_LAZY_INIT_BIT) == 0) {
+          this.watchmanQueryTimeoutMs = Preconditions.checkNotNull(super.getWatchmanQueryTimeoutMs(), "watchmanQueryTimeoutMs");
+          lazyInitBitmap |= WATCHMAN_QUERY_TIMEOUT_MS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return watchmanQueryTimeoutMs;
+  }
+
+  private static final long WATCHMAN_RECOVERY_TIMEOUT_MS_LAZY_INIT_BIT = 0x800L;
+
+  private long watchmanRecoveryTimeoutMs;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractParserConfig#getWatchmanRecoveryTimeoutMs() watchmanRecoveryTimeoutMs} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public long getWatchmanRecoveryTimeoutMs() {
+    if ((lazyInitBitmap & WATCHMAN_RECOVERY_TIMEOUT_MS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & WATCHMAN_RECOVERY_TIMEOUT_MS_LAZY_INIT_BIT) == 0) {
+          this.watchmanRecoveryTimeoutMs = super.getWatchmanRecoveryTimeoutMs();
+          lazyInitBitmap |= WATCHMAN_RECOVERY_TIMEOUT_MS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return watchmanRecoveryTimeoutMs;
+  }
+
+  private static final long WATCH_CELLS_LAZY_INIT_BIT = 0x1000L;
+
+  private boolean watchCells;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractParserConfig#getWatchCells() watchCells} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public boolean getWatchCells() {
+    if ((lazyInitBitmap & WATCH_CELLS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & WATCH_CELLS_LAZY_INIT_BIT) == 0) {
+          this.watchCells = super.getWatchCells();
+          lazyInitBitmap |= WATCH_CELLS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return watchCells;
+  }
+
+  private static final long WATCHMAN_CURSOR_LAZY_INIT_BIT = 0x2000L;
+
+  private WatchmanWatcher.CursorType watchmanCursor;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractParserConfig#getWatchmanCursor() watchmanCursor} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public WatchmanWatcher.CursorType getWatchmanCursor() {
+    if ((lazyInitBitmap & WATCHMAN_CURSOR_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & WATCHMAN_CURSOR_LAZY_INIT_BIT) == 0) {
+          this.watchmanCursor = Preconditions.checkNotNull(super.getWatchmanCursor(), "watchmanCursor");
+          lazyInitBitmap |= WATCHMAN_CURSOR_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return watchmanCursor;
+  }
+
+  private static final long ENABLE_PARALLEL_PARSING_LAZY_INIT_BIT = 0x4000L;
+
+  private boolean enableParallelParsing;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractParserConfig#getEnableParallelParsing() enableParallelParsing} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public boolean getEnableParallelParsing() {
+    if ((lazyInitBitmap & ENABLE_PARALLEL_PARSING_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & ENABLE_PARALLEL_PARSING_LAZY_INIT_BIT) == 0) {
+          this.enableParallelParsing = super.getEnableParallelParsing();
+          lazyInitBitmap |= ENABLE_PARALLEL_PARSING_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return enableParallelParsing;
+  }
+
+  private static final long PARSER_OUTPUT_FORMAT_LAZY_INIT_BIT = 0x8000L;
+
+  private AbstractParserConfig.ParserOutputFormat parserOutputFormat;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractParserConfig#getParserOutputFormat() parserOutputFormat} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public AbstractParserConfig.ParserOutputFormat getParserOutputFormat() {
+    if ((lazyInitBitmap & PARSER_OUTPUT_FORMAT_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & PARSER_OUTPUT_FORMAT_LAZY_INIT_BIT) == 0) {
+          this.parserOutputFormat = Preconditions.checkNotNull(super.getParserOutputFormat(), "parserOutputFormat");
+          lazyInitBitmap |= PARSER_OUTPUT_FORMAT_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return parserOutputFormat;
+  }
+
+  private static final long ENABLE_PERSISTENT_PARSE_CACHE_LAZY_INIT_BIT = 0x10000L;
+
+  private boolean enablePersistentParseCache;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractParserConfig#getEnablePersistentParseCache() enablePersistentParseCache} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public boolean getEnablePersistentParseCache() {
+    if ((lazyInitBitmap & ENABLE_PERSISTENT_PARSE_CACHE_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & ENABLE_PERSISTENT_PARSE_CACHE_LAZY_INIT_BIT) == 0) {
+          this.enablePersistentParseCache = super.getEnablePersistentParseCache();
+          lazyInitBitmap |= ENABLE_PERSISTENT_PARSE_CACHE_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return enablePersistentParseCache;
+  }
+
+  private static final long NUM_PARSING_THREADS_LAZY_INIT_BIT = 0x20000L;
+
+  private int numParsingThreads;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractParserConfig#getNumParsingThreads() numParsingThreads} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public int getNumParsingThreads() {
+    if ((lazyInitBitmap & NUM_PARSING_THREADS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & NUM_PARSING_THREADS_LAZY_INIT_BIT) == 0) {
+          this.numParsingThreads = super.getNumParsingThreads();
+          lazyInitBitmap |= NUM_PARSING_THREADS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return numParsingThreads;
+  }
+
+  private static final long PARSER_MEMORY_LIMIT_BYTES_LAZY_INIT_BIT = 0x40000L;
+
+  private Optional<Long> parserMemoryLimitBytes;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractParserConfig#getParserMemoryLimitBytes() parserMemoryLimitBytes} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public Optional<Long> getParserMemoryLimitBytes() {
+    if ((lazyInitBitmap & PARSER_MEMORY_LIMIT_BYTES_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & PARSER_MEMORY_LIMIT_BYTES_LAZY_INIT_BIT) == 0) {
+          this.parserMemoryLimitBytes = Preconditions.checkNotNull(super.getParserMemoryLimitBytes(), "parserMemoryLimitBytes");
+          lazyInitBitmap |= PARSER_MEMORY_LIMIT_BYTES_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return parserMemoryLimitBytes;
+  }
+
+  private static final long DEFAULT_FLAVORS_MODE_LAZY_INIT_BIT = 0x80000L;
+
+  private AbstractParserConfig.ApplyDefaultFlavorsMode defaultFlavorsMode;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractParserConfig#getDefaultFlavorsMode() defaultFlavorsMode} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public AbstractParserConfig.ApplyDefaultFlavorsMode getDefaultFlavorsMode() {
+    if ((lazyInitBitmap & DEFAULT_FLAVORS_MODE_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & DEFAULT_FLAVORS_MODE_LAZY_INIT_BIT) == 0) {
+          this.defaultFlavorsMode = Preconditions.checkNotNull(super.getDefaultFlavorsMode(), "defaultFlavorsMode");
+          lazyInitBitmap |= DEFAULT_FLAVORS_MODE_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return defaultFlavorsMode;
+  }
+
+  private static final long BUILD_FILE_IMPORT_WHITELIST_LAZY_INIT_BIT = 0x100000L;
+
+  private ImmutableList<String> buildFileImportWhitelist;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractParserConfig#getBuildFileImportWhitelist() buildFileImportWhitelist} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public ImmutableList<String> getBuildFileImportWhitelist() {
+    if ((lazyInitBitmap & BUILD_FILE_IMPORT_WHITELIST_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & BUILD_FILE_IMPORT_WHITELIST_LAZY_INIT_BIT) == 0) {
+          this.buildFileImportWhitelist = Preconditions.checkNotNull(super.getBuildFileImportWhitelist(), "buildFileImportWhitelist");
+          lazyInitBitmap |= BUILD_FILE_IMPORT_WHITELIST_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return buildFileImportWhitelist;
+  }
+
+  private static final long PYTHON_MODULE_SEARCH_PATH_LAZY_INIT_BIT = 0x200000L;
+
+  private Optional<String> pythonModuleSearchPath;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractParserConfig#getPythonModuleSearchPath() pythonModuleSearchPath} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public Optional<String> getPythonModuleSearchPath() {
+    if ((lazyInitBitmap & PYTHON_MODULE_SEARCH_PATH_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & PYTHON_MODULE_SEARCH_PATH_LAZY_INIT_BIT) == 0) {
+          this.pythonModuleSearchPath = Preconditions.checkNotNull(super.getPythonModuleSearchPath(), "pythonModuleSearchPath");
+          lazyInitBitmap |= PYTHON_MODULE_SEARCH_PATH_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return pythonModuleSearchPath;
+  }
+
+  /**
+   * Construct a new immutable {@code ParserConfig} instance.
+   * @param delegate The value for the {@code delegate} attribute
+   * @return An immutable ParserConfig instance
+   */
+  public static ParserConfig of(BuckConfig delegate) {
+    return new ParserConfig(delegate);
+  }
+}
@@ -0,0 +1,142 @@
+package com.facebook.buck.parser;
+
+import com.facebook.buck.rules.TargetNode;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Predicate;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Matches all {@link TargetNode} objects in a repository that match the given {@link Predicate}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractTargetNodePredicateSpec"})
+@Immutable
+public final class TargetNodePredicateSpec extends AbstractTargetNodePredicateSpec {
+  private final Predicate<? super TargetNode<?, ?>> predicate;
+  private final BuildFileSpec buildFileSpec;
+
+  private TargetNodePredicateSpec(
+      Predicate<? super TargetNode<?, ?>> predicate,
+      BuildFileSpec buildFileSpec) {
+    this.predicate = Preconditions.checkNotNull(predicate, "predicate");
+    this.buildFileSpec = Preconditions.checkNotNull(buildFileSpec, "buildFileSpec");
+  }
+
+  private TargetNodePredicateSpec(
+      TargetNodePredicateSpec original,
+      Predicate<? super TargetNode<?, ?>> predicate,
+      BuildFileSpec buildFileSpec) {
+    this.predicate = predicate;
+    this.buildFileSpec = buildFileSpec;
+  }
+
+  /**
+   * @return The value of the {@code predicate} attribute
+   */
+  @Override
+  public Predicate<? super TargetNode<?, ?>> getPredicate() {
+    return predicate;
+  }
+
+  /**
+   * @return The value of the {@code buildFileSpec} attribute
+   */
+  @Override
+  public BuildFileSpec getBuildFileSpec() {
+    return buildFileSpec;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractTargetNodePredicateSpec#getPredicate() predicate} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for predicate
+   * @return A modified copy of the {@code this} object
+   */
+  public final TargetNodePredicateSpec withPredicate(Predicate<? super TargetNode<?, ?>> value) {
+    if (this.predicate == value) return this;
+    Predicate<? super TargetNode<?, ?>> newValue = Preconditions.checkNotNull(value, "predicate");
+    return new TargetNodePredicateSpec(this, newValue, this.buildFileSpec);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractTargetNodePredicateSpec#getBuildFileSpec() buildFileSpec} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for buildFileSpec
+   * @return A modified copy of the {@code this} object
+   */
+  public final TargetNodePredicateSpec withBuildFileSpec(BuildFileSpec value) {
+    if (this.buildFileSpec == value) return this;
+    BuildFileSpec newValue = Preconditions.checkNotNull(value, "buildFileSpec");
+    return new TargetNodePredicateSpec(this, this.predicate, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code TargetNodePredicateSpec} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof TargetNodePredicateSpec
+        && equalTo((TargetNodePredicateSpec) another);
+  }
+
+  private boolean equalTo(TargetNodePredicateSpec another) {
+    return predicate.equals(another.predicate)
+        && buildFileSpec.equals(another.buildFileSpec);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code predicate}, {@code buildFileSpec}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + predicate.hashCode();
+    h = h * 17 + buildFileSpec.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code TargetNodePredicateSpec} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("TargetNodePredicateSpec")
+        .omitNullValues()
+        .add("predicate", predicate)
+        .add("buildFileSpec", buildFileSpec)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code TargetNodePredicateSpec} instance.
+   * @param predicate The value for the {@code predicate} attribute
+   * @param buildFileSpec The value for the {@code buildFileSpec} attribute
+   * @return An immutable TargetNodePredicateSpec instance
+   */
+  public static TargetNodePredicateSpec of(Predicate<? super TargetNode<?, ?>> predicate, BuildFileSpec buildFileSpec) {
+    return new TargetNodePredicateSpec(predicate, buildFileSpec);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractTargetNodePredicateSpec} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable TargetNodePredicateSpec instance
+   */
+  static TargetNodePredicateSpec copyOf(AbstractTargetNodePredicateSpec instance) {
+    if (instance instanceof TargetNodePredicateSpec) {
+      return (TargetNodePredicateSpec) instance;
+    }
+    return TargetNodePredicateSpec.of(instance.getPredicate(), instance.getBuildFileSpec());
+  }
+}
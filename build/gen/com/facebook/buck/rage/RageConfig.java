@@ -0,0 +1,196 @@
+package com.facebook.buck.rage;
+
+import com.facebook.buck.cli.BuckConfig;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import java.util.List;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractRageConfig}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code RageConfig.builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code RageConfig.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractRageConfig"})
+@Immutable
+public final class RageConfig extends AbstractRageConfig {
+  private final BuckConfig delegate;
+
+  private RageConfig(BuckConfig delegate) {
+    this.delegate = Preconditions.checkNotNull(delegate, "delegate");
+  }
+
+  private RageConfig(RageConfig original, BuckConfig delegate) {
+    this.delegate = delegate;
+  }
+
+  /**
+   * @return The value of the {@code delegate} attribute
+   */
+  @Override
+  public BuckConfig getDelegate() {
+    return delegate;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractRageConfig#getDelegate() delegate} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for delegate
+   * @return A modified copy of the {@code this} object
+   */
+  public final RageConfig withDelegate(BuckConfig value) {
+    if (this.delegate == value) return this;
+    BuckConfig newValue = Preconditions.checkNotNull(value, "delegate");
+    return new RageConfig(this, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code RageConfig} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof RageConfig
+        && equalTo((RageConfig) another);
+  }
+
+  private boolean equalTo(RageConfig another) {
+    return delegate.equals(another.delegate);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code delegate}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + delegate.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code RageConfig} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("RageConfig")
+        .omitNullValues()
+        .add("delegate", delegate)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code RageConfig} instance.
+   * @param delegate The value for the {@code delegate} attribute
+   * @return An immutable RageConfig instance
+   */
+  public static RageConfig of(BuckConfig delegate) {
+    return new RageConfig(delegate);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractRageConfig} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable RageConfig instance
+   */
+  static RageConfig copyOf(AbstractRageConfig instance) {
+    if (instance instanceof RageConfig) {
+      return (RageConfig) instance;
+    }
+    return RageConfig.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link RageConfig RageConfig}.
+   * @return A new RageConfig builder
+   */
+  public static RageConfig.Builder builder() {
+    return new RageConfig.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link RageConfig RageConfig}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_DELEGATE = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable BuckConfig delegate;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code RageConfig} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(RageConfig instance) {
+      return from((AbstractRageConfig) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractRageConfig} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractRageConfig instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      setDelegate(instance.getDelegate());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractRageConfig#getDelegate() delegate} attribute.
+     * @param delegate The value for delegate 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDelegate(BuckConfig delegate) {
+      this.delegate = Preconditions.checkNotNull(delegate, "delegate");
+      initBits &= ~INIT_BIT_DELEGATE;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link RageConfig RageConfig}.
+     * @return An immutable instance of RageConfig
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public RageConfig build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new RageConfig(null, delegate);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_DELEGATE) != 0) attributes.add("delegate");
+      return "Cannot build RageConfig, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,235 @@
+package com.facebook.buck.rules;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import java.util.List;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Holds an ActionGraph with the BuildRuleResolver that created it.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractActionGraphAndResolver"})
+@Immutable
+public final class ActionGraphAndResolver implements AbstractActionGraphAndResolver {
+  private final ActionGraph actionGraph;
+  private final BuildRuleResolver resolver;
+
+  private ActionGraphAndResolver(ActionGraph actionGraph, BuildRuleResolver resolver) {
+    this.actionGraph = Preconditions.checkNotNull(actionGraph, "actionGraph");
+    this.resolver = Preconditions.checkNotNull(resolver, "resolver");
+  }
+
+  private ActionGraphAndResolver(
+      ActionGraphAndResolver original,
+      ActionGraph actionGraph,
+      BuildRuleResolver resolver) {
+    this.actionGraph = actionGraph;
+    this.resolver = resolver;
+  }
+
+  /**
+   * @return The value of the {@code actionGraph} attribute
+   */
+  @Override
+  public ActionGraph getActionGraph() {
+    return actionGraph;
+  }
+
+  /**
+   * @return The value of the {@code resolver} attribute
+   */
+  @Override
+  public BuildRuleResolver getResolver() {
+    return resolver;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractActionGraphAndResolver#getActionGraph() actionGraph} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for actionGraph
+   * @return A modified copy of the {@code this} object
+   */
+  public final ActionGraphAndResolver withActionGraph(ActionGraph value) {
+    if (this.actionGraph == value) return this;
+    ActionGraph newValue = Preconditions.checkNotNull(value, "actionGraph");
+    return new ActionGraphAndResolver(this, newValue, this.resolver);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractActionGraphAndResolver#getResolver() resolver} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for resolver
+   * @return A modified copy of the {@code this} object
+   */
+  public final ActionGraphAndResolver withResolver(BuildRuleResolver value) {
+    if (this.resolver == value) return this;
+    BuildRuleResolver newValue = Preconditions.checkNotNull(value, "resolver");
+    return new ActionGraphAndResolver(this, this.actionGraph, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ActionGraphAndResolver} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ActionGraphAndResolver
+        && equalTo((ActionGraphAndResolver) another);
+  }
+
+  private boolean equalTo(ActionGraphAndResolver another) {
+    return actionGraph.equals(another.actionGraph)
+        && resolver.equals(another.resolver);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code actionGraph}, {@code resolver}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + actionGraph.hashCode();
+    h = h * 17 + resolver.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ActionGraphAndResolver} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ActionGraphAndResolver")
+        .omitNullValues()
+        .add("actionGraph", actionGraph)
+        .add("resolver", resolver)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ActionGraphAndResolver} instance.
+   * @param actionGraph The value for the {@code actionGraph} attribute
+   * @param resolver The value for the {@code resolver} attribute
+   * @return An immutable ActionGraphAndResolver instance
+   */
+  public static ActionGraphAndResolver of(ActionGraph actionGraph, BuildRuleResolver resolver) {
+    return new ActionGraphAndResolver(actionGraph, resolver);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractActionGraphAndResolver} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable ActionGraphAndResolver instance
+   */
+  static ActionGraphAndResolver copyOf(AbstractActionGraphAndResolver instance) {
+    if (instance instanceof ActionGraphAndResolver) {
+      return (ActionGraphAndResolver) instance;
+    }
+    return ActionGraphAndResolver.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link ActionGraphAndResolver ActionGraphAndResolver}.
+   * @return A new ActionGraphAndResolver builder
+   */
+  public static ActionGraphAndResolver.Builder builder() {
+    return new ActionGraphAndResolver.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link ActionGraphAndResolver ActionGraphAndResolver}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_ACTION_GRAPH = 0x1L;
+    private static final long INIT_BIT_RESOLVER = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable ActionGraph actionGraph;
+    private @Nullable BuildRuleResolver resolver;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code ActionGraphAndResolver} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(ActionGraphAndResolver instance) {
+      return from((AbstractActionGraphAndResolver) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractActionGraphAndResolver} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractActionGraphAndResolver instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      setActionGraph(instance.getActionGraph());
+      setResolver(instance.getResolver());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractActionGraphAndResolver#getActionGraph() actionGraph} attribute.
+     * @param actionGraph The value for actionGraph 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setActionGraph(ActionGraph actionGraph) {
+      this.actionGraph = Preconditions.checkNotNull(actionGraph, "actionGraph");
+      initBits &= ~INIT_BIT_ACTION_GRAPH;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractActionGraphAndResolver#getResolver() resolver} attribute.
+     * @param resolver The value for resolver 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setResolver(BuildRuleResolver resolver) {
+      this.resolver = Preconditions.checkNotNull(resolver, "resolver");
+      initBits &= ~INIT_BIT_RESOLVER;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link ActionGraphAndResolver ActionGraphAndResolver}.
+     * @return An immutable instance of ActionGraphAndResolver
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ActionGraphAndResolver build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ActionGraphAndResolver(null, actionGraph, resolver);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_ACTION_GRAPH) != 0) attributes.add("actionGraph");
+      if ((initBits & INIT_BIT_RESOLVER) != 0) attributes.add("resolver");
+      return "Cannot build ActionGraphAndResolver, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,377 @@
+package com.facebook.buck.rules;
+
+import com.facebook.buck.android.AndroidPlatformTarget;
+import com.facebook.buck.event.BuckEventBus;
+import com.facebook.buck.jvm.core.JavaPackageFinder;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Supplier;
+import com.google.common.collect.Lists;
+import java.util.List;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractBuildContext}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code BuildContext.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractBuildContext"})
+@Immutable
+public final class BuildContext extends AbstractBuildContext {
+  private final ActionGraph actionGraph;
+  private final SourcePathResolver sourcePathResolver;
+  private final JavaPackageFinder javaPackageFinder;
+  private final BuckEventBus eventBus;
+  private final Supplier<AndroidPlatformTarget> androidPlatformTargetSupplier;
+
+  private BuildContext(BuildContext.Builder builder) {
+    this.actionGraph = builder.actionGraph;
+    this.sourcePathResolver = builder.sourcePathResolver;
+    this.javaPackageFinder = builder.javaPackageFinder;
+    this.eventBus = builder.eventBus;
+    this.androidPlatformTargetSupplier = builder.androidPlatformTargetSupplier != null
+        ? builder.androidPlatformTargetSupplier
+        : Preconditions.checkNotNull(super.getAndroidPlatformTargetSupplier(), "androidPlatformTargetSupplier");
+  }
+
+  private BuildContext(
+      ActionGraph actionGraph,
+      SourcePathResolver sourcePathResolver,
+      JavaPackageFinder javaPackageFinder,
+      BuckEventBus eventBus,
+      Supplier<AndroidPlatformTarget> androidPlatformTargetSupplier) {
+    this.actionGraph = actionGraph;
+    this.sourcePathResolver = sourcePathResolver;
+    this.javaPackageFinder = javaPackageFinder;
+    this.eventBus = eventBus;
+    this.androidPlatformTargetSupplier = androidPlatformTargetSupplier;
+  }
+
+  /**
+   * @return The value of the {@code actionGraph} attribute
+   */
+  @Override
+  public ActionGraph getActionGraph() {
+    return actionGraph;
+  }
+
+  /**
+   * @return The value of the {@code sourcePathResolver} attribute
+   */
+  @Override
+  public SourcePathResolver getSourcePathResolver() {
+    return sourcePathResolver;
+  }
+
+  /**
+   * @return The value of the {@code javaPackageFinder} attribute
+   */
+  @Override
+  public JavaPackageFinder getJavaPackageFinder() {
+    return javaPackageFinder;
+  }
+
+  /**
+   * @return The value of the {@code eventBus} attribute
+   */
+  @Override
+  public BuckEventBus getEventBus() {
+    return eventBus;
+  }
+
+  /**
+   * @return The value of the {@code androidPlatformTargetSupplier} attribute
+   */
+  @Override
+  public Supplier<AndroidPlatformTarget> getAndroidPlatformTargetSupplier() {
+    return androidPlatformTargetSupplier;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractBuildContext#getActionGraph() actionGraph} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for actionGraph
+   * @return A modified copy of the {@code this} object
+   */
+  public final BuildContext withActionGraph(ActionGraph value) {
+    if (this.actionGraph == value) return this;
+    ActionGraph newValue = Preconditions.checkNotNull(value, "actionGraph");
+    return new BuildContext(
+        newValue,
+        this.sourcePathResolver,
+        this.javaPackageFinder,
+        this.eventBus,
+        this.androidPlatformTargetSupplier);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractBuildContext#getSourcePathResolver() sourcePathResolver} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for sourcePathResolver
+   * @return A modified copy of the {@code this} object
+   */
+  public final BuildContext withSourcePathResolver(SourcePathResolver value) {
+    if (this.sourcePathResolver == value) return this;
+    SourcePathResolver newValue = Preconditions.checkNotNull(value, "sourcePathResolver");
+    return new BuildContext(
+        this.actionGraph,
+        newValue,
+        this.javaPackageFinder,
+        this.eventBus,
+        this.androidPlatformTargetSupplier);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractBuildContext#getJavaPackageFinder() javaPackageFinder} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for javaPackageFinder
+   * @return A modified copy of the {@code this} object
+   */
+  public final BuildContext withJavaPackageFinder(JavaPackageFinder value) {
+    if (this.javaPackageFinder == value) return this;
+    JavaPackageFinder newValue = Preconditions.checkNotNull(value, "javaPackageFinder");
+    return new BuildContext(
+        this.actionGraph,
+        this.sourcePathResolver,
+        newValue,
+        this.eventBus,
+        this.androidPlatformTargetSupplier);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractBuildContext#getEventBus() eventBus} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for eventBus
+   * @return A modified copy of the {@code this} object
+   */
+  public final BuildContext withEventBus(BuckEventBus value) {
+    if (this.eventBus == value) return this;
+    BuckEventBus newValue = Preconditions.checkNotNull(value, "eventBus");
+    return new BuildContext(
+        this.actionGraph,
+        this.sourcePathResolver,
+        this.javaPackageFinder,
+        newValue,
+        this.androidPlatformTargetSupplier);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractBuildContext#getAndroidPlatformTargetSupplier() androidPlatformTargetSupplier} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for androidPlatformTargetSupplier
+   * @return A modified copy of the {@code this} object
+   */
+  public final BuildContext withAndroidPlatformTargetSupplier(Supplier<AndroidPlatformTarget> value) {
+    if (this.androidPlatformTargetSupplier == value) return this;
+    Supplier<AndroidPlatformTarget> newValue = Preconditions.checkNotNull(value, "androidPlatformTargetSupplier");
+    return new BuildContext(this.actionGraph, this.sourcePathResolver, this.javaPackageFinder, this.eventBus, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code BuildContext} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof BuildContext
+        && equalTo((BuildContext) another);
+  }
+
+  private boolean equalTo(BuildContext another) {
+    return actionGraph.equals(another.actionGraph)
+        && sourcePathResolver.equals(another.sourcePathResolver)
+        && javaPackageFinder.equals(another.javaPackageFinder)
+        && eventBus.equals(another.eventBus)
+        && androidPlatformTargetSupplier.equals(another.androidPlatformTargetSupplier);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code actionGraph}, {@code sourcePathResolver}, {@code javaPackageFinder}, {@code eventBus}, {@code androidPlatformTargetSupplier}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + actionGraph.hashCode();
+    h = h * 17 + sourcePathResolver.hashCode();
+    h = h * 17 + javaPackageFinder.hashCode();
+    h = h * 17 + eventBus.hashCode();
+    h = h * 17 + androidPlatformTargetSupplier.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code BuildContext} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("BuildContext")
+        .omitNullValues()
+        .add("actionGraph", actionGraph)
+        .add("sourcePathResolver", sourcePathResolver)
+        .add("javaPackageFinder", javaPackageFinder)
+        .add("eventBus", eventBus)
+        .add("androidPlatformTargetSupplier", androidPlatformTargetSupplier)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractBuildContext} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable BuildContext instance
+   */
+  static BuildContext copyOf(AbstractBuildContext instance) {
+    if (instance instanceof BuildContext) {
+      return (BuildContext) instance;
+    }
+    return BuildContext.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link BuildContext BuildContext}.
+   * @return A new BuildContext builder
+   */
+  public static BuildContext.Builder builder() {
+    return new BuildContext.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link BuildContext BuildContext}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_ACTION_GRAPH = 0x1L;
+    private static final long INIT_BIT_SOURCE_PATH_RESOLVER = 0x2L;
+    private static final long INIT_BIT_JAVA_PACKAGE_FINDER = 0x4L;
+    private static final long INIT_BIT_EVENT_BUS = 0x8L;
+    private long initBits = 0xfL;
+
+    private @Nullable ActionGraph actionGraph;
+    private @Nullable SourcePathResolver sourcePathResolver;
+    private @Nullable JavaPackageFinder javaPackageFinder;
+    private @Nullable BuckEventBus eventBus;
+    private @Nullable Supplier<AndroidPlatformTarget> androidPlatformTargetSupplier;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code BuildContext} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(BuildContext instance) {
+      return from((AbstractBuildContext) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractBuildContext} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractBuildContext instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      setActionGraph(instance.getActionGraph());
+      setSourcePathResolver(instance.getSourcePathResolver());
+      setJavaPackageFinder(instance.getJavaPackageFinder());
+      setEventBus(instance.getEventBus());
+      setAndroidPlatformTargetSupplier(instance.getAndroidPlatformTargetSupplier());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractBuildContext#getActionGraph() actionGraph} attribute.
+     * @param actionGraph The value for actionGraph 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setActionGraph(ActionGraph actionGraph) {
+      this.actionGraph = Preconditions.checkNotNull(actionGraph, "actionGraph");
+      initBits &= ~INIT_BIT_ACTION_GRAPH;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractBuildContext#getSourcePathResolver() sourcePathResolver} attribute.
+     * @param sourcePathResolver The value for sourcePathResolver 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSourcePathResolver(SourcePathResolver sourcePathResolver) {
+      this.sourcePathResolver = Preconditions.checkNotNull(sourcePathResolver, "sourcePathResolver");
+      initBits &= ~INIT_BIT_SOURCE_PATH_RESOLVER;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractBuildContext#getJavaPackageFinder() javaPackageFinder} attribute.
+     * @param javaPackageFinder The value for javaPackageFinder 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setJavaPackageFinder(JavaPackageFinder javaPackageFinder) {
+      this.javaPackageFinder = Preconditions.checkNotNull(javaPackageFinder, "javaPackageFinder");
+      initBits &= ~INIT_BIT_JAVA_PACKAGE_FINDER;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractBuildContext#getEventBus() eventBus} attribute.
+     * @param eventBus The value for eventBus 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setEventBus(BuckEventBus eventBus) {
+      this.eventBus = Preconditions.checkNotNull(eventBus, "eventBus");
+      initBits &= ~INIT_BIT_EVENT_BUS;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractBuildContext#getAndroidPlatformTargetSupplier() androidPlatformTargetSupplier} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractBuildContext#getAndroidPlatformTargetSupplier() androidPlatformTargetSupplier}.</em>
+     * @param androidPlatformTargetSupplier The value for androidPlatformTargetSupplier 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setAndroidPlatformTargetSupplier(Supplier<AndroidPlatformTarget> androidPlatformTargetSupplier) {
+      this.androidPlatformTargetSupplier = Preconditions.checkNotNull(androidPlatformTargetSupplier, "androidPlatformTargetSupplier");
+      return this;
+    }
+
+    /**
+     * Builds a new {@link BuildContext BuildContext}.
+     * @return An immutable instance of BuildContext
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public BuildContext build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new BuildContext(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_ACTION_GRAPH) != 0) attributes.add("actionGraph");
+      if ((initBits & INIT_BIT_SOURCE_PATH_RESOLVER) != 0) attributes.add("sourcePathResolver");
+      if ((initBits & INIT_BIT_JAVA_PACKAGE_FINDER) != 0) attributes.add("javaPackageFinder");
+      if ((initBits & INIT_BIT_EVENT_BUS) != 0) attributes.add("eventBus");
+      return "Cannot build BuildContext, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,387 @@
+package com.facebook.buck.rules;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Objects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import java.util.List;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractBuildRuleKeys}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code BuildRuleKeys.builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code BuildRuleKeys.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractBuildRuleKeys"})
+@Immutable
+public final class BuildRuleKeys implements AbstractBuildRuleKeys {
+  private final RuleKey ruleKey;
+  private final @Nullable RuleKey inputRuleKey;
+  private final @Nullable RuleKey depFileRuleKey;
+  private final @Nullable RuleKey manifestRuleKey;
+
+  private BuildRuleKeys(RuleKey ruleKey) {
+    this.ruleKey = Preconditions.checkNotNull(ruleKey, "ruleKey");
+    this.inputRuleKey = null;
+    this.depFileRuleKey = null;
+    this.manifestRuleKey = null;
+  }
+
+  private BuildRuleKeys(
+      RuleKey ruleKey,
+      @Nullable RuleKey inputRuleKey,
+      @Nullable RuleKey depFileRuleKey,
+      @Nullable RuleKey manifestRuleKey) {
+    this.ruleKey = ruleKey;
+    this.inputRuleKey = inputRuleKey;
+    this.depFileRuleKey = depFileRuleKey;
+    this.manifestRuleKey = manifestRuleKey;
+  }
+
+  /**
+   * @return The value of the {@code ruleKey} attribute
+   */
+  @Override
+  public RuleKey getRuleKey() {
+    return ruleKey;
+  }
+
+  /**
+   * @return The value of the {@code inputRuleKey} attribute
+   */
+  @Override
+  public Optional<RuleKey> getInputRuleKey() {
+    return Optional.ofNullable(inputRuleKey);
+  }
+
+  /**
+   * @return The value of the {@code depFileRuleKey} attribute
+   */
+  @Override
+  public Optional<RuleKey> getDepFileRuleKey() {
+    return Optional.ofNullable(depFileRuleKey);
+  }
+
+  /**
+   * @return The value of the {@code manifestRuleKey} attribute
+   */
+  @Override
+  public Optional<RuleKey> getManifestRuleKey() {
+    return Optional.ofNullable(manifestRuleKey);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractBuildRuleKeys#getRuleKey() ruleKey} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for ruleKey
+   * @return A modified copy of the {@code this} object
+   */
+  public final BuildRuleKeys withRuleKey(RuleKey value) {
+    if (this.ruleKey == value) return this;
+    RuleKey newValue = Preconditions.checkNotNull(value, "ruleKey");
+    return new BuildRuleKeys(newValue, this.inputRuleKey, this.depFileRuleKey, this.manifestRuleKey);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractBuildRuleKeys#getInputRuleKey() inputRuleKey} attribute.
+   * @param value The value for inputRuleKey
+   * @return A modified copy of {@code this} object
+   */
+  public final BuildRuleKeys withInputRuleKey(RuleKey value) {
+    @Nullable RuleKey newValue = Preconditions.checkNotNull(value, "inputRuleKey");
+    if (this.inputRuleKey == newValue) return this;
+    return new BuildRuleKeys(this.ruleKey, newValue, this.depFileRuleKey, this.manifestRuleKey);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractBuildRuleKeys#getInputRuleKey() inputRuleKey} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for inputRuleKey
+   * @return A modified copy of {@code this} object
+   */
+  public final BuildRuleKeys withInputRuleKey(Optional<RuleKey> optional) {
+    @Nullable RuleKey value = optional.orElse(null);
+    if (this.inputRuleKey == value) return this;
+    return new BuildRuleKeys(this.ruleKey, value, this.depFileRuleKey, this.manifestRuleKey);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractBuildRuleKeys#getDepFileRuleKey() depFileRuleKey} attribute.
+   * @param value The value for depFileRuleKey
+   * @return A modified copy of {@code this} object
+   */
+  public final BuildRuleKeys withDepFileRuleKey(RuleKey value) {
+    @Nullable RuleKey newValue = Preconditions.checkNotNull(value, "depFileRuleKey");
+    if (this.depFileRuleKey == newValue) return this;
+    return new BuildRuleKeys(this.ruleKey, this.inputRuleKey, newValue, this.manifestRuleKey);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractBuildRuleKeys#getDepFileRuleKey() depFileRuleKey} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for depFileRuleKey
+   * @return A modified copy of {@code this} object
+   */
+  public final BuildRuleKeys withDepFileRuleKey(Optional<RuleKey> optional) {
+    @Nullable RuleKey value = optional.orElse(null);
+    if (this.depFileRuleKey == value) return this;
+    return new BuildRuleKeys(this.ruleKey, this.inputRuleKey, value, this.manifestRuleKey);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractBuildRuleKeys#getManifestRuleKey() manifestRuleKey} attribute.
+   * @param value The value for manifestRuleKey
+   * @return A modified copy of {@code this} object
+   */
+  public final BuildRuleKeys withManifestRuleKey(RuleKey value) {
+    @Nullable RuleKey newValue = Preconditions.checkNotNull(value, "manifestRuleKey");
+    if (this.manifestRuleKey == newValue) return this;
+    return new BuildRuleKeys(this.ruleKey, this.inputRuleKey, this.depFileRuleKey, newValue);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractBuildRuleKeys#getManifestRuleKey() manifestRuleKey} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for manifestRuleKey
+   * @return A modified copy of {@code this} object
+   */
+  public final BuildRuleKeys withManifestRuleKey(Optional<RuleKey> optional) {
+    @Nullable RuleKey value = optional.orElse(null);
+    if (this.manifestRuleKey == value) return this;
+    return new BuildRuleKeys(this.ruleKey, this.inputRuleKey, this.depFileRuleKey, value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code BuildRuleKeys} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof BuildRuleKeys
+        && equalTo((BuildRuleKeys) another);
+  }
+
+  private boolean equalTo(BuildRuleKeys another) {
+    return ruleKey.equals(another.ruleKey)
+        && Objects.equal(inputRuleKey, another.inputRuleKey)
+        && Objects.equal(depFileRuleKey, another.depFileRuleKey)
+        && Objects.equal(manifestRuleKey, another.manifestRuleKey);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code ruleKey}, {@code inputRuleKey}, {@code depFileRuleKey}, {@code manifestRuleKey}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + ruleKey.hashCode();
+    h = h * 17 + Objects.hashCode(inputRuleKey);
+    h = h * 17 + Objects.hashCode(depFileRuleKey);
+    h = h * 17 + Objects.hashCode(manifestRuleKey);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code BuildRuleKeys} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("BuildRuleKeys")
+        .omitNullValues()
+        .add("ruleKey", ruleKey)
+        .add("inputRuleKey", inputRuleKey)
+        .add("depFileRuleKey", depFileRuleKey)
+        .add("manifestRuleKey", manifestRuleKey)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code BuildRuleKeys} instance.
+   * @param ruleKey The value for the {@code ruleKey} attribute
+   * @return An immutable BuildRuleKeys instance
+   */
+  public static BuildRuleKeys of(RuleKey ruleKey) {
+    return new BuildRuleKeys(ruleKey);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractBuildRuleKeys} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable BuildRuleKeys instance
+   */
+  static BuildRuleKeys copyOf(AbstractBuildRuleKeys instance) {
+    if (instance instanceof BuildRuleKeys) {
+      return (BuildRuleKeys) instance;
+    }
+    return BuildRuleKeys.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link BuildRuleKeys BuildRuleKeys}.
+   * @return A new BuildRuleKeys builder
+   */
+  public static BuildRuleKeys.Builder builder() {
+    return new BuildRuleKeys.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link BuildRuleKeys BuildRuleKeys}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_RULE_KEY = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable RuleKey ruleKey;
+    private @Nullable RuleKey inputRuleKey;
+    private @Nullable RuleKey depFileRuleKey;
+    private @Nullable RuleKey manifestRuleKey;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code BuildRuleKeys} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(BuildRuleKeys instance) {
+      return from((AbstractBuildRuleKeys) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractBuildRuleKeys} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractBuildRuleKeys instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      setRuleKey(instance.getRuleKey());
+      Optional<RuleKey> inputRuleKeyOptional = instance.getInputRuleKey();
+      if (inputRuleKeyOptional.isPresent()) {
+        setInputRuleKey(inputRuleKeyOptional);
+      }
+      Optional<RuleKey> depFileRuleKeyOptional = instance.getDepFileRuleKey();
+      if (depFileRuleKeyOptional.isPresent()) {
+        setDepFileRuleKey(depFileRuleKeyOptional);
+      }
+      Optional<RuleKey> manifestRuleKeyOptional = instance.getManifestRuleKey();
+      if (manifestRuleKeyOptional.isPresent()) {
+        setManifestRuleKey(manifestRuleKeyOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractBuildRuleKeys#getRuleKey() ruleKey} attribute.
+     * @param ruleKey The value for ruleKey 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRuleKey(RuleKey ruleKey) {
+      this.ruleKey = Preconditions.checkNotNull(ruleKey, "ruleKey");
+      initBits &= ~INIT_BIT_RULE_KEY;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractBuildRuleKeys#getInputRuleKey() inputRuleKey} to inputRuleKey.
+     * @param inputRuleKey The value for inputRuleKey
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setInputRuleKey(RuleKey inputRuleKey) {
+      this.inputRuleKey = Preconditions.checkNotNull(inputRuleKey, "inputRuleKey");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractBuildRuleKeys#getInputRuleKey() inputRuleKey} to inputRuleKey.
+     * @param inputRuleKey The value for inputRuleKey
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setInputRuleKey(Optional<RuleKey> inputRuleKey) {
+      this.inputRuleKey = inputRuleKey.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractBuildRuleKeys#getDepFileRuleKey() depFileRuleKey} to depFileRuleKey.
+     * @param depFileRuleKey The value for depFileRuleKey
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setDepFileRuleKey(RuleKey depFileRuleKey) {
+      this.depFileRuleKey = Preconditions.checkNotNull(depFileRuleKey, "depFileRuleKey");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractBuildRuleKeys#getDepFileRuleKey() depFileRuleKey} to depFileRuleKey.
+     * @param depFileRuleKey The value for depFileRuleKey
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDepFileRuleKey(Optional<RuleKey> depFileRuleKey) {
+      this.depFileRuleKey = depFileRuleKey.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractBuildRuleKeys#getManifestRuleKey() manifestRuleKey} to manifestRuleKey.
+     * @param manifestRuleKey The value for manifestRuleKey
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setManifestRuleKey(RuleKey manifestRuleKey) {
+      this.manifestRuleKey = Preconditions.checkNotNull(manifestRuleKey, "manifestRuleKey");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractBuildRuleKeys#getManifestRuleKey() manifestRuleKey} to manifestRuleKey.
+     * @param manifestRuleKey The value for manifestRuleKey
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setManifestRuleKey(Optional<RuleKey> manifestRuleKey) {
+      this.manifestRuleKey = manifestRuleKey.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link BuildRuleKeys BuildRuleKeys}.
+     * @return An immutable instance of BuildRuleKeys
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public BuildRuleKeys build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new BuildRuleKeys(ruleKey, inputRuleKey, depFileRuleKey, manifestRuleKey);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_RULE_KEY) != 0) attributes.add("ruleKey");
+      return "Cannot build BuildRuleKeys, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,245 @@
+package com.facebook.buck.rules;
+
+import com.facebook.buck.cli.BuckConfig;
+import com.facebook.buck.io.ProjectFilesystem;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Objects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import java.util.List;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link CellProvider.AbstractDistBuildCellParams}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code DistBuildCellParams.builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code DistBuildCellParams.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "CellProvider.AbstractDistBuildCellParams"})
+@Immutable
+public final class DistBuildCellParams
+    implements CellProvider.AbstractDistBuildCellParams {
+  private final BuckConfig config;
+  private final ProjectFilesystem filesystem;
+  private final @Nullable String canonicalName;
+
+  private DistBuildCellParams(
+      BuckConfig config,
+      ProjectFilesystem filesystem,
+      Optional<String> canonicalName) {
+    this.config = Preconditions.checkNotNull(config, "config");
+    this.filesystem = Preconditions.checkNotNull(filesystem, "filesystem");
+    this.canonicalName = canonicalName.orElse(null);
+  }
+
+  private DistBuildCellParams(DistBuildCellParams.Builder builder) {
+    this.config = builder.config;
+    this.filesystem = builder.filesystem;
+    this.canonicalName = builder.canonicalName;
+  }
+
+  /**
+   * @return The value of the {@code config} attribute
+   */
+  @Override
+  public BuckConfig getConfig() {
+    return config;
+  }
+
+  /**
+   * @return The value of the {@code filesystem} attribute
+   */
+  @Override
+  public ProjectFilesystem getFilesystem() {
+    return filesystem;
+  }
+
+  /**
+   * @return The value of the {@code canonicalName} attribute
+   */
+  @Override
+  public Optional<String> getCanonicalName() {
+    return Optional.ofNullable(canonicalName);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code DistBuildCellParams} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof DistBuildCellParams
+        && equalTo((DistBuildCellParams) another);
+  }
+
+  private boolean equalTo(DistBuildCellParams another) {
+    return config.equals(another.config)
+        && filesystem.equals(another.filesystem)
+        && Objects.equal(canonicalName, another.canonicalName);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code config}, {@code filesystem}, {@code canonicalName}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + config.hashCode();
+    h = h * 17 + filesystem.hashCode();
+    h = h * 17 + Objects.hashCode(canonicalName);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DistBuildCellParams} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DistBuildCellParams")
+        .omitNullValues()
+        .add("config", config)
+        .add("filesystem", filesystem)
+        .add("canonicalName", canonicalName)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code DistBuildCellParams} instance.
+   * @param config The value for the {@code config} attribute
+   * @param filesystem The value for the {@code filesystem} attribute
+   * @param canonicalName The value for the {@code canonicalName} attribute
+   * @return An immutable DistBuildCellParams instance
+   */
+  public static DistBuildCellParams of(BuckConfig config, ProjectFilesystem filesystem, Optional<String> canonicalName) {
+    return new DistBuildCellParams(config, filesystem, canonicalName);
+  }
+
+  /**
+   * Creates a builder for {@link DistBuildCellParams DistBuildCellParams}.
+   * @return A new DistBuildCellParams builder
+   */
+  public static DistBuildCellParams.Builder builder() {
+    return new DistBuildCellParams.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link DistBuildCellParams DistBuildCellParams}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_CONFIG = 0x1L;
+    private static final long INIT_BIT_FILESYSTEM = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable BuckConfig config;
+    private @Nullable ProjectFilesystem filesystem;
+    private @Nullable String canonicalName;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code DistBuildCellParams} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(DistBuildCellParams instance) {
+      return from((CellProvider.AbstractDistBuildCellParams) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractDistBuildCellParams} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(CellProvider.AbstractDistBuildCellParams instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      setConfig(instance.getConfig());
+      setFilesystem(instance.getFilesystem());
+      Optional<String> canonicalNameOptional = instance.getCanonicalName();
+      if (canonicalNameOptional.isPresent()) {
+        setCanonicalName(canonicalNameOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link CellProvider.AbstractDistBuildCellParams#getConfig() config} attribute.
+     * @param config The value for config 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setConfig(BuckConfig config) {
+      this.config = Preconditions.checkNotNull(config, "config");
+      initBits &= ~INIT_BIT_CONFIG;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link CellProvider.AbstractDistBuildCellParams#getFilesystem() filesystem} attribute.
+     * @param filesystem The value for filesystem 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setFilesystem(ProjectFilesystem filesystem) {
+      this.filesystem = Preconditions.checkNotNull(filesystem, "filesystem");
+      initBits &= ~INIT_BIT_FILESYSTEM;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CellProvider.AbstractDistBuildCellParams#getCanonicalName() canonicalName} to canonicalName.
+     * @param canonicalName The value for canonicalName
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCanonicalName(String canonicalName) {
+      this.canonicalName = Preconditions.checkNotNull(canonicalName, "canonicalName");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link CellProvider.AbstractDistBuildCellParams#getCanonicalName() canonicalName} to canonicalName.
+     * @param canonicalName The value for canonicalName
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCanonicalName(Optional<String> canonicalName) {
+      this.canonicalName = canonicalName.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link DistBuildCellParams DistBuildCellParams}.
+     * @return An immutable instance of DistBuildCellParams
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public DistBuildCellParams build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new DistBuildCellParams(this);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_CONFIG) != 0) attributes.add("config");
+      if ((initBits & INIT_BIT_FILESYSTEM) != 0) attributes.add("filesystem");
+      return "Cannot build DistBuildCellParams, some of required attributes are not set " + attributes;
+    }
+  }
+}
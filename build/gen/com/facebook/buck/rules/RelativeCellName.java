@@ -0,0 +1,119 @@
+package com.facebook.buck.rules;
+
+import com.google.common.collect.ImmutableList;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Describes a cell name relative to another cell.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractRelativeCellName"})
+@Immutable
+public final class RelativeCellName extends AbstractRelativeCellName {
+  private final ImmutableList<String> components;
+
+  private RelativeCellName(Iterable<String> components) {
+    this.components = ImmutableList.copyOf(components);
+  }
+
+  private RelativeCellName(RelativeCellName original, ImmutableList<String> components) {
+    this.components = components;
+  }
+
+  /**
+   * @return The value of the {@code components} attribute
+   */
+  @Override
+  public ImmutableList<String> getComponents() {
+    return components;
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractRelativeCellName#getComponents() components}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RelativeCellName withComponents(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return validate(new RelativeCellName(this, newValue));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractRelativeCellName#getComponents() components}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of components elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final RelativeCellName withComponents(Iterable<String> elements) {
+    if (this.components == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return validate(new RelativeCellName(this, newValue));
+  }
+
+  /**
+   * This instance is equal to all instances of {@code RelativeCellName} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof RelativeCellName
+        && equalTo((RelativeCellName) another);
+  }
+
+  private boolean equalTo(RelativeCellName another) {
+    return components.equals(another.components);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code components}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + components.hashCode();
+    return h;
+  }
+
+  /**
+   * Construct a new immutable {@code RelativeCellName} instance.
+   * @param components The value for the {@code components} attribute
+   * @return An immutable RelativeCellName instance
+   */
+  public static RelativeCellName of(ImmutableList<String> components) {
+    return of((Iterable<String>) components);
+  }
+
+  /**
+   * Construct a new immutable {@code RelativeCellName} instance.
+   * @param components The value for the {@code components} attribute
+   * @return An immutable RelativeCellName instance
+   */
+  public static RelativeCellName of(Iterable<String> components) {
+    return validate(new RelativeCellName(components));
+  }
+
+  private static RelativeCellName validate(RelativeCellName instance) {
+    instance.checkComponents();
+    return instance;
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractRelativeCellName} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable RelativeCellName instance
+   */
+  static RelativeCellName copyOf(AbstractRelativeCellName instance) {
+    if (instance instanceof RelativeCellName) {
+      return (RelativeCellName) instance;
+    }
+    return RelativeCellName.of(instance.getComponents());
+  }
+}
@@ -0,0 +1,138 @@
+package com.facebook.buck.rules.keys;
+
+import com.facebook.buck.io.ProjectFilesystem;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import java.nio.file.Path;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Represents some input to rule key calculation that can change between runs, and currently wraps
+ * a path from a filesystem.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractRuleKeyInput"})
+@Immutable
+public final class RuleKeyInput implements AbstractRuleKeyInput {
+  private final ProjectFilesystem filesystem;
+  private final Path path;
+
+  private RuleKeyInput(ProjectFilesystem filesystem, Path path) {
+    this.filesystem = Preconditions.checkNotNull(filesystem, "filesystem");
+    this.path = Preconditions.checkNotNull(path, "path");
+  }
+
+  private RuleKeyInput(RuleKeyInput original, ProjectFilesystem filesystem, Path path) {
+    this.filesystem = filesystem;
+    this.path = path;
+  }
+
+  /**
+   * @return the {@link ProjectFilesystem} the input is from.
+   */
+  @Override
+  public ProjectFilesystem getFilesystem() {
+    return filesystem;
+  }
+
+  /**
+   * @return the relative {@link Path} of the input.
+   */
+  @Override
+  public Path getPath() {
+    return path;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractRuleKeyInput#getFilesystem() filesystem} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for filesystem
+   * @return A modified copy of the {@code this} object
+   */
+  public final RuleKeyInput withFilesystem(ProjectFilesystem value) {
+    if (this.filesystem == value) return this;
+    ProjectFilesystem newValue = Preconditions.checkNotNull(value, "filesystem");
+    return new RuleKeyInput(this, newValue, this.path);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractRuleKeyInput#getPath() path} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for path
+   * @return A modified copy of the {@code this} object
+   */
+  public final RuleKeyInput withPath(Path value) {
+    if (this.path == value) return this;
+    Path newValue = Preconditions.checkNotNull(value, "path");
+    return new RuleKeyInput(this, this.filesystem, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code RuleKeyInput} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof RuleKeyInput
+        && equalTo((RuleKeyInput) another);
+  }
+
+  private boolean equalTo(RuleKeyInput another) {
+    return filesystem.equals(another.filesystem)
+        && path.equals(another.path);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code filesystem}, {@code path}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + filesystem.hashCode();
+    h = h * 17 + path.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code RuleKeyInput} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("RuleKeyInput")
+        .omitNullValues()
+        .add("filesystem", filesystem)
+        .add("path", path)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code RuleKeyInput} instance.
+   * @param filesystem The value for the {@code filesystem} attribute
+   * @param path The value for the {@code path} attribute
+   * @return An immutable RuleKeyInput instance
+   */
+  public static RuleKeyInput of(ProjectFilesystem filesystem, Path path) {
+    return new RuleKeyInput(filesystem, path);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractRuleKeyInput} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable RuleKeyInput instance
+   */
+  static RuleKeyInput copyOf(AbstractRuleKeyInput instance) {
+    if (instance instanceof RuleKeyInput) {
+      return (RuleKeyInput) instance;
+    }
+    return RuleKeyInput.of(instance.getFilesystem(), instance.getPath());
+  }
+}
@@ -0,0 +1,111 @@
+package com.facebook.buck.rules.query;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractQuery}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code Query.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractQuery"})
+@Immutable
+public final class Query extends AbstractQuery {
+  private final String query;
+
+  private Query(String query) {
+    this.query = Preconditions.checkNotNull(query, "query");
+  }
+
+  private Query(Query original, String query) {
+    this.query = query;
+  }
+
+  /**
+   * @return The value of the {@code query} attribute
+   */
+  @Override
+  public String getQuery() {
+    return query;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractQuery#getQuery() query} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for query
+   * @return A modified copy of the {@code this} object
+   */
+  public final Query withQuery(String value) {
+    if (this.query.equals(value)) return this;
+    String newValue = Preconditions.checkNotNull(value, "query");
+    return new Query(this, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code Query} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof Query
+        && equalTo((Query) another);
+  }
+
+  private boolean equalTo(Query another) {
+    return query.equals(another.query);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code query}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + query.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code Query} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("Query")
+        .omitNullValues()
+        .add("query", query)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code Query} instance.
+   * @param query The value for the {@code query} attribute
+   * @return An immutable Query instance
+   */
+  public static Query of(String query) {
+    return new Query(query);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractQuery} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable Query instance
+   */
+  static Query copyOf(AbstractQuery instance) {
+    if (instance instanceof Query) {
+      return (Query) instance;
+    }
+    return Query.of(instance.getQuery());
+  }
+}
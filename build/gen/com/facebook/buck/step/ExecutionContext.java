@@ -0,0 +1,2344 @@
+package com.facebook.buck.step;
+
+import com.facebook.buck.android.AndroidPlatformTarget;
+import com.facebook.buck.event.BuckEventBus;
+import com.facebook.buck.jvm.core.JavaPackageFinder;
+import com.facebook.buck.model.BuildId;
+import com.facebook.buck.rules.CellPathResolver;
+import com.facebook.buck.rules.RuleKeyDiagnosticsMode;
+import com.facebook.buck.shell.WorkerProcessPool;
+import com.facebook.buck.util.Ansi;
+import com.facebook.buck.util.ClassLoaderCache;
+import com.facebook.buck.util.Console;
+import com.facebook.buck.util.ProcessExecutor;
+import com.facebook.buck.util.Verbosity;
+import com.facebook.buck.util.concurrent.ConcurrencyLimit;
+import com.facebook.buck.util.environment.Platform;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Objects;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Supplier;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.primitives.Booleans;
+import com.google.common.primitives.Longs;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentMap;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractExecutionContext}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code ExecutionContext.builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code ExecutionContext.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractExecutionContext"})
+@Immutable
+public final class ExecutionContext extends AbstractExecutionContext {
+  private final Console console;
+  private final BuckEventBus buckEventBus;
+  private final Platform platform;
+  private final ImmutableMap<String, String> environment;
+  private final JavaPackageFinder javaPackageFinder;
+  private final ImmutableMap<ExecutorPool, ListeningExecutorService> executors;
+  private final @Nullable TargetDevice targetDevice;
+  private final @Nullable TargetDeviceOptions targetDeviceOptions;
+  private final @Nullable AdbOptions adbOptions;
+  private final @Nullable ConcurrentMap<String, WorkerProcessPool> persistentWorkerPools;
+  private final CellPathResolver cellPathResolver;
+  private final Supplier<AndroidPlatformTarget> androidPlatformTargetSupplier;
+  private final long defaultTestTimeoutMillis;
+  private final boolean codeCoverageEnabled;
+  private final boolean inclNoLocationClassesEnabled;
+  private final boolean shouldReportAbsolutePaths;
+  private final boolean debugEnabled;
+  private final RuleKeyDiagnosticsMode ruleKeyDiagnosticsMode;
+  private final ConcurrentMap<String, WorkerProcessPool> workerProcessPools;
+  private final ConcurrencyLimit concurrencyLimit;
+  private final ClassLoaderCache classLoaderCache;
+  private final ProcessExecutor processExecutor;
+  private final Verbosity verbosity;
+  private final PrintStream stdErr;
+  private final PrintStream stdOut;
+  private final BuildId buildId;
+  private final Ansi ansi;
+
+  private ExecutionContext(
+      Console console,
+      BuckEventBus buckEventBus,
+      Platform platform,
+      Map<String, ? extends String> environment,
+      JavaPackageFinder javaPackageFinder,
+      Map<ExecutorPool, ? extends ListeningExecutorService> executors,
+      Optional<TargetDevice> targetDevice,
+      Optional<TargetDeviceOptions> targetDeviceOptions,
+      Optional<AdbOptions> adbOptions,
+      Optional<ConcurrentMap<String, WorkerProcessPool>> persistentWorkerPools,
+      CellPathResolver cellPathResolver) {
+    this.console = Preconditions.checkNotNull(console, "console");
+    this.buckEventBus = Preconditions.checkNotNull(buckEventBus, "buckEventBus");
+    this.platform = Preconditions.checkNotNull(platform, "platform");
+    this.environment = ImmutableMap.copyOf(environment);
+    this.javaPackageFinder = Preconditions.checkNotNull(javaPackageFinder, "javaPackageFinder");
+    this.executors = Maps.immutableEnumMap(executors);
+    this.targetDevice = targetDevice.orElse(null);
+    this.targetDeviceOptions = targetDeviceOptions.orElse(null);
+    this.adbOptions = adbOptions.orElse(null);
+    this.persistentWorkerPools = persistentWorkerPools.orElse(null);
+    this.cellPathResolver = Preconditions.checkNotNull(cellPathResolver, "cellPathResolver");
+    this.androidPlatformTargetSupplier = initShim.getAndroidPlatformTargetSupplier();
+    this.defaultTestTimeoutMillis = initShim.getDefaultTestTimeoutMillis();
+    this.codeCoverageEnabled = initShim.isCodeCoverageEnabled();
+    this.inclNoLocationClassesEnabled = initShim.isInclNoLocationClassesEnabled();
+    this.shouldReportAbsolutePaths = initShim.shouldReportAbsolutePaths();
+    this.debugEnabled = initShim.isDebugEnabled();
+    this.ruleKeyDiagnosticsMode = initShim.getRuleKeyDiagnosticsMode();
+    this.workerProcessPools = initShim.getWorkerProcessPools();
+    this.concurrencyLimit = initShim.getConcurrencyLimit();
+    this.classLoaderCache = initShim.getClassLoaderCache();
+    this.processExecutor = initShim.getProcessExecutor();
+    this.verbosity = initShim.getVerbosity();
+    this.stdErr = initShim.getStdErr();
+    this.stdOut = initShim.getStdOut();
+    this.buildId = initShim.getBuildId();
+    this.ansi = initShim.getAnsi();
+    this.initShim = null;
+  }
+
+  private ExecutionContext(ExecutionContext.Builder builder) {
+    this.console = builder.console;
+    this.buckEventBus = builder.buckEventBus;
+    this.platform = builder.platform;
+    this.environment = builder.environment.build();
+    this.javaPackageFinder = builder.javaPackageFinder;
+    this.executors = Maps.immutableEnumMap(builder.executors.build());
+    this.targetDevice = builder.targetDevice;
+    this.targetDeviceOptions = builder.targetDeviceOptions;
+    this.adbOptions = builder.adbOptions;
+    this.persistentWorkerPools = builder.persistentWorkerPools;
+    this.cellPathResolver = builder.cellPathResolver;
+    if (builder.androidPlatformTargetSupplier != null) {
+      initShim.setAndroidPlatformTargetSupplier(builder.androidPlatformTargetSupplier);
+    }
+    if (builder.defaultTestTimeoutMillisIsSet()) {
+      initShim.setDefaultTestTimeoutMillis(builder.defaultTestTimeoutMillis);
+    }
+    if (builder.codeCoverageEnabledIsSet()) {
+      initShim.setCodeCoverageEnabled(builder.codeCoverageEnabled);
+    }
+    if (builder.inclNoLocationClassesEnabledIsSet()) {
+      initShim.setInclNoLocationClassesEnabled(builder.inclNoLocationClassesEnabled);
+    }
+    if (builder.shouldReportAbsolutePathsIsSet()) {
+      initShim.setShouldReportAbsolutePaths(builder.shouldReportAbsolutePaths);
+    }
+    if (builder.debugEnabledIsSet()) {
+      initShim.setDebugEnabled(builder.debugEnabled);
+    }
+    if (builder.ruleKeyDiagnosticsMode != null) {
+      initShim.setRuleKeyDiagnosticsMode(builder.ruleKeyDiagnosticsMode);
+    }
+    if (builder.workerProcessPools != null) {
+      initShim.setWorkerProcessPools(builder.workerProcessPools);
+    }
+    if (builder.concurrencyLimit != null) {
+      initShim.setConcurrencyLimit(builder.concurrencyLimit);
+    }
+    if (builder.classLoaderCache != null) {
+      initShim.setClassLoaderCache(builder.classLoaderCache);
+    }
+    if (builder.processExecutor != null) {
+      initShim.setProcessExecutor(builder.processExecutor);
+    }
+    this.androidPlatformTargetSupplier = initShim.getAndroidPlatformTargetSupplier();
+    this.defaultTestTimeoutMillis = initShim.getDefaultTestTimeoutMillis();
+    this.codeCoverageEnabled = initShim.isCodeCoverageEnabled();
+    this.inclNoLocationClassesEnabled = initShim.isInclNoLocationClassesEnabled();
+    this.shouldReportAbsolutePaths = initShim.shouldReportAbsolutePaths();
+    this.debugEnabled = initShim.isDebugEnabled();
+    this.ruleKeyDiagnosticsMode = initShim.getRuleKeyDiagnosticsMode();
+    this.workerProcessPools = initShim.getWorkerProcessPools();
+    this.concurrencyLimit = initShim.getConcurrencyLimit();
+    this.classLoaderCache = initShim.getClassLoaderCache();
+    this.processExecutor = initShim.getProcessExecutor();
+    this.verbosity = initShim.getVerbosity();
+    this.stdErr = initShim.getStdErr();
+    this.stdOut = initShim.getStdOut();
+    this.buildId = initShim.getBuildId();
+    this.ansi = initShim.getAnsi();
+    this.initShim = null;
+  }
+
+  private ExecutionContext(
+      Console console,
+      BuckEventBus buckEventBus,
+      Platform platform,
+      ImmutableMap<String, String> environment,
+      JavaPackageFinder javaPackageFinder,
+      ImmutableMap<ExecutorPool, ListeningExecutorService> executors,
+      @Nullable TargetDevice targetDevice,
+      @Nullable TargetDeviceOptions targetDeviceOptions,
+      @Nullable AdbOptions adbOptions,
+      @Nullable ConcurrentMap<String, WorkerProcessPool> persistentWorkerPools,
+      CellPathResolver cellPathResolver,
+      Supplier<AndroidPlatformTarget> androidPlatformTargetSupplier,
+      long defaultTestTimeoutMillis,
+      boolean codeCoverageEnabled,
+      boolean inclNoLocationClassesEnabled,
+      boolean shouldReportAbsolutePaths,
+      boolean debugEnabled,
+      RuleKeyDiagnosticsMode ruleKeyDiagnosticsMode,
+      ConcurrentMap<String, WorkerProcessPool> workerProcessPools,
+      ConcurrencyLimit concurrencyLimit,
+      ClassLoaderCache classLoaderCache,
+      ProcessExecutor processExecutor) {
+    this.console = console;
+    this.buckEventBus = buckEventBus;
+    this.platform = platform;
+    this.environment = environment;
+    this.javaPackageFinder = javaPackageFinder;
+    this.executors = executors;
+    this.targetDevice = targetDevice;
+    this.targetDeviceOptions = targetDeviceOptions;
+    this.adbOptions = adbOptions;
+    this.persistentWorkerPools = persistentWorkerPools;
+    this.cellPathResolver = cellPathResolver;
+    this.androidPlatformTargetSupplier = androidPlatformTargetSupplier;
+    this.defaultTestTimeoutMillis = defaultTestTimeoutMillis;
+    this.codeCoverageEnabled = codeCoverageEnabled;
+    this.inclNoLocationClassesEnabled = inclNoLocationClassesEnabled;
+    this.shouldReportAbsolutePaths = shouldReportAbsolutePaths;
+    this.debugEnabled = debugEnabled;
+    this.ruleKeyDiagnosticsMode = ruleKeyDiagnosticsMode;
+    this.workerProcessPools = workerProcessPools;
+    this.concurrencyLimit = concurrencyLimit;
+    this.classLoaderCache = classLoaderCache;
+    this.processExecutor = processExecutor;
+    initShim.setAndroidPlatformTargetSupplier(this.androidPlatformTargetSupplier);
+    initShim.setDefaultTestTimeoutMillis(this.defaultTestTimeoutMillis);
+    initShim.setCodeCoverageEnabled(this.codeCoverageEnabled);
+    initShim.setInclNoLocationClassesEnabled(this.inclNoLocationClassesEnabled);
+    initShim.setShouldReportAbsolutePaths(this.shouldReportAbsolutePaths);
+    initShim.setDebugEnabled(this.debugEnabled);
+    initShim.setRuleKeyDiagnosticsMode(this.ruleKeyDiagnosticsMode);
+    initShim.setWorkerProcessPools(this.workerProcessPools);
+    initShim.setConcurrencyLimit(this.concurrencyLimit);
+    initShim.setClassLoaderCache(this.classLoaderCache);
+    initShim.setProcessExecutor(this.processExecutor);
+    this.verbosity = initShim.getVerbosity();
+    this.stdErr = initShim.getStdErr();
+    this.stdOut = initShim.getStdOut();
+    this.buildId = initShim.getBuildId();
+    this.ansi = initShim.getAnsi();
+    this.initShim = null;
+  }
+
+  private static final int STAGE_INITIALIZING = -1;
+  private static final int STAGE_UNINITIALIZED = 0;
+  private static final int STAGE_INITIALIZED = 1;
+  private transient volatile InitShim initShim = new InitShim();
+
+  private final class InitShim {
+    private Supplier<AndroidPlatformTarget> androidPlatformTargetSupplier;
+    private int androidPlatformTargetSupplierBuildStage;
+
+    Supplier<AndroidPlatformTarget> getAndroidPlatformTargetSupplier() {
+      if (androidPlatformTargetSupplierBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (androidPlatformTargetSupplierBuildStage == STAGE_UNINITIALIZED) {
+        androidPlatformTargetSupplierBuildStage = STAGE_INITIALIZING;
+        this.androidPlatformTargetSupplier = Preconditions.checkNotNull(ExecutionContext.super.getAndroidPlatformTargetSupplier(), "androidPlatformTargetSupplier");
+        androidPlatformTargetSupplierBuildStage = STAGE_INITIALIZED;
+      }
+      return this.androidPlatformTargetSupplier;
+    }
+
+    void setAndroidPlatformTargetSupplier(Supplier<AndroidPlatformTarget> androidPlatformTargetSupplier) {
+      this.androidPlatformTargetSupplier = androidPlatformTargetSupplier;
+      androidPlatformTargetSupplierBuildStage = STAGE_INITIALIZED;
+    }
+    private long defaultTestTimeoutMillis;
+    private int defaultTestTimeoutMillisBuildStage;
+
+    long getDefaultTestTimeoutMillis() {
+      if (defaultTestTimeoutMillisBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (defaultTestTimeoutMillisBuildStage == STAGE_UNINITIALIZED) {
+        defaultTestTimeoutMillisBuildStage = STAGE_INITIALIZING;
+        this.defaultTestTimeoutMillis = ExecutionContext.super.getDefaultTestTimeoutMillis();
+        defaultTestTimeoutMillisBuildStage = STAGE_INITIALIZED;
+      }
+      return this.defaultTestTimeoutMillis;
+    }
+
+    void setDefaultTestTimeoutMillis(long defaultTestTimeoutMillis) {
+      this.defaultTestTimeoutMillis = defaultTestTimeoutMillis;
+      defaultTestTimeoutMillisBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean codeCoverageEnabled;
+    private int codeCoverageEnabledBuildStage;
+
+    boolean isCodeCoverageEnabled() {
+      if (codeCoverageEnabledBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (codeCoverageEnabledBuildStage == STAGE_UNINITIALIZED) {
+        codeCoverageEnabledBuildStage = STAGE_INITIALIZING;
+        this.codeCoverageEnabled = ExecutionContext.super.isCodeCoverageEnabled();
+        codeCoverageEnabledBuildStage = STAGE_INITIALIZED;
+      }
+      return this.codeCoverageEnabled;
+    }
+
+    void setCodeCoverageEnabled(boolean codeCoverageEnabled) {
+      this.codeCoverageEnabled = codeCoverageEnabled;
+      codeCoverageEnabledBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean inclNoLocationClassesEnabled;
+    private int inclNoLocationClassesEnabledBuildStage;
+
+    boolean isInclNoLocationClassesEnabled() {
+      if (inclNoLocationClassesEnabledBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (inclNoLocationClassesEnabledBuildStage == STAGE_UNINITIALIZED) {
+        inclNoLocationClassesEnabledBuildStage = STAGE_INITIALIZING;
+        this.inclNoLocationClassesEnabled = ExecutionContext.super.isInclNoLocationClassesEnabled();
+        inclNoLocationClassesEnabledBuildStage = STAGE_INITIALIZED;
+      }
+      return this.inclNoLocationClassesEnabled;
+    }
+
+    void setInclNoLocationClassesEnabled(boolean inclNoLocationClassesEnabled) {
+      this.inclNoLocationClassesEnabled = inclNoLocationClassesEnabled;
+      inclNoLocationClassesEnabledBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean shouldReportAbsolutePaths;
+    private int shouldReportAbsolutePathsBuildStage;
+
+    boolean shouldReportAbsolutePaths() {
+      if (shouldReportAbsolutePathsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (shouldReportAbsolutePathsBuildStage == STAGE_UNINITIALIZED) {
+        shouldReportAbsolutePathsBuildStage = STAGE_INITIALIZING;
+        this.shouldReportAbsolutePaths = ExecutionContext.super.shouldReportAbsolutePaths();
+        shouldReportAbsolutePathsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.shouldReportAbsolutePaths;
+    }
+
+    void setShouldReportAbsolutePaths(boolean shouldReportAbsolutePaths) {
+      this.shouldReportAbsolutePaths = shouldReportAbsolutePaths;
+      shouldReportAbsolutePathsBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean debugEnabled;
+    private int debugEnabledBuildStage;
+
+    boolean isDebugEnabled() {
+      if (debugEnabledBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (debugEnabledBuildStage == STAGE_UNINITIALIZED) {
+        debugEnabledBuildStage = STAGE_INITIALIZING;
+        this.debugEnabled = ExecutionContext.super.isDebugEnabled();
+        debugEnabledBuildStage = STAGE_INITIALIZED;
+      }
+      return this.debugEnabled;
+    }
+
+    void setDebugEnabled(boolean debugEnabled) {
+      this.debugEnabled = debugEnabled;
+      debugEnabledBuildStage = STAGE_INITIALIZED;
+    }
+    private RuleKeyDiagnosticsMode ruleKeyDiagnosticsMode;
+    private int ruleKeyDiagnosticsModeBuildStage;
+
+    RuleKeyDiagnosticsMode getRuleKeyDiagnosticsMode() {
+      if (ruleKeyDiagnosticsModeBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (ruleKeyDiagnosticsModeBuildStage == STAGE_UNINITIALIZED) {
+        ruleKeyDiagnosticsModeBuildStage = STAGE_INITIALIZING;
+        this.ruleKeyDiagnosticsMode = Preconditions.checkNotNull(ExecutionContext.super.getRuleKeyDiagnosticsMode(), "ruleKeyDiagnosticsMode");
+        ruleKeyDiagnosticsModeBuildStage = STAGE_INITIALIZED;
+      }
+      return this.ruleKeyDiagnosticsMode;
+    }
+
+    void setRuleKeyDiagnosticsMode(RuleKeyDiagnosticsMode ruleKeyDiagnosticsMode) {
+      this.ruleKeyDiagnosticsMode = ruleKeyDiagnosticsMode;
+      ruleKeyDiagnosticsModeBuildStage = STAGE_INITIALIZED;
+    }
+    private ConcurrentMap<String, WorkerProcessPool> workerProcessPools;
+    private int workerProcessPoolsBuildStage;
+
+    ConcurrentMap<String, WorkerProcessPool> getWorkerProcessPools() {
+      if (workerProcessPoolsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (workerProcessPoolsBuildStage == STAGE_UNINITIALIZED) {
+        workerProcessPoolsBuildStage = STAGE_INITIALIZING;
+        this.workerProcessPools = Preconditions.checkNotNull(ExecutionContext.super.getWorkerProcessPools(), "workerProcessPools");
+        workerProcessPoolsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.workerProcessPools;
+    }
+
+    void setWorkerProcessPools(ConcurrentMap<String, WorkerProcessPool> workerProcessPools) {
+      this.workerProcessPools = workerProcessPools;
+      workerProcessPoolsBuildStage = STAGE_INITIALIZED;
+    }
+    private ConcurrencyLimit concurrencyLimit;
+    private int concurrencyLimitBuildStage;
+
+    ConcurrencyLimit getConcurrencyLimit() {
+      if (concurrencyLimitBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (concurrencyLimitBuildStage == STAGE_UNINITIALIZED) {
+        concurrencyLimitBuildStage = STAGE_INITIALIZING;
+        this.concurrencyLimit = Preconditions.checkNotNull(ExecutionContext.super.getConcurrencyLimit(), "concurrencyLimit");
+        concurrencyLimitBuildStage = STAGE_INITIALIZED;
+      }
+      return this.concurrencyLimit;
+    }
+
+    void setConcurrencyLimit(ConcurrencyLimit concurrencyLimit) {
+      this.concurrencyLimit = concurrencyLimit;
+      concurrencyLimitBuildStage = STAGE_INITIALIZED;
+    }
+    private ClassLoaderCache classLoaderCache;
+    private int classLoaderCacheBuildStage;
+
+    ClassLoaderCache getClassLoaderCache() {
+      if (classLoaderCacheBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (classLoaderCacheBuildStage == STAGE_UNINITIALIZED) {
+        classLoaderCacheBuildStage = STAGE_INITIALIZING;
+        this.classLoaderCache = Preconditions.checkNotNull(ExecutionContext.super.getClassLoaderCache(), "classLoaderCache");
+        classLoaderCacheBuildStage = STAGE_INITIALIZED;
+      }
+      return this.classLoaderCache;
+    }
+
+    void setClassLoaderCache(ClassLoaderCache classLoaderCache) {
+      this.classLoaderCache = classLoaderCache;
+      classLoaderCacheBuildStage = STAGE_INITIALIZED;
+    }
+    private ProcessExecutor processExecutor;
+    private int processExecutorBuildStage;
+
+    ProcessExecutor getProcessExecutor() {
+      if (processExecutorBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (processExecutorBuildStage == STAGE_UNINITIALIZED) {
+        processExecutorBuildStage = STAGE_INITIALIZING;
+        this.processExecutor = Preconditions.checkNotNull(ExecutionContext.super.getProcessExecutor(), "processExecutor");
+        processExecutorBuildStage = STAGE_INITIALIZED;
+      }
+      return this.processExecutor;
+    }
+
+    void setProcessExecutor(ProcessExecutor processExecutor) {
+      this.processExecutor = processExecutor;
+      processExecutorBuildStage = STAGE_INITIALIZED;
+    }
+    private Verbosity verbosity;
+    private int verbosityBuildStage;
+
+    Verbosity getVerbosity() {
+      if (verbosityBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (verbosityBuildStage == STAGE_UNINITIALIZED) {
+        verbosityBuildStage = STAGE_INITIALIZING;
+        this.verbosity = Preconditions.checkNotNull(ExecutionContext.super.getVerbosity(), "verbosity");
+        verbosityBuildStage = STAGE_INITIALIZED;
+      }
+      return this.verbosity;
+    }
+    private PrintStream stdErr;
+    private int stdErrBuildStage;
+
+    PrintStream getStdErr() {
+      if (stdErrBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (stdErrBuildStage == STAGE_UNINITIALIZED) {
+        stdErrBuildStage = STAGE_INITIALIZING;
+        this.stdErr = Preconditions.checkNotNull(ExecutionContext.super.getStdErr(), "stdErr");
+        stdErrBuildStage = STAGE_INITIALIZED;
+      }
+      return this.stdErr;
+    }
+    private PrintStream stdOut;
+    private int stdOutBuildStage;
+
+    PrintStream getStdOut() {
+      if (stdOutBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (stdOutBuildStage == STAGE_UNINITIALIZED) {
+        stdOutBuildStage = STAGE_INITIALIZING;
+        this.stdOut = Preconditions.checkNotNull(ExecutionContext.super.getStdOut(), "stdOut");
+        stdOutBuildStage = STAGE_INITIALIZED;
+      }
+      return this.stdOut;
+    }
+    private BuildId buildId;
+    private int buildIdBuildStage;
+
+    BuildId getBuildId() {
+      if (buildIdBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (buildIdBuildStage == STAGE_UNINITIALIZED) {
+        buildIdBuildStage = STAGE_INITIALIZING;
+        this.buildId = Preconditions.checkNotNull(ExecutionContext.super.getBuildId(), "buildId");
+        buildIdBuildStage = STAGE_INITIALIZED;
+      }
+      return this.buildId;
+    }
+    private Ansi ansi;
+    private int ansiBuildStage;
+
+    Ansi getAnsi() {
+      if (ansiBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (ansiBuildStage == STAGE_UNINITIALIZED) {
+        ansiBuildStage = STAGE_INITIALIZING;
+        this.ansi = Preconditions.checkNotNull(ExecutionContext.super.getAnsi(), "ansi");
+        ansiBuildStage = STAGE_INITIALIZED;
+      }
+      return this.ansi;
+    }
+
+    private String formatInitCycleMessage() {
+      ArrayList<String> attributes = Lists.newArrayList();
+      if (androidPlatformTargetSupplierBuildStage == STAGE_INITIALIZING) attributes.add("androidPlatformTargetSupplier");
+      if (defaultTestTimeoutMillisBuildStage == STAGE_INITIALIZING) attributes.add("defaultTestTimeoutMillis");
+      if (codeCoverageEnabledBuildStage == STAGE_INITIALIZING) attributes.add("codeCoverageEnabled");
+      if (inclNoLocationClassesEnabledBuildStage == STAGE_INITIALIZING) attributes.add("inclNoLocationClassesEnabled");
+      if (shouldReportAbsolutePathsBuildStage == STAGE_INITIALIZING) attributes.add("shouldReportAbsolutePaths");
+      if (debugEnabledBuildStage == STAGE_INITIALIZING) attributes.add("debugEnabled");
+      if (ruleKeyDiagnosticsModeBuildStage == STAGE_INITIALIZING) attributes.add("ruleKeyDiagnosticsMode");
+      if (workerProcessPoolsBuildStage == STAGE_INITIALIZING) attributes.add("workerProcessPools");
+      if (concurrencyLimitBuildStage == STAGE_INITIALIZING) attributes.add("concurrencyLimit");
+      if (classLoaderCacheBuildStage == STAGE_INITIALIZING) attributes.add("classLoaderCache");
+      if (processExecutorBuildStage == STAGE_INITIALIZING) attributes.add("processExecutor");
+      if (verbosityBuildStage == STAGE_INITIALIZING) attributes.add("verbosity");
+      if (stdErrBuildStage == STAGE_INITIALIZING) attributes.add("stdErr");
+      if (stdOutBuildStage == STAGE_INITIALIZING) attributes.add("stdOut");
+      if (buildIdBuildStage == STAGE_INITIALIZING) attributes.add("buildId");
+      if (ansiBuildStage == STAGE_INITIALIZING) attributes.add("ansi");
+      return "Cannot build ExecutionContext, attribute initializers form cycle" + attributes;
+    }
+  }
+
+  /**
+   * @return The value of the {@code console} attribute
+   */
+  @Override
+  public Console getConsole() {
+    return console;
+  }
+
+  /**
+   * @return The value of the {@code buckEventBus} attribute
+   */
+  @Override
+  public BuckEventBus getBuckEventBus() {
+    return buckEventBus;
+  }
+
+  /**
+   * @return The value of the {@code platform} attribute
+   */
+  @Override
+  public Platform getPlatform() {
+    return platform;
+  }
+
+  /**
+   * @return The value of the {@code environment} attribute
+   */
+  @Override
+  public ImmutableMap<String, String> getEnvironment() {
+    return environment;
+  }
+
+  /**
+   * @return The value of the {@code javaPackageFinder} attribute
+   */
+  @Override
+  public JavaPackageFinder getJavaPackageFinder() {
+    return javaPackageFinder;
+  }
+
+  /**
+   * @return The value of the {@code executors} attribute
+   */
+  @Override
+  public ImmutableMap<ExecutorPool, ListeningExecutorService> getExecutors() {
+    return executors;
+  }
+
+  /**
+   * @return The value of the {@code targetDevice} attribute
+   */
+  @Override
+  public Optional<TargetDevice> getTargetDevice() {
+    return Optional.ofNullable(targetDevice);
+  }
+
+  /**
+   * @return The value of the {@code targetDeviceOptions} attribute
+   */
+  @Override
+  public Optional<TargetDeviceOptions> getTargetDeviceOptions() {
+    return Optional.ofNullable(targetDeviceOptions);
+  }
+
+  /**
+   * @return The value of the {@code adbOptions} attribute
+   */
+  @Override
+  public Optional<AdbOptions> getAdbOptions() {
+    return Optional.ofNullable(adbOptions);
+  }
+
+  /**
+   * Worker process pools that are persisted across buck invocations inside buck daemon.
+   * If buck is running without daemon, there will be no persisted pools.
+   */
+  @Override
+  public Optional<ConcurrentMap<String, WorkerProcessPool>> getPersistentWorkerPools() {
+    return Optional.ofNullable(persistentWorkerPools);
+  }
+
+  /**
+   * @return The value of the {@code cellPathResolver} attribute
+   */
+  @Override
+  public CellPathResolver getCellPathResolver() {
+    return cellPathResolver;
+  }
+
+  /**
+   * Returns an {@link AndroidPlatformTarget} if the user specified one. If the user failed to
+   * specify one, an exception will be thrown.
+   */
+  @Override
+  public Supplier<AndroidPlatformTarget> getAndroidPlatformTargetSupplier() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getAndroidPlatformTargetSupplier()
+        : this.androidPlatformTargetSupplier;
+  }
+
+  /**
+   * @return The value of the {@code defaultTestTimeoutMillis} attribute
+   */
+  @Override
+  public long getDefaultTestTimeoutMillis() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getDefaultTestTimeoutMillis()
+        : this.defaultTestTimeoutMillis;
+  }
+
+  /**
+   * @return The value of the {@code codeCoverageEnabled} attribute
+   */
+  @Override
+  public boolean isCodeCoverageEnabled() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isCodeCoverageEnabled()
+        : this.codeCoverageEnabled;
+  }
+
+  /**
+   * @return The value of the {@code inclNoLocationClassesEnabled} attribute
+   */
+  @Override
+  public boolean isInclNoLocationClassesEnabled() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isInclNoLocationClassesEnabled()
+        : this.inclNoLocationClassesEnabled;
+  }
+
+  /**
+   * @return The value of the {@code shouldReportAbsolutePaths} attribute
+   */
+  @Override
+  public boolean shouldReportAbsolutePaths() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.shouldReportAbsolutePaths()
+        : this.shouldReportAbsolutePaths;
+  }
+
+  /**
+   * @return The value of the {@code debugEnabled} attribute
+   */
+  @Override
+  public boolean isDebugEnabled() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isDebugEnabled()
+        : this.debugEnabled;
+  }
+
+  /**
+   * @return The value of the {@code ruleKeyDiagnosticsMode} attribute
+   */
+  @Override
+  public RuleKeyDiagnosticsMode getRuleKeyDiagnosticsMode() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getRuleKeyDiagnosticsMode()
+        : this.ruleKeyDiagnosticsMode;
+  }
+
+  /**
+   * Worker process pools that you can populate as needed. These will be destroyed as soon as
+   * buck invocation finishes, thus, these pools are not persisted across buck invocations.
+   */
+  @Override
+  public ConcurrentMap<String, WorkerProcessPool> getWorkerProcessPools() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getWorkerProcessPools()
+        : this.workerProcessPools;
+  }
+
+  /**
+   * @return The value of the {@code concurrencyLimit} attribute
+   */
+  @Override
+  public ConcurrencyLimit getConcurrencyLimit() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getConcurrencyLimit()
+        : this.concurrencyLimit;
+  }
+
+  /**
+   * @return The value of the {@code classLoaderCache} attribute
+   */
+  @Override
+  public ClassLoaderCache getClassLoaderCache() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getClassLoaderCache()
+        : this.classLoaderCache;
+  }
+
+  /**
+   * @return The value of the {@code processExecutor} attribute
+   */
+  @Override
+  public ProcessExecutor getProcessExecutor() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getProcessExecutor()
+        : this.processExecutor;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code verbosity} attribute
+   */
+  @Override
+  public Verbosity getVerbosity() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getVerbosity()
+        : this.verbosity;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code stdErr} attribute
+   */
+  @Override
+  public PrintStream getStdErr() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getStdErr()
+        : this.stdErr;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code stdOut} attribute
+   */
+  @Override
+  public PrintStream getStdOut() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getStdOut()
+        : this.stdOut;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code buildId} attribute
+   */
+  @Override
+  public BuildId getBuildId() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getBuildId()
+        : this.buildId;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code ansi} attribute
+   */
+  @Override
+  public Ansi getAnsi() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getAnsi()
+        : this.ansi;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractExecutionContext#getConsole() console} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for console
+   * @return A modified copy of the {@code this} object
+   */
+  public final ExecutionContext withConsole(Console value) {
+    if (this.console == value) return this;
+    Console newValue = Preconditions.checkNotNull(value, "console");
+    return new ExecutionContext(
+        newValue,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.executors,
+        this.targetDevice,
+        this.targetDeviceOptions,
+        this.adbOptions,
+        this.persistentWorkerPools,
+        this.cellPathResolver,
+        this.androidPlatformTargetSupplier,
+        this.defaultTestTimeoutMillis,
+        this.codeCoverageEnabled,
+        this.inclNoLocationClassesEnabled,
+        this.shouldReportAbsolutePaths,
+        this.debugEnabled,
+        this.ruleKeyDiagnosticsMode,
+        this.workerProcessPools,
+        this.concurrencyLimit,
+        this.classLoaderCache,
+        this.processExecutor);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractExecutionContext#getBuckEventBus() buckEventBus} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for buckEventBus
+   * @return A modified copy of the {@code this} object
+   */
+  public final ExecutionContext withBuckEventBus(BuckEventBus value) {
+    if (this.buckEventBus == value) return this;
+    BuckEventBus newValue = Preconditions.checkNotNull(value, "buckEventBus");
+    return new ExecutionContext(
+        this.console,
+        newValue,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.executors,
+        this.targetDevice,
+        this.targetDeviceOptions,
+        this.adbOptions,
+        this.persistentWorkerPools,
+        this.cellPathResolver,
+        this.androidPlatformTargetSupplier,
+        this.defaultTestTimeoutMillis,
+        this.codeCoverageEnabled,
+        this.inclNoLocationClassesEnabled,
+        this.shouldReportAbsolutePaths,
+        this.debugEnabled,
+        this.ruleKeyDiagnosticsMode,
+        this.workerProcessPools,
+        this.concurrencyLimit,
+        this.classLoaderCache,
+        this.processExecutor);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractExecutionContext#getPlatform() platform} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for platform
+   * @return A modified copy of the {@code this} object
+   */
+  public final ExecutionContext withPlatform(Platform value) {
+    if (this.platform == value) return this;
+    Platform newValue = Preconditions.checkNotNull(value, "platform");
+    return new ExecutionContext(
+        this.console,
+        this.buckEventBus,
+        newValue,
+        this.environment,
+        this.javaPackageFinder,
+        this.executors,
+        this.targetDevice,
+        this.targetDeviceOptions,
+        this.adbOptions,
+        this.persistentWorkerPools,
+        this.cellPathResolver,
+        this.androidPlatformTargetSupplier,
+        this.defaultTestTimeoutMillis,
+        this.codeCoverageEnabled,
+        this.inclNoLocationClassesEnabled,
+        this.shouldReportAbsolutePaths,
+        this.debugEnabled,
+        this.ruleKeyDiagnosticsMode,
+        this.workerProcessPools,
+        this.concurrencyLimit,
+        this.classLoaderCache,
+        this.processExecutor);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AbstractExecutionContext#getEnvironment() environment} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the environment map
+   * @return A modified copy of {@code this} object
+   */
+  public final ExecutionContext withEnvironment(Map<String, ? extends String> entries) {
+    if (this.environment == entries) return this;
+    ImmutableMap<String, String> newValue = ImmutableMap.copyOf(entries);
+    return new ExecutionContext(
+        this.console,
+        this.buckEventBus,
+        this.platform,
+        newValue,
+        this.javaPackageFinder,
+        this.executors,
+        this.targetDevice,
+        this.targetDeviceOptions,
+        this.adbOptions,
+        this.persistentWorkerPools,
+        this.cellPathResolver,
+        this.androidPlatformTargetSupplier,
+        this.defaultTestTimeoutMillis,
+        this.codeCoverageEnabled,
+        this.inclNoLocationClassesEnabled,
+        this.shouldReportAbsolutePaths,
+        this.debugEnabled,
+        this.ruleKeyDiagnosticsMode,
+        this.workerProcessPools,
+        this.concurrencyLimit,
+        this.classLoaderCache,
+        this.processExecutor);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractExecutionContext#getJavaPackageFinder() javaPackageFinder} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for javaPackageFinder
+   * @return A modified copy of the {@code this} object
+   */
+  public final ExecutionContext withJavaPackageFinder(JavaPackageFinder value) {
+    if (this.javaPackageFinder == value) return this;
+    JavaPackageFinder newValue = Preconditions.checkNotNull(value, "javaPackageFinder");
+    return new ExecutionContext(
+        this.console,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        newValue,
+        this.executors,
+        this.targetDevice,
+        this.targetDeviceOptions,
+        this.adbOptions,
+        this.persistentWorkerPools,
+        this.cellPathResolver,
+        this.androidPlatformTargetSupplier,
+        this.defaultTestTimeoutMillis,
+        this.codeCoverageEnabled,
+        this.inclNoLocationClassesEnabled,
+        this.shouldReportAbsolutePaths,
+        this.debugEnabled,
+        this.ruleKeyDiagnosticsMode,
+        this.workerProcessPools,
+        this.concurrencyLimit,
+        this.classLoaderCache,
+        this.processExecutor);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AbstractExecutionContext#getExecutors() executors} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the executors map
+   * @return A modified copy of {@code this} object
+   */
+  public final ExecutionContext withExecutors(Map<ExecutorPool, ? extends ListeningExecutorService> entries) {
+    if (this.executors == entries) return this;
+    ImmutableMap<ExecutorPool, ListeningExecutorService> newValue = Maps.immutableEnumMap(entries);
+    return new ExecutionContext(
+        this.console,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        newValue,
+        this.targetDevice,
+        this.targetDeviceOptions,
+        this.adbOptions,
+        this.persistentWorkerPools,
+        this.cellPathResolver,
+        this.androidPlatformTargetSupplier,
+        this.defaultTestTimeoutMillis,
+        this.codeCoverageEnabled,
+        this.inclNoLocationClassesEnabled,
+        this.shouldReportAbsolutePaths,
+        this.debugEnabled,
+        this.ruleKeyDiagnosticsMode,
+        this.workerProcessPools,
+        this.concurrencyLimit,
+        this.classLoaderCache,
+        this.processExecutor);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractExecutionContext#getTargetDevice() targetDevice} attribute.
+   * @param value The value for targetDevice
+   * @return A modified copy of {@code this} object
+   */
+  public final ExecutionContext withTargetDevice(TargetDevice value) {
+    @Nullable TargetDevice newValue = Preconditions.checkNotNull(value, "targetDevice");
+    if (this.targetDevice == newValue) return this;
+    return new ExecutionContext(
+        this.console,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.executors,
+        newValue,
+        this.targetDeviceOptions,
+        this.adbOptions,
+        this.persistentWorkerPools,
+        this.cellPathResolver,
+        this.androidPlatformTargetSupplier,
+        this.defaultTestTimeoutMillis,
+        this.codeCoverageEnabled,
+        this.inclNoLocationClassesEnabled,
+        this.shouldReportAbsolutePaths,
+        this.debugEnabled,
+        this.ruleKeyDiagnosticsMode,
+        this.workerProcessPools,
+        this.concurrencyLimit,
+        this.classLoaderCache,
+        this.processExecutor);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractExecutionContext#getTargetDevice() targetDevice} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for targetDevice
+   * @return A modified copy of {@code this} object
+   */
+  public final ExecutionContext withTargetDevice(Optional<TargetDevice> optional) {
+    @Nullable TargetDevice value = optional.orElse(null);
+    if (this.targetDevice == value) return this;
+    return new ExecutionContext(
+        this.console,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.executors,
+        value,
+        this.targetDeviceOptions,
+        this.adbOptions,
+        this.persistentWorkerPools,
+        this.cellPathResolver,
+        this.androidPlatformTargetSupplier,
+        this.defaultTestTimeoutMillis,
+        this.codeCoverageEnabled,
+        this.inclNoLocationClassesEnabled,
+        this.shouldReportAbsolutePaths,
+        this.debugEnabled,
+        this.ruleKeyDiagnosticsMode,
+        this.workerProcessPools,
+        this.concurrencyLimit,
+        this.classLoaderCache,
+        this.processExecutor);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractExecutionContext#getTargetDeviceOptions() targetDeviceOptions} attribute.
+   * @param value The value for targetDeviceOptions
+   * @return A modified copy of {@code this} object
+   */
+  public final ExecutionContext withTargetDeviceOptions(TargetDeviceOptions value) {
+    @Nullable TargetDeviceOptions newValue = Preconditions.checkNotNull(value, "targetDeviceOptions");
+    if (this.targetDeviceOptions == newValue) return this;
+    return new ExecutionContext(
+        this.console,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.executors,
+        this.targetDevice,
+        newValue,
+        this.adbOptions,
+        this.persistentWorkerPools,
+        this.cellPathResolver,
+        this.androidPlatformTargetSupplier,
+        this.defaultTestTimeoutMillis,
+        this.codeCoverageEnabled,
+        this.inclNoLocationClassesEnabled,
+        this.shouldReportAbsolutePaths,
+        this.debugEnabled,
+        this.ruleKeyDiagnosticsMode,
+        this.workerProcessPools,
+        this.concurrencyLimit,
+        this.classLoaderCache,
+        this.processExecutor);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractExecutionContext#getTargetDeviceOptions() targetDeviceOptions} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for targetDeviceOptions
+   * @return A modified copy of {@code this} object
+   */
+  public final ExecutionContext withTargetDeviceOptions(Optional<TargetDeviceOptions> optional) {
+    @Nullable TargetDeviceOptions value = optional.orElse(null);
+    if (this.targetDeviceOptions == value) return this;
+    return new ExecutionContext(
+        this.console,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.executors,
+        this.targetDevice,
+        value,
+        this.adbOptions,
+        this.persistentWorkerPools,
+        this.cellPathResolver,
+        this.androidPlatformTargetSupplier,
+        this.defaultTestTimeoutMillis,
+        this.codeCoverageEnabled,
+        this.inclNoLocationClassesEnabled,
+        this.shouldReportAbsolutePaths,
+        this.debugEnabled,
+        this.ruleKeyDiagnosticsMode,
+        this.workerProcessPools,
+        this.concurrencyLimit,
+        this.classLoaderCache,
+        this.processExecutor);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractExecutionContext#getAdbOptions() adbOptions} attribute.
+   * @param value The value for adbOptions
+   * @return A modified copy of {@code this} object
+   */
+  public final ExecutionContext withAdbOptions(AdbOptions value) {
+    @Nullable AdbOptions newValue = Preconditions.checkNotNull(value, "adbOptions");
+    if (this.adbOptions == newValue) return this;
+    return new ExecutionContext(
+        this.console,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.executors,
+        this.targetDevice,
+        this.targetDeviceOptions,
+        newValue,
+        this.persistentWorkerPools,
+        this.cellPathResolver,
+        this.androidPlatformTargetSupplier,
+        this.defaultTestTimeoutMillis,
+        this.codeCoverageEnabled,
+        this.inclNoLocationClassesEnabled,
+        this.shouldReportAbsolutePaths,
+        this.debugEnabled,
+        this.ruleKeyDiagnosticsMode,
+        this.workerProcessPools,
+        this.concurrencyLimit,
+        this.classLoaderCache,
+        this.processExecutor);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractExecutionContext#getAdbOptions() adbOptions} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for adbOptions
+   * @return A modified copy of {@code this} object
+   */
+  public final ExecutionContext withAdbOptions(Optional<AdbOptions> optional) {
+    @Nullable AdbOptions value = optional.orElse(null);
+    if (this.adbOptions == value) return this;
+    return new ExecutionContext(
+        this.console,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.executors,
+        this.targetDevice,
+        this.targetDeviceOptions,
+        value,
+        this.persistentWorkerPools,
+        this.cellPathResolver,
+        this.androidPlatformTargetSupplier,
+        this.defaultTestTimeoutMillis,
+        this.codeCoverageEnabled,
+        this.inclNoLocationClassesEnabled,
+        this.shouldReportAbsolutePaths,
+        this.debugEnabled,
+        this.ruleKeyDiagnosticsMode,
+        this.workerProcessPools,
+        this.concurrencyLimit,
+        this.classLoaderCache,
+        this.processExecutor);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractExecutionContext#getPersistentWorkerPools() persistentWorkerPools} attribute.
+   * @param value The value for persistentWorkerPools
+   * @return A modified copy of {@code this} object
+   */
+  public final ExecutionContext withPersistentWorkerPools(ConcurrentMap<String, WorkerProcessPool> value) {
+    @Nullable ConcurrentMap<String, WorkerProcessPool> newValue = Preconditions.checkNotNull(value, "persistentWorkerPools");
+    if (this.persistentWorkerPools == newValue) return this;
+    return new ExecutionContext(
+        this.console,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.executors,
+        this.targetDevice,
+        this.targetDeviceOptions,
+        this.adbOptions,
+        newValue,
+        this.cellPathResolver,
+        this.androidPlatformTargetSupplier,
+        this.defaultTestTimeoutMillis,
+        this.codeCoverageEnabled,
+        this.inclNoLocationClassesEnabled,
+        this.shouldReportAbsolutePaths,
+        this.debugEnabled,
+        this.ruleKeyDiagnosticsMode,
+        this.workerProcessPools,
+        this.concurrencyLimit,
+        this.classLoaderCache,
+        this.processExecutor);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractExecutionContext#getPersistentWorkerPools() persistentWorkerPools} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for persistentWorkerPools
+   * @return A modified copy of {@code this} object
+   */
+  public final ExecutionContext withPersistentWorkerPools(Optional<ConcurrentMap<String, WorkerProcessPool>> optional) {
+    @Nullable ConcurrentMap<String, WorkerProcessPool> value = optional.orElse(null);
+    if (this.persistentWorkerPools == value) return this;
+    return new ExecutionContext(
+        this.console,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.executors,
+        this.targetDevice,
+        this.targetDeviceOptions,
+        this.adbOptions,
+        value,
+        this.cellPathResolver,
+        this.androidPlatformTargetSupplier,
+        this.defaultTestTimeoutMillis,
+        this.codeCoverageEnabled,
+        this.inclNoLocationClassesEnabled,
+        this.shouldReportAbsolutePaths,
+        this.debugEnabled,
+        this.ruleKeyDiagnosticsMode,
+        this.workerProcessPools,
+        this.concurrencyLimit,
+        this.classLoaderCache,
+        this.processExecutor);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractExecutionContext#getCellPathResolver() cellPathResolver} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for cellPathResolver
+   * @return A modified copy of the {@code this} object
+   */
+  public final ExecutionContext withCellPathResolver(CellPathResolver value) {
+    if (this.cellPathResolver == value) return this;
+    CellPathResolver newValue = Preconditions.checkNotNull(value, "cellPathResolver");
+    return new ExecutionContext(
+        this.console,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.executors,
+        this.targetDevice,
+        this.targetDeviceOptions,
+        this.adbOptions,
+        this.persistentWorkerPools,
+        newValue,
+        this.androidPlatformTargetSupplier,
+        this.defaultTestTimeoutMillis,
+        this.codeCoverageEnabled,
+        this.inclNoLocationClassesEnabled,
+        this.shouldReportAbsolutePaths,
+        this.debugEnabled,
+        this.ruleKeyDiagnosticsMode,
+        this.workerProcessPools,
+        this.concurrencyLimit,
+        this.classLoaderCache,
+        this.processExecutor);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractExecutionContext#getAndroidPlatformTargetSupplier() androidPlatformTargetSupplier} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for androidPlatformTargetSupplier
+   * @return A modified copy of the {@code this} object
+   */
+  public final ExecutionContext withAndroidPlatformTargetSupplier(Supplier<AndroidPlatformTarget> value) {
+    if (this.androidPlatformTargetSupplier == value) return this;
+    Supplier<AndroidPlatformTarget> newValue = Preconditions.checkNotNull(value, "androidPlatformTargetSupplier");
+    return new ExecutionContext(
+        this.console,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.executors,
+        this.targetDevice,
+        this.targetDeviceOptions,
+        this.adbOptions,
+        this.persistentWorkerPools,
+        this.cellPathResolver,
+        newValue,
+        this.defaultTestTimeoutMillis,
+        this.codeCoverageEnabled,
+        this.inclNoLocationClassesEnabled,
+        this.shouldReportAbsolutePaths,
+        this.debugEnabled,
+        this.ruleKeyDiagnosticsMode,
+        this.workerProcessPools,
+        this.concurrencyLimit,
+        this.classLoaderCache,
+        this.processExecutor);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractExecutionContext#getDefaultTestTimeoutMillis() defaultTestTimeoutMillis} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for defaultTestTimeoutMillis
+   * @return A modified copy of the {@code this} object
+   */
+  public final ExecutionContext withDefaultTestTimeoutMillis(long value) {
+    if (this.defaultTestTimeoutMillis == value) return this;
+    return new ExecutionContext(
+        this.console,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.executors,
+        this.targetDevice,
+        this.targetDeviceOptions,
+        this.adbOptions,
+        this.persistentWorkerPools,
+        this.cellPathResolver,
+        this.androidPlatformTargetSupplier,
+        value,
+        this.codeCoverageEnabled,
+        this.inclNoLocationClassesEnabled,
+        this.shouldReportAbsolutePaths,
+        this.debugEnabled,
+        this.ruleKeyDiagnosticsMode,
+        this.workerProcessPools,
+        this.concurrencyLimit,
+        this.classLoaderCache,
+        this.processExecutor);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractExecutionContext#isCodeCoverageEnabled() codeCoverageEnabled} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for codeCoverageEnabled
+   * @return A modified copy of the {@code this} object
+   */
+  public final ExecutionContext withCodeCoverageEnabled(boolean value) {
+    if (this.codeCoverageEnabled == value) return this;
+    return new ExecutionContext(
+        this.console,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.executors,
+        this.targetDevice,
+        this.targetDeviceOptions,
+        this.adbOptions,
+        this.persistentWorkerPools,
+        this.cellPathResolver,
+        this.androidPlatformTargetSupplier,
+        this.defaultTestTimeoutMillis,
+        value,
+        this.inclNoLocationClassesEnabled,
+        this.shouldReportAbsolutePaths,
+        this.debugEnabled,
+        this.ruleKeyDiagnosticsMode,
+        this.workerProcessPools,
+        this.concurrencyLimit,
+        this.classLoaderCache,
+        this.processExecutor);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractExecutionContext#isInclNoLocationClassesEnabled() inclNoLocationClassesEnabled} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for inclNoLocationClassesEnabled
+   * @return A modified copy of the {@code this} object
+   */
+  public final ExecutionContext withInclNoLocationClassesEnabled(boolean value) {
+    if (this.inclNoLocationClassesEnabled == value) return this;
+    return new ExecutionContext(
+        this.console,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.executors,
+        this.targetDevice,
+        this.targetDeviceOptions,
+        this.adbOptions,
+        this.persistentWorkerPools,
+        this.cellPathResolver,
+        this.androidPlatformTargetSupplier,
+        this.defaultTestTimeoutMillis,
+        this.codeCoverageEnabled,
+        value,
+        this.shouldReportAbsolutePaths,
+        this.debugEnabled,
+        this.ruleKeyDiagnosticsMode,
+        this.workerProcessPools,
+        this.concurrencyLimit,
+        this.classLoaderCache,
+        this.processExecutor);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractExecutionContext#shouldReportAbsolutePaths() shouldReportAbsolutePaths} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for shouldReportAbsolutePaths
+   * @return A modified copy of the {@code this} object
+   */
+  public final ExecutionContext withShouldReportAbsolutePaths(boolean value) {
+    if (this.shouldReportAbsolutePaths == value) return this;
+    return new ExecutionContext(
+        this.console,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.executors,
+        this.targetDevice,
+        this.targetDeviceOptions,
+        this.adbOptions,
+        this.persistentWorkerPools,
+        this.cellPathResolver,
+        this.androidPlatformTargetSupplier,
+        this.defaultTestTimeoutMillis,
+        this.codeCoverageEnabled,
+        this.inclNoLocationClassesEnabled,
+        value,
+        this.debugEnabled,
+        this.ruleKeyDiagnosticsMode,
+        this.workerProcessPools,
+        this.concurrencyLimit,
+        this.classLoaderCache,
+        this.processExecutor);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractExecutionContext#isDebugEnabled() debugEnabled} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for debugEnabled
+   * @return A modified copy of the {@code this} object
+   */
+  public final ExecutionContext withDebugEnabled(boolean value) {
+    if (this.debugEnabled == value) return this;
+    return new ExecutionContext(
+        this.console,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.executors,
+        this.targetDevice,
+        this.targetDeviceOptions,
+        this.adbOptions,
+        this.persistentWorkerPools,
+        this.cellPathResolver,
+        this.androidPlatformTargetSupplier,
+        this.defaultTestTimeoutMillis,
+        this.codeCoverageEnabled,
+        this.inclNoLocationClassesEnabled,
+        this.shouldReportAbsolutePaths,
+        value,
+        this.ruleKeyDiagnosticsMode,
+        this.workerProcessPools,
+        this.concurrencyLimit,
+        this.classLoaderCache,
+        this.processExecutor);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractExecutionContext#getRuleKeyDiagnosticsMode() ruleKeyDiagnosticsMode} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for ruleKeyDiagnosticsMode
+   * @return A modified copy of the {@code this} object
+   */
+  public final ExecutionContext withRuleKeyDiagnosticsMode(RuleKeyDiagnosticsMode value) {
+    if (this.ruleKeyDiagnosticsMode == value) return this;
+    RuleKeyDiagnosticsMode newValue = Preconditions.checkNotNull(value, "ruleKeyDiagnosticsMode");
+    return new ExecutionContext(
+        this.console,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.executors,
+        this.targetDevice,
+        this.targetDeviceOptions,
+        this.adbOptions,
+        this.persistentWorkerPools,
+        this.cellPathResolver,
+        this.androidPlatformTargetSupplier,
+        this.defaultTestTimeoutMillis,
+        this.codeCoverageEnabled,
+        this.inclNoLocationClassesEnabled,
+        this.shouldReportAbsolutePaths,
+        this.debugEnabled,
+        newValue,
+        this.workerProcessPools,
+        this.concurrencyLimit,
+        this.classLoaderCache,
+        this.processExecutor);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractExecutionContext#getWorkerProcessPools() workerProcessPools} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for workerProcessPools
+   * @return A modified copy of the {@code this} object
+   */
+  public final ExecutionContext withWorkerProcessPools(ConcurrentMap<String, WorkerProcessPool> value) {
+    if (this.workerProcessPools == value) return this;
+    ConcurrentMap<String, WorkerProcessPool> newValue = Preconditions.checkNotNull(value, "workerProcessPools");
+    return new ExecutionContext(
+        this.console,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.executors,
+        this.targetDevice,
+        this.targetDeviceOptions,
+        this.adbOptions,
+        this.persistentWorkerPools,
+        this.cellPathResolver,
+        this.androidPlatformTargetSupplier,
+        this.defaultTestTimeoutMillis,
+        this.codeCoverageEnabled,
+        this.inclNoLocationClassesEnabled,
+        this.shouldReportAbsolutePaths,
+        this.debugEnabled,
+        this.ruleKeyDiagnosticsMode,
+        newValue,
+        this.concurrencyLimit,
+        this.classLoaderCache,
+        this.processExecutor);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractExecutionContext#getConcurrencyLimit() concurrencyLimit} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for concurrencyLimit
+   * @return A modified copy of the {@code this} object
+   */
+  public final ExecutionContext withConcurrencyLimit(ConcurrencyLimit value) {
+    if (this.concurrencyLimit == value) return this;
+    ConcurrencyLimit newValue = Preconditions.checkNotNull(value, "concurrencyLimit");
+    return new ExecutionContext(
+        this.console,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.executors,
+        this.targetDevice,
+        this.targetDeviceOptions,
+        this.adbOptions,
+        this.persistentWorkerPools,
+        this.cellPathResolver,
+        this.androidPlatformTargetSupplier,
+        this.defaultTestTimeoutMillis,
+        this.codeCoverageEnabled,
+        this.inclNoLocationClassesEnabled,
+        this.shouldReportAbsolutePaths,
+        this.debugEnabled,
+        this.ruleKeyDiagnosticsMode,
+        this.workerProcessPools,
+        newValue,
+        this.classLoaderCache,
+        this.processExecutor);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractExecutionContext#getClassLoaderCache() classLoaderCache} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for classLoaderCache
+   * @return A modified copy of the {@code this} object
+   */
+  public final ExecutionContext withClassLoaderCache(ClassLoaderCache value) {
+    if (this.classLoaderCache == value) return this;
+    ClassLoaderCache newValue = Preconditions.checkNotNull(value, "classLoaderCache");
+    return new ExecutionContext(
+        this.console,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.executors,
+        this.targetDevice,
+        this.targetDeviceOptions,
+        this.adbOptions,
+        this.persistentWorkerPools,
+        this.cellPathResolver,
+        this.androidPlatformTargetSupplier,
+        this.defaultTestTimeoutMillis,
+        this.codeCoverageEnabled,
+        this.inclNoLocationClassesEnabled,
+        this.shouldReportAbsolutePaths,
+        this.debugEnabled,
+        this.ruleKeyDiagnosticsMode,
+        this.workerProcessPools,
+        this.concurrencyLimit,
+        newValue,
+        this.processExecutor);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractExecutionContext#getProcessExecutor() processExecutor} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for processExecutor
+   * @return A modified copy of the {@code this} object
+   */
+  public final ExecutionContext withProcessExecutor(ProcessExecutor value) {
+    if (this.processExecutor == value) return this;
+    ProcessExecutor newValue = Preconditions.checkNotNull(value, "processExecutor");
+    return new ExecutionContext(
+        this.console,
+        this.buckEventBus,
+        this.platform,
+        this.environment,
+        this.javaPackageFinder,
+        this.executors,
+        this.targetDevice,
+        this.targetDeviceOptions,
+        this.adbOptions,
+        this.persistentWorkerPools,
+        this.cellPathResolver,
+        this.androidPlatformTargetSupplier,
+        this.defaultTestTimeoutMillis,
+        this.codeCoverageEnabled,
+        this.inclNoLocationClassesEnabled,
+        this.shouldReportAbsolutePaths,
+        this.debugEnabled,
+        this.ruleKeyDiagnosticsMode,
+        this.workerProcessPools,
+        this.concurrencyLimit,
+        this.classLoaderCache,
+        newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ExecutionContext} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ExecutionContext
+        && equalTo((ExecutionContext) another);
+  }
+
+  private boolean equalTo(ExecutionContext another) {
+    return console.equals(another.console)
+        && buckEventBus.equals(another.buckEventBus)
+        && platform.equals(another.platform)
+        && environment.equals(another.environment)
+        && javaPackageFinder.equals(another.javaPackageFinder)
+        && executors.equals(another.executors)
+        && Objects.equal(targetDevice, another.targetDevice)
+        && Objects.equal(targetDeviceOptions, another.targetDeviceOptions)
+        && Objects.equal(adbOptions, another.adbOptions)
+        && Objects.equal(persistentWorkerPools, another.persistentWorkerPools)
+        && cellPathResolver.equals(another.cellPathResolver)
+        && androidPlatformTargetSupplier.equals(another.androidPlatformTargetSupplier)
+        && defaultTestTimeoutMillis == another.defaultTestTimeoutMillis
+        && codeCoverageEnabled == another.codeCoverageEnabled
+        && inclNoLocationClassesEnabled == another.inclNoLocationClassesEnabled
+        && shouldReportAbsolutePaths == another.shouldReportAbsolutePaths
+        && debugEnabled == another.debugEnabled
+        && ruleKeyDiagnosticsMode.equals(another.ruleKeyDiagnosticsMode)
+        && workerProcessPools.equals(another.workerProcessPools)
+        && concurrencyLimit.equals(another.concurrencyLimit)
+        && classLoaderCache.equals(another.classLoaderCache)
+        && processExecutor.equals(another.processExecutor)
+        && verbosity.equals(another.verbosity)
+        && stdErr.equals(another.stdErr)
+        && stdOut.equals(another.stdOut)
+        && buildId.equals(another.buildId)
+        && ansi.equals(another.ansi);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code console}, {@code buckEventBus}, {@code platform}, {@code environment}, {@code javaPackageFinder}, {@code executors}, {@code targetDevice}, {@code targetDeviceOptions}, {@code adbOptions}, {@code persistentWorkerPools}, {@code cellPathResolver}, {@code androidPlatformTargetSupplier}, {@code defaultTestTimeoutMillis}, {@code codeCoverageEnabled}, {@code inclNoLocationClassesEnabled}, {@code shouldReportAbsolutePaths}, {@code debugEnabled}, {@code ruleKeyDiagnosticsMode}, {@code workerProcessPools}, {@code concurrencyLimit}, {@code classLoaderCache}, {@code processExecutor}, {@code verbosity}, {@code stdErr}, {@code stdOut}, {@code buildId}, {@code ansi}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + console.hashCode();
+    h = h * 17 + buckEventBus.hashCode();
+    h = h * 17 + platform.hashCode();
+    h = h * 17 + environment.hashCode();
+    h = h * 17 + javaPackageFinder.hashCode();
+    h = h * 17 + executors.hashCode();
+    h = h * 17 + Objects.hashCode(targetDevice);
+    h = h * 17 + Objects.hashCode(targetDeviceOptions);
+    h = h * 17 + Objects.hashCode(adbOptions);
+    h = h * 17 + Objects.hashCode(persistentWorkerPools);
+    h = h * 17 + cellPathResolver.hashCode();
+    h = h * 17 + androidPlatformTargetSupplier.hashCode();
+    h = h * 17 + Longs.hashCode(defaultTestTimeoutMillis);
+    h = h * 17 + Booleans.hashCode(codeCoverageEnabled);
+    h = h * 17 + Booleans.hashCode(inclNoLocationClassesEnabled);
+    h = h * 17 + Booleans.hashCode(shouldReportAbsolutePaths);
+    h = h * 17 + Booleans.hashCode(debugEnabled);
+    h = h * 17 + ruleKeyDiagnosticsMode.hashCode();
+    h = h * 17 + workerProcessPools.hashCode();
+    h = h * 17 + concurrencyLimit.hashCode();
+    h = h * 17 + classLoaderCache.hashCode();
+    h = h * 17 + processExecutor.hashCode();
+    h = h * 17 + verbosity.hashCode();
+    h = h * 17 + stdErr.hashCode();
+    h = h * 17 + stdOut.hashCode();
+    h = h * 17 + buildId.hashCode();
+    h = h * 17 + ansi.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ExecutionContext} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ExecutionContext")
+        .omitNullValues()
+        .add("console", console)
+        .add("buckEventBus", buckEventBus)
+        .add("platform", platform)
+        .add("environment", environment)
+        .add("javaPackageFinder", javaPackageFinder)
+        .add("executors", executors)
+        .add("targetDevice", targetDevice)
+        .add("targetDeviceOptions", targetDeviceOptions)
+        .add("adbOptions", adbOptions)
+        .add("persistentWorkerPools", persistentWorkerPools)
+        .add("cellPathResolver", cellPathResolver)
+        .add("androidPlatformTargetSupplier", androidPlatformTargetSupplier)
+        .add("defaultTestTimeoutMillis", defaultTestTimeoutMillis)
+        .add("codeCoverageEnabled", codeCoverageEnabled)
+        .add("inclNoLocationClassesEnabled", inclNoLocationClassesEnabled)
+        .add("shouldReportAbsolutePaths", shouldReportAbsolutePaths)
+        .add("debugEnabled", debugEnabled)
+        .add("ruleKeyDiagnosticsMode", ruleKeyDiagnosticsMode)
+        .add("workerProcessPools", workerProcessPools)
+        .add("concurrencyLimit", concurrencyLimit)
+        .add("classLoaderCache", classLoaderCache)
+        .add("processExecutor", processExecutor)
+        .add("verbosity", verbosity)
+        .add("stdErr", stdErr)
+        .add("stdOut", stdOut)
+        .add("buildId", buildId)
+        .add("ansi", ansi)
+        .toString();
+  }
+
+  private volatile long lazyInitBitmap;
+
+  private static final long ANDROID_PLATFORM_TARGET_LAZY_INIT_BIT = 0x1L;
+
+  private AndroidPlatformTarget androidPlatformTarget;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractExecutionContext#getAndroidPlatformTarget() androidPlatformTarget} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public AndroidPlatformTarget getAndroidPlatformTarget() {
+    if ((lazyInitBitmap & ANDROID_PLATFORM_TARGET_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & ANDROID_PLATFORM_TARGET_LAZY_INIT_BIT) == 0) {
+          this.androidPlatformTarget = Preconditions.checkNotNull(super.getAndroidPlatformTarget(), "androidPlatformTarget");
+          lazyInitBitmap |= ANDROID_PLATFORM_TARGET_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return androidPlatformTarget;
+  }
+
+  /**
+   * Construct a new immutable {@code ExecutionContext} instance.
+   * @param console The value for the {@code console} attribute
+   * @param buckEventBus The value for the {@code buckEventBus} attribute
+   * @param platform The value for the {@code platform} attribute
+   * @param environment The value for the {@code environment} attribute
+   * @param javaPackageFinder The value for the {@code javaPackageFinder} attribute
+   * @param executors The value for the {@code executors} attribute
+   * @param targetDevice The value for the {@code targetDevice} attribute
+   * @param targetDeviceOptions The value for the {@code targetDeviceOptions} attribute
+   * @param adbOptions The value for the {@code adbOptions} attribute
+   * @param persistentWorkerPools The value for the {@code persistentWorkerPools} attribute
+   * @param cellPathResolver The value for the {@code cellPathResolver} attribute
+   * @return An immutable ExecutionContext instance
+   */
+  public static ExecutionContext of(Console console, BuckEventBus buckEventBus, Platform platform, Map<String, ? extends String> environment, JavaPackageFinder javaPackageFinder, Map<ExecutorPool, ? extends ListeningExecutorService> executors, Optional<TargetDevice> targetDevice, Optional<TargetDeviceOptions> targetDeviceOptions, Optional<AdbOptions> adbOptions, Optional<ConcurrentMap<String, WorkerProcessPool>> persistentWorkerPools, CellPathResolver cellPathResolver) {
+    return new ExecutionContext(console, buckEventBus, platform, environment, javaPackageFinder, executors, targetDevice, targetDeviceOptions, adbOptions, persistentWorkerPools, cellPathResolver);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractExecutionContext} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable ExecutionContext instance
+   */
+  static ExecutionContext copyOf(AbstractExecutionContext instance) {
+    if (instance instanceof ExecutionContext) {
+      return (ExecutionContext) instance;
+    }
+    return ExecutionContext.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link ExecutionContext ExecutionContext}.
+   * @return A new ExecutionContext builder
+   */
+  public static ExecutionContext.Builder builder() {
+    return new ExecutionContext.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link ExecutionContext ExecutionContext}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_CONSOLE = 0x1L;
+    private static final long INIT_BIT_BUCK_EVENT_BUS = 0x2L;
+    private static final long INIT_BIT_PLATFORM = 0x4L;
+    private static final long INIT_BIT_JAVA_PACKAGE_FINDER = 0x8L;
+    private static final long INIT_BIT_CELL_PATH_RESOLVER = 0x10L;
+    private static final long OPT_BIT_DEFAULT_TEST_TIMEOUT_MILLIS = 0x1L;
+    private static final long OPT_BIT_CODE_COVERAGE_ENABLED = 0x2L;
+    private static final long OPT_BIT_INCL_NO_LOCATION_CLASSES_ENABLED = 0x4L;
+    private static final long OPT_BIT_SHOULD_REPORT_ABSOLUTE_PATHS = 0x8L;
+    private static final long OPT_BIT_DEBUG_ENABLED = 0x10L;
+    private long initBits = 0x1fL;
+    private long optBits;
+
+    private @Nullable Console console;
+    private @Nullable BuckEventBus buckEventBus;
+    private @Nullable Platform platform;
+    private ImmutableMap.Builder<String, String> environment = ImmutableMap.builder();
+    private @Nullable JavaPackageFinder javaPackageFinder;
+    private ImmutableMap.Builder<ExecutorPool, ListeningExecutorService> executors = ImmutableMap.builder();
+    private @Nullable TargetDevice targetDevice;
+    private @Nullable TargetDeviceOptions targetDeviceOptions;
+    private @Nullable AdbOptions adbOptions;
+    private @Nullable ConcurrentMap<String, WorkerProcessPool> persistentWorkerPools;
+    private @Nullable CellPathResolver cellPathResolver;
+    private @Nullable Supplier<AndroidPlatformTarget> androidPlatformTargetSupplier;
+    private long defaultTestTimeoutMillis;
+    private boolean codeCoverageEnabled;
+    private boolean inclNoLocationClassesEnabled;
+    private boolean shouldReportAbsolutePaths;
+    private boolean debugEnabled;
+    private @Nullable RuleKeyDiagnosticsMode ruleKeyDiagnosticsMode;
+    private @Nullable ConcurrentMap<String, WorkerProcessPool> workerProcessPools;
+    private @Nullable ConcurrencyLimit concurrencyLimit;
+    private @Nullable ClassLoaderCache classLoaderCache;
+    private @Nullable ProcessExecutor processExecutor;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code ExecutionContext} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(ExecutionContext instance) {
+      return from((AbstractExecutionContext) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractExecutionContext} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractExecutionContext instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      setConsole(instance.getConsole());
+      setBuckEventBus(instance.getBuckEventBus());
+      setPlatform(instance.getPlatform());
+      putAllEnvironment(instance.getEnvironment());
+      setJavaPackageFinder(instance.getJavaPackageFinder());
+      putAllExecutors(instance.getExecutors());
+      Optional<TargetDevice> targetDeviceOptional = instance.getTargetDevice();
+      if (targetDeviceOptional.isPresent()) {
+        setTargetDevice(targetDeviceOptional);
+      }
+      Optional<TargetDeviceOptions> targetDeviceOptionsOptional = instance.getTargetDeviceOptions();
+      if (targetDeviceOptionsOptional.isPresent()) {
+        setTargetDeviceOptions(targetDeviceOptionsOptional);
+      }
+      Optional<AdbOptions> adbOptionsOptional = instance.getAdbOptions();
+      if (adbOptionsOptional.isPresent()) {
+        setAdbOptions(adbOptionsOptional);
+      }
+      Optional<ConcurrentMap<String, WorkerProcessPool>> persistentWorkerPoolsOptional = instance.getPersistentWorkerPools();
+      if (persistentWorkerPoolsOptional.isPresent()) {
+        setPersistentWorkerPools(persistentWorkerPoolsOptional);
+      }
+      setCellPathResolver(instance.getCellPathResolver());
+      setAndroidPlatformTargetSupplier(instance.getAndroidPlatformTargetSupplier());
+      setDefaultTestTimeoutMillis(instance.getDefaultTestTimeoutMillis());
+      setCodeCoverageEnabled(instance.isCodeCoverageEnabled());
+      setInclNoLocationClassesEnabled(instance.isInclNoLocationClassesEnabled());
+      setShouldReportAbsolutePaths(instance.shouldReportAbsolutePaths());
+      setDebugEnabled(instance.isDebugEnabled());
+      setRuleKeyDiagnosticsMode(instance.getRuleKeyDiagnosticsMode());
+      setWorkerProcessPools(instance.getWorkerProcessPools());
+      setConcurrencyLimit(instance.getConcurrencyLimit());
+      setClassLoaderCache(instance.getClassLoaderCache());
+      setProcessExecutor(instance.getProcessExecutor());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractExecutionContext#getConsole() console} attribute.
+     * @param console The value for console 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setConsole(Console console) {
+      this.console = Preconditions.checkNotNull(console, "console");
+      initBits &= ~INIT_BIT_CONSOLE;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractExecutionContext#getBuckEventBus() buckEventBus} attribute.
+     * @param buckEventBus The value for buckEventBus 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBuckEventBus(BuckEventBus buckEventBus) {
+      this.buckEventBus = Preconditions.checkNotNull(buckEventBus, "buckEventBus");
+      initBits &= ~INIT_BIT_BUCK_EVENT_BUS;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractExecutionContext#getPlatform() platform} attribute.
+     * @param platform The value for platform 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPlatform(Platform platform) {
+      this.platform = Preconditions.checkNotNull(platform, "platform");
+      initBits &= ~INIT_BIT_PLATFORM;
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractExecutionContext#getEnvironment() environment} map.
+     * @param key The key in the environment map
+     * @param value The associated value in the environment map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putEnvironment(String key, String value) {
+      this.environment.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractExecutionContext#getEnvironment() environment} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putEnvironment(Map.Entry<String, ? extends String> entry) {
+      this.environment.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AbstractExecutionContext#getEnvironment() environment} map. Nulls are not permitted
+     * @param environment The entries that will be added to the environment map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setEnvironment(Map<String, ? extends String> environment) {
+      this.environment = ImmutableMap.builder();
+      return putAllEnvironment(environment);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AbstractExecutionContext#getEnvironment() environment} map. Nulls are not permitted
+     * @param environment The entries that will be added to the environment map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllEnvironment(Map<String, ? extends String> environment) {
+      this.environment.putAll(environment);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractExecutionContext#getJavaPackageFinder() javaPackageFinder} attribute.
+     * @param javaPackageFinder The value for javaPackageFinder 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setJavaPackageFinder(JavaPackageFinder javaPackageFinder) {
+      this.javaPackageFinder = Preconditions.checkNotNull(javaPackageFinder, "javaPackageFinder");
+      initBits &= ~INIT_BIT_JAVA_PACKAGE_FINDER;
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractExecutionContext#getExecutors() executors} map.
+     * @param key The key in the executors map
+     * @param value The associated value in the executors map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putExecutors(ExecutorPool key, ListeningExecutorService value) {
+      this.executors.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractExecutionContext#getExecutors() executors} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putExecutors(Map.Entry<ExecutorPool, ? extends ListeningExecutorService> entry) {
+      this.executors.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AbstractExecutionContext#getExecutors() executors} map. Nulls are not permitted
+     * @param executors The entries that will be added to the executors map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setExecutors(Map<ExecutorPool, ? extends ListeningExecutorService> executors) {
+      this.executors = ImmutableMap.builder();
+      return putAllExecutors(executors);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AbstractExecutionContext#getExecutors() executors} map. Nulls are not permitted
+     * @param executors The entries that will be added to the executors map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllExecutors(Map<ExecutorPool, ? extends ListeningExecutorService> executors) {
+      this.executors.putAll(executors);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractExecutionContext#getTargetDevice() targetDevice} to targetDevice.
+     * @param targetDevice The value for targetDevice
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setTargetDevice(TargetDevice targetDevice) {
+      this.targetDevice = Preconditions.checkNotNull(targetDevice, "targetDevice");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractExecutionContext#getTargetDevice() targetDevice} to targetDevice.
+     * @param targetDevice The value for targetDevice
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setTargetDevice(Optional<TargetDevice> targetDevice) {
+      this.targetDevice = targetDevice.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractExecutionContext#getTargetDeviceOptions() targetDeviceOptions} to targetDeviceOptions.
+     * @param targetDeviceOptions The value for targetDeviceOptions
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setTargetDeviceOptions(TargetDeviceOptions targetDeviceOptions) {
+      this.targetDeviceOptions = Preconditions.checkNotNull(targetDeviceOptions, "targetDeviceOptions");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractExecutionContext#getTargetDeviceOptions() targetDeviceOptions} to targetDeviceOptions.
+     * @param targetDeviceOptions The value for targetDeviceOptions
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setTargetDeviceOptions(Optional<TargetDeviceOptions> targetDeviceOptions) {
+      this.targetDeviceOptions = targetDeviceOptions.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractExecutionContext#getAdbOptions() adbOptions} to adbOptions.
+     * @param adbOptions The value for adbOptions
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setAdbOptions(AdbOptions adbOptions) {
+      this.adbOptions = Preconditions.checkNotNull(adbOptions, "adbOptions");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractExecutionContext#getAdbOptions() adbOptions} to adbOptions.
+     * @param adbOptions The value for adbOptions
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setAdbOptions(Optional<AdbOptions> adbOptions) {
+      this.adbOptions = adbOptions.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractExecutionContext#getPersistentWorkerPools() persistentWorkerPools} to persistentWorkerPools.
+     * @param persistentWorkerPools The value for persistentWorkerPools
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPersistentWorkerPools(ConcurrentMap<String, WorkerProcessPool> persistentWorkerPools) {
+      this.persistentWorkerPools = Preconditions.checkNotNull(persistentWorkerPools, "persistentWorkerPools");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractExecutionContext#getPersistentWorkerPools() persistentWorkerPools} to persistentWorkerPools.
+     * @param persistentWorkerPools The value for persistentWorkerPools
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPersistentWorkerPools(Optional<ConcurrentMap<String, WorkerProcessPool>> persistentWorkerPools) {
+      this.persistentWorkerPools = persistentWorkerPools.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractExecutionContext#getCellPathResolver() cellPathResolver} attribute.
+     * @param cellPathResolver The value for cellPathResolver 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCellPathResolver(CellPathResolver cellPathResolver) {
+      this.cellPathResolver = Preconditions.checkNotNull(cellPathResolver, "cellPathResolver");
+      initBits &= ~INIT_BIT_CELL_PATH_RESOLVER;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractExecutionContext#getAndroidPlatformTargetSupplier() androidPlatformTargetSupplier} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractExecutionContext#getAndroidPlatformTargetSupplier() androidPlatformTargetSupplier}.</em>
+     * @param androidPlatformTargetSupplier The value for androidPlatformTargetSupplier 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setAndroidPlatformTargetSupplier(Supplier<AndroidPlatformTarget> androidPlatformTargetSupplier) {
+      this.androidPlatformTargetSupplier = Preconditions.checkNotNull(androidPlatformTargetSupplier, "androidPlatformTargetSupplier");
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractExecutionContext#getDefaultTestTimeoutMillis() defaultTestTimeoutMillis} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractExecutionContext#getDefaultTestTimeoutMillis() defaultTestTimeoutMillis}.</em>
+     * @param defaultTestTimeoutMillis The value for defaultTestTimeoutMillis 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDefaultTestTimeoutMillis(long defaultTestTimeoutMillis) {
+      this.defaultTestTimeoutMillis = defaultTestTimeoutMillis;
+      optBits |= OPT_BIT_DEFAULT_TEST_TIMEOUT_MILLIS;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractExecutionContext#isCodeCoverageEnabled() codeCoverageEnabled} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractExecutionContext#isCodeCoverageEnabled() codeCoverageEnabled}.</em>
+     * @param codeCoverageEnabled The value for codeCoverageEnabled 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCodeCoverageEnabled(boolean codeCoverageEnabled) {
+      this.codeCoverageEnabled = codeCoverageEnabled;
+      optBits |= OPT_BIT_CODE_COVERAGE_ENABLED;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractExecutionContext#isInclNoLocationClassesEnabled() inclNoLocationClassesEnabled} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractExecutionContext#isInclNoLocationClassesEnabled() inclNoLocationClassesEnabled}.</em>
+     * @param inclNoLocationClassesEnabled The value for inclNoLocationClassesEnabled 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setInclNoLocationClassesEnabled(boolean inclNoLocationClassesEnabled) {
+      this.inclNoLocationClassesEnabled = inclNoLocationClassesEnabled;
+      optBits |= OPT_BIT_INCL_NO_LOCATION_CLASSES_ENABLED;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractExecutionContext#shouldReportAbsolutePaths() shouldReportAbsolutePaths} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractExecutionContext#shouldReportAbsolutePaths() shouldReportAbsolutePaths}.</em>
+     * @param shouldReportAbsolutePaths The value for shouldReportAbsolutePaths 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setShouldReportAbsolutePaths(boolean shouldReportAbsolutePaths) {
+      this.shouldReportAbsolutePaths = shouldReportAbsolutePaths;
+      optBits |= OPT_BIT_SHOULD_REPORT_ABSOLUTE_PATHS;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractExecutionContext#isDebugEnabled() debugEnabled} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractExecutionContext#isDebugEnabled() debugEnabled}.</em>
+     * @param debugEnabled The value for debugEnabled 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDebugEnabled(boolean debugEnabled) {
+      this.debugEnabled = debugEnabled;
+      optBits |= OPT_BIT_DEBUG_ENABLED;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractExecutionContext#getRuleKeyDiagnosticsMode() ruleKeyDiagnosticsMode} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractExecutionContext#getRuleKeyDiagnosticsMode() ruleKeyDiagnosticsMode}.</em>
+     * @param ruleKeyDiagnosticsMode The value for ruleKeyDiagnosticsMode 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRuleKeyDiagnosticsMode(RuleKeyDiagnosticsMode ruleKeyDiagnosticsMode) {
+      this.ruleKeyDiagnosticsMode = Preconditions.checkNotNull(ruleKeyDiagnosticsMode, "ruleKeyDiagnosticsMode");
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractExecutionContext#getWorkerProcessPools() workerProcessPools} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractExecutionContext#getWorkerProcessPools() workerProcessPools}.</em>
+     * @param workerProcessPools The value for workerProcessPools 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setWorkerProcessPools(ConcurrentMap<String, WorkerProcessPool> workerProcessPools) {
+      this.workerProcessPools = Preconditions.checkNotNull(workerProcessPools, "workerProcessPools");
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractExecutionContext#getConcurrencyLimit() concurrencyLimit} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractExecutionContext#getConcurrencyLimit() concurrencyLimit}.</em>
+     * @param concurrencyLimit The value for concurrencyLimit 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setConcurrencyLimit(ConcurrencyLimit concurrencyLimit) {
+      this.concurrencyLimit = Preconditions.checkNotNull(concurrencyLimit, "concurrencyLimit");
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractExecutionContext#getClassLoaderCache() classLoaderCache} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractExecutionContext#getClassLoaderCache() classLoaderCache}.</em>
+     * @param classLoaderCache The value for classLoaderCache 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setClassLoaderCache(ClassLoaderCache classLoaderCache) {
+      this.classLoaderCache = Preconditions.checkNotNull(classLoaderCache, "classLoaderCache");
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractExecutionContext#getProcessExecutor() processExecutor} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractExecutionContext#getProcessExecutor() processExecutor}.</em>
+     * @param processExecutor The value for processExecutor 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setProcessExecutor(ProcessExecutor processExecutor) {
+      this.processExecutor = Preconditions.checkNotNull(processExecutor, "processExecutor");
+      return this;
+    }
+
+    /**
+     * Builds a new {@link ExecutionContext ExecutionContext}.
+     * @return An immutable instance of ExecutionContext
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ExecutionContext build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ExecutionContext(this);
+    }
+
+    private boolean defaultTestTimeoutMillisIsSet() {
+      return (optBits & OPT_BIT_DEFAULT_TEST_TIMEOUT_MILLIS) != 0;
+    }
+
+    private boolean codeCoverageEnabledIsSet() {
+      return (optBits & OPT_BIT_CODE_COVERAGE_ENABLED) != 0;
+    }
+
+    private boolean inclNoLocationClassesEnabledIsSet() {
+      return (optBits & OPT_BIT_INCL_NO_LOCATION_CLASSES_ENABLED) != 0;
+    }
+
+    private boolean shouldReportAbsolutePathsIsSet() {
+      return (optBits & OPT_BIT_SHOULD_REPORT_ABSOLUTE_PATHS) != 0;
+    }
+
+    private boolean debugEnabledIsSet() {
+      return (optBits & OPT_BIT_DEBUG_ENABLED) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_CONSOLE) != 0) attributes.add("console");
+      if ((initBits & INIT_BIT_BUCK_EVENT_BUS) != 0) attributes.add("buckEventBus");
+      if ((initBits & INIT_BIT_PLATFORM) != 0) attributes.add("platform");
+      if ((initBits & INIT_BIT_JAVA_PACKAGE_FINDER) != 0) attributes.add("javaPackageFinder");
+      if ((initBits & INIT_BIT_CELL_PATH_RESOLVER) != 0) attributes.add("cellPathResolver");
+      return "Cannot build ExecutionContext, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,114 @@
+package com.facebook.buck.util;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import java.nio.file.Path;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractWatchmanPathEvent}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code WatchmanPathEvent.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractWatchmanPathEvent"})
+@Immutable
+public final class WatchmanPathEvent extends AbstractWatchmanPathEvent {
+  private final Path cellPath;
+  private final AbstractWatchmanPathEvent.Kind kind;
+  private final Path path;
+
+  private WatchmanPathEvent(
+      Path cellPath,
+      AbstractWatchmanPathEvent.Kind kind,
+      Path path) {
+    this.cellPath = Preconditions.checkNotNull(cellPath, "cellPath");
+    this.kind = Preconditions.checkNotNull(kind, "kind");
+    this.path = Preconditions.checkNotNull(path, "path");
+  }
+
+  /**
+   * @return The value of the {@code cellPath} attribute
+   */
+  @Override
+  public Path getCellPath() {
+    return cellPath;
+  }
+
+  /**
+   * The kind of event that occurred.
+   */
+  @Override
+  public AbstractWatchmanPathEvent.Kind getKind() {
+    return kind;
+  }
+
+  /**
+   * Relative path of the actual file the event is about. The path is relative to the cell path
+   * returned by {@link #getCellPath()}.
+   */
+  @Override
+  public Path getPath() {
+    return path;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code WatchmanPathEvent} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof WatchmanPathEvent
+        && equalTo((WatchmanPathEvent) another);
+  }
+
+  private boolean equalTo(WatchmanPathEvent another) {
+    return cellPath.equals(another.cellPath)
+        && kind.equals(another.kind)
+        && path.equals(another.path);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code cellPath}, {@code kind}, {@code path}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + cellPath.hashCode();
+    h = h * 17 + kind.hashCode();
+    h = h * 17 + path.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code WatchmanPathEvent} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("WatchmanPathEvent")
+        .omitNullValues()
+        .add("cellPath", cellPath)
+        .add("kind", kind)
+        .add("path", path)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code WatchmanPathEvent} instance.
+   * @param cellPath The value for the {@code cellPath} attribute
+   * @param kind The value for the {@code kind} attribute
+   * @param path The value for the {@code path} attribute
+   * @return An immutable WatchmanPathEvent instance
+   */
+  public static WatchmanPathEvent of(Path cellPath, AbstractWatchmanPathEvent.Kind kind, Path path) {
+    return new WatchmanPathEvent(cellPath, kind, path);
+  }
+}
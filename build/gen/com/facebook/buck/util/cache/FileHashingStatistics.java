@@ -0,0 +1,263 @@
+package com.facebook.buck.util.cache;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Longs;
+import java.util.List;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link FileHashCache.AbstractFileHashingStatistics}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code FileHashingStatistics.builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code FileHashingStatistics.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "FileHashCache.AbstractFileHashingStatistics"})
+@Immutable
+public final class FileHashingStatistics
+    extends FileHashCache.AbstractFileHashingStatistics {
+  private final long filesHashed;
+  private final long bytesHashed;
+  private final long hashingNanos;
+
+  private FileHashingStatistics(long filesHashed, long bytesHashed, long hashingNanos) {
+    this.filesHashed = filesHashed;
+    this.bytesHashed = bytesHashed;
+    this.hashingNanos = hashingNanos;
+  }
+
+  /**
+   * @return The value of the {@code filesHashed} attribute
+   */
+  @Override
+  public long getFilesHashed() {
+    return filesHashed;
+  }
+
+  /**
+   * @return The value of the {@code bytesHashed} attribute
+   */
+  @Override
+  public long getBytesHashed() {
+    return bytesHashed;
+  }
+
+  /**
+   * @return The value of the {@code hashingNanos} attribute
+   */
+  @Override
+  public long getHashingNanos() {
+    return hashingNanos;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link FileHashCache.AbstractFileHashingStatistics#getFilesHashed() filesHashed} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for filesHashed
+   * @return A modified copy of the {@code this} object
+   */
+  public final FileHashingStatistics withFilesHashed(long value) {
+    if (this.filesHashed == value) return this;
+    return new FileHashingStatistics(value, this.bytesHashed, this.hashingNanos);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link FileHashCache.AbstractFileHashingStatistics#getBytesHashed() bytesHashed} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for bytesHashed
+   * @return A modified copy of the {@code this} object
+   */
+  public final FileHashingStatistics withBytesHashed(long value) {
+    if (this.bytesHashed == value) return this;
+    return new FileHashingStatistics(this.filesHashed, value, this.hashingNanos);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link FileHashCache.AbstractFileHashingStatistics#getHashingNanos() hashingNanos} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for hashingNanos
+   * @return A modified copy of the {@code this} object
+   */
+  public final FileHashingStatistics withHashingNanos(long value) {
+    if (this.hashingNanos == value) return this;
+    return new FileHashingStatistics(this.filesHashed, this.bytesHashed, value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code FileHashingStatistics} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof FileHashingStatistics
+        && equalTo((FileHashingStatistics) another);
+  }
+
+  private boolean equalTo(FileHashingStatistics another) {
+    return filesHashed == another.filesHashed
+        && bytesHashed == another.bytesHashed
+        && hashingNanos == another.hashingNanos;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code filesHashed}, {@code bytesHashed}, {@code hashingNanos}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + Longs.hashCode(filesHashed);
+    h = h * 17 + Longs.hashCode(bytesHashed);
+    h = h * 17 + Longs.hashCode(hashingNanos);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code FileHashingStatistics} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("FileHashingStatistics")
+        .omitNullValues()
+        .add("filesHashed", filesHashed)
+        .add("bytesHashed", bytesHashed)
+        .add("hashingNanos", hashingNanos)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code FileHashingStatistics} instance.
+   * @param filesHashed The value for the {@code filesHashed} attribute
+   * @param bytesHashed The value for the {@code bytesHashed} attribute
+   * @param hashingNanos The value for the {@code hashingNanos} attribute
+   * @return An immutable FileHashingStatistics instance
+   */
+  public static FileHashingStatistics of(long filesHashed, long bytesHashed, long hashingNanos) {
+    return new FileHashingStatistics(filesHashed, bytesHashed, hashingNanos);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link FileHashCache.AbstractFileHashingStatistics} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable FileHashingStatistics instance
+   */
+  public static FileHashingStatistics copyOf(FileHashCache.AbstractFileHashingStatistics instance) {
+    if (instance instanceof FileHashingStatistics) {
+      return (FileHashingStatistics) instance;
+    }
+    return FileHashingStatistics.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link FileHashingStatistics FileHashingStatistics}.
+   * @return A new FileHashingStatistics builder
+   */
+  public static FileHashingStatistics.Builder builder() {
+    return new FileHashingStatistics.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link FileHashingStatistics FileHashingStatistics}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_FILES_HASHED = 0x1L;
+    private static final long INIT_BIT_BYTES_HASHED = 0x2L;
+    private static final long INIT_BIT_HASHING_NANOS = 0x4L;
+    private long initBits = 0x7L;
+
+    private long filesHashed;
+    private long bytesHashed;
+    private long hashingNanos;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AbstractFileHashingStatistics} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(FileHashCache.AbstractFileHashingStatistics instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      setFilesHashed(instance.getFilesHashed());
+      setBytesHashed(instance.getBytesHashed());
+      setHashingNanos(instance.getHashingNanos());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link FileHashCache.AbstractFileHashingStatistics#getFilesHashed() filesHashed} attribute.
+     * @param filesHashed The value for filesHashed 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setFilesHashed(long filesHashed) {
+      this.filesHashed = filesHashed;
+      initBits &= ~INIT_BIT_FILES_HASHED;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link FileHashCache.AbstractFileHashingStatistics#getBytesHashed() bytesHashed} attribute.
+     * @param bytesHashed The value for bytesHashed 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBytesHashed(long bytesHashed) {
+      this.bytesHashed = bytesHashed;
+      initBits &= ~INIT_BIT_BYTES_HASHED;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link FileHashCache.AbstractFileHashingStatistics#getHashingNanos() hashingNanos} attribute.
+     * @param hashingNanos The value for hashingNanos 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setHashingNanos(long hashingNanos) {
+      this.hashingNanos = hashingNanos;
+      initBits &= ~INIT_BIT_HASHING_NANOS;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link FileHashingStatistics FileHashingStatistics}.
+     * @return An immutable instance of FileHashingStatistics
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public FileHashingStatistics build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new FileHashingStatistics(filesHashed, bytesHashed, hashingNanos);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_FILES_HASHED) != 0) attributes.add("filesHashed");
+      if ((initBits & INIT_BIT_BYTES_HASHED) != 0) attributes.add("bytesHashed");
+      if ((initBits & INIT_BIT_HASHING_NANOS) != 0) attributes.add("hashingNanos");
+      return "Cannot build FileHashingStatistics, some of required attributes are not set " + attributes;
+    }
+  }
+}
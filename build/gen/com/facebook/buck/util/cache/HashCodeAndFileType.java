@@ -0,0 +1,396 @@
+package com.facebook.buck.util.cache;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.common.hash.HashCode;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractHashCodeAndFileType}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code HashCodeAndFileType.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractHashCodeAndFileType"})
+@Immutable
+public final class HashCodeAndFileType extends AbstractHashCodeAndFileType {
+  private final AbstractHashCodeAndFileType.Type type;
+  private final HashCode getHashCode;
+  private final ImmutableSet<Path> children;
+  private final @Nullable JarContentHasher jarContentHasher;
+
+  private HashCodeAndFileType(
+      AbstractHashCodeAndFileType.Type type,
+      HashCode getHashCode,
+      ImmutableSet<Path> children,
+      @Nullable JarContentHasher jarContentHasher) {
+    this.type = type;
+    this.getHashCode = getHashCode;
+    this.children = children;
+    this.jarContentHasher = jarContentHasher;
+  }
+
+  /**
+   * @return The value of the {@code type} attribute
+   */
+  @Override
+  public AbstractHashCodeAndFileType.Type getType() {
+    return type;
+  }
+
+  /**
+   * @return The value of the {@code getHashCode} attribute
+   */
+  @Override
+  public HashCode getHashCode() {
+    return getHashCode;
+  }
+
+  /**
+   * @return The value of the {@code children} attribute
+   */
+  @Override
+  public ImmutableSet<Path> getChildren() {
+    return children;
+  }
+
+  /**
+   * @return The value of the {@code jarContentHasher} attribute
+   */
+  @Override
+  public Optional<JarContentHasher> getJarContentHasher() {
+    return Optional.ofNullable(jarContentHasher);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractHashCodeAndFileType#getType() type} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for type
+   * @return A modified copy of the {@code this} object
+   */
+  public final HashCodeAndFileType withType(AbstractHashCodeAndFileType.Type value) {
+    if (this.type == value) return this;
+    AbstractHashCodeAndFileType.Type newValue = Preconditions.checkNotNull(value, "type");
+    return validate(new HashCodeAndFileType(newValue, this.getHashCode, this.children, this.jarContentHasher));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractHashCodeAndFileType#getHashCode() getHashCode} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for getHashCode
+   * @return A modified copy of the {@code this} object
+   */
+  public final HashCodeAndFileType withGetHashCode(HashCode value) {
+    if (this.getHashCode == value) return this;
+    HashCode newValue = Preconditions.checkNotNull(value, "getHashCode");
+    return validate(new HashCodeAndFileType(this.type, newValue, this.children, this.jarContentHasher));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractHashCodeAndFileType#getChildren() children}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HashCodeAndFileType withChildren(Path... elements) {
+    ImmutableSet<Path> newValue = ImmutableSet.copyOf(elements);
+    return validate(new HashCodeAndFileType(this.type, this.getHashCode, newValue, this.jarContentHasher));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractHashCodeAndFileType#getChildren() children}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of children elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HashCodeAndFileType withChildren(Iterable<? extends Path> elements) {
+    if (this.children == elements) return this;
+    ImmutableSet<Path> newValue = ImmutableSet.copyOf(elements);
+    return validate(new HashCodeAndFileType(this.type, this.getHashCode, newValue, this.jarContentHasher));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractHashCodeAndFileType#getJarContentHasher() jarContentHasher} attribute.
+   * @param value The value for jarContentHasher
+   * @return A modified copy of {@code this} object
+   */
+  public final HashCodeAndFileType withJarContentHasher(JarContentHasher value) {
+    @Nullable JarContentHasher newValue = Preconditions.checkNotNull(value, "jarContentHasher");
+    if (this.jarContentHasher == newValue) return this;
+    return validate(new HashCodeAndFileType(this.type, this.getHashCode, this.children, newValue));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractHashCodeAndFileType#getJarContentHasher() jarContentHasher} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for jarContentHasher
+   * @return A modified copy of {@code this} object
+   */
+  public final HashCodeAndFileType withJarContentHasher(Optional<JarContentHasher> optional) {
+    @Nullable JarContentHasher value = optional.orElse(null);
+    if (this.jarContentHasher == value) return this;
+    return validate(new HashCodeAndFileType(this.type, this.getHashCode, this.children, value));
+  }
+
+  /**
+   * This instance is equal to all instances of {@code HashCodeAndFileType} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof HashCodeAndFileType
+        && equalTo((HashCodeAndFileType) another);
+  }
+
+  private boolean equalTo(HashCodeAndFileType another) {
+    return type.equals(another.type)
+        && getHashCode.equals(another.getHashCode)
+        && children.equals(another.children);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code type}, {@code getHashCode}, {@code children}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + type.hashCode();
+    h = h * 17 + getHashCode.hashCode();
+    h = h * 17 + children.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code HashCodeAndFileType} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("HashCodeAndFileType")
+        .omitNullValues()
+        .add("type", type)
+        .add("getHashCode", getHashCode)
+        .add("children", children)
+        .toString();
+  }
+
+  private volatile long lazyInitBitmap;
+
+  private static final long CONTENTS_LAZY_INIT_BIT = 0x1L;
+
+  private ImmutableMap<Path, HashCodeAndFileType> contents;
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a lazily initialized value of the {@link AbstractHashCodeAndFileType#getContents() contents} attribute.
+   * Initialized once and only once and stored for subsequent access with proper synchronization.
+   * @return A lazily initialized value of the {@code l.name} attribute
+   */
+  @Override
+  public ImmutableMap<Path, HashCodeAndFileType> getContents() {
+    if ((lazyInitBitmap & CONTENTS_LAZY_INIT_BIT) == 0) {
+      synchronized (this) {
+        if ((lazyInitBitmap & CONTENTS_LAZY_INIT_BIT) == 0) {
+          this.contents = Preconditions.checkNotNull(super.getContents(), "contents");
+          lazyInitBitmap |= CONTENTS_LAZY_INIT_BIT;
+        }
+      }
+    }
+    return contents;
+  }
+
+  private static HashCodeAndFileType validate(HashCodeAndFileType instance) {
+    instance.check();
+    return instance;
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractHashCodeAndFileType} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable HashCodeAndFileType instance
+   */
+  static HashCodeAndFileType copyOf(AbstractHashCodeAndFileType instance) {
+    if (instance instanceof HashCodeAndFileType) {
+      return (HashCodeAndFileType) instance;
+    }
+    return HashCodeAndFileType.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link HashCodeAndFileType HashCodeAndFileType}.
+   * @return A new HashCodeAndFileType builder
+   */
+  public static HashCodeAndFileType.Builder builder() {
+    return new HashCodeAndFileType.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link HashCodeAndFileType HashCodeAndFileType}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_TYPE = 0x1L;
+    private static final long INIT_BIT_GET_HASH_CODE = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable AbstractHashCodeAndFileType.Type type;
+    private @Nullable HashCode getHashCode;
+    private ImmutableSet.Builder<Path> children = ImmutableSet.builder();
+    private @Nullable JarContentHasher jarContentHasher;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code HashCodeAndFileType} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HashCodeAndFileType instance) {
+      return from((AbstractHashCodeAndFileType) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractHashCodeAndFileType} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractHashCodeAndFileType instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      setType(instance.getType());
+      setGetHashCode(instance.getHashCode());
+      addAllChildren(instance.getChildren());
+      Optional<JarContentHasher> jarContentHasherOptional = instance.getJarContentHasher();
+      if (jarContentHasherOptional.isPresent()) {
+        setJarContentHasher(jarContentHasherOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractHashCodeAndFileType#getType() type} attribute.
+     * @param type The value for type 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setType(AbstractHashCodeAndFileType.Type type) {
+      this.type = Preconditions.checkNotNull(type, "type");
+      initBits &= ~INIT_BIT_TYPE;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractHashCodeAndFileType#getHashCode() getHashCode} attribute.
+     * @param getHashCode The value for getHashCode 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setGetHashCode(HashCode getHashCode) {
+      this.getHashCode = Preconditions.checkNotNull(getHashCode, "getHashCode");
+      initBits &= ~INIT_BIT_GET_HASH_CODE;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractHashCodeAndFileType#getChildren() children} set.
+     * @param element A children element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addChildren(Path element) {
+      this.children.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractHashCodeAndFileType#getChildren() children} set.
+     * @param elements An array of children elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addChildren(Path... elements) {
+      this.children.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractHashCodeAndFileType#getChildren() children} set.
+     * @param elements An iterable of children elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setChildren(Iterable<? extends Path> elements) {
+      this.children = ImmutableSet.builder();
+      return addAllChildren(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractHashCodeAndFileType#getChildren() children} set.
+     * @param elements An iterable of children elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllChildren(Iterable<? extends Path> elements) {
+      this.children.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractHashCodeAndFileType#getJarContentHasher() jarContentHasher} to jarContentHasher.
+     * @param jarContentHasher The value for jarContentHasher
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setJarContentHasher(JarContentHasher jarContentHasher) {
+      this.jarContentHasher = Preconditions.checkNotNull(jarContentHasher, "jarContentHasher");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractHashCodeAndFileType#getJarContentHasher() jarContentHasher} to jarContentHasher.
+     * @param jarContentHasher The value for jarContentHasher
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setJarContentHasher(Optional<JarContentHasher> jarContentHasher) {
+      this.jarContentHasher = jarContentHasher.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link HashCodeAndFileType HashCodeAndFileType}.
+     * @return An immutable instance of HashCodeAndFileType
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public HashCodeAndFileType build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return HashCodeAndFileType.validate(new HashCodeAndFileType(type, getHashCode, children.build(), jarContentHasher));
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_TYPE) != 0) attributes.add("type");
+      if ((initBits & INIT_BIT_GET_HASH_CODE) != 0) attributes.add("getHashCode");
+      return "Cannot build HashCodeAndFileType, some of required attributes are not set " + attributes;
+    }
+  }
+}
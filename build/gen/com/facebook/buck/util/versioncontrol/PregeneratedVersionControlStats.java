@@ -0,0 +1,240 @@
+package com.facebook.buck.util.versioncontrol;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableSet;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractPregeneratedVersionControlStats}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code PregeneratedVersionControlStats.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractPregeneratedVersionControlStats"})
+@Immutable
+public final class PregeneratedVersionControlStats
+    implements AbstractPregeneratedVersionControlStats {
+  private final String currentRevisionId;
+  private final ImmutableSet<String> baseBookmarks;
+  private final String branchedFromMasterRevisionId;
+  private final Long branchedFromMasterTS;
+
+  private PregeneratedVersionControlStats(
+      String currentRevisionId,
+      Iterable<String> baseBookmarks,
+      String branchedFromMasterRevisionId,
+      Long branchedFromMasterTS) {
+    this.currentRevisionId = Preconditions.checkNotNull(currentRevisionId, "currentRevisionId");
+    this.baseBookmarks = ImmutableSet.copyOf(baseBookmarks);
+    this.branchedFromMasterRevisionId = Preconditions.checkNotNull(branchedFromMasterRevisionId, "branchedFromMasterRevisionId");
+    this.branchedFromMasterTS = Preconditions.checkNotNull(branchedFromMasterTS, "branchedFromMasterTS");
+  }
+
+  private PregeneratedVersionControlStats(
+      PregeneratedVersionControlStats original,
+      String currentRevisionId,
+      ImmutableSet<String> baseBookmarks,
+      String branchedFromMasterRevisionId,
+      Long branchedFromMasterTS) {
+    this.currentRevisionId = currentRevisionId;
+    this.baseBookmarks = baseBookmarks;
+    this.branchedFromMasterRevisionId = branchedFromMasterRevisionId;
+    this.branchedFromMasterTS = branchedFromMasterTS;
+  }
+
+  /**
+   * @return The value of the {@code currentRevisionId} attribute
+   */
+  @Override
+  public String getCurrentRevisionId() {
+    return currentRevisionId;
+  }
+
+  /**
+   * @return The value of the {@code baseBookmarks} attribute
+   */
+  @Override
+  public ImmutableSet<String> getBaseBookmarks() {
+    return baseBookmarks;
+  }
+
+  /**
+   * @return The value of the {@code branchedFromMasterRevisionId} attribute
+   */
+  @Override
+  public String getBranchedFromMasterRevisionId() {
+    return branchedFromMasterRevisionId;
+  }
+
+  /**
+   * @return The value of the {@code branchedFromMasterTS} attribute
+   */
+  @Override
+  public Long getBranchedFromMasterTS() {
+    return branchedFromMasterTS;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractPregeneratedVersionControlStats#getCurrentRevisionId() currentRevisionId} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for currentRevisionId
+   * @return A modified copy of the {@code this} object
+   */
+  public final PregeneratedVersionControlStats withCurrentRevisionId(String value) {
+    if (this.currentRevisionId.equals(value)) return this;
+    String newValue = Preconditions.checkNotNull(value, "currentRevisionId");
+    return new PregeneratedVersionControlStats(
+        this,
+        newValue,
+        this.baseBookmarks,
+        this.branchedFromMasterRevisionId,
+        this.branchedFromMasterTS);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractPregeneratedVersionControlStats#getBaseBookmarks() baseBookmarks}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PregeneratedVersionControlStats withBaseBookmarks(String... elements) {
+    ImmutableSet<String> newValue = ImmutableSet.copyOf(elements);
+    return new PregeneratedVersionControlStats(
+        this,
+        this.currentRevisionId,
+        newValue,
+        this.branchedFromMasterRevisionId,
+        this.branchedFromMasterTS);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractPregeneratedVersionControlStats#getBaseBookmarks() baseBookmarks}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of baseBookmarks elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PregeneratedVersionControlStats withBaseBookmarks(Iterable<String> elements) {
+    if (this.baseBookmarks == elements) return this;
+    ImmutableSet<String> newValue = ImmutableSet.copyOf(elements);
+    return new PregeneratedVersionControlStats(
+        this,
+        this.currentRevisionId,
+        newValue,
+        this.branchedFromMasterRevisionId,
+        this.branchedFromMasterTS);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractPregeneratedVersionControlStats#getBranchedFromMasterRevisionId() branchedFromMasterRevisionId} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for branchedFromMasterRevisionId
+   * @return A modified copy of the {@code this} object
+   */
+  public final PregeneratedVersionControlStats withBranchedFromMasterRevisionId(String value) {
+    if (this.branchedFromMasterRevisionId.equals(value)) return this;
+    String newValue = Preconditions.checkNotNull(value, "branchedFromMasterRevisionId");
+    return new PregeneratedVersionControlStats(this, this.currentRevisionId, this.baseBookmarks, newValue, this.branchedFromMasterTS);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractPregeneratedVersionControlStats#getBranchedFromMasterTS() branchedFromMasterTS} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for branchedFromMasterTS
+   * @return A modified copy of the {@code this} object
+   */
+  public final PregeneratedVersionControlStats withBranchedFromMasterTS(Long value) {
+    if (this.branchedFromMasterTS.equals(value)) return this;
+    Long newValue = Preconditions.checkNotNull(value, "branchedFromMasterTS");
+    return new PregeneratedVersionControlStats(this, this.currentRevisionId, this.baseBookmarks, this.branchedFromMasterRevisionId, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code PregeneratedVersionControlStats} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof PregeneratedVersionControlStats
+        && equalTo((PregeneratedVersionControlStats) another);
+  }
+
+  private boolean equalTo(PregeneratedVersionControlStats another) {
+    return currentRevisionId.equals(another.currentRevisionId)
+        && baseBookmarks.equals(another.baseBookmarks)
+        && branchedFromMasterRevisionId.equals(another.branchedFromMasterRevisionId)
+        && branchedFromMasterTS.equals(another.branchedFromMasterTS);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code currentRevisionId}, {@code baseBookmarks}, {@code branchedFromMasterRevisionId}, {@code branchedFromMasterTS}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + currentRevisionId.hashCode();
+    h = h * 17 + baseBookmarks.hashCode();
+    h = h * 17 + branchedFromMasterRevisionId.hashCode();
+    h = h * 17 + branchedFromMasterTS.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code PregeneratedVersionControlStats} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("PregeneratedVersionControlStats")
+        .omitNullValues()
+        .add("currentRevisionId", currentRevisionId)
+        .add("baseBookmarks", baseBookmarks)
+        .add("branchedFromMasterRevisionId", branchedFromMasterRevisionId)
+        .add("branchedFromMasterTS", branchedFromMasterTS)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code PregeneratedVersionControlStats} instance.
+   * @param currentRevisionId The value for the {@code currentRevisionId} attribute
+   * @param baseBookmarks The value for the {@code baseBookmarks} attribute
+   * @param branchedFromMasterRevisionId The value for the {@code branchedFromMasterRevisionId} attribute
+   * @param branchedFromMasterTS The value for the {@code branchedFromMasterTS} attribute
+   * @return An immutable PregeneratedVersionControlStats instance
+   */
+  public static PregeneratedVersionControlStats of(String currentRevisionId, ImmutableSet<String> baseBookmarks, String branchedFromMasterRevisionId, Long branchedFromMasterTS) {
+    return of(currentRevisionId, (Iterable<String>) baseBookmarks, branchedFromMasterRevisionId, branchedFromMasterTS);
+  }
+
+  /**
+   * Construct a new immutable {@code PregeneratedVersionControlStats} instance.
+   * @param currentRevisionId The value for the {@code currentRevisionId} attribute
+   * @param baseBookmarks The value for the {@code baseBookmarks} attribute
+   * @param branchedFromMasterRevisionId The value for the {@code branchedFromMasterRevisionId} attribute
+   * @param branchedFromMasterTS The value for the {@code branchedFromMasterTS} attribute
+   * @return An immutable PregeneratedVersionControlStats instance
+   */
+  public static PregeneratedVersionControlStats of(String currentRevisionId, Iterable<String> baseBookmarks, String branchedFromMasterRevisionId, Long branchedFromMasterTS) {
+    return new PregeneratedVersionControlStats(currentRevisionId, baseBookmarks, branchedFromMasterRevisionId, branchedFromMasterTS);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractPregeneratedVersionControlStats} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable PregeneratedVersionControlStats instance
+   */
+  static PregeneratedVersionControlStats copyOf(AbstractPregeneratedVersionControlStats instance) {
+    if (instance instanceof PregeneratedVersionControlStats) {
+      return (PregeneratedVersionControlStats) instance;
+    }
+    return PregeneratedVersionControlStats.of(instance.getCurrentRevisionId(), instance.getBaseBookmarks(), instance.getBranchedFromMasterRevisionId(), instance.getBranchedFromMasterTS());
+  }
+}
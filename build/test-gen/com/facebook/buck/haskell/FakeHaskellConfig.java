@@ -0,0 +1,860 @@
+package com.facebook.buck.haskell;
+
+import com.facebook.buck.rules.ToolProvider;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Objects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import java.util.ArrayList;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractFakeHaskellConfig}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code FakeHaskellConfig.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractFakeHaskellConfig"})
+@Immutable
+public final class FakeHaskellConfig extends AbstractFakeHaskellConfig {
+  private final ToolProvider compiler;
+  private final HaskellVersion haskellVersion;
+  private final ImmutableList<String> compilerFlags;
+  private final ToolProvider linker;
+  private final ImmutableList<String> linkerFlags;
+  private final ToolProvider packager;
+  private final boolean shouldCacheLinks;
+  private final @Nullable Boolean shouldUsedOldBinaryOutputLocation;
+
+  private FakeHaskellConfig(FakeHaskellConfig.Builder builder) {
+    this.compilerFlags = builder.compilerFlags.build();
+    this.linkerFlags = builder.linkerFlags.build();
+    this.shouldUsedOldBinaryOutputLocation = builder.shouldUsedOldBinaryOutputLocation;
+    if (builder.compiler != null) {
+      initShim.setCompiler(builder.compiler);
+    }
+    if (builder.haskellVersion != null) {
+      initShim.setHaskellVersion(builder.haskellVersion);
+    }
+    if (builder.linker != null) {
+      initShim.setLinker(builder.linker);
+    }
+    if (builder.packager != null) {
+      initShim.setPackager(builder.packager);
+    }
+    if (builder.shouldCacheLinksIsSet()) {
+      initShim.setShouldCacheLinks(builder.shouldCacheLinks);
+    }
+    this.compiler = initShim.getCompiler();
+    this.haskellVersion = initShim.getHaskellVersion();
+    this.linker = initShim.getLinker();
+    this.packager = initShim.getPackager();
+    this.shouldCacheLinks = initShim.shouldCacheLinks();
+    this.initShim = null;
+  }
+
+  private FakeHaskellConfig(
+      ToolProvider compiler,
+      HaskellVersion haskellVersion,
+      ImmutableList<String> compilerFlags,
+      ToolProvider linker,
+      ImmutableList<String> linkerFlags,
+      ToolProvider packager,
+      boolean shouldCacheLinks,
+      @Nullable Boolean shouldUsedOldBinaryOutputLocation) {
+    this.compiler = compiler;
+    this.haskellVersion = haskellVersion;
+    this.compilerFlags = compilerFlags;
+    this.linker = linker;
+    this.linkerFlags = linkerFlags;
+    this.packager = packager;
+    this.shouldCacheLinks = shouldCacheLinks;
+    this.shouldUsedOldBinaryOutputLocation = shouldUsedOldBinaryOutputLocation;
+    this.initShim = null;
+  }
+
+  private static final int STAGE_INITIALIZING = -1;
+  private static final int STAGE_UNINITIALIZED = 0;
+  private static final int STAGE_INITIALIZED = 1;
+  private transient volatile InitShim initShim = new InitShim();
+
+  private final class InitShim {
+    private ToolProvider compiler;
+    private int compilerBuildStage;
+
+    ToolProvider getCompiler() {
+      if (compilerBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (compilerBuildStage == STAGE_UNINITIALIZED) {
+        compilerBuildStage = STAGE_INITIALIZING;
+        this.compiler = Preconditions.checkNotNull(FakeHaskellConfig.super.getCompiler(), "compiler");
+        compilerBuildStage = STAGE_INITIALIZED;
+      }
+      return this.compiler;
+    }
+
+    void setCompiler(ToolProvider compiler) {
+      this.compiler = compiler;
+      compilerBuildStage = STAGE_INITIALIZED;
+    }
+    private HaskellVersion haskellVersion;
+    private int haskellVersionBuildStage;
+
+    HaskellVersion getHaskellVersion() {
+      if (haskellVersionBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (haskellVersionBuildStage == STAGE_UNINITIALIZED) {
+        haskellVersionBuildStage = STAGE_INITIALIZING;
+        this.haskellVersion = Preconditions.checkNotNull(FakeHaskellConfig.super.getHaskellVersion(), "haskellVersion");
+        haskellVersionBuildStage = STAGE_INITIALIZED;
+      }
+      return this.haskellVersion;
+    }
+
+    void setHaskellVersion(HaskellVersion haskellVersion) {
+      this.haskellVersion = haskellVersion;
+      haskellVersionBuildStage = STAGE_INITIALIZED;
+    }
+    private ToolProvider linker;
+    private int linkerBuildStage;
+
+    ToolProvider getLinker() {
+      if (linkerBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (linkerBuildStage == STAGE_UNINITIALIZED) {
+        linkerBuildStage = STAGE_INITIALIZING;
+        this.linker = Preconditions.checkNotNull(FakeHaskellConfig.super.getLinker(), "linker");
+        linkerBuildStage = STAGE_INITIALIZED;
+      }
+      return this.linker;
+    }
+
+    void setLinker(ToolProvider linker) {
+      this.linker = linker;
+      linkerBuildStage = STAGE_INITIALIZED;
+    }
+    private ToolProvider packager;
+    private int packagerBuildStage;
+
+    ToolProvider getPackager() {
+      if (packagerBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (packagerBuildStage == STAGE_UNINITIALIZED) {
+        packagerBuildStage = STAGE_INITIALIZING;
+        this.packager = Preconditions.checkNotNull(FakeHaskellConfig.super.getPackager(), "packager");
+        packagerBuildStage = STAGE_INITIALIZED;
+      }
+      return this.packager;
+    }
+
+    void setPackager(ToolProvider packager) {
+      this.packager = packager;
+      packagerBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean shouldCacheLinks;
+    private int shouldCacheLinksBuildStage;
+
+    boolean shouldCacheLinks() {
+      if (shouldCacheLinksBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (shouldCacheLinksBuildStage == STAGE_UNINITIALIZED) {
+        shouldCacheLinksBuildStage = STAGE_INITIALIZING;
+        this.shouldCacheLinks = FakeHaskellConfig.super.shouldCacheLinks();
+        shouldCacheLinksBuildStage = STAGE_INITIALIZED;
+      }
+      return this.shouldCacheLinks;
+    }
+
+    void setShouldCacheLinks(boolean shouldCacheLinks) {
+      this.shouldCacheLinks = shouldCacheLinks;
+      shouldCacheLinksBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      ArrayList<String> attributes = Lists.newArrayList();
+      if (compilerBuildStage == STAGE_INITIALIZING) attributes.add("compiler");
+      if (haskellVersionBuildStage == STAGE_INITIALIZING) attributes.add("haskellVersion");
+      if (linkerBuildStage == STAGE_INITIALIZING) attributes.add("linker");
+      if (packagerBuildStage == STAGE_INITIALIZING) attributes.add("packager");
+      if (shouldCacheLinksBuildStage == STAGE_INITIALIZING) attributes.add("shouldCacheLinks");
+      return "Cannot build FakeHaskellConfig, attribute initializers form cycle" + attributes;
+    }
+  }
+
+  /**
+   * @return The value of the {@code compiler} attribute
+   */
+  @Override
+  public ToolProvider getCompiler() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getCompiler()
+        : this.compiler;
+  }
+
+  /**
+   * @return The value of the {@code haskellVersion} attribute
+   */
+  @Override
+  public HaskellVersion getHaskellVersion() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getHaskellVersion()
+        : this.haskellVersion;
+  }
+
+  /**
+   * @return The value of the {@code compilerFlags} attribute
+   */
+  @Override
+  public ImmutableList<String> getCompilerFlags() {
+    return compilerFlags;
+  }
+
+  /**
+   * @return The value of the {@code linker} attribute
+   */
+  @Override
+  public ToolProvider getLinker() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getLinker()
+        : this.linker;
+  }
+
+  /**
+   * @return The value of the {@code linkerFlags} attribute
+   */
+  @Override
+  public ImmutableList<String> getLinkerFlags() {
+    return linkerFlags;
+  }
+
+  /**
+   * @return The value of the {@code packager} attribute
+   */
+  @Override
+  public ToolProvider getPackager() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getPackager()
+        : this.packager;
+  }
+
+  /**
+   * @return The value of the {@code shouldCacheLinks} attribute
+   */
+  @Override
+  public boolean shouldCacheLinks() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.shouldCacheLinks()
+        : this.shouldCacheLinks;
+  }
+
+  /**
+   * @return The value of the {@code shouldUsedOldBinaryOutputLocation} attribute
+   */
+  @Override
+  public Optional<Boolean> shouldUsedOldBinaryOutputLocation() {
+    return Optional.ofNullable(shouldUsedOldBinaryOutputLocation);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractFakeHaskellConfig#getCompiler() compiler} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for compiler
+   * @return A modified copy of the {@code this} object
+   */
+  public final FakeHaskellConfig withCompiler(ToolProvider value) {
+    if (this.compiler == value) return this;
+    ToolProvider newValue = Preconditions.checkNotNull(value, "compiler");
+    return new FakeHaskellConfig(
+        newValue,
+        this.haskellVersion,
+        this.compilerFlags,
+        this.linker,
+        this.linkerFlags,
+        this.packager,
+        this.shouldCacheLinks,
+        this.shouldUsedOldBinaryOutputLocation);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractFakeHaskellConfig#getHaskellVersion() haskellVersion} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for haskellVersion
+   * @return A modified copy of the {@code this} object
+   */
+  public final FakeHaskellConfig withHaskellVersion(HaskellVersion value) {
+    if (this.haskellVersion == value) return this;
+    HaskellVersion newValue = Preconditions.checkNotNull(value, "haskellVersion");
+    return new FakeHaskellConfig(
+        this.compiler,
+        newValue,
+        this.compilerFlags,
+        this.linker,
+        this.linkerFlags,
+        this.packager,
+        this.shouldCacheLinks,
+        this.shouldUsedOldBinaryOutputLocation);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractFakeHaskellConfig#getCompilerFlags() compilerFlags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final FakeHaskellConfig withCompilerFlags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new FakeHaskellConfig(
+        this.compiler,
+        this.haskellVersion,
+        newValue,
+        this.linker,
+        this.linkerFlags,
+        this.packager,
+        this.shouldCacheLinks,
+        this.shouldUsedOldBinaryOutputLocation);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractFakeHaskellConfig#getCompilerFlags() compilerFlags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of compilerFlags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final FakeHaskellConfig withCompilerFlags(Iterable<String> elements) {
+    if (this.compilerFlags == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new FakeHaskellConfig(
+        this.compiler,
+        this.haskellVersion,
+        newValue,
+        this.linker,
+        this.linkerFlags,
+        this.packager,
+        this.shouldCacheLinks,
+        this.shouldUsedOldBinaryOutputLocation);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractFakeHaskellConfig#getLinker() linker} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for linker
+   * @return A modified copy of the {@code this} object
+   */
+  public final FakeHaskellConfig withLinker(ToolProvider value) {
+    if (this.linker == value) return this;
+    ToolProvider newValue = Preconditions.checkNotNull(value, "linker");
+    return new FakeHaskellConfig(
+        this.compiler,
+        this.haskellVersion,
+        this.compilerFlags,
+        newValue,
+        this.linkerFlags,
+        this.packager,
+        this.shouldCacheLinks,
+        this.shouldUsedOldBinaryOutputLocation);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractFakeHaskellConfig#getLinkerFlags() linkerFlags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final FakeHaskellConfig withLinkerFlags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new FakeHaskellConfig(
+        this.compiler,
+        this.haskellVersion,
+        this.compilerFlags,
+        this.linker,
+        newValue,
+        this.packager,
+        this.shouldCacheLinks,
+        this.shouldUsedOldBinaryOutputLocation);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractFakeHaskellConfig#getLinkerFlags() linkerFlags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of linkerFlags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final FakeHaskellConfig withLinkerFlags(Iterable<String> elements) {
+    if (this.linkerFlags == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new FakeHaskellConfig(
+        this.compiler,
+        this.haskellVersion,
+        this.compilerFlags,
+        this.linker,
+        newValue,
+        this.packager,
+        this.shouldCacheLinks,
+        this.shouldUsedOldBinaryOutputLocation);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractFakeHaskellConfig#getPackager() packager} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for packager
+   * @return A modified copy of the {@code this} object
+   */
+  public final FakeHaskellConfig withPackager(ToolProvider value) {
+    if (this.packager == value) return this;
+    ToolProvider newValue = Preconditions.checkNotNull(value, "packager");
+    return new FakeHaskellConfig(
+        this.compiler,
+        this.haskellVersion,
+        this.compilerFlags,
+        this.linker,
+        this.linkerFlags,
+        newValue,
+        this.shouldCacheLinks,
+        this.shouldUsedOldBinaryOutputLocation);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractFakeHaskellConfig#shouldCacheLinks() shouldCacheLinks} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for shouldCacheLinks
+   * @return A modified copy of the {@code this} object
+   */
+  public final FakeHaskellConfig withShouldCacheLinks(boolean value) {
+    if (this.shouldCacheLinks == value) return this;
+    return new FakeHaskellConfig(
+        this.compiler,
+        this.haskellVersion,
+        this.compilerFlags,
+        this.linker,
+        this.linkerFlags,
+        this.packager,
+        value,
+        this.shouldUsedOldBinaryOutputLocation);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractFakeHaskellConfig#shouldUsedOldBinaryOutputLocation() shouldUsedOldBinaryOutputLocation} attribute.
+   * @param value The value for shouldUsedOldBinaryOutputLocation
+   * @return A modified copy of {@code this} object
+   */
+  public final FakeHaskellConfig withShouldUsedOldBinaryOutputLocation(boolean value) {
+    @Nullable Boolean newValue = value;
+    if (Objects.equal(this.shouldUsedOldBinaryOutputLocation, newValue)) return this;
+    return new FakeHaskellConfig(
+        this.compiler,
+        this.haskellVersion,
+        this.compilerFlags,
+        this.linker,
+        this.linkerFlags,
+        this.packager,
+        this.shouldCacheLinks,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractFakeHaskellConfig#shouldUsedOldBinaryOutputLocation() shouldUsedOldBinaryOutputLocation} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for shouldUsedOldBinaryOutputLocation
+   * @return A modified copy of {@code this} object
+   */
+  public final FakeHaskellConfig withShouldUsedOldBinaryOutputLocation(Optional<Boolean> optional) {
+    @Nullable Boolean value = optional.orElse(null);
+    if (Objects.equal(this.shouldUsedOldBinaryOutputLocation, value)) return this;
+    return new FakeHaskellConfig(
+        this.compiler,
+        this.haskellVersion,
+        this.compilerFlags,
+        this.linker,
+        this.linkerFlags,
+        this.packager,
+        this.shouldCacheLinks,
+        value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code FakeHaskellConfig} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof FakeHaskellConfig
+        && equalTo((FakeHaskellConfig) another);
+  }
+
+  private boolean equalTo(FakeHaskellConfig another) {
+    return compiler.equals(another.compiler)
+        && haskellVersion.equals(another.haskellVersion)
+        && compilerFlags.equals(another.compilerFlags)
+        && linker.equals(another.linker)
+        && linkerFlags.equals(another.linkerFlags)
+        && packager.equals(another.packager)
+        && shouldCacheLinks == another.shouldCacheLinks
+        && Objects.equal(shouldUsedOldBinaryOutputLocation, another.shouldUsedOldBinaryOutputLocation);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code compiler}, {@code haskellVersion}, {@code compilerFlags}, {@code linker}, {@code linkerFlags}, {@code packager}, {@code shouldCacheLinks}, {@code shouldUsedOldBinaryOutputLocation}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + compiler.hashCode();
+    h = h * 17 + haskellVersion.hashCode();
+    h = h * 17 + compilerFlags.hashCode();
+    h = h * 17 + linker.hashCode();
+    h = h * 17 + linkerFlags.hashCode();
+    h = h * 17 + packager.hashCode();
+    h = h * 17 + Booleans.hashCode(shouldCacheLinks);
+    h = h * 17 + Objects.hashCode(shouldUsedOldBinaryOutputLocation);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code FakeHaskellConfig} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("FakeHaskellConfig")
+        .omitNullValues()
+        .add("compiler", compiler)
+        .add("haskellVersion", haskellVersion)
+        .add("compilerFlags", compilerFlags)
+        .add("linker", linker)
+        .add("linkerFlags", linkerFlags)
+        .add("packager", packager)
+        .add("shouldCacheLinks", shouldCacheLinks)
+        .add("shouldUsedOldBinaryOutputLocation", shouldUsedOldBinaryOutputLocation)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractFakeHaskellConfig} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable FakeHaskellConfig instance
+   */
+  static FakeHaskellConfig copyOf(AbstractFakeHaskellConfig instance) {
+    if (instance instanceof FakeHaskellConfig) {
+      return (FakeHaskellConfig) instance;
+    }
+    return FakeHaskellConfig.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link FakeHaskellConfig FakeHaskellConfig}.
+   * @return A new FakeHaskellConfig builder
+   */
+  public static FakeHaskellConfig.Builder builder() {
+    return new FakeHaskellConfig.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link FakeHaskellConfig FakeHaskellConfig}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long OPT_BIT_SHOULD_CACHE_LINKS = 0x1L;
+    private long optBits;
+
+    private @Nullable ToolProvider compiler;
+    private @Nullable HaskellVersion haskellVersion;
+    private ImmutableList.Builder<String> compilerFlags = ImmutableList.builder();
+    private @Nullable ToolProvider linker;
+    private ImmutableList.Builder<String> linkerFlags = ImmutableList.builder();
+    private @Nullable ToolProvider packager;
+    private boolean shouldCacheLinks;
+    private @Nullable Boolean shouldUsedOldBinaryOutputLocation;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code FakeHaskellConfig} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(FakeHaskellConfig instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractFakeHaskellConfig} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractFakeHaskellConfig instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.haskell.HaskellConfig} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HaskellConfig instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      long bits = 0;
+      if (object instanceof AbstractFakeHaskellConfig) {
+        AbstractFakeHaskellConfig instance = (AbstractFakeHaskellConfig) object;
+        if ((bits & 0x1L) == 0) {
+          setShouldCacheLinks(instance.shouldCacheLinks());
+          bits |= 0x1L;
+        }
+        if ((bits & 0x2L) == 0) {
+          setLinker(instance.getLinker());
+          bits |= 0x2L;
+        }
+        if ((bits & 0x4L) == 0) {
+          addAllCompilerFlags(instance.getCompilerFlags());
+          bits |= 0x4L;
+        }
+        if ((bits & 0x8L) == 0) {
+          addAllLinkerFlags(instance.getLinkerFlags());
+          bits |= 0x8L;
+        }
+        if ((bits & 0x10L) == 0) {
+          setCompiler(instance.getCompiler());
+          bits |= 0x10L;
+        }
+        if ((bits & 0x20L) == 0) {
+          setHaskellVersion(instance.getHaskellVersion());
+          bits |= 0x20L;
+        }
+        if ((bits & 0x40L) == 0) {
+          setPackager(instance.getPackager());
+          bits |= 0x40L;
+        }
+      }
+      if (object instanceof HaskellConfig) {
+        HaskellConfig instance = (HaskellConfig) object;
+        if ((bits & 0x1L) == 0) {
+          setShouldCacheLinks(instance.shouldCacheLinks());
+          bits |= 0x1L;
+        }
+        if ((bits & 0x2L) == 0) {
+          setLinker(instance.getLinker());
+          bits |= 0x2L;
+        }
+        if ((bits & 0x4L) == 0) {
+          addAllCompilerFlags(instance.getCompilerFlags());
+          bits |= 0x4L;
+        }
+        Optional<Boolean> shouldUsedOldBinaryOutputLocationOptional = instance.shouldUsedOldBinaryOutputLocation();
+        if (shouldUsedOldBinaryOutputLocationOptional.isPresent()) {
+          setShouldUsedOldBinaryOutputLocation(shouldUsedOldBinaryOutputLocationOptional);
+        }
+        if ((bits & 0x8L) == 0) {
+          addAllLinkerFlags(instance.getLinkerFlags());
+          bits |= 0x8L;
+        }
+        if ((bits & 0x10L) == 0) {
+          setCompiler(instance.getCompiler());
+          bits |= 0x10L;
+        }
+        if ((bits & 0x20L) == 0) {
+          setHaskellVersion(instance.getHaskellVersion());
+          bits |= 0x20L;
+        }
+        if ((bits & 0x40L) == 0) {
+          setPackager(instance.getPackager());
+          bits |= 0x40L;
+        }
+      }
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractFakeHaskellConfig#getCompiler() compiler} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractFakeHaskellConfig#getCompiler() compiler}.</em>
+     * @param compiler The value for compiler 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCompiler(ToolProvider compiler) {
+      this.compiler = Preconditions.checkNotNull(compiler, "compiler");
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractFakeHaskellConfig#getHaskellVersion() haskellVersion} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractFakeHaskellConfig#getHaskellVersion() haskellVersion}.</em>
+     * @param haskellVersion The value for haskellVersion 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setHaskellVersion(HaskellVersion haskellVersion) {
+      this.haskellVersion = Preconditions.checkNotNull(haskellVersion, "haskellVersion");
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractFakeHaskellConfig#getCompilerFlags() compilerFlags} list.
+     * @param element A compilerFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addCompilerFlags(String element) {
+      this.compilerFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractFakeHaskellConfig#getCompilerFlags() compilerFlags} list.
+     * @param elements An array of compilerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addCompilerFlags(String... elements) {
+      this.compilerFlags.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractFakeHaskellConfig#getCompilerFlags() compilerFlags} list.
+     * @param elements An iterable of compilerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCompilerFlags(Iterable<String> elements) {
+      this.compilerFlags = ImmutableList.builder();
+      return addAllCompilerFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractFakeHaskellConfig#getCompilerFlags() compilerFlags} list.
+     * @param elements An iterable of compilerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllCompilerFlags(Iterable<String> elements) {
+      this.compilerFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractFakeHaskellConfig#getLinker() linker} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractFakeHaskellConfig#getLinker() linker}.</em>
+     * @param linker The value for linker 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLinker(ToolProvider linker) {
+      this.linker = Preconditions.checkNotNull(linker, "linker");
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractFakeHaskellConfig#getLinkerFlags() linkerFlags} list.
+     * @param element A linkerFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLinkerFlags(String element) {
+      this.linkerFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractFakeHaskellConfig#getLinkerFlags() linkerFlags} list.
+     * @param elements An array of linkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLinkerFlags(String... elements) {
+      this.linkerFlags.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractFakeHaskellConfig#getLinkerFlags() linkerFlags} list.
+     * @param elements An iterable of linkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLinkerFlags(Iterable<String> elements) {
+      this.linkerFlags = ImmutableList.builder();
+      return addAllLinkerFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractFakeHaskellConfig#getLinkerFlags() linkerFlags} list.
+     * @param elements An iterable of linkerFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLinkerFlags(Iterable<String> elements) {
+      this.linkerFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractFakeHaskellConfig#getPackager() packager} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractFakeHaskellConfig#getPackager() packager}.</em>
+     * @param packager The value for packager 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPackager(ToolProvider packager) {
+      this.packager = Preconditions.checkNotNull(packager, "packager");
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractFakeHaskellConfig#shouldCacheLinks() shouldCacheLinks} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractFakeHaskellConfig#shouldCacheLinks() shouldCacheLinks}.</em>
+     * @param shouldCacheLinks The value for shouldCacheLinks 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setShouldCacheLinks(boolean shouldCacheLinks) {
+      this.shouldCacheLinks = shouldCacheLinks;
+      optBits |= OPT_BIT_SHOULD_CACHE_LINKS;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractFakeHaskellConfig#shouldUsedOldBinaryOutputLocation() shouldUsedOldBinaryOutputLocation} to shouldUsedOldBinaryOutputLocation.
+     * @param shouldUsedOldBinaryOutputLocation The value for shouldUsedOldBinaryOutputLocation
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setShouldUsedOldBinaryOutputLocation(boolean shouldUsedOldBinaryOutputLocation) {
+      this.shouldUsedOldBinaryOutputLocation = shouldUsedOldBinaryOutputLocation;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractFakeHaskellConfig#shouldUsedOldBinaryOutputLocation() shouldUsedOldBinaryOutputLocation} to shouldUsedOldBinaryOutputLocation.
+     * @param shouldUsedOldBinaryOutputLocation The value for shouldUsedOldBinaryOutputLocation
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setShouldUsedOldBinaryOutputLocation(Optional<Boolean> shouldUsedOldBinaryOutputLocation) {
+      this.shouldUsedOldBinaryOutputLocation = shouldUsedOldBinaryOutputLocation.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link FakeHaskellConfig FakeHaskellConfig}.
+     * @return An immutable instance of FakeHaskellConfig
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public FakeHaskellConfig build() {
+      return new FakeHaskellConfig(this);
+    }
+
+    private boolean shouldCacheLinksIsSet() {
+      return (optBits & OPT_BIT_SHOULD_CACHE_LINKS) != 0;
+    }
+  }
+}
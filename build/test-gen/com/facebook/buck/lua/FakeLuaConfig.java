@@ -0,0 +1,987 @@
+package com.facebook.buck.lua;
+
+import com.facebook.buck.cxx.AbstractCxxLibrary;
+import com.facebook.buck.cxx.NativeLinkStrategy;
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.rules.Tool;
+import com.facebook.buck.rules.ToolProvider;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Objects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import java.util.ArrayList;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractFakeLuaConfig}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code FakeLuaConfig.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractFakeLuaConfig"})
+@Immutable
+public final class FakeLuaConfig extends AbstractFakeLuaConfig {
+  private final Tool lua;
+  private final AbstractCxxLibrary luaCxxLibrary;
+  private final String extension;
+  private final LuaConfig.PackageStyle packageStyle;
+  private final ToolProvider packager;
+  private final boolean shouldCacheBinaries;
+  private final NativeLinkStrategy nativeLinkStrategy;
+  private final @Nullable BuildTarget luaCxxLibraryTarget;
+  private final @Nullable BuildTarget nativeStarterLibrary;
+  private final @Nullable LuaBinaryDescription.StarterType starterType;
+
+  private FakeLuaConfig(FakeLuaConfig.Builder builder) {
+    this.luaCxxLibraryTarget = builder.luaCxxLibraryTarget;
+    this.nativeStarterLibrary = builder.nativeStarterLibrary;
+    this.starterType = builder.starterType;
+    if (builder.lua != null) {
+      initShim.setLua(builder.lua);
+    }
+    if (builder.luaCxxLibrary != null) {
+      initShim.setLuaCxxLibrary(builder.luaCxxLibrary);
+    }
+    if (builder.extension != null) {
+      initShim.setExtension(builder.extension);
+    }
+    if (builder.packageStyle != null) {
+      initShim.setPackageStyle(builder.packageStyle);
+    }
+    if (builder.packager != null) {
+      initShim.setPackager(builder.packager);
+    }
+    if (builder.shouldCacheBinariesIsSet()) {
+      initShim.setShouldCacheBinaries(builder.shouldCacheBinaries);
+    }
+    if (builder.nativeLinkStrategy != null) {
+      initShim.setNativeLinkStrategy(builder.nativeLinkStrategy);
+    }
+    this.lua = initShim.getLua();
+    this.luaCxxLibrary = initShim.getLuaCxxLibrary();
+    this.extension = initShim.getExtension();
+    this.packageStyle = initShim.getPackageStyle();
+    this.packager = initShim.getPackager();
+    this.shouldCacheBinaries = initShim.shouldCacheBinaries();
+    this.nativeLinkStrategy = initShim.getNativeLinkStrategy();
+    this.initShim = null;
+  }
+
+  private FakeLuaConfig(
+      Tool lua,
+      AbstractCxxLibrary luaCxxLibrary,
+      String extension,
+      LuaConfig.PackageStyle packageStyle,
+      ToolProvider packager,
+      boolean shouldCacheBinaries,
+      NativeLinkStrategy nativeLinkStrategy,
+      @Nullable BuildTarget luaCxxLibraryTarget,
+      @Nullable BuildTarget nativeStarterLibrary,
+      @Nullable LuaBinaryDescription.StarterType starterType) {
+    this.lua = lua;
+    this.luaCxxLibrary = luaCxxLibrary;
+    this.extension = extension;
+    this.packageStyle = packageStyle;
+    this.packager = packager;
+    this.shouldCacheBinaries = shouldCacheBinaries;
+    this.nativeLinkStrategy = nativeLinkStrategy;
+    this.luaCxxLibraryTarget = luaCxxLibraryTarget;
+    this.nativeStarterLibrary = nativeStarterLibrary;
+    this.starterType = starterType;
+    this.initShim = null;
+  }
+
+  private static final int STAGE_INITIALIZING = -1;
+  private static final int STAGE_UNINITIALIZED = 0;
+  private static final int STAGE_INITIALIZED = 1;
+  private transient volatile InitShim initShim = new InitShim();
+
+  private final class InitShim {
+    private Tool lua;
+    private int luaBuildStage;
+
+    Tool getLua() {
+      if (luaBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (luaBuildStage == STAGE_UNINITIALIZED) {
+        luaBuildStage = STAGE_INITIALIZING;
+        this.lua = Preconditions.checkNotNull(FakeLuaConfig.super.getLua(), "lua");
+        luaBuildStage = STAGE_INITIALIZED;
+      }
+      return this.lua;
+    }
+
+    void setLua(Tool lua) {
+      this.lua = lua;
+      luaBuildStage = STAGE_INITIALIZED;
+    }
+    private AbstractCxxLibrary luaCxxLibrary;
+    private int luaCxxLibraryBuildStage;
+
+    AbstractCxxLibrary getLuaCxxLibrary() {
+      if (luaCxxLibraryBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (luaCxxLibraryBuildStage == STAGE_UNINITIALIZED) {
+        luaCxxLibraryBuildStage = STAGE_INITIALIZING;
+        this.luaCxxLibrary = Preconditions.checkNotNull(FakeLuaConfig.super.getLuaCxxLibrary(), "luaCxxLibrary");
+        luaCxxLibraryBuildStage = STAGE_INITIALIZED;
+      }
+      return this.luaCxxLibrary;
+    }
+
+    void setLuaCxxLibrary(AbstractCxxLibrary luaCxxLibrary) {
+      this.luaCxxLibrary = luaCxxLibrary;
+      luaCxxLibraryBuildStage = STAGE_INITIALIZED;
+    }
+    private String extension;
+    private int extensionBuildStage;
+
+    String getExtension() {
+      if (extensionBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (extensionBuildStage == STAGE_UNINITIALIZED) {
+        extensionBuildStage = STAGE_INITIALIZING;
+        this.extension = Preconditions.checkNotNull(FakeLuaConfig.super.getExtension(), "extension");
+        extensionBuildStage = STAGE_INITIALIZED;
+      }
+      return this.extension;
+    }
+
+    void setExtension(String extension) {
+      this.extension = extension;
+      extensionBuildStage = STAGE_INITIALIZED;
+    }
+    private LuaConfig.PackageStyle packageStyle;
+    private int packageStyleBuildStage;
+
+    LuaConfig.PackageStyle getPackageStyle() {
+      if (packageStyleBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (packageStyleBuildStage == STAGE_UNINITIALIZED) {
+        packageStyleBuildStage = STAGE_INITIALIZING;
+        this.packageStyle = Preconditions.checkNotNull(FakeLuaConfig.super.getPackageStyle(), "packageStyle");
+        packageStyleBuildStage = STAGE_INITIALIZED;
+      }
+      return this.packageStyle;
+    }
+
+    void setPackageStyle(LuaConfig.PackageStyle packageStyle) {
+      this.packageStyle = packageStyle;
+      packageStyleBuildStage = STAGE_INITIALIZED;
+    }
+    private ToolProvider packager;
+    private int packagerBuildStage;
+
+    ToolProvider getPackager() {
+      if (packagerBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (packagerBuildStage == STAGE_UNINITIALIZED) {
+        packagerBuildStage = STAGE_INITIALIZING;
+        this.packager = Preconditions.checkNotNull(FakeLuaConfig.super.getPackager(), "packager");
+        packagerBuildStage = STAGE_INITIALIZED;
+      }
+      return this.packager;
+    }
+
+    void setPackager(ToolProvider packager) {
+      this.packager = packager;
+      packagerBuildStage = STAGE_INITIALIZED;
+    }
+    private boolean shouldCacheBinaries;
+    private int shouldCacheBinariesBuildStage;
+
+    boolean shouldCacheBinaries() {
+      if (shouldCacheBinariesBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (shouldCacheBinariesBuildStage == STAGE_UNINITIALIZED) {
+        shouldCacheBinariesBuildStage = STAGE_INITIALIZING;
+        this.shouldCacheBinaries = FakeLuaConfig.super.shouldCacheBinaries();
+        shouldCacheBinariesBuildStage = STAGE_INITIALIZED;
+      }
+      return this.shouldCacheBinaries;
+    }
+
+    void setShouldCacheBinaries(boolean shouldCacheBinaries) {
+      this.shouldCacheBinaries = shouldCacheBinaries;
+      shouldCacheBinariesBuildStage = STAGE_INITIALIZED;
+    }
+    private NativeLinkStrategy nativeLinkStrategy;
+    private int nativeLinkStrategyBuildStage;
+
+    NativeLinkStrategy getNativeLinkStrategy() {
+      if (nativeLinkStrategyBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (nativeLinkStrategyBuildStage == STAGE_UNINITIALIZED) {
+        nativeLinkStrategyBuildStage = STAGE_INITIALIZING;
+        this.nativeLinkStrategy = Preconditions.checkNotNull(FakeLuaConfig.super.getNativeLinkStrategy(), "nativeLinkStrategy");
+        nativeLinkStrategyBuildStage = STAGE_INITIALIZED;
+      }
+      return this.nativeLinkStrategy;
+    }
+
+    void setNativeLinkStrategy(NativeLinkStrategy nativeLinkStrategy) {
+      this.nativeLinkStrategy = nativeLinkStrategy;
+      nativeLinkStrategyBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      ArrayList<String> attributes = Lists.newArrayList();
+      if (luaBuildStage == STAGE_INITIALIZING) attributes.add("lua");
+      if (luaCxxLibraryBuildStage == STAGE_INITIALIZING) attributes.add("luaCxxLibrary");
+      if (extensionBuildStage == STAGE_INITIALIZING) attributes.add("extension");
+      if (packageStyleBuildStage == STAGE_INITIALIZING) attributes.add("packageStyle");
+      if (packagerBuildStage == STAGE_INITIALIZING) attributes.add("packager");
+      if (shouldCacheBinariesBuildStage == STAGE_INITIALIZING) attributes.add("shouldCacheBinaries");
+      if (nativeLinkStrategyBuildStage == STAGE_INITIALIZING) attributes.add("nativeLinkStrategy");
+      return "Cannot build FakeLuaConfig, attribute initializers form cycle" + attributes;
+    }
+  }
+
+  /**
+   * @return The value of the {@code lua} attribute
+   */
+  @Override
+  public Tool getLua() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getLua()
+        : this.lua;
+  }
+
+  /**
+   * @return The value of the {@code luaCxxLibrary} attribute
+   */
+  @Override
+  public AbstractCxxLibrary getLuaCxxLibrary() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getLuaCxxLibrary()
+        : this.luaCxxLibrary;
+  }
+
+  /**
+   * @return The value of the {@code extension} attribute
+   */
+  @Override
+  public String getExtension() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getExtension()
+        : this.extension;
+  }
+
+  /**
+   * @return The value of the {@code packageStyle} attribute
+   */
+  @Override
+  public LuaConfig.PackageStyle getPackageStyle() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getPackageStyle()
+        : this.packageStyle;
+  }
+
+  /**
+   * @return The value of the {@code packager} attribute
+   */
+  @Override
+  public ToolProvider getPackager() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getPackager()
+        : this.packager;
+  }
+
+  /**
+   * @return The value of the {@code shouldCacheBinaries} attribute
+   */
+  @Override
+  public boolean shouldCacheBinaries() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.shouldCacheBinaries()
+        : this.shouldCacheBinaries;
+  }
+
+  /**
+   * @return The value of the {@code nativeLinkStrategy} attribute
+   */
+  @Override
+  public NativeLinkStrategy getNativeLinkStrategy() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getNativeLinkStrategy()
+        : this.nativeLinkStrategy;
+  }
+
+  /**
+   * @return The value of the {@code luaCxxLibraryTarget} attribute
+   */
+  @Override
+  public Optional<BuildTarget> getLuaCxxLibraryTarget() {
+    return Optional.ofNullable(luaCxxLibraryTarget);
+  }
+
+  /**
+   * @return The value of the {@code nativeStarterLibrary} attribute
+   */
+  @Override
+  public Optional<BuildTarget> getNativeStarterLibrary() {
+    return Optional.ofNullable(nativeStarterLibrary);
+  }
+
+  /**
+   * @return The value of the {@code starterType} attribute
+   */
+  @Override
+  public Optional<LuaBinaryDescription.StarterType> getStarterType() {
+    return Optional.ofNullable(starterType);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractFakeLuaConfig#getLua() lua} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for lua
+   * @return A modified copy of the {@code this} object
+   */
+  public final FakeLuaConfig withLua(Tool value) {
+    if (this.lua == value) return this;
+    Tool newValue = Preconditions.checkNotNull(value, "lua");
+    return new FakeLuaConfig(
+        newValue,
+        this.luaCxxLibrary,
+        this.extension,
+        this.packageStyle,
+        this.packager,
+        this.shouldCacheBinaries,
+        this.nativeLinkStrategy,
+        this.luaCxxLibraryTarget,
+        this.nativeStarterLibrary,
+        this.starterType);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractFakeLuaConfig#getLuaCxxLibrary() luaCxxLibrary} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for luaCxxLibrary
+   * @return A modified copy of the {@code this} object
+   */
+  public final FakeLuaConfig withLuaCxxLibrary(AbstractCxxLibrary value) {
+    if (this.luaCxxLibrary == value) return this;
+    AbstractCxxLibrary newValue = Preconditions.checkNotNull(value, "luaCxxLibrary");
+    return new FakeLuaConfig(
+        this.lua,
+        newValue,
+        this.extension,
+        this.packageStyle,
+        this.packager,
+        this.shouldCacheBinaries,
+        this.nativeLinkStrategy,
+        this.luaCxxLibraryTarget,
+        this.nativeStarterLibrary,
+        this.starterType);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractFakeLuaConfig#getExtension() extension} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for extension
+   * @return A modified copy of the {@code this} object
+   */
+  public final FakeLuaConfig withExtension(String value) {
+    if (this.extension.equals(value)) return this;
+    String newValue = Preconditions.checkNotNull(value, "extension");
+    return new FakeLuaConfig(
+        this.lua,
+        this.luaCxxLibrary,
+        newValue,
+        this.packageStyle,
+        this.packager,
+        this.shouldCacheBinaries,
+        this.nativeLinkStrategy,
+        this.luaCxxLibraryTarget,
+        this.nativeStarterLibrary,
+        this.starterType);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractFakeLuaConfig#getPackageStyle() packageStyle} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for packageStyle
+   * @return A modified copy of the {@code this} object
+   */
+  public final FakeLuaConfig withPackageStyle(LuaConfig.PackageStyle value) {
+    if (this.packageStyle == value) return this;
+    LuaConfig.PackageStyle newValue = Preconditions.checkNotNull(value, "packageStyle");
+    return new FakeLuaConfig(
+        this.lua,
+        this.luaCxxLibrary,
+        this.extension,
+        newValue,
+        this.packager,
+        this.shouldCacheBinaries,
+        this.nativeLinkStrategy,
+        this.luaCxxLibraryTarget,
+        this.nativeStarterLibrary,
+        this.starterType);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractFakeLuaConfig#getPackager() packager} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for packager
+   * @return A modified copy of the {@code this} object
+   */
+  public final FakeLuaConfig withPackager(ToolProvider value) {
+    if (this.packager == value) return this;
+    ToolProvider newValue = Preconditions.checkNotNull(value, "packager");
+    return new FakeLuaConfig(
+        this.lua,
+        this.luaCxxLibrary,
+        this.extension,
+        this.packageStyle,
+        newValue,
+        this.shouldCacheBinaries,
+        this.nativeLinkStrategy,
+        this.luaCxxLibraryTarget,
+        this.nativeStarterLibrary,
+        this.starterType);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractFakeLuaConfig#shouldCacheBinaries() shouldCacheBinaries} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for shouldCacheBinaries
+   * @return A modified copy of the {@code this} object
+   */
+  public final FakeLuaConfig withShouldCacheBinaries(boolean value) {
+    if (this.shouldCacheBinaries == value) return this;
+    return new FakeLuaConfig(
+        this.lua,
+        this.luaCxxLibrary,
+        this.extension,
+        this.packageStyle,
+        this.packager,
+        value,
+        this.nativeLinkStrategy,
+        this.luaCxxLibraryTarget,
+        this.nativeStarterLibrary,
+        this.starterType);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractFakeLuaConfig#getNativeLinkStrategy() nativeLinkStrategy} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for nativeLinkStrategy
+   * @return A modified copy of the {@code this} object
+   */
+  public final FakeLuaConfig withNativeLinkStrategy(NativeLinkStrategy value) {
+    if (this.nativeLinkStrategy == value) return this;
+    NativeLinkStrategy newValue = Preconditions.checkNotNull(value, "nativeLinkStrategy");
+    return new FakeLuaConfig(
+        this.lua,
+        this.luaCxxLibrary,
+        this.extension,
+        this.packageStyle,
+        this.packager,
+        this.shouldCacheBinaries,
+        newValue,
+        this.luaCxxLibraryTarget,
+        this.nativeStarterLibrary,
+        this.starterType);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractFakeLuaConfig#getLuaCxxLibraryTarget() luaCxxLibraryTarget} attribute.
+   * @param value The value for luaCxxLibraryTarget
+   * @return A modified copy of {@code this} object
+   */
+  public final FakeLuaConfig withLuaCxxLibraryTarget(BuildTarget value) {
+    @Nullable BuildTarget newValue = Preconditions.checkNotNull(value, "luaCxxLibraryTarget");
+    if (this.luaCxxLibraryTarget == newValue) return this;
+    return new FakeLuaConfig(
+        this.lua,
+        this.luaCxxLibrary,
+        this.extension,
+        this.packageStyle,
+        this.packager,
+        this.shouldCacheBinaries,
+        this.nativeLinkStrategy,
+        newValue,
+        this.nativeStarterLibrary,
+        this.starterType);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractFakeLuaConfig#getLuaCxxLibraryTarget() luaCxxLibraryTarget} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for luaCxxLibraryTarget
+   * @return A modified copy of {@code this} object
+   */
+  public final FakeLuaConfig withLuaCxxLibraryTarget(Optional<BuildTarget> optional) {
+    @Nullable BuildTarget value = optional.orElse(null);
+    if (this.luaCxxLibraryTarget == value) return this;
+    return new FakeLuaConfig(
+        this.lua,
+        this.luaCxxLibrary,
+        this.extension,
+        this.packageStyle,
+        this.packager,
+        this.shouldCacheBinaries,
+        this.nativeLinkStrategy,
+        value,
+        this.nativeStarterLibrary,
+        this.starterType);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractFakeLuaConfig#getNativeStarterLibrary() nativeStarterLibrary} attribute.
+   * @param value The value for nativeStarterLibrary
+   * @return A modified copy of {@code this} object
+   */
+  public final FakeLuaConfig withNativeStarterLibrary(BuildTarget value) {
+    @Nullable BuildTarget newValue = Preconditions.checkNotNull(value, "nativeStarterLibrary");
+    if (this.nativeStarterLibrary == newValue) return this;
+    return new FakeLuaConfig(
+        this.lua,
+        this.luaCxxLibrary,
+        this.extension,
+        this.packageStyle,
+        this.packager,
+        this.shouldCacheBinaries,
+        this.nativeLinkStrategy,
+        this.luaCxxLibraryTarget,
+        newValue,
+        this.starterType);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractFakeLuaConfig#getNativeStarterLibrary() nativeStarterLibrary} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for nativeStarterLibrary
+   * @return A modified copy of {@code this} object
+   */
+  public final FakeLuaConfig withNativeStarterLibrary(Optional<BuildTarget> optional) {
+    @Nullable BuildTarget value = optional.orElse(null);
+    if (this.nativeStarterLibrary == value) return this;
+    return new FakeLuaConfig(
+        this.lua,
+        this.luaCxxLibrary,
+        this.extension,
+        this.packageStyle,
+        this.packager,
+        this.shouldCacheBinaries,
+        this.nativeLinkStrategy,
+        this.luaCxxLibraryTarget,
+        value,
+        this.starterType);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractFakeLuaConfig#getStarterType() starterType} attribute.
+   * @param value The value for starterType
+   * @return A modified copy of {@code this} object
+   */
+  public final FakeLuaConfig withStarterType(LuaBinaryDescription.StarterType value) {
+    @Nullable LuaBinaryDescription.StarterType newValue = Preconditions.checkNotNull(value, "starterType");
+    if (Objects.equal(this.starterType, newValue)) return this;
+    return new FakeLuaConfig(
+        this.lua,
+        this.luaCxxLibrary,
+        this.extension,
+        this.packageStyle,
+        this.packager,
+        this.shouldCacheBinaries,
+        this.nativeLinkStrategy,
+        this.luaCxxLibraryTarget,
+        this.nativeStarterLibrary,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractFakeLuaConfig#getStarterType() starterType} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for starterType
+   * @return A modified copy of {@code this} object
+   */
+  public final FakeLuaConfig withStarterType(Optional<LuaBinaryDescription.StarterType> optional) {
+    @Nullable LuaBinaryDescription.StarterType value = optional.orElse(null);
+    if (Objects.equal(this.starterType, value)) return this;
+    return new FakeLuaConfig(
+        this.lua,
+        this.luaCxxLibrary,
+        this.extension,
+        this.packageStyle,
+        this.packager,
+        this.shouldCacheBinaries,
+        this.nativeLinkStrategy,
+        this.luaCxxLibraryTarget,
+        this.nativeStarterLibrary,
+        value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code FakeLuaConfig} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof FakeLuaConfig
+        && equalTo((FakeLuaConfig) another);
+  }
+
+  private boolean equalTo(FakeLuaConfig another) {
+    return lua.equals(another.lua)
+        && luaCxxLibrary.equals(another.luaCxxLibrary)
+        && extension.equals(another.extension)
+        && packageStyle.equals(another.packageStyle)
+        && packager.equals(another.packager)
+        && shouldCacheBinaries == another.shouldCacheBinaries
+        && nativeLinkStrategy.equals(another.nativeLinkStrategy)
+        && Objects.equal(luaCxxLibraryTarget, another.luaCxxLibraryTarget)
+        && Objects.equal(nativeStarterLibrary, another.nativeStarterLibrary)
+        && Objects.equal(starterType, another.starterType);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code lua}, {@code luaCxxLibrary}, {@code extension}, {@code packageStyle}, {@code packager}, {@code shouldCacheBinaries}, {@code nativeLinkStrategy}, {@code luaCxxLibraryTarget}, {@code nativeStarterLibrary}, {@code starterType}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + lua.hashCode();
+    h = h * 17 + luaCxxLibrary.hashCode();
+    h = h * 17 + extension.hashCode();
+    h = h * 17 + packageStyle.hashCode();
+    h = h * 17 + packager.hashCode();
+    h = h * 17 + Booleans.hashCode(shouldCacheBinaries);
+    h = h * 17 + nativeLinkStrategy.hashCode();
+    h = h * 17 + Objects.hashCode(luaCxxLibraryTarget);
+    h = h * 17 + Objects.hashCode(nativeStarterLibrary);
+    h = h * 17 + Objects.hashCode(starterType);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code FakeLuaConfig} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("FakeLuaConfig")
+        .omitNullValues()
+        .add("lua", lua)
+        .add("luaCxxLibrary", luaCxxLibrary)
+        .add("extension", extension)
+        .add("packageStyle", packageStyle)
+        .add("packager", packager)
+        .add("shouldCacheBinaries", shouldCacheBinaries)
+        .add("nativeLinkStrategy", nativeLinkStrategy)
+        .add("luaCxxLibraryTarget", luaCxxLibraryTarget)
+        .add("nativeStarterLibrary", nativeStarterLibrary)
+        .add("starterType", starterType)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractFakeLuaConfig} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable FakeLuaConfig instance
+   */
+  static FakeLuaConfig copyOf(AbstractFakeLuaConfig instance) {
+    if (instance instanceof FakeLuaConfig) {
+      return (FakeLuaConfig) instance;
+    }
+    return FakeLuaConfig.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link FakeLuaConfig FakeLuaConfig}.
+   * @return A new FakeLuaConfig builder
+   */
+  public static FakeLuaConfig.Builder builder() {
+    return new FakeLuaConfig.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link FakeLuaConfig FakeLuaConfig}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long OPT_BIT_SHOULD_CACHE_BINARIES = 0x1L;
+    private long optBits;
+
+    private @Nullable Tool lua;
+    private @Nullable AbstractCxxLibrary luaCxxLibrary;
+    private @Nullable String extension;
+    private @Nullable LuaConfig.PackageStyle packageStyle;
+    private @Nullable ToolProvider packager;
+    private boolean shouldCacheBinaries;
+    private @Nullable NativeLinkStrategy nativeLinkStrategy;
+    private @Nullable BuildTarget luaCxxLibraryTarget;
+    private @Nullable BuildTarget nativeStarterLibrary;
+    private @Nullable LuaBinaryDescription.StarterType starterType;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code FakeLuaConfig} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(FakeLuaConfig instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractFakeLuaConfig} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractFakeLuaConfig instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.lua.LuaConfig} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(LuaConfig instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      long bits = 0;
+      if (object instanceof AbstractFakeLuaConfig) {
+        AbstractFakeLuaConfig instance = (AbstractFakeLuaConfig) object;
+        if ((bits & 0x1L) == 0) {
+          setExtension(instance.getExtension());
+          bits |= 0x1L;
+        }
+        setLua(instance.getLua());
+        setLuaCxxLibrary(instance.getLuaCxxLibrary());
+        if ((bits & 0x2L) == 0) {
+          setNativeLinkStrategy(instance.getNativeLinkStrategy());
+          bits |= 0x2L;
+        }
+        if ((bits & 0x4L) == 0) {
+          setPackageStyle(instance.getPackageStyle());
+          bits |= 0x4L;
+        }
+        if ((bits & 0x8L) == 0) {
+          setPackager(instance.getPackager());
+          bits |= 0x8L;
+        }
+        if ((bits & 0x10L) == 0) {
+          setShouldCacheBinaries(instance.shouldCacheBinaries());
+          bits |= 0x10L;
+        }
+      }
+      if (object instanceof LuaConfig) {
+        LuaConfig instance = (LuaConfig) object;
+        if ((bits & 0x1L) == 0) {
+          setExtension(instance.getExtension());
+          bits |= 0x1L;
+        }
+        Optional<BuildTarget> luaCxxLibraryTargetOptional = instance.getLuaCxxLibraryTarget();
+        if (luaCxxLibraryTargetOptional.isPresent()) {
+          setLuaCxxLibraryTarget(luaCxxLibraryTargetOptional);
+        }
+        if ((bits & 0x2L) == 0) {
+          setNativeLinkStrategy(instance.getNativeLinkStrategy());
+          bits |= 0x2L;
+        }
+        Optional<BuildTarget> nativeStarterLibraryOptional = instance.getNativeStarterLibrary();
+        if (nativeStarterLibraryOptional.isPresent()) {
+          setNativeStarterLibrary(nativeStarterLibraryOptional);
+        }
+        Optional<LuaBinaryDescription.StarterType> starterTypeOptional = instance.getStarterType();
+        if (starterTypeOptional.isPresent()) {
+          setStarterType(starterTypeOptional);
+        }
+        if ((bits & 0x4L) == 0) {
+          setPackageStyle(instance.getPackageStyle());
+          bits |= 0x4L;
+        }
+        if ((bits & 0x8L) == 0) {
+          setPackager(instance.getPackager());
+          bits |= 0x8L;
+        }
+        if ((bits & 0x10L) == 0) {
+          setShouldCacheBinaries(instance.shouldCacheBinaries());
+          bits |= 0x10L;
+        }
+      }
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractFakeLuaConfig#getLua() lua} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractFakeLuaConfig#getLua() lua}.</em>
+     * @param lua The value for lua 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLua(Tool lua) {
+      this.lua = Preconditions.checkNotNull(lua, "lua");
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractFakeLuaConfig#getLuaCxxLibrary() luaCxxLibrary} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractFakeLuaConfig#getLuaCxxLibrary() luaCxxLibrary}.</em>
+     * @param luaCxxLibrary The value for luaCxxLibrary 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLuaCxxLibrary(AbstractCxxLibrary luaCxxLibrary) {
+      this.luaCxxLibrary = Preconditions.checkNotNull(luaCxxLibrary, "luaCxxLibrary");
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractFakeLuaConfig#getExtension() extension} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractFakeLuaConfig#getExtension() extension}.</em>
+     * @param extension The value for extension 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setExtension(String extension) {
+      this.extension = Preconditions.checkNotNull(extension, "extension");
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractFakeLuaConfig#getPackageStyle() packageStyle} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractFakeLuaConfig#getPackageStyle() packageStyle}.</em>
+     * @param packageStyle The value for packageStyle 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPackageStyle(LuaConfig.PackageStyle packageStyle) {
+      this.packageStyle = Preconditions.checkNotNull(packageStyle, "packageStyle");
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractFakeLuaConfig#getPackager() packager} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractFakeLuaConfig#getPackager() packager}.</em>
+     * @param packager The value for packager 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPackager(ToolProvider packager) {
+      this.packager = Preconditions.checkNotNull(packager, "packager");
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractFakeLuaConfig#shouldCacheBinaries() shouldCacheBinaries} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractFakeLuaConfig#shouldCacheBinaries() shouldCacheBinaries}.</em>
+     * @param shouldCacheBinaries The value for shouldCacheBinaries 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setShouldCacheBinaries(boolean shouldCacheBinaries) {
+      this.shouldCacheBinaries = shouldCacheBinaries;
+      optBits |= OPT_BIT_SHOULD_CACHE_BINARIES;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractFakeLuaConfig#getNativeLinkStrategy() nativeLinkStrategy} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractFakeLuaConfig#getNativeLinkStrategy() nativeLinkStrategy}.</em>
+     * @param nativeLinkStrategy The value for nativeLinkStrategy 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setNativeLinkStrategy(NativeLinkStrategy nativeLinkStrategy) {
+      this.nativeLinkStrategy = Preconditions.checkNotNull(nativeLinkStrategy, "nativeLinkStrategy");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractFakeLuaConfig#getLuaCxxLibraryTarget() luaCxxLibraryTarget} to luaCxxLibraryTarget.
+     * @param luaCxxLibraryTarget The value for luaCxxLibraryTarget
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setLuaCxxLibraryTarget(BuildTarget luaCxxLibraryTarget) {
+      this.luaCxxLibraryTarget = Preconditions.checkNotNull(luaCxxLibraryTarget, "luaCxxLibraryTarget");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractFakeLuaConfig#getLuaCxxLibraryTarget() luaCxxLibraryTarget} to luaCxxLibraryTarget.
+     * @param luaCxxLibraryTarget The value for luaCxxLibraryTarget
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLuaCxxLibraryTarget(Optional<BuildTarget> luaCxxLibraryTarget) {
+      this.luaCxxLibraryTarget = luaCxxLibraryTarget.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractFakeLuaConfig#getNativeStarterLibrary() nativeStarterLibrary} to nativeStarterLibrary.
+     * @param nativeStarterLibrary The value for nativeStarterLibrary
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setNativeStarterLibrary(BuildTarget nativeStarterLibrary) {
+      this.nativeStarterLibrary = Preconditions.checkNotNull(nativeStarterLibrary, "nativeStarterLibrary");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractFakeLuaConfig#getNativeStarterLibrary() nativeStarterLibrary} to nativeStarterLibrary.
+     * @param nativeStarterLibrary The value for nativeStarterLibrary
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setNativeStarterLibrary(Optional<BuildTarget> nativeStarterLibrary) {
+      this.nativeStarterLibrary = nativeStarterLibrary.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractFakeLuaConfig#getStarterType() starterType} to starterType.
+     * @param starterType The value for starterType
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setStarterType(LuaBinaryDescription.StarterType starterType) {
+      this.starterType = Preconditions.checkNotNull(starterType, "starterType");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractFakeLuaConfig#getStarterType() starterType} to starterType.
+     * @param starterType The value for starterType
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setStarterType(Optional<LuaBinaryDescription.StarterType> starterType) {
+      this.starterType = starterType.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link FakeLuaConfig FakeLuaConfig}.
+     * @return An immutable instance of FakeLuaConfig
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public FakeLuaConfig build() {
+      return new FakeLuaConfig(this);
+    }
+
+    private boolean shouldCacheBinariesIsSet() {
+      return (optBits & OPT_BIT_SHOULD_CACHE_BINARIES) != 0;
+    }
+  }
+}
@@ -0,0 +1,412 @@
+package com.facebook.buck.util.environment;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Objects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.primitives.Longs;
+import java.util.Map;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Test utility implementation of {@link ExecutionEnvironment} based
+ * on an immutable value type.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractFakeExecutionEnvironment"})
+@Immutable
+public final class FakeExecutionEnvironment
+    extends AbstractFakeExecutionEnvironment {
+  private final String hostname;
+  private final String username;
+  private final int availableCores;
+  private final long totalMemory;
+  private final Platform platform;
+  private final Network likelyActiveNetwork;
+  private final @Nullable String wifiSsid;
+  private final ImmutableMap<String, String> environment;
+
+  private FakeExecutionEnvironment(
+      String hostname,
+      String username,
+      int availableCores,
+      long totalMemory,
+      Platform platform,
+      Network likelyActiveNetwork,
+      Optional<String> wifiSsid,
+      Map<String, ? extends String> environment) {
+    this.hostname = Preconditions.checkNotNull(hostname, "hostname");
+    this.username = Preconditions.checkNotNull(username, "username");
+    this.availableCores = availableCores;
+    this.totalMemory = totalMemory;
+    this.platform = Preconditions.checkNotNull(platform, "platform");
+    this.likelyActiveNetwork = Preconditions.checkNotNull(likelyActiveNetwork, "likelyActiveNetwork");
+    this.wifiSsid = wifiSsid.orElse(null);
+    this.environment = ImmutableMap.copyOf(environment);
+  }
+
+  private FakeExecutionEnvironment(
+      FakeExecutionEnvironment original,
+      String hostname,
+      String username,
+      int availableCores,
+      long totalMemory,
+      Platform platform,
+      Network likelyActiveNetwork,
+      @Nullable String wifiSsid,
+      ImmutableMap<String, String> environment) {
+    this.hostname = hostname;
+    this.username = username;
+    this.availableCores = availableCores;
+    this.totalMemory = totalMemory;
+    this.platform = platform;
+    this.likelyActiveNetwork = likelyActiveNetwork;
+    this.wifiSsid = wifiSsid;
+    this.environment = environment;
+  }
+
+  /**
+   * @return The value of the {@code hostname} attribute
+   */
+  @Override
+  public String getHostname() {
+    return hostname;
+  }
+
+  /**
+   * @return The value of the {@code username} attribute
+   */
+  @Override
+  public String getUsername() {
+    return username;
+  }
+
+  /**
+   * @return The value of the {@code availableCores} attribute
+   */
+  @Override
+  public int getAvailableCores() {
+    return availableCores;
+  }
+
+  /**
+   * @return The value of the {@code totalMemory} attribute
+   */
+  @Override
+  public long getTotalMemory() {
+    return totalMemory;
+  }
+
+  /**
+   * @return The value of the {@code platform} attribute
+   */
+  @Override
+  public Platform getPlatform() {
+    return platform;
+  }
+
+  /**
+   * @return The value of the {@code likelyActiveNetwork} attribute
+   */
+  @Override
+  public Network getLikelyActiveNetwork() {
+    return likelyActiveNetwork;
+  }
+
+  /**
+   * @return The value of the {@code wifiSsid} attribute
+   */
+  @Override
+  public Optional<String> getWifiSsid() {
+    return Optional.ofNullable(wifiSsid);
+  }
+
+  /**
+   * @return The value of the {@code environment} attribute
+   */
+  @Override
+  public ImmutableMap<String, String> getEnvironment() {
+    return environment;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractFakeExecutionEnvironment#getHostname() hostname} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for hostname
+   * @return A modified copy of the {@code this} object
+   */
+  public final FakeExecutionEnvironment withHostname(String value) {
+    if (this.hostname.equals(value)) return this;
+    String newValue = Preconditions.checkNotNull(value, "hostname");
+    return new FakeExecutionEnvironment(
+        this,
+        newValue,
+        this.username,
+        this.availableCores,
+        this.totalMemory,
+        this.platform,
+        this.likelyActiveNetwork,
+        this.wifiSsid,
+        this.environment);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractFakeExecutionEnvironment#getUsername() username} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for username
+   * @return A modified copy of the {@code this} object
+   */
+  public final FakeExecutionEnvironment withUsername(String value) {
+    if (this.username.equals(value)) return this;
+    String newValue = Preconditions.checkNotNull(value, "username");
+    return new FakeExecutionEnvironment(
+        this,
+        this.hostname,
+        newValue,
+        this.availableCores,
+        this.totalMemory,
+        this.platform,
+        this.likelyActiveNetwork,
+        this.wifiSsid,
+        this.environment);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractFakeExecutionEnvironment#getAvailableCores() availableCores} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for availableCores
+   * @return A modified copy of the {@code this} object
+   */
+  public final FakeExecutionEnvironment withAvailableCores(int value) {
+    if (this.availableCores == value) return this;
+    return new FakeExecutionEnvironment(
+        this,
+        this.hostname,
+        this.username,
+        value,
+        this.totalMemory,
+        this.platform,
+        this.likelyActiveNetwork,
+        this.wifiSsid,
+        this.environment);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractFakeExecutionEnvironment#getTotalMemory() totalMemory} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for totalMemory
+   * @return A modified copy of the {@code this} object
+   */
+  public final FakeExecutionEnvironment withTotalMemory(long value) {
+    if (this.totalMemory == value) return this;
+    return new FakeExecutionEnvironment(
+        this,
+        this.hostname,
+        this.username,
+        this.availableCores,
+        value,
+        this.platform,
+        this.likelyActiveNetwork,
+        this.wifiSsid,
+        this.environment);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractFakeExecutionEnvironment#getPlatform() platform} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for platform
+   * @return A modified copy of the {@code this} object
+   */
+  public final FakeExecutionEnvironment withPlatform(Platform value) {
+    if (this.platform == value) return this;
+    Platform newValue = Preconditions.checkNotNull(value, "platform");
+    return new FakeExecutionEnvironment(
+        this,
+        this.hostname,
+        this.username,
+        this.availableCores,
+        this.totalMemory,
+        newValue,
+        this.likelyActiveNetwork,
+        this.wifiSsid,
+        this.environment);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractFakeExecutionEnvironment#getLikelyActiveNetwork() likelyActiveNetwork} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for likelyActiveNetwork
+   * @return A modified copy of the {@code this} object
+   */
+  public final FakeExecutionEnvironment withLikelyActiveNetwork(Network value) {
+    if (this.likelyActiveNetwork == value) return this;
+    Network newValue = Preconditions.checkNotNull(value, "likelyActiveNetwork");
+    return new FakeExecutionEnvironment(
+        this,
+        this.hostname,
+        this.username,
+        this.availableCores,
+        this.totalMemory,
+        this.platform,
+        newValue,
+        this.wifiSsid,
+        this.environment);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractFakeExecutionEnvironment#getWifiSsid() wifiSsid} attribute.
+   * @param value The value for wifiSsid
+   * @return A modified copy of {@code this} object
+   */
+  public final FakeExecutionEnvironment withWifiSsid(String value) {
+    @Nullable String newValue = Preconditions.checkNotNull(value, "wifiSsid");
+    if (Objects.equal(this.wifiSsid, newValue)) return this;
+    return new FakeExecutionEnvironment(
+        this,
+        this.hostname,
+        this.username,
+        this.availableCores,
+        this.totalMemory,
+        this.platform,
+        this.likelyActiveNetwork,
+        newValue,
+        this.environment);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractFakeExecutionEnvironment#getWifiSsid() wifiSsid} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for wifiSsid
+   * @return A modified copy of {@code this} object
+   */
+  public final FakeExecutionEnvironment withWifiSsid(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equal(this.wifiSsid, value)) return this;
+    return new FakeExecutionEnvironment(
+        this,
+        this.hostname,
+        this.username,
+        this.availableCores,
+        this.totalMemory,
+        this.platform,
+        this.likelyActiveNetwork,
+        value,
+        this.environment);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AbstractFakeExecutionEnvironment#getEnvironment() environment} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the environment map
+   * @return A modified copy of {@code this} object
+   */
+  public final FakeExecutionEnvironment withEnvironment(Map<String, ? extends String> entries) {
+    if (this.environment == entries) return this;
+    ImmutableMap<String, String> newValue = ImmutableMap.copyOf(entries);
+    return new FakeExecutionEnvironment(
+        this,
+        this.hostname,
+        this.username,
+        this.availableCores,
+        this.totalMemory,
+        this.platform,
+        this.likelyActiveNetwork,
+        this.wifiSsid,
+        newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code FakeExecutionEnvironment} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof FakeExecutionEnvironment
+        && equalTo((FakeExecutionEnvironment) another);
+  }
+
+  private boolean equalTo(FakeExecutionEnvironment another) {
+    return hostname.equals(another.hostname)
+        && username.equals(another.username)
+        && availableCores == another.availableCores
+        && totalMemory == another.totalMemory
+        && platform.equals(another.platform)
+        && likelyActiveNetwork.equals(another.likelyActiveNetwork)
+        && Objects.equal(wifiSsid, another.wifiSsid)
+        && environment.equals(another.environment);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code hostname}, {@code username}, {@code availableCores}, {@code totalMemory}, {@code platform}, {@code likelyActiveNetwork}, {@code wifiSsid}, {@code environment}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + hostname.hashCode();
+    h = h * 17 + username.hashCode();
+    h = h * 17 + availableCores;
+    h = h * 17 + Longs.hashCode(totalMemory);
+    h = h * 17 + platform.hashCode();
+    h = h * 17 + likelyActiveNetwork.hashCode();
+    h = h * 17 + Objects.hashCode(wifiSsid);
+    h = h * 17 + environment.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code FakeExecutionEnvironment} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("FakeExecutionEnvironment")
+        .omitNullValues()
+        .add("hostname", hostname)
+        .add("username", username)
+        .add("availableCores", availableCores)
+        .add("totalMemory", totalMemory)
+        .add("platform", platform)
+        .add("likelyActiveNetwork", likelyActiveNetwork)
+        .add("wifiSsid", wifiSsid)
+        .add("environment", environment)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code FakeExecutionEnvironment} instance.
+   * @param hostname The value for the {@code hostname} attribute
+   * @param username The value for the {@code username} attribute
+   * @param availableCores The value for the {@code availableCores} attribute
+   * @param totalMemory The value for the {@code totalMemory} attribute
+   * @param platform The value for the {@code platform} attribute
+   * @param likelyActiveNetwork The value for the {@code likelyActiveNetwork} attribute
+   * @param wifiSsid The value for the {@code wifiSsid} attribute
+   * @param environment The value for the {@code environment} attribute
+   * @return An immutable FakeExecutionEnvironment instance
+   */
+  public static FakeExecutionEnvironment of(String hostname, String username, int availableCores, long totalMemory, Platform platform, Network likelyActiveNetwork, Optional<String> wifiSsid, Map<String, ? extends String> environment) {
+    return new FakeExecutionEnvironment(hostname, username, availableCores, totalMemory, platform, likelyActiveNetwork, wifiSsid, environment);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractFakeExecutionEnvironment} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable FakeExecutionEnvironment instance
+   */
+  static FakeExecutionEnvironment copyOf(AbstractFakeExecutionEnvironment instance) {
+    if (instance instanceof FakeExecutionEnvironment) {
+      return (FakeExecutionEnvironment) instance;
+    }
+    return FakeExecutionEnvironment.of(instance.getHostname(), instance.getUsername(), instance.getAvailableCores(), instance.getTotalMemory(), instance.getPlatform(), instance.getLikelyActiveNetwork(), instance.getWifiSsid(), instance.getEnvironment());
+  }
+}
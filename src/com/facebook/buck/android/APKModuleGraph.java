@@ -68,7 +68,7 @@ public class APKModuleGraph {
           final ImmutableMap.Builder<BuildTarget, APKModule> mapBuilder = ImmutableMap.builder();
           new AbstractBreadthFirstTraversal<APKModule>(getGraph().getNodesWithNoIncomingEdges()) {
             @Override
-            public ImmutableSet<APKModule> visit(final APKModule node) {
+            public Iterable<APKModule> visit(final APKModule node) {
               if (node.equals(rootAPKModuleSupplier.get())) {
                 return ImmutableSet.of();
               }
@@ -568,31 +568,26 @@ public class AndroidBinaryGraphEnhancer {
         continue;
       }
 
-      // See whether the corresponding IntermediateDexRule has already been added to the
-      // ruleResolver.
+      // Reuse the corresponding IntermediateDexRule if it has already been added to the
+      // ruleResolver, or create it and add it to both the ruleResolver and preDexDeps.
       BuildTarget originalTarget = javaLibrary.getBuildTarget();
       BuildTarget preDexTarget = BuildTarget.builder(originalTarget)
           .addFlavors(DEX_FLAVOR)
           .build();
-      Optional<BuildRule> preDexRule = ruleResolver.getRuleOptional(preDexTarget);
-      if (preDexRule.isPresent()) {
-        preDexDeps.put(
-            apkModuleGraph.findModuleForTarget(buildTarget),
-            (DexProducedFromJavaLibrary) preDexRule.get());
-        continue;
-      }
-
-      // Create the IntermediateDexRule and add it to both the ruleResolver and preDexDeps.
-      BuildRuleParams paramsForPreDex = buildRuleParams
-          .withBuildTarget(preDexTarget)
-          .copyReplacingDeclaredAndExtraDeps(
-              Suppliers.ofInstance(
-                  ImmutableSortedSet.of(ruleResolver.getRule(javaLibrary.getBuildTarget()))),
-              Suppliers.ofInstance(ImmutableSortedSet.of()));
-      DexProducedFromJavaLibrary preDex =
-          new DexProducedFromJavaLibrary(paramsForPreDex, javaLibrary);
-      ruleResolver.addToIndex(preDex);
-      preDexDeps.put(apkModuleGraph.findModuleForTarget(buildTarget), preDex);
+      BuildRule preDex = ruleResolver.computeIfAbsent(
+          preDexTarget,
+          target -> {
+            BuildRuleParams paramsForPreDex = buildRuleParams
+                .withBuildTarget(target)
+                .copyReplacingDeclaredAndExtraDeps(
+                    Suppliers.ofInstance(
+                        ImmutableSortedSet.of(ruleResolver.getRule(javaLibrary.getBuildTarget()))),
+                    Suppliers.ofInstance(ImmutableSortedSet.of()));
+            return new DexProducedFromJavaLibrary(paramsForPreDex, javaLibrary);
+          });
+      preDexDeps.put(
+          apkModuleGraph.findModuleForTarget(buildTarget),
+          (DexProducedFromJavaLibrary) preDex);
     }
     return preDexDeps.build();
   }
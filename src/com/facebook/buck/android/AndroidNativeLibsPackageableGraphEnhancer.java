@@ -364,28 +364,24 @@ public class AndroidNativeLibsPackageableGraphEnhancer {
           .addFlavors(InternalFlavor.of(Flavor.replaceInvalidCharacters(targetCpuType.name())))
           .build();
 
-      Optional<BuildRule> previouslyCreated = ruleResolver.getRuleOptional(targetForStripRule);
-      StripLinkable stripLinkable;
-      if (previouslyCreated.isPresent()) {
-        stripLinkable = (StripLinkable) previouslyCreated.get();
-      } else {
-        BuildRuleParams paramsForStripLinkable = buildRuleParams
-            .withBuildTarget(targetForStripRule)
-            .copyReplacingDeclaredAndExtraDeps(
-                Suppliers.ofInstance(
-                    ImmutableSortedSet.<BuildRule>naturalOrder()
-                        .addAll(ruleFinder.filterBuildRuleInputs(ImmutableList.of(sourcePath)))
-                        .build()),
-                Suppliers.ofInstance(ImmutableSortedSet.of()));
-
-        stripLinkable = new StripLinkable(
-            paramsForStripLinkable,
-            platform.getCxxPlatform().getStrip(),
-            sourcePath,
-            sharedLibrarySoName);
-
-        ruleResolver.addToIndex(stripLinkable);
-      }
+      StripLinkable stripLinkable = (StripLinkable) ruleResolver.computeIfAbsent(
+          targetForStripRule,
+          target -> {
+            BuildRuleParams paramsForStripLinkable = buildRuleParams
+                .withBuildTarget(target)
+                .copyReplacingDeclaredAndExtraDeps(
+                    Suppliers.ofInstance(
+                        ImmutableSortedSet.<BuildRule>naturalOrder()
+                            .addAll(ruleFinder.filterBuildRuleInputs(ImmutableList.of(sourcePath)))
+                            .build()),
+                    Suppliers.ofInstance(ImmutableSortedSet.of()));
+
+            return new StripLinkable(
+                paramsForStripLinkable,
+                platform.getCxxPlatform().getStrip(),
+                sourcePath,
+                sharedLibrarySoName);
+          });
       result.put(
           stripLinkable,
           StrippedObjectDescription.builder()
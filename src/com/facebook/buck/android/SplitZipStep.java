@@ -226,7 +226,7 @@ public class SplitZipStep implements Step {
             writeMetaList(
                 secondaryMetaInfoWriter,
                 dexStore.getName(),
-                apkModuleGraph.getGraph().getOutgoingNodesFor(dexStore),
+                ImmutableSet.copyOf(apkModuleGraph.getGraph().getOutgoingNodesFor(dexStore)),
                 outputFiles.get(dexStore).asList(),
                 dexSplitMode.getDexStore());
           }
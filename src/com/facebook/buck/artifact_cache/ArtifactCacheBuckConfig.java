@@ -79,11 +79,13 @@ public class ArtifactCacheBuckConfig {
   private static final String DIR_FIELD = "dir";
   private static final String DIR_MODE_FIELD = "dir_mode";
   private static final String DIR_MAX_SIZE_FIELD = "dir_max_size";
+  private static final String DIR_MATERIALIZATION_MODE_FIELD = "dir_materialization_mode";
   private static final String DIR_CACHE_NAMES_FIELD_NAME = "dir_cache_names";
   private static final ImmutableSet<String> DIR_CACHE_DESCRIPTION_FIELDS = ImmutableSet.of(
       DIR_FIELD,
       DIR_MODE_FIELD,
-      DIR_MAX_SIZE_FIELD);
+      DIR_MAX_SIZE_FIELD,
+      DIR_MATERIALIZATION_MODE_FIELD);
 
   private static final URI DEFAULT_HTTP_URL = URI.create("http://localhost:8080/");
   private static final String DEFAULT_HTTP_CACHE_MODE = CacheReadMode.READWRITE.name();
@@ -117,6 +119,8 @@ public class ArtifactCacheBuckConfig {
   private static final String REPOSITORY = "repository";
   private static final String DEFAULT_REPOSITORY = "";
 
+  private static final String MULTI_FETCH_MODE = "multi_fetch_mode";
+
   private static final String SCHEDULE_TYPE = "schedule_type";
   private static final String DEFAULT_SCHEDULE_TYPE = "none";
 
@@ -156,6 +160,13 @@ public class ArtifactCacheBuckConfig {
         LoadBalancingType.class).orElse(DEFAULT_LOAD_BALANCING_TYPE);
   }
 
+  public MultiArtifactCache.FetchMode getMultiFetchMode() {
+    return buckConfig.getEnum(
+        CACHE_SECTION_NAME,
+        MULTI_FETCH_MODE,
+        MultiArtifactCache.FetchMode.class).orElse(MultiArtifactCache.FetchMode.SEQUENTIAL);
+  }
+
   public int getHttpMaxConcurrentWrites() {
     return Integer.valueOf(
         buckConfig.getValue(CACHE_SECTION_NAME, "http_max_concurrent_writes").orElse(
@@ -382,12 +393,17 @@ public class ArtifactCacheBuckConfig {
         .getValue(section, DIR_MAX_SIZE_FIELD)
         .map(SizeUnit::parseBytes);
 
-    return DirCacheEntry.builder()
+    DirCacheEntry.Builder builder = DirCacheEntry.builder()
         .setName(cacheName)
         .setCacheDir(pathToCacheDir)
         .setCacheReadMode(readMode)
-        .setMaxSizeBytes(maxSizeBytes)
-        .build();
+        .setMaxSizeBytes(maxSizeBytes);
+    buckConfig.getEnum(
+        section,
+        DIR_MATERIALIZATION_MODE_FIELD,
+        DirArtifactCache.MaterializationMode.class)
+        .ifPresent(builder::setMaterializationMode);
+    return builder.build();
   }
 
   private HttpCacheEntry obtainHttpEntryForName(Optional<String> cacheName) {
@@ -466,6 +482,11 @@ public class ArtifactCacheBuckConfig {
     public abstract Path getCacheDir();
     public abstract Optional<Long> getMaxSizeBytes();
     public abstract CacheReadMode getCacheReadMode();
+
+    @Value.Default
+    public DirArtifactCache.MaterializationMode getMaterializationMode() {
+      return DirArtifactCache.MaterializationMode.COPY;
+    }
   }
 
   @Value.Immutable
@@ -24,6 +24,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.google.common.base.Objects;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 
@@ -32,6 +33,13 @@ import java.util.Optional;
 public abstract class ArtifactCacheEvent extends AbstractBuckEvent implements LeafEvent {
   private static final String TARGET_KEY = "TARGET";
 
+  /**
+   * Upper bounds, in milliseconds, of the buckets of the histograms reported by
+   * {@link FetchLatencyHistograms}. A last, unbounded bucket counts the slower fetches.
+   */
+  public static final ImmutableList<Long> FETCH_LATENCY_BUCKET_BOUNDS_MILLIS = ImmutableList.of(
+      1L, 2L, 5L, 10L, 20L, 50L, 100L, 200L, 500L, 1000L, 2000L, 5000L, 10000L);
+
   public enum Operation {
     FETCH,
     STORE,
@@ -114,6 +122,57 @@ public abstract class ArtifactCacheEvent extends AbstractBuckEvent implements Le
         Optional.of(metadata.get(TARGET_KEY)) : Optional.empty();
   }
 
+  /**
+   * @return the index of the {@link #FETCH_LATENCY_BUCKET_BOUNDS_MILLIS} bucket a fetch which took
+   *     {@code latencyMillis} falls in.
+   */
+  public static int getFetchLatencyBucket(long latencyMillis) {
+    int bucket = 0;
+    while (bucket < FETCH_LATENCY_BUCKET_BOUNDS_MILLIS.size() &&
+        latencyMillis > FETCH_LATENCY_BUCKET_BOUNDS_MILLIS.get(bucket)) {
+      bucket++;
+    }
+    return bucket;
+  }
+
+  public static FetchLatencyHistograms fetchLatencyHistograms(
+      ImmutableMap<String, ImmutableList<Long>> bucketCountsByTier) {
+    return new FetchLatencyHistograms(bucketCountsByTier);
+  }
+
+  /**
+   * Reports, for each tier of a multi-level cache, how many fetches fell in each latency bucket of
+   * {@link #FETCH_LATENCY_BUCKET_BOUNDS_MILLIS}.
+   */
+  public static class FetchLatencyHistograms extends AbstractBuckEvent implements LeafEvent {
+    private final ImmutableMap<String, ImmutableList<Long>> bucketCountsByTier;
+
+    protected FetchLatencyHistograms(
+        ImmutableMap<String, ImmutableList<Long>> bucketCountsByTier) {
+      super(EventKey.unique());
+      this.bucketCountsByTier = bucketCountsByTier;
+    }
+
+    public ImmutableMap<String, ImmutableList<Long>> getBucketCountsByTier() {
+      return bucketCountsByTier;
+    }
+
+    @Override
+    public String getCategory() {
+      return "artifact_fetch_latency";
+    }
+
+    @Override
+    protected String getValueString() {
+      return bucketCountsByTier.toString();
+    }
+
+    @Override
+    public String getEventName() {
+      return "ArtifactCacheFetchLatencyHistograms";
+    }
+  }
+
   public abstract static class Started extends ArtifactCacheEvent {
     protected Started(
         EventKey eventKey,
@@ -31,6 +31,7 @@ import com.facebook.buck.slb.SingleUriService;
 import com.facebook.buck.timing.DefaultClock;
 import com.facebook.buck.util.AsyncCloseable;
 import com.facebook.buck.util.HumanReadableException;
+import com.facebook.buck.util.concurrent.MostExecutors;
 import com.google.common.base.CharMatcher;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
@@ -265,7 +266,10 @@ public class ArtifactCaches implements ArtifactCacheFactory {
               CommonGroups.class,
               CommonGroups.CONTROL) == CommonGroups.TEST) {
         MultiArtifactCache multiDirCache = new MultiArtifactCache(dirCaches);
-        MultiArtifactCache multiRemoteCache = new MultiArtifactCache(remoteCaches);
+        MultiArtifactCache multiRemoteCache = new MultiArtifactCache(
+            remoteCaches,
+            buckConfig.getMultiFetchMode(),
+            Optional.of(buckEventBus));
         if (!multiDirCache.getCacheReadMode().isWritable()) {
           buckEventBus.post(DirCacheExperimentEvent.readOnly());
         } else {
@@ -276,7 +280,10 @@ public class ArtifactCaches implements ArtifactCacheFactory {
         buckEventBus.post(DirCacheExperimentEvent.readWrite());
       }
     }
-    return new MultiArtifactCache(artifactCaches);
+    return new MultiArtifactCache(
+        artifactCaches,
+        buckConfig.getMultiFetchMode(),
+        Optional.of(buckEventBus));
   }
 
   private static void initializeDirCaches(
@@ -332,7 +339,9 @@ public class ArtifactCaches implements ArtifactCacheFactory {
           projectFilesystem,
           cacheDir,
           dirCacheConfig.getCacheReadMode(),
-          dirCacheConfig.getMaxSizeBytes());
+          dirCacheConfig.getMaxSizeBytes(),
+          dirCacheConfig.getMaterializationMode(),
+          MostExecutors.newSingleThreadExecutor("dir-cache-eviction"));
 
       if (!buckEventBus.isPresent()) {
         return dirArtifactCache;
@@ -32,7 +32,9 @@ import com.google.common.collect.ImmutableSet;
 import com.google.common.io.ByteStreams;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 
+import java.io.BufferedInputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
@@ -42,14 +44,33 @@ import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributeView;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class DirArtifactCache implements ArtifactCache {
 
+  /**
+   * How a hit is written to the output path of a fetch.
+   */
+  public enum MaterializationMode {
+    /** Copy the cached artifact. */
+    COPY,
+    /**
+     * Hard link the cached artifact, falling back to a copy when the output is on another file
+     * system or links are not supported. The output must not be modified in place.
+     */
+    HARDLINK,
+  }
+
   private static final Logger LOG = Logger.get(DirArtifactCache.class);
   // Ratio of bytes stored to max size that expresses how many bytes need to be stored after we
   // attempt to delete old files.
@@ -57,13 +78,20 @@ public class DirArtifactCache implements ArtifactCache {
   // How much of the max size to leave if we decide to delete old files.
   private static final float MAX_BYTES_TRIM_RATIO = 2 / 3f;
   private static final String TMP_EXTENSION = ".tmp";
+  private static final long UNKNOWN_SIZE = -1L;
 
   private final String name;
   private final ProjectFilesystem filesystem;
   private final Path cacheDir;
   private final Optional<Long> maxCacheSizeBytes;
   private final CacheReadMode cacheMode;
-  private long bytesSinceLastDeleteOldFiles;
+  private final MaterializationMode materializationMode;
+  private final ExecutorService evictionExecutor;
+  private final AtomicBoolean evictionScheduled = new AtomicBoolean();
+  private final AtomicLong bytesSinceLastDeleteOldFiles = new AtomicLong();
+  // Size of the cache as of the last clean up, plus everything stored since. Unknown until the
+  // cache was first cleaned up.
+  private final AtomicLong cacheSizeBytes = new AtomicLong(UNKNOWN_SIZE);
 
   public DirArtifactCache(
       String name,
@@ -72,12 +100,36 @@ public class DirArtifactCache implements ArtifactCache {
       CacheReadMode cacheMode,
       Optional<Long> maxCacheSizeBytes)
       throws IOException {
+    this(
+        name,
+        filesystem,
+        cacheDir,
+        cacheMode,
+        maxCacheSizeBytes,
+        MaterializationMode.COPY,
+        MoreExecutors.newDirectExecutorService());
+  }
+
+  /**
+   * @param evictionExecutor executor on which old files are deleted once the cache grows past
+   *     {@code maxCacheSizeBytes}. The cache takes ownership of it and shuts it down on close.
+   */
+  public DirArtifactCache(
+      String name,
+      ProjectFilesystem filesystem,
+      Path cacheDir,
+      CacheReadMode cacheMode,
+      Optional<Long> maxCacheSizeBytes,
+      MaterializationMode materializationMode,
+      ExecutorService evictionExecutor)
+      throws IOException {
     this.name = name;
     this.filesystem = filesystem;
     this.cacheDir = cacheDir;
     this.maxCacheSizeBytes = maxCacheSizeBytes;
     this.cacheMode = cacheMode;
-    this.bytesSinceLastDeleteOldFiles = 0L;
+    this.materializationMode = materializationMode;
+    this.evictionExecutor = evictionExecutor;
 
     // Check first, as mkdirs will fail if the path is a symlink.
     if (!filesystem.isDirectory(cacheDir)) {
@@ -91,10 +143,10 @@ public class DirArtifactCache implements ArtifactCache {
     try {
       // First, build up the metadata from the metadata file.
       ImmutableMap.Builder<String, String> metadata = ImmutableMap.builder();
+      Path metadataPath = getPathForRuleKey(ruleKey, Optional.of(".metadata"));
       try (DataInputStream in =
                new DataInputStream(
-                   filesystem.newFileInputStream(
-                       getPathForRuleKey(ruleKey, Optional.of(".metadata"))))) {
+                   new BufferedInputStream(filesystem.newFileInputStream(metadataPath)))) {
         int sz = in.readInt();
         for (int i = 0; i < sz; i++) {
           String key = in.readUTF();
@@ -106,7 +158,9 @@ public class DirArtifactCache implements ArtifactCache {
       }
 
       // Now copy the artifact out.
-      filesystem.copyFile(getPathForRuleKey(ruleKey, Optional.empty()), output.get());
+      Path artifactPath = getPathForRuleKey(ruleKey, Optional.empty());
+      materialize(artifactPath, output.get());
+      markAccessed(artifactPath, metadataPath);
 
       result = CacheResult.hit(name, metadata.build(), filesystem.getFileSize(output.get()));
     } catch (NoSuchFileException e) {
@@ -128,6 +182,22 @@ public class DirArtifactCache implements ArtifactCache {
     return result;
   }
 
+  private void materialize(Path artifactPath, Path output) throws IOException {
+    if (materializationMode == MaterializationMode.HARDLINK) {
+      // Entries are never modified in place: stores move new files over them and eviction
+      // unlinks them, so a link keeps seeing the contents it was fetched with.
+      Path absoluteOutput = filesystem.resolve(output);
+      try {
+        Files.deleteIfExists(absoluteOutput);
+        Files.createLink(absoluteOutput, filesystem.resolve(artifactPath));
+        return;
+      } catch (IOException | UnsupportedOperationException e) {
+        LOG.debug(e, "Failed to link %s to %s, copying it instead.", output, artifactPath);
+      }
+    }
+    filesystem.copyFile(artifactPath, output);
+  }
+
   @Override
   public ListenableFuture<Void> store(
       ArtifactInfo info,
@@ -162,7 +232,7 @@ public class DirArtifactCache implements ArtifactCache {
             storeArtifactOutput(borrowedAndStoredArtifactPath.get(), artifactPath);
           }
         }
-        bytesSinceLastDeleteOldFiles += filesystem.getFileSize(artifactPath);
+        recordStoredBytes(filesystem.getFileSize(artifactPath));
 
         // Now, write the meta data artifact.
         Path tmp = filesystem.createTempFile(getPreparedTempFolder(), "metadata", TMP_EXTENSION);
@@ -177,7 +247,7 @@ public class DirArtifactCache implements ArtifactCache {
             }
           }
           filesystem.move(tmp, metadataPath, StandardCopyOption.REPLACE_EXISTING);
-          bytesSinceLastDeleteOldFiles += filesystem.getFileSize(metadataPath);
+          recordStoredBytes(filesystem.getFileSize(metadataPath));
         } finally {
           filesystem.deleteFileAtPathIfExists(tmp);
         }
@@ -191,16 +261,63 @@ public class DirArtifactCache implements ArtifactCache {
           output);
     }
 
-    if (maxCacheSizeBytes.isPresent() &&
-        bytesSinceLastDeleteOldFiles >
-            (maxCacheSizeBytes.get() * STORED_TO_MAX_BYTES_RATIO_TRIM_TRIGGER)) {
-      bytesSinceLastDeleteOldFiles = 0L;
-      deleteOldFiles();
+    if (shouldDeleteOldFiles()) {
+      scheduleDeleteOldFiles();
     }
 
     return Futures.immediateFuture(null);
   }
 
+  private void recordStoredBytes(long bytes) {
+    bytesSinceLastDeleteOldFiles.addAndGet(bytes);
+    cacheSizeBytes.accumulateAndGet(
+        bytes,
+        (size, stored) -> size == UNKNOWN_SIZE ? UNKNOWN_SIZE : size + stored);
+  }
+
+  private boolean shouldDeleteOldFiles() {
+    if (!maxCacheSizeBytes.isPresent()) {
+      return false;
+    }
+    long size = cacheSizeBytes.get();
+    if (size != UNKNOWN_SIZE) {
+      return size > maxCacheSizeBytes.get();
+    }
+    return bytesSinceLastDeleteOldFiles.get() >
+        maxCacheSizeBytes.get() * STORED_TO_MAX_BYTES_RATIO_TRIM_TRIGGER;
+  }
+
+  /**
+   * Deletes old files on the eviction executor, unless a clean up is already pending.
+   */
+  private void scheduleDeleteOldFiles() {
+    if (!evictionScheduled.compareAndSet(false, true)) {
+      return;
+    }
+    evictionExecutor.execute(
+        () -> {
+          evictionScheduled.set(false);
+          deleteOldFiles();
+        });
+  }
+
+  /**
+   * Records that the entry was just used. Eviction deletes the least recently accessed files
+   * first, but most file systems are mounted with {@code relatime} or {@code noatime} and so do
+   * not reliably update access times on reads.
+   */
+  private void markAccessed(Path... paths) {
+    FileTime now = FileTime.fromMillis(System.currentTimeMillis());
+    for (Path path : paths) {
+      try {
+        Files.getFileAttributeView(filesystem.resolve(path), BasicFileAttributeView.class)
+            .setTimes(null, now, null);
+      } catch (IOException e) {
+        LOG.debug(e, "Failed to update the access time of %s", path);
+      }
+    }
+  }
+
   private Path getPathToTempFolder() {
     return cacheDir.resolve("tmp");
   }
@@ -245,7 +362,6 @@ public class DirArtifactCache implements ArtifactCache {
     try {
       filesystem.copyFile(output, tmp);
       filesystem.move(tmp, artifactPath);
-      bytesSinceLastDeleteOldFiles += filesystem.getFileSize(artifactPath);
     } finally {
       filesystem.deleteFileAtPathIfExists(tmp);
     }
@@ -259,8 +375,14 @@ public class DirArtifactCache implements ArtifactCache {
   @Override
   public void close() {
     // Do a cache clean up on exit only if cache was written to.
-    if (bytesSinceLastDeleteOldFiles > 0) {
-      deleteOldFiles();
+    if (bytesSinceLastDeleteOldFiles.get() > 0) {
+      scheduleDeleteOldFiles();
+    }
+    evictionExecutor.shutdown();
+    try {
+      evictionExecutor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
     }
   }
 
@@ -276,7 +398,8 @@ public class DirArtifactCache implements ArtifactCache {
     Path cacheDirInFs = filesystem.resolve(cacheDir);
     try {
       synchronized (this) {
-        newDirectoryCleaner().clean(cacheDirInFs);
+        bytesSinceLastDeleteOldFiles.set(0L);
+        cacheSizeBytes.set(newDirectoryCleaner().clean(cacheDirInFs));
       }
     } catch (IOException e) {
       LOG.error(e, "Failed to clean path [%s].", cacheDirInFs);
@@ -16,19 +16,39 @@
 
 package com.facebook.buck.artifact_cache;
 
+import com.facebook.buck.event.BuckEventBus;
 import com.facebook.buck.io.BorrowablePath;
 import com.facebook.buck.io.LazyPath;
+import com.facebook.buck.log.Logger;
 import com.facebook.buck.rules.RuleKey;
 import com.facebook.buck.util.MoreCollectors;
+import com.facebook.buck.util.concurrent.MostExecutors;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Functions;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
 
 /**
  * MultiArtifactCache encapsulates a set of ArtifactCache instances such that fetch() succeeds if
@@ -37,16 +57,87 @@ import java.util.Optional;
  */
 public class MultiArtifactCache implements ArtifactCache {
 
+  private static final Logger LOG = Logger.get(MultiArtifactCache.class);
+
+  /**
+   * How {@link #fetch(RuleKey, LazyPath)} queries the encapsulated caches.
+   */
+  public enum FetchMode {
+    /** Query the caches one after the other, stopping at the first hit. */
+    SEQUENTIAL,
+    /**
+     * Query the local dir caches one after the other, then, if they all missed, all the other
+     * caches at once, and use the first hit.
+     */
+    PARALLEL,
+  }
+
   private final ImmutableList<ArtifactCache> artifactCaches;
   private final ImmutableList<ArtifactCache> writableArtifactCaches;
+  /** Indexes of the dir caches, which a parallel fetch queries before the other caches. */
+  private final ImmutableList<Integer> localTiers;
+  /** Indexes of the caches which a parallel fetch queries concurrently. */
+  private final ImmutableList<Integer> remoteTiers;
   private final boolean isStoreSupported;
+  private final Optional<ListeningExecutorService> parallelFetchExecutor;
+  private final Optional<BuckEventBus> buckEventBus;
+  private final ImmutableList<AtomicLongArray> fetchLatencyBucketCounts;
 
   public MultiArtifactCache(ImmutableList<ArtifactCache> artifactCaches) {
+    this(artifactCaches, FetchMode.SEQUENTIAL, Optional.empty());
+  }
+
+  /**
+   * @param buckEventBus if present, receives the fetch latency histograms of each cache when this
+   *     cache is closed.
+   */
+  public MultiArtifactCache(
+      ImmutableList<ArtifactCache> artifactCaches,
+      FetchMode fetchMode,
+      Optional<BuckEventBus> buckEventBus) {
     this.artifactCaches = artifactCaches;
     this.writableArtifactCaches = artifactCaches.stream()
         .filter(c -> c.getCacheReadMode().equals(CacheReadMode.READWRITE))
         .collect(MoreCollectors.toImmutableList());
     this.isStoreSupported = this.writableArtifactCaches.size() > 0;
+    ImmutableList.Builder<Integer> localTiers = ImmutableList.builder();
+    ImmutableList.Builder<Integer> remoteTiers = ImmutableList.builder();
+    for (int i = 0; i < artifactCaches.size(); i++) {
+      (isLocal(artifactCaches.get(i)) ? localTiers : remoteTiers).add(i);
+    }
+    this.localTiers = localTiers.build();
+    this.remoteTiers = remoteTiers.build();
+    this.parallelFetchExecutor = fetchMode == FetchMode.PARALLEL && this.remoteTiers.size() > 1 ?
+        Optional.of(createParallelFetchExecutor(this.remoteTiers.size())) :
+        Optional.empty();
+    this.buckEventBus = buckEventBus;
+    this.fetchLatencyBucketCounts = artifactCaches.stream()
+        .map(c -> new AtomicLongArray(
+            ArtifactCacheEvent.FETCH_LATENCY_BUCKET_BOUNDS_MILLIS.size() + 1))
+        .collect(MoreCollectors.toImmutableList());
+  }
+
+  private static boolean isLocal(ArtifactCache artifactCache) {
+    return artifactCache instanceof DirArtifactCache ||
+        artifactCache instanceof CacheDecorator &&
+            ((CacheDecorator) artifactCache).getDelegate() instanceof DirArtifactCache;
+  }
+
+  /**
+   * Every build thread may fetch from all the remote caches at once, so the pool is bounded by
+   * that, and the fetches of further threads wait for a free one. Its threads exit when they are
+   * idle.
+   */
+  private static ListeningExecutorService createParallelFetchExecutor(int remoteTierCount) {
+    int threads = remoteTierCount * Runtime.getRuntime().availableProcessors();
+    ThreadPoolExecutor executor = new ThreadPoolExecutor(
+        threads,
+        threads,
+        1, TimeUnit.SECONDS,
+        new LinkedBlockingQueue<>(),
+        new MostExecutors.NamedThreadFactory("MultiArtifactCacheFetch"));
+    executor.allowCoreThreadTimeOut(true);
+    return MoreExecutors.listeningDecorator(executor);
   }
 
   /**
@@ -56,10 +147,14 @@ public class MultiArtifactCache implements ArtifactCache {
    */
   @Override
   public CacheResult fetch(RuleKey ruleKey, LazyPath output) {
+    if (parallelFetchExecutor.isPresent()) {
+      return fetchInParallel(parallelFetchExecutor.get(), ruleKey, output);
+    }
     CacheResult cacheResult = CacheResult.miss();
     ImmutableList.Builder<ArtifactCache> priorCaches = ImmutableList.builder();
-    for (ArtifactCache artifactCache : artifactCaches) {
-      cacheResult = artifactCache.fetch(ruleKey, output);
+    for (int i = 0; i < artifactCaches.size(); i++) {
+      ArtifactCache artifactCache = artifactCaches.get(i);
+      cacheResult = fetchAndRecordLatency(i, ruleKey, output);
       if (cacheResult.getType().isSuccess()) {
         break;
       }
@@ -81,6 +176,144 @@ public class MultiArtifactCache implements ArtifactCache {
     return cacheResult;
   }
 
+  /**
+   * Queries the local caches in turn, and if they all missed, all the remote caches at once. The
+   * first hit is moved to {@code output}, the remaining fetches are cancelled, and the artifact is
+   * stored to the writable caches which come before the hit in the search order and reported a
+   * miss.
+   */
+  private CacheResult fetchInParallel(
+      ListeningExecutorService executor,
+      RuleKey ruleKey,
+      LazyPath output) {
+    CacheResult[] results = new CacheResult[artifactCaches.size()];
+    for (int tier : localTiers) {
+      results[tier] = fetchAndRecordLatency(tier, ruleKey, output);
+      if (results[tier].getType().isSuccess()) {
+        return storeHit(results, tier, ruleKey, output);
+      }
+    }
+
+    int size = remoteTiers.size();
+    List<TierOutput> tierOutputs = new ArrayList<>(size);
+    List<ListenableFuture<CacheResult>> futures = new ArrayList<>(size);
+    BlockingQueue<Integer> completed = new LinkedBlockingQueue<>();
+    for (int i = 0; i < size; i++) {
+      int index = i;
+      int tier = remoteTiers.get(i);
+      TierOutput tierOutput = new TierOutput(output);
+      tierOutputs.add(tierOutput);
+      ListenableFuture<CacheResult> future = executor.submit(
+          () -> {
+            try {
+              return fetchAndRecordLatency(tier, ruleKey, tierOutput);
+            } finally {
+              tierOutput.finish();
+            }
+          });
+      future.addListener(() -> completed.add(index), MoreExecutors.directExecutor());
+      futures.add(future);
+    }
+
+    int hit = -1;
+    try {
+      for (int remaining = size; remaining > 0 && hit < 0; remaining--) {
+        int index = completed.take();
+        int tier = remoteTiers.get(index);
+        try {
+          results[tier] = futures.get(index).get();
+        } catch (ExecutionException e) {
+          results[tier] = CacheResult.error("multi", String.valueOf(e.getCause()));
+        }
+        if (results[tier].getType().isSuccess()) {
+          hit = index;
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      abandon(futures, tierOutputs, -1);
+      return CacheResult.error("multi", "Interrupted while fetching " + ruleKey);
+    }
+    abandon(futures, tierOutputs, hit);
+
+    if (hit < 0) {
+      // Like a sequential fetch which missed everywhere, report the result of the last cache.
+      return results[artifactCaches.size() - 1];
+    }
+
+    int tier = remoteTiers.get(hit);
+    TierOutput hitOutput = tierOutputs.get(hit);
+    try {
+      Optional<Path> fetchedPath = hitOutput.getCreatedPath();
+      if (fetchedPath.isPresent()) {
+        Files.move(fetchedPath.get(), output.get(), StandardCopyOption.REPLACE_EXISTING);
+      }
+    } catch (IOException e) {
+      LOG.warn(e, "Could not move artifact fetched for %s.", ruleKey);
+      hitOutput.abandon();
+      return CacheResult.error(results[tier].getCacheSource(), e.toString());
+    }
+    return storeHit(results, tier, ruleKey, output);
+  }
+
+  /**
+   * Stores the artifact fetched from {@code hit} to the writable caches which come before it in
+   * the search order and were queried.
+   */
+  private CacheResult storeHit(CacheResult[] results, int hit, RuleKey ruleKey, LazyPath output) {
+    ImmutableList.Builder<ArtifactCache> priorCaches = ImmutableList.builder();
+    for (int i = 0; i < hit; i++) {
+      if (results[i] != null && artifactCaches.get(i).getCacheReadMode().isWritable()) {
+        priorCaches.add(artifactCaches.get(i));
+      }
+    }
+    storeToCaches(
+        priorCaches.build(),
+        ArtifactInfo.builder()
+            .addRuleKeys(ruleKey)
+            .setMetadata(results[hit].getMetadata())
+            .build(),
+        BorrowablePath.notBorrowablePath(output.getUnchecked()));
+    return results[hit];
+  }
+
+  private static void abandon(
+      List<ListenableFuture<CacheResult>> futures,
+      List<TierOutput> tierOutputs,
+      int hit) {
+    for (int i = 0; i < futures.size(); i++) {
+      if (i != hit) {
+        futures.get(i).cancel(/* mayInterruptIfRunning */ true);
+        tierOutputs.get(i).abandon();
+      }
+    }
+  }
+
+  private CacheResult fetchAndRecordLatency(int tier, RuleKey ruleKey, LazyPath output) {
+    long startNanos = System.nanoTime();
+    CacheResult cacheResult = artifactCaches.get(tier).fetch(ruleKey, output);
+    long latencyMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    fetchLatencyBucketCounts.get(tier)
+        .incrementAndGet(ArtifactCacheEvent.getFetchLatencyBucket(latencyMillis));
+    return cacheResult;
+  }
+
+  @VisibleForTesting
+  ImmutableMap<String, ImmutableList<Long>> getFetchLatencyHistograms() {
+    ImmutableMap.Builder<String, ImmutableList<Long>> histograms = ImmutableMap.builder();
+    for (int i = 0; i < artifactCaches.size(); i++) {
+      AtomicLongArray counts = fetchLatencyBucketCounts.get(i);
+      ImmutableList.Builder<Long> histogram = ImmutableList.builder();
+      for (int bucket = 0; bucket < counts.length(); bucket++) {
+        histogram.add(counts.get(bucket));
+      }
+      histograms.put(
+          String.format("%d:%s", i, artifactCaches.get(i).getClass().getSimpleName()),
+          histogram.build());
+    }
+    return histograms.build();
+  }
+
   private static ListenableFuture<Void> storeToCaches(
       ImmutableList<ArtifactCache> caches,
       ArtifactInfo info,
@@ -120,6 +353,10 @@ public class MultiArtifactCache implements ArtifactCache {
 
   @Override
   public void close() {
+    parallelFetchExecutor.ifPresent(ListeningExecutorService::shutdownNow);
+    buckEventBus.ifPresent(
+        eventBus -> eventBus.post(
+            ArtifactCacheEvent.fetchLatencyHistograms(getFetchLatencyHistograms())));
     Optional<RuntimeException> throwable = Optional.empty();
     for (ArtifactCache artifactCache : artifactCaches) {
       try {
@@ -137,4 +374,67 @@ public class MultiArtifactCache implements ArtifactCache {
   ImmutableList<ArtifactCache> getArtifactCaches() {
     return ImmutableList.copyOf(artifactCaches);
   }
+
+  /**
+   * A temporary file, next to the final output, which one of the caches fetches into during a
+   * parallel fetch. Once the fetch finished and the file was either moved to the final output or
+   * abandoned, it is deleted.
+   */
+  private static class TierOutput extends LazyPath {
+    private final LazyPath output;
+
+    @Nullable
+    private volatile Path createdPath;
+
+    @GuardedBy("this")
+    private boolean finished = false;
+
+    @GuardedBy("this")
+    private boolean abandoned = false;
+
+    TierOutput(LazyPath output) {
+      this.output = output;
+    }
+
+    @Override
+    protected Path create() throws IOException {
+      Path outputPath = output.get();
+      createdPath = Files.createTempFile(
+          outputPath.toAbsolutePath().getParent(),
+          outputPath.getFileName().toString(),
+          ".fetch");
+      return createdPath;
+    }
+
+    Optional<Path> getCreatedPath() {
+      return Optional.ofNullable(createdPath);
+    }
+
+    synchronized void finish() {
+      finished = true;
+      if (abandoned) {
+        delete();
+      }
+    }
+
+    synchronized void abandon() {
+      abandoned = true;
+      if (finished) {
+        delete();
+      }
+    }
+
+    @GuardedBy("this")
+    private void delete() {
+      Path path = createdPath;
+      if (path == null) {
+        return;
+      }
+      try {
+        Files.deleteIfExists(path);
+      } catch (IOException e) {
+        LOG.warn(e, "Could not delete %s.", path);
+      }
+    }
+  }
 }
@@ -139,11 +139,14 @@ public class ThriftArtifactCache extends AbstractNetworkCache {
         }
 
         LOG.verbose("Got artifact.  Attempting to read payload.");
-        Path tmp = createTempFileForDownload();
+        Path tmp = createTempFileForDownload(output.get());
         ThriftArtifactCacheProtocol.Response.ReadPayloadInfo readResult;
         try (OutputStream tmpFile = projectFilesystem.newFileOutputStream(tmp)) {
           readResult = response.readPayload(tmpFile);
           LOG.verbose("Successfully read payload: %d bytes.", readResult.getBytesRead());
+        } catch (IOException e) {
+          projectFilesystem.deleteFileAtPathIfExists(tmp);
+          throw e;
         }
 
         ArtifactMetadata metadata = fetchResponse.getMetadata();
@@ -171,6 +174,7 @@ public class ThriftArtifactCache extends AbstractNetworkCache {
                 fetchResponse.getMetadata().getArtifactPayloadMd5(),
                 readResult.getMd5Hash());
             LOG.error(msg);
+            projectFilesystem.deleteFileAtPathIfExists(tmp);
             return CacheResult.error(name, msg);
           }
         }
@@ -271,11 +275,16 @@ public class ThriftArtifactCache extends AbstractNetworkCache {
     }
   }
 
-  private Path createTempFileForDownload() throws IOException {
-    projectFilesystem.mkdirs(projectFilesystem.getBuckPaths().getScratchDir());
+  /**
+   * Creates the file the payload is downloaded to next to {@code output}, so that moving it into
+   * place is a rename rather than another copy of the payload when {@code output} is on a
+   * different file system than buck-out.
+   */
+  private Path createTempFileForDownload(Path output) throws IOException {
+    projectFilesystem.createParentDirs(output);
     return projectFilesystem.createTempFile(
-        projectFilesystem.getBuckPaths().getScratchDir(),
-        "buckcache_artifact",
+        output.getParent(),
+        output.getFileName().toString(),
         ".tmp");
   }
 
@@ -116,7 +116,12 @@ public class BserDeserializer {
     }
   }
 
-  private ByteBuffer readBserBuffer(InputStream inputStream) throws IOException {
+  /**
+   * Reads the next BSER-encoded value from the stream, without decoding it.
+   *
+   * @return a buffer in native byte order, positioned at the start of the encoded value.
+   */
+  public static ByteBuffer readBserBuffer(InputStream inputStream) throws IOException {
     ByteBuffer sniffBuffer = ByteBuffer.allocate(SNIFF_BUFFER_SIZE).order(ByteOrder.nativeOrder());
     Preconditions.checkState(sniffBuffer.hasArray());
 
@@ -187,7 +192,7 @@ public class BserDeserializer {
     return bserBuffer;
   }
 
-  private int deserializeIntLen(ByteBuffer buffer, byte type) throws IOException {
+  private static int deserializeIntLen(ByteBuffer buffer, byte type) throws IOException {
     long value = deserializeNumber(buffer, type).longValue();
     if (value > Integer.MAX_VALUE) {
       throw new IOException(
@@ -204,7 +209,7 @@ public class BserDeserializer {
     return (int) value;
   }
 
-  private Number deserializeNumber(ByteBuffer buffer, byte type) throws IOException {
+  private static Number deserializeNumber(ByteBuffer buffer, byte type) throws IOException {
     switch (type) {
       case BSER_INT8:
         return buffer.get();
@@ -581,6 +581,44 @@ public class BuckConfig implements ConfigPathGetter {
     return getBooleanValue("cache", "action_graph_cache_check_enabled", false);
   }
 
+  /**
+   * @return the maximum number of action graphs the daemon keeps in memory.
+   */
+  public int getMaxActionGraphCacheEntries() {
+    return getInteger("cache", "max_action_graph_cache_entries").orElse(1);
+  }
+
+  /**
+   * @return the fraction of the maximum heap above which the daemon only keeps the most recently
+   *     used action graph in memory.
+   */
+  public float getActionGraphCacheMaxHeapUsageRatio() {
+    return getFloat("cache", "action_graph_cache_max_heap_usage_ratio").orElse(0.8f);
+  }
+
+  public boolean isIncrementalActionGraphEnabled() {
+    return getBooleanValue("cache", "incremental_action_graph", false);
+  }
+
+  /**
+   * @return the number of threads used to create the build rules of an action graph.
+   */
+  public int getActionGraphParallelism() {
+    return getInteger("build", "action_graph_threads").orElse(1);
+  }
+
+  /**
+   * @return whether the daemon should keep the hashes of source files on disk, so that they can
+   *     be reused after it restarts.
+   */
+  public boolean isPersistentFileHashCacheEnabled() {
+    return getBooleanValue("build", "persistent_file_hash_cache", false);
+  }
+
+  public boolean isPersistentRuleKeyCacheEnabled() {
+    return getBooleanValue("build", "persistent_rule_key_cache", false);
+  }
+
   public Optional<String> getRepository() {
     return config.get("cache", "repository");
   }
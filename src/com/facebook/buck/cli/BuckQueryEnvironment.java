@@ -29,6 +29,7 @@ import com.facebook.buck.model.BuildFileTree;
 import com.facebook.buck.model.BuildTarget;
 import com.facebook.buck.model.BuildTargetException;
 import com.facebook.buck.model.FilesystemBackedBuildFileTree;
+import com.facebook.buck.parser.CachedQueryGraph;
 import com.facebook.buck.parser.PerBuildState;
 import com.facebook.buck.query.QueryBuildTarget;
 import com.facebook.buck.query.QueryEnvironment;
@@ -87,15 +88,27 @@ public class BuckQueryEnvironment implements QueryEnvironment {
   private final Map<BuildTarget, QueryTarget> buildTargetToQueryTarget = new HashMap<>();
 
   // Query execution is single threaded, however the buildTransitiveClosure implementation
-  // traverses the graph in parallel.
-  private MutableDirectedGraph<TargetNode<?, ?>> graph = MutableDirectedGraph.createConcurrent();
-  private Map<BuildTarget, TargetNode<?, ?>> targetsToNodes = new ConcurrentHashMap<>();
+  // traverses the graph in parallel. When running in the daemon, the graph is kept between
+  // commands, minus the nodes invalidated by file changes.
+  private final CachedQueryGraph cachedQueryGraph;
+  private final MutableDirectedGraph<TargetNode<?, ?>> graph;
+  private final Map<BuildTarget, TargetNode<?, ?>> targetsToNodes;
+
+  // The graph only ever grows, so once the closure of a set has been fully built it can be reused
+  // by later operators working over the same universe, e.g. `rdeps(//..., a) + rdeps(//..., b)`.
+  private final Map<Set<QueryTarget>, ImmutableSet<QueryTarget>> transitiveClosures =
+      new HashMap<>();
 
   private BuckQueryEnvironment(
       Cell rootCell,
       OwnersReport.Builder ownersReportBuilder,
       PerBuildState parserState,
-      TargetPatternEvaluator targetPatternEvaluator) {
+      TargetPatternEvaluator targetPatternEvaluator,
+      CachedQueryGraph cachedQueryGraph) {
+    cachedQueryGraph.ensureValidFor(rootCell);
+    this.cachedQueryGraph = cachedQueryGraph;
+    this.graph = cachedQueryGraph.getGraph();
+    this.targetsToNodes = cachedQueryGraph.getTargetsToNodes();
     this.parserState = parserState;
     this.rootCell = rootCell;
     this.ownersReportBuilder = ownersReportBuilder;
@@ -112,8 +125,22 @@ public class BuckQueryEnvironment implements QueryEnvironment {
       OwnersReport.Builder ownersReportBuilder,
       PerBuildState parserState,
       TargetPatternEvaluator targetPatternEvaluator) {
+    return from(
+        rootCell,
+        ownersReportBuilder,
+        parserState,
+        targetPatternEvaluator,
+        new CachedQueryGraph());
+  }
+
+  public static BuckQueryEnvironment from(
+      Cell rootCell,
+      OwnersReport.Builder ownersReportBuilder,
+      PerBuildState parserState,
+      TargetPatternEvaluator targetPatternEvaluator,
+      CachedQueryGraph cachedQueryGraph) {
     return new BuckQueryEnvironment(
-        rootCell, ownersReportBuilder, parserState, targetPatternEvaluator
+        rootCell, ownersReportBuilder, parserState, targetPatternEvaluator, cachedQueryGraph
     );
   }
 
@@ -134,7 +161,8 @@ public class BuckQueryEnvironment implements QueryEnvironment {
             params.getParser(),
             params.getBuckEventBus(),
             enableProfiling
-        )
+        ),
+        params.getParser().getCachedQueryGraph()
     );
   }
 
@@ -204,8 +232,14 @@ public class BuckQueryEnvironment implements QueryEnvironment {
           target,
           target.getClass().getName()));
     }
+    BuildTarget buildTarget = ((QueryBuildTarget) target).getBuildTarget();
+    // Nodes loaded while building a transitive closure don't need to go through the parser again.
+    TargetNode<?, ?> node = targetsToNodes.get(buildTarget);
+    if (node != null) {
+      return node;
+    }
     try {
-      return parserState.getTargetNode(((QueryBuildTarget) target).getBuildTarget());
+      return parserState.getTargetNode(buildTarget);
     } catch (BuildTargetException | BuildFileParseException e) {
       throw new QueryException(e, "Error getting target node for %s\n%s", target, e.getMessage());
     }
@@ -280,6 +314,11 @@ public class BuckQueryEnvironment implements QueryEnvironment {
   @Override
   public ImmutableSet<QueryTarget> getTransitiveClosure(Set<QueryTarget> targets)
       throws QueryException, InterruptedException {
+    ImmutableSet<QueryTarget> cachedClosure = transitiveClosures.get(targets);
+    if (cachedClosure != null) {
+      return cachedClosure;
+    }
+
     Set<TargetNode<?, ?>> nodes = new LinkedHashSet<>();
     for (QueryTarget target : targets) {
       nodes.add(getNode(target));
@@ -288,15 +327,15 @@ public class BuckQueryEnvironment implements QueryEnvironment {
 
     new AbstractBreadthFirstTraversal<TargetNode<?, ?>>(nodes) {
       @Override
-      public ImmutableSet<TargetNode<?, ?>>visit(TargetNode<?, ?> node) {
+      public Iterable<TargetNode<?, ?>> visit(TargetNode<?, ?> node) {
         result.add(getOrCreateQueryBuildTarget(node.getBuildTarget()));
-        return node.getParseDeps().stream()
-            .map(targetsToNodes::get)
-            .collect(MoreCollectors.toImmutableSet());
+        return graph.getOutgoingNodesFor(node);
       }
     }.start();
 
-    return result.build();
+    ImmutableSet<QueryTarget> closure = result.build();
+    transitiveClosures.put(ImmutableSet.copyOf(targets), closure);
+    return closure;
   }
 
   @Override
@@ -319,12 +358,14 @@ public class BuckQueryEnvironment implements QueryEnvironment {
     ConcurrentHashMap<BuildTarget, ListenableFuture<TargetNode<?, ?>>> jobsCache =
         new ConcurrentHashMap<>();
 
+    boolean succeeded = false;
     try {
       List<ListenableFuture<TargetNode<?, ?>>> depsFuture = new ArrayList<>();
       for (BuildTarget buildTarget : newBuildTargets) {
         depsFuture.add(buildTransitiveClosureRecursiveWorker(buildTarget, jobsCache));
       }
       Futures.allAsList(depsFuture).get();
+      succeeded = true;
     } catch (ExecutionException e) {
       if (e.getCause() != null) {
         throw new QueryException(e.getCause(), "Failed parsing: " + e.getLocalizedMessage());
@@ -334,6 +375,11 @@ public class BuckQueryEnvironment implements QueryEnvironment {
     } catch (BuildFileParseException | BuildTargetException e) {
       throw new QueryException(
           e, "Failed parsing: " + MoreExceptions.getHumanReadableOrLocalizedMessage(e));
+    } finally {
+      if (!succeeded) {
+        // Nodes whose dependencies failed to load would be considered complete by later queries.
+        cachedQueryGraph.invalidateAll();
+      }
     }
 
     if (!newBuildTargets.isEmpty()) {
@@ -353,6 +399,12 @@ public class BuckQueryEnvironment implements QueryEnvironment {
     if (job != null) {
       return job;
     }
+    // Nodes loaded by an earlier call already have their whole transitive closure in the graph.
+    // Those loaded by this call are in jobsCache, so they were handled above.
+    TargetNode<?, ?> loadedNode = targetsToNodes.get(buildTarget);
+    if (loadedNode != null) {
+      return Futures.immediateFuture(loadedNode);
+    }
     SettableFuture<TargetNode<?, ?>> newJob = SettableFuture.create();
     if (jobsCache.putIfAbsent(buildTarget, newJob) != null) {
       return Preconditions.checkNotNull(jobsCache.get(buildTarget));
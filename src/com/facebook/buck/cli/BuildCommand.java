@@ -34,6 +34,7 @@ import com.facebook.buck.distributed.DistBuildTargetGraphCodec;
 import com.facebook.buck.distributed.thrift.BuckVersion;
 import com.facebook.buck.distributed.thrift.BuildJobState;
 import com.facebook.buck.event.BuckEventBus;
+import com.facebook.buck.event.ConsoleEvent;
 import com.facebook.buck.io.ProjectFilesystem;
 import com.facebook.buck.json.BuildFileParseException;
 import com.facebook.buck.jvm.java.JavaBuckConfig;
@@ -51,17 +52,20 @@ import com.facebook.buck.rules.ActionGraphAndResolver;
 import com.facebook.buck.rules.BuildEngine;
 import com.facebook.buck.rules.BuildEvent;
 import com.facebook.buck.rules.BuildRule;
+import com.facebook.buck.rules.BuildRuleDurationHistory;
 import com.facebook.buck.rules.BuildRuleResolver;
 import com.facebook.buck.rules.CachingBuildEngine;
 import com.facebook.buck.rules.CachingBuildEngineBuckConfig;
 import com.facebook.buck.rules.CachingBuildEngineDelegate;
 import com.facebook.buck.rules.Cell;
+import com.facebook.buck.rules.CriticalPathEstimator;
 import com.facebook.buck.rules.coercer.ConstructorArgMarshaller;
 import com.facebook.buck.rules.LocalCachingBuildEngineDelegate;
 import com.facebook.buck.rules.RuleKey;
 import com.facebook.buck.rules.SourcePath;
 import com.facebook.buck.rules.SourcePathResolver;
 import com.facebook.buck.rules.SourcePathRuleFinder;
+import com.facebook.buck.rules.TargetGraph;
 import com.facebook.buck.rules.TargetGraphAndBuildTargets;
 import com.facebook.buck.rules.TargetNode;
 import com.facebook.buck.rules.TargetNodeFactory;
@@ -70,6 +74,7 @@ import com.facebook.buck.rules.coercer.PathTypeCoercer;
 import com.facebook.buck.rules.coercer.TypeCoercerFactory;
 import com.facebook.buck.rules.keys.DefaultRuleKeyFactory;
 import com.facebook.buck.rules.keys.RuleKeyCacheRecycler;
+import com.facebook.buck.rules.keys.RuleKeyCacheSnapshot;
 import com.facebook.buck.rules.keys.RuleKeyCacheScope;
 import com.facebook.buck.rules.keys.RuleKeyFactories;
 import com.facebook.buck.rules.keys.RuleKeyFieldLoader;
@@ -96,14 +101,19 @@ import com.google.common.base.Supplier;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedMap;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Iterators;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 import com.google.common.util.concurrent.ListeningExecutorService;
 
 import org.kohsuke.args4j.Argument;
 import org.kohsuke.args4j.Option;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -501,7 +511,11 @@ public class BuildCommand extends AbstractCommand {
           params.getFileHashCache(),
           jobState);
     } else {
-      exitCode = executeLocalBuild(params, graphs.actionGraph, executorService);
+      exitCode = executeLocalBuild(
+          params,
+          graphs.actionGraph,
+          graphs.getTargetGraphForLocalBuild().getTargetGraph(),
+          executorService);
     }
     if (exitCode == 0) {
       exitCode = processSuccessfulBuild(
@@ -672,7 +686,11 @@ public class BuildCommand extends AbstractCommand {
           LOG.error(errorMessage);
         }
 
-        return executeLocalBuild(params, graphs.actionGraph, executorService);
+        return executeLocalBuild(
+            params,
+            graphs.actionGraph,
+            graphs.getTargetGraphForLocalBuild().getTargetGraph(),
+            executorService);
       } else {
         return distBuildExitCode;
       }
@@ -806,6 +824,7 @@ public class BuildCommand extends AbstractCommand {
   protected int executeLocalBuild(
       CommandRunnerParams params,
       ActionGraphAndResolver actionGraphAndResolver,
+      TargetGraph targetGraph,
       WeightedListeningExecutorService executor)
       throws IOException, InterruptedException {
 
@@ -817,6 +836,7 @@ public class BuildCommand extends AbstractCommand {
     return executeBuild(
         params,
         actionGraphAndResolver,
+        targetGraph,
         executor,
         artifactCache,
         new LocalCachingBuildEngineDelegate(params.getFileHashCache()),
@@ -827,6 +847,7 @@ public class BuildCommand extends AbstractCommand {
   private int executeBuild(
       CommandRunnerParams params,
       ActionGraphAndResolver actionGraphAndResolver,
+      TargetGraph targetGraph,
       WeightedListeningExecutorService executor,
       ArtifactCache artifactCache,
       CachingBuildEngineDelegate cachingBuildEngineDelegate,
@@ -834,6 +855,22 @@ public class BuildCommand extends AbstractCommand {
       Iterable<BuildTarget> targetsToBuild) throws IOException, InterruptedException {
     CachingBuildEngineBuckConfig cachingBuildEngineBuckConfig =
         rootCellBuckConfig.getView(CachingBuildEngineBuckConfig.class);
+    Optional<CriticalPathEstimator> criticalPathEstimator = Optional.empty();
+    if (cachingBuildEngineBuckConfig.isCriticalPathSchedulingEnabled()) {
+      ImmutableList.Builder<BuildRule> rulesToBuild = ImmutableList.builder();
+      for (BuildTarget target : targetsToBuild) {
+        actionGraphAndResolver.getResolver().getRuleOptional(target).ifPresent(rulesToBuild::add);
+      }
+      criticalPathEstimator = Optional.of(
+          new CriticalPathEstimator(
+              BuildRuleDurationHistory.load(params.getCell().getFilesystem()),
+              rulesToBuild.build()));
+    }
+    Optional<HashCode> ruleKeyCacheFingerprint = Optional.empty();
+    if (rootCellBuckConfig.isPersistentRuleKeyCacheEnabled()) {
+      ruleKeyCacheFingerprint = Optional.of(
+          getRuleKeyCacheFingerprint(params.getCell(), rootCellBuckConfig));
+    }
     try (CommandThreadManager artifactFetchService =
              getArtifactFetchService(params.getBuckConfig(), executor);
          RuleKeyCacheScope<RuleKey> ruleKeyCacheScope =
@@ -841,51 +878,157 @@ public class BuildCommand extends AbstractCommand {
                  params,
                  new RuleKeyCacheRecycler.SettingsAffectingCache(
                      rootCellBuckConfig.getKeySeed(),
-                     actionGraphAndResolver.getActionGraph()));
-         CachingBuildEngine buildEngine = new CachingBuildEngine(
-             cachingBuildEngineDelegate,
-             executor,
-             artifactFetchService.getExecutor(),
-             new DefaultStepRunner(),
-             getBuildEngineMode().orElse(cachingBuildEngineBuckConfig.getBuildEngineMode()),
-             cachingBuildEngineBuckConfig.getBuildMetadataStorage(),
-             cachingBuildEngineBuckConfig.getBuildDepFiles(),
-             cachingBuildEngineBuckConfig.getBuildMaxDepFileCacheEntries(),
-             cachingBuildEngineBuckConfig.getBuildArtifactCacheSizeLimit(),
-             actionGraphAndResolver.getResolver(),
-             cachingBuildEngineBuckConfig.getResourceAwareSchedulingInfo(),
-             RuleKeyFactories.of(
-                 rootCellBuckConfig.getKeySeed(),
-                 cachingBuildEngineDelegate.getFileHashCache(),
-                 actionGraphAndResolver.getResolver(),
-                 cachingBuildEngineBuckConfig.getBuildInputRuleKeyFileSizeLimit(),
-                 ruleKeyCacheScope.getCache()));
-         Build build =
-             createBuild(
-               rootCellBuckConfig,
-               actionGraphAndResolver.getActionGraph(),
+                     actionGraphAndResolver.getActionGraph()))) {
+      // The rule keys of a previous process are only worth reusing when the cache starts empty,
+      // e.g. in a new daemon, and are only saved again when some of them had to be computed.
+      long missCountBeforeBuild = ruleKeyCacheScope.getCache().getStats().missCount();
+      Optional<RuleKeyCacheSnapshot> ruleKeyCacheSnapshot = Optional.empty();
+      if (ruleKeyCacheFingerprint.isPresent() && missCountBeforeBuild == 0) {
+        ruleKeyCacheSnapshot = RuleKeyCacheSnapshot.load(
+            params.getCell().getFilesystem(),
+            ruleKeyCacheFingerprint.get(),
+            target -> getTargetNodeHash(targetGraph, target));
+      }
+      try (CachingBuildEngine buildEngine = new CachingBuildEngine(
+               cachingBuildEngineDelegate,
+               executor,
+               artifactFetchService.getExecutor(),
+               new DefaultStepRunner(),
+               getBuildEngineMode().orElse(cachingBuildEngineBuckConfig.getBuildEngineMode()),
+               cachingBuildEngineBuckConfig.getBuildMetadataStorage(),
+               cachingBuildEngineBuckConfig.getBuildDepFiles(),
+               cachingBuildEngineBuckConfig.getBuildMaxDepFileCacheEntries(),
+               cachingBuildEngineBuckConfig.getBuildArtifactCacheSizeLimit(),
                actionGraphAndResolver.getResolver(),
-               params.getCell(),
-               params.getAndroidPlatformTargetSupplier(),
-               buildEngine,
-               artifactCache,
-               params.getConsole(),
-               params.getBuckEventBus(),
-               Optional.empty(),
-               params.getPersistentWorkerPools(),
-               rootCellBuckConfig.getPlatform(),
-               rootCellBuckConfig.getEnvironment(),
-               params.getClock(),
-               Optional.empty(),
-               Optional.empty(),
-               params.getExecutors())) {
-      lastBuild = build;
-      return build.executeAndPrintFailuresToEventBus(
-          targetsToBuild,
-          isKeepGoing(),
-          params.getBuckEventBus(),
-          params.getConsole(),
-          getPathToBuildReport(rootCellBuckConfig));
+               cachingBuildEngineBuckConfig.getResourceAwareSchedulingInfo(),
+               RuleKeyFactories.of(
+                   rootCellBuckConfig.getKeySeed(),
+                   cachingBuildEngineDelegate.getFileHashCache(),
+                   actionGraphAndResolver.getResolver(),
+                   cachingBuildEngineBuckConfig.getBuildInputRuleKeyFileSizeLimit(),
+                   ruleKeyCacheScope.getCache(),
+                   ruleKeyCacheSnapshot),
+               criticalPathEstimator);
+           Build build =
+               createBuild(
+                 rootCellBuckConfig,
+                 actionGraphAndResolver.getActionGraph(),
+                 actionGraphAndResolver.getResolver(),
+                 params.getCell(),
+                 params.getAndroidPlatformTargetSupplier(),
+                 buildEngine,
+                 artifactCache,
+                 params.getConsole(),
+                 params.getBuckEventBus(),
+                 Optional.empty(),
+                 params.getPersistentWorkerPools(),
+                 rootCellBuckConfig.getPlatform(),
+                 rootCellBuckConfig.getEnvironment(),
+                 params.getClock(),
+                 Optional.empty(),
+                 Optional.empty(),
+                 params.getExecutors())) {
+        lastBuild = build;
+        int exitCode = build.executeAndPrintFailuresToEventBus(
+            targetsToBuild,
+            isKeepGoing(),
+            params.getBuckEventBus(),
+            params.getConsole(),
+            getPathToBuildReport(rootCellBuckConfig));
+        if (criticalPathEstimator.isPresent()) {
+          reportCriticalPath(params.getBuckEventBus(), criticalPathEstimator.get());
+          criticalPathEstimator.get().getUpdatedHistory().save(params.getCell().getFilesystem());
+        }
+        if (ruleKeyCacheFingerprint.isPresent() &&
+            ruleKeyCacheScope.getCache().getStats().missCount() > missCountBeforeBuild) {
+          RuleKeyCacheSnapshot.capture(
+              ruleKeyCacheFingerprint.get(),
+              ruleKeyCacheScope.getCache().getCachedBuildRuleResults(),
+              cachingBuildEngineDelegate.getFileHashCache(),
+              target -> getTargetNodeHash(targetGraph, target))
+              .save(params.getCell().getFilesystem());
+        }
+        return exitCode;
+      }
+    }
+  }
+
+  /**
+   * @return a hash of the settings the rule keys are computed with. Changing any of them discards
+   *     the whole snapshot, while {@link RuleKeyCacheSnapshot} validates each rule against its own
+   *     target node, inputs and deps.
+   */
+  private static HashCode getRuleKeyCacheFingerprint(
+      Cell rootCell,
+      BuckConfig rootCellBuckConfig) {
+    Hasher hasher = Hashing.sha1().newHasher();
+    hasher.putInt(rootCellBuckConfig.getKeySeed());
+    putString(hasher, com.facebook.buck.model.BuckVersion.getVersion());
+    for (Map.Entry<String, String> entry :
+        ImmutableSortedMap.copyOf(rootCellBuckConfig.getEnvironment()).entrySet()) {
+      putString(hasher, entry.getKey());
+      putString(hasher, entry.getValue());
+    }
+    for (Cell cell : rootCell.getAllCells()) {
+      putString(hasher, cell.getRoot().toString());
+      for (Map.Entry<String, ImmutableMap<String, String>> section :
+          ImmutableSortedMap.copyOf(cell.getBuckConfig().getRawConfigForDistBuild()).entrySet()) {
+        putString(hasher, section.getKey());
+        for (Map.Entry<String, String> entry :
+            ImmutableSortedMap.copyOf(section.getValue()).entrySet()) {
+          putString(hasher, entry.getKey());
+          putString(hasher, entry.getValue());
+        }
+      }
+    }
+    return hasher.hash();
+  }
+
+  /**
+   * @return the hash of the build file entry {@code target} comes from. Flavored rules are looked
+   *     up by their unflavored target first, as the flavors do not change the hash and copying
+   *     the node with them is costly.
+   */
+  private static Optional<HashCode> getTargetNodeHash(
+      TargetGraph targetGraph,
+      BuildTarget target) {
+    Optional<TargetNode<?, ?>> node =
+        targetGraph.getOptional(BuildTarget.of(target.getUnflavoredBuildTarget()));
+    if (!node.isPresent()) {
+      node = targetGraph.getOptional(target);
+    }
+    return node.map(TargetNode::getRawInputsHashCode);
+  }
+
+  private static void putString(Hasher hasher, String val) {
+    // Prefixed with the length so that consecutive strings cannot be confused.
+    hasher.putInt(val.length());
+    hasher.putString(val, StandardCharsets.UTF_8);
+  }
+
+  private static void reportCriticalPath(
+      BuckEventBus eventBus,
+      CriticalPathEstimator criticalPathEstimator) {
+    ImmutableList<BuildRule> estimatedPath = criticalPathEstimator.getEstimatedCriticalPath();
+    ImmutableList<BuildRule> measuredPath = criticalPathEstimator.getMeasuredCriticalPath();
+    if (measuredPath.isEmpty()) {
+      return;
+    }
+    eventBus.post(
+        ConsoleEvent.fine(
+            "Critical path: estimated %d ms through %d rules, took %d ms through %d rules.",
+            estimatedPath.stream().mapToLong(criticalPathEstimator::getEstimatedWallMillis).sum(),
+            estimatedPath.size(),
+            measuredPath.stream().mapToLong(criticalPathEstimator::getMeasuredWallMillis).sum(),
+            measuredPath.size()));
+    if (LOG.isDebugEnabled()) {
+      for (BuildRule rule : measuredPath) {
+        LOG.debug(
+            "On the critical path: %s, estimated %d ms, took %d ms.",
+            rule,
+            criticalPathEstimator.getEstimatedWallMillis(rule),
+            criticalPathEstimator.getMeasuredWallMillis(rule));
+      }
     }
   }
 
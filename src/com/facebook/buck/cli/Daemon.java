@@ -39,9 +39,11 @@ import com.facebook.buck.rules.coercer.TypeCoercerFactory;
 import com.facebook.buck.rules.keys.DefaultRuleKeyCache;
 import com.facebook.buck.rules.keys.RuleKeyCacheRecycler;
 import com.facebook.buck.shell.WorkerProcessPool;
+import com.facebook.buck.timing.DefaultClock;
 import com.facebook.buck.util.RichStream;
 import com.facebook.buck.util.WatchmanWatcher;
 import com.facebook.buck.util.cache.DefaultFileHashCache;
+import com.facebook.buck.util.cache.PersistentFileHashStore;
 import com.facebook.buck.util.cache.ProjectFileHashCache;
 import com.facebook.buck.util.cache.WatchedFileHashCache;
 import com.facebook.buck.versions.VersionedTargetGraphCache;
@@ -69,9 +71,12 @@ final class Daemon implements Closeable {
   private static final String STATIC_CONTENT_DIRECTORY = System.getProperty(
       "buck.path_to_static_content", "webserver/static");
 
+  private static final String PERSISTENT_FILE_HASH_STORE_NAME = ".file_hashes";
+
   private final Cell rootCell;
   private final Parser parser;
   private final ImmutableList<ProjectFileHashCache> hashCaches;
+  private final ImmutableList<PersistentFileHashStore> persistentFileHashStores;
   private final EventBus fileEventBus;
   private final Optional<WebServer> webServer;
   private final ConcurrentMap<String, WorkerProcessPool> persistentWorkerPools;
@@ -91,11 +96,21 @@ final class Daemon implements Closeable {
 
     // Setup the stacked file hash cache from all cells.
     ImmutableList.Builder<ProjectFileHashCache> hashCachesBuilder = ImmutableList.builder();
+    ImmutableList.Builder<PersistentFileHashStore> persistentFileHashStoresBuilder =
+        ImmutableList.builder();
+    boolean persistentFileHashCache = rootCell.getBuckConfig().isPersistentFileHashCacheEnabled();
     allCells.forEach(subCell -> {
-      WatchedFileHashCache watchedCache = new WatchedFileHashCache(subCell.getFilesystem());
+      Optional<PersistentFileHashStore> persistentStore = Optional.empty();
+      if (persistentFileHashCache) {
+        persistentStore = openPersistentFileHashStore(subCell.getFilesystem());
+        persistentStore.ifPresent(persistentFileHashStoresBuilder::add);
+      }
+      WatchedFileHashCache watchedCache =
+          new WatchedFileHashCache(subCell.getFilesystem(), persistentStore);
       fileEventBus.register(watchedCache);
       hashCachesBuilder.add(watchedCache);
     });
+    this.persistentFileHashStores = persistentFileHashStoresBuilder.build();
     hashCachesBuilder.add(
         DefaultFileHashCache.createBuckOutFileHashCache(
             rootCell.getFilesystem().replaceBlacklistedPaths(ImmutableSet.of()),
@@ -103,7 +118,12 @@ final class Daemon implements Closeable {
     this.hashCaches = hashCachesBuilder.build();
 
     this.broadcastEventListener = new BroadcastEventListener();
-    this.actionGraphCache = new ActionGraphCache(broadcastEventListener);
+    this.actionGraphCache = new ActionGraphCache(
+        broadcastEventListener,
+        rootCell.getBuckConfig().getMaxActionGraphCacheEntries(),
+        rootCell.getBuckConfig().getActionGraphCacheMaxHeapUsageRatio(),
+        rootCell.getBuckConfig().isIncrementalActionGraphEnabled(),
+        rootCell.getBuckConfig().getActionGraphParallelism());
     this.versionedTargetGraphCache = new VersionedTargetGraphCache();
 
     TypeCoercerFactory typeCoercerFactory = new DefaultTypeCoercerFactory();
@@ -293,10 +313,35 @@ final class Daemon implements Closeable {
     return cursor;
   }
 
+  private static Optional<PersistentFileHashStore> openPersistentFileHashStore(
+      ProjectFilesystem filesystem) {
+    try {
+      return Optional.of(
+          PersistentFileHashStore.open(
+              filesystem,
+              filesystem.getBuckPaths().getBuckOut().resolve(PERSISTENT_FILE_HASH_STORE_NAME),
+              new DefaultClock()));
+    } catch (IOException e) {
+      LOG.warn(e, "Could not open the persistent file hash cache of %s.", filesystem.getRootPath());
+      return Optional.empty();
+    }
+  }
+
   @Override
   public void close() throws IOException {
     shutdownPersistentWorkerPools();
     shutdownWebServer();
+    closePersistentFileHashStores();
+  }
+
+  private void closePersistentFileHashStores() {
+    for (PersistentFileHashStore store : persistentFileHashStores) {
+      try {
+        store.close();
+      } catch (IOException e) {
+        LOG.error(e);
+      }
+    }
   }
 
   private void shutdownPersistentWorkerPools() {
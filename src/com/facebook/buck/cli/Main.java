@@ -37,6 +37,7 @@ import com.facebook.buck.event.CommandEvent;
 import com.facebook.buck.event.ConsoleEvent;
 import com.facebook.buck.event.DaemonEvent;
 import com.facebook.buck.event.DefaultBuckEventBus;
+import com.facebook.buck.event.FileHashCacheEvent;
 import com.facebook.buck.event.listener.AbstractConsoleEventBusListener;
 import com.facebook.buck.event.listener.BroadcastEventListener;
 import com.facebook.buck.event.listener.CacheRateStatsListener;
@@ -110,6 +111,7 @@ import com.facebook.buck.util.Verbosity;
 import com.facebook.buck.util.WatchmanWatcher;
 import com.facebook.buck.util.WatchmanWatcherException;
 import com.facebook.buck.util.cache.DefaultFileHashCache;
+import com.facebook.buck.util.cache.FileHashingStatistics;
 import com.facebook.buck.util.cache.ProjectFileHashCache;
 import com.facebook.buck.util.cache.StackedFileHashCache;
 import com.facebook.buck.util.concurrent.MostExecutors;
@@ -839,6 +841,7 @@ public final class Main {
               daemon.isPresent(),
               getBuckPID());
           buildEventBus.post(startedEvent);
+          FileHashingStatistics hashingStatisticsAtStart = fileHashCache.getHashingStatistics();
 
           // Create or get Parser and invalidate cached command parameters.
           Parser parser = null;
@@ -857,7 +860,8 @@ public final class Main {
                       .addAll(DEFAULT_IGNORE_GLOBS)
                       .build(),
                   watchman,
-                  daemon.get().getWatchmanCursor());
+                  daemon.get().getWatchmanCursor(),
+                  buckConfig.getView(ParserConfig.class).getWatchmanRecoveryTimeoutMs());
               parser = getParserFromDaemon(
                   daemon.get(),
                   context.get(),
@@ -897,11 +901,12 @@ public final class Main {
                 new ConstructorArgMarshaller(typeCoercerFactory));
           }
 
-          // Because the Parser is potentially constructed before the CounterRegistry,
-          // we need to manually register its counters after it's created.
+          // Because the Parser and ActionGraphCache are potentially constructed before the
+          // CounterRegistry, we need to manually register their counters after they're created.
           //
           // The counters will be unregistered once the counter registry is closed.
           counterRegistry.registerCounters(parser.getCounters());
+          counterRegistry.registerCounters(actionGraphCache.getCounters());
 
           JavaUtilsLoggingBuildListener.ensureLogFileIsWritten(rootCell.getFilesystem());
 
@@ -986,6 +991,13 @@ public final class Main {
               "CounterAggregatorExecutor",
               counterAggregatorExecutor,
               COUNTER_AGGREGATOR_SERVICE_TIMEOUT_SECONDS);
+          FileHashingStatistics hashingStatistics =
+              fileHashCache.getHashingStatistics().minus(hashingStatisticsAtStart);
+          buildEventBus.post(
+              FileHashCacheEvent.hashingStatistics(
+                  hashingStatistics.getFilesHashed(),
+                  hashingStatistics.getBytesHashed(),
+                  hashingStatistics.getHashingNanos()));
           buildEventBus.post(CommandEvent.finished(startedEvent, exitCode));
         } catch (Throwable t) {
           LOG.debug(t, "Failing build on exception.");
@@ -975,6 +975,7 @@ public class TargetsCommand extends AbstractCommand {
             fileHashLoader,
             targetGraphAndNodesWithTests.getTargetNodes())
         .setNumThreads(params.getBuckConfig().getNumThreads())
+        .setCache(params.getParser().getTargetNodeHashCache())
         .hashTargetGraph();
 
     ImmutableMap<BuildTarget, HashCode> finalHashes = rehashWithTestsIfNeeded(
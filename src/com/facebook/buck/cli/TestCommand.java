@@ -524,7 +524,8 @@ public class TestCommand extends BuildCommand {
                         localCachingBuildEngineDelegate.getFileHashCache(),
                         actionGraphAndResolver.getResolver(),
                         cachingBuildEngineBuckConfig.getBuildInputRuleKeyFileSizeLimit(),
-                        ruleKeyCacheScope.getCache()));
+                        ruleKeyCacheScope.getCache()),
+                    Optional.empty());
             Build build = createBuild(
                 params.getBuckConfig(),
                 actionGraphAndResolver.getActionGraph(),
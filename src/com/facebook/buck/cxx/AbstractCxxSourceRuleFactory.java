@@ -732,52 +732,54 @@ abstract class AbstractCxxSourceRuleFactory {
         .addAllFlavors(flavors)
         .build();
 
-    Optional<CxxPrecompiledHeader> existingRule =
-        getResolver().getRuleOptionalWithType(target, CxxPrecompiledHeader.class);
-    if (existingRule.isPresent()) {
-      return existingRule.get();
-    }
-
-    // Give the PCH a filename that looks like a header file with .gch appended to it, GCC-style.
-    // GCC accepts an "-include" flag with the .h file as its arg, and auto-appends ".gch" to
-    // automagically use the precompiled header in place of the original header.  Of course in
-    // our case we'll only have the ".gch" file, which is alright; the ".h" isn't truly needed.
-    Path output = BuildTargets.getGenPath(getParams().getProjectFilesystem(), target, "%s.h.gch");
-
-    CompilerDelegate compilerDelegate =
-        new CompilerDelegate(
-            getPathResolver(),
-            getCxxPlatform().getCompilerDebugPathSanitizer(),
-            CxxSourceTypes.getCompiler(
-                getCxxPlatform(),
-                CxxSourceTypes.getPreprocessorOutputType(sourceType))
-                .resolve(getResolver()),
-            compilerFlags);
-    depsBuilder.add(compilerDelegate);
-
-    depsBuilder.add(headerPath);
-
-    BuildRuleParams params =
-        getParams()
-            .withBuildTarget(target)
-            .copyReplacingDeclaredAndExtraDeps(
-                Suppliers.ofInstance(depsBuilder.build()),
-                Suppliers.ofInstance(ImmutableSortedSet.of()));
-
-    CxxPrecompiledHeader rule = new CxxPrecompiledHeader(
-        params,
-        output,
-        preprocessorDelegate,
-        compilerDelegate,
-        compilerFlags,
-        headerPath,
-        sourceType,
-        getCxxPlatform().getCompilerDebugPathSanitizer(),
-        getCxxPlatform().getAssemblerDebugPathSanitizer());
-
-    getResolver().addToIndex(rule);
-
-    return rule;
+    // The template target is not the target whose rules are being created, and libraries sharing
+    // the template may be created concurrently, so the check and the creation must be atomic.
+    BuildRule rule = getResolver().computeIfAbsent(
+        target,
+        pchTarget -> {
+          // Give the PCH a filename that looks like a header file with .gch appended to it,
+          // GCC-style. GCC accepts an "-include" flag with the .h file as its arg, and auto-appends
+          // ".gch" to automagically use the precompiled header in place of the original header. Of
+          // course in our case we'll only have the ".gch" file, which is alright; the ".h" isn't
+          // truly needed.
+          Path output = BuildTargets.getGenPath(
+              getParams().getProjectFilesystem(),
+              pchTarget,
+              "%s.h.gch");
+
+          CompilerDelegate compilerDelegate =
+              new CompilerDelegate(
+                  getPathResolver(),
+                  getCxxPlatform().getCompilerDebugPathSanitizer(),
+                  CxxSourceTypes.getCompiler(
+                      getCxxPlatform(),
+                      CxxSourceTypes.getPreprocessorOutputType(sourceType))
+                      .resolve(getResolver()),
+                  compilerFlags);
+          depsBuilder.add(compilerDelegate);
+
+          depsBuilder.add(headerPath);
+
+          BuildRuleParams params =
+              getParams()
+                  .withBuildTarget(pchTarget)
+                  .copyReplacingDeclaredAndExtraDeps(
+                      Suppliers.ofInstance(depsBuilder.build()),
+                      Suppliers.ofInstance(ImmutableSortedSet.of()));
+
+          return new CxxPrecompiledHeader(
+              params,
+              output,
+              preprocessorDelegate,
+              compilerDelegate,
+              compilerFlags,
+              headerPath,
+              sourceType,
+              getCxxPlatform().getCompilerDebugPathSanitizer(),
+              getCxxPlatform().getAssemblerDebugPathSanitizer());
+        });
+    Preconditions.checkState(rule instanceof CxxPrecompiledHeader);
+    return (CxxPrecompiledHeader) rule;
   }
 
   public ImmutableSet<CxxInferCapture> requireInferCaptureBuildRules(
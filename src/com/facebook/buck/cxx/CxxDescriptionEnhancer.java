@@ -197,23 +197,17 @@ public class CxxDescriptionEnhancer {
             cxxPlatform.getFlavor());
 
     // Check the cache...
-    Optional<BuildRule> rule = ruleResolver.getRuleOptional(headerSymlinkTreeTarget);
-    if (rule.isPresent()) {
-      Preconditions.checkState(rule.get() instanceof HeaderSymlinkTree);
-      return (HeaderSymlinkTree) rule.get();
-    }
-
-    HeaderSymlinkTree symlinkTree = createHeaderSymlinkTree(
-        untypedParams,
-        ruleResolver,
-        cxxPlatform,
-        headers,
-        headerVisibility,
-        shouldCreateHeadersSymlinks);
-
-    ruleResolver.addToIndex(symlinkTree);
-
-    return symlinkTree;
+    BuildRule rule = ruleResolver.computeIfAbsent(
+        headerSymlinkTreeTarget,
+        target -> createHeaderSymlinkTree(
+            untypedParams,
+            ruleResolver,
+            cxxPlatform,
+            headers,
+            headerVisibility,
+            shouldCreateHeadersSymlinks));
+    Preconditions.checkState(rule instanceof HeaderSymlinkTree);
+    return (HeaderSymlinkTree) rule;
   }
 
   private static SymlinkTree requireSandboxSymlinkTree(
@@ -1091,40 +1085,35 @@ public class CxxDescriptionEnhancer {
       ImmutableList.Builder<Arg> argsBuilder,
       BuildTarget linkRuleTarget)
       throws NoSuchBuildTargetException {
-    CxxLink cxxLink;
-    Optional<BuildRule> existingCxxLinkRule = resolver.getRuleOptional(linkRuleTarget);
-    if (existingCxxLinkRule.isPresent()) {
-      Preconditions.checkArgument(existingCxxLinkRule.get() instanceof CxxLink);
-      cxxLink = (CxxLink) existingCxxLinkRule.get();
-    } else {
-      // Generate the final link rule.  We use the top-level target as the link rule's
-      // target, so that it corresponds to the actual binary we build.
-      cxxLink =
-          CxxLinkableEnhancer.createCxxLinkableBuildRule(
-              cxxBuckConfig,
-              cxxPlatform,
-              params,
-              resolver,
-              sourcePathResolver,
-              ruleFinder,
-              linkRuleTarget,
-              Linker.LinkType.EXECUTABLE,
-              Optional.empty(),
-              linkOutput,
-              linkStyle,
-              thinLto,
-              deps,
-              cxxRuntimeType,
-              Optional.empty(),
-              ImmutableSet.of(),
-              NativeLinkableInput.builder()
-                  .setArgs(argsBuilder.build())
-                  .setFrameworks(frameworks)
-                  .setLibraries(libraries)
-                  .build());
-      resolver.addToIndex(cxxLink);
-    }
-    return cxxLink;
+    // Generate the final link rule.  We use the top-level target as the link rule's
+    // target, so that it corresponds to the actual binary we build.
+    BuildRule cxxLink = resolver.computeIfAbsent(
+        linkRuleTarget,
+        target ->
+            CxxLinkableEnhancer.createCxxLinkableBuildRule(
+                cxxBuckConfig,
+                cxxPlatform,
+                params,
+                resolver,
+                sourcePathResolver,
+                ruleFinder,
+                target,
+                Linker.LinkType.EXECUTABLE,
+                Optional.empty(),
+                linkOutput,
+                linkStyle,
+                thinLto,
+                deps,
+                cxxRuntimeType,
+                Optional.empty(),
+                ImmutableSet.of(),
+                NativeLinkableInput.builder()
+                    .setArgs(argsBuilder.build())
+                    .setFrameworks(frameworks)
+                    .setLibraries(libraries)
+                    .build()));
+    Preconditions.checkArgument(cxxLink instanceof CxxLink);
+    return (CxxLink) cxxLink;
   }
 
   public static CxxStrip createCxxStripRule(
@@ -1140,23 +1129,19 @@ public class CxxDescriptionEnhancer {
         .copyReplacingDeclaredAndExtraDeps(
             Suppliers.ofInstance(ImmutableSortedSet.of(unstrippedBinaryRule)),
             Suppliers.ofInstance(ImmutableSortedSet.of()));
-    Optional<BuildRule> exisitingRule = resolver.getRuleOptional(stripRuleParams.getBuildTarget());
-    if (exisitingRule.isPresent()) {
-      Preconditions.checkArgument(exisitingRule.get() instanceof CxxStrip);
-      return (CxxStrip) exisitingRule.get();
-    } else {
-      CxxStrip cxxStrip = new CxxStrip(
-          stripRuleParams,
-          stripStyle,
-          Preconditions.checkNotNull(unstrippedBinaryRule.getSourcePathToOutput()),
-          cxxPlatform.getStrip(),
-          CxxDescriptionEnhancer.getBinaryOutputPath(
-              stripRuleParams.getBuildTarget(),
-              params.getProjectFilesystem(),
-              cxxPlatform.getBinaryExtension()));
-      resolver.addToIndex(cxxStrip);
-      return cxxStrip;
-    }
+    BuildRule cxxStrip = resolver.computeIfAbsent(
+        stripRuleParams.getBuildTarget(),
+        target -> new CxxStrip(
+            stripRuleParams,
+            stripStyle,
+            Preconditions.checkNotNull(unstrippedBinaryRule.getSourcePathToOutput()),
+            cxxPlatform.getStrip(),
+            CxxDescriptionEnhancer.getBinaryOutputPath(
+                target,
+                params.getProjectFilesystem(),
+                cxxPlatform.getBinaryExtension())));
+    Preconditions.checkArgument(cxxStrip instanceof CxxStrip);
+    return (CxxStrip) cxxStrip;
   }
 
   public static BuildRule createUberCompilationDatabase(
@@ -1324,19 +1309,17 @@ public class CxxDescriptionEnhancer {
       throws NoSuchBuildTargetException {
     BuildTarget target =
         createSharedLibrarySymlinkTreeTarget(buildTarget, cxxPlatform.getFlavor());
-    SymlinkTree tree = resolver.getRuleOptionalWithType(target, SymlinkTree.class).orElse(null);
-    if (tree == null) {
-      tree =
-          resolver.addToIndex(
-              createSharedLibrarySymlinkTree(
-                  ruleFinder,
-                  buildTarget,
-                  filesystem,
-                  cxxPlatform,
-                  deps,
-                  traverse));
-    }
-    return tree;
+    resolver.computeIfAbsent(
+        target,
+        symlinkTreeTarget ->
+            createSharedLibrarySymlinkTree(
+                ruleFinder,
+                buildTarget,
+                filesystem,
+                cxxPlatform,
+                deps,
+                traverse));
+    return resolver.getRuleWithType(target, SymlinkTree.class);
   }
 
   public static Flavor flavorForLinkableDepType(Linker.LinkableDepType linkableDepType) {
@@ -32,6 +32,7 @@ import com.facebook.buck.rules.SourcePathRuleFinder;
 import com.facebook.buck.rules.coercer.FrameworkPath;
 import com.facebook.buck.util.MoreCollectors;
 import com.facebook.buck.util.RichStream;
+import com.google.common.base.Preconditions;
 import com.google.common.base.Suppliers;
 import com.google.common.cache.LoadingCache;
 import com.google.common.collect.ImmutableList;
@@ -208,23 +209,18 @@ public class CxxPrecompiledHeaderTemplate
   }
 
   public DependencyAggregation requireAggregatedDepsRule(CxxPlatform cxxPlatform) {
-    BuildTarget depAggTarget = createAggregatedDepsTarget(cxxPlatform);
-
-    Optional<DependencyAggregation> existingRule =
-        ruleResolver.getRuleOptionalWithType(depAggTarget, DependencyAggregation.class);
-    if (existingRule.isPresent()) {
-      return existingRule.get();
-    }
-
-    BuildRuleParams depAggParams = params
-        .withBuildTarget(depAggTarget)
-        .copyReplacingDeclaredAndExtraDeps(
-            Suppliers.ofInstance(getPreprocessDeps(cxxPlatform)),
-            Suppliers.ofInstance(ImmutableSortedSet.of()));
-
-    DependencyAggregation depAgg = new DependencyAggregation(depAggParams);
-    ruleResolver.addToIndex(depAgg);
-    return depAgg;
+    // Called while creating the rules of the libraries using this template, which may run
+    // concurrently, so the check and the creation must happen atomically.
+    BuildRule depAgg = ruleResolver.computeIfAbsent(
+        createAggregatedDepsTarget(cxxPlatform),
+        depAggTarget -> new DependencyAggregation(
+            params
+                .withBuildTarget(depAggTarget)
+                .copyReplacingDeclaredAndExtraDeps(
+                    Suppliers.ofInstance(getPreprocessDeps(cxxPlatform)),
+                    Suppliers.ofInstance(ImmutableSortedSet.of()))));
+    Preconditions.checkState(depAgg instanceof DependencyAggregation);
+    return (DependencyAggregation) depAgg;
   }
 
   public PreprocessorDelegate buildPreprocessorDelegate(
@@ -301,7 +301,8 @@ public class DistBuildSlaveExecutor {
                   cachingBuildEngineDelegate.getFileHashCache(),
                   actionGraphAndResolver.getResolver(),
                   engineConfig.getBuildInputRuleKeyFileSizeLimit(),
-                  new DefaultRuleKeyCache<>()));
+                  new DefaultRuleKeyCache<>()),
+              Optional.empty());
           Build build = new Build(
               Preconditions.checkNotNull(actionGraphAndResolver).getActionGraph(),
               Preconditions.checkNotNull(actionGraphAndResolver).getResolver(),
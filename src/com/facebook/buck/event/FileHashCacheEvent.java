@@ -40,6 +40,13 @@ public abstract class FileHashCacheEvent extends AbstractBuckEvent implements Le
     return new InvalidationFinished(started);
   }
 
+  public static HashingStatistics hashingStatistics(
+      long filesHashed,
+      long bytesHashed,
+      long hashingNanos) {
+    return new HashingStatistics(filesHashed, bytesHashed, hashingNanos);
+  }
+
   public static class InvalidationStarted extends FileHashCacheEvent {
     public InvalidationStarted() {
       super(EventKey.unique());
@@ -62,4 +69,64 @@ public abstract class FileHashCacheEvent extends AbstractBuckEvent implements Le
       return "FileHashCacheInvalidationFinished";
     }
   }
+
+  /**
+   * Reports how many files had their contents hashed during a command, and how long it took.
+   */
+  public static class HashingStatistics extends FileHashCacheEvent {
+    private final long filesHashed;
+    private final long bytesHashed;
+    private final long hashingNanos;
+
+    public HashingStatistics(long filesHashed, long bytesHashed, long hashingNanos) {
+      super(EventKey.unique());
+      this.filesHashed = filesHashed;
+      this.bytesHashed = bytesHashed;
+      this.hashingNanos = hashingNanos;
+    }
+
+    public long getFilesHashed() {
+      return filesHashed;
+    }
+
+    public long getBytesHashed() {
+      return bytesHashed;
+    }
+
+    /**
+     * @return the time spent hashing, summed over all the threads which hashed files.
+     */
+    public long getHashingNanos() {
+      return hashingNanos;
+    }
+
+    /**
+     * @return the number of bytes hashed per second of hashing time, or 0 if nothing was hashed.
+     */
+    public long getBytesPerSecond() {
+      if (hashingNanos == 0) {
+        return 0;
+      }
+      return (long) (bytesHashed / (hashingNanos / 1e9));
+    }
+
+    @Override
+    public String getCategory() {
+      return "file_hash_cache_hashing";
+    }
+
+    @Override
+    protected String getValueString() {
+      return String.format(
+          "%d files, %d bytes, %d bytes/s",
+          filesHashed,
+          bytesHashed,
+          getBytesPerSecond());
+    }
+
+    @Override
+    public String getEventName() {
+      return "FileHashCacheHashingStatistics";
+    }
+  }
 }
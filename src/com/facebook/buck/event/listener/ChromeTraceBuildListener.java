@@ -694,6 +694,13 @@ public class ChromeTraceBuildListener implements BuckEventListener {
                             "pool_" + e.getKey() + "_mb",
                             Long.toString(SizeUnit.BYTES.toMegabytes(e.getValue()))))
                     .collect(Collectors.toList()))
+            .putAll(
+                memory.getDuplicatesReplacedByInterner().entrySet().stream()
+                    .map(
+                        e -> Maps.immutableEntry(
+                            "interned_" + e.getKey() + "_duplicates",
+                            Long.toString(e.getValue())))
+                    .collect(Collectors.toList()))
             .build(),
         memory);
   }
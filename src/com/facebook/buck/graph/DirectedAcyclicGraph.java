@@ -17,43 +17,202 @@
 package com.facebook.buck.graph;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
-import com.google.common.collect.ImmutableSetMultimap;
-import com.google.common.collect.Sets;
+import com.google.common.collect.UnmodifiableIterator;
 
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Set;
 
+/**
+ * An immutable snapshot of a {@link MutableDirectedGraph} known to be acyclic.
+ *
+ * Nodes are numbered in iteration order of {@link #getNodes()}, and edges are stored as arrays of
+ * node ids in compressed sparse row form: the outgoing nodes of node {@code i} are
+ * {@code outgoingNodeIds[outgoingOffsets[i]]} up to {@code outgoingNodeIds[outgoingOffsets[i + 1]]}
+ * (exclusive), and likewise for incoming nodes. Compared to a multimap, this takes a few ints per
+ * edge instead of several objects, and walking the edges of a node reads contiguous memory.
+ *
+ * The ids of each node's neighbours are sorted, so {@link #getOutgoingNodesFor} and
+ * {@link #getIncomingNodesFor} return views of the arrays which iterate over the neighbours in
+ * node order and look them up by binary search, rather than copies.
+ */
 public class DirectedAcyclicGraph<T> implements TraversableGraph<T> {
 
   private final ImmutableSet<T> nodes;
-  private final ImmutableSetMultimap<T, T> outgoingEdges;
-  private final ImmutableSetMultimap<T, T> incomingEdges;
+  private final ImmutableList<T> nodesById;
+  /**
+   * Open addressing hash table from node to id, holding {@code id + 1} in the slot of each node
+   * and 0 in empty slots. It is at most half full, so lookups stop after a few probes.
+   */
+  private final int[] idTable;
+  private final int[] outgoingOffsets;
+  private final int[] outgoingNodeIds;
+  private final int[] incomingOffsets;
+  private final int[] incomingNodeIds;
 
   public DirectedAcyclicGraph(MutableDirectedGraph<T> graph) {
     Preconditions.checkState(graph.isAcyclic(), "Graph must by acyclic");
-    this.nodes = graph.createImmutableCopyOfNodes();
-    this.outgoingEdges = graph.createImmutableCopyOfOutgoingEdges();
-    this.incomingEdges = graph.createImmutableCopyOfIncomingEdges();
+    this.nodes = ImmutableSet.copyOf(graph.getNodes());
+    this.nodesById = nodes.asList();
+    int nodeCount = nodesById.size();
+    this.idTable = new int[Integer.highestOneBit(Math.max(2 * nodeCount - 1, 1)) << 1];
+    for (int id = 0; id < nodeCount; id++) {
+      int slot = smear(nodesById.get(id).hashCode());
+      while (idTable[slot & (idTable.length - 1)] != 0) {
+        slot++;
+      }
+      idTable[slot & (idTable.length - 1)] = id + 1;
+    }
+
+    int edgeCount = graph.getEdgeCount();
+    this.outgoingOffsets = new int[nodeCount + 1];
+    this.outgoingNodeIds = new int[edgeCount];
+    int[] incomingCounts = new int[nodeCount];
+    int edge = 0;
+    for (int id = 0; id < nodeCount; id++) {
+      outgoingOffsets[id] = edge;
+      for (T sink : graph.getOutgoingNodesFor(nodesById.get(id))) {
+        int sinkId = getId(sink);
+        outgoingNodeIds[edge++] = sinkId;
+        incomingCounts[sinkId]++;
+      }
+    }
+    Preconditions.checkState(edge == edgeCount, "Graph was modified while being copied");
+    outgoingOffsets[nodeCount] = edgeCount;
+    for (int id = 0; id < nodeCount; id++) {
+      Arrays.sort(outgoingNodeIds, outgoingOffsets[id], outgoingOffsets[id + 1]);
+    }
+
+    // Transposing the outgoing edges in node order sorts the incoming node ids of each node too.
+    this.incomingOffsets = new int[nodeCount + 1];
+    for (int id = 0; id < nodeCount; id++) {
+      incomingOffsets[id + 1] = incomingOffsets[id] + incomingCounts[id];
+    }
+    this.incomingNodeIds = new int[edgeCount];
+    int[] nextIncoming = Arrays.copyOf(incomingOffsets, nodeCount);
+    for (int id = 0; id < nodeCount; id++) {
+      for (int i = outgoingOffsets[id]; i < outgoingOffsets[id + 1]; i++) {
+        incomingNodeIds[nextIncoming[outgoingNodeIds[i]]++] = id;
+      }
+    }
+  }
+
+  /**
+   * Spreads the bits of a hash code, like Guava's hash-based collections do, so that nodes whose
+   * hash codes only differ in their high bits do not all probe the same slots.
+   */
+  private static int smear(int hashCode) {
+    return 0x1b873593 * Integer.rotateLeft(hashCode * 0xcc9e2d51, 15);
+  }
+
+  /**
+   * @return the id of {@code node}, or -1 if it is not in the graph.
+   */
+  private int getId(Object node) {
+    int mask = idTable.length - 1;
+    for (int slot = smear(node.hashCode()); ; slot++) {
+      int entry = idTable[slot & mask];
+      if (entry == 0) {
+        return -1;
+      }
+      if (nodesById.get(entry - 1).equals(node)) {
+        return entry - 1;
+      }
+    }
   }
 
   @Override
-  public ImmutableSet<T> getOutgoingNodesFor(T source) {
-    return outgoingEdges.get(source);
+  public Set<T> getOutgoingNodesFor(T source) {
+    return getNodesFor(source, outgoingOffsets, outgoingNodeIds);
   }
 
   @Override
-  public ImmutableSet<T> getIncomingNodesFor(T sink) {
-    return incomingEdges.get(sink);
+  public Set<T> getIncomingNodesFor(T sink) {
+    return getNodesFor(sink, incomingOffsets, incomingNodeIds);
+  }
+
+  private Set<T> getNodesFor(T node, int[] offsets, int[] ids) {
+    int id = getId(node);
+    if (id == -1 || offsets[id] == offsets[id + 1]) {
+      return ImmutableSet.of();
+    }
+    return new NodeSet(ids, offsets[id], offsets[id + 1]);
+  }
+
+  /**
+   * The nodes whose ids are {@code ids[start]} up to {@code ids[end]} (exclusive), which are
+   * sorted.
+   */
+  private class NodeSet extends AbstractSet<T> {
+
+    private final int[] ids;
+    private final int start;
+    private final int end;
+
+    private NodeSet(int[] ids, int start, int end) {
+      this.ids = ids;
+      this.start = start;
+      this.end = end;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+      return new UnmodifiableIterator<T>() {
+        private int next = start;
+
+        @Override
+        public boolean hasNext() {
+          return next < end;
+        }
+
+        @Override
+        public T next() {
+          if (next == end) {
+            throw new NoSuchElementException();
+          }
+          return nodesById.get(ids[next++]);
+        }
+      };
+    }
+
+    @Override
+    public int size() {
+      return end - start;
+    }
+
+    @Override
+    public boolean contains(Object node) {
+      if (node == null) {
+        return false;
+      }
+      int id = getId(node);
+      return id != -1 && Arrays.binarySearch(ids, start, end, id) >= 0;
+    }
   }
 
   @Override
   public ImmutableSet<T> getNodesWithNoOutgoingEdges() {
-    return ImmutableSet.copyOf(Sets.difference(nodes, outgoingEdges.keySet()));
+    return getNodesWithNoEdges(outgoingOffsets);
   }
 
   @Override
   public ImmutableSet<T> getNodesWithNoIncomingEdges() {
-    return ImmutableSet.copyOf(Sets.difference(nodes, incomingEdges.keySet()));
+    return getNodesWithNoEdges(incomingOffsets);
+  }
+
+  private ImmutableSet<T> getNodesWithNoEdges(int[] offsets) {
+    ImmutableSet.Builder<T> builder = ImmutableSet.builder();
+    for (int id = 0; id < nodesById.size(); id++) {
+      if (offsets[id] == offsets[id + 1]) {
+        builder.add(nodesById.get(id));
+      }
+    }
+    return builder.build();
   }
 
   @Override
@@ -61,6 +220,42 @@ public class DirectedAcyclicGraph<T> implements TraversableGraph<T> {
     return nodes;
   }
 
+  int getNodeCount() {
+    return nodesById.size();
+  }
+
+  T getNode(int id) {
+    return nodesById.get(id);
+  }
+
+  /**
+   * @return offsets into {@link #getOutgoingNodeIds()} indexed by node id. Must not be modified.
+   */
+  int[] getOutgoingOffsets() {
+    return outgoingOffsets;
+  }
+
+  /**
+   * @return the outgoing node ids of all nodes. Must not be modified.
+   */
+  int[] getOutgoingNodeIds() {
+    return outgoingNodeIds;
+  }
+
+  /**
+   * @return offsets into {@link #getIncomingNodeIds()} indexed by node id. Must not be modified.
+   */
+  int[] getIncomingOffsets() {
+    return incomingOffsets;
+  }
+
+  /**
+   * @return the incoming node ids of all nodes. Must not be modified.
+   */
+  int[] getIncomingNodeIds() {
+    return incomingNodeIds;
+  }
+
   @Override
   public boolean equals(Object other) {
     if (!(other instanceof DirectedAcyclicGraph)) {
@@ -68,13 +263,37 @@ public class DirectedAcyclicGraph<T> implements TraversableGraph<T> {
     }
 
     DirectedAcyclicGraph<?> that = (DirectedAcyclicGraph<?>) other;
-    return Objects.equals(this.nodes, that.nodes) &&
-        Objects.equals(this.outgoingEdges, that.outgoingEdges) &&
-        Objects.equals(this.incomingEdges, that.incomingEdges);
+    return Objects.equals(this.getNodes(), that.getNodes()) &&
+        this.outgoingNodeIds.length == that.outgoingNodeIds.length &&
+        hasSameOutgoingEdgesAs(that);
+  }
+
+  /**
+   * Node ids depend on the order nodes were added in, so edges are compared by node.
+   */
+  private boolean hasSameOutgoingEdgesAs(DirectedAcyclicGraph<?> that) {
+    for (int id = 0; id < nodesById.size(); id++) {
+      int thatId = that.getId(nodesById.get(id));
+      int degree = outgoingOffsets[id + 1] - outgoingOffsets[id];
+      if (degree != that.outgoingOffsets[thatId + 1] - that.outgoingOffsets[thatId]) {
+        return false;
+      }
+      for (int i = outgoingOffsets[id]; i < outgoingOffsets[id + 1]; i++) {
+        int thatSinkId = that.getId(nodesById.get(outgoingNodeIds[i]));
+        if (Arrays.binarySearch(
+                that.outgoingNodeIds,
+                that.outgoingOffsets[thatId],
+                that.outgoingOffsets[thatId + 1],
+                thatSinkId) < 0) {
+          return false;
+        }
+      }
+    }
+    return true;
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(nodes, outgoingEdges, incomingEdges);
+    return Objects.hash(getNodes(), outgoingNodeIds.length);
   }
 }
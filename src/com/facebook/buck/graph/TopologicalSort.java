@@ -34,6 +34,9 @@ public class TopologicalSort {
 
   public static <T extends Comparable<?>> ImmutableList<T> sort(
       TraversableGraph<T> graph) {
+    if (graph instanceof DirectedAcyclicGraph) {
+      return sort((DirectedAcyclicGraph<T>) graph);
+    }
 
     // AtomicInteger is used to decrement the integer value in-place.
     Map<T, AtomicInteger> effectiveOutDegreesOfExplorableNodes = new HashMap<>();
@@ -78,4 +81,48 @@ public class TopologicalSort {
 
     return toReturn.build();
   }
+
+  /**
+   * Same as {@link #sort(TraversableGraph)}, but walks the node ids of the frozen graph rather
+   * than hashing the nodes themselves.
+   */
+  private static <T extends Comparable<?>> ImmutableList<T> sort(DirectedAcyclicGraph<T> graph) {
+    int nodeCount = graph.getNodeCount();
+    int[] outgoingOffsets = graph.getOutgoingOffsets();
+    int[] incomingOffsets = graph.getIncomingOffsets();
+    int[] incomingNodeIds = graph.getIncomingNodeIds();
+
+    // Every node is queued exactly once, once all the nodes it depends on have been queued, so
+    // each level is a contiguous range of the queue.
+    int[] effectiveOutDegrees = new int[nodeCount];
+    int[] queue = new int[nodeCount];
+    int queueEnd = 0;
+    for (int id = 0; id < nodeCount; id++) {
+      effectiveOutDegrees[id] = outgoingOffsets[id + 1] - outgoingOffsets[id];
+      if (effectiveOutDegrees[id] == 0) {
+        queue[queueEnd++] = id;
+      }
+    }
+
+    ImmutableList.Builder<T> toReturn = ImmutableList.builder();
+    int levelStart = 0;
+    while (levelStart < queueEnd) {
+      int levelEnd = queueEnd;
+      Set<T> level = Sets.newTreeSet();
+      for (int i = levelStart; i < levelEnd; i++) {
+        int id = queue[i];
+        level.add(graph.getNode(id));
+        for (int j = incomingOffsets[id]; j < incomingOffsets[id + 1]; j++) {
+          int exploreCandidate = incomingNodeIds[j];
+          if (--effectiveOutDegrees[exploreCandidate] == 0) {
+            queue[queueEnd++] = exploreCandidate;
+          }
+        }
+      }
+      toReturn.addAll(level);
+      levelStart = levelEnd;
+    }
+
+    return toReturn.build();
+  }
 }
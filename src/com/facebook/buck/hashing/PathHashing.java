@@ -42,8 +42,27 @@ public class PathHashing {
         !root.equals(EMPTY_PATH),
         "Path to hash (%s) must not be empty",
         root);
+    return hashFiles(
+        hasher,
+        fileHashLoader,
+        root,
+        ImmutableSortedSet.copyOf(projectFilesystem.getFilesUnderPath(root)));
+  }
+
+  /**
+   * Like {@link #hashPath}, for callers which already listed the files under {@code root}.
+   */
+  public static ImmutableSet<Path> hashFiles(
+      Hasher hasher,
+      ProjectFileHashLoader fileHashLoader,
+      Path root,
+      ImmutableSortedSet<Path> filesUnderRoot) throws IOException {
+    Preconditions.checkArgument(
+        !root.equals(EMPTY_PATH),
+        "Path to hash (%s) must not be empty",
+        root);
     ImmutableSet.Builder<Path> children = ImmutableSet.builder();
-    for (Path path : ImmutableSortedSet.copyOf(projectFilesystem.getFilesUnderPath(root))) {
+    for (Path path : filesUnderRoot) {
       StringHashing.hashStringAndLength(hasher, MorePaths.pathWithUnixSeparators(path));
       if (!root.equals(path)) {
         children.add(root.relativize(path));
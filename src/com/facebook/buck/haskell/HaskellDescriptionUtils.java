@@ -48,6 +48,7 @@ import com.facebook.buck.rules.args.SourcePathArg;
 import com.facebook.buck.rules.args.StringArg;
 import com.facebook.buck.util.MoreIterables;
 import com.facebook.buck.util.RichStream;
+import com.google.common.base.Preconditions;
 import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableCollection;
 import com.google.common.collect.ImmutableList;
@@ -193,16 +194,12 @@ public class HaskellDescriptionUtils {
 
     BuildTarget target = getCompileBuildTarget(params.getBuildTarget(), cxxPlatform, depType);
 
-    // If this rule has already been generated, return it.
-    Optional<HaskellCompileRule> existing =
-        resolver.getRuleOptionalWithType(target, HaskellCompileRule.class);
-    if (existing.isPresent()) {
-      return existing.get();
-    }
-
-    return resolver.addToIndex(
-        HaskellDescriptionUtils.createCompileRule(
-            target,
+    // If this rule has already been generated, return it. Libraries create their compile rules
+    // while their dependents' rules are created, possibly concurrently, so this must be atomic.
+    BuildRule compileRule = resolver.computeIfAbsent(
+        target,
+        compileTarget -> HaskellDescriptionUtils.createCompileRule(
+            compileTarget,
             params,
             resolver,
             ruleFinder,
@@ -214,6 +211,8 @@ public class HaskellDescriptionUtils {
             packageInfo,
             flags,
             srcs));
+    Preconditions.checkState(compileRule instanceof HaskellCompileRule);
+    return (HaskellCompileRule) compileRule;
   }
 
   /**
@@ -189,13 +189,10 @@ public class HaskellLibraryDescription implements
                 Type.STATIC.getFlavor() :
                 Type.STATIC_PIC.getFlavor(),
             cxxPlatform.getFlavor());
-    Optional<Archive> archive = resolver.getRuleOptionalWithType(target, Archive.class);
-    if (archive.isPresent()) {
-      return archive.get();
-    }
-    return resolver.addToIndex(
-        createStaticLibrary(
-            target,
+    BuildRule archive = resolver.computeIfAbsent(
+        target,
+        archiveTarget -> createStaticLibrary(
+            archiveTarget,
             baseParams,
             resolver,
             pathResolver,
@@ -204,6 +201,8 @@ public class HaskellLibraryDescription implements
             args,
             deps,
             depType));
+    Preconditions.checkState(archive instanceof Archive);
+    return (Archive) archive;
   }
 
   private HaskellPackageRule createPackage(
@@ -309,13 +308,20 @@ public class HaskellLibraryDescription implements
       default:
         throw new IllegalStateException();
     }
-    Optional<HaskellPackageRule> packageRule =
-        resolver.getRuleOptionalWithType(target, HaskellPackageRule.class);
-    if (packageRule.isPresent()) {
-      return packageRule.get();
-    }
-    return resolver.addToIndex(createPackage(
-        target, baseParams, resolver, pathResolver, ruleFinder, cxxPlatform, args, deps, depType));
+    BuildRule packageRule = resolver.computeIfAbsent(
+        target,
+        packageTarget -> createPackage(
+            packageTarget,
+            baseParams,
+            resolver,
+            pathResolver,
+            ruleFinder,
+            cxxPlatform,
+            args,
+            deps,
+            depType));
+    Preconditions.checkState(packageRule instanceof HaskellPackageRule);
+    return (HaskellPackageRule) packageRule;
   }
 
   private HaskellLinkRule createSharedLibrary(
@@ -371,13 +377,12 @@ public class HaskellLibraryDescription implements
             .isEmpty());
     BuildTarget target =
         baseTarget.withAppendedFlavors(Type.SHARED.getFlavor(), cxxPlatform.getFlavor());
-    Optional<HaskellLinkRule> linkRule =
-        resolver.getRuleOptionalWithType(target, HaskellLinkRule.class);
-    if (linkRule.isPresent()) {
-      return linkRule.get();
-    }
-    return resolver.addToIndex(createSharedLibrary(
-        target, baseParams, resolver, pathResolver, ruleFinder, cxxPlatform, args, deps));
+    BuildRule linkRule = resolver.computeIfAbsent(
+        target,
+        linkTarget -> createSharedLibrary(
+            linkTarget, baseParams, resolver, pathResolver, ruleFinder, cxxPlatform, args, deps));
+    Preconditions.checkState(linkRule instanceof HaskellLinkRule);
+    return (HaskellLinkRule) linkRule;
   }
 
   @Override
@@ -18,15 +18,15 @@ package com.facebook.buck.io;
 
 import com.facebook.buck.event.BuckEventBus;
 import com.facebook.buck.util.sha1.Sha1HashCode;
-import com.google.common.hash.HashCode;
-import com.google.common.hash.Hashing;
-import com.google.common.io.ByteSource;
 
 import java.io.IOException;
-import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.LinkOption;
 import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 
 /**
  * Default implementation of {@link ProjectFilesystemDelegate} that talks to the filesystem via
@@ -34,6 +34,26 @@ import java.nio.file.Path;
  */
 public final class DefaultProjectFilesystemDelegate implements ProjectFilesystemDelegate {
 
+  /**
+   * Files are hashed by reading them into a buffer of this size, which each thread allocates once.
+   * Files are not memory mapped: a mapping is only released when its buffer is garbage collected,
+   * which keeps the file open and, on Windows, prevents deleting or overwriting it until then.
+   */
+  private static final int HASHING_BUFFER_BYTES = 256 * 1024;
+
+  private static final ThreadLocal<ByteBuffer> HASHING_BUFFER =
+      ThreadLocal.withInitial(() -> ByteBuffer.allocate(HASHING_BUFFER_BYTES));
+
+  private static final ThreadLocal<MessageDigest> SHA1_DIGEST =
+      ThreadLocal.withInitial(
+          () -> {
+            try {
+              return MessageDigest.getInstance("SHA-1");
+            } catch (NoSuchAlgorithmException e) {
+              throw new RuntimeException(e);
+            }
+          });
+
   private final Path root;
 
   public DefaultProjectFilesystemDelegate(Path root) {
@@ -47,22 +67,23 @@ public final class DefaultProjectFilesystemDelegate implements ProjectFilesystem
 
   @Override
   public Sha1HashCode computeSha1(Path pathRelativeToProjectRootOrJustAbsolute) throws IOException {
-    final Path fileToHash = getPathForRelativePath(pathRelativeToProjectRootOrJustAbsolute);
+    Path fileToHash = getPathForRelativePath(pathRelativeToProjectRootOrJustAbsolute);
 
     // Normally, we would just use `Files.hash(fileToHash.toFile(), Hashing.sha1())`, but if
     // fileToHash is backed by Jimfs, its toFile() method throws an UnsupportedOperationException.
-    // Creating the input stream via java.nio.file.Files.newInputStream() avoids this issue.
-    ByteSource source =
-        new ByteSource() {
-          @Override
-          public InputStream openStream() throws IOException {
-            // No need to wrap with BufferedInputStream because ByteSource uses ByteStreams.copy(),
-            // which already buffers.
-            return Files.newInputStream(fileToHash);
-          }
-        };
-    HashCode hashCode = source.hash(Hashing.sha1());
-    return Sha1HashCode.fromHashCode(hashCode);
+    // Opening the channel via java.nio.file.Files.newByteChannel() avoids this issue.
+    MessageDigest digest = SHA1_DIGEST.get();
+    digest.reset();
+    ByteBuffer buffer = HASHING_BUFFER.get();
+    try (SeekableByteChannel channel = Files.newByteChannel(fileToHash)) {
+      buffer.clear();
+      while (channel.read(buffer) != -1) {
+        buffer.flip();
+        digest.update(buffer);
+        buffer.clear();
+      }
+    }
+    return Sha1HashCode.fromBytes(digest.digest());
   }
 
   @Override
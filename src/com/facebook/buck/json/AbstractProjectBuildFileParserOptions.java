@@ -78,6 +78,11 @@ abstract class AbstractProjectBuildFileParserOptions {
     return false;
   }
 
+  @Value.Default
+  public boolean getUseBserOutput() {
+    return false;
+  }
+
   abstract Optional<Long> getWatchmanQueryTimeoutMs();
   abstract List<String> getBuildFileImportWhitelist();
 }
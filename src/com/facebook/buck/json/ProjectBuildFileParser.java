@@ -33,6 +33,8 @@ import com.facebook.buck.util.MoreThrowables;
 import com.facebook.buck.util.ObjectMappers;
 import com.facebook.buck.util.ProcessExecutor;
 import com.facebook.buck.util.ProcessExecutorParams;
+import com.facebook.buck.util.ProcessHelper;
+import com.facebook.buck.util.ProcessResourceConsumption;
 import com.facebook.buck.util.Threads;
 import com.facebook.buck.util.concurrent.AssertScopeExclusiveAccess;
 import com.fasterxml.jackson.core.JsonGenerator;
@@ -298,6 +300,10 @@ public class ProjectBuildFileParser implements AutoCloseable {
       argBuilder.add("--use_mercurial_glob");
     }
 
+    if (options.getUseBserOutput()) {
+      argBuilder.add("--output_format", "bser");
+    }
+
     // Add the --build_file_import_whitelist flags.
     for (String module : options.getBuildFileImportWhitelist()) {
       argBuilder.add("--build_file_import_whitelist");
@@ -414,27 +420,12 @@ public class ProjectBuildFileParser implements AutoCloseable {
         LOG.debug(e, "Swallowing exception on flush");
       }
 
-      if (buckPyProcessJsonParser == null) {
-        // We have to wait to create the JsonParser until after we write our
-        // first request, because Jackson "helpfully" synchronously reads
-        // from the InputStream trying to detect whether the encoding is
-        // UTF-8 or UTF-16 as soon as you create a JsonParser:
-        //
-        // https://git.io/vSgnA
-        //
-        // Since buck.py doesn't write any data until after it receives
-        // a query, creating the JsonParser any earlier than this would
-        // hang indefinitely.
-        buckPyProcessJsonParser =
-            ObjectMappers.createParser(buckPyProcess.getInputStream());
-      }
       LOG.verbose("Parsing output of process %s...", buckPyProcess);
       BuildFilePythonResult resultObject;
-      try {
-        resultObject = buckPyProcessJsonParser.readValueAs(BuildFilePythonResult.class);
-      } catch (IOException e) {
-        LOG.warn(e, "Parser exited while decoding JSON data");
-        throw e;
+      if (options.getUseBserOutput()) {
+        resultObject = readBserResult();
+      } else {
+        resultObject = readJsonResult();
       }
       Path buckPyPath = getPathToBuckPy(options.getDescriptions());
       handleDiagnostics(
@@ -456,6 +447,40 @@ public class ProjectBuildFileParser implements AutoCloseable {
     }
   }
 
+  private BuildFilePythonResult readJsonResult() throws IOException {
+    Preconditions.checkNotNull(buckPyProcess);
+    if (buckPyProcessJsonParser == null) {
+      // We have to wait to create the JsonParser until after we write our
+      // first request, because Jackson "helpfully" synchronously reads
+      // from the InputStream trying to detect whether the encoding is
+      // UTF-8 or UTF-16 as soon as you create a JsonParser:
+      //
+      // https://git.io/vSgnA
+      //
+      // Since buck.py doesn't write any data until after it receives
+      // a query, creating the JsonParser any earlier than this would
+      // hang indefinitely.
+      buckPyProcessJsonParser =
+          ObjectMappers.createParser(buckPyProcess.getInputStream());
+    }
+    try {
+      return buckPyProcessJsonParser.readValueAs(BuildFilePythonResult.class);
+    } catch (IOException e) {
+      LOG.warn(e, "Parser exited while decoding JSON data");
+      throw e;
+    }
+  }
+
+  private BuildFilePythonResult readBserResult() throws IOException {
+    Preconditions.checkNotNull(buckPyProcess);
+    try {
+      return BuildFilePythonResultBserDeserializer.deserialize(buckPyProcess.getInputStream());
+    } catch (IOException e) {
+      LOG.warn(e, "Parser exited while decoding BSER data");
+      throw e;
+    }
+  }
+
   private static void handleDiagnostics(
       Path buildFile,
       Path buckPyDir,
@@ -680,6 +705,26 @@ public class ProjectBuildFileParser implements AutoCloseable {
     buckEventBus.post(new WatchmanDiagnosticEvent(watchmanDiagnostic));
   }
 
+  /**
+   * @return the resident memory of the buck.py process, if it was started and can be measured.
+   */
+  public Optional<Long> getResidentMemoryBytes() {
+    if (!(buckPyProcess instanceof ProcessExecutor.LaunchedProcessImpl)) {
+      return Optional.empty();
+    }
+    ProcessHelper processHelper = ProcessHelper.getInstance();
+    Long pid = processHelper.getPid(((ProcessExecutor.LaunchedProcessImpl) buckPyProcess).process);
+    if (pid == null) {
+      return Optional.empty();
+    }
+    ProcessResourceConsumption resourceConsumption =
+        processHelper.getProcessResourceConsumption(pid);
+    if (resourceConsumption == null) {
+      return Optional.empty();
+    }
+    return Optional.of(resourceConsumption.getMemResident());
+  }
+
   @Override
   @SuppressWarnings("PMD.EmptyCatchBlock")
   public void close() throws BuildFileParseException, InterruptedException, IOException {
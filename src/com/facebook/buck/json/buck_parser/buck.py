@@ -8,7 +8,7 @@ import __future__
 
 import contextlib
 from pathlib import Path, PurePath
-from pywatchman import WatchmanError
+from pywatchman import WatchmanError, pybser
 from .json_encoder import BuckJSONEncoder
 from .glob_internal import glob_internal
 from .glob_mercurial import glob_mercurial_manifest, load_mercurial_repo_info
@@ -1157,9 +1157,21 @@ def format_exception_info(exception_info):
     return formatted
 
 
-def encode_result(values, diagnostics, profile):
+def encode_bser(result):
+    try:
+        return pywatchman.bser.dumps(result)
+    except Exception:
+        # The native encoder only handles lists, tuples and mappings, while the
+        # pure python one accepts any sized iterable, like BuckJSONEncoder does.
+        return pybser.dumps(result)
+
+
+def encode_result(values, diagnostics, profile, output_format='json'):
     result = {'values': values}
-    json_encoder = BuckJSONEncoder()
+    if output_format == 'bser':
+        encode = encode_bser
+    else:
+        encode = BuckJSONEncoder().encode
     if diagnostics:
         encoded_diagnostics = []
         for d in diagnostics:
@@ -1175,7 +1187,7 @@ def encode_result(values, diagnostics, profile):
     if profile is not None:
         result['profile'] = profile
     try:
-        return json_encoder.encode(result)
+        return encode(result)
     except Exception as e:
         # Try again without the values
         result['values'] = []
@@ -1187,11 +1199,11 @@ def encode_result(values, diagnostics, profile):
             'source': 'parse',
             'exception': format_exception_info(sys.exc_info()),
         })
-        return json_encoder.encode(result)
+        return encode(result)
 
 
 def process_with_diagnostics(build_file_query, build_file_processor, to_parent,
-                             should_profile=False):
+                             should_profile=False, output_format='json'):
     build_file = build_file_query.get('buildFile')
     watch_root = build_file_query.get('watchRoot')
     project_prefix = build_file_query.get('projectPrefix')
@@ -1237,7 +1249,7 @@ def process_with_diagnostics(build_file_query, build_file_processor, to_parent,
         else:
             profile_result = None
 
-        to_parent.write(encode_result(values, diagnostics, profile_result))
+        to_parent.write(encode_result(values, diagnostics, profile_result, output_format))
         to_parent.flush()
 
 
@@ -1283,8 +1295,8 @@ def _optparse_store_kv(option, opt_str, value, parser):
 # directories of generated files produced by Buck.
 #
 # All of the build rules that are parsed from the BUCK files will be printed
-# to stdout encoded in JSON. That means that printing out other information
-# for debugging purposes will break the JSON encoding, so be careful!
+# to stdout encoded in JSON or BSER. That means that printing out other information
+# for debugging purposes will break the encoding, so be careful!
 
 
 def main():
@@ -1392,6 +1404,14 @@ def main():
         '--build_file_import_whitelist',
         action='append',
         dest='build_file_import_whitelist')
+    parser.add_option(
+        '--output_format',
+        action='store',
+        type='choice',
+        choices=['json', 'bser'],
+        default='json',
+        dest='output_format',
+        help='Encoding of the results written to stdout.')
     (options, args) = parser.parse_args()
 
     # Even though project_root is absolute path, it may not be concise. For
@@ -1432,7 +1452,7 @@ def main():
                 source='mercurial',
                 exception=None,
             )
-            to_parent.write(encode_result([], [d], None))
+            to_parent.write(encode_result([], [d], None, options.output_format))
             to_parent.flush()
             raise
 
@@ -1485,7 +1505,8 @@ def main():
                     'projectPrefix': project_root,
                 }
                 process_with_diagnostics(query, buildFileProcessor, to_parent,
-                                         should_profile=options.profile)
+                                         should_profile=options.profile,
+                                         output_format=options.output_format)
 
             # From https://docs.python.org/2/using/cmdline.html :
             #
@@ -1501,7 +1522,8 @@ def main():
                     build_file_query,
                     buildFileProcessor,
                     to_parent,
-                    should_profile=options.profile)
+                    should_profile=options.profile,
+                    output_format=options.output_format)
 
     if options.quiet:
         sys.excepthook = orig_excepthook
@@ -7,7 +7,7 @@ import shutil
 import tempfile
 import StringIO
 
-from pywatchman import WatchmanError
+from pywatchman import WatchmanError, pybser
 from typing import Sequence
 
 from .buck import BuildFileProcessor, Diagnostic, add_rule, process_with_diagnostics
@@ -990,5 +990,42 @@ foo_rule(
             '{"__env": {}}]}',
             result)
 
+    def test_bser_encoding(self):
+        build_file_processor = self.create_build_file_processor(extra_funcs=[foo_rule])
+        fake_stdout = StringIO.StringIO()
+        build_file = ProjectFile(
+            self.project_root,
+            path='BUCK',
+            contents=(
+                '''
+foo_rule(
+  name="foo",
+  srcs=('Foo.java',),
+  options={'foo':'bar'},
+)
+'''
+            ))
+        self.write_file(build_file)
+        with build_file_processor.with_builtins(__builtin__.__dict__):
+            process_with_diagnostics(
+                {
+                    'buildFile': self.build_file_name,
+                    'watchRoot': '',
+                    'projectPrefix': self.project_root,
+                },
+                build_file_processor,
+                fake_stdout,
+                output_format='bser')
+        decoded_result = pybser.loads(fake_stdout.getvalue())
+        self.assertEqual(
+            [],
+            decoded_result.get('diagnostics', []))
+        self.assertEqual(
+            ['Foo.java'],
+            decoded_result['values'][0].get('srcs', []))
+        self.assertEqual(
+            {'foo': 'bar'},
+            decoded_result['values'][0].get('options', {}))
+
 if __name__ == '__main__':
     unittest.main()
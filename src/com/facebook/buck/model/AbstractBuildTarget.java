@@ -17,6 +17,7 @@
 package com.facebook.buck.model;
 
 import com.facebook.buck.log.views.JsonViews;
+import com.facebook.buck.util.DaemonInterners;
 import com.facebook.buck.util.immutables.BuckStyleImmutable;
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.JsonIgnore;
@@ -27,6 +28,7 @@ import com.google.common.base.Preconditions;
 import com.google.common.collect.ComparisonChain;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Interner;
 import com.google.common.collect.Ordering;
 
 import org.immutables.value.Value;
@@ -47,6 +49,12 @@ abstract class AbstractBuildTarget implements Comparable<AbstractBuildTarget> {
   private static final Ordering<Iterable<Flavor>> LEXICOGRAPHICAL_ORDERING =
       Ordering.<Flavor>natural().lexicographical();
 
+  /**
+   * Interner for instances of BuildTarget created by the parser or derived from other targets.
+   */
+  private static final Interner<BuildTarget> interner =
+      DaemonInterners.newWeakInterner("build_targets");
+
   @Value.Parameter
   public abstract UnflavoredBuildTarget getUnflavoredBuildTarget();
 
@@ -133,9 +141,17 @@ abstract class AbstractBuildTarget implements Comparable<AbstractBuildTarget> {
   }
 
   public static BuildTarget of(UnflavoredBuildTarget unflavoredBuildTarget) {
-    return BuildTarget.of(
-        unflavoredBuildTarget,
-        ImmutableSortedSet.of());
+    return interner.intern(
+        BuildTarget.of(
+            unflavoredBuildTarget,
+            ImmutableSortedSet.of()));
+  }
+
+  /**
+   * @return the instance of the target shared across the daemon.
+   */
+  public static BuildTarget intern(BuildTarget buildTarget) {
+    return interner.intern(buildTarget);
   }
 
   public static BuildTarget.Builder builder(BuildTarget buildTarget) {
@@ -184,7 +200,7 @@ abstract class AbstractBuildTarget implements Comparable<AbstractBuildTarget> {
         builder.addFlavors(flavor);
       }
     }
-    return builder.build();
+    return interner.intern(builder.build());
   }
 
   public BuildTarget withoutFlavors(Flavor... flavors) {
@@ -194,13 +210,13 @@ abstract class AbstractBuildTarget implements Comparable<AbstractBuildTarget> {
   public BuildTarget withAppendedFlavors(Set<Flavor> flavorsToAppend) {
     BuildTarget.Builder builder = BuildTarget.builder(BuildTarget.copyOf(this));
     builder.addAllFlavors(flavorsToAppend);
-    return builder.build();
+    return interner.intern(builder.build());
   }
 
   public BuildTarget withAppendedFlavors(Flavor... flavors) {
     BuildTarget.Builder builder = BuildTarget.builder(BuildTarget.copyOf(this));
     builder.addFlavors(flavors);
-    return builder.build();
+    return interner.intern(builder.build());
   }
 
   public BuildTarget withoutCell() {
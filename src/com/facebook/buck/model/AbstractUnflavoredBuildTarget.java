@@ -16,11 +16,11 @@
 
 package com.facebook.buck.model;
 
+import com.facebook.buck.util.DaemonInterners;
 import com.facebook.buck.util.immutables.BuckStyleImmutable;
 import com.facebook.buck.util.string.StringsUtils;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Interner;
-import com.google.common.collect.Interners;
 import com.google.common.primitives.Booleans;
 
 import org.immutables.value.Value;
@@ -38,7 +38,8 @@ abstract class AbstractUnflavoredBuildTarget implements Comparable<AbstractUnfla
   /**
    * Interner for instances of UnflavoredBuildTarget.
    */
-  private static final Interner<UnflavoredBuildTarget> interner = Interners.newWeakInterner();
+  private static final Interner<UnflavoredBuildTarget> interner =
+      DaemonInterners.newWeakInterner("unflavored_build_targets");
 
   /**
    * Builder for UnflavoredBuildTargets which routes values through BuildTargetInterner.
@@ -69,6 +69,15 @@ abstract class AbstractParserConfig implements ConfigView<BuckConfig> {
     ;
   }
 
+  /**
+   * Encoding used by {@code buck.py} to send the rules it parsed back to Buck.
+   */
+  public enum ParserOutputFormat {
+    JSON,
+    BSER,
+    ;
+  }
+
   /**
    * Controls whether default flavors should be applied to unflavored targets.
    */
@@ -153,6 +162,18 @@ abstract class AbstractParserConfig implements ConfigView<BuckConfig> {
     return getDelegate().getLong("project", "watchman_query_timeout_ms");
   }
 
+  /**
+   * @return how much longer than usual to wait for Watchman to list the changes since a clock,
+   *     before giving up and invalidating all the caches. Off by default, since every command
+   *     against a slow or wedged Watchman would wait that much longer before invalidating anyway.
+   */
+  @Value.Lazy
+  public long getWatchmanRecoveryTimeoutMs() {
+    return getDelegate()
+        .getLong("project", "watchman_recovery_timeout_ms")
+        .orElse(0L);
+  }
+
   @Value.Lazy
   public boolean getWatchCells() {
     return getDelegate().getBooleanValue("project", "watch_cells", true);
@@ -170,6 +191,18 @@ abstract class AbstractParserConfig implements ConfigView<BuckConfig> {
     return getDelegate().getBooleanValue("project", "parallel_parsing", true);
   }
 
+  @Value.Lazy
+  public ParserOutputFormat getParserOutputFormat() {
+    return getDelegate()
+        .getEnum("project", "parser_output_format", ParserOutputFormat.class)
+        .orElse(ParserOutputFormat.JSON);
+  }
+
+  @Value.Lazy
+  public boolean getEnablePersistentParseCache() {
+    return getDelegate().getBooleanValue("project", "persistent_parse_cache", false);
+  }
+
   @Value.Lazy
   public int getNumParsingThreads() {
     if (!getEnableParallelParsing()) {
@@ -183,6 +216,17 @@ abstract class AbstractParserConfig implements ConfigView<BuckConfig> {
     return Math.min(value, getDelegate().getNumThreads());
   }
 
+  /**
+   * Resident memory above which a build file parser process is shut down once it finishes parsing
+   * a build file, to be replaced by a new one if needed.
+   */
+  @Value.Lazy
+  public Optional<Long> getParserMemoryLimitBytes() {
+    return getDelegate()
+        .getLong("project", "parser_memory_limit_mb")
+        .map(megabytes -> megabytes * 1024 * 1024);
+  }
+
   @Value.Lazy
   public ApplyDefaultFlavorsMode getDefaultFlavorsMode() {
     return getDelegate().getEnum(
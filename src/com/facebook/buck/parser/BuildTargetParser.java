@@ -17,15 +17,16 @@
 package com.facebook.buck.parser;
 
 import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.model.Flavor;
 import com.facebook.buck.model.FlavorParser;
 import com.facebook.buck.model.InternalFlavor;
 import com.facebook.buck.model.UnflavoredBuildTarget;
 import com.facebook.buck.rules.CellPathResolver;
+import com.facebook.buck.util.DaemonInterners;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Splitter;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Interner;
-import com.google.common.collect.Interners;
 
 import java.nio.file.Path;
 import java.util.HashSet;
@@ -45,7 +46,8 @@ public class BuildTargetParser {
   private static final Splitter BUILD_RULE_SEPARATOR_SPLITTER = Splitter.on(BUILD_RULE_SEPARATOR);
   private static final Set<String> INVALID_BASE_NAME_PARTS = ImmutableSet.of(".", "..");
 
-  private final Interner<BuildTarget> flavoredTargetCache = Interners.newWeakInterner();
+  private static final Interner<Flavor> FLAVOR_INTERNER =
+      DaemonInterners.newWeakInterner("flavors");
 
   private final FlavorParser flavorParser = new FlavorParser();
 
@@ -127,9 +129,9 @@ public class BuildTargetParser {
 
     BuildTarget.Builder builder = BuildTarget.builder(unflavoredBuildTarget);
     for (String flavor : flavorNames) {
-      builder.addFlavors(InternalFlavor.of(flavor));
+      builder.addFlavors(FLAVOR_INTERNER.intern(InternalFlavor.of(flavor)));
     }
-    return flavoredTargetCache.intern(builder.build());
+    return BuildTarget.intern(builder.build());
   }
 
   protected static void checkBaseName(String baseName, String buildTargetName) {
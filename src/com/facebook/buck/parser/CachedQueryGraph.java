@@ -0,0 +1,118 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.parser;
+
+import com.facebook.buck.cli.BuckConfig;
+import com.facebook.buck.graph.MutableDirectedGraph;
+import com.facebook.buck.log.Logger;
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.rules.Cell;
+import com.facebook.buck.rules.TargetNode;
+import com.facebook.buck.util.MoreCollectors;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nullable;
+
+/**
+ * The part of the target graph loaded by queries, kept by the daemon between commands so that
+ * reverse dependencies (e.g. for {@code rdeps(//..., X)}) can be answered without reloading the
+ * whole universe every time.
+ *
+ * Every target in {@link #getTargetsToNodes()} has its complete transitive closure in
+ * {@link #getGraph()}. To keep it that way, when the parser invalidates a cached node, the node is
+ * dropped along with everything depending on it, so that the next query loads them again.
+ */
+public class CachedQueryGraph {
+
+  private static final Logger LOG = Logger.get(CachedQueryGraph.class);
+
+  private final MutableDirectedGraph<TargetNode<?, ?>> graph =
+      MutableDirectedGraph.createConcurrent();
+  private final Map<BuildTarget, TargetNode<?, ?>> targetsToNodes = new ConcurrentHashMap<>();
+
+  /**
+   * Configurations and environment the nodes were loaded with. Changes to these are only detected
+   * by the parser when a node is looked up, which the queries skip for nodes already loaded here.
+   */
+  @Nullable
+  private ImmutableMap<Path, BuckConfig> cellConfigs;
+  @Nullable
+  private ImmutableMap<String, String> environment;
+
+  public MutableDirectedGraph<TargetNode<?, ?>> getGraph() {
+    return graph;
+  }
+
+  public Map<BuildTarget, TargetNode<?, ?>> getTargetsToNodes() {
+    return targetsToNodes;
+  }
+
+  /**
+   * Drops everything if the configuration of any cell or the environment changed since the
+   * nodes were loaded.
+   */
+  public synchronized void ensureValidFor(Cell rootCell) {
+    ImmutableMap<Path, BuckConfig> newCellConfigs = rootCell.getAllCells().stream()
+        .collect(MoreCollectors.toImmutableMap(Cell::getRoot, Cell::getBuckConfig));
+    ImmutableMap<String, String> newEnvironment = rootCell.getBuckConfig().getEnvironment();
+    if (!newCellConfigs.equals(cellConfigs) || !Objects.equals(newEnvironment, environment)) {
+      if (!targetsToNodes.isEmpty()) {
+        LOG.debug("Configuration or environment changed, dropping the cached query graph.");
+      }
+      invalidateAll();
+      cellConfigs = newCellConfigs;
+      environment = newEnvironment;
+    }
+  }
+
+  /**
+   * Drops the given targets and their transitive reverse dependencies.
+   */
+  synchronized void invalidateTargets(Iterable<BuildTarget> targets) {
+    Deque<TargetNode<?, ?>> nodesToRemove = new ArrayDeque<>();
+    for (BuildTarget target : targets) {
+      TargetNode<?, ?> node = targetsToNodes.get(target);
+      if (node != null) {
+        nodesToRemove.add(node);
+      }
+    }
+    while (!nodesToRemove.isEmpty()) {
+      TargetNode<?, ?> node = nodesToRemove.pop();
+      if (!targetsToNodes.remove(node.getBuildTarget(), node)) {
+        continue;
+      }
+      LOG.verbose("Dropping %s from the cached query graph.", node.getBuildTarget());
+      nodesToRemove.addAll(ImmutableList.copyOf(graph.getIncomingNodesFor(node)));
+      graph.removeNode(node);
+    }
+  }
+
+  public synchronized void invalidateAll() {
+    for (TargetNode<?, ?> node : ImmutableList.copyOf(graph.getNodes())) {
+      graph.removeNode(node);
+    }
+    targetsToNodes.clear();
+  }
+}
@@ -146,8 +146,9 @@ public abstract class ConvertingPipeline<F, T> extends ParsePipeline<T> {
           pathToCheck);
     }
 
-    return Futures.immediateFuture(
-        computeNode(cell, buildTarget, from));
+    // Nodes are computed in their own tasks, so that the nodes of a build file are coerced in
+    // parallel rather than one after the other on the thread which received the raw nodes.
+    return executorService.submit(() -> computeNode(cell, buildTarget, from));
   }
 
 }
@@ -104,10 +104,12 @@ class DaemonicCellState {
 
   private final AutoCloseableReadWriteUpdateLock rawAndComputedNodesLock;
   private final int parsingThreads;
+  private final CachedQueryGraph cachedQueryGraph;
 
-  DaemonicCellState(Cell cell, int parsingThreads) {
+  DaemonicCellState(Cell cell, int parsingThreads, CachedQueryGraph cachedQueryGraph) {
     this.cell = new AtomicReference<>(cell);
     this.parsingThreads = parsingThreads;
+    this.cachedQueryGraph = cachedQueryGraph;
     this.cellRoot = cell.getRoot();
     this.cellCanonicalName = cell.getCanonicalName();
     this.buildFileDependents = HashMultimap.create();
@@ -204,6 +206,7 @@ class DaemonicCellState {
           for (CacheImpl<?> cache : typedNodeCaches.values()) {
             cache.allComputedNodes.invalidateAll(targetsCornucopia.get(target));
           }
+          cachedQueryGraph.invalidateTargets(targetsCornucopia.get(target));
           targetsCornucopia.removeAll(target);
           allRawNodeTargets.remove(target);
         }
@@ -29,7 +29,9 @@ import com.facebook.buck.model.BuildTarget;
 import com.facebook.buck.model.BuildTargetException;
 import com.facebook.buck.model.FilesystemBackedBuildFileTree;
 import com.facebook.buck.rules.Cell;
+import com.facebook.buck.rules.TargetNodeHashCache;
 import com.facebook.buck.rules.coercer.TypeCoercerFactory;
+import com.facebook.buck.timing.DefaultClock;
 import com.facebook.buck.util.OptionalCompat;
 import com.facebook.buck.util.WatchmanOverflowEvent;
 import com.facebook.buck.util.WatchmanPathEvent;
@@ -76,9 +78,9 @@ class DaemonicParserState {
    * The value is a list of strings with the root build file as the head and included
    * build files as the tail, for example: {"__includes":["/foo/BUCK", "/foo/buck_includes"]}
    */
-  private static final String INCLUDES_META_RULE = "__includes";
-  private static final String CONFIGS_META_RULE = "__configs";
-  private static final String ENV_META_RULE = "__env";
+  static final String INCLUDES_META_RULE = "__includes";
+  static final String CONFIGS_META_RULE = "__configs";
+  static final String ENV_META_RULE = "__env";
 
   private static final String COUNTER_CATEGORY = "buck_parser_state";
   private static final String INVALIDATED_BY_ENV_VARS_COUNTER_NAME = "invalidated_by_env_vars";
@@ -175,10 +177,18 @@ class DaemonicParserState {
       invalidateIfBuckConfigOrEnvHasChanged(cell, buildFile);
 
       DaemonicCellState state = getCellState(cell);
-      if (state == null) {
+      Optional<ImmutableSet<Map<String, Object>>> rawNodes =
+          state == null ? Optional.empty() : state.lookupRawNodes(buildFile);
+      if (rawNodes.isPresent() || !isPersistentParseCacheEnabled(cell)) {
+        return rawNodes;
+      }
+
+      Optional<ImmutableSet<Map<String, Object>>> persistedRawNodes =
+          persistentParseCache.lookup(cell, buildFile);
+      if (!persistedRawNodes.isPresent()) {
         return Optional.empty();
       }
-      return state.lookupRawNodes(buildFile);
+      return Optional.of(putRawNodes(cell, buildFile, persistedRawNodes.get(), false));
     }
 
     /**
@@ -191,13 +201,25 @@ class DaemonicParserState {
      * @param rawNodes nodes to insert
      * @return previous nodes for the file if the cache contained it, new ones otherwise.
      */
-    @SuppressWarnings({"unchecked", "PMD.EmptyIfStmt"})
     @Override
     public ImmutableSet<Map<String, Object>> putComputedNodeIfNotPresent(
         Cell cell,
         Path buildFile,
         ImmutableSet<Map<String, Object>> rawNodes)
         throws BuildTargetException {
+      return putRawNodes(cell, buildFile, rawNodes, isPersistentParseCacheEnabled(cell));
+    }
+
+    /**
+     * @param persist whether to also record the nodes in the {@link PersistentParseCache}, which is
+     *     not needed when they were read from it.
+     */
+    @SuppressWarnings({"unchecked", "PMD.EmptyIfStmt"})
+    private ImmutableSet<Map<String, Object>> putRawNodes(
+        Cell cell,
+        Path buildFile,
+        ImmutableSet<Map<String, Object>> rawNodes,
+        boolean persist) {
       Preconditions.checkState(buildFile.isAbsolute());
       // Technically this leads to inconsistent state if the state change happens after rawNodes
       // were computed, but before we reach the synchronized section here, however that's a problem
@@ -261,6 +283,10 @@ class DaemonicParserState {
         dependentsOfEveryNode.add(cell.getFilesystem().resolve(include.substring(2)));
       }
 
+      if (persist) {
+        persistentParseCache.store(cell, buildFile, rawNodes, dependentsOfEveryNode.build());
+      }
+
       return getOrCreateCellState(cell).putRawNodesIfNotPresentAndStripMetaEntries(
           buildFile,
           withoutMetaIncludes,
@@ -268,6 +294,10 @@ class DaemonicParserState {
           configs,
           env);
     }
+
+    private boolean isPersistentParseCacheEnabled(Cell cell) {
+      return cell.getBuckConfig().getView(ParserConfig.class).getEnablePersistentParseCache();
+    }
   }
 
 
@@ -291,6 +321,9 @@ class DaemonicParserState {
   private final LoadingCache<Class<?>, DaemonicCacheView<?>> typedNodeCaches =
       CacheBuilder.newBuilder().build(CacheLoader.from(cls -> new DaemonicCacheView<>(cls)));
   private final DaemonicRawCacheView rawNodeCache;
+  private final PersistentParseCache persistentParseCache;
+  private final CachedQueryGraph cachedQueryGraph = new CachedQueryGraph();
+  private final TargetNodeHashCache targetNodeHashCache = new TargetNodeHashCache();
 
   private final int parsingThreads;
 
@@ -358,6 +391,7 @@ class DaemonicParserState {
             parsingThreads);
 
     this.rawNodeCache = new DaemonicRawCacheView();
+    this.persistentParseCache = new PersistentParseCache(new DefaultClock());
 
     this.cachedStateLock = new AutoCloseableReadWriteUpdateLock();
     this.cellStateLock = new AutoCloseableReadWriteUpdateLock();
@@ -372,6 +406,14 @@ class DaemonicParserState {
     return buildFileTrees;
   }
 
+  CachedQueryGraph getCachedQueryGraph() {
+    return cachedQueryGraph;
+  }
+
+  TargetNodeHashCache getTargetNodeHashCache() {
+    return targetNodeHashCache;
+  }
+
   /**
    * Retrieve the cache view for caching a particular type.
    *
@@ -402,7 +444,7 @@ class DaemonicParserState {
     try (AutoCloseableLock writeLock = cellStateLock.writeLock()) {
       DaemonicCellState state = cellPathToDaemonicState.get(cell.getRoot());
       if (state == null) {
-        state = new DaemonicCellState(cell, parsingThreads);
+        state = new DaemonicCellState(cell, parsingThreads, cachedQueryGraph);
         cellPathToDaemonicState.put(cell.getRoot(), state);
       }
       return state;
@@ -618,6 +660,8 @@ class DaemonicParserState {
     try (AutoCloseableLock writeLock = cellStateLock.writeLock()) {
       boolean invalidated = cellPathToDaemonicState.containsKey(cell.getRoot());
       cellPathToDaemonicState.remove(cell.getRoot());
+      // Nodes of other cells may depend on the dropped ones, so don't try to be clever.
+      cachedQueryGraph.invalidateAll();
       if (invalidated) {
         LOG.debug("Cell cache data invalidated.");
       } else {
@@ -633,6 +677,7 @@ class DaemonicParserState {
     try (AutoCloseableLock writeLock = cellStateLock.writeLock()) {
       boolean invalidated = !cellPathToDaemonicState.isEmpty();
       cellPathToDaemonicState.clear();
+      cachedQueryGraph.invalidateAll();
       if (invalidated) {
         LOG.debug("Cache data invalidated.");
       } else {
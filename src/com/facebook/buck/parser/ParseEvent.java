@@ -26,6 +26,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.google.common.base.Joiner;
 import com.google.common.collect.ImmutableList;
 
+import java.nio.file.Path;
 import java.util.Optional;
 
 /**
@@ -64,6 +65,20 @@ public abstract class ParseEvent extends AbstractBuckEvent implements LeafEvent,
     return new Finished(started, graph);
   }
 
+  public static ParserUtilization parserUtilization(
+      Path cellRoot,
+      int parseCount,
+      long busyTimeMillis,
+      long lifetimeMillis,
+      Optional<Long> peakResidentMemoryBytes) {
+    return new ParserUtilization(
+        cellRoot,
+        parseCount,
+        busyTimeMillis,
+        lifetimeMillis,
+        peakResidentMemoryBytes);
+  }
+
   public static class Started extends ParseEvent {
     protected Started(Iterable<BuildTarget> buildTargets) {
       super(EventKey.unique(), buildTargets);
@@ -94,4 +109,71 @@ public abstract class ParseEvent extends AbstractBuckEvent implements LeafEvent,
       return graph;
     }
   }
+
+  /**
+   * Posted when a build file parser process is shut down, describing how much it was used.
+   */
+  public static class ParserUtilization extends ParseEvent {
+    private final Path cellRoot;
+    private final int parseCount;
+    private final long busyTimeMillis;
+    private final long lifetimeMillis;
+    private final Optional<Long> peakResidentMemoryBytes;
+
+    protected ParserUtilization(
+        Path cellRoot,
+        int parseCount,
+        long busyTimeMillis,
+        long lifetimeMillis,
+        Optional<Long> peakResidentMemoryBytes) {
+      super(EventKey.unique(), ImmutableList.of());
+      this.cellRoot = cellRoot;
+      this.parseCount = parseCount;
+      this.busyTimeMillis = busyTimeMillis;
+      this.lifetimeMillis = lifetimeMillis;
+      this.peakResidentMemoryBytes = peakResidentMemoryBytes;
+    }
+
+    @Override
+    public String getEventName() {
+      return "ParserUtilization";
+    }
+
+    @Override
+    public String getValueString() {
+      return String.format(
+          "%s: %d parses, busy %d of %d ms",
+          cellRoot,
+          parseCount,
+          busyTimeMillis,
+          lifetimeMillis);
+    }
+
+    public Path getCellRoot() {
+      return cellRoot;
+    }
+
+    public int getParseCount() {
+      return parseCount;
+    }
+
+    public long getBusyTimeMillis() {
+      return busyTimeMillis;
+    }
+
+    public long getLifetimeMillis() {
+      return lifetimeMillis;
+    }
+
+    /**
+     * @return the fraction of its lifetime the parser spent parsing build files.
+     */
+    public double getUtilization() {
+      return lifetimeMillis == 0 ? 0 : (double) busyTimeMillis / lifetimeMillis;
+    }
+
+    public Optional<Long> getPeakResidentMemoryBytes() {
+      return peakResidentMemoryBytes;
+    }
+  }
 }
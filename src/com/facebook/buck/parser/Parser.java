@@ -37,6 +37,7 @@ import com.facebook.buck.rules.ImplicitFlavorsInferringDescription;
 import com.facebook.buck.rules.TargetGraph;
 import com.facebook.buck.rules.TargetGraphAndBuildTargets;
 import com.facebook.buck.rules.TargetNode;
+import com.facebook.buck.rules.TargetNodeHashCache;
 import com.facebook.buck.rules.coercer.TypeCoercerFactory;
 import com.facebook.buck.util.HumanReadableException;
 import com.facebook.buck.util.MoreCollectors;
@@ -103,6 +104,20 @@ public class Parser {
     return permState;
   }
 
+  /**
+   * @return the target graph loaded by previous queries which is still valid.
+   */
+  public CachedQueryGraph getCachedQueryGraph() {
+    return permState.getCachedQueryGraph();
+  }
+
+  /**
+   * @return the hashes of target nodes computed by previous commands.
+   */
+  public TargetNodeHashCache getTargetNodeHashCache() {
+    return permState.getTargetNodeHashCache();
+  }
+
   protected TypeCoercerFactory getTypeCoercerFactory() {
     return typeCoercerFactory;
   }
@@ -115,8 +115,10 @@ public class PerBuildState implements AutoCloseable {
     ParserConfig parserConfig = rootCell.getBuckConfig().getView(ParserConfig.class);
     int numParsingThreads = parserConfig.getNumParsingThreads();
     this.projectBuildFileParserPool = new ProjectBuildFileParserPool(
-        numParsingThreads, // Max parsers to create per cell.
-        input -> createBuildFileParser(input, PerBuildState.this.ignoreBuckAutodepsFiles));
+        numParsingThreads, // Max parsers to create across all cells.
+        parserConfig.getParserMemoryLimitBytes(),
+        input -> createBuildFileParser(input, PerBuildState.this.ignoreBuckAutodepsFiles),
+        eventBus);
 
     this.rawNodeParsePipeline = new RawNodeParsePipeline(
         parser.getPermState().getRawNodeCache(),
@@ -0,0 +1,391 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.parser;
+
+import com.facebook.buck.io.ProjectFilesystem;
+import com.facebook.buck.json.BuildFilePythonResult;
+import com.facebook.buck.log.Logger;
+import com.facebook.buck.model.BuckVersion;
+import com.facebook.buck.rules.Cell;
+import com.facebook.buck.timing.Clock;
+import com.facebook.buck.util.ObjectMappers;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteStreams;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.annotation.Nullable;
+
+/**
+ * An on-disk cache of the raw nodes of build files, which outlives the daemon so that a restarted
+ * daemon does not need to run every build file through {@code buck.py} again.
+ *
+ * There is one entry per build file. An entry is only returned if:
+ * <ul>
+ *   <li>the build file and every file it included still have the same contents,</li>
+ *   <li>the config values and environment variables it read still have the same values,</li>
+ *   <li>no file or directory was added to or removed from the directories its globs could have
+ *       matched, which is detected through their modification times,</li>
+ *   <li>the build files of the packages below it, which bound those directories, still exist,
+ *       and</li>
+ *   <li>neither the version of buck nor the config passed to the parser changed.</li>
+ * </ul>
+ */
+class PersistentParseCache {
+
+  private static final Logger LOG = Logger.get(PersistentParseCache.class);
+
+  private static final String CACHE_DIRECTORY_NAME = ".parse_cache";
+
+  /**
+   * Key of the meta-rule, stored ahead of the raw nodes, which holds what is needed to check that
+   * an entry is still valid.
+   */
+  @VisibleForTesting
+  static final String VALIDATION_META_RULE = "__persistent_parse_cache";
+  private static final String FINGERPRINT_KEY = "fingerprint";
+  private static final String FILES_KEY = "files";
+  private static final String DIRECTORIES_KEY = "directories";
+  private static final String SUBPACKAGES_KEY = "subpackages";
+
+  /**
+   * Entries are not recorded if any of their inputs was modified this shortly before, since a
+   * later modification within the granularity of the filesystem's timestamps would go unnoticed.
+   */
+  @VisibleForTesting
+  static final long RACY_MODIFICATION_WINDOW_MILLIS = 2000;
+
+  /**
+   * Maximum number of build files and included files whose hashes are kept in memory.
+   */
+  private static final long MAX_FILE_HASHES = 100_000;
+
+  private final Clock clock;
+  private final ConcurrentMap<Path, String> fingerprints = new ConcurrentHashMap<>();
+  private final Cache<Path, FileHash> fileHashes =
+      CacheBuilder.newBuilder().maximumSize(MAX_FILE_HASHES).build();
+
+  PersistentParseCache(Clock clock) {
+    this.clock = clock;
+  }
+
+  /**
+   * @return the raw nodes of {@code buildFile}, including the meta entries recorded by
+   *     {@code buck.py}, if they were stored by {@link #store} and are still valid.
+   */
+  @SuppressWarnings("unchecked")
+  Optional<ImmutableSet<Map<String, Object>>> lookup(Cell cell, Path buildFile) {
+    ProjectFilesystem filesystem = cell.getFilesystem();
+    Path entryPath = getEntryPath(filesystem, buildFile);
+    if (!filesystem.exists(entryPath)) {
+      return Optional.empty();
+    }
+
+    ImmutableList<Map<String, Object>> values;
+    try {
+      values = ObjectMappers.readValue(
+          filesystem.resolve(entryPath).toFile(),
+          BuildFilePythonResult.class).getValues();
+    } catch (IOException e) {
+      LOG.debug(e, "Failed to read the persisted raw nodes of %s.", buildFile);
+      return Optional.empty();
+    }
+    if (values.isEmpty() || !values.get(0).containsKey(VALIDATION_META_RULE)) {
+      return Optional.empty();
+    }
+
+    Map<String, Object> validation = (Map<String, Object>) values.get(0).get(VALIDATION_META_RULE);
+    ImmutableSet<Map<String, Object>> rawNodes =
+        ImmutableSet.copyOf(values.subList(1, values.size()));
+    try {
+      if (!getFingerprint(cell).equals(validation.get(FINGERPRINT_KEY)) ||
+          !filesAreUnchanged((Map<String, Object>) validation.get(FILES_KEY)) ||
+          !directoriesAreUnchanged((Map<String, Object>) validation.get(DIRECTORIES_KEY)) ||
+          !subpackagesAreUnchanged((List<String>) validation.get(SUBPACKAGES_KEY)) ||
+          !configsAndEnvAreUnchanged(cell, rawNodes)) {
+        LOG.verbose("Persisted raw nodes of %s are stale.", buildFile);
+        return Optional.empty();
+      }
+    } catch (IOException e) {
+      LOG.verbose(e, "Failed to validate the persisted raw nodes of %s.", buildFile);
+      return Optional.empty();
+    }
+    return Optional.of(rawNodes);
+  }
+
+  /**
+   * Records the raw nodes {@code buck.py} returned for {@code buildFile}.
+   *
+   * @param rawNodes the raw nodes, including the meta entries recorded by {@code buck.py}.
+   * @param dependentFiles the build file and all the files it included.
+   */
+  void store(
+      Cell cell,
+      Path buildFile,
+      ImmutableSet<Map<String, Object>> rawNodes,
+      ImmutableSet<Path> dependentFiles) {
+    ProjectFilesystem filesystem = cell.getFilesystem();
+    long racyAfterMillis = clock.currentTimeMillis() - RACY_MODIFICATION_WINDOW_MILLIS;
+    try {
+      ImmutableMap.Builder<String, String> files = ImmutableMap.builder();
+      for (Path file : ImmutableSet.<Path>builder().add(buildFile).addAll(dependentFiles).build()) {
+        FileHash fileHash = getFileHash(file);
+        if (fileHash.lastModifiedMillis > racyAfterMillis) {
+          return;
+        }
+        files.put(file.toString(), fileHash.hashCode.toString());
+      }
+
+      ImmutableList.Builder<String> subpackageBuildFiles = ImmutableList.builder();
+      ImmutableMap<String, Long> directories = getDirectoryModificationTimes(
+          cell,
+          buildFile.getParent(),
+          subpackageBuildFiles);
+      if (directories.values().stream().anyMatch(lastModified -> lastModified > racyAfterMillis)) {
+        return;
+      }
+
+      ImmutableList<Map<String, Object>> values = ImmutableList.<Map<String, Object>>builder()
+          .add(
+              ImmutableMap.of(
+                  VALIDATION_META_RULE,
+                  ImmutableMap.of(
+                      FINGERPRINT_KEY, getFingerprint(cell),
+                      FILES_KEY, files.build(),
+                      DIRECTORIES_KEY, directories,
+                      SUBPACKAGES_KEY, subpackageBuildFiles.build())))
+          .addAll(rawNodes)
+          .build();
+
+      Path entryPath = getEntryPath(filesystem, buildFile);
+      filesystem.createParentDirs(entryPath);
+      Path tempPath = filesystem.createTempFile(
+          entryPath.getParent(),
+          entryPath.getFileName().toString(),
+          ".tmp");
+      try {
+        try (OutputStream output = filesystem.newFileOutputStream(tempPath)) {
+          ObjectMappers.WRITER.writeValue(
+              output,
+              ImmutableMap.of("values", values, "diagnostics", ImmutableList.of()));
+        }
+        filesystem.move(tempPath, entryPath, StandardCopyOption.REPLACE_EXISTING);
+      } finally {
+        filesystem.deleteFileAtPathIfExists(tempPath);
+      }
+    } catch (IOException e) {
+      LOG.debug(e, "Failed to persist the raw nodes of %s.", buildFile);
+    }
+  }
+
+  private Path getEntryPath(ProjectFilesystem filesystem, Path buildFile) {
+    String key = Hashing.sha1().hashString(buildFile.toString(), StandardCharsets.UTF_8).toString();
+    return filesystem.getBuckPaths().getBuckOut()
+        .resolve(CACHE_DIRECTORY_NAME)
+        .resolve(key.substring(0, 2))
+        .resolve(key);
+  }
+
+  /**
+   * Everything which changes the output of {@code buck.py} for all build files at once.
+   */
+  private String getFingerprint(Cell cell) throws IOException {
+    String fingerprint = fingerprints.get(cell.getRoot());
+    if (fingerprint == null) {
+      fingerprint = Hashing.sha1().newHasher()
+          .putString(BuckVersion.getVersion(), StandardCharsets.UTF_8)
+          .putString(
+              ObjectMappers.WRITER.writeValueAsString(
+                  cell.getBuckConfig().getRawConfigForParser()),
+              StandardCharsets.UTF_8)
+          .hash()
+          .toString();
+      fingerprints.put(cell.getRoot(), fingerprint);
+    }
+    return fingerprint;
+  }
+
+  private boolean filesAreUnchanged(Map<String, Object> files) throws IOException {
+    for (Map.Entry<String, Object> file : files.entrySet()) {
+      try {
+        if (!getFileHash(Paths.get(file.getKey())).hashCode.toString().equals(file.getValue())) {
+          return false;
+        }
+      } catch (NoSuchFileException e) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private boolean directoriesAreUnchanged(Map<String, Object> directories) {
+    for (Map.Entry<String, Object> directory : directories.entrySet()) {
+      try {
+        long lastModifiedMillis =
+            Files.getLastModifiedTime(Paths.get(directory.getKey())).toMillis();
+        if (!directory.getValue().equals(lastModifiedMillis)) {
+          return false;
+        }
+      } catch (IOException e) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean subpackagesAreUnchanged(@Nullable List<String> subpackageBuildFiles) {
+    if (subpackageBuildFiles == null) {
+      return false;
+    }
+    for (String buildFile : subpackageBuildFiles) {
+      if (!Files.isRegularFile(Paths.get(buildFile))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static boolean configsAndEnvAreUnchanged(
+      Cell cell,
+      ImmutableSet<Map<String, Object>> rawNodes) {
+    for (Map<String, Object> rawNode : rawNodes) {
+      if (rawNode.containsKey(DaemonicParserState.CONFIGS_META_RULE)) {
+        Map<String, Map<String, String>> configs =
+            (Map<String, Map<String, String>>) rawNode.get(DaemonicParserState.CONFIGS_META_RULE);
+        for (Map.Entry<String, Map<String, String>> section : configs.entrySet()) {
+          for (Map.Entry<String, String> field : section.getValue().entrySet()) {
+            // Compare raw values, like DaemonicCellState does.
+            Optional<String> value =
+                cell.getBuckConfig().getRawValue(section.getKey(), field.getKey());
+            if (!value.equals(Optional.ofNullable(field.getValue()))) {
+              return false;
+            }
+          }
+        }
+      } else if (rawNode.containsKey(DaemonicParserState.ENV_META_RULE)) {
+        Map<String, String> env =
+            (Map<String, String>) rawNode.get(DaemonicParserState.ENV_META_RULE);
+        for (Map.Entry<String, String> variable : env.entrySet()) {
+          if (!Objects.equals(
+                  cell.getBuckConfig().getEnvironment().get(variable.getKey()),
+                  variable.getValue())) {
+            return false;
+          }
+        }
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @return the modification times of {@code root} and of all the directories below it that globs
+   *     can match, keyed by absolute path. When package boundaries are enforced, globs cannot match
+   *     files of other packages, so the walk stops at directories with a build file, which are
+   *     added to {@code subpackageBuildFiles} instead.
+   */
+  private static ImmutableMap<String, Long> getDirectoryModificationTimes(
+      Cell cell,
+      Path root,
+      ImmutableList.Builder<String> subpackageBuildFiles) throws IOException {
+    ProjectFilesystem filesystem = cell.getFilesystem();
+    ImmutableMap.Builder<String, Long> directories = ImmutableMap.builder();
+    Files.walkFileTree(
+        root,
+        new SimpleFileVisitor<Path>() {
+          @Override
+          public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+            Path relativePath = filesystem.getRootPath().relativize(dir);
+            boolean isInCell =
+                !relativePath.toString().isEmpty() && !relativePath.startsWith("..");
+            if (isInCell && filesystem.isIgnored(relativePath)) {
+              return FileVisitResult.SKIP_SUBTREE;
+            }
+            Path subpackageBuildFile = dir.resolve(cell.getBuildFileName());
+            if (isInCell &&
+                !dir.equals(root) &&
+                Files.isRegularFile(subpackageBuildFile) &&
+                cell.isEnforcingBuckPackageBoundaries(relativePath)) {
+              subpackageBuildFiles.add(subpackageBuildFile.toString());
+              return FileVisitResult.SKIP_SUBTREE;
+            }
+            directories.put(dir.toString(), attrs.lastModifiedTime().toMillis());
+            return FileVisitResult.CONTINUE;
+          }
+
+          @Override
+          public FileVisitResult visitFileFailed(Path file, IOException exc) throws IOException {
+            throw exc;
+          }
+        });
+    return directories.build();
+  }
+
+  private FileHash getFileHash(Path file) throws IOException {
+    BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+    long lastModifiedMillis = attributes.lastModifiedTime().toMillis();
+    FileHash fileHash = fileHashes.getIfPresent(file);
+    if (fileHash != null &&
+        fileHash.lastModifiedMillis == lastModifiedMillis &&
+        fileHash.size == attributes.size()) {
+      return fileHash;
+    }
+    HashCode hashCode;
+    try (InputStream input = Files.newInputStream(file)) {
+      hashCode = Hashing.sha1().hashBytes(ByteStreams.toByteArray(input));
+    }
+    fileHash = new FileHash(hashCode, lastModifiedMillis, attributes.size());
+    fileHashes.put(file, fileHash);
+    return fileHash;
+  }
+
+  private static class FileHash {
+    private final HashCode hashCode;
+    private final long lastModifiedMillis;
+    private final long size;
+
+    private FileHash(HashCode hashCode, long lastModifiedMillis, long size) {
+      this.hashCode = hashCode;
+      this.lastModifiedMillis = lastModifiedMillis;
+      this.size = size;
+    }
+  }
+}
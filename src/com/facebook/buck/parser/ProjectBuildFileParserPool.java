@@ -16,49 +16,93 @@
 
 package com.facebook.buck.parser;
 
+import com.facebook.buck.event.BuckEventBus;
+import com.facebook.buck.json.BuildFileParseException;
 import com.facebook.buck.json.ProjectBuildFileParser;
+import com.facebook.buck.log.Logger;
 import com.facebook.buck.rules.Cell;
-import com.facebook.buck.util.concurrent.ResourcePool;
 import com.google.common.base.Function;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.SettableFuture;
 
 import java.nio.file.Path;
-import java.util.HashMap;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.GuardedBy;
 
 /**
  * Allows multiple concurrently executing futures to share a constrained number of parsers.
  *
- * Parser instances are lazily created up till a fixed maximum. If more than max parser are
- * requested the associated 'requests' are queued up. As soon as a parser is returned it will
- * be used to satisfy the first pending request, otherwise it is "parked".
+ * Parser instances are lazily created, up to a fixed maximum shared by all cells, whenever a
+ * request cannot be satisfied by an idle parser of its cell. Once the maximum is reached, an idle
+ * parser of another cell is shut down to make room, so that cells with few build files do not hold
+ * on to capacity the others need. Otherwise requests are queued up, and as soon as a parser is
+ * returned it is used to satisfy the first pending request.
+ *
+ * Among the idle parsers of a cell, the most recently used one is preferred. Parsers whose
+ * resident memory grows beyond the configured limit are retired once they are returned, as are parsers which failed to parse a file
+ * since the Python process may have garbled its output stream.
  */
 class ProjectBuildFileParserPool implements AutoCloseable {
-  private final int maxParsersPerCell;
-  @GuardedBy("this")
-  private final Map<Cell, ResourcePool<ProjectBuildFileParser>> parserResourcePools;
+  private static final Logger LOG = Logger.get(ProjectBuildFileParserPool.class);
+
+  private final int maxParsers;
+  private final Optional<Long> maxParserMemoryBytes;
   private final Function<Cell, ProjectBuildFileParser> parserFactory;
+  private final BuckEventBus eventBus;
   private final AtomicBoolean closing;
 
+  @GuardedBy("this")
+  private final List<PooledParser> createdParsers;
+  /**
+   * Idle parsers, least recently used first.
+   */
+  @GuardedBy("this")
+  private final Deque<PooledParser> idleParsers;
+  @GuardedBy("this")
+  private final Deque<ParserRequest> pendingRequests;
+  /**
+   * Parsers which no longer count towards the maximum, waiting to be shut down outside the lock.
+   */
+  @GuardedBy("this")
+  private final List<PooledParser> retiredParsers;
+
   /**
-   * @param maxParsersPerCell maximum number of parsers to create for a single cell.
+   * @param maxParsers maximum number of parsers to create, across all cells.
+   * @param maxParserMemoryBytes resident memory above which a parser is retired.
    * @param parserFactory function used to create a new parser.
+   * @param eventBus where to post {@link ParseEvent.ParserUtilization} events.
    */
   public ProjectBuildFileParserPool(
-      int maxParsersPerCell,
-      Function<Cell, ProjectBuildFileParser> parserFactory) {
-    Preconditions.checkArgument(maxParsersPerCell > 0);
+      int maxParsers,
+      Optional<Long> maxParserMemoryBytes,
+      Function<Cell, ProjectBuildFileParser> parserFactory,
+      BuckEventBus eventBus) {
+    Preconditions.checkArgument(maxParsers > 0);
 
-    this.maxParsersPerCell = maxParsersPerCell;
-    this.parserResourcePools = new HashMap<>();
+    this.maxParsers = maxParsers;
+    this.maxParserMemoryBytes = maxParserMemoryBytes;
     this.parserFactory = parserFactory;
+    this.eventBus = eventBus;
     this.closing = new AtomicBoolean(false);
+    this.createdParsers = new ArrayList<>();
+    this.idleParsers = new ArrayDeque<>();
+    this.pendingRequests = new ArrayDeque<>();
+    this.retiredParsers = new ArrayList<>();
   }
 
   /**
@@ -74,33 +118,226 @@ class ProjectBuildFileParserPool implements AutoCloseable {
       final ListeningExecutorService executorService) {
     Preconditions.checkState(!closing.get());
 
-    return getResourcePoolForCell(cell).scheduleOperationWithResource(
-        parser -> ImmutableSet.copyOf(parser.getAllRulesAndMetaRules(buildFile)),
+    ListenableFuture<PooledParser> parserFuture = Futures.transformAsync(
+        Futures.immediateFuture(null),
+        input -> requestParser(cell),
         executorService);
+    ListenableFuture<ImmutableSet<Map<String, Object>>> futureWork = Futures.transformAsync(
+        parserFuture,
+        parser -> Futures.immediateFuture(parse(parser, buildFile)),
+        executorService);
+
+    // If someone else calls cancel on `futureWork` the parser could never be returned to the pool.
+    return Futures.nonCancellationPropagating(futureWork);
+  }
+
+  private ImmutableSet<Map<String, Object>> parse(PooledParser parser, Path buildFile)
+      throws BuildFileParseException, InterruptedException {
+    boolean parserIsDefunct = true;
+    long startNanos = System.nanoTime();
+    try {
+      ImmutableSet<Map<String, Object>> result =
+          ImmutableSet.copyOf(parser.parser.getAllRulesAndMetaRules(buildFile));
+      parserIsDefunct = false;
+      return result;
+    } finally {
+      parser.recordParse(System.nanoTime() - startNanos);
+      if (!parserIsDefunct && maxParserMemoryBytes.isPresent()) {
+        long residentMemoryBytes = parser.measureResidentMemory();
+        if (residentMemoryBytes > maxParserMemoryBytes.get()) {
+          LOG.debug(
+              "Retiring parser for %s using %d bytes of memory.",
+              parser.cell.getRoot(),
+              residentMemoryBytes);
+          parserIsDefunct = true;
+        }
+      }
+      returnParser(parser, parserIsDefunct);
+    }
+  }
+
+  private ListenableFuture<PooledParser> requestParser(Cell cell) {
+    ParserRequest request = new ParserRequest(cell);
+    synchronized (this) {
+      if (closing.get()) {
+        return Futures.immediateCancelledFuture();
+      }
+      pendingRequests.add(request);
+      dispatchPendingRequests();
+    }
+    closeRetiredParsers();
+    return request.future;
+  }
+
+  private void returnParser(PooledParser parser, boolean parserIsDefunct) {
+    synchronized (this) {
+      if (parserIsDefunct || closing.get()) {
+        retireParser(parser);
+      } else {
+        idleParsers.addLast(parser);
+      }
+      dispatchPendingRequests();
+    }
+    closeRetiredParsers();
+  }
+
+  /**
+   * Hands out idle or new parsers to pending requests, in order, for as long as possible.
+   */
+  @GuardedBy("this")
+  private void dispatchPendingRequests() {
+    while (!closing.get() && !pendingRequests.isEmpty()) {
+      ParserRequest request = pendingRequests.peekFirst();
+      PooledParser parser = takeIdleParser(request.cell);
+      if (parser == null) {
+        if (createdParsers.size() >= maxParsers && !closeIdleParserOfAnotherCell()) {
+          // Every parser is busy, the next one to be returned will resume dispatching.
+          return;
+        }
+        try {
+          parser = new PooledParser(request.cell, parserFactory.apply(request.cell));
+        } catch (RuntimeException e) {
+          pendingRequests.pollFirst();
+          request.future.setException(e);
+          continue;
+        }
+        createdParsers.add(parser);
+      }
+      pendingRequests.pollFirst();
+      // A false return value means the request was cancelled, so the parser is still idle.
+      if (!request.future.set(parser)) {
+        idleParsers.addLast(parser);
+      }
+    }
+  }
+
+  @GuardedBy("this")
+  @Nullable
+  private PooledParser takeIdleParser(Cell cell) {
+    Iterator<PooledParser> iterator = idleParsers.descendingIterator();
+    while (iterator.hasNext()) {
+      PooledParser parser = iterator.next();
+      if (parser.cell.equals(cell)) {
+        iterator.remove();
+        return parser;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Retires the least recently used idle parser. Since requests are only queued when there is
+   * no idle parser for their own cell, any idle parser belongs to another cell at this point.
+   *
+   * @return whether a parser was retired.
+   */
+  @GuardedBy("this")
+  private boolean closeIdleParserOfAnotherCell() {
+    PooledParser parser = idleParsers.pollFirst();
+    if (parser == null) {
+      return false;
+    }
+    LOG.verbose("Shutting down idle parser for %s to make room.", parser.cell.getRoot());
+    retireParser(parser);
+    return true;
+  }
+
+  @GuardedBy("this")
+  private void retireParser(PooledParser parser) {
+    createdParsers.remove(parser);
+    retiredParsers.add(parser);
   }
 
-  private synchronized ResourcePool<ProjectBuildFileParser> getResourcePoolForCell(Cell cell) {
-    ResourcePool<ProjectBuildFileParser> pool = parserResourcePools.get(cell);
-    if (pool == null) {
-      pool = new ResourcePool<>(
-          maxParsersPerCell,
-          // If the Python process garbles the output stream then the bser codec doesn't always
-          // recover and subsequent attempts at invoking the parser will fail.
-          ResourcePool.ResourceUsageErrorPolicy.RETIRE,
-          () -> parserFactory.apply(cell));
-      parserResourcePools.put(cell, pool);
+  /**
+   * Shuts down the retired parsers. This waits for their Python processes to exit, so it must not
+   * be called while holding the pool's lock.
+   */
+  private void closeRetiredParsers() {
+    ImmutableList<PooledParser> parsers;
+    synchronized (this) {
+      if (retiredParsers.isEmpty()) {
+        return;
+      }
+      parsers = ImmutableList.copyOf(retiredParsers);
+      retiredParsers.clear();
+    }
+    for (PooledParser parser : parsers) {
+      try {
+        parser.parser.close();
+      } catch (Exception e) {
+        LOG.info(e, "Error shutting down a parser.");
+      }
+      eventBus.post(parser.createUtilizationEvent());
     }
-    return pool;
   }
 
   @Override
   public void close() {
-    ImmutableSet<ResourcePool<ProjectBuildFileParser>> resourcePools;
+    ImmutableList<ParserRequest> requests;
     synchronized (this) {
       Preconditions.checkState(!closing.get());
       closing.set(true);
-      resourcePools = ImmutableSet.copyOf(parserResourcePools.values());
+      requests = ImmutableList.copyOf(pendingRequests);
+      pendingRequests.clear();
+      // Parsers which are in use are shut down as soon as they are returned.
+      idleParsers.forEach(this::retireParser);
+      idleParsers.clear();
+    }
+    closeRetiredParsers();
+    requests.forEach(request -> request.future.cancel(false));
+  }
+
+  private static class ParserRequest {
+    private final Cell cell;
+    private final SettableFuture<PooledParser> future;
+
+    private ParserRequest(Cell cell) {
+      this.cell = cell;
+      this.future = SettableFuture.create();
+    }
+  }
+
+  /**
+   * A parser along with its usage statistics. Only accessed by the thread which leased it.
+   */
+  private static class PooledParser {
+    private final Cell cell;
+    private final ProjectBuildFileParser parser;
+    private final long createdNanos;
+    private int parseCount;
+    private long busyNanos;
+    private Optional<Long> peakResidentMemoryBytes = Optional.empty();
+
+    private PooledParser(Cell cell, ProjectBuildFileParser parser) {
+      this.cell = cell;
+      this.parser = parser;
+      this.createdNanos = System.nanoTime();
+    }
+
+    private void recordParse(long elapsedNanos) {
+      parseCount++;
+      busyNanos += elapsedNanos;
+    }
+
+    private long measureResidentMemory() {
+      Optional<Long> residentMemoryBytes = parser.getResidentMemoryBytes();
+      if (!residentMemoryBytes.isPresent()) {
+        return 0;
+      }
+      if (!peakResidentMemoryBytes.isPresent() ||
+          peakResidentMemoryBytes.get() < residentMemoryBytes.get()) {
+        peakResidentMemoryBytes = residentMemoryBytes;
+      }
+      return residentMemoryBytes.get();
+    }
+
+    private ParseEvent.ParserUtilization createUtilizationEvent() {
+      return ParseEvent.parserUtilization(
+          cell.getRoot(),
+          parseCount,
+          TimeUnit.NANOSECONDS.toMillis(busyNanos),
+          TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - createdNanos),
+          peakResidentMemoryBytes);
     }
-    resourcePools.forEach(ResourcePool::close);
   }
 }
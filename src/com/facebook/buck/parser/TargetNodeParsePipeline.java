@@ -118,12 +118,17 @@ public class TargetNodeParsePipeline
               scope,
               getMinimumPerfEventTimeMs(),
               TimeUnit.MILLISECONDS);
+      long startNanos = System.nanoTime();
       final TargetNode<?, ?> targetNode = delegate.createTargetNode(
           cell,
           cell.getAbsolutePathToBuildFile(buildTarget),
           buildTarget,
           rawNode,
           perfEventScopeFunction);
+      targetNodePipelineLifetimeEventScope.incrementFinishedCounter("created_target_nodes", 1);
+      targetNodePipelineLifetimeEventScope.incrementFinishedCounter(
+          "target_node_creation_duration_ns",
+          System.nanoTime() - startNanos);
 
       if (speculativeDepsTraversal) {
         executorService.submit(() -> {
@@ -76,6 +76,14 @@ abstract class AbstractCachingBuildEngineBuckConfig implements ConfigView<BuckCo
         .orElse(Long.MAX_VALUE);
   }
 
+  /**
+   * @return whether to start the rules with the longest estimated critical path first, based on
+   *     the durations of the previous builds.
+   */
+  public boolean isCriticalPathSchedulingEnabled() {
+    return getDelegate().getBooleanValue("build", "critical_path_scheduling", false);
+  }
+
   public ResourceAwareSchedulingInfo getResourceAwareSchedulingInfo() {
     return ResourceAwareSchedulingInfo.of(
         getDelegate().isResourceAwareSchedulingEnabled(),
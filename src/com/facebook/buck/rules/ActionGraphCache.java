@@ -16,6 +16,8 @@
 
 package com.facebook.buck.rules;
 
+import com.facebook.buck.counters.Counter;
+import com.facebook.buck.counters.IntegerCounter;
 import com.facebook.buck.event.ActionGraphEvent;
 import com.facebook.buck.event.BuckEventBus;
 import com.facebook.buck.event.PerfEventId;
@@ -23,8 +25,11 @@ import com.facebook.buck.event.SimplePerfEvent;
 import com.facebook.buck.event.WatchmanStatusEvent;
 import com.facebook.buck.event.listener.BroadcastEventListener;
 import com.facebook.buck.graph.AbstractBottomUpTraversal;
+import com.facebook.buck.graph.AbstractBreadthFirstTraversal;
 import com.facebook.buck.log.Logger;
+import com.facebook.buck.model.BuildTarget;
 import com.facebook.buck.model.Pair;
+import com.facebook.buck.model.UnflavoredBuildTarget;
 import com.facebook.buck.parser.NoSuchBuildTargetException;
 import com.facebook.buck.rules.keys.ContentAgnosticRuleKeyFactory;
 import com.facebook.buck.rules.keys.RuleKeyFieldLoader;
@@ -32,38 +37,158 @@ import com.facebook.buck.util.HumanReadableException;
 import com.facebook.buck.util.WatchmanOverflowEvent;
 import com.facebook.buck.util.WatchmanPathEvent;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Iterables;
 import com.google.common.collect.MapDifference;
 import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 import com.google.common.eventbus.Subscribe;
 import com.google.common.hash.HashCode;
 import com.google.common.hash.Hasher;
 import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
 
 import javax.annotation.Nullable;
 
 /**
  * Class that transforms {@link TargetGraph} to {@link ActionGraph}. It also holds a cache for the
- * last ActionGraph it generated.
+ * most recently used ActionGraphs it generated, keyed by the hash of the {@link TargetGraph} they
+ * were created from.
  */
 public class ActionGraphCache {
   private static final Logger LOG = Logger.get(ActionGraphCache.class);
 
-  @Nullable
-  private Pair<TargetGraph, ActionGraphAndResolver> lastActionGraph;
+  private static final String COUNTER_CATEGORY = "buck_action_graph_cache";
+  private static final String HITS_COUNTER_NAME = "hits";
+  private static final String MISSES_COUNTER_NAME = "misses";
+  private static final String EVICTIONS_COUNTER_NAME = "evictions";
+
+  /**
+   * Reused rules keep the resolver they were created with, and thus every rule it indexes, alive.
+   * Past this many generations of incremental action graphs, the next one is created from scratch
+   * so that the chain of resolvers stays bounded.
+   */
+  @VisibleForTesting
+  static final int MAX_INCREMENTAL_DEPTH = 8;
+
+  /**
+   * The cached action graphs, ordered from the least to the most recently used one.
+   */
+  private final LinkedHashMap<HashCode, Pair<TargetGraph, ActionGraphAndResolver>> actionGraphs =
+      new LinkedHashMap<>(16, 0.75f, /* accessOrder */ true);
 
   @Nullable
   private HashCode lastTargetGraphHash;
 
+  private final int maxEntries;
+  private final double maxHeapUsageRatio;
+  private final boolean incrementalActionGraph;
+  private final int actionGraphParallelism;
+  private final Supplier<Double> heapUsageRatioSupplier;
+
+  private final IntegerCounter hitsCounter;
+  private final IntegerCounter missesCounter;
+  private final IntegerCounter evictionsCounter;
+
   private BroadcastEventListener broadcastEventListener;
 
   public ActionGraphCache(BroadcastEventListener broadcastEventListener) {
+    this(broadcastEventListener, 1, 1.0, false, 1);
+  }
+
+  /**
+   * @param maxEntries the maximum number of action graphs kept in memory.
+   * @param maxHeapUsageRatio if the fraction of the maximum heap in use after the last garbage
+   *     collection exceeds this value once a new action graph is created, all but the most
+   *     recently used action graph are evicted.
+   * @param incrementalActionGraph if true, a cache miss reuses the {@link BuildRule}s of the
+   *     most recently used action graph whose {@link TargetNode}s did not change.
+   * @param actionGraphParallelism the number of threads used to create the rules of an action
+   *     graph.
+   */
+  public ActionGraphCache(
+      BroadcastEventListener broadcastEventListener,
+      int maxEntries,
+      double maxHeapUsageRatio,
+      boolean incrementalActionGraph,
+      int actionGraphParallelism) {
+    this(
+        broadcastEventListener,
+        maxEntries,
+        maxHeapUsageRatio,
+        incrementalActionGraph,
+        actionGraphParallelism,
+        ActionGraphCache::getHeapUsageRatioAfterLastCollection);
+  }
+
+  /**
+   * @return the fraction of the maximum heap which was still in use after the last garbage
+   *     collection of each heap pool, so that garbage does not count towards the bound.
+   */
+  private static double getHeapUsageRatioAfterLastCollection() {
+    Runtime runtime = Runtime.getRuntime();
+    long used = 0;
+    boolean collectionUsageKnown = false;
+    for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+      if (pool.getType() != MemoryType.HEAP) {
+        continue;
+      }
+      MemoryUsage usage = pool.getCollectionUsage();
+      if (usage != null) {
+        used += usage.getUsed();
+        collectionUsageKnown = true;
+      }
+    }
+    if (!collectionUsageKnown) {
+      // Without support from the collector, fall back on the current usage, garbage included.
+      used = runtime.totalMemory() - runtime.freeMemory();
+    }
+    return used / (double) runtime.maxMemory();
+  }
+
+  @VisibleForTesting
+  ActionGraphCache(
+      BroadcastEventListener broadcastEventListener,
+      int maxEntries,
+      double maxHeapUsageRatio,
+      boolean incrementalActionGraph,
+      int actionGraphParallelism,
+      Supplier<Double> heapUsageRatioSupplier) {
+    Preconditions.checkArgument(maxEntries > 0, "maxEntries must be positive: %s", maxEntries);
     this.broadcastEventListener = broadcastEventListener;
+    this.maxEntries = maxEntries;
+    this.maxHeapUsageRatio = maxHeapUsageRatio;
+    this.incrementalActionGraph = incrementalActionGraph;
+    this.actionGraphParallelism = actionGraphParallelism;
+    this.heapUsageRatioSupplier = heapUsageRatioSupplier;
+    this.hitsCounter = new IntegerCounter(COUNTER_CATEGORY, HITS_COUNTER_NAME, ImmutableMap.of());
+    this.missesCounter =
+        new IntegerCounter(COUNTER_CATEGORY, MISSES_COUNTER_NAME, ImmutableMap.of());
+    this.evictionsCounter =
+        new IntegerCounter(COUNTER_CATEGORY, EVICTIONS_COUNTER_NAME, ImmutableMap.of());
   }
 
   /**
@@ -88,37 +213,78 @@ public class ActionGraphCache {
     ActionGraphAndResolver out;
     try {
       RuleKeyFieldLoader fieldLoader = new RuleKeyFieldLoader(keySeed);
-      if (lastActionGraph != null && lastActionGraph.getFirst().equals(targetGraph)) {
+      // Try the most recently used graph first, so the common case does not need to hash the
+      // whole target graph.
+      HashCode targetGraphHash = lastTargetGraphHash;
+      Pair<TargetGraph, ActionGraphAndResolver> lastActionGraph =
+          targetGraphHash == null ? null : actionGraphs.get(targetGraphHash);
+      Pair<TargetGraph, ActionGraphAndResolver> cachedActionGraph = lastActionGraph;
+      boolean isHit =
+          cachedActionGraph != null && cachedActionGraph.getFirst().equals(targetGraph);
+      if (!isHit) {
+        LOG.debug("Computing TargetGraph HashCode...");
+        targetGraphHash = getTargetGraphHash(targetGraph);
+        cachedActionGraph = actionGraphs.get(targetGraphHash);
+        isHit = cachedActionGraph != null && cachedActionGraph.getFirst().equals(targetGraph);
+      }
+
+      if (isHit) {
+        Preconditions.checkNotNull(cachedActionGraph);
         eventBus.post(ActionGraphEvent.Cache.hit());
+        hitsCounter.inc();
         LOG.info("ActionGraph cache hit.");
+        lastTargetGraphHash = targetGraphHash;
         if (checkActionGraphs) {
-          compareActionGraphs(eventBus, lastActionGraph.getSecond(), targetGraph, fieldLoader);
+          compareActionGraphs(eventBus, cachedActionGraph.getSecond(), targetGraph, fieldLoader);
         }
-        out = lastActionGraph.getSecond();
+        out = cachedActionGraph.getSecond();
       } else {
-        eventBus.post(ActionGraphEvent.Cache.miss(lastActionGraph == null));
-        LOG.debug("Computing TargetGraph HashCode...");
-        HashCode targetGraphHash = getTargetGraphHash(targetGraph);
-        if (lastActionGraph == null) {
+        eventBus.post(ActionGraphEvent.Cache.miss(actionGraphs.isEmpty()));
+        missesCounter.inc();
+        if (actionGraphs.isEmpty()) {
           LOG.info("ActionGraph cache miss. Cache was empty.");
-        } else if (Objects.equals(lastTargetGraphHash, targetGraphHash)) {
+        } else if (cachedActionGraph != null) {
           LOG.info("ActionGraph cache miss. TargetGraphs mismatched but hashes are the same.");
           eventBus.post(ActionGraphEvent.Cache.missWithTargetGraphHashMatch());
         } else {
           LOG.info("ActionGraph cache miss. TargetGraphs mismatched.");
         }
-        lastTargetGraphHash = targetGraphHash;
-        Pair<TargetGraph, ActionGraphAndResolver> freshActionGraph =
-            new Pair<TargetGraph, ActionGraphAndResolver>(
-                targetGraph,
-                createActionGraph(
-                    eventBus,
-                    new DefaultTargetNodeToBuildRuleTransformer(),
-                    targetGraph));
+        // A graph with the same hash is most likely to share nodes with the requested one.
+        Pair<TargetGraph, ActionGraphAndResolver> baseActionGraph =
+            cachedActionGraph != null ? cachedActionGraph : lastActionGraph;
+        Pair<TargetGraph, ActionGraphAndResolver> freshActionGraph;
+        if (incrementalActionGraph &&
+            baseActionGraph != null &&
+            baseActionGraph.getSecond().getResolver().getReuseDepth() < MAX_INCREMENTAL_DEPTH) {
+          freshActionGraph = new Pair<TargetGraph, ActionGraphAndResolver>(
+              targetGraph,
+              createActionGraphIncrementally(
+                  eventBus,
+                  new DefaultTargetNodeToBuildRuleTransformer(),
+                  baseActionGraph.getFirst(),
+                  baseActionGraph.getSecond(),
+                  targetGraph,
+                  actionGraphParallelism));
+          if (checkActionGraphs) {
+            compareActionGraphs(eventBus, freshActionGraph.getSecond(), targetGraph, fieldLoader);
+          }
+        } else {
+          freshActionGraph = new Pair<TargetGraph, ActionGraphAndResolver>(
+              targetGraph,
+              createActionGraph(
+                  new BuildRuleResolver(
+                      targetGraph,
+                      new DefaultTargetNodeToBuildRuleTransformer(),
+                      eventBus),
+                  targetGraph,
+                  actionGraphParallelism));
+        }
         out = freshActionGraph.getSecond();
         if (!skipActionGraphCache) {
           LOG.info("ActionGraph cache assignment. skipActionGraphCache? %s", skipActionGraphCache);
-          lastActionGraph = freshActionGraph;
+          actionGraphs.put(targetGraphHash, freshActionGraph);
+          lastTargetGraphHash = targetGraphHash;
+          evictIfNeeded();
         }
       }
     } finally {
@@ -127,6 +293,39 @@ public class ActionGraphCache {
     return out;
   }
 
+  /**
+   * Evicts the least recently used action graphs until at most {@link #maxEntries} remain. If the
+   * heap is under pressure, only the most recently used action graph is kept.
+   */
+  private void evictIfNeeded() {
+    int targetSize = maxEntries;
+    if (actionGraphs.size() > 1 && heapUsageRatioSupplier.get() > maxHeapUsageRatio) {
+      LOG.info("Heap usage is above %s, trimming ActionGraph cache.", maxHeapUsageRatio);
+      targetSize = 1;
+    }
+    List<BuildRuleResolver> evictedResolvers = new ArrayList<>();
+    Iterator<Map.Entry<HashCode, Pair<TargetGraph, ActionGraphAndResolver>>> iterator =
+        actionGraphs.entrySet().iterator();
+    while (actionGraphs.size() > targetSize) {
+      Map.Entry<HashCode, Pair<TargetGraph, ActionGraphAndResolver>> evicted = iterator.next();
+      iterator.remove();
+      evictedResolvers.add(evicted.getValue().getSecond().getResolver());
+      evictionsCounter.inc();
+      LOG.info("ActionGraph cache eviction of graph with hash %s.", evicted.getKey());
+    }
+    if (!evictedResolvers.isEmpty()) {
+      // The rules reused by the remaining graphs may still look their deps up through an evicted
+      // resolver, which is only allowed to keep those alive.
+      Set<BuildRule> liveRules = Sets.newIdentityHashSet();
+      for (Pair<TargetGraph, ActionGraphAndResolver> actionGraph : actionGraphs.values()) {
+        Iterables.addAll(liveRules, actionGraph.getSecond().getResolver().getBuildRules());
+      }
+      for (BuildRuleResolver resolver : evictedResolvers) {
+        resolver.retainRules(liveRules);
+      }
+    }
+  }
+
   /**
    * * It returns a new {@link ActionGraphAndResolver} based on the targetGraph without checking
    * the cache. It uses a {@link DefaultTargetNodeToBuildRuleTransformer}.
@@ -167,21 +366,29 @@ public class ActionGraphCache {
       final BuckEventBus eventBus,
       TargetNodeToBuildRuleTransformer transformer,
       TargetGraph targetGraph) {
-    final BuildRuleResolver resolver = new BuildRuleResolver(targetGraph, transformer, eventBus);
+    return createActionGraph(
+        new BuildRuleResolver(targetGraph, transformer, eventBus),
+        targetGraph,
+        1);
+  }
 
-    AbstractBottomUpTraversal<TargetNode<?, ?>, RuntimeException> bottomUpTraversal =
-        new AbstractBottomUpTraversal<TargetNode<?, ?>, RuntimeException>(targetGraph) {
+  private static ActionGraphAndResolver createActionGraph(
+      final BuildRuleResolver resolver,
+      TargetGraph targetGraph,
+      int parallelism) {
+    if (parallelism > 1) {
+      requireRulesInParallel(resolver, targetGraph, parallelism);
+    } else {
+      AbstractBottomUpTraversal<TargetNode<?, ?>, RuntimeException> bottomUpTraversal =
+          new AbstractBottomUpTraversal<TargetNode<?, ?>, RuntimeException>(targetGraph) {
 
-          @Override
-          public void visit(TargetNode<?, ?> node) {
-            try {
-              resolver.requireRule(node.getBuildTarget());
-            } catch (NoSuchBuildTargetException e) {
-              throw new HumanReadableException(e);
+            @Override
+            public void visit(TargetNode<?, ?> node) {
+              requireRule(resolver, node);
             }
-          }
-        };
-    bottomUpTraversal.traverse();
+          };
+      bottomUpTraversal.traverse();
+    }
 
     return ActionGraphAndResolver.builder()
         .setActionGraph(new ActionGraph(resolver.getBuildRules()))
@@ -189,6 +396,122 @@ public class ActionGraphCache {
         .build();
   }
 
+  /**
+   * Requires the rules of all the nodes of {@code targetGraph} on a work-stealing pool. A node's
+   * rule is only required once the rules of all its dependencies exist, so independent subtrees
+   * are transformed concurrently. The resulting rules do not depend on the thread that created
+   * them, since {@link BuildRuleResolver#requireRule} creates exactly one rule per target.
+   */
+  private static void requireRulesInParallel(
+      BuildRuleResolver resolver,
+      TargetGraph targetGraph,
+      int parallelism) {
+    ListeningExecutorService executor =
+        MoreExecutors.listeningDecorator(new ForkJoinPool(parallelism));
+    try {
+      final Map<TargetNode<?, ?>, ListenableFuture<Void>> futures = new HashMap<>();
+      // Schedule each node once all of its dependencies have been, so that no task ever blocks
+      // waiting for another one.
+      new AbstractBottomUpTraversal<TargetNode<?, ?>, RuntimeException>(targetGraph) {
+        @Override
+        public void visit(TargetNode<?, ?> node) {
+          List<ListenableFuture<Void>> depFutures = new ArrayList<>();
+          for (TargetNode<?, ?> dep : targetGraph.getOutgoingNodesFor(node)) {
+            depFutures.add(Preconditions.checkNotNull(futures.get(dep)));
+          }
+          futures.put(
+              node,
+              Futures.whenAllSucceed(depFutures).call(
+                  () -> {
+                    requireRule(resolver, node);
+                    return null;
+                  },
+                  executor));
+        }
+      }.traverse();
+      Futures.getUnchecked(Futures.allAsList(futures.values()));
+    } catch (UncheckedExecutionException e) {
+      Throwables.throwIfUnchecked(e.getCause());
+      throw e;
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static void requireRule(BuildRuleResolver resolver, TargetNode<?, ?> node) {
+    try {
+      resolver.requireRule(node.getBuildTarget());
+    } catch (NoSuchBuildTargetException e) {
+      throw new HumanReadableException(e);
+    }
+  }
+
+  /**
+   * Creates the {@link ActionGraph} for {@code targetGraph} by reusing the {@link BuildRule}s of a
+   * previously created action graph. Only the rules of {@link TargetNode}s that are new or changed
+   * since {@code lastTargetGraph}, and of all the nodes that transitively depend on them, are
+   * created again.
+   */
+  private static ActionGraphAndResolver createActionGraphIncrementally(
+      final BuckEventBus eventBus,
+      TargetNodeToBuildRuleTransformer transformer,
+      TargetGraph lastTargetGraph,
+      ActionGraphAndResolver lastActionGraphAndResolver,
+      TargetGraph targetGraph,
+      int parallelism) {
+    try (SimplePerfEvent.Scope scope = SimplePerfEvent.scope(
+        eventBus,
+        PerfEventId.of("IncrementalActionGraph"))) {
+      ImmutableSet<UnflavoredBuildTarget> invalidatedTargets =
+          getInvalidatedTargets(lastTargetGraph, targetGraph);
+      final BuildRuleResolver resolver = new BuildRuleResolver(targetGraph, transformer, eventBus);
+      int reusedRules = resolver.addAllFromResolver(
+          lastActionGraphAndResolver.getResolver(),
+          target -> {
+            UnflavoredBuildTarget unflavoredTarget = target.getUnflavoredBuildTarget();
+            return !invalidatedTargets.contains(unflavoredTarget) &&
+                targetGraph.getOptional(BuildTarget.of(unflavoredTarget)).isPresent();
+          });
+      LOG.info(
+          "Reusing %d rules of the last ActionGraph, %d targets were invalidated.",
+          reusedRules,
+          invalidatedTargets.size());
+      scope.appendFinishedInfo("reused_rules", reusedRules);
+      scope.appendFinishedInfo("invalidated_targets", invalidatedTargets.size());
+
+      // Rules that were reused are already in the index, so this only creates the invalidated ones.
+      return createActionGraph(resolver, targetGraph, parallelism);
+    }
+  }
+
+  /**
+   * @return the targets of the nodes in {@code targetGraph} that are not present in
+   *     {@code lastTargetGraph}, or whose node changed, together with all of their transitive
+   *     reverse dependencies.
+   */
+  @VisibleForTesting
+  static ImmutableSet<UnflavoredBuildTarget> getInvalidatedTargets(
+      TargetGraph lastTargetGraph,
+      final TargetGraph targetGraph) {
+    ImmutableSet.Builder<TargetNode<?, ?>> changedNodes = ImmutableSet.builder();
+    for (TargetNode<?, ?> node : targetGraph.getNodes()) {
+      // Nodes are compared by identity: the parser hands out the same node for an unchanged rule.
+      if (lastTargetGraph.getOptional(node.getBuildTarget()).orElse(null) != node) {
+        changedNodes.add(node);
+      }
+    }
+
+    final ImmutableSet.Builder<UnflavoredBuildTarget> invalidatedTargets = ImmutableSet.builder();
+    new AbstractBreadthFirstTraversal<TargetNode<?, ?>>(changedNodes.build()) {
+      @Override
+      public Iterable<TargetNode<?, ?>> visit(TargetNode<?, ?> node) {
+        invalidatedTargets.add(node.getBuildTarget().getUnflavoredBuildTarget());
+        return targetGraph.getIncomingNodesFor(node);
+      }
+    }.start();
+    return invalidatedTargets.build();
+  }
+
   private static HashCode getTargetGraphHash(TargetGraph targetGraph) {
     Hasher hasher = Hashing.sha1().newHasher();
     ImmutableSet<TargetNode<?, ?>> nodes = targetGraph.getNodes();
@@ -306,12 +629,21 @@ public class ActionGraphCache {
   }
 
   private void invalidateCache() {
-    lastActionGraph = null;
+    actionGraphs.clear();
     lastTargetGraphHash = null;
   }
 
+  public ImmutableList<Counter> getCounters() {
+    return ImmutableList.of(hitsCounter, missesCounter, evictionsCounter);
+  }
+
   @VisibleForTesting
   boolean isCacheEmpty() {
-    return lastActionGraph == null;
+    return actionGraphs.isEmpty();
+  }
+
+  @VisibleForTesting
+  int getCacheSize() {
+    return actionGraphs.size();
   }
 }
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.rules;
+
+import com.facebook.buck.io.ProjectFilesystem;
+import com.facebook.buck.log.Logger;
+import com.facebook.buck.util.ObjectMappers;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableMap;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * How long building each rule locally took in the previous builds, kept in {@code buck-out} so
+ * that {@link CriticalPathEstimator} can tell which rules are likely to be on the critical path.
+ *
+ * Builds are numbered, and each rule remembers the last build it was part of. Rules which were
+ * not part of any of the last {@link #MAX_BUILDS_NOT_SEEN} builds are forgotten, so the history
+ * does not keep every rule ever built, e.g. across branches or after targets were deleted.
+ */
+public class BuildRuleDurationHistory {
+
+  private static final Logger LOG = Logger.get(BuildRuleDurationHistory.class);
+
+  private static final String HISTORY_FILE_NAME = ".rule_durations.json";
+
+  @VisibleForTesting
+  static final int MAX_BUILDS_NOT_SEEN = 100;
+
+  public static final BuildRuleDurationHistory EMPTY =
+      new BuildRuleDurationHistory(ImmutableMap.of());
+
+  private final ImmutableMap<String, Entry> entries;
+  private final int lastBuild;
+
+  private BuildRuleDurationHistory(ImmutableMap<String, Entry> entries) {
+    this.entries = entries;
+    this.lastBuild = entries.values().stream().mapToInt(entry -> entry.lastBuild).max().orElse(0);
+  }
+
+  /**
+   * @return the history stored in {@code filesystem}'s {@code buck-out}, or an empty one if there
+   *     is none or it cannot be read.
+   */
+  public static BuildRuleDurationHistory load(ProjectFilesystem filesystem) {
+    Path path = getHistoryPath(filesystem);
+    if (!filesystem.exists(path)) {
+      return EMPTY;
+    }
+    try (InputStream input = filesystem.newFileInputStream(path)) {
+      Map<String, Entry> entries = ObjectMappers.READER.readValue(
+          ObjectMappers.createParser(input),
+          new TypeReference<Map<String, Entry>>() {});
+      return new BuildRuleDurationHistory(ImmutableMap.copyOf(entries));
+    } catch (IOException e) {
+      LOG.debug(e, "Failed to read the rule durations of previous builds.");
+      return EMPTY;
+    }
+  }
+
+  /**
+   * Replaces the history stored in {@code filesystem}'s {@code buck-out} with this one.
+   */
+  public void save(ProjectFilesystem filesystem) {
+    Path path = getHistoryPath(filesystem);
+    try {
+      filesystem.createParentDirs(path);
+      Path tempPath = filesystem.createTempFile(
+          path.getParent(),
+          path.getFileName().toString(),
+          ".tmp");
+      try {
+        try (OutputStream output = filesystem.newFileOutputStream(tempPath)) {
+          ObjectMappers.WRITER.writeValue(output, entries);
+        }
+        filesystem.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING);
+      } finally {
+        filesystem.deleteFileAtPathIfExists(tempPath);
+      }
+    } catch (IOException e) {
+      LOG.debug(e, "Failed to persist the rule durations.");
+    }
+  }
+
+  /**
+   * @return the duration of the last local build of {@code rule}, in milliseconds.
+   */
+  public Optional<Long> getWallMillis(BuildRule rule) {
+    Entry entry = entries.get(rule.getFullyQualifiedName());
+    return entry == null ? Optional.empty() : Optional.of(entry.wallMillis);
+  }
+
+  /**
+   * @return the average duration of the local builds of rules of each type, in milliseconds.
+   */
+  public ImmutableMap<String, Long> getAverageWallMillisByType() {
+    Map<String, long[]> totalsAndCounts = new HashMap<>();
+    for (Entry entry : entries.values()) {
+      long[] totalAndCount = totalsAndCounts.computeIfAbsent(entry.type, type -> new long[2]);
+      totalAndCount[0] += entry.wallMillis;
+      totalAndCount[1]++;
+    }
+    ImmutableMap.Builder<String, Long> averages = ImmutableMap.builder();
+    for (Map.Entry<String, long[]> totalAndCount : totalsAndCounts.entrySet()) {
+      averages.put(
+          totalAndCount.getKey(),
+          totalAndCount.getValue()[0] / totalAndCount.getValue()[1]);
+    }
+    return averages.build();
+  }
+
+  /**
+   * @param rules the rules which were part of the build.
+   * @param builtLocallyWallMillis the durations of the rules built locally during the build.
+   * @return the history after the build, where the given durations replace the ones the rules
+   *     had, and the rules which were not part of the last {@link #MAX_BUILDS_NOT_SEEN} builds are
+   *     dropped.
+   */
+  public BuildRuleDurationHistory afterBuild(
+      Iterable<BuildRule> rules,
+      Map<BuildRule, Long> builtLocallyWallMillis) {
+    int build = lastBuild + 1;
+    Map<String, Entry> newEntries = new HashMap<>();
+    for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+      if (build - entry.getValue().lastBuild < MAX_BUILDS_NOT_SEEN) {
+        newEntries.put(entry.getKey(), entry.getValue());
+      }
+    }
+    for (BuildRule rule : rules) {
+      Entry entry = entries.get(rule.getFullyQualifiedName());
+      if (entry != null) {
+        newEntries.put(
+            rule.getFullyQualifiedName(),
+            new Entry(entry.type, entry.wallMillis, build));
+      }
+    }
+    for (Map.Entry<BuildRule, Long> wallMillis : builtLocallyWallMillis.entrySet()) {
+      BuildRule rule = wallMillis.getKey();
+      newEntries.put(
+          rule.getFullyQualifiedName(),
+          new Entry(rule.getType(), wallMillis.getValue(), build));
+    }
+    return new BuildRuleDurationHistory(ImmutableMap.copyOf(newEntries));
+  }
+
+  private static Path getHistoryPath(ProjectFilesystem filesystem) {
+    return filesystem.getBuckPaths().getBuckOut().resolve(HISTORY_FILE_NAME);
+  }
+
+  private static class Entry {
+    @JsonProperty
+    private final String type;
+    @JsonProperty
+    private final long wallMillis;
+    @JsonProperty
+    private final int lastBuild;
+
+    @JsonCreator
+    private Entry(
+        @JsonProperty("type") String type,
+        @JsonProperty("wallMillis") long wallMillis,
+        @JsonProperty("lastBuild") int lastBuild) {
+      this.type = type;
+      this.wallMillis = wallMillis;
+      this.lastBuild = lastBuild;
+    }
+  }
+}
@@ -19,6 +19,7 @@ package com.facebook.buck.rules;
 import com.facebook.buck.event.BuckEventBus;
 import com.facebook.buck.model.BuildTarget;
 import com.facebook.buck.model.Pair;
+import com.facebook.buck.model.UnflavoredBuildTarget;
 import com.facebook.buck.parser.NoSuchBuildTargetException;
 import com.facebook.buck.util.HumanReadableException;
 import com.facebook.buck.util.RichStream;
@@ -32,9 +33,12 @@ import com.google.common.collect.ImmutableSortedSet;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Ordering;
 
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.function.Predicate;
 
 import javax.annotation.Nullable;
 
@@ -55,6 +59,21 @@ public class BuildRuleResolver {
   private final BuckEventBus eventBus;
 
   private final ConcurrentHashMap<BuildTarget, BuildRule> buildRuleIndex;
+
+  /**
+   * The number of resolvers the rules were carried over from by {@link #addAllFromResolver}. The
+   * reused rules keep referencing the resolver they were created with, so each generation pins the
+   * previous one.
+   */
+  private int reuseDepth = 0;
+
+  /**
+   * Rules are only created while holding the lock of their unflavored target, so that
+   * descriptions may look up a flavored rule of their own target in the index before adding it.
+   * Rules for flavors of other targets must be created through {@link #requireRule} or
+   * {@link #computeIfAbsent}, which take the lock of that target.
+   */
+  private final ConcurrentHashMap<UnflavoredBuildTarget, Object> ruleCreationLocks;
   private final LoadingCache<Pair<BuildTarget, Class<?>>, Optional<?>> metadataCache;
 
   public BuildRuleResolver(
@@ -75,6 +94,7 @@ public class BuildRuleResolver {
     final int initialCapacity = (int) (targetGraph.getNodes().size() * 5 * 1.1);
 
     this.buildRuleIndex = new ConcurrentHashMap<>(initialCapacity);
+    this.ruleCreationLocks = new ConcurrentHashMap<>();
     this.metadataCache = CacheBuilder.newBuilder()
         .initialCapacity(initialCapacity)
         .build(
@@ -135,31 +155,76 @@ public class BuildRuleResolver {
     return Optional.ofNullable(buildRuleIndex.get(buildTarget));
   }
 
+  /**
+   * Returns the {@link BuildRule} with the {@code target}, creating it if needed. This is safe to
+   * call from multiple threads: a rule is only ever created once for a target.
+   */
   public BuildRule requireRule(BuildTarget target) throws NoSuchBuildTargetException {
     BuildRule rule = buildRuleIndex.get(target);
     if (rule != null) {
       return rule;
     }
-    TargetNode<?, ?> node = targetGraph.get(target);
-    rule = buildRuleGenerator.transform(targetGraph, this, node);
-    Preconditions.checkState(
-        // TODO(jakubzika): This should hold for flavored build targets as well.
-        rule.getBuildTarget().getUnflavoredBuildTarget().equals(target.getUnflavoredBuildTarget()),
-        "Description returned rule for '%s' instead of '%s'.",
-        rule.getBuildTarget(),
-        target);
-    BuildRule oldRule = buildRuleIndex.put(target, rule);
-    Preconditions.checkState(
-        // TODO(jakubzika): Eventually we should be able to remove the oldRule == rule part.
-        // For now we need it to handle cases where a description adds a rule to the index before
-        // returning it.
-        oldRule == null || oldRule == rule,
-        "Multiple rules created for target '%s':\n" +
-            "new rule '%s' does not match existing rule '%s'.",
-        target,
-        rule,
-        oldRule);
-    return rule;
+    synchronized (getRuleCreationLock(target)) {
+      rule = buildRuleIndex.get(target);
+      if (rule != null) {
+        return rule;
+      }
+      TargetNode<?, ?> node = targetGraph.get(target);
+      rule = buildRuleGenerator.transform(targetGraph, this, node);
+      Preconditions.checkState(
+          // TODO(jakubzika): This should hold for flavored build targets as well.
+          rule.getBuildTarget().getUnflavoredBuildTarget().equals(
+              target.getUnflavoredBuildTarget()),
+          "Description returned rule for '%s' instead of '%s'.",
+          rule.getBuildTarget(),
+          target);
+      BuildRule oldRule = buildRuleIndex.put(target, rule);
+      Preconditions.checkState(
+          // TODO(jakubzika): Eventually we should be able to remove the oldRule == rule part.
+          // For now we need it to handle cases where a description adds a rule to the index before
+          // returning it.
+          oldRule == null || oldRule == rule,
+          "Multiple rules created for target '%s':\n" +
+              "new rule '%s' does not match existing rule '%s'.",
+          target,
+          rule,
+          oldRule);
+      return rule;
+    }
+  }
+
+  /**
+   * Returns the {@link BuildRule} with the {@code target}, creating it with {@code ruleCreator}
+   * and adding it to the index if needed. Unlike checking {@link #getRuleOptional} before calling
+   * {@link #addToIndex}, this is safe when the rules of {@code target} may be created concurrently,
+   * e.g. when a description creates a flavored rule for one of its dependencies.
+   */
+  public <E extends Exception> BuildRule computeIfAbsent(
+      BuildTarget target,
+      RuleCreator<E> ruleCreator) throws E {
+    BuildRule rule = buildRuleIndex.get(target);
+    if (rule != null) {
+      return rule;
+    }
+    synchronized (getRuleCreationLock(target)) {
+      rule = buildRuleIndex.get(target);
+      if (rule != null) {
+        return rule;
+      }
+      rule = ruleCreator.create(target);
+      Preconditions.checkState(
+          rule.getBuildTarget().equals(target),
+          "Rule for '%s' was created for '%s'.",
+          target,
+          rule.getBuildTarget());
+      return addToIndex(rule);
+    }
+  }
+
+  private Object getRuleCreationLock(BuildTarget target) {
+    return ruleCreationLocks.computeIfAbsent(
+        target.getUnflavoredBuildTarget(),
+        key -> new Object());
   }
 
   public ImmutableSortedSet<BuildRule> requireAllRules(Iterable<BuildTarget> buildTargets)
@@ -220,7 +285,7 @@ public class BuildRuleResolver {
    */
   @VisibleForTesting
   public <T extends BuildRule> T addToIndex(T buildRule) {
-    BuildRule oldValue = buildRuleIndex.put(buildRule.getBuildTarget(), buildRule);
+    BuildRule oldValue = buildRuleIndex.putIfAbsent(buildRule.getBuildTarget(), buildRule);
     // Yuck! This is here to make it possible for a rule to depend on a flavor of itself but it
     // would be much much better if we just got rid of the BuildRuleResolver entirely.
     if (oldValue != null && oldValue != buildRule) {
@@ -240,8 +305,54 @@ public class BuildRuleResolver {
     return buildRules;
   }
 
+  /**
+   * Adds to the index the rules of {@code other} whose targets match {@code predicate}, under the
+   * same targets they are indexed with in {@code other}.
+   *
+   * @return the number of rules added.
+   */
+  int addAllFromResolver(BuildRuleResolver other, Predicate<BuildTarget> predicate) {
+    reuseDepth = Math.max(reuseDepth, other.reuseDepth + 1);
+    int added = 0;
+    for (Map.Entry<BuildTarget, BuildRule> entry : other.buildRuleIndex.entrySet()) {
+      if (predicate.test(entry.getKey())) {
+        BuildRule oldValue = buildRuleIndex.put(entry.getKey(), entry.getValue());
+        Preconditions.checkState(
+            oldValue == null || oldValue == entry.getValue(),
+            "A build rule for this target has already been created: %s",
+            entry.getKey());
+        added++;
+      }
+    }
+    return added;
+  }
+
+  /**
+   * @return the number of generations of resolvers whose rules this one transitively reuses.
+   */
+  int getReuseDepth() {
+    return reuseDepth;
+  }
+
+  /**
+   * Removes from the index the rules not in {@code rulesToKeep}, compared by identity, so that a
+   * resolver which is only still referenced by rules reused elsewhere does not keep the rules that
+   * were not reused alive.
+   */
+  void retainRules(Set<BuildRule> rulesToKeep) {
+    buildRuleIndex.values().removeIf(rule -> !rulesToKeep.contains(rule));
+    metadataCache.invalidateAll();
+  }
+
   @Nullable
   public BuckEventBus getEventBus() {
     return eventBus;
   }
+
+  /**
+   * Creates the rule for a target in {@link #computeIfAbsent}.
+   */
+  public interface RuleCreator<E extends Exception> {
+    BuildRule create(BuildTarget target) throws E;
+  }
 }
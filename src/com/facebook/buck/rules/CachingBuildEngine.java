@@ -94,6 +94,7 @@ import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -162,6 +163,7 @@ public class CachingBuildEngine implements BuildEngine, Closeable {
   private final FileHashCache fileHashCache;
   private final RuleKeyFactories ruleKeyFactories;
   private final ResourceAwareSchedulingInfo resourceAwareSchedulingInfo;
+  private final Optional<CriticalPathEstimator> criticalPathEstimator;
 
   private final RuleDepsCache ruleDeps;
   private final Optional<UnskippedRulesTracker> unskippedRulesTracker;
@@ -182,7 +184,8 @@ public class CachingBuildEngine implements BuildEngine, Closeable {
       Optional<Long> artifactCacheSizeLimit,
       final BuildRuleResolver resolver,
       ResourceAwareSchedulingInfo resourceAwareSchedulingInfo,
-      RuleKeyFactories ruleKeyFactories) {
+      RuleKeyFactories ruleKeyFactories,
+      Optional<CriticalPathEstimator> criticalPathEstimator) {
     this.cachingBuildEngineDelegate = cachingBuildEngineDelegate;
 
     this.service = service;
@@ -200,6 +203,7 @@ public class CachingBuildEngine implements BuildEngine, Closeable {
     this.fileHashCache = cachingBuildEngineDelegate.getFileHashCache();
     this.ruleKeyFactories = ruleKeyFactories;
     this.resourceAwareSchedulingInfo = resourceAwareSchedulingInfo;
+    this.criticalPathEstimator = criticalPathEstimator;
 
     this.ruleDeps = new RuleDepsCache(service, resolver);
     this.unskippedRulesTracker =
@@ -228,7 +232,8 @@ public class CachingBuildEngine implements BuildEngine, Closeable {
       SourcePathRuleFinder ruleFinder,
       SourcePathResolver pathResolver,
       RuleKeyFactories ruleKeyFactories,
-      ResourceAwareSchedulingInfo resourceAwareSchedulingInfo) {
+      ResourceAwareSchedulingInfo resourceAwareSchedulingInfo,
+      Optional<CriticalPathEstimator> criticalPathEstimator) {
     this.cachingBuildEngineDelegate = cachingBuildEngineDelegate;
 
     this.service = service;
@@ -246,6 +251,7 @@ public class CachingBuildEngine implements BuildEngine, Closeable {
     this.fileHashCache = cachingBuildEngineDelegate.getFileHashCache();
     this.ruleKeyFactories = ruleKeyFactories;
     this.resourceAwareSchedulingInfo = resourceAwareSchedulingInfo;
+    this.criticalPathEstimator = criticalPathEstimator;
 
     this.ruleDeps = new RuleDepsCache(service, resolver);
     this.unskippedRulesTracker =
@@ -314,19 +320,39 @@ public class CachingBuildEngine implements BuildEngine, Closeable {
       ConcurrentLinkedQueue<ListenableFuture<Void>> asyncCallbacks) {
     List<ListenableFuture<BuildResult>> depResults =
         Lists.newArrayListWithExpectedSize(rule.getBuildDeps().size());
-    for (BuildRule dep : shuffled(rule.getBuildDeps())) {
+    for (BuildRule dep : orderedForScheduling(rule.getBuildDeps())) {
       depResults.add(
           getBuildRuleResultWithRuntimeDeps(dep, buildContext, executionContext, asyncCallbacks));
     }
     return Futures.allAsList(depResults);
   }
 
-  private static List<BuildRule> shuffled(Iterable<BuildRule> rules) {
+  /**
+   * Deps are visited in random order, unless critical path scheduling is enabled in which case the
+   * ones with the longest estimated remaining critical path go first.
+   */
+  private List<BuildRule> orderedForScheduling(Iterable<BuildRule> rules) {
     ArrayList<BuildRule> rulesList = Lists.newArrayList(rules);
     Collections.shuffle(rulesList);
+    if (criticalPathEstimator.isPresent()) {
+      rulesList.sort(
+          Comparator.comparingLong(
+              criticalPathEstimator.get()::getEstimatedRemainingCriticalPathMillis)
+              .reversed());
+    }
     return rulesList;
   }
 
+  /**
+   * @return the priority with which to wait for the resources needed to build {@code rule}, which
+   *     is its estimated remaining critical path when critical path scheduling is enabled.
+   */
+  private long getSchedulingPriority(BuildRule rule) {
+    return criticalPathEstimator
+        .map(estimator -> estimator.getEstimatedRemainingCriticalPathMillis(rule))
+        .orElse(0L);
+  }
+
   private AsyncFunction<Optional<BuildResult>, BuildResult> buildLocally(
       final BuildRule rule,
       final BuildEngineBuildContext buildContext,
@@ -365,7 +391,8 @@ public class CachingBuildEngine implements BuildEngine, Closeable {
                   cacheResult);
             }
           },
-          getRuleResourceAmounts(rule));
+          getRuleResourceAmounts(rule),
+          getSchedulingPriority(rule));
     };
   }
 
@@ -1162,6 +1189,13 @@ public class CachingBuildEngine implements BuildEngine, Closeable {
                     getBuildRuleDiagnosticData(rule, executionContext, failureOrBuiltLocally));
                 LOG.verbose(finished.toString());
                 buildContext.getEventBus().post(finished);
+
+                if (criticalPathEstimator.isPresent()) {
+                  criticalPathEstimator.get().recordWallMillis(
+                      rule,
+                      finished.getDuration().getWallMillisDuration(),
+                      input.getSuccess() == BuildRuleSuccessType.BUILT_LOCALLY);
+                }
               }
 
               @Override
@@ -1763,20 +1797,15 @@ public class CachingBuildEngine implements BuildEngine, Closeable {
       rule.getProjectFilesystem().createParentDirs(manifestPath);
     }
 
-    // If the manifest is larger than the max size, just truncate it.  It might be nice to support
-    // some sort of LRU management here to avoid evicting everything, but it'll take some care to do
-    // this efficiently and it's not clear how much benefit this will give us.
-    if (manifest.size() >= maxDepFileCacheEntries) {
-      manifest = new Manifest(manifestKey.getRuleKey());
-    }
-
-    // Update the manifest with the new output rule key.
+    // Update the manifest with the new output rule key, and evict the entries added the longest
+    // time ago if that makes it larger than the max size.
     manifest.addEntry(
         fileHashCache,
         key,
         pathResolver,
         manifestKey.getInputs(),
         inputs);
+    manifest.trim(maxDepFileCacheEntries);
 
     // Serialize the manifest to disk.
     try (OutputStream outputStream =
@@ -259,6 +259,8 @@ public class Cell {
         Watchman.Capability.GLOB_GENERATOR);
     boolean useMercurialGlob =
         parserConfig.getGlobHandler() == ParserConfig.GlobHandler.MERCURIAL;
+    boolean useBserOutput =
+        parserConfig.getParserOutputFormat() == ParserConfig.ParserOutputFormat.BSER;
     String pythonInterpreter = parserConfig.getPythonInterpreter(new ExecutableFinder());
     Optional<String> pythonModuleSearchPath = parserConfig.getPythonModuleSearchPath();
 
@@ -281,6 +283,7 @@ public class Cell {
             .setWatchman(watchman)
             .setWatchmanQueryTimeoutMs(parserConfig.getWatchmanQueryTimeoutMs())
             .setUseMercurialGlob(useMercurialGlob)
+            .setUseBserOutput(useBserOutput)
             .setRawConfig(getBuckConfig().getRawConfigForParser())
             .setBuildFileImportWhitelist(parserConfig.getBuildFileImportWhitelist())
             .build(),
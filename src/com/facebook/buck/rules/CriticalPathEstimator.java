@@ -0,0 +1,235 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.rules;
+
+import com.facebook.buck.graph.AcyclicDepthFirstPostOrderTraversal;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.ToLongFunction;
+
+import javax.annotation.Nullable;
+
+/**
+ * Estimates, for each rule of a build, the length of the longest chain of rules which have to be
+ * built one after the other once the rule can be started, i.e. of the remaining critical path
+ * through the rules depending on it. The {@link CachingBuildEngine} starts the rules with the
+ * longest remaining critical path first, so that long serial chains are not held up by rules which
+ * could have been built later.
+ *
+ * The duration of a rule is estimated from how long its last local build took. Rules which were
+ * never built locally are assumed to take as long as the average rule of their type, and failing
+ * that, as long as the average of all types.
+ *
+ * The durations measured during the build are recorded as well, to report the critical path the
+ * build actually took and to update the history for the next builds.
+ */
+public class CriticalPathEstimator {
+
+  /**
+   * Duration of rules of unknown type when there is no history at all, in which case the rules
+   * with the longest chains of rules depending on them are started first.
+   */
+  @VisibleForTesting
+  static final long DEFAULT_WALL_MILLIS = 1000;
+
+  private final BuildRuleDurationHistory history;
+  private final ImmutableList<BuildRule> rulesToBuild;
+  /**
+   * The rules to build and their transitive deps, each one after all of its deps.
+   */
+  private final ImmutableList<BuildRule> rulesDepsFirst;
+  private final ImmutableMap<String, Long> averageWallMillisByType;
+  private final long averageWallMillis;
+
+  private final ImmutableMap<BuildRule, Long> remainingCriticalPaths;
+  private final Map<BuildRule, Long> estimatedCriticalPaths;
+  private final ConcurrentMap<BuildRule, Long> measuredWallMillis = new ConcurrentHashMap<>();
+  private final ConcurrentMap<BuildRule, Long> builtLocallyWallMillis = new ConcurrentHashMap<>();
+
+  /**
+   * @param history durations of the rules in the previous builds.
+   * @param rulesToBuild the rules requested to be built.
+   */
+  public CriticalPathEstimator(
+      BuildRuleDurationHistory history,
+      Iterable<BuildRule> rulesToBuild) {
+    this.history = history;
+    this.rulesToBuild = ImmutableList.copyOf(rulesToBuild);
+    this.averageWallMillisByType = history.getAverageWallMillisByType();
+    this.averageWallMillis = averageWallMillisByType.isEmpty() ?
+        DEFAULT_WALL_MILLIS :
+        (long) averageWallMillisByType.values().stream().mapToLong(Long::longValue).average()
+            .getAsDouble();
+    this.rulesDepsFirst = getRulesDepsFirst(this.rulesToBuild);
+    this.remainingCriticalPaths = computeRemainingCriticalPaths();
+    this.estimatedCriticalPaths = computeCriticalPaths(this::getEstimatedWallMillis);
+  }
+
+  /**
+   * The action graph can be deeper than the stack allows to recurse, so it is walked iteratively.
+   */
+  private static ImmutableList<BuildRule> getRulesDepsFirst(Iterable<BuildRule> rulesToBuild) {
+    try {
+      return ImmutableList.copyOf(
+          new AcyclicDepthFirstPostOrderTraversal<BuildRule>(
+              rule -> rule.getBuildDeps().iterator())
+              .traverse(rulesToBuild));
+    } catch (AcyclicDepthFirstPostOrderTraversal.CycleException e) {
+      throw new IllegalStateException("Cycle detected in the action graph", e);
+    }
+  }
+
+  /**
+   * Visits the rules so that every rule comes after all the rules depending on it, and sets the
+   * remaining critical path of each rule to its own duration plus the longest remaining critical
+   * path of the rules depending on it.
+   */
+  private ImmutableMap<BuildRule, Long> computeRemainingCriticalPaths() {
+    Map<BuildRule, Long> longestDependentPaths = new HashMap<>();
+    ImmutableMap.Builder<BuildRule, Long> remainingCriticalPaths = ImmutableMap.builder();
+    for (BuildRule rule : rulesDepsFirst.reverse()) {
+      long remainingCriticalPath =
+          getEstimatedWallMillis(rule) + longestDependentPaths.getOrDefault(rule, 0L);
+      remainingCriticalPaths.put(rule, remainingCriticalPath);
+      for (BuildRule dep : rule.getBuildDeps()) {
+        longestDependentPaths.merge(dep, remainingCriticalPath, Math::max);
+      }
+    }
+    return remainingCriticalPaths.build();
+  }
+
+  /**
+   * Visits the rules so that every rule comes after all of its deps, and sets the critical path of
+   * each rule to its own duration plus the longest critical path of its deps.
+   */
+  private Map<BuildRule, Long> computeCriticalPaths(ToLongFunction<BuildRule> wallMillis) {
+    Map<BuildRule, Long> criticalPaths = new HashMap<>();
+    for (BuildRule rule : rulesDepsFirst) {
+      long longestDepPath = 0;
+      for (BuildRule dep : rule.getBuildDeps()) {
+        longestDepPath = Math.max(longestDepPath, criticalPaths.get(dep));
+      }
+      criticalPaths.put(rule, wallMillis.applyAsLong(rule) + longestDepPath);
+    }
+    return criticalPaths;
+  }
+
+  /**
+   * @return the estimated time it takes to build {@code rule} once its deps are built, in
+   *     milliseconds.
+   */
+  public long getEstimatedWallMillis(BuildRule rule) {
+    return history.getWallMillis(rule)
+        .orElse(averageWallMillisByType.getOrDefault(rule.getType(), averageWallMillis));
+  }
+
+  /**
+   * @return the estimated time it takes to build {@code rule} and the longest chain of rules
+   *     depending on it, in milliseconds.
+   */
+  public long getEstimatedRemainingCriticalPathMillis(BuildRule rule) {
+    Long remainingCriticalPath = remainingCriticalPaths.get(rule);
+    return remainingCriticalPath == null ? getEstimatedWallMillis(rule) : remainingCriticalPath;
+  }
+
+  /**
+   * @return the estimated time it takes to build {@code rule} and the longest chain of deps it
+   *     depends on, in milliseconds.
+   */
+  public long getEstimatedCriticalPathMillis(BuildRule rule) {
+    Long criticalPath = estimatedCriticalPaths.get(rule);
+    return criticalPath == null ? getEstimatedWallMillis(rule) : criticalPath;
+  }
+
+  /**
+   * Records how long {@code rule} took to build, whether it was built locally or not.
+   */
+  public void recordWallMillis(BuildRule rule, long wallMillis, boolean builtLocally) {
+    measuredWallMillis.put(rule, wallMillis);
+    if (builtLocally) {
+      builtLocallyWallMillis.put(rule, wallMillis);
+    }
+  }
+
+  /**
+   * @return how long {@code rule} took to build, or 0 if it was not built.
+   */
+  public long getMeasuredWallMillis(BuildRule rule) {
+    return measuredWallMillis.getOrDefault(rule, 0L);
+  }
+
+  /**
+   * @return the rules on the critical path of the build, as estimated before the build, from the
+   *     first one to be built to the last.
+   */
+  public ImmutableList<BuildRule> getEstimatedCriticalPath() {
+    return getCriticalPath(rulesToBuild, this::getEstimatedCriticalPathMillis);
+  }
+
+  /**
+   * @return the rules on the critical path of the build according to the durations recorded
+   *     during the build, from the first one to be built to the last.
+   */
+  public ImmutableList<BuildRule> getMeasuredCriticalPath() {
+    Map<BuildRule, Long> measuredCriticalPaths = computeCriticalPaths(this::getMeasuredWallMillis);
+    return getCriticalPath(rulesToBuild, measuredCriticalPaths::get);
+  }
+
+  /**
+   * @return the history updated with the durations of the rules built locally during the build.
+   */
+  public BuildRuleDurationHistory getUpdatedHistory() {
+    return history.afterBuild(rulesDepsFirst, builtLocallyWallMillis);
+  }
+
+  /**
+   * Follows, from the given rules, the deps with the longest critical path.
+   */
+  private static ImmutableList<BuildRule> getCriticalPath(
+      Iterable<BuildRule> rules,
+      ToLongFunction<BuildRule> criticalPathMillis) {
+    ImmutableList.Builder<BuildRule> reversedPath = ImmutableList.builder();
+    BuildRule current = getLongest(rules, criticalPathMillis);
+    while (current != null) {
+      reversedPath.add(current);
+      current = getLongest(current.getBuildDeps(), criticalPathMillis);
+    }
+    return reversedPath.build().reverse();
+  }
+
+  @Nullable
+  private static BuildRule getLongest(
+      Iterable<BuildRule> rules,
+      ToLongFunction<BuildRule> criticalPathMillis) {
+    BuildRule longest = null;
+    long longestMillis = -1;
+    for (BuildRule rule : rules) {
+      long millis = criticalPathMillis.applyAsLong(rule);
+      if (millis > longestMillis) {
+        longest = rule;
+        longestMillis = millis;
+      }
+    }
+    return longest;
+  }
+}
@@ -30,6 +30,8 @@ import com.google.common.hash.HashCode;
 import com.google.common.hash.Hasher;
 import com.google.common.hash.Hashing;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
@@ -37,14 +39,35 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.file.NoSuchFileException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+/**
+ * Maps the hashes of the headers used by a rule to the dep-file rule keys they were built with.
+ *
+ * Each header is stored once, and so is each distinct hash of a header, which entries refer to by
+ * index. Hashes are indexed by header, so that a lookup hashes each header on disk at most once
+ * and finds the only hash it can match, regardless of the number of entries.
+ *
+ * Entries are kept in the order they were added, and the oldest ones are dropped by
+ * {@link #trim(long)} to bound the size of the manifest.
+ */
 public class Manifest {
 
-  private static final int VERSION = 0;
+  /**
+   * Version 0 stores hashes and rule keys as hex strings, version 1 stores them as raw bytes.
+   * Both can be read, only the latter is written.
+   */
+  private static final int LEGACY_VERSION = 0;
+  private static final int VERSION = 1;
+
+  /** Marks the headers not hashed yet in {@link #lookup}. */
+  private static final int NOT_HASHED = -2;
+  /** Marks the headers whose hash on disk is not in the manifest in {@link #lookup}. */
+  private static final int NO_MATCHING_HASH = -1;
 
   private final RuleKey key;
 
@@ -52,7 +75,8 @@ public class Manifest {
   private final Map<String, Integer> headerIndices;
 
   private final List<Pair<Integer, HashCode>> hashes;
-  private final Map<HashCode, Integer> hashIndices;
+  /** The indices of the hashes of each header, by header index. */
+  private final List<Map<HashCode, Integer>> hashIndicesByHeader;
 
   private final List<Pair<RuleKey, int[]>> entries;
 
@@ -64,7 +88,7 @@ public class Manifest {
     headers = new ArrayList<>();
     headerIndices = new HashMap<>();
     hashes = new ArrayList<>();
-    hashIndices = new HashMap<>();
+    hashIndicesByHeader = new ArrayList<>();
     entries = new ArrayList<>();
   }
 
@@ -72,35 +96,37 @@ public class Manifest {
    * Deserialize an existing manifest from the given {@link InputStream}.
    */
   public Manifest(InputStream rawInput) throws IOException {
-    DataInputStream input = new DataInputStream(rawInput);
+    DataInputStream input = new DataInputStream(new BufferedInputStream(rawInput));
 
     // Verify the manifest version.
     int version = input.readInt();
     Preconditions.checkState(
-        version == VERSION,
+        version == VERSION || version == LEGACY_VERSION,
         "invalid version: %s != %s",
         version,
         VERSION);
+    boolean legacy = version == LEGACY_VERSION;
 
-    key = new RuleKey(input.readUTF());
+    key = new RuleKey(readHashCode(input, legacy));
 
     int numberOfHeaders = input.readInt();
     headers = new ArrayList<>(numberOfHeaders);
     headerIndices = new HashMap<>(numberOfHeaders);
+    hashIndicesByHeader = new ArrayList<>(numberOfHeaders);
     for (int index = 0; index < numberOfHeaders; index++) {
       String header = input.readUTF();
       headers.add(header);
       headerIndices.put(header, index);
+      hashIndicesByHeader.add(new HashMap<>());
     }
 
     int numberOfHashes = input.readInt();
     hashes = new ArrayList<>(numberOfHashes);
-    hashIndices = new HashMap<>(numberOfHashes);
     for (int index = 0; index < numberOfHashes; index++) {
       int headerIndex = input.readInt();
-      HashCode headerHash = HashCode.fromString(input.readUTF());
+      HashCode headerHash = readHashCode(input, legacy);
       hashes.add(new Pair<>(headerIndex, headerHash));
-      hashIndices.put(headerHash, index);
+      hashIndicesByHeader.get(headerIndex).put(headerHash, index);
     }
 
     int numberOfEntries = input.readInt();
@@ -111,11 +137,27 @@ public class Manifest {
       for (int hashIndex = 0; hashIndex < numberOfEntryHashes; hashIndex++) {
         entryHashes[hashIndex] = input.readInt();
       }
-      RuleKey key = new RuleKey(input.readUTF());
+      RuleKey key = new RuleKey(readHashCode(input, legacy));
       entries.add(new Pair<>(key, entryHashes));
     }
   }
 
+  private static HashCode readHashCode(DataInputStream input, boolean legacy) throws IOException {
+    if (legacy) {
+      return HashCode.fromString(input.readUTF());
+    }
+    byte[] bytes = new byte[input.readUnsignedByte()];
+    input.readFully(bytes);
+    return HashCode.fromBytes(bytes);
+  }
+
+  private static void writeHashCode(DataOutputStream output, HashCode hash) throws IOException {
+    byte[] bytes = hash.asBytes();
+    Preconditions.checkState(bytes.length <= 0xFF, "hash too long: %s", hash);
+    output.writeByte(bytes.length);
+    output.write(bytes);
+  }
+
   public RuleKey getKey() {
     return key;
   }
@@ -126,8 +168,11 @@ public class Manifest {
       headers.add(header);
       headerIndex = headers.size() - 1;
       headerIndices.put(header, headerIndex);
+      hashIndicesByHeader.add(new HashMap<>());
     }
 
+    // Hashes are looked up by header, as different headers may well have the same contents.
+    Map<HashCode, Integer> hashIndices = hashIndicesByHeader.get(headerIndex);
     Integer hashIndex = hashIndices.get(hash);
     if (hashIndex == null) {
       hashes.add(new Pair<>(headerIndex, hash));
@@ -165,31 +210,28 @@ public class Manifest {
     }
   }
 
-  private boolean hashesMatch(
+  /**
+   * @return the index of the hash {@code header} has on disk, or {@link #NO_MATCHING_HASH} if it
+   *     is not in the manifest.
+   */
+  private int findMatchingHashIndex(
       FileHashCache fileHashCache,
       SourcePathResolver resolver,
       ImmutableListMultimap<String, SourcePath> universe,
-      int[] hashIndices)
+      int headerIndex)
       throws IOException {
-    for (int hashIndex : hashIndices) {
-      Pair<Integer, HashCode> hashEntry = hashes.get(hashIndex);
-      String header = headers.get(hashEntry.getFirst());
-      ImmutableList<SourcePath> candidates = universe.get(header);
-      if (candidates.isEmpty()) {
-        return false;
-      }
-      HashCode onDiskHeaderHash;
-      try {
-        onDiskHeaderHash = hashSourcePathGroup(fileHashCache, resolver, candidates);
-      } catch (NoSuchFileException e) {
-        return false;
-      }
-      HashCode headerHash = hashEntry.getSecond();
-      if (!headerHash.equals(onDiskHeaderHash)) {
-        return false;
-      }
+    ImmutableList<SourcePath> candidates = universe.get(headers.get(headerIndex));
+    if (candidates.isEmpty()) {
+      return NO_MATCHING_HASH;
     }
-    return true;
+    HashCode onDiskHeaderHash;
+    try {
+      onDiskHeaderHash = hashSourcePathGroup(fileHashCache, resolver, candidates);
+    } catch (NoSuchFileException e) {
+      return NO_MATCHING_HASH;
+    }
+    Integer hashIndex = hashIndicesByHeader.get(headerIndex).get(onDiskHeaderHash);
+    return hashIndex == null ? NO_MATCHING_HASH : hashIndex;
   }
 
   /**
@@ -203,8 +245,26 @@ public class Manifest {
       throws IOException {
     ImmutableListMultimap<String, SourcePath> mappedUniverse =
         Multimaps.index(universe, sourcePathToManifestHeaderFunction(resolver));
+
+    // Headers are only hashed once they are needed, and at most once, as an entry stops being
+    // checked at its first mismatch.
+    int[] matchingHashIndices = new int[headers.size()];
+    Arrays.fill(matchingHashIndices, NOT_HASHED);
+
     for (Pair<RuleKey, int[]> entry : entries) {
-      if (hashesMatch(fileHashCache, resolver, mappedUniverse, entry.getSecond())) {
+      boolean matches = true;
+      for (int hashIndex : entry.getSecond()) {
+        int headerIndex = hashes.get(hashIndex).getFirst();
+        if (matchingHashIndices[headerIndex] == NOT_HASHED) {
+          matchingHashIndices[headerIndex] =
+              findMatchingHashIndex(fileHashCache, resolver, mappedUniverse, headerIndex);
+        }
+        if (matchingHashIndices[headerIndex] != hashIndex) {
+          matches = false;
+          break;
+        }
+      }
+      if (matches) {
         return Optional.of(entry.getFirst());
       }
     }
@@ -227,7 +287,7 @@ public class Manifest {
   }
 
   /**
-   * Adds a new output file to the manifest.
+   * Adds a new output file to the manifest, replacing any previous entry for the same key.
    */
   public void addEntry(
       FileHashCache fileHashCache,
@@ -251,18 +311,53 @@ public class Manifest {
               relativePath,
               hashSourcePathGroup(fileHashCache, resolver, paths));
     }
+    // Moving the entry to the end keeps it away from trimming.
+    entries.removeIf(entry -> entry.getFirst().equals(key));
     entries.add(new Pair<>(key, hashIndices));
   }
 
+  /**
+   * Removes the entries added the longest time ago until there are at most {@code maxEntries}
+   * left, along with the headers and hashes only they used.
+   */
+  public void trim(long maxEntries) {
+    if (entries.size() <= maxEntries) {
+      return;
+    }
+    entries.subList(0, entries.size() - (int) Math.max(maxEntries, 0)).clear();
+
+    List<String> oldHeaders = new ArrayList<>(headers);
+    List<Pair<Integer, HashCode>> oldHashes = new ArrayList<>(hashes);
+    headers.clear();
+    headerIndices.clear();
+    hashes.clear();
+    hashIndicesByHeader.clear();
+
+    int[] newHashIndices = new int[oldHashes.size()];
+    Arrays.fill(newHashIndices, -1);
+    for (Pair<RuleKey, int[]> entry : entries) {
+      int[] entryHashes = entry.getSecond();
+      for (int i = 0; i < entryHashes.length; i++) {
+        int oldHashIndex = entryHashes[i];
+        if (newHashIndices[oldHashIndex] == -1) {
+          Pair<Integer, HashCode> hash = oldHashes.get(oldHashIndex);
+          newHashIndices[oldHashIndex] =
+              addHash(oldHeaders.get(hash.getFirst()), hash.getSecond());
+        }
+        entryHashes[i] = newHashIndices[oldHashIndex];
+      }
+    }
+  }
+
   /**
    * Serializes the manifest to the given {@link OutputStream}.
    */
   public void serialize(OutputStream rawOutput) throws IOException {
-    DataOutputStream output = new DataOutputStream(rawOutput);
+    DataOutputStream output = new DataOutputStream(new BufferedOutputStream(rawOutput));
 
     output.writeInt(VERSION);
 
-    output.writeUTF(key.toString());
+    writeHashCode(output, key.getHashCode());
 
     output.writeInt(headers.size());
     for (String header : headers) {
@@ -272,7 +367,7 @@ public class Manifest {
     output.writeInt(hashes.size());
     for (Pair<Integer, HashCode> hash : hashes) {
       output.writeInt(hash.getFirst());
-      output.writeUTF(hash.getSecond().toString());
+      writeHashCode(output, hash.getSecond());
     }
 
     output.writeInt(entries.size());
@@ -281,8 +376,10 @@ public class Manifest {
       for (int hashIndex : entry.getSecond()) {
         output.writeInt(hashIndex);
       }
-      output.writeUTF(entry.getFirst().toString());
+      writeHashCode(output, entry.getFirst().getHashCode());
     }
+
+    output.flush();
   }
 
   public int size() {
@@ -28,6 +28,7 @@ import com.facebook.buck.log.Logger;
 import com.facebook.buck.model.BuildTarget;
 import com.facebook.buck.util.HumanReadableException;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSortedSet;
 import com.google.common.collect.Maps;
@@ -40,6 +41,7 @@ import java.nio.file.Path;
 import java.util.ArrayDeque;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Queue;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ForkJoinTask;
@@ -60,6 +62,7 @@ public class TargetGraphHashing {
   private final FileHashLoader fileHashLoader;
   private final Iterable<TargetNode<?, ?>> roots;
   private int numThreads = 1;
+  private Optional<TargetNodeHashCache> cache = Optional.empty();
 
   public TargetGraphHashing(
       final BuckEventBus eventBus,
@@ -116,6 +119,12 @@ public class TargetGraphHashing {
     return this;
   }
 
+  // Reuse the hashes of nodes whose inputs and dependencies did not change since the last time
+  public TargetGraphHashing setCache(TargetNodeHashCache cache) {
+    this.cache = Optional.of(cache);
+    return this;
+  }
+
   private class HashNodeTask extends RecursiveTask<HashCode> {
     private final TargetNode<?, ?> node;
     private Map<BuildTarget, ForkJoinTask<HashCode>> buildTargetHashes;
@@ -129,26 +138,25 @@ public class TargetGraphHashing {
 
     @Override
     protected HashCode compute() {
-      try (SimplePerfEvent.Scope scope = getHashNodeEventScope(eventBus, node.getBuildTarget())) {
-        return hashNode();
+      Optional<TargetNodeHashCache.Entry> cachedEntry = cache.flatMap(c -> c.get(node));
+      if (!cachedEntry.isPresent()) {
+        try (SimplePerfEvent.Scope scope =
+                 getHashNodeEventScope(eventBus, node.getBuildTarget())) {
+          return hashNode(ImmutableSortedSet.copyOf(node.getInputs()).asList(), cachedEntry);
+        }
       }
+      return hashNode(cachedEntry.get().getSortedInputs(), cachedEntry);
     }
 
-    private HashCode hashNode() {
-      Hasher hasher = Hashing.sha1().newHasher();
-      LOG.verbose("Hashing node %s", node);
-      // Hash the node's build target and rules.
-      StringHashing.hashStringAndLength(hasher, node.getBuildTarget().toString());
-      HashCode targetRuleHashCode = node.getRawInputsHashCode();
-      LOG.verbose("Got rules hash %s", targetRuleHashCode);
-      hasher.putBytes(targetRuleHashCode.asBytes());
-
+    private HashCode hashNode(
+        ImmutableList<Path> sortedInputs,
+        Optional<TargetNodeHashCache.Entry> cachedEntry) {
+      // Get the hashes of the contents of all input files and directories.
       ProjectFilesystem cellFilesystem = node.getFilesystem();
-
-      // Hash the contents of all input files and directories.
-      for (Path input : ImmutableSortedSet.copyOf(node.getInputs())) {
+      ImmutableList.Builder<HashCode> inputHashes = ImmutableList.builder();
+      for (Path input : sortedInputs) {
         try {
-          hasher.putBytes(fileHashLoader.get(cellFilesystem.resolve(input)).asBytes());
+          inputHashes.add(fileHashLoader.get(cellFilesystem.resolve(input)));
         } catch (IOException e) {
           throw new HumanReadableException(
               e,
@@ -158,18 +166,60 @@ public class TargetGraphHashing {
         }
       }
 
-      // hash each dependency's build target and that build target's own hash.
+      ImmutableList.Builder<HashCode> dependencyHashes = ImmutableList.builder();
       for (BuildTarget dependency : node.getParseDeps()) {
         ForkJoinTask<HashCode> dependencyHashCodeTask = buildTargetHashes.get(dependency);
         Preconditions.checkState(dependencyHashCodeTask != null);
         HashCode dependencyHashCode = dependencyHashCodeTask.join();
         Preconditions.checkState(dependencyHashCode != null);
+        dependencyHashes.add(dependencyHashCode);
+      }
+
+      return reuseOrComputeHash(
+          sortedInputs,
+          inputHashes.build(),
+          dependencyHashes.build(),
+          cachedEntry);
+    }
+
+    private HashCode reuseOrComputeHash(
+        ImmutableList<Path> sortedInputs,
+        ImmutableList<HashCode> inputHashes,
+        ImmutableList<HashCode> dependencyHashes,
+        Optional<TargetNodeHashCache.Entry> cachedEntry) {
+      if (cachedEntry.isPresent() && cachedEntry.get().isValidFor(inputHashes, dependencyHashes)) {
+        LOG.verbose("Reusing hash for target %s", node.getBuildTarget());
+        return cachedEntry.get().getHash();
+      }
+
+      Hasher hasher = Hashing.sha1().newHasher();
+      LOG.verbose("Hashing node %s", node);
+      // Hash the node's build target and rules.
+      StringHashing.hashStringAndLength(hasher, node.getBuildTarget().toString());
+      HashCode targetRuleHashCode = node.getRawInputsHashCode();
+      LOG.verbose("Got rules hash %s", targetRuleHashCode);
+      hasher.putBytes(targetRuleHashCode.asBytes());
+
+      // Hash the contents of all input files and directories.
+      for (HashCode inputHash : inputHashes) {
+        hasher.putBytes(inputHash.asBytes());
+      }
+
+      // hash each dependency's build target and that build target's own hash.
+      int index = 0;
+      for (BuildTarget dependency : node.getParseDeps()) {
+        HashCode dependencyHashCode = dependencyHashes.get(index++);
         LOG.verbose("Node %s: adding dependency %s (%s)", node, dependency, dependencyHashCode);
         StringHashing.hashStringAndLength(hasher, dependency.toString());
         hasher.putBytes(dependencyHashCode.asBytes());
       }
       HashCode result = hasher.hash();
       LOG.debug("Hash for target %s: %s", node.getBuildTarget(), result);
+      if (cache.isPresent()) {
+        cache.get().put(
+            node,
+            new TargetNodeHashCache.Entry(sortedInputs, inputHashes, dependencyHashes, result));
+      }
       return result;
     }
   }
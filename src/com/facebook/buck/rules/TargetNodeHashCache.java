@@ -0,0 +1,84 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.rules;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import com.google.common.hash.HashCode;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Hashes computed by {@link TargetGraphHashing}, kept by the daemon between commands.
+ *
+ * Entries are keyed by node instance, so they go away along with the nodes the parser drops when
+ * their build files change. An entry also records the hashes of the node's inputs and
+ * dependencies it was computed from, and is only reused if those are still the same, so a change
+ * to a source file or to a dependency causes the node to be hashed again.
+ */
+public class TargetNodeHashCache {
+
+  private final Cache<TargetNode<?, ?>, Entry> entries =
+      CacheBuilder.newBuilder().weakKeys().build();
+
+  Optional<Entry> get(TargetNode<?, ?> node) {
+    return Optional.ofNullable(entries.getIfPresent(node));
+  }
+
+  void put(TargetNode<?, ?> node, Entry entry) {
+    entries.put(node, entry);
+  }
+
+  public void invalidateAll() {
+    entries.invalidateAll();
+  }
+
+  static class Entry {
+    private final ImmutableList<Path> sortedInputs;
+    private final ImmutableList<HashCode> inputHashes;
+    private final ImmutableList<HashCode> dependencyHashes;
+    private final HashCode hash;
+
+    Entry(
+        ImmutableList<Path> sortedInputs,
+        ImmutableList<HashCode> inputHashes,
+        ImmutableList<HashCode> dependencyHashes,
+        HashCode hash) {
+      this.sortedInputs = sortedInputs;
+      this.inputHashes = inputHashes;
+      this.dependencyHashes = dependencyHashes;
+      this.hash = hash;
+    }
+
+    ImmutableList<Path> getSortedInputs() {
+      return sortedInputs;
+    }
+
+    boolean isValidFor(
+        ImmutableList<HashCode> inputHashes,
+        ImmutableList<HashCode> dependencyHashes) {
+      return this.inputHashes.equals(inputHashes) &&
+          this.dependencyHashes.equals(dependencyHashes);
+    }
+
+    HashCode getHash() {
+      return hash;
+    }
+  }
+}
@@ -18,19 +18,29 @@ package com.facebook.buck.rules.coercer;
 
 import com.facebook.buck.io.ProjectFilesystem;
 import com.facebook.buck.rules.CellPathResolver;
+import com.facebook.buck.util.DaemonInterners;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
+import com.google.common.collect.Interner;
 
 import java.nio.file.Path;
 
 public class PathTypeCoercer extends LeafTypeCoercer<Path> {
 
+  /**
+   * Shares instances between build files referring to the same path, e.g. through {@code ..},
+   * since coerced paths are held on to by every target node for as long as the daemon lives.
+   */
+  private static final Interner<Path> PATH_INTERNER =
+      DaemonInterners.newWeakInterner("coerced_paths");
+
   private final LoadingCache<Path, LoadingCache<String, Path>> pathCache = CacheBuilder.newBuilder()
       .build(CacheLoader.from(pathRelativeToProjectRoot -> {
         return CacheBuilder.newBuilder()
             .weakValues()
-            .build(CacheLoader.from(path -> pathRelativeToProjectRoot.resolve(path).normalize()));
+            .build(CacheLoader.from(
+                path -> PATH_INTERNER.intern(pathRelativeToProjectRoot.resolve(path).normalize())));
       }));
 
   private final PathExistenceVerificationMode pathExistenceVerificationMode;
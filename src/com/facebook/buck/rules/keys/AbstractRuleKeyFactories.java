@@ -25,6 +25,8 @@ import com.facebook.buck.util.immutables.BuckStyleTuple;
 
 import org.immutables.value.Value;
 
+import java.util.Optional;
+
 /**
  * The various rule key factories used by the build engine.
  */
@@ -54,6 +56,25 @@ abstract class AbstractRuleKeyFactories {
       BuildRuleResolver resolver,
       long inputRuleKeyFileSizeLimit,
       RuleKeyCache<RuleKey> defaultRuleKeyFactoryCache) {
+    return of(
+        keySeed,
+        fileHashCache,
+        resolver,
+        inputRuleKeyFileSizeLimit,
+        defaultRuleKeyFactoryCache,
+        Optional.empty());
+  }
+
+  /**
+   * @param defaultRuleKeyCacheSnapshot default rule keys of a previous process to reuse.
+   */
+  public static RuleKeyFactories of(
+      int keySeed,
+      FileHashCache fileHashCache,
+      BuildRuleResolver resolver,
+      long inputRuleKeyFileSizeLimit,
+      RuleKeyCache<RuleKey> defaultRuleKeyFactoryCache,
+      Optional<RuleKeyCacheSnapshot> defaultRuleKeyCacheSnapshot) {
     RuleKeyFieldLoader fieldLoader = new RuleKeyFieldLoader(keySeed);
     SourcePathRuleFinder ruleFinder = new SourcePathRuleFinder(resolver);
     SourcePathResolver pathResolver = new SourcePathResolver(ruleFinder);
@@ -63,7 +84,8 @@ abstract class AbstractRuleKeyFactories {
             fileHashCache,
             pathResolver,
             ruleFinder,
-            defaultRuleKeyFactoryCache),
+            defaultRuleKeyFactoryCache,
+            defaultRuleKeyCacheSnapshot),
         new InputBasedRuleKeyFactory(
             fieldLoader,
             fileHashCache,
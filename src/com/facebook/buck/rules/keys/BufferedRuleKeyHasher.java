@@ -0,0 +1,339 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.rules.keys;
+
+import com.facebook.buck.io.ArchiveMemberPath;
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.rules.BuildRuleType;
+import com.facebook.buck.rules.BuildTargetSourcePath;
+import com.facebook.buck.rules.ExplicitBuildTargetSourcePath;
+import com.facebook.buck.rules.ForwardingBuildTargetSourcePath;
+import com.facebook.buck.rules.RuleKey;
+import com.facebook.buck.rules.RuleKeyFieldCategory;
+import com.facebook.buck.rules.SourceRoot;
+import com.facebook.buck.util.sha1.Sha1HashCode;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.regex.Pattern;
+
+/**
+ * An implementation of {@link RuleKeyHasher} that produces the same hashes as
+ * {@link GuavaRuleKeyHasher}, but encodes the records into a scratch buffer which is fed to the
+ * wrapped {@link Hasher} in large chunks.
+ *
+ * Strings are encoded straight into the buffer rather than through {@link String#getBytes}, and
+ * hashes are copied into it rather than through {@link HashCode#asBytes()}, so that hashing a rule
+ * key does not allocate anything but for the non-ASCII strings.
+ *
+ * The buffers are taken from a per-thread pool and given back when {@link #hash()} is called. A
+ * hasher which is never hashed just lets its buffer be garbage collected.
+ */
+public class BufferedRuleKeyHasher implements RuleKeyHasher<HashCode> {
+
+  @VisibleForTesting
+  static final int BUFFER_SIZE = 8 * 1024;
+
+  /**
+   * Rule keys of the deps are computed while the rule key depending on them is being built, so a
+   * thread uses as many buffers as the depth of the nesting. Keeping a few of them is enough to
+   * avoid allocating new ones in the common case.
+   */
+  private static final int MAX_FREE_BUFFERS_PER_THREAD = 16;
+
+  private static final ThreadLocal<Deque<byte[]>> FREE_BUFFERS =
+      ThreadLocal.withInitial(ArrayDeque::new);
+
+  /** Replaces the buffer once it is given back, so that misuses fail instead of sharing it. */
+  private static final byte[] RELEASED = new byte[0];
+
+  private final Hasher hasher;
+  private byte[] buffer;
+  private int position = 0;
+
+  public BufferedRuleKeyHasher(Hasher hasher) {
+    this.hasher = hasher;
+    byte[] freeBuffer = FREE_BUFFERS.get().poll();
+    this.buffer = freeBuffer == null ? new byte[BUFFER_SIZE] : freeBuffer;
+  }
+
+  private void flush() {
+    hasher.putBytes(buffer, 0, position);
+    position = 0;
+  }
+
+  private void ensureCapacity(int length) {
+    if (length > buffer.length - position) {
+      flush();
+    }
+  }
+
+  private void writeByte(byte val) {
+    ensureCapacity(Byte.BYTES);
+    buffer[position++] = val;
+  }
+
+  // Multi-byte values are written in little-endian order, like Guava's hashers do.
+
+  private void writeShort(short val) {
+    ensureCapacity(Short.BYTES);
+    buffer[position++] = (byte) val;
+    buffer[position++] = (byte) (val >> 8);
+  }
+
+  private void writeInt(int val) {
+    ensureCapacity(Integer.BYTES);
+    buffer[position++] = (byte) val;
+    buffer[position++] = (byte) (val >> 8);
+    buffer[position++] = (byte) (val >> 16);
+    buffer[position++] = (byte) (val >> 24);
+  }
+
+  private void writeLong(long val) {
+    writeInt((int) val);
+    writeInt((int) (val >> 32));
+  }
+
+  private void writeBytes(byte[] bytes) {
+    ensureCapacity(bytes.length);
+    if (bytes.length > buffer.length) {
+      hasher.putBytes(bytes);
+      return;
+    }
+    System.arraycopy(bytes, 0, buffer, position, bytes.length);
+    position += bytes.length;
+  }
+
+  /**
+   * @return the number of bytes written.
+   */
+  private int writeHashCode(HashCode hash) {
+    int length = hash.bits() / Byte.SIZE;
+    ensureCapacity(length);
+    if (length > buffer.length) {
+      hasher.putBytes(hash.asBytes());
+    } else {
+      position += hash.writeBytesTo(buffer, position, length);
+    }
+    return length;
+  }
+
+  /**
+   * Writes {@code val} encoded in UTF-8.
+   *
+   * @return the number of bytes written.
+   */
+  private int writeString(String val) {
+    int length = val.length();
+    int i = 0;
+    while (i < length) {
+      if (position == buffer.length) {
+        flush();
+      }
+      int end = Math.min(length, i + buffer.length - position);
+      for (; i < end; i++) {
+        char c = val.charAt(i);
+        if (c >= 0x80) {
+          // Everything written so far is ASCII, which UTF-8 encodes as is, so only the remainder
+          // needs a proper encoder.
+          byte[] remainder = val.substring(i).getBytes(StandardCharsets.UTF_8);
+          writeBytes(remainder);
+          return i + remainder.length;
+        }
+        buffer[position++] = (byte) c;
+      }
+    }
+    return length;
+  }
+
+  private BufferedRuleKeyHasher putRecord(byte type, int length) {
+    writeInt(length);
+    writeByte(type);
+    return this;
+  }
+
+  private BufferedRuleKeyHasher putBytes(byte type, byte[] bytes) {
+    writeBytes(bytes);
+    return putRecord(type, bytes.length);
+  }
+
+  private BufferedRuleKeyHasher putStringified(byte type, String val) {
+    return putRecord(type, writeString(val));
+  }
+
+  private BufferedRuleKeyHasher putHashCode(byte type, HashCode hash) {
+    return putRecord(type, writeHashCode(hash));
+  }
+
+  @Override
+  public BufferedRuleKeyHasher selectCategory(RuleKeyFieldCategory category) {
+    // Category is useful for instrumentation purposes, but can be safely ignored here.
+    return this;
+  }
+
+  @Override
+  public BufferedRuleKeyHasher putKey(String key) {
+    return putStringified(RuleKeyHasherTypes.KEY, key);
+  }
+
+  @Override
+  public BufferedRuleKeyHasher putNull() {
+    writeByte(RuleKeyHasherTypes.NULL);
+    return this;
+  }
+
+  @Override
+  public BufferedRuleKeyHasher putBoolean(boolean val) {
+    writeByte(val ? RuleKeyHasherTypes.TRUE : RuleKeyHasherTypes.FALSE);
+    return this;
+  }
+
+  @Override
+  public BufferedRuleKeyHasher putNumber(Number val) {
+    if (val instanceof Integer) { // most common, so test first
+      writeInt((Integer) val);
+      writeByte(RuleKeyHasherTypes.INTEGER);
+    } else if (val instanceof Long) {
+      writeLong((Long) val);
+      writeByte(RuleKeyHasherTypes.LONG);
+    } else if (val instanceof Short) {
+      writeShort((Short) val);
+      writeByte(RuleKeyHasherTypes.SHORT);
+    } else if (val instanceof Byte) {
+      writeByte((Byte) val);
+      writeByte(RuleKeyHasherTypes.BYTE);
+    } else if (val instanceof Float) {
+      writeInt(Float.floatToRawIntBits((Float) val));
+      writeByte(RuleKeyHasherTypes.FLOAT);
+    } else if (val instanceof Double) {
+      writeLong(Double.doubleToRawLongBits((Double) val));
+      writeByte(RuleKeyHasherTypes.DOUBLE);
+    } else {
+      throw new UnsupportedOperationException(("Unsupported Number type: " + val.getClass()));
+    }
+    return this;
+  }
+
+  @Override
+  public BufferedRuleKeyHasher putString(String val) {
+    return putStringified(RuleKeyHasherTypes.STRING, val);
+  }
+
+  @Override
+  public BufferedRuleKeyHasher putBytes(byte[] bytes) {
+    return putBytes(RuleKeyHasherTypes.BYTE_ARRAY, bytes);
+  }
+
+  @Override
+  public BufferedRuleKeyHasher putPattern(Pattern pattern) {
+    return putStringified(RuleKeyHasherTypes.PATTERN, pattern.toString());
+  }
+
+  @Override
+  public BufferedRuleKeyHasher putSha1(Sha1HashCode sha1) {
+    flush();
+    sha1.update(hasher);
+    writeByte(RuleKeyHasherTypes.SHA1);
+    return this;
+  }
+
+  @Override
+  public BufferedRuleKeyHasher putPath(Path path, HashCode hash) {
+    putStringified(RuleKeyHasherTypes.PATH, path.toString());
+    return putHashCode(RuleKeyHasherTypes.PATH, hash);
+  }
+
+  @Override
+  public BufferedRuleKeyHasher putArchiveMemberPath(ArchiveMemberPath path, HashCode hash) {
+    putStringified(RuleKeyHasherTypes.ARCHIVE_MEMBER_PATH, path.toString());
+    return putHashCode(RuleKeyHasherTypes.ARCHIVE_MEMBER_PATH, hash);
+  }
+
+  @Override
+  public BufferedRuleKeyHasher putNonHashingPath(String path) {
+    return putStringified(RuleKeyHasherTypes.NON_HASHING_PATH, path);
+  }
+
+  @Override
+  public BufferedRuleKeyHasher putSourceRoot(SourceRoot sourceRoot) {
+    return putStringified(RuleKeyHasherTypes.SOURCE_ROOT, sourceRoot.getName());
+  }
+
+  @Override
+  public BufferedRuleKeyHasher putRuleKey(RuleKey ruleKey) {
+    return putHashCode(RuleKeyHasherTypes.RULE_KEY, ruleKey.getHashCode());
+  }
+
+  @Override
+  public BufferedRuleKeyHasher putBuildRuleType(BuildRuleType buildRuleType) {
+    return putStringified(RuleKeyHasherTypes.RULE_TYPE, buildRuleType.toString());
+  }
+
+  @Override
+  public BufferedRuleKeyHasher putBuildTarget(BuildTarget buildTarget) {
+    return putStringified(RuleKeyHasherTypes.TARGET, buildTarget.getFullyQualifiedName());
+  }
+
+  @Override
+  public BufferedRuleKeyHasher putBuildTargetSourcePath(
+      BuildTargetSourcePath<?> targetSourcePath) {
+    putStringified(
+        RuleKeyHasherTypes.TARGET_SOURCE_PATH,
+        targetSourcePath.getTarget().getFullyQualifiedName());
+    if (targetSourcePath instanceof ExplicitBuildTargetSourcePath) {
+      putStringified(
+          RuleKeyHasherTypes.TARGET_SOURCE_PATH,
+          ((ExplicitBuildTargetSourcePath) targetSourcePath).getResolvedPath().toString());
+    } else if (targetSourcePath instanceof ForwardingBuildTargetSourcePath) {
+      putStringified(
+          RuleKeyHasherTypes.TARGET_SOURCE_PATH,
+          ((ForwardingBuildTargetSourcePath) targetSourcePath).getDelegate().toString());
+    }
+    return this;
+  }
+
+  @Override
+  public BufferedRuleKeyHasher putContainer(Container container, int length) {
+    writeByte(RuleKeyHasherTypes.containerSubType(container));
+    writeInt(length);
+    writeByte(RuleKeyHasherTypes.CONTAINER);
+    return this;
+  }
+
+  @Override
+  public BufferedRuleKeyHasher putWrapper(Wrapper wrapper) {
+    writeByte(RuleKeyHasherTypes.wrapperSubType(wrapper));
+    writeByte(RuleKeyHasherTypes.WRAPPER);
+    return this;
+  }
+
+  @Override
+  public HashCode hash() {
+    flush();
+    Deque<byte[]> freeBuffers = FREE_BUFFERS.get();
+    if (buffer != RELEASED && freeBuffers.size() < MAX_FREE_BUFFERS_PER_THREAD) {
+      freeBuffers.push(buffer);
+    }
+    buffer = RELEASED;
+    return hasher.hash();
+  }
+}
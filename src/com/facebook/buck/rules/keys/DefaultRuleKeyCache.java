@@ -28,15 +28,22 @@ import com.google.common.base.Supplier;
 import com.google.common.base.Suppliers;
 import com.google.common.cache.CacheStats;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
 
 import java.nio.file.Path;
 import java.util.AbstractMap;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
@@ -284,6 +291,66 @@ public class DefaultRuleKeyCache<V> implements RuleKeyCache<V> {
     return builder.build();
   }
 
+  /**
+   * Only the reverse indices are kept, so they are inverted to find what each node was computed
+   * from. They may still list nodes which were invalidated and recomputed since, in which case
+   * the results list more deps and inputs than were used, but never less.
+   */
+  @Override
+  public ImmutableMap<BuildRule, RuleKeyResult<V>> getCachedBuildRuleResults() {
+    Map<IdentityWrapper<Object>, Set<RuleKeyInput>> inputsByNode = new HashMap<>();
+    inputsIndex.forEach(
+        (input, nodes) -> nodes.forEach(
+            node -> inputsByNode
+                .computeIfAbsent(new IdentityWrapper<>(node), key -> new HashSet<>())
+                .add(input)));
+    Map<IdentityWrapper<Object>, Set<IdentityWrapper<Object>>> depsByNode = new HashMap<>();
+    dependentsIndex.forEach(
+        (dep, dependents) -> dependents.forEach(
+            dependent -> depsByNode
+                .computeIfAbsent(new IdentityWrapper<>(dependent), key -> new HashSet<>())
+                .add(dep)));
+
+    Map<BuildRule, RuleKeyResult<V>> results = new HashMap<>();
+    Set<BuildRule> ambiguousRules = new HashSet<>();
+    for (Map.Entry<IdentityWrapper<Object>, Supplier<V>> entry : cache.entrySet()) {
+      if (!(entry.getKey().delegate instanceof BuildRule)) {
+        continue;
+      }
+      // Collect what was used through `RuleKeyAppendable`s, which are not cached on their own
+      // outside of this cache.
+      Set<BuildRule> deps = new LinkedHashSet<>();
+      Set<RuleKeyInput> inputs = new LinkedHashSet<>();
+      Set<IdentityWrapper<Object>> visited = new HashSet<>();
+      Deque<IdentityWrapper<Object>> toVisit = new ArrayDeque<>();
+      toVisit.add(entry.getKey());
+      while (!toVisit.isEmpty()) {
+        IdentityWrapper<Object> node = toVisit.remove();
+        inputs.addAll(inputsByNode.getOrDefault(node, ImmutableSet.of()));
+        for (IdentityWrapper<Object> dep : depsByNode.getOrDefault(node, ImmutableSet.of())) {
+          if (dep.delegate instanceof BuildRule) {
+            deps.add((BuildRule) dep.delegate);
+          } else if (visited.add(dep)) {
+            toVisit.add(dep);
+          }
+        }
+      }
+      RuleKeyResult<V> previous = results.put(
+          (BuildRule) entry.getKey().delegate,
+          new RuleKeyResult<>(
+              entry.getValue().get(),
+              ImmutableList.copyOf(deps),
+              ImmutableList.copyOf(inputs)));
+      if (previous != null) {
+        // Distinct rules for the same build target, e.g. from different action graphs, cannot
+        // be told apart by the callers.
+        ambiguousRules.add((BuildRule) entry.getKey().delegate);
+      }
+    }
+    results.keySet().removeAll(ambiguousRules);
+    return ImmutableMap.copyOf(results);
+  }
+
   /**
    * A wrapper class which uses identity equality and hash code.  Intended to wrap keys used in a
    * map.
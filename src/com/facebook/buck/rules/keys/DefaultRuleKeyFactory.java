@@ -31,6 +31,7 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.hash.HashCode;
 
 import java.io.IOException;
+import java.util.Optional;
 import java.util.function.Function;
 
 /**
@@ -43,18 +44,40 @@ public class DefaultRuleKeyFactory implements RuleKeyFactoryWithDiagnostics<Rule
   private final SourcePathResolver pathResolver;
   private final SourcePathRuleFinder ruleFinder;
   private final RuleKeyCache<RuleKey> ruleKeyCache;
+  private final Optional<RuleKeyCacheSnapshot> ruleKeyCacheSnapshot;
 
+  /**
+   * @param ruleKeyCacheSnapshot rule keys of a previous process, which are used instead of
+   *     computing the keys again when they are still valid.
+   */
   public DefaultRuleKeyFactory(
       RuleKeyFieldLoader ruleKeyFieldLoader,
       FileHashLoader hashLoader,
       SourcePathResolver pathResolver,
       SourcePathRuleFinder ruleFinder,
-      RuleKeyCache<RuleKey> ruleKeyCache) {
+      RuleKeyCache<RuleKey> ruleKeyCache,
+      Optional<RuleKeyCacheSnapshot> ruleKeyCacheSnapshot) {
     this.ruleKeyFieldLoader = ruleKeyFieldLoader;
     this.hashLoader = hashLoader;
     this.pathResolver = pathResolver;
     this.ruleFinder = ruleFinder;
     this.ruleKeyCache = ruleKeyCache;
+    this.ruleKeyCacheSnapshot = ruleKeyCacheSnapshot;
+  }
+
+  public DefaultRuleKeyFactory(
+      RuleKeyFieldLoader ruleKeyFieldLoader,
+      FileHashLoader hashLoader,
+      SourcePathResolver pathResolver,
+      SourcePathRuleFinder ruleFinder,
+      RuleKeyCache<RuleKey> ruleKeyCache) {
+    this(
+        ruleKeyFieldLoader,
+        hashLoader,
+        pathResolver,
+        ruleFinder,
+        ruleKeyCache,
+        Optional.empty());
   }
 
   public DefaultRuleKeyFactory(
@@ -104,8 +127,16 @@ public class DefaultRuleKeyFactory implements RuleKeyFactoryWithDiagnostics<Rule
   public RuleKey build(BuildRule buildRule) {
     return ruleKeyCache.get(
         buildRule,
-        rule -> newPopulatedBuilder(rule, RuleKeyBuilder.createDefaultHasher())
-            .buildResult(RuleKey::new));
+        rule -> restoreFromSnapshot(rule).orElseGet(
+            () -> newPopulatedBuilder(rule, RuleKeyBuilder.createDefaultHasher())
+                .buildResult(RuleKey::new)));
+  }
+
+  private Optional<RuleKeyResult<RuleKey>> restoreFromSnapshot(BuildRule rule) {
+    if (!ruleKeyCacheSnapshot.isPresent()) {
+      return Optional.empty();
+    }
+    return ruleKeyCacheSnapshot.get().restore(rule, hashLoader, this::build);
   }
 
   private RuleKey buildAppendableKey(RuleKeyAppendable appendable) {
@@ -114,7 +114,7 @@ public abstract class RuleKeyBuilder<RULE_KEY> implements RuleKeyObjectSink {
   }
 
   public static RuleKeyHasher<HashCode> createDefaultHasher() {
-    RuleKeyHasher<HashCode> hasher = new GuavaRuleKeyHasher(Hashing.sha1().newHasher());
+    RuleKeyHasher<HashCode> hasher = new BufferedRuleKeyHasher(Hashing.sha1().newHasher());
     if (logger.isVerboseEnabled()) {
       hasher = new ForwardingRuleKeyHasher<HashCode, String>(hasher, new StringRuleKeyHasher()) {
         @Override
@@ -21,6 +21,7 @@ import com.facebook.buck.rules.BuildRule;
 import com.facebook.buck.rules.RuleKeyAppendable;
 import com.google.common.cache.CacheStats;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 
 import java.nio.file.Path;
@@ -51,6 +52,15 @@ public interface RuleKeyCache<V> {
     throw new UnsupportedOperationException();
   }
 
+  /**
+   * @return the rule keys of the cached {@link BuildRule}s, along with the inputs and the
+   *         {@link BuildRule}s they depend on, including those used through
+   *         {@link RuleKeyAppendable}s.
+   */
+  default ImmutableMap<BuildRule, RuleKeyResult<V>> getCachedBuildRuleResults() {
+    throw new UnsupportedOperationException();
+  }
+
   /**
    * Invalidate the given inputs and all their transitive dependents.
    */
@@ -0,0 +1,313 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.rules.keys;
+
+import com.facebook.buck.hashing.FileHashLoader;
+import com.facebook.buck.io.ProjectFilesystem;
+import com.facebook.buck.log.Logger;
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.rules.AbstractBuildRule;
+import com.facebook.buck.rules.BuildRule;
+import com.facebook.buck.rules.RuleKey;
+import com.facebook.buck.util.ObjectMappers;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.hash.HashCode;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * The default rule keys of a build, kept in {@code buck-out} so that a new daemon, or a build
+ * without one, can reuse the keys of the rules which were not affected by the changes made since.
+ *
+ * Rules are identified by their build target. Each entry holds the rule key along with what it
+ * was computed from: the hash of the target node the rule was created from, the hashes of the
+ * rule's inputs, and the keys of the rules it depends on. A snapshot is only loaded when the
+ * fingerprint the caller derives from the configuration and so on is unchanged.
+ *
+ * Entries are validated lazily, when the key of their rule is first needed, without walking the
+ * fields of the rule: the hash of its target node is compared with the recorded one, the hashes
+ * of its inputs are checked against the file hash cache, which a daemon restores from its
+ * persistent store without reading the files, and the keys of its deps, which are validated or
+ * computed first, are compared with the recorded ones. So a change to a build file or an input
+ * invalidates the keys of the rules using it and of every rule depending on them, like in the
+ * in-memory cache. Values detected while the action graph is created, like the version of a tool
+ * found on the {@code PATH}, are not checked, so changing them requires a change to the
+ * fingerprint.
+ */
+public class RuleKeyCacheSnapshot {
+
+  private static final Logger LOG = Logger.get(RuleKeyCacheSnapshot.class);
+
+  private static final String SNAPSHOT_FILE_NAME = ".rule_key_cache.json";
+
+  private final HashCode fingerprint;
+  private final ImmutableMap<String, Entry> entries;
+  private final Function<BuildTarget, Optional<HashCode>> targetNodeHashes;
+
+  private RuleKeyCacheSnapshot(
+      HashCode fingerprint,
+      ImmutableMap<String, Entry> entries,
+      Function<BuildTarget, Optional<HashCode>> targetNodeHashes) {
+    this.fingerprint = fingerprint;
+    this.entries = entries;
+    this.targetNodeHashes = targetNodeHashes;
+  }
+
+  /**
+   * @param targetNodeHashes the hashes of the target nodes the rules of the current build are
+   *     created from, by build target.
+   * @return the snapshot stored in {@code filesystem}'s {@code buck-out}, if there is one with
+   *     the given {@code fingerprint}.
+   */
+  public static Optional<RuleKeyCacheSnapshot> load(
+      ProjectFilesystem filesystem,
+      HashCode fingerprint,
+      Function<BuildTarget, Optional<HashCode>> targetNodeHashes) {
+    Path path = getSnapshotPath(filesystem);
+    if (!filesystem.exists(path)) {
+      return Optional.empty();
+    }
+    Snapshot snapshot;
+    try (InputStream input = filesystem.newFileInputStream(path)) {
+      snapshot = ObjectMappers.READER.readValue(
+          ObjectMappers.createParser(input),
+          Snapshot.class);
+    } catch (IOException e) {
+      LOG.debug(e, "Failed to read the rule key cache snapshot.");
+      return Optional.empty();
+    }
+    if (!fingerprint.toString().equals(snapshot.fingerprint)) {
+      LOG.debug("Ignoring the rule key cache snapshot of a different configuration.");
+      return Optional.empty();
+    }
+    LOG.debug("Loaded a rule key cache snapshot of %d rules.", snapshot.entries.size());
+    return Optional.of(
+        new RuleKeyCacheSnapshot(
+            fingerprint,
+            ImmutableMap.copyOf(snapshot.entries),
+            targetNodeHashes));
+  }
+
+  /**
+   * @param results the rule keys to record, along with the inputs and the rules they were computed
+   *     from, including those used through {@link com.facebook.buck.rules.RuleKeyAppendable}s.
+   * @param hashLoader the file hash cache the rule keys were computed with.
+   * @param targetNodeHashes the hashes of the target nodes the rules were created from, by build
+   *     target.
+   * @return a snapshot of the given rule keys. Rules whose inputs cannot be hashed any more, which
+   *     were not created from a target node, or which depend on rules not in {@code results}, are
+   *     left out.
+   */
+  public static RuleKeyCacheSnapshot capture(
+      HashCode fingerprint,
+      Map<BuildRule, RuleKeyResult<RuleKey>> results,
+      FileHashLoader hashLoader,
+      Function<BuildTarget, Optional<HashCode>> targetNodeHashes) {
+    ImmutableMap.Builder<String, Entry> entries = ImmutableMap.builder();
+    for (Map.Entry<BuildRule, RuleKeyResult<RuleKey>> result : results.entrySet()) {
+      capture(result.getKey(), result.getValue(), results, hashLoader, targetNodeHashes)
+          .ifPresent(entry -> entries.put(result.getKey().getFullyQualifiedName(), entry));
+    }
+    return new RuleKeyCacheSnapshot(fingerprint, entries.build(), targetNodeHashes);
+  }
+
+  private static Optional<Entry> capture(
+      BuildRule rule,
+      RuleKeyResult<RuleKey> result,
+      Map<BuildRule, RuleKeyResult<RuleKey>> results,
+      FileHashLoader hashLoader,
+      Function<BuildTarget, Optional<HashCode>> targetNodeHashes) {
+    Optional<HashCode> targetNodeHash = targetNodeHashes.apply(rule.getBuildTarget());
+    if (!targetNodeHash.isPresent()) {
+      return Optional.empty();
+    }
+    // Inputs are restored relative to the filesystem of the rule, as that is the only one known
+    // when the rule key is restored.
+    ProjectFilesystem filesystem = rule.getProjectFilesystem();
+    Map<String, String> inputs = new HashMap<>();
+    for (RuleKeyInput input : result.inputs) {
+      if (!input.getFilesystem().getRootPath().equals(filesystem.getRootPath())) {
+        return Optional.empty();
+      }
+      try {
+        inputs.put(
+            input.getPath().toString(),
+            hashLoader.get(filesystem, input.getPath()).toString());
+      } catch (IOException e) {
+        LOG.verbose(e, "Not recording the rule key of %s.", rule);
+        return Optional.empty();
+      }
+    }
+    Map<String, String> deps = new HashMap<>();
+    for (Object dep : result.deps) {
+      RuleKeyResult<RuleKey> depResult = results.get(dep);
+      if (depResult == null) {
+        return Optional.empty();
+      }
+      deps.put(((BuildRule) dep).getFullyQualifiedName(), depResult.result.toString());
+    }
+    return Optional.of(
+        new Entry(
+            result.result.toString(),
+            targetNodeHash.get().toString(),
+            inputs,
+            deps));
+  }
+
+  /**
+   * Replaces the snapshot stored in {@code filesystem}'s {@code buck-out} with this one.
+   */
+  public void save(ProjectFilesystem filesystem) {
+    Path path = getSnapshotPath(filesystem);
+    try {
+      filesystem.createParentDirs(path);
+      Path tempPath = filesystem.createTempFile(
+          path.getParent(),
+          path.getFileName().toString(),
+          ".tmp");
+      try {
+        try (OutputStream output = filesystem.newFileOutputStream(tempPath)) {
+          ObjectMappers.WRITER.writeValue(output, new Snapshot(fingerprint.toString(), entries));
+        }
+        filesystem.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING);
+      } finally {
+        filesystem.deleteFileAtPathIfExists(tempPath);
+      }
+    } catch (IOException e) {
+      LOG.debug(e, "Failed to persist the rule key cache snapshot.");
+    }
+  }
+
+  /**
+   * @param hashLoader the file hash cache used to check that the inputs are unchanged.
+   * @param ruleKeys computes, or looks up, the current rule keys of the deps.
+   * @return the recorded rule key of {@code rule} if it is still valid, along with the deps and
+   *     inputs it was computed from, so that the rule key cache can invalidate it later.
+   */
+  public Optional<RuleKeyResult<RuleKey>> restore(
+      BuildRule rule,
+      FileHashLoader hashLoader,
+      Function<BuildRule, RuleKey> ruleKeys) {
+    Entry entry = entries.get(rule.getFullyQualifiedName());
+    if (entry == null) {
+      return Optional.empty();
+    }
+
+    Optional<HashCode> targetNodeHash = targetNodeHashes.apply(rule.getBuildTarget());
+    if (!targetNodeHash.isPresent() ||
+        !targetNodeHash.get().toString().equals(entry.targetNodeHash)) {
+      LOG.verbose("Not restoring the rule key of %s, as its target node changed.", rule);
+      return Optional.empty();
+    }
+
+    ImmutableList.Builder<RuleKeyInput> inputs = ImmutableList.builder();
+    for (Map.Entry<String, String> input : entry.inputs.entrySet()) {
+      Path path = Paths.get(input.getKey());
+      try {
+        if (!hashLoader.get(rule.getProjectFilesystem(), path).toString()
+            .equals(input.getValue())) {
+          LOG.verbose("Not restoring the rule key of %s, as %s changed.", rule, path);
+          return Optional.empty();
+        }
+      } catch (IOException e) {
+        LOG.verbose(e, "Not restoring the rule key of %s.", rule);
+        return Optional.empty();
+      }
+      inputs.add(RuleKeyInput.of(rule.getProjectFilesystem(), path));
+    }
+
+    Map<String, BuildRule> candidateDeps = new HashMap<>();
+    rule.getBuildDeps().forEach(dep -> candidateDeps.put(dep.getFullyQualifiedName(), dep));
+    if (rule instanceof AbstractBuildRule) {
+      ((AbstractBuildRule) rule).getTargetGraphOnlyDeps()
+          .forEach(dep -> candidateDeps.put(dep.getFullyQualifiedName(), dep));
+    }
+    if (!entry.deps.keySet().containsAll(candidateDeps.keySet())) {
+      LOG.verbose("Not restoring the rule key of %s, as it has new deps.", rule);
+      return Optional.empty();
+    }
+    ImmutableList.Builder<BuildRule> deps = ImmutableList.builder();
+    for (Map.Entry<String, String> recordedDep : entry.deps.entrySet()) {
+      BuildRule dep = candidateDeps.get(recordedDep.getKey());
+      if (dep == null || !ruleKeys.apply(dep).toString().equals(recordedDep.getValue())) {
+        LOG.verbose(
+            "Not restoring the rule key of %s, as its dep %s changed.",
+            rule,
+            recordedDep.getKey());
+        return Optional.empty();
+      }
+      deps.add(dep);
+    }
+
+    return Optional.of(
+        new RuleKeyResult<>(new RuleKey(entry.ruleKey), deps.build(), inputs.build()));
+  }
+
+  private static Path getSnapshotPath(ProjectFilesystem filesystem) {
+    return filesystem.getBuckPaths().getBuckOut().resolve(SNAPSHOT_FILE_NAME);
+  }
+
+  private static class Snapshot {
+    @JsonProperty
+    private final String fingerprint;
+    @JsonProperty
+    private final Map<String, Entry> entries;
+
+    @JsonCreator
+    private Snapshot(
+        @JsonProperty("fingerprint") String fingerprint,
+        @JsonProperty("entries") Map<String, Entry> entries) {
+      this.fingerprint = fingerprint;
+      this.entries = entries;
+    }
+  }
+
+  private static class Entry {
+    @JsonProperty
+    private final String ruleKey;
+    @JsonProperty
+    private final String targetNodeHash;
+    @JsonProperty
+    private final Map<String, String> inputs;
+    @JsonProperty
+    private final Map<String, String> deps;
+
+    @JsonCreator
+    private Entry(
+        @JsonProperty("ruleKey") String ruleKey,
+        @JsonProperty("targetNodeHash") String targetNodeHash,
+        @JsonProperty("inputs") Map<String, String> inputs,
+        @JsonProperty("deps") Map<String, String> deps) {
+      this.ruleKey = ruleKey;
+      this.targetNodeHash = targetNodeHash;
+      this.inputs = inputs;
+      this.deps = deps;
+    }
+  }
+}
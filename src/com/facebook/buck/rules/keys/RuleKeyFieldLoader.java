@@ -29,12 +29,17 @@ import java.nio.file.Path;
 
 public class RuleKeyFieldLoader {
 
+  /**
+   * The fields of a class added to its rule keys never change, so they are only looked up once
+   * for all the loaders, instead of once per command.
+   */
+  private static final LoadingCache<Class<? extends BuildRule>, ImmutableCollection<AlterRuleKey>>
+      ALTER_RULE_KEYS = CacheBuilder.newBuilder().weakKeys().build(new ReflectiveAlterKeyLoader());
+
   private final int seed;
-  private final LoadingCache<Class<? extends BuildRule>, ImmutableCollection<AlterRuleKey>> cache;
 
   public RuleKeyFieldLoader(int seed) {
     this.seed = seed;
-    this.cache = CacheBuilder.newBuilder().build(new ReflectiveAlterKeyLoader());
   }
 
   public void setFields(BuildRule buildRule, RuleKeyObjectSink builder) {
@@ -58,7 +63,7 @@ public class RuleKeyFieldLoader {
     // error out if we see the `RuleKeyAppendable` being used improperly.
     Preconditions.checkArgument(!(builder instanceof RuleKeyAppendable));
 
-    for (AlterRuleKey alterRuleKey : cache.getUnchecked(buildRule.getClass())) {
+    for (AlterRuleKey alterRuleKey : ALTER_RULE_KEYS.getUnchecked(buildRule.getClass())) {
       alterRuleKey.amendKey(builder, buildRule);
     }
   }
@@ -45,6 +45,7 @@ import com.facebook.buck.rules.args.SourcePathArg;
 import com.facebook.buck.rules.args.StringArg;
 import com.facebook.buck.util.HumanReadableException;
 import com.facebook.buck.util.MoreCollectors;
+import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.ImmutableSortedMap;
@@ -205,19 +206,18 @@ public class RustCompileUtils {
 
     String filename = crateType.filenameFor(crateName, cxxPlatform);
 
-    return resolver.addToIndex(
-        RustCompileRule.from(
-            ruleFinder,
-            params.withBuildTarget(target),
-            filename,
-            rustConfig.getRustCompiler().resolve(resolver),
-            rustConfig.getLinkerProvider(cxxPlatform, cxxPlatform.getLd().getType())
-                .resolve(resolver),
-            args.build(),
-            linkerArgs.build(),
-            CxxGenruleDescription.fixupSourcePaths(resolver, ruleFinder, cxxPlatform, sources),
-            CxxGenruleDescription.fixupSourcePath(resolver, ruleFinder, cxxPlatform, rootModule),
-            crateType.hasOutput()));
+    return RustCompileRule.from(
+        ruleFinder,
+        params.withBuildTarget(target),
+        filename,
+        rustConfig.getRustCompiler().resolve(resolver),
+        rustConfig.getLinkerProvider(cxxPlatform, cxxPlatform.getLd().getType())
+            .resolve(resolver),
+        args.build(),
+        linkerArgs.build(),
+        CxxGenruleDescription.fixupSourcePaths(resolver, ruleFinder, cxxPlatform, sources),
+        CxxGenruleDescription.fixupSourcePath(resolver, ruleFinder, cxxPlatform, rootModule),
+        crateType.hasOutput());
   }
 
   public static RustCompileRule requireBuild(
@@ -237,30 +237,28 @@ public class RustCompileUtils {
   ) throws NoSuchBuildTargetException {
     BuildTarget target = getCompileBuildTarget(params.getBuildTarget(), cxxPlatform, crateType);
 
-    // If this rule has already been generated, return it.
-    Optional<RustCompileRule> existing =
-        resolver.getRuleOptionalWithType(target, RustCompileRule.class);
-    if (existing.isPresent()) {
-      return existing.get();
-    }
-
-    return createBuild(
+    // If this rule has already been generated, return it. Libraries create their compile rules
+    // while their dependents' rules are created, possibly concurrently, so this must be atomic.
+    BuildRule rule = resolver.computeIfAbsent(
         target,
-        crateName,
-        params,
-        resolver,
-        ruleFinder,
-        cxxPlatform,
-        rustConfig,
-        extraFlags,
-        extraLinkerFlags,
-        linkerInputs,
-        crateType,
-        depType,
-        true,
-        sources,
-        rootModule
-    );
+        compileTarget -> createBuild(
+            compileTarget,
+            crateName,
+            params,
+            resolver,
+            ruleFinder,
+            cxxPlatform,
+            rustConfig,
+            extraFlags,
+            extraLinkerFlags,
+            linkerInputs,
+            crateType,
+            depType,
+            true,
+            sources,
+            rootModule));
+    Preconditions.checkState(rule instanceof RustCompileRule);
+    return (RustCompileRule) rule;
   }
 
   public static Linker.LinkableDepType getLinkStyle(
@@ -383,7 +381,7 @@ public class RustCompileUtils {
       executableBuilder.addInputs(rustSharedLibraries.values());
     }
 
-    final RustCompileRule buildRule = RustCompileUtils.createBuild(
+    final RustCompileRule buildRule = resolver.addToIndex(RustCompileUtils.createBuild(
         binaryTarget,
         crate,
         params,
@@ -398,7 +396,7 @@ public class RustCompileUtils {
         linkStyle,
         rpath,
         rootModuleAndSources.getSecond(),
-        rootModuleAndSources.getFirst());
+        rootModuleAndSources.getFirst()));
 
     // Add the binary as the first argument.
     executableBuilder.addArg(SourcePathArg.of(buildRule.getSourcePathToOutput()));
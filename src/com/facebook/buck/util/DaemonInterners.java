@@ -0,0 +1,85 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.util;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Weak interners living as long as the daemon, shared by everything creating the same kind of
+ * object (e.g. build targets created by the parser and by the coercers), so that equal instances
+ * are only kept once in the heap and compare by identity.
+ *
+ * Each interner counts the duplicates it replaced, which {@link #getDuplicatesReplaced()} reports.
+ */
+public class DaemonInterners {
+
+  private static final ConcurrentMap<String, CountingInterner<?>> INTERNERS =
+      new ConcurrentHashMap<>();
+
+  private DaemonInterners() {}
+
+  /**
+   * @param name unique name of the interner, used to report its statistics.
+   * @return a new weak interner.
+   */
+  public static <E> Interner<E> newWeakInterner(String name) {
+    CountingInterner<E> interner = new CountingInterner<>(Interners.newWeakInterner());
+    Preconditions.checkState(
+        INTERNERS.putIfAbsent(name, interner) == null,
+        "Interner %s already exists.",
+        name);
+    return interner;
+  }
+
+  /**
+   * @return for each interner, the number of instances it was given which were equal to an
+   *     instance it already held, i.e. the number of objects interning allowed to be collected.
+   */
+  public static ImmutableSortedMap<String, Long> getDuplicatesReplaced() {
+    ImmutableSortedMap.Builder<String, Long> builder = ImmutableSortedMap.naturalOrder();
+    for (Map.Entry<String, CountingInterner<?>> entry : INTERNERS.entrySet()) {
+      builder.put(entry.getKey(), entry.getValue().duplicatesReplaced.sum());
+    }
+    return builder.build();
+  }
+
+  private static class CountingInterner<E> implements Interner<E> {
+    private final Interner<E> delegate;
+    private final LongAdder duplicatesReplaced = new LongAdder();
+
+    private CountingInterner(Interner<E> delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public E intern(E sample) {
+      E interned = delegate.intern(sample);
+      if (interned != sample) {
+        duplicatesReplaced.increment();
+      }
+      return interned;
+    }
+  }
+}
@@ -48,7 +48,10 @@ public class DirectoryCleaner {
     this.args = args;
   }
 
-  public void clean(Path pathToClean) throws IOException {
+  /**
+   * @return the total size in bytes of the candidate paths left after cleaning.
+   */
+  public long clean(Path pathToClean) throws IOException {
 
     List<PathStats> pathStats = new ArrayList<>();
     long totalSizeBytes = 0;
@@ -84,6 +87,7 @@ public class DirectoryCleaner {
         totalSizeBytes -= currentPath.getTotalSizeBytes();
       }
     }
+    return totalSizeBytes;
   }
 
   private boolean shouldDeleteOldestLog(int currentNumberOfLogs, long totalSizeBytes) {
@@ -80,17 +80,20 @@ public class WatchmanWatcher {
   private Map<Path, WatchmanCursor> cursors;
 
   private final long timeoutMillis;
+  private final long recoveryTimeoutMillis;
 
   public WatchmanWatcher(
       ImmutableMap<Path, ProjectWatch> projectWatch,
       EventBus fileChangeEventBus,
       ImmutableSet<PathOrGlobMatcher> ignorePaths,
       Watchman watchman,
-      Map<Path, WatchmanCursor> cursors) {
+      Map<Path, WatchmanCursor> cursors,
+      long recoveryTimeoutMillis) {
     this(
         fileChangeEventBus,
         watchman.getWatchmanClient().get(),
         DEFAULT_TIMEOUT_MILLIS,
+        recoveryTimeoutMillis,
         createQueries(
             projectWatch,
             ignorePaths,
@@ -102,11 +105,13 @@ public class WatchmanWatcher {
   WatchmanWatcher(EventBus fileChangeEventBus,
                   WatchmanClient watchmanClient,
                   long timeoutMillis,
+                  long recoveryTimeoutMillis,
                   ImmutableMap<Path, WatchmanQuery> queries,
                   Map<Path, WatchmanCursor> cursors) {
     this.fileChangeEventBus = fileChangeEventBus;
     this.watchmanClient = watchmanClient;
     this.timeoutMillis = timeoutMillis;
+    this.recoveryTimeoutMillis = recoveryTimeoutMillis;
     this.queries = queries;
     this.cursors = cursors;
   }
@@ -214,6 +219,10 @@ public class WatchmanWatcher {
    * IOExceptions are propagated to callers, but typically if overflow events are handled
    * conservatively by subscribers then no other remedial action is required.
    *
+   * When the cursor is a clock, the query is given an additional recovery timeout before an
+   * overflow is signalled, since waiting longer for the exact list of changes (typically after a
+   * large rebase) is cheaper than invalidating every cache.
+   *
    * Any diagnostics posted by Watchman are added to watchmanDiagnosticCache.
    */
   public void postEvents(
@@ -249,11 +258,18 @@ public class WatchmanWatcher {
       AtomicBoolean filesHaveChanged) throws IOException, InterruptedException {
     try {
       Optional<? extends Map<String, ? extends Object>> queryResponse;
+      long queryTimeoutMillis = timeoutMillis;
+      if (cursor.get().startsWith("c:")) {
+        queryTimeoutMillis += recoveryTimeoutMillis;
+      }
+      long queryStartNanos = System.nanoTime();
       try (SimplePerfEvent.Scope ignored = SimplePerfEvent.scope(buckEventBus, "query")) {
         queryResponse = watchmanClient.queryWithTimeout(
-            TimeUnit.MILLISECONDS.toNanos(timeoutMillis),
+            TimeUnit.MILLISECONDS.toNanos(queryTimeoutMillis),
             query.toList(cursor.get()).toArray());
       }
+      long queryElapsedMillis =
+          TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - queryStartNanos);
 
       try (SimplePerfEvent.Scope ignored = SimplePerfEvent.scope(
           buckEventBus,
@@ -262,11 +278,11 @@ public class WatchmanWatcher {
           LOG.warn(
               "Could not get response from Watchman for query %s within %d ms",
               query,
-              timeoutMillis);
+              queryElapsedMillis);
           postWatchEvent(
               WatchmanOverflowEvent.of(
                   cellPath,
-                  "Query to Watchman timed out after " + timeoutMillis + "ms"));
+                  "Query to Watchman timed out after " + queryElapsedMillis + "ms"));
           filesHaveChanged.set(true);
           return;
         }
@@ -20,6 +20,7 @@ import com.facebook.buck.hashing.PathHashing;
 import com.facebook.buck.io.ArchiveMemberPath;
 import com.facebook.buck.io.ProjectFilesystem;
 import com.facebook.buck.util.MoreCollectors;
+import com.facebook.buck.util.concurrent.MostExecutors;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Throwables;
@@ -28,20 +29,29 @@ import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
 import com.google.common.hash.HashCode;
 import com.google.common.hash.Hasher;
 import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 
 import java.io.IOException;
 import java.nio.file.FileSystems;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.annotation.Nonnull;
 
@@ -50,8 +60,25 @@ public class DefaultFileHashCache implements ProjectFileHashCache {
   private static final boolean SHOULD_CHECK_IGNORED_PATHS =
       Boolean.getBoolean("buck.DefaultFileHashCache.check_ignored_paths");
 
+  /**
+   * Directories with at least this many files have the files hashed in parallel before their
+   * hashes are combined.
+   */
+  private static final int PARALLEL_DIRECTORY_HASHING_THRESHOLD = 16;
+
+  /**
+   * Hashes the files of large directories. It is bounded and separate from the common fork-join
+   * pool, so directory hashing neither starves nor is starved by other parallel work in the daemon.
+   * Its threads exit when they are idle.
+   */
+  private static final ThreadPoolExecutor PREFETCH_EXECUTOR = createPrefetchExecutor();
+
   private final ProjectFilesystem projectFilesystem;
   private final Optional<Path> buckOutPath;
+  private final Optional<PersistentFileHashStore> persistentStore;
+  private final AtomicLong filesHashed = new AtomicLong();
+  private final AtomicLong bytesHashed = new AtomicLong();
+  private final AtomicLong hashingNanos = new AtomicLong();
 
   @VisibleForTesting
   final LoadingCache<Path, HashCodeAndFileType> loadingCache;
@@ -63,8 +90,20 @@ public class DefaultFileHashCache implements ProjectFileHashCache {
   DefaultFileHashCache(
       ProjectFilesystem projectFilesystem,
       Optional<Path> buckOutPath) {
+    this(projectFilesystem, buckOutPath, Optional.empty());
+  }
+
+  /**
+   * @param persistentStore if present, file hashes are looked up in and recorded to this store, so
+   *     that they can be reused across daemon restarts.
+   */
+  DefaultFileHashCache(
+      ProjectFilesystem projectFilesystem,
+      Optional<Path> buckOutPath,
+      Optional<PersistentFileHashStore> persistentStore) {
     this.projectFilesystem = projectFilesystem;
     this.buckOutPath = buckOutPath;
+    this.persistentStore = persistentStore;
 
     this.loadingCache =
         CacheBuilder.newBuilder().build(
@@ -140,7 +179,27 @@ public class DefaultFileHashCache implements ProjectFileHashCache {
   }
 
   private HashCode getFileHashCode(Path path) throws IOException {
-    return projectFilesystem.computeSha1(path).asHashCode();
+    if (!persistentStore.isPresent()) {
+      return computeFileHashCode(path);
+    }
+    BasicFileAttributes attributes =
+        projectFilesystem.readAttributes(path, BasicFileAttributes.class);
+    Optional<HashCode> storedHashCode = persistentStore.get().get(path, attributes);
+    if (storedHashCode.isPresent()) {
+      return storedHashCode.get();
+    }
+    HashCode hashCode = computeFileHashCode(path);
+    persistentStore.get().put(path, attributes, hashCode);
+    return hashCode;
+  }
+
+  private HashCode computeFileHashCode(Path path) throws IOException {
+    long startNanos = System.nanoTime();
+    HashCode hashCode = projectFilesystem.computeSha1(path).asHashCode();
+    hashingNanos.addAndGet(System.nanoTime() - startNanos);
+    filesHashed.incrementAndGet();
+    bytesHashed.addAndGet(projectFilesystem.getFileSize(path));
+    return hashCode;
   }
 
   private long getPathSize(Path path) throws IOException {
@@ -152,12 +211,68 @@ public class DefaultFileHashCache implements ProjectFileHashCache {
   }
 
   private HashCodeAndFileType getDirHashCode(Path path) throws IOException {
+    ImmutableSortedSet<Path> files =
+        ImmutableSortedSet.copyOf(projectFilesystem.getFilesUnderPath(path));
+    prefetchFileHashCodes(files);
     Hasher hasher = Hashing.sha1().newHasher();
-    ImmutableSet<Path> children =
-        PathHashing.hashPath(hasher, this, projectFilesystem, path);
+    ImmutableSet<Path> children = PathHashing.hashFiles(hasher, this, path, files);
     return HashCodeAndFileType.ofDirectory(hasher.hash(), children);
   }
 
+  /**
+   * Loads the hashes of the given files in parallel, so that hashing a directory of many small
+   * files is not bound by the latency of reading them one at a time.
+   *
+   * Only regular files are loaded on the executor. Loading a directory there would wait for the
+   * hashes of its own files, which may be queued behind it, so anything else is left to the
+   * calling thread.
+   */
+  private void prefetchFileHashCodes(Collection<Path> files) {
+    if (files.size() < PARALLEL_DIRECTORY_HASHING_THRESHOLD) {
+      return;
+    }
+    List<Future<?>> futures = new ArrayList<>(files.size());
+    for (Path file : files) {
+      if (loadingCache.getIfPresent(file) != null) {
+        continue;
+      }
+      futures.add(
+          PREFETCH_EXECUTOR.submit(
+              () -> {
+                if (!projectFilesystem.isFile(file)) {
+                  return;
+                }
+                try {
+                  loadingCache.get(file);
+                } catch (ExecutionException | UncheckedExecutionException e) {
+                  // Failures are not cached, so they are reported when the hashes are combined.
+                }
+              }));
+    }
+    try {
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } catch (InterruptedException e) {
+      // The remaining files are hashed on this thread when the hashes are combined.
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException e) {
+      throw new RuntimeException(e.getCause());
+    }
+  }
+
+  private static ThreadPoolExecutor createPrefetchExecutor() {
+    int threads = Runtime.getRuntime().availableProcessors();
+    ThreadPoolExecutor executor = new ThreadPoolExecutor(
+        threads,
+        threads,
+        1, TimeUnit.SECONDS,
+        new LinkedBlockingQueue<>(),
+        new MostExecutors.NamedThreadFactory("FileHashCache"));
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
   @Override
   public boolean willGet(Path relativePath) {
     Preconditions.checkState(!relativePath.isAbsolute());
@@ -183,6 +298,7 @@ public class DefaultFileHashCache implements ProjectFileHashCache {
   private void invalidateImmediate(Path path) {
     loadingCache.invalidate(path);
     sizeCache.invalidate(path);
+    persistentStore.ifPresent(store -> store.remove(path));
   }
 
   @Override
@@ -288,6 +404,11 @@ public class DefaultFileHashCache implements ProjectFileHashCache {
     loadingCache.put(relativePath, value);
   }
 
+  @Override
+  public FileHashingStatistics getHashingStatistics() {
+    return FileHashingStatistics.of(filesHashed.get(), bytesHashed.get(), hashingNanos.get());
+  }
+
   @Override
   public FileHashCacheVerificationResult verify() throws IOException {
     List<String> errors = new ArrayList<>();
@@ -60,6 +60,14 @@ public interface FileHashCache extends FileHashLoader {
         "FileHashCache class " + getClass().getName() + " does not support verification.");
   }
 
+  /**
+   * @return totals over all the files whose contents were hashed (rather than served from the
+   *     cache) since this cache was created.
+   */
+  default FileHashingStatistics getHashingStatistics() {
+    return FileHashingStatistics.of(0, 0, 0);
+  }
+
   @Value.Immutable
   @BuckStyleImmutable
   interface AbstractFileHashCacheVerificationResult {
@@ -68,4 +76,31 @@ public interface FileHashCache extends FileHashLoader {
     List<String> getVerificationErrors();
   }
 
+  @Value.Immutable
+  @BuckStyleImmutable
+  abstract class AbstractFileHashingStatistics {
+    @Value.Parameter
+    public abstract long getFilesHashed();
+
+    @Value.Parameter
+    public abstract long getBytesHashed();
+
+    @Value.Parameter
+    public abstract long getHashingNanos();
+
+    public FileHashingStatistics plus(FileHashingStatistics other) {
+      return FileHashingStatistics.of(
+          getFilesHashed() + other.getFilesHashed(),
+          getBytesHashed() + other.getBytesHashed(),
+          getHashingNanos() + other.getHashingNanos());
+    }
+
+    public FileHashingStatistics minus(FileHashingStatistics other) {
+      return FileHashingStatistics.of(
+          getFilesHashed() - other.getFilesHashed(),
+          getBytesHashed() - other.getBytesHashed(),
+          getHashingNanos() - other.getHashingNanos());
+    }
+  }
+
 }
@@ -0,0 +1,363 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.util.cache;
+
+import com.facebook.buck.io.ProjectFilesystem;
+import com.facebook.buck.log.Logger;
+import com.facebook.buck.timing.Clock;
+import com.facebook.buck.util.concurrent.MostExecutors;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.hash.HashCode;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+
+/**
+ * An on-disk store of file content hashes which outlives the daemon, so that a restarted daemon
+ * does not need to rehash every input file.
+ *
+ * Entries are keyed by path and are only returned if the modification time, size and file key
+ * (the inode on POSIX systems) of the file still match the ones recorded when the file was hashed.
+ * The store is an append-only log. Once it is opened, entries of files which were deleted or
+ * changed since are dropped in the background, and the log is compacted once at least half of its
+ * records are stale, so it stays proportional to the number of files which are still hashed.
+ */
+public class PersistentFileHashStore implements Closeable {
+
+  private static final Logger LOG = Logger.get(PersistentFileHashStore.class);
+
+  private static final int FORMAT_VERSION = 1;
+
+  private static final Executor STALE_ENTRY_REMOVAL_EXECUTOR =
+      createStaleEntryRemovalExecutor();
+
+  /**
+   * Files modified this shortly before being hashed are not recorded, since a later modification
+   * within the granularity of the filesystem's timestamps would go unnoticed.
+   */
+  @VisibleForTesting
+  static final long RACY_MODIFICATION_WINDOW_MILLIS = 2000;
+
+  private final ProjectFilesystem filesystem;
+  private final Path storePath;
+  private final Clock clock;
+  private final ConcurrentHashMap<Path, Entry> entries;
+  private final int records;
+
+  /**
+   * Records are buffered, so the ones still in the buffer when the daemon is killed are lost. They
+   * are only cached hashes, and a partially written last record is discarded when reading the log.
+   */
+  @GuardedBy("this")
+  @Nullable
+  private DataOutputStream log;
+
+  @GuardedBy("this")
+  private boolean closed;
+
+  private PersistentFileHashStore(
+      ProjectFilesystem filesystem,
+      Path storePath,
+      Clock clock,
+      ConcurrentHashMap<Path, Entry> entries,
+      int records) {
+    this.filesystem = filesystem;
+    this.storePath = storePath;
+    this.clock = clock;
+    this.entries = entries;
+    this.records = records;
+  }
+
+  /**
+   * Opens the store at {@code storePath}, creating it if it does not exist yet.
+   *
+   * @param storePath path of the store, relative to the root of {@code filesystem}.
+   */
+  public static PersistentFileHashStore open(
+      ProjectFilesystem filesystem,
+      Path storePath,
+      Clock clock) throws IOException {
+    return open(filesystem, storePath, clock, STALE_ENTRY_REMOVAL_EXECUTOR);
+  }
+
+  /**
+   * @param staleEntryRemovalExecutor runs {@link #removeStaleEntries()} once the store is loaded.
+   */
+  @VisibleForTesting
+  static PersistentFileHashStore open(
+      ProjectFilesystem filesystem,
+      Path storePath,
+      Clock clock,
+      Executor staleEntryRemovalExecutor) throws IOException {
+    Preconditions.checkArgument(!storePath.isAbsolute());
+    ConcurrentHashMap<Path, Entry> entries = new ConcurrentHashMap<>();
+    int records = 0;
+    boolean valid = false;
+    if (filesystem.exists(storePath)) {
+      try (DataInputStream input = new DataInputStream(
+               new BufferedInputStream(filesystem.newFileInputStream(storePath)))) {
+        if (input.readInt() == FORMAT_VERSION) {
+          while (input.available() > 0) {
+            Path path = Paths.get(input.readUTF());
+            entries.put(path, Entry.read(input));
+            records++;
+          }
+          valid = true;
+        }
+      } catch (EOFException e) {
+        // The last record was not completely written because the daemon was killed. We keep
+        // everything read so far, and rewrite the log so that new records can be appended.
+      }
+    }
+
+    PersistentFileHashStore store =
+        new PersistentFileHashStore(filesystem, storePath, clock, entries, records);
+    if (!valid || records > entries.size() * 2) {
+      store.compact();
+    }
+    LOG.debug("Loaded %d file hashes from %s.", entries.size(), storePath);
+    staleEntryRemovalExecutor.execute(store::removeStaleEntries);
+    return store;
+  }
+
+  private static Executor createStaleEntryRemovalExecutor() {
+    ThreadPoolExecutor executor = new ThreadPoolExecutor(
+        1,
+        1,
+        1, TimeUnit.SECONDS,
+        new LinkedBlockingQueue<>(),
+        new MostExecutors.NamedThreadFactory("PersistentFileHashStore"));
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  /**
+   * Removes the entries of files which were deleted, or changed since they were hashed, and
+   * compacts the log if most of its records turn out to be stale. The hashes of these files could
+   * never be returned again, and a renamed or deleted file is never hashed again under its old
+   * path, so its record would otherwise be kept forever.
+   */
+  private void removeStaleEntries() {
+    int removed = 0;
+    for (Map.Entry<Path, Entry> entry : entries.entrySet()) {
+      synchronized (this) {
+        if (closed) {
+          return;
+        }
+      }
+      boolean stale;
+      try {
+        stale = !entry.getValue().matches(
+            filesystem.readAttributes(entry.getKey(), BasicFileAttributes.class));
+      } catch (IOException e) {
+        // Whether the file is gone or unreadable, its hash cannot be used.
+        stale = true;
+      }
+      if (stale && entries.remove(entry.getKey(), entry.getValue())) {
+        removed++;
+      }
+    }
+    LOG.debug("Dropped %d stale file hashes from %s.", removed, storePath);
+    if (records > entries.size() * 2) {
+      try {
+        compact();
+      } catch (IOException e) {
+        LOG.warn(e, "Could not compact %s.", storePath);
+      }
+    }
+  }
+
+  /**
+   * @return the hash recorded for {@code relativePath}, if the file did not change since.
+   */
+  public Optional<HashCode> get(Path relativePath, BasicFileAttributes attributes) {
+    Entry entry = entries.get(relativePath);
+    if (entry == null) {
+      return Optional.empty();
+    }
+    if (!entry.matches(attributes)) {
+      entries.remove(relativePath, entry);
+      return Optional.empty();
+    }
+    return Optional.of(entry.hashCode);
+  }
+
+  /**
+   * Records the {@code hashCode} of the contents of {@code relativePath}, as read after
+   * {@code attributes} were fetched.
+   */
+  public void put(Path relativePath, BasicFileAttributes attributes, HashCode hashCode)
+      throws IOException {
+    Entry entry = Entry.of(attributes, hashCode);
+    if (clock.currentTimeMillis() - entry.lastModifiedMillis < RACY_MODIFICATION_WINDOW_MILLIS) {
+      return;
+    }
+    Entry previous = entries.put(relativePath, entry);
+    if (entry.equals(previous)) {
+      return;
+    }
+    synchronized (this) {
+      if (log == null) {
+        log = new DataOutputStream(
+            new BufferedOutputStream(
+                filesystem.newUnbufferedFileOutputStream(storePath, /* append */ true)));
+      }
+      log.writeUTF(relativePath.toString());
+      entry.write(log);
+    }
+  }
+
+  /**
+   * Forgets the hash of {@code relativePath}, e.g. because the file changed or was deleted. Its
+   * record is dropped from the log the next time the store is opened.
+   */
+  public void remove(Path relativePath) {
+    entries.remove(relativePath);
+  }
+
+  @VisibleForTesting
+  int size() {
+    return entries.size();
+  }
+
+  /**
+   * Rewrites the log so that it only contains the latest record of each path.
+   */
+  private synchronized void compact() throws IOException {
+    if (closed) {
+      return;
+    }
+    closeLog();
+    filesystem.createParentDirs(storePath);
+    Path tempPath = filesystem.createTempFile(
+        storePath.getParent(),
+        storePath.getFileName().toString(),
+        ".tmp");
+    try (DataOutputStream output =
+             new DataOutputStream(filesystem.newFileOutputStream(tempPath))) {
+      output.writeInt(FORMAT_VERSION);
+      for (Map.Entry<Path, Entry> entry : entries.entrySet()) {
+        output.writeUTF(entry.getKey().toString());
+        entry.getValue().write(output);
+      }
+    }
+    filesystem.move(tempPath, storePath, StandardCopyOption.REPLACE_EXISTING);
+  }
+
+  @GuardedBy("this")
+  private void closeLog() throws IOException {
+    if (log != null) {
+      log.close();
+      log = null;
+    }
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    closed = true;
+    closeLog();
+  }
+
+  private static class Entry {
+    private final HashCode hashCode;
+    private final long lastModifiedMillis;
+    private final long size;
+    private final String fileKey;
+
+    private Entry(HashCode hashCode, long lastModifiedMillis, long size, String fileKey) {
+      this.hashCode = hashCode;
+      this.lastModifiedMillis = lastModifiedMillis;
+      this.size = size;
+      this.fileKey = fileKey;
+    }
+
+    static Entry of(BasicFileAttributes attributes, HashCode hashCode) {
+      return new Entry(
+          hashCode,
+          attributes.lastModifiedTime().toMillis(),
+          attributes.size(),
+          getFileKey(attributes));
+    }
+
+    static Entry read(DataInputStream input) throws IOException {
+      byte[] hash = new byte[input.readUnsignedByte()];
+      input.readFully(hash);
+      return new Entry(
+          HashCode.fromBytes(hash),
+          input.readLong(),
+          input.readLong(),
+          input.readUTF());
+    }
+
+    void write(DataOutputStream output) throws IOException {
+      byte[] hash = hashCode.asBytes();
+      output.writeByte(hash.length);
+      output.write(hash);
+      output.writeLong(lastModifiedMillis);
+      output.writeLong(size);
+      output.writeUTF(fileKey);
+    }
+
+    boolean matches(BasicFileAttributes attributes) {
+      return lastModifiedMillis == attributes.lastModifiedTime().toMillis() &&
+          size == attributes.size() &&
+          fileKey.equals(getFileKey(attributes));
+    }
+
+    private static String getFileKey(BasicFileAttributes attributes) {
+      Object fileKey = attributes.fileKey();
+      return fileKey == null ? "" : fileKey.toString();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (!(obj instanceof Entry)) {
+        return false;
+      }
+      Entry that = (Entry) obj;
+      return hashCode.equals(that.hashCode) &&
+          lastModifiedMillis == that.lastModifiedMillis &&
+          size == that.size &&
+          fileKey.equals(that.fileKey);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode.hashCode();
+    }
+  }
+}
@@ -47,4 +47,12 @@ public interface ProjectFileHashCache extends ProjectFileHashLoader {
         "ProjectFileHashCache class " + getClass().getName() + " does not support verification.");
   }
 
+  /**
+   * @return totals over all the files whose contents were hashed (rather than served from the
+   *     cache) since this cache was created.
+   */
+  default FileHashingStatistics getHashingStatistics() {
+    return FileHashingStatistics.of(0, 0, 0);
+  }
+
 }
@@ -175,6 +175,15 @@ public class StackedFileHashCache implements FileHashCache {
         .build();
   }
 
+  @Override
+  public FileHashingStatistics getHashingStatistics() {
+    FileHashingStatistics statistics = FileHashingStatistics.of(0, 0, 0);
+    for (ProjectFileHashCache cache : caches) {
+      statistics = statistics.plus(cache.getHashingStatistics());
+    }
+    return statistics;
+  }
+
   @Override
   public HashCode get(ProjectFilesystem filesystem, Path path) throws IOException {
     return lookup(filesystem, path)
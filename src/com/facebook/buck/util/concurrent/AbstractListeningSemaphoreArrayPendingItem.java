@@ -25,4 +25,5 @@ import org.immutables.value.Value;
 abstract class AbstractListeningSemaphoreArrayPendingItem {
   public abstract SettableFuture<Void> getFuture();
   public abstract ResourceAmounts getResources();
+  public abstract long getPriority();
 }
@@ -24,10 +24,13 @@ import com.google.common.util.concurrent.SettableFuture;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.ListIterator;
 
 /**
  * A semaphore using {@link ListenableFuture}s for acquisition of different resource types
  * rather than blocking.
+ *
+ * Pending acquisitions are satisfied by decreasing priority, then in the order they were made.
  */
 public class ListeningMultiSemaphore {
 
@@ -56,7 +59,17 @@ public class ListeningMultiSemaphore {
    *
    * @return Future that will be completed once resource will be acquired.
    */
-  public synchronized ListenableFuture<Void> acquire(ResourceAmounts resources) {
+  public ListenableFuture<Void> acquire(ResourceAmounts resources) {
+    return acquire(resources, 0);
+  }
+
+  /**
+   * Same as {@link #acquire(ResourceAmounts)}, except that if the resources are not available
+   * right away, the acquisition is satisfied before the pending ones of lower priority.
+   *
+   * @param priority priority of the acquisition, higher values being satisfied first.
+   */
+  public synchronized ListenableFuture<Void> acquire(ResourceAmounts resources, long priority) {
     if (resources.equals(ResourceAmounts.ZERO)) {
       return Futures.immediateFuture(null);
     }
@@ -64,7 +77,7 @@ public class ListeningMultiSemaphore {
     resources = capResourceAmounts(resources);
     if (!checkIfResourcesAvailable(resources)) {
       SettableFuture<Void> pendingFuture = SettableFuture.create();
-      pending.add(ListeningSemaphoreArrayPendingItem.of(pendingFuture, resources));
+      addPendingItem(ListeningSemaphoreArrayPendingItem.of(pendingFuture, resources, priority));
       return pendingFuture;
     }
     increaseUsedResources(resources);
@@ -87,6 +100,18 @@ public class ListeningMultiSemaphore {
     processPendingFutures(getPendingItemsThatCanBeProcessed());
   }
 
+  private synchronized void addPendingItem(ListeningSemaphoreArrayPendingItem item) {
+    ListIterator<ListeningSemaphoreArrayPendingItem> iterator =
+        pending.listIterator(pending.size());
+    while (iterator.hasPrevious()) {
+      if (iterator.previous().getPriority() >= item.getPriority()) {
+        iterator.next();
+        break;
+      }
+    }
+    iterator.add(item);
+  }
+
   private synchronized ImmutableList<ListeningSemaphoreArrayPendingItem>
   getPendingItemsThatCanBeProcessed() {
     ImmutableList.Builder<ListeningSemaphoreArrayPendingItem> builder = ImmutableList.builder();
@@ -22,6 +22,7 @@ import com.facebook.buck.event.EventKey;
 import com.facebook.buck.log.GlobalStateManager;
 import com.facebook.buck.log.InvocationInfo;
 import com.facebook.buck.log.Logger;
+import com.facebook.buck.util.DaemonInterners;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.util.concurrent.AbstractScheduledService;
@@ -80,7 +81,8 @@ public class PerfStatsTracking extends AbstractScheduledService implements AutoC
         totalMemoryBytes,
         maxMemoryBytes,
         totalGcTimeMs,
-        currentMemoryBytesUsageByPool.build()));
+        currentMemoryBytesUsageByPool.build(),
+        DaemonInterners.getDuplicatesReplaced()));
   }
 
   @Override
@@ -132,18 +134,21 @@ public class PerfStatsTracking extends AbstractScheduledService implements AutoC
     private final long maxMemoryBytes;
     private final long timeSpentInGcMs;
     private final Map<String, Long> currentMemoryBytesUsageByPool;
+    private final Map<String, Long> duplicatesReplacedByInterner;
 
     public MemoryPerfStatsEvent(
         long freeMemoryBytes,
         long totalMemoryBytes,
         long maxMemoryBytes,
         long timeSpentInGcMs,
-        Map<String, Long> currentMemoryBytesUsageByPool) {
+        Map<String, Long> currentMemoryBytesUsageByPool,
+        Map<String, Long> duplicatesReplacedByInterner) {
       this.freeMemoryBytes = freeMemoryBytes;
       this.totalMemoryBytes = totalMemoryBytes;
       this.maxMemoryBytes = maxMemoryBytes;
       this.timeSpentInGcMs = timeSpentInGcMs;
       this.currentMemoryBytesUsageByPool = currentMemoryBytesUsageByPool;
+      this.duplicatesReplacedByInterner = duplicatesReplacedByInterner;
     }
 
     public long getFreeMemoryBytes() {
@@ -165,5 +170,12 @@ public class PerfStatsTracking extends AbstractScheduledService implements AutoC
     public Map<String, Long> getCurrentMemoryBytesUsageByPool() {
       return currentMemoryBytesUsageByPool;
     }
+
+    /**
+     * @see DaemonInterners#getDuplicatesReplaced()
+     */
+    public Map<String, Long> getDuplicatesReplacedByInterner() {
+      return duplicatesReplacedByInterner;
+    }
   }
 }
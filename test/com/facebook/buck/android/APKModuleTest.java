@@ -49,7 +49,7 @@ public class APKModuleTest {
       APKModuleGraph graph,
       APKModule module,
       ImmutableSet<String> names) {
-    ImmutableSet<APKModule> deps = graph.getGraph().getOutgoingNodesFor(module);
+    Set<APKModule> deps = graph.getGraph().getOutgoingNodesFor(module);
     assertThat(deps.size(), is(names.size()));
     for (APKModule dep : deps) {
       assertThat(dep.getName(), in(names));
@@ -153,7 +153,7 @@ public class APKModuleTest {
       assertThat(apkModule.getName(), oneOf(
           "src.com.facebook.test.android.library",
           "src.com.facebook.test.java.library.test.java.library.flavor"));
-      ImmutableSet<APKModule> dependencies = dag.getGraph().getOutgoingNodesFor(apkModule);
+      Set<APKModule> dependencies = dag.getGraph().getOutgoingNodesFor(apkModule);
       assertThat(apkModule.isRootModule(), is(false));
 
       assertThat(
@@ -284,7 +284,7 @@ public class APKModuleTest {
 
     for (APKModule apkModule : topLevelNodes) {
       assertThat(apkModule.getName(), oneOf("test.android.library", "test.java.library"));
-      ImmutableSet<APKModule> dependencies = dag.getGraph().getOutgoingNodesFor(apkModule);
+      Set<APKModule> dependencies = dag.getGraph().getOutgoingNodesFor(apkModule);
 
       assertThat(
           dependencies.size(),
@@ -395,7 +395,7 @@ public class APKModuleTest {
 
     for (APKModule apkModule : topLevelNodes) {
       assertThat(apkModule.getName(), oneOf("test.android.library", "test.java.library"));
-      ImmutableSet<APKModule> dependencies = dag.getGraph().getOutgoingNodesFor(apkModule);
+      Set<APKModule> dependencies = dag.getGraph().getOutgoingNodesFor(apkModule);
 
       for (APKModule depModule : dependencies) {
         assertThat(depModule.getName(), oneOf(
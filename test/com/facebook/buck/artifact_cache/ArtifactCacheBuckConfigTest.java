@@ -171,7 +171,8 @@ public class ArtifactCacheBuckConfigTest {
         "[cache]",
         "dir = cache_dir",
         "dir_mode = readonly",
-        "dir_max_size = 1022B");
+        "dir_max_size = 1022B",
+        "dir_materialization_mode = hardlink");
     DirCacheEntry dirCacheConfig = config.getCacheEntries().getDirCacheEntries().asList().get(0);
 
     assertThat(
@@ -181,6 +182,9 @@ public class ArtifactCacheBuckConfigTest {
         dirCacheConfig.getCacheReadMode(),
         Matchers.is(CacheReadMode.READONLY));
     assertThat(dirCacheConfig.getMaxSizeBytes(), Matchers.equalTo(Optional.of(1022L)));
+    assertThat(
+        dirCacheConfig.getMaterializationMode(),
+        Matchers.is(DirArtifactCache.MaterializationMode.HARDLINK));
   }
 
   @Test
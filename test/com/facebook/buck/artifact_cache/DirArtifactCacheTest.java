@@ -50,6 +50,7 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.hash.HashCode;
+import com.google.common.util.concurrent.MoreExecutors;
 
 import org.hamcrest.Matchers;
 import org.junit.After;
@@ -60,9 +61,13 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.nio.file.attribute.FileTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 public class DirArtifactCacheTest {
   @Rule
@@ -690,6 +695,99 @@ public class DirArtifactCacheTest {
             LazyPath.ofInstance(fileX)).getType());
   }
 
+  @Test
+  public void testFetchUpdatesAccessTime() throws IOException {
+    Path cacheDir = tmpDir.newFolder();
+    Path fileX = tmpDir.newFile("x");
+    Files.write(fileX, "x".getBytes(UTF_8));
+    RuleKey ruleKeyX = new RuleKey("aaaa");
+
+    dirArtifactCache = new DirArtifactCache(
+        "dir",
+        new ProjectFilesystem(cacheDir),
+        cacheDir,
+        CacheReadMode.READWRITE,
+        /* maxCacheSizeBytes */ Optional.empty());
+    dirArtifactCache.store(
+        ArtifactInfo.builder().addRuleKeys(ruleKeyX).build(),
+        BorrowablePath.notBorrowablePath(fileX));
+    Path artifactPath = dirArtifactCache.getPathForRuleKey(ruleKeyX, Optional.empty());
+    Files.setAttribute(artifactPath, "lastAccessTime", FileTime.fromMillis(0));
+
+    assertEquals(
+        CacheResultType.HIT,
+        dirArtifactCache.fetch(ruleKeyX, LazyPath.ofInstance(fileX)).getType());
+    assertThat(
+        Files.readAttributes(artifactPath, BasicFileAttributes.class).lastAccessTime().toMillis(),
+        Matchers.greaterThan(0L));
+  }
+
+  @Test
+  public void testHardlinkMaterialization() throws IOException {
+    Path cacheDir = tmpDir.newFolder();
+    Path fileX = tmpDir.newFile("x");
+    Files.write(fileX, "x".getBytes(UTF_8));
+    RuleKey ruleKeyX = new RuleKey("aaaa");
+
+    dirArtifactCache = new DirArtifactCache(
+        "dir",
+        new ProjectFilesystem(cacheDir),
+        cacheDir,
+        CacheReadMode.READWRITE,
+        /* maxCacheSizeBytes */ Optional.empty(),
+        DirArtifactCache.MaterializationMode.HARDLINK,
+        MoreExecutors.newDirectExecutorService());
+    dirArtifactCache.store(
+        ArtifactInfo.builder().addRuleKeys(ruleKeyX).build(),
+        BorrowablePath.notBorrowablePath(fileX));
+
+    Path output = tmpDir.newFile("output");
+    assertEquals(
+        CacheResultType.HIT,
+        dirArtifactCache.fetch(ruleKeyX, LazyPath.ofInstance(output)).getType());
+    assertTrue(
+        Files.isSameFile(
+            output,
+            dirArtifactCache.getPathForRuleKey(ruleKeyX, Optional.empty())));
+    assertEquals("x", new String(Files.readAllBytes(output), UTF_8));
+  }
+
+  @Test
+  public void testDeleteAfterStoreHappensOnEvictionExecutor() throws Exception {
+    Path cacheDir = tmpDir.newFolder();
+    Path fileX = tmpDir.newFile("x");
+    Files.write(fileX, "xxxxxxxxxx".getBytes(UTF_8));
+    RuleKey ruleKeyX = new RuleKey("aaaa");
+
+    ExecutorService evictionExecutor = Executors.newSingleThreadExecutor();
+    CountDownLatch evictionBlocked = new CountDownLatch(1);
+    evictionExecutor.execute(
+        () -> {
+          try {
+            evictionBlocked.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        });
+    dirArtifactCache = new DirArtifactCache(
+        "dir",
+        new ProjectFilesystem(cacheDir),
+        cacheDir,
+        CacheReadMode.READWRITE,
+        /* maxCacheSizeBytes */ Optional.of(5L),
+        DirArtifactCache.MaterializationMode.COPY,
+        evictionExecutor);
+
+    dirArtifactCache.store(
+        ArtifactInfo.builder().addRuleKeys(ruleKeyX).build(),
+        BorrowablePath.notBorrowablePath(fileX));
+    assertEquals(2, dirArtifactCache.getAllFilesInCache().size());
+
+    evictionBlocked.countDown();
+    dirArtifactCache.close();
+    assertEquals(ImmutableList.of(), dirArtifactCache.getAllFilesInCache());
+  }
+
   @Test
   public void testCacheStoreAndFetchMetadata() throws IOException {
     FakeProjectFilesystem filesystem = new FakeProjectFilesystem();
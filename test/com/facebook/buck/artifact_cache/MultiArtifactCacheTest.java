@@ -16,9 +16,11 @@
 
 package com.facebook.buck.artifact_cache;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 import com.facebook.buck.io.BorrowablePath;
 import com.facebook.buck.io.LazyPath;
@@ -36,10 +38,18 @@ import org.junit.Rule;
 import org.junit.Test;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.annotation.Nullable;
 
@@ -297,4 +307,111 @@ public class MultiArtifactCacheTest {
     multiArtifactCache.close();
   }
 
+  @Test
+  public void parallelFetchUsesHitAndStoresToEarlierCaches() throws Exception {
+    InMemoryArtifactCache cache1 = new InMemoryArtifactCache();
+    InMemoryArtifactCache cache2 = new InMemoryArtifactCache();
+    MultiArtifactCache multiArtifactCache = new MultiArtifactCache(
+        ImmutableList.of(cache1, cache2),
+        MultiArtifactCache.FetchMode.PARALLEL,
+        Optional.empty());
+
+    byte[] data = "artifact".getBytes(StandardCharsets.UTF_8);
+    cache2.store(ArtifactInfo.builder().addRuleKeys(dummyRuleKey).build(), data);
+    Path output = tmp.newFile("output");
+    CacheResult result = multiArtifactCache.fetch(dummyRuleKey, LazyPath.ofInstance(output));
+
+    assertEquals(CacheResultType.HIT, result.getType());
+    assertArrayEquals(data, Files.readAllBytes(output));
+    assertTrue(cache1.hasArtifact(dummyRuleKey));
+    multiArtifactCache.close();
+
+    try (Stream<Path> files = Files.list(tmp.getRoot())) {
+      assertEquals(ImmutableList.of(output), files.collect(Collectors.toList()));
+    }
+  }
+
+  @Test
+  public void parallelFetchDoesNotWaitForSlowerCaches() throws Exception {
+    CountDownLatch fetchInterrupted = new CountDownLatch(1);
+    ArtifactCache slowCache = new NoopArtifactCache() {
+      @Override
+      public CacheResult fetch(RuleKey ruleKey, LazyPath output) {
+        try {
+          new CountDownLatch(1).await();
+        } catch (InterruptedException e) {
+          fetchInterrupted.countDown();
+        }
+        return CacheResult.miss();
+      }
+    };
+    InMemoryArtifactCache fastCache = new InMemoryArtifactCache();
+    fastCache.store(ArtifactInfo.builder().addRuleKeys(dummyRuleKey).build(), new byte[0]);
+    MultiArtifactCache multiArtifactCache = new MultiArtifactCache(
+        ImmutableList.of(slowCache, fastCache),
+        MultiArtifactCache.FetchMode.PARALLEL,
+        Optional.empty());
+
+    CacheResult result =
+        multiArtifactCache.fetch(dummyRuleKey, LazyPath.ofInstance(tmp.newFile("output")));
+
+    assertEquals(CacheResultType.HIT, result.getType());
+    assertTrue(
+        "The fetch from the slower cache should have been cancelled.",
+        fetchInterrupted.await(10, TimeUnit.SECONDS));
+    multiArtifactCache.close();
+  }
+
+  @Test
+  public void parallelFetchDoesNotQueryRemoteCachesOnLocalHit() throws Exception {
+    DirArtifactCache dirCache = new DirArtifactCache(
+        "dir",
+        new ProjectFilesystem(tmp.newFolder("dir-cache")),
+        Paths.get("."),
+        CacheReadMode.READWRITE,
+        /* maxCacheSizeBytes */ Optional.empty());
+    dirCache.store(
+        ArtifactInfo.builder().addRuleKeys(dummyRuleKey).build(),
+        BorrowablePath.notBorrowablePath(tmp.newFile("artifact"))).get();
+    AtomicInteger remoteFetches = new AtomicInteger();
+    ArtifactCache remoteCache = new NoopArtifactCache() {
+      @Override
+      public CacheResult fetch(RuleKey ruleKey, LazyPath output) {
+        remoteFetches.incrementAndGet();
+        return CacheResult.miss();
+      }
+    };
+    MultiArtifactCache multiArtifactCache = new MultiArtifactCache(
+        ImmutableList.of(dirCache, remoteCache, remoteCache),
+        MultiArtifactCache.FetchMode.PARALLEL,
+        Optional.empty());
+
+    CacheResult result =
+        multiArtifactCache.fetch(dummyRuleKey, LazyPath.ofInstance(tmp.newFile("output")));
+
+    assertEquals(CacheResultType.HIT, result.getType());
+    assertEquals(0, remoteFetches.get());
+    multiArtifactCache.close();
+  }
+
+  @Test
+  public void fetchLatenciesAreRecordedPerCache() throws Exception {
+    MultiArtifactCache multiArtifactCache = new MultiArtifactCache(ImmutableList.of(
+        new DummyArtifactCache(),
+        new ErroringArtifactCache()));
+
+    multiArtifactCache.fetch(dummyRuleKey, dummyFile);
+    multiArtifactCache.fetch(dummyRuleKey, dummyFile);
+
+    ImmutableList<ImmutableList<Long>> histograms =
+        multiArtifactCache.getFetchLatencyHistograms().values().asList();
+    assertEquals(2, histograms.size());
+    for (ImmutableList<Long> histogram : histograms) {
+      assertEquals(
+          ArtifactCacheEvent.FETCH_LATENCY_BUCKET_BOUNDS_MILLIS.size() + 1,
+          histogram.size());
+      assertEquals(2L, histogram.stream().mapToLong(Long::longValue).sum());
+    }
+    multiArtifactCache.close();
+  }
 }
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.benchmarks;
+
+import com.facebook.buck.io.ProjectFilesystem;
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.model.BuildTargetFactory;
+import com.facebook.buck.rules.BuildRuleResolver;
+import com.facebook.buck.rules.BuildRuleType;
+import com.facebook.buck.rules.DefaultTargetNodeToBuildRuleTransformer;
+import com.facebook.buck.rules.PathSourcePath;
+import com.facebook.buck.rules.RuleKey;
+import com.facebook.buck.rules.SourcePath;
+import com.facebook.buck.rules.SourcePathResolver;
+import com.facebook.buck.rules.SourcePathRuleFinder;
+import com.facebook.buck.rules.TargetGraph;
+import com.facebook.buck.rules.keys.BufferedRuleKeyHasher;
+import com.facebook.buck.rules.keys.DefaultRuleKeyFactory;
+import com.facebook.buck.rules.keys.GuavaRuleKeyHasher;
+import com.facebook.buck.rules.keys.RuleKeyBuilder;
+import com.facebook.buck.rules.keys.RuleKeyHasher;
+import com.facebook.buck.rules.keys.UncachedRuleKeyBuilder;
+import com.facebook.buck.testutil.FakeFileHashCache;
+import com.facebook.buck.testutil.FakeProjectFilesystem;
+import com.google.caliper.BeforeExperiment;
+import com.google.caliper.Benchmark;
+import com.google.caliper.Param;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Compares the {@link RuleKeyHasher}s by building the rule keys of rules shaped like the common
+ * ones through a {@link RuleKeyBuilder}, the way {@link DefaultRuleKeyFactory} does.
+ */
+public class RuleKeyHasherBenchmark {
+
+  /** The hasher feeding the SHA-1 of the rule keys. */
+  public enum HasherType {
+    GUAVA,
+    BUFFERED,
+  }
+
+  /** The sizes of the rules, in number of sources and deps. */
+  public enum RuleShape {
+    SMALL(5, 3),
+    MEDIUM(50, 20),
+    LARGE(500, 100),
+    ;
+
+    private final int sourceCount;
+    private final int depCount;
+
+    RuleShape(int sourceCount, int depCount) {
+      this.sourceCount = sourceCount;
+      this.depCount = depCount;
+    }
+  }
+
+  @Param
+  private HasherType hasherType = HasherType.BUFFERED;
+
+  @Param
+  private RuleShape ruleShape = RuleShape.MEDIUM;
+
+  private SourcePathRuleFinder ruleFinder;
+  private SourcePathResolver resolver;
+  private FakeFileHashCache hashCache;
+  private DefaultRuleKeyFactory ruleKeyFactory;
+
+  private BuildTarget target;
+  private ImmutableSortedSet<SourcePath> srcs;
+  private ImmutableList<RuleKey> deps;
+  private ImmutableList<String> flags;
+  private ImmutableSortedMap<String, String> env;
+
+  @BeforeExperiment
+  public void setUpBenchmark() {
+    ProjectFilesystem filesystem = new FakeProjectFilesystem();
+    ruleFinder = new SourcePathRuleFinder(
+        new BuildRuleResolver(TargetGraph.EMPTY, new DefaultTargetNodeToBuildRuleTransformer()));
+    resolver = new SourcePathResolver(ruleFinder);
+
+    target = BuildTargetFactory.newInstance("//java/com/example/benchmark:lib");
+    Map<Path, HashCode> hashes = new HashMap<>();
+    ImmutableSortedSet.Builder<SourcePath> srcsBuilder = ImmutableSortedSet.naturalOrder();
+    for (int i = 0; i < ruleShape.sourceCount; i++) {
+      Path path = Paths.get(String.format("java/com/example/benchmark/Source%d.java", i));
+      hashes.put(filesystem.resolve(path), Hashing.sha1().hashInt(i));
+      srcsBuilder.add(new PathSourcePath(filesystem, path));
+    }
+    srcs = srcsBuilder.build();
+    hashCache = new FakeFileHashCache(hashes);
+    ruleKeyFactory = new DefaultRuleKeyFactory(0, hashCache, resolver, ruleFinder);
+
+    ImmutableList.Builder<RuleKey> depsBuilder = ImmutableList.builder();
+    for (int i = 0; i < ruleShape.depCount; i++) {
+      depsBuilder.add(new RuleKey(Hashing.sha1().hashInt(-i)));
+    }
+    deps = depsBuilder.build();
+    flags = ImmutableList.of("-g", "-Xlint:all", "-Werror", "-source", "8", "-target", "8");
+    env = ImmutableSortedMap.of("LANG", "en_US.UTF-8", "PATH", "/usr/local/bin:/usr/bin:/bin");
+  }
+
+  private RuleKeyHasher<HashCode> newHasher() {
+    switch (hasherType) {
+      case GUAVA:
+        return new GuavaRuleKeyHasher(Hashing.sha1().newHasher());
+      case BUFFERED:
+        return new BufferedRuleKeyHasher(Hashing.sha1().newHasher());
+    }
+    throw new IllegalStateException("Unknown hasher type: " + hasherType);
+  }
+
+  @Benchmark
+  public RuleKey buildRuleKey() {
+    return new UncachedRuleKeyBuilder(
+        ruleFinder,
+        resolver,
+        hashCache,
+        newHasher(),
+        ruleKeyFactory)
+        .setReflectively("name", target.getFullyQualifiedName())
+        .setReflectively("buck.type", BuildRuleType.of("java_library"))
+        .setReflectively("buck.seed", 0)
+        .setReflectively("target", target)
+        .setReflectively("srcs", srcs)
+        .setReflectively("deps", deps)
+        .setReflectively("flags", flags)
+        .setReflectively("env", env)
+        .setReflectively("resourcesRoot", Optional.empty())
+        .setReflectively("exportDeps", false)
+        .setReflectively("timeoutMillis", 600_000L)
+        .build(RuleKey::new);
+  }
+}
@@ -18,6 +18,7 @@ package com.facebook.buck.cli;
 
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertThat;
 
 import com.facebook.buck.event.BuckEventBus;
@@ -146,4 +147,24 @@ public class BuckQueryEnvironmentTest {
         buckQueryEnvironment.getTargetsMatchingPattern("//example:", executor),
         is(equalTo(expectedTargets)));
   }
+
+  @Test
+  public void testTransitiveClosureIsReused() throws QueryException, InterruptedException {
+    ImmutableSet<QueryTarget> targets =
+        buckQueryEnvironment.getTargetsMatchingPattern("//example:two", executor);
+    buckQueryEnvironment.buildTransitiveClosure(targets, Integer.MAX_VALUE, executor);
+
+    ImmutableSet<QueryTarget> closure = buckQueryEnvironment.getTransitiveClosure(targets);
+    assertThat(
+        closure,
+        is(
+            equalTo(
+                ImmutableSet.of(
+                    createQueryBuildTarget("//example", "two"),
+                    createQueryBuildTarget("//example", "four"),
+                    createQueryBuildTarget("//example", "six")))));
+    assertThat(
+        buckQueryEnvironment.getTransitiveClosure(ImmutableSortedSet.copyOf(targets)),
+        is(sameInstance(closure)));
+  }
 }
@@ -53,6 +53,7 @@ import com.facebook.buck.util.sha1.Sha1HashCode;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMultimap;
 import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Iterables;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -61,6 +62,10 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import java.util.TreeMap;
 import org.hamcrest.CustomTypeSafeMatcher;
@@ -305,6 +310,69 @@ public class CxxPrecompiledHeaderRuleTest {
     assertNotEquals(pchFlag2, pchFlag3);
   }
 
+  @Test
+  public void librariesSharingPchCanBeCreatedConcurrently() throws Exception {
+    assumeTrue(platformOkForPCHTests());
+
+    BuildTarget pchTarget = newTarget("//test:pch");
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      for (int round = 0; round < 50; round++) {
+        BuildRuleResolver resolver = new BuildRuleResolver(TargetGraph.EMPTY, transformer);
+        SourcePathRuleFinder finder = new SourcePathRuleFinder(resolver);
+        SourcePathResolver resolverPaths = new SourcePathResolver(finder);
+        resolver.addToIndex(
+            new CxxPrecompiledHeaderTemplate(
+                newParams(pchTarget),
+                resolver,
+                new FakeSourcePath("header.h")));
+
+        // Both libraries need the same PCH rule, which belongs to neither of them.
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        List<Future<CxxPreprocessAndCompile>> rules = new ArrayList<>();
+        for (String lib : ImmutableList.of("lib1", "lib2")) {
+          CxxSourceRuleFactory factory = CxxSourceRuleFactory.builder()
+              .setParams(newParams(newTarget("//test:" + lib)))
+              .setResolver(resolver)
+              .setRuleFinder(finder)
+              .setPathResolver(resolverPaths)
+              .setCxxPlatform(PLATFORM_SUPPORTING_PCH)
+              .setPicType(AbstractCxxSourceRuleFactory.PicType.PIC)
+              .setCxxBuckConfig(CXX_CONFIG_PCH_ENABLED)
+              .setPrecompiledHeader(new DefaultBuildTargetSourcePath(pchTarget))
+              .build();
+          rules.add(
+              executor.submit(
+                  () -> {
+                    barrier.await();
+                    return factory.requirePreprocessAndCompileBuildRule(
+                        lib + ".cpp",
+                        newSource(lib + ".cpp"));
+                  }));
+        }
+
+        List<String> pchFlags = new ArrayList<>();
+        for (Future<CxxPreprocessAndCompile> rule : rules) {
+          pchFlags.add(
+              String.join(
+                  " ",
+                  seek(
+                      rule.get()
+                          .makeMainStep(resolverPaths, Paths.get("/tmp/x"), false)
+                          .getCommand(),
+                      "-include-pch").subList(0, 2)));
+        }
+        assertEquals(pchFlags.get(0), pchFlags.get(1));
+        assertEquals(
+            1,
+            Iterables.size(
+                Iterables.filter(resolver.getBuildRules(), CxxPrecompiledHeader.class)));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
   @Test
   public void userRuleChangesDependencyPCHRuleFlags() throws Exception {
     assumeTrue(platformOkForPCHTests());
@@ -208,7 +208,8 @@ public class ChromeTraceBuildListenerTest {
         /* totalMemoryBytes */ 3 * 1024 * 1024L,
         /* maxMemoryBytes */ 4 * 1024 * 1024L,
         /* timeSpentInGcMs */ -1,
-        /* currentMemoryBytesUsageByPool */ ImmutableMap.of("flower", 42L * 1024 * 1024)));
+        /* currentMemoryBytesUsageByPool */ ImmutableMap.of("flower", 42L * 1024 * 1024),
+        /* duplicatesReplacedByInterner */ ImmutableMap.of("build_targets", 7L)));
     ArtifactCacheConnectEvent.Started artifactCacheConnectEventStarted =
         ArtifactCacheConnectEvent.started();
     eventBus.post(artifactCacheConnectEventStarted);
@@ -346,6 +347,7 @@ public class ChromeTraceBuildListenerTest {
             .put("max_memory_mb", "4")
             .put("time_spent_in_gc_sec", "0")
             .put("pool_flower_mb", "42")
+            .put("interned_build_targets_duplicates", "7")
             .build());
 
     assertNextResult(
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.graph;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.emptyIterable;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+
+import org.junit.Test;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class DirectedAcyclicGraphTest {
+
+  @Test
+  public void edgesMatchTheMutableGraph() {
+    MutableDirectedGraph<String> mutableGraph = new MutableDirectedGraph<>();
+    mutableGraph.addEdge("A", "B");
+    mutableGraph.addEdge("A", "C");
+    mutableGraph.addEdge("B", "C");
+    mutableGraph.addNode("D");
+    DirectedAcyclicGraph<String> graph = new DirectedAcyclicGraph<>(mutableGraph);
+
+    assertThat(graph.getOutgoingNodesFor("A"), containsInAnyOrder("B", "C"));
+    assertThat(graph.getOutgoingNodesFor("C"), emptyIterable());
+    assertThat(graph.getIncomingNodesFor("C"), containsInAnyOrder("A", "B"));
+    assertThat(graph.getIncomingNodesFor("A"), emptyIterable());
+    assertThat(graph.getOutgoingNodesFor("E"), emptyIterable());
+    assertThat(graph.getNodesWithNoIncomingEdges(), containsInAnyOrder("A", "D"));
+    assertThat(graph.getNodesWithNoOutgoingEdges(), containsInAnyOrder("C", "D"));
+    assertThat(graph.getNodes(), contains(mutableGraph.getNodes().toArray()));
+  }
+
+  @Test
+  public void neighboursAreSetsInNodeOrder() {
+    MutableDirectedGraph<String> mutableGraph = new MutableDirectedGraph<>();
+    // "Aa" and "BB" have the same hash code, so they probe the same slots.
+    mutableGraph.addEdge("Aa", "BB");
+    mutableGraph.addEdge("Aa", "C");
+    mutableGraph.addEdge("BB", "C");
+    mutableGraph.addNode("D");
+    DirectedAcyclicGraph<String> graph = new DirectedAcyclicGraph<>(mutableGraph);
+
+    Set<String> outgoing = graph.getOutgoingNodesFor("Aa");
+    assertEquals(
+        graph.getNodes().stream()
+            .filter(ImmutableSet.of("BB", "C")::contains)
+            .collect(Collectors.toList()),
+        ImmutableList.copyOf(outgoing));
+    assertTrue(outgoing.contains("BB"));
+    assertTrue(outgoing.contains("C"));
+    assertFalse(outgoing.contains("Aa"));
+    assertFalse(outgoing.contains("D"));
+    assertFalse(outgoing.contains("E"));
+    assertEquals(ImmutableSet.of("BB", "C"), outgoing);
+    assertEquals(ImmutableSet.of("BB", "C").hashCode(), outgoing.hashCode());
+    assertThat(graph.getIncomingNodesFor("C"), containsInAnyOrder("Aa", "BB"));
+    assertThat(graph.getIncomingNodesFor("BB"), contains("Aa"));
+  }
+
+  @Test
+  public void equalityDoesNotDependOnInsertionOrder() {
+    MutableDirectedGraph<String> first = new MutableDirectedGraph<>();
+    first.addEdge("A", "B");
+    first.addEdge("A", "C");
+    MutableDirectedGraph<String> second = new MutableDirectedGraph<>();
+    second.addNode("C");
+    second.addEdge("A", "C");
+    second.addEdge("A", "B");
+    MutableDirectedGraph<String> third = new MutableDirectedGraph<>();
+    third.addEdge("A", "B");
+    third.addEdge("B", "C");
+
+    assertEquals(new DirectedAcyclicGraph<>(first), new DirectedAcyclicGraph<>(second));
+    assertEquals(
+        new DirectedAcyclicGraph<>(first).hashCode(),
+        new DirectedAcyclicGraph<>(second).hashCode());
+    assertNotEquals(new DirectedAcyclicGraph<>(first), new DirectedAcyclicGraph<>(third));
+  }
+}
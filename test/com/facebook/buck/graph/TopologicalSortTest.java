@@ -39,6 +39,10 @@ public class TopologicalSortTest {
   // Nodes and edges are added in weird orders to avoid default insertion orders happening to be
   // sorted.
   private DirectedAcyclicGraph<String> makeGraph() {
+    return new DirectedAcyclicGraph<>(makeMutableGraph());
+  }
+
+  private MutableDirectedGraph<String> makeMutableGraph() {
     MutableDirectedGraph<String> graph = new MutableDirectedGraph<>();
     graph.addNode("C");
     graph.addNode("B");
@@ -55,7 +59,7 @@ public class TopologicalSortTest {
     graph.addEdge("A", "B");
     graph.addEdge("C", "E");
     graph.addEdge("C", "G");
-    return new DirectedAcyclicGraph<>(graph);
+    return graph;
   }
 
   @Test
@@ -72,6 +76,11 @@ public class TopologicalSortTest {
     assertOrdering(sorted, "G", "D");
   }
 
+  @Test
+  public void sortsFrozenGraphsLikeMutableOnes() {
+    assertEquals(TopologicalSort.sort(makeMutableGraph()), TopologicalSort.sort(makeGraph()));
+  }
+
   private <T> void assertOrdering(List<T> list, T before, T after) {
     assertTrue(
         String.format("Expected %s to be before %s in %s", before, after, list),
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.json;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import com.facebook.buck.bser.BserSerializer;
+import com.facebook.buck.util.ObjectMappers;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Tests for {@link BuildFilePythonResultBserDeserializer}.
+ */
+public final class BuildFilePythonResultBserDeserializerTest {
+  @Test
+  public void emptyParse() throws IOException {
+    assertThat(
+        deserialize(ImmutableMap.of()),
+        is(
+            BuildFilePythonResult.of(
+                ImmutableList.of(),
+                ImmutableList.of(),
+                Optional.empty())));
+  }
+
+  @Test
+  public void basicParseWithNullMatchesJson() throws IOException {
+    Map<String, Object> rawNode = new LinkedHashMap<>();
+    rawNode.put("name", "foo");
+    rawNode.put("buck.foo", null);
+    rawNode.put("buck.bar", ImmutableList.of(1, 2, 300000));
+    rawNode.put("ratio", 0.5);
+    rawNode.put("enabled", true);
+
+    BuildFilePythonResult result = deserialize(
+        ImmutableMap.of("values", ImmutableList.of(rawNode)));
+
+    assertThat(
+        result,
+        is(
+            ObjectMappers.readValue(
+                "{\"values\":[{\"buck.bar\":[1,2,300000],\"buck.foo\":null," +
+                    "\"enabled\":true,\"name\":\"foo\",\"ratio\":0.5}]}",
+                BuildFilePythonResult.class)));
+    // buck.py sorts keys when encoding JSON, so BSER results use the same order.
+    assertThat(
+        result.getValues().get(0).keySet(),
+        contains("buck.bar", "buck.foo", "enabled", "name", "ratio"));
+  }
+
+  @Test
+  public void resultWithDiagnosticsAndProfile() throws IOException {
+    BuildFilePythonResult result = deserialize(
+        ImmutableMap.of(
+            "values", ImmutableList.of(),
+            "diagnostics", ImmutableList.of(
+                ImmutableMap.of(
+                    "message", "Oops",
+                    "level", "fatal",
+                    "source", "parse",
+                    "exception", ImmutableMap.of("lineno", 12345))),
+            "profile", "this is a profile"));
+    assertThat(
+        result,
+        is(
+            BuildFilePythonResult.of(
+                ImmutableList.of(),
+                ImmutableList.of(
+                    ImmutableMap.of(
+                        "level", "fatal",
+                        "message", "Oops",
+                        "source", "parse",
+                        "exception", ImmutableMap.of("lineno", 12345L))),
+                Optional.of("this is a profile"))));
+  }
+
+  private static BuildFilePythonResult deserialize(Object value) throws IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    new BserSerializer().serializeToStream(value, output);
+    return BuildFilePythonResultBserDeserializer.deserialize(
+        new ByteArrayInputStream(output.toByteArray()));
+  }
+}
@@ -196,4 +196,14 @@ public class BuildTargetTest {
         .build();
     assertSame(target1, target2);
   }
+
+  @Test
+  public void derivedBuildTargetsAreInterned() {
+    BuildTarget target = BuildTarget.builder(ROOT, "//foo", "bar").build();
+    Flavor flavor = InternalFlavor.of("baz");
+    assertSame(target.withAppendedFlavors(flavor), target.withAppendedFlavors(flavor));
+    assertSame(
+        BuildTarget.of(target.getUnflavoredBuildTarget()),
+        target.withAppendedFlavors(flavor).withoutFlavors(flavor));
+  }
 }
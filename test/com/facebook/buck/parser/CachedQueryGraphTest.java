@@ -0,0 +1,97 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.parser;
+
+import static org.hamcrest.Matchers.empty;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+
+import com.facebook.buck.cli.FakeBuckConfig;
+import com.facebook.buck.rules.FakeBuildRule;
+import com.facebook.buck.rules.FakeTargetNodeBuilder;
+import com.facebook.buck.rules.TargetNode;
+import com.facebook.buck.rules.TestCellBuilder;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+
+public class CachedQueryGraphTest {
+
+  private CachedQueryGraph cachedQueryGraph;
+  private TargetNode<?, ?> app;
+  private TargetNode<?, ?> lib;
+  private TargetNode<?, ?> util;
+  private TargetNode<?, ?> tool;
+
+  @Before
+  public void setUp() {
+    cachedQueryGraph = new CachedQueryGraph();
+    app = createNode("//:app");
+    lib = createNode("//:lib");
+    util = createNode("//:util");
+    tool = createNode("//:tool");
+    addEdge(app, lib);
+    addEdge(lib, util);
+    addEdge(tool, util);
+  }
+
+  @Test
+  public void invalidatingANodeDropsItsReverseDependencies() {
+    cachedQueryGraph.invalidateTargets(ImmutableList.of(lib.getBuildTarget()));
+
+    assertEquals(
+        ImmutableSet.of(util, tool),
+        ImmutableSet.copyOf(cachedQueryGraph.getTargetsToNodes().values()));
+    assertEquals(
+        ImmutableSet.of(tool),
+        ImmutableSet.copyOf(cachedQueryGraph.getGraph().getIncomingNodesFor(util)));
+  }
+
+  @Test
+  public void changingTheEnvironmentDropsEverything() throws IOException, InterruptedException {
+    cachedQueryGraph.ensureValidFor(
+        new TestCellBuilder()
+            .setBuckConfig(
+                FakeBuckConfig.builder().setEnvironment(ImmutableMap.of("FOO", "bar")).build())
+            .build());
+    addEdge(app, lib);
+
+    cachedQueryGraph.ensureValidFor(
+        new TestCellBuilder()
+            .setBuckConfig(
+                FakeBuckConfig.builder().setEnvironment(ImmutableMap.of("FOO", "baz")).build())
+            .build());
+
+    assertThat(cachedQueryGraph.getTargetsToNodes().values(), empty());
+    assertThat(cachedQueryGraph.getGraph().getNodes(), empty());
+  }
+
+  private static TargetNode<?, ?> createNode(String target) {
+    return FakeTargetNodeBuilder.build(new FakeBuildRule(target));
+  }
+
+  private void addEdge(TargetNode<?, ?> source, TargetNode<?, ?> sink) {
+    cachedQueryGraph.getTargetsToNodes().put(source.getBuildTarget(), source);
+    cachedQueryGraph.getTargetsToNodes().put(sink.getBuildTarget(), sink);
+    cachedQueryGraph.getGraph().addEdge(source, sink);
+  }
+}
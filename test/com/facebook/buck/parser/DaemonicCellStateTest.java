@@ -75,8 +75,8 @@ public class DaemonicCellStateTest {
         .setBuckConfig(config)
         .build();
     childCell = rootCell.getCell(filesystem.resolve("../xplat").toAbsolutePath());
-    state = new DaemonicCellState(rootCell, 1);
-    childState = new DaemonicCellState(childCell, 1);
+    state = new DaemonicCellState(rootCell, 1, new CachedQueryGraph());
+    childState = new DaemonicCellState(childCell, 1, new CachedQueryGraph());
   }
 
   @Test
@@ -371,6 +371,7 @@ public class ParsePipelineTest {
 
       projectBuildFileParserPool = new ProjectBuildFileParserPool(
           4, // max parsers
+          /* maxParserMemoryBytes */ Optional.empty(),
           input -> {
             ProjectBuildFileParser buildFileParser = input.createBuildFileParser(
                 coercerFactory,
@@ -381,7 +382,8 @@ public class ParsePipelineTest {
               projectBuildFileParsers.add(buildFileParser);
             }
             return buildFileParser;
-          });
+          },
+          eventBus);
       final TargetNodeListener<TargetNode<?, ?>> nodeListener =
           (buildFile, node) -> {
           };
@@ -53,6 +53,9 @@ public class ParserBenchmark {
   @Param({"1", "2", "10"})
   private int threadCount = 1;
 
+  @Param({"JSON", "BSER"})
+  private ParserConfig.ParserOutputFormat outputFormat = ParserConfig.ParserOutputFormat.JSON;
+
   private TemporaryPaths tempDir = new TemporaryPaths();
 
   private Parser parser;
@@ -93,18 +96,15 @@ public class ParserBenchmark {
           String.format("package com.facebook.target_%d; class A {}", i).getBytes("UTF-8"));
     }
 
-    ImmutableMap.Builder<String, ImmutableMap<String, String>> configSectionsBuilder =
-        ImmutableMap.builder();
+    ImmutableMap.Builder<String, String> projectSectionBuilder = ImmutableMap.builder();
+    projectSectionBuilder.put("parser_output_format", outputFormat.toString());
     if (threadCount > 1) {
-      configSectionsBuilder.put(
-          "project",
-          ImmutableMap.of(
-              "parallel_parsing", "true",
-              "parsing_threads", Integer.toString(threadCount)));
+      projectSectionBuilder.put("parallel_parsing", "true");
+      projectSectionBuilder.put("parsing_threads", Integer.toString(threadCount));
     }
     BuckConfig config = FakeBuckConfig.builder()
         .setFilesystem(filesystem)
-        .setSections(configSectionsBuilder.build())
+        .setSections(ImmutableMap.of("project", projectSectionBuilder.build()))
         .build();
 
     cell = new TestCellBuilder()
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.parser;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import com.facebook.buck.cli.FakeBuckConfig;
+import com.facebook.buck.io.ProjectFilesystem;
+import com.facebook.buck.rules.Cell;
+import com.facebook.buck.rules.TestCellBuilder;
+import com.facebook.buck.testutil.integration.TemporaryPaths;
+import com.facebook.buck.timing.SettableFakeClock;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import java.util.Optional;
+
+public class PersistentParseCacheTest {
+
+  private static final long MODIFIED_MILLIS = 1_000_000_000L;
+
+  @Rule
+  public TemporaryPaths tmp = new TemporaryPaths();
+
+  private ProjectFilesystem filesystem;
+  private SettableFakeClock clock;
+  private Cell cell;
+  private Path buildFile;
+  private Path include;
+
+  @Before
+  public void setUp() throws InterruptedException, IOException {
+    filesystem = new ProjectFilesystem(tmp.getRoot());
+    clock = new SettableFakeClock(MODIFIED_MILLIS + 60_000, 0);
+    cell = createCell(ImmutableMap.of("foo", ImmutableMap.of("bar", "baz")));
+    filesystem.mkdirs(filesystem.getBuckPaths().getBuckOut());
+    buildFile = writeFile("lib/BUCK", "java_library(name = 'lib')");
+    include = writeFile("DEFS", "def foo(): pass");
+    setDirectoryModifiedTime("lib");
+    setDirectoryModifiedTime("");
+  }
+
+  @Test
+  public void storedNodesAreReturnedByANewInstance() {
+    ImmutableSet<Map<String, Object>> rawNodes = createRawNodes();
+    new PersistentParseCache(clock).store(cell, buildFile, rawNodes, ImmutableSet.of(include));
+
+    assertEquals(
+        Optional.of(rawNodes),
+        new PersistentParseCache(clock).lookup(cell, buildFile));
+  }
+
+  @Test
+  public void modifiedIncludesInvalidateTheEntry() throws IOException {
+    new PersistentParseCache(clock).store(
+        cell,
+        buildFile,
+        createRawNodes(),
+        ImmutableSet.of(include));
+    writeFile("DEFS", "def bar(): pass");
+
+    assertFalse(new PersistentParseCache(clock).lookup(cell, buildFile).isPresent());
+  }
+
+  @Test
+  public void addedFilesInvalidateTheEntry() throws IOException {
+    new PersistentParseCache(clock).store(
+        cell,
+        buildFile,
+        createRawNodes(),
+        ImmutableSet.of(include));
+    writeFile("lib/Foo.java", "class Foo {}");
+
+    assertFalse(new PersistentParseCache(clock).lookup(cell, buildFile).isPresent());
+  }
+
+  @Test
+  public void filesAddedToSubpackagesDoNotInvalidateTheEntry() throws IOException {
+    writeFile("lib/sub/BUCK", "java_library(name = 'sub')");
+    setDirectoryModifiedTime("lib/sub");
+    setDirectoryModifiedTime("lib");
+    ImmutableSet<Map<String, Object>> rawNodes = createRawNodes();
+    new PersistentParseCache(clock).store(cell, buildFile, rawNodes, ImmutableSet.of(include));
+    writeFile("lib/sub/Foo.java", "class Foo {}");
+
+    assertEquals(
+        Optional.of(rawNodes),
+        new PersistentParseCache(clock).lookup(cell, buildFile));
+  }
+
+  @Test
+  public void removedSubpackagesInvalidateTheEntry() throws IOException {
+    writeFile("lib/sub/BUCK", "java_library(name = 'sub')");
+    setDirectoryModifiedTime("lib/sub");
+    setDirectoryModifiedTime("lib");
+    new PersistentParseCache(clock).store(
+        cell,
+        buildFile,
+        createRawNodes(),
+        ImmutableSet.of(include));
+    filesystem.deleteFileAtPath(Paths.get("lib/sub/BUCK"));
+
+    assertFalse(new PersistentParseCache(clock).lookup(cell, buildFile).isPresent());
+  }
+
+  @Test
+  public void changedConfigValuesInvalidateTheEntry() throws IOException, InterruptedException {
+    new PersistentParseCache(clock).store(
+        cell,
+        buildFile,
+        createRawNodes(),
+        ImmutableSet.of(include));
+
+    Cell changedCell = createCell(ImmutableMap.of("foo", ImmutableMap.of("bar", "qux")));
+    assertFalse(new PersistentParseCache(clock).lookup(changedCell, buildFile).isPresent());
+  }
+
+  @Test
+  public void recentlyModifiedFilesAreNotRecorded() {
+    clock.setCurrentTimeMillis(
+        MODIFIED_MILLIS + PersistentParseCache.RACY_MODIFICATION_WINDOW_MILLIS - 1);
+    new PersistentParseCache(clock).store(
+        cell,
+        buildFile,
+        createRawNodes(),
+        ImmutableSet.of(include));
+
+    assertFalse(new PersistentParseCache(clock).lookup(cell, buildFile).isPresent());
+  }
+
+  private Cell createCell(ImmutableMap<String, ImmutableMap<String, String>> sections)
+      throws IOException, InterruptedException {
+    return new TestCellBuilder()
+        .setFilesystem(filesystem)
+        .setBuckConfig(
+            FakeBuckConfig.builder()
+                .setFilesystem(filesystem)
+                .setSections(sections)
+                .build())
+        .build();
+  }
+
+  private ImmutableSet<Map<String, Object>> createRawNodes() {
+    return ImmutableSet.of(
+        ImmutableMap.of(
+            "name", "lib",
+            "buck.base_path", "lib",
+            "srcs", ImmutableList.of("Lib.java")),
+        ImmutableMap.of(
+            DaemonicParserState.INCLUDES_META_RULE,
+            ImmutableList.of(buildFile.toString(), include.toString())),
+        ImmutableMap.of(
+            DaemonicParserState.CONFIGS_META_RULE,
+            ImmutableMap.of("foo", ImmutableMap.of("bar", "baz"))));
+  }
+
+  private Path writeFile(String name, String contents) throws IOException {
+    Path path = Paths.get(name);
+    filesystem.createParentDirs(path);
+    filesystem.writeContentsToPath(contents, path);
+    filesystem.setLastModifiedTime(path, FileTime.fromMillis(MODIFIED_MILLIS));
+    return filesystem.resolve(path);
+  }
+
+  private void setDirectoryModifiedTime(String name) throws IOException {
+    Files.setLastModifiedTime(
+        filesystem.resolve(name),
+        FileTime.fromMillis(MODIFIED_MILLIS));
+  }
+}
@@ -19,6 +19,7 @@ package com.facebook.buck.parser;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.fail;
 
+import com.facebook.buck.event.BuckEventBusFactory;
 import com.facebook.buck.json.ProjectBuildFileParser;
 import com.facebook.buck.rules.Cell;
 import com.facebook.buck.util.concurrent.AssertScopeExclusiveAccess;
@@ -41,9 +42,11 @@ import org.junit.Test;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
@@ -61,11 +64,11 @@ public class ProjectBuildFileParserPoolTest {
       int numRequests,
       int expectedCreateCount) throws Exception {
     final AtomicInteger createCount = new AtomicInteger(0);
-    Cell cell = EasyMock.createMock(Cell.class);
+    Cell cell = createMockCell();
 
     final CountDownLatch createParserLatch = new CountDownLatch(expectedCreateCount);
     try (ProjectBuildFileParserPool parserPool =
-        new ProjectBuildFileParserPool(
+        createParserPool(
             maxParsers,
             input -> {
               createCount.incrementAndGet();
@@ -115,13 +118,13 @@ public class ProjectBuildFileParserPoolTest {
   public void closesCreatedParsers() throws Exception {
     final int parsersCount = 4;
     final AtomicInteger parserCount = new AtomicInteger(0);
-    Cell cell = EasyMock.createMock(Cell.class);
+    Cell cell = createMockCell();
     ListeningExecutorService executorService = MoreExecutors.listeningDecorator(
         Executors.newFixedThreadPool(parsersCount));
 
     final CountDownLatch createParserLatch = new CountDownLatch(parsersCount);
     try (ProjectBuildFileParserPool parserPool =
-        new ProjectBuildFileParserPool(
+        createParserPool(
             parsersCount,
             input -> {
               parserCount.incrementAndGet();
@@ -174,12 +177,12 @@ public class ProjectBuildFileParserPoolTest {
   @Test
   public void fuzzForConcurrentAccess() throws Exception {
     final int parsersCount = 3;
-    Cell cell = EasyMock.createMock(Cell.class);
+    Cell cell = createMockCell();
     ListeningExecutorService executorService = MoreExecutors.listeningDecorator(
         Executors.newFixedThreadPool(4));
 
     try (ProjectBuildFileParserPool parserPool =
-             new ProjectBuildFileParserPool(
+             createParserPool(
                  parsersCount,
                  input -> {
                    final AtomicInteger sleepCallCount = new AtomicInteger(0);
@@ -204,7 +207,7 @@ public class ProjectBuildFileParserPoolTest {
 
   @Test
   public void ignoresCancellation() throws Exception {
-    Cell cell = EasyMock.createMock(Cell.class);
+    Cell cell = createMockCell();
     ListeningExecutorService executorService = MoreExecutors.listeningDecorator(
         Executors.newFixedThreadPool(1));
 
@@ -212,7 +215,7 @@ public class ProjectBuildFileParserPoolTest {
     final CountDownLatch waitTillAllWorkIsDone = new CountDownLatch(numberOfJobs);
     final CountDownLatch waitTillCanceled = new CountDownLatch(1);
     try (ProjectBuildFileParserPool parserPool =
-             new ProjectBuildFileParserPool(
+             createParserPool(
                  /* maxParsers */ 1,
                  createMockParserFactory(
                      () -> {
@@ -238,7 +241,7 @@ public class ProjectBuildFileParserPoolTest {
 
   @Test
   public void closeWhenRunningJobs() throws Exception {
-    Cell cell = EasyMock.createMock(Cell.class);
+    Cell cell = createMockCell();
     ListeningExecutorService executorService = MoreExecutors.listeningDecorator(
         Executors.newFixedThreadPool(1));
 
@@ -248,7 +251,7 @@ public class ProjectBuildFileParserPoolTest {
     ImmutableSet<ListenableFuture<?>> futures;
 
     try (ProjectBuildFileParserPool parserPool =
-             new ProjectBuildFileParserPool(
+             createParserPool(
                  /* maxParsers */ 1,
                  createMockParserFactory(
                      () -> {
@@ -293,14 +296,14 @@ public class ProjectBuildFileParserPoolTest {
 
   @Test
   public void workThatThrows() throws Exception {
-    Cell cell = EasyMock.createMock(Cell.class);
+    Cell cell = createMockCell();
     ListeningExecutorService executorService = MoreExecutors.listeningDecorator(
         Executors.newFixedThreadPool(1));
 
     final String exceptionMessage = "haha!";
     final AtomicBoolean throwWhileParsing = new AtomicBoolean(true);
     try (ProjectBuildFileParserPool parserPool =
-             new ProjectBuildFileParserPool(
+             createParserPool(
                  /* maxParsers */ 2,
                  createMockParserFactory(
                      () -> {
@@ -329,6 +332,98 @@ public class ProjectBuildFileParserPoolTest {
     }
   }
 
+  @Test
+  public void sharesCapacityAcrossCells() throws Exception {
+    Cell firstCell = createMockCell();
+    Cell secondCell = createMockCell();
+    List<Cell> createdFor = new ArrayList<>();
+    AtomicInteger closeCount = new AtomicInteger(0);
+
+    try (ProjectBuildFileParserPool parserPool =
+             createParserPool(
+                 /* maxParsers */ 1,
+                 cell -> {
+                   createdFor.add(cell);
+                   return createMockParser(ImmutableList::of, closeCount::incrementAndGet);
+                 })) {
+      ListeningExecutorService executorService = MoreExecutors.newDirectExecutorService();
+      Futures.allAsList(scheduleWork(firstCell, parserPool, executorService, 2)).get();
+      Futures.allAsList(scheduleWork(secondCell, parserPool, executorService, 2)).get();
+
+      // The idle parser of the first cell makes room for one in the second cell.
+      assertThat(createdFor, Matchers.contains(firstCell, secondCell));
+      assertThat(closeCount.get(), Matchers.is(1));
+    }
+    assertThat(closeCount.get(), Matchers.is(2));
+  }
+
+  @Test
+  public void closesParsersWithoutHoldingPoolLock() throws Exception {
+    Cell firstCell = createMockCell();
+    Cell secondCell = createMockCell();
+    List<ProjectBuildFileParserPool> pools = new ArrayList<>();
+    AtomicInteger closeCount = new AtomicInteger(0);
+    AtomicBoolean closedUnderLock = new AtomicBoolean(false);
+
+    try (ProjectBuildFileParserPool parserPool =
+             createParserPool(
+                 /* maxParsers */ 1,
+                 cell -> createMockParser(
+                     ImmutableList::of,
+                     () -> {
+                       closeCount.incrementAndGet();
+                       if (Thread.holdsLock(pools.get(0))) {
+                         closedUnderLock.set(true);
+                       }
+                       return null;
+                     }))) {
+      pools.add(parserPool);
+      ListeningExecutorService executorService = MoreExecutors.newDirectExecutorService();
+      Futures.allAsList(scheduleWork(firstCell, parserPool, executorService, 1)).get();
+      Futures.allAsList(scheduleWork(secondCell, parserPool, executorService, 1)).get();
+    }
+    assertThat(closeCount.get(), Matchers.is(2));
+    assertThat(closedUnderLock.get(), Matchers.is(false));
+  }
+
+  @Test
+  public void retiresParsersAboveMemoryLimit() throws Exception {
+    Cell cell = createMockCell();
+    AtomicInteger createCount = new AtomicInteger(0);
+
+    try (ProjectBuildFileParserPool parserPool =
+             new ProjectBuildFileParserPool(
+                 /* maxParsers */ 2,
+                 /* maxParserMemoryBytes */ Optional.of(1000L),
+                 input -> {
+                   int parserNumber = createCount.incrementAndGet();
+                   ProjectBuildFileParser parser =
+                       EasyMock.createMock(ProjectBuildFileParser.class);
+                   try {
+                     EasyMock.expect(
+                         parser.getAllRulesAndMetaRules(EasyMock.anyObject(Path.class)))
+                         .andReturn(ImmutableList.of())
+                         .anyTimes();
+                     // Only the first parser grows beyond the limit.
+                     EasyMock.expect(parser.getResidentMemoryBytes())
+                         .andReturn(Optional.of(parserNumber == 1 ? 2000L : 500L))
+                         .anyTimes();
+                     parser.close();
+                     EasyMock.expectLastCall().once();
+                   } catch (Exception e) {
+                     Throwables.throwIfUnchecked(e);
+                     throw new RuntimeException(e);
+                   }
+                   EasyMock.replay(parser);
+                   return parser;
+                 },
+                 BuckEventBusFactory.newInstance())) {
+      Futures.allAsList(
+          scheduleWork(cell, parserPool, MoreExecutors.newDirectExecutorService(), 3)).get();
+      assertThat(createCount.get(), Matchers.is(2));
+    }
+  }
+
   private static ImmutableSet<ListenableFuture<?>> scheduleWork(
       Cell cell,
       ProjectBuildFileParserPool pool,
@@ -341,15 +436,38 @@ public class ProjectBuildFileParserPoolTest {
     return futures.build();
   }
 
+  private static Cell createMockCell() {
+    Cell cell = EasyMock.createMock(Cell.class);
+    EasyMock.expect(cell.getRoot()).andStubReturn(Paths.get("cell"));
+    EasyMock.replay(cell);
+    return cell;
+  }
+
+  private static ProjectBuildFileParserPool createParserPool(
+      int maxParsers,
+      Function<Cell, ProjectBuildFileParser> parserFactory) {
+    return new ProjectBuildFileParserPool(
+        maxParsers,
+        /* maxParserMemoryBytes */ Optional.empty(),
+        parserFactory,
+        BuckEventBusFactory.newInstance());
+  }
+
   private ProjectBuildFileParser createMockParser(
       IAnswer<ImmutableList<Map<String, Object>>> parseFn) {
+    return createMockParser(parseFn, () -> null);
+  }
+
+  private ProjectBuildFileParser createMockParser(
+      IAnswer<ImmutableList<Map<String, Object>>> parseFn,
+      IAnswer<?> closeFn) {
     ProjectBuildFileParser mock = EasyMock.createMock(ProjectBuildFileParser.class);
     try {
       EasyMock.expect(mock.getAllRulesAndMetaRules(EasyMock.anyObject(Path.class)))
           .andAnswer(parseFn)
           .anyTimes();
       mock.close();
-      EasyMock.expectLastCall().andVoid().once();
+      EasyMock.expectLastCall().andAnswer(closeFn).once();
     } catch (Exception e) {
       Throwables.throwIfUnchecked(e);
       throw new RuntimeException(e);
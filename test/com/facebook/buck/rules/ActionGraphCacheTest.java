@@ -18,9 +18,13 @@ package com.facebook.buck.rules;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
+import com.facebook.buck.counters.Counter;
+import com.facebook.buck.counters.IntegerCounter;
 import com.facebook.buck.event.ActionGraphEvent;
 import com.facebook.buck.event.BuckEvent;
 import com.facebook.buck.event.BuckEventBus;
@@ -36,7 +40,9 @@ import com.facebook.buck.testutil.integration.TemporaryPaths;
 import com.facebook.buck.timing.IncrementingFakeClock;
 import com.facebook.buck.util.WatchmanOverflowEvent;
 import com.facebook.buck.util.WatchmanPathEvent;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Iterables;
 import com.google.common.eventbus.Subscribe;
 
 import org.hamcrest.Matchers;
@@ -47,7 +53,9 @@ import org.junit.rules.ExpectedException;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
@@ -143,6 +151,10 @@ public class ActionGraphCacheTest {
     // Each time you call it for a different TargetGraph so all calls should be misses.
     assertEquals(countEventsOf(ActionGraphEvent.Cache.Hit.class), 0);
     assertEquals(countEventsOf(ActionGraphEvent.Cache.Miss.class), 1);
+    // Rule keys are computed before the next call, which evicts (and prunes) this graph.
+    Map<BuildRule, RuleKey> resultRun1RuleKeys = getRuleKeysFromBuildRules(
+        resultRun1.getActionGraph().getNodes(),
+        resultRun1.getResolver());
 
     ActionGraphAndResolver resultRun2 = cache.getActionGraph(
         eventBus,
@@ -153,6 +165,9 @@ public class ActionGraphCacheTest {
 
     assertEquals(countEventsOf(ActionGraphEvent.Cache.Hit.class), 0);
     assertEquals(countEventsOf(ActionGraphEvent.Cache.Miss.class), 2);
+    Map<BuildRule, RuleKey> resultRun2RuleKeys = getRuleKeysFromBuildRules(
+        resultRun2.getActionGraph().getNodes(),
+        resultRun2.getResolver());
 
     ActionGraphAndResolver resultRun3 = cache.getActionGraph(
         eventBus,
@@ -162,18 +177,11 @@ public class ActionGraphCacheTest {
         keySeed);
     assertEquals(countEventsOf(ActionGraphEvent.Cache.Hit.class), 0);
     assertEquals(countEventsOf(ActionGraphEvent.Cache.Miss.class), 3);
-
-    // Run1 and Run2 should not match, but Run1 and Run3 should
-    Map<BuildRule, RuleKey> resultRun1RuleKeys = getRuleKeysFromBuildRules(
-        resultRun1.getActionGraph().getNodes(),
-        resultRun1.getResolver());
-    Map<BuildRule, RuleKey> resultRun2RuleKeys = getRuleKeysFromBuildRules(
-        resultRun2.getActionGraph().getNodes(),
-        resultRun2.getResolver());
     Map<BuildRule, RuleKey> resultRun3RuleKeys = getRuleKeysFromBuildRules(
         resultRun3.getActionGraph().getNodes(),
         resultRun3.getResolver());
 
+    // Run1 and Run2 should not match, but Run1 and Run3 should
     // Run2 is done in a subgraph and it should not have the same ActionGraph.
     assertThat(resultRun1RuleKeys, Matchers.not(Matchers.equalTo(resultRun2RuleKeys)));
     // Run1 and Run3 should match.
@@ -202,6 +210,206 @@ public class ActionGraphCacheTest {
     assertEquals(2, countEventsOf(ActionGraphEvent.Cache.Miss.class));
   }
 
+  @Test
+  public void hitOnCacheAfterSwitchingBetweenGraphs() {
+    ActionGraphCache cache =
+        new ActionGraphCache(broadcastEventListener, 2, 1.0, false, 1, () -> 0.0);
+    TargetGraph subgraph = targetGraph.getSubgraph(ImmutableSet.of(nodeB));
+
+    ActionGraphAndResolver resultRun1 = cache.getActionGraph(
+        eventBus,
+        CHECK_GRAPHS,
+        /* skipActionGraphCache */ false,
+        targetGraph,
+        keySeed);
+    cache.getActionGraph(
+        eventBus,
+        CHECK_GRAPHS,
+        /* skipActionGraphCache */ false,
+        subgraph,
+        keySeed);
+    ActionGraphAndResolver resultRun3 = cache.getActionGraph(
+        eventBus,
+        CHECK_GRAPHS,
+        /* skipActionGraphCache */ false,
+        targetGraph,
+        keySeed);
+
+    // Both graphs fit in the cache, so switching back to the first one is a hit.
+    assertEquals(1, countEventsOf(ActionGraphEvent.Cache.Hit.class));
+    assertEquals(2, countEventsOf(ActionGraphEvent.Cache.Miss.class));
+    assertEquals(2, cache.getCacheSize());
+    assertSame(resultRun1, resultRun3);
+  }
+
+  @Test
+  public void leastRecentlyUsedGraphIsEvicted() {
+    ActionGraphCache cache =
+        new ActionGraphCache(broadcastEventListener, 2, 1.0, false, 1, () -> 0.0);
+    TargetGraph subgraph = targetGraph.getSubgraph(ImmutableSet.of(nodeB));
+    TargetGraph otherGraph = TargetGraphFactory.newInstance(createTargetNode("C"));
+
+    cache.getActionGraph(eventBus, NOT_CHECK_GRAPHS, false, targetGraph, keySeed);
+    cache.getActionGraph(eventBus, NOT_CHECK_GRAPHS, false, subgraph, keySeed);
+    // Touch the first graph so that the subgraph becomes the least recently used one.
+    cache.getActionGraph(eventBus, NOT_CHECK_GRAPHS, false, targetGraph, keySeed);
+    cache.getActionGraph(eventBus, NOT_CHECK_GRAPHS, false, otherGraph, keySeed);
+    assertEquals(2, cache.getCacheSize());
+
+    cache.getActionGraph(eventBus, NOT_CHECK_GRAPHS, false, targetGraph, keySeed);
+    assertEquals(2, countEventsOf(ActionGraphEvent.Cache.Hit.class));
+    cache.getActionGraph(eventBus, NOT_CHECK_GRAPHS, false, subgraph, keySeed);
+    assertEquals(2, countEventsOf(ActionGraphEvent.Cache.Hit.class));
+    assertEquals(4, countEventsOf(ActionGraphEvent.Cache.Miss.class));
+    assertThat(
+        getCounterValues(cache),
+        Matchers.equalTo(ImmutableMap.of("hits", 2L, "misses", 4L, "evictions", 2L)));
+  }
+
+  @Test
+  public void heapPressureKeepsOnlyMostRecentGraph() {
+    ActionGraphCache cache =
+        new ActionGraphCache(broadcastEventListener, 3, 0.5, false, 1, () -> 0.9);
+
+    cache.getActionGraph(eventBus, NOT_CHECK_GRAPHS, false, targetGraph, keySeed);
+    cache.getActionGraph(
+        eventBus,
+        NOT_CHECK_GRAPHS,
+        false,
+        targetGraph.getSubgraph(ImmutableSet.of(nodeB)),
+        keySeed);
+    assertEquals(1, cache.getCacheSize());
+
+    cache.getActionGraph(eventBus, NOT_CHECK_GRAPHS, false, targetGraph, keySeed);
+    assertEquals(0, countEventsOf(ActionGraphEvent.Cache.Hit.class));
+    assertEquals(3, countEventsOf(ActionGraphEvent.Cache.Miss.class));
+  }
+
+  @Test
+  public void incrementalActionGraphReusesRulesOfUnchangedNodes() {
+    ActionGraphCache cache =
+        new ActionGraphCache(broadcastEventListener, 1, 1.0, true, 1, () -> 0.0);
+    ActionGraphAndResolver resultRun1 = cache.getActionGraph(
+        eventBus,
+        CHECK_GRAPHS,
+        /* skipActionGraphCache */ false,
+        targetGraph,
+        keySeed);
+
+    // Replace A with an equivalent node; B is unchanged and its rule should be reused.
+    TargetNode<?, ?> newNodeA = createTargetNode("A", nodeB);
+    ActionGraphAndResolver resultRun2 = cache.getActionGraph(
+        eventBus,
+        CHECK_GRAPHS,
+        /* skipActionGraphCache */ false,
+        TargetGraphFactory.newInstance(newNodeA, nodeB),
+        keySeed);
+
+    assertEquals(0, countEventsOf(ActionGraphEvent.Cache.Hit.class));
+    assertEquals(2, countEventsOf(ActionGraphEvent.Cache.Miss.class));
+    assertSame(
+        resultRun1.getResolver().getRule(nodeB.getBuildTarget()),
+        resultRun2.getResolver().getRule(nodeB.getBuildTarget()));
+    assertNotSame(
+        resultRun1.getResolver().getRule(nodeA.getBuildTarget()),
+        resultRun2.getResolver().getRule(nodeA.getBuildTarget()));
+    assertThat(
+        getRuleKeysFromBuildRules(
+            resultRun1.getActionGraph().getNodes(),
+            resultRun1.getResolver()),
+        Matchers.equalTo(
+            getRuleKeysFromBuildRules(
+                resultRun2.getActionGraph().getNodes(),
+                resultRun2.getResolver())));
+  }
+
+  @Test
+  public void incrementalActionGraphDepthIsBounded() {
+    ActionGraphCache cache =
+        new ActionGraphCache(broadcastEventListener, 1, 1.0, true, 1, () -> 0.0);
+    ActionGraphAndResolver previous = cache.getActionGraph(
+        eventBus,
+        CHECK_GRAPHS,
+        /* skipActionGraphCache */ false,
+        targetGraph,
+        keySeed);
+    for (int i = 0; i <= ActionGraphCache.MAX_INCREMENTAL_DEPTH; i++) {
+      ActionGraphAndResolver result = cache.getActionGraph(
+          eventBus,
+          CHECK_GRAPHS,
+          /* skipActionGraphCache */ false,
+          TargetGraphFactory.newInstance(createTargetNode("A" + i, nodeB), nodeB),
+          keySeed);
+      assertThat(
+          result.getResolver().getReuseDepth(),
+          Matchers.lessThanOrEqualTo(ActionGraphCache.MAX_INCREMENTAL_DEPTH));
+      // The evicted resolver only keeps the rules still used by the cached graph.
+      assertTrue(
+          ImmutableSet.copyOf(result.getResolver().getBuildRules()).containsAll(
+              ImmutableSet.copyOf(previous.getResolver().getBuildRules())));
+      previous = result;
+    }
+    assertEquals(0, previous.getResolver().getReuseDepth());
+  }
+
+  @Test
+  public void invalidatedTargetsIncludeReverseDependencies() {
+    TargetNode<?, ?> newNodeB = createTargetNode("B");
+    TargetNode<?, ?> nodeC = createTargetNode("C");
+    TargetGraph newTargetGraph = TargetGraphFactory.newInstance(nodeA, newNodeB, nodeC);
+
+    assertEquals(
+        ImmutableSet.of(
+            nodeA.getBuildTarget().getUnflavoredBuildTarget(),
+            nodeB.getBuildTarget().getUnflavoredBuildTarget(),
+            nodeC.getBuildTarget().getUnflavoredBuildTarget()),
+        ActionGraphCache.getInvalidatedTargets(targetGraph, newTargetGraph));
+    assertEquals(
+        ImmutableSet.of(nodeC.getBuildTarget().getUnflavoredBuildTarget()),
+        ActionGraphCache.getInvalidatedTargets(
+            targetGraph,
+            TargetGraphFactory.newInstance(nodeA, nodeB, nodeC)));
+  }
+
+  @Test
+  public void parallelActionGraphMatchesSerialActionGraph() {
+    // Creates a graph where every node depends on all the nodes of the previous layer.
+    List<TargetNode<?, ?>> nodes = new ArrayList<>();
+    List<TargetNode<?, ?>> previousLayer = new ArrayList<>();
+    for (int layer = 0; layer < 5; layer++) {
+      List<TargetNode<?, ?>> currentLayer = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        currentLayer.add(
+            createTargetNode(
+                "L" + layer + "_" + i,
+                previousLayer.toArray(new TargetNode<?, ?>[previousLayer.size()])));
+      }
+      nodes.addAll(currentLayer);
+      previousLayer = currentLayer;
+    }
+    TargetGraph graph = TargetGraphFactory.newInstance(nodes);
+
+    ActionGraphCache cache =
+        new ActionGraphCache(broadcastEventListener, 1, 1.0, false, 4, () -> 0.0);
+    ActionGraphAndResolver parallelResult = cache.getActionGraph(
+        eventBus,
+        CHECK_GRAPHS,
+        /* skipActionGraphCache */ false,
+        graph,
+        keySeed);
+    ActionGraphAndResolver serialResult = ActionGraphCache.getFreshActionGraph(eventBus, graph);
+
+    assertEquals(nodes.size(), Iterables.size(parallelResult.getActionGraph().getNodes()));
+    assertThat(
+        getRuleKeysFromBuildRules(
+            parallelResult.getActionGraph().getNodes(),
+            parallelResult.getResolver()),
+        Matchers.equalTo(
+            getRuleKeysFromBuildRules(
+                serialResult.getActionGraph().getNodes(),
+                serialResult.getResolver())));
+  }
+
   // If this breaks it probably means the ActionGraphCache checking also breaks.
   @Test
   public void compareActionGraphsBasedOnRuleKeys() {
@@ -309,6 +517,14 @@ public class ActionGraphCacheTest {
     return i;
   }
 
+  private ImmutableMap<String, Long> getCounterValues(ActionGraphCache cache) {
+    ImmutableMap.Builder<String, Long> values = ImmutableMap.builder();
+    for (Counter counter : cache.getCounters()) {
+      values.put(counter.getName(), ((IntegerCounter) counter).get());
+    }
+    return values.build();
+  }
+
   private Map<BuildRule, RuleKey> getRuleKeysFromBuildRules(
       Iterable<BuildRule> buildRules,
       BuildRuleResolver buildRuleResolver) {
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.rules;
+
+import static org.junit.Assert.assertEquals;
+
+import com.facebook.buck.testutil.FakeProjectFilesystem;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+
+import org.junit.Test;
+
+import java.util.Optional;
+
+public class BuildRuleDurationHistoryTest {
+
+  @Test
+  public void savedHistoryCanBeLoaded() {
+    FakeProjectFilesystem filesystem = new FakeProjectFilesystem();
+    BuildRule rule = new FakeBuildRule("//:rule");
+    BuildRule otherRule = new FakeBuildRule("//:other_rule");
+
+    BuildRuleDurationHistory.EMPTY
+        .afterBuild(
+            ImmutableList.of(rule, otherRule),
+            ImmutableMap.of(rule, 42L, otherRule, 58L))
+        .save(filesystem);
+    BuildRuleDurationHistory history = BuildRuleDurationHistory.load(filesystem);
+
+    assertEquals(Optional.of(42L), history.getWallMillis(rule));
+    assertEquals(
+        ImmutableMap.of(rule.getType(), 50L),
+        history.getAverageWallMillisByType());
+  }
+
+  @Test
+  public void missingHistoryIsEmpty() {
+    assertEquals(
+        Optional.empty(),
+        BuildRuleDurationHistory.load(new FakeProjectFilesystem())
+            .getWallMillis(new FakeBuildRule("//:rule")));
+  }
+
+  @Test
+  public void rulesNotPartOfRecentBuildsAreForgotten() {
+    BuildRule rule = new FakeBuildRule("//:rule");
+    BuildRule usedRule = new FakeBuildRule("//:used_rule");
+    BuildRuleDurationHistory history = BuildRuleDurationHistory.EMPTY.afterBuild(
+        ImmutableList.of(rule, usedRule),
+        ImmutableMap.of(rule, 42L, usedRule, 58L));
+
+    for (int i = 1; i < BuildRuleDurationHistory.MAX_BUILDS_NOT_SEEN; i++) {
+      history = history.afterBuild(ImmutableList.of(usedRule), ImmutableMap.of());
+    }
+    assertEquals(Optional.of(42L), history.getWallMillis(rule));
+
+    history = history.afterBuild(ImmutableList.of(usedRule), ImmutableMap.of());
+    assertEquals(Optional.empty(), history.getWallMillis(rule));
+    assertEquals(Optional.of(58L), history.getWallMillis(usedRule));
+  }
+}
@@ -27,6 +27,7 @@ import com.facebook.buck.jvm.java.JavaBinary;
 import com.facebook.buck.jvm.java.JavaLibraryBuilder;
 import com.facebook.buck.model.BuildTarget;
 import com.facebook.buck.model.BuildTargetFactory;
+import com.facebook.buck.parser.NoSuchBuildTargetException;
 import com.facebook.buck.testutil.TargetGraphFactory;
 import com.facebook.buck.util.HumanReadableException;
 import com.google.common.collect.ImmutableSortedSet;
@@ -36,6 +37,13 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
 public class BuildRuleResolverTest {
 
   @Rule
@@ -124,6 +132,70 @@ public class BuildRuleResolverTest {
     assertThat(rule, is(equalTo(existing)));
   }
 
+  @Test
+  public void concurrentRequireRuleCreatesRuleOnce() throws Exception {
+    BuildTarget target = BuildTargetFactory.newInstance("//foo:bar");
+    TargetNode<?, ?> library = JavaLibraryBuilder.createBuilder(target).build();
+    TargetGraph targetGraph = TargetGraphFactory.newInstance(library);
+    AtomicInteger transformations = new AtomicInteger();
+    TargetNodeToBuildRuleTransformer transformer = new TargetNodeToBuildRuleTransformer() {
+      @Override
+      public <T, U extends Description<T>> BuildRule transform(
+          TargetGraph targetGraph,
+          BuildRuleResolver ruleResolver,
+          TargetNode<T, U> targetNode) throws NoSuchBuildTargetException {
+        transformations.incrementAndGet();
+        return new DefaultTargetNodeToBuildRuleTransformer()
+            .transform(targetGraph, ruleResolver, targetNode);
+      }
+    };
+    BuildRuleResolver resolver = new BuildRuleResolver(targetGraph, transformer);
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<BuildRule>> rules = new ArrayList<>();
+      for (int i = 0; i < 16; i++) {
+        rules.add(executor.submit(() -> resolver.requireRule(target)));
+      }
+      for (Future<BuildRule> rule : rules) {
+        assertThat(rule.get(), Matchers.sameInstance(resolver.getRule(target)));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    assertEquals(1, transformations.get());
+  }
+
+  @Test
+  public void concurrentComputeIfAbsentCreatesRuleOnce() throws Exception {
+    BuildTarget target = BuildTargetFactory.newInstance("//foo:bar#baz");
+    BuildRuleResolver resolver =
+        new BuildRuleResolver(TargetGraph.EMPTY, new DefaultTargetNodeToBuildRuleTransformer());
+    SourcePathResolver pathResolver = new SourcePathResolver(new SourcePathRuleFinder(resolver));
+    AtomicInteger creations = new AtomicInteger();
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<BuildRule>> rules = new ArrayList<>();
+      for (int i = 0; i < 16; i++) {
+        rules.add(
+            executor.submit(
+                () -> resolver.computeIfAbsent(
+                    target,
+                    ruleTarget -> {
+                      creations.incrementAndGet();
+                      return new FakeBuildRule(ruleTarget, pathResolver);
+                    })));
+      }
+      for (Future<BuildRule> rule : rules) {
+        assertThat(rule.get(), Matchers.sameInstance(resolver.getRule(target)));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    assertEquals(1, creations.get());
+  }
+
   @Test
   public void getRuleWithTypeMissingRule() throws Exception {
     BuildRuleResolver resolver =
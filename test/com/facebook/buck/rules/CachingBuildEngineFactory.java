@@ -47,6 +47,7 @@ public class CachingBuildEngineFactory {
   private BuildRuleResolver buildRuleResolver;
   private ResourceAwareSchedulingInfo resourceAwareSchedulingInfo =
       ResourceAwareSchedulingInfo.NON_AWARE_SCHEDULING_INFO;
+  private Optional<CriticalPathEstimator> criticalPathEstimator = Optional.empty();
 
   public CachingBuildEngineFactory(BuildRuleResolver buildRuleResolver) {
     this.cachingBuildEngineDelegate =
@@ -99,6 +100,12 @@ public class CachingBuildEngineFactory {
     return this;
   }
 
+  public CachingBuildEngineFactory setCriticalPathEstimator(
+      CriticalPathEstimator criticalPathEstimator) {
+    this.criticalPathEstimator = Optional.of(criticalPathEstimator);
+    return this;
+  }
+
   public CachingBuildEngine build() {
     if (ruleKeyFactories.isPresent()) {
       SourcePathRuleFinder ruleFinder = new SourcePathRuleFinder(buildRuleResolver);
@@ -115,7 +122,8 @@ public class CachingBuildEngineFactory {
           ruleFinder,
           new SourcePathResolver(ruleFinder),
           ruleKeyFactories.get(),
-          resourceAwareSchedulingInfo);
+          resourceAwareSchedulingInfo,
+          criticalPathEstimator);
     }
 
     return new CachingBuildEngine(
@@ -135,7 +143,8 @@ public class CachingBuildEngineFactory {
             cachingBuildEngineDelegate.getFileHashCache(),
             buildRuleResolver,
             inputFileSizeLimit,
-            new DefaultRuleKeyCache<>()));
+            new DefaultRuleKeyCache<>()),
+        criticalPathEstimator);
   }
 
   private static WeightedListeningExecutorService toWeighted(ListeningExecutorService service) {
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.rules;
+
+import static org.junit.Assert.assertEquals;
+
+import com.facebook.buck.io.ProjectFilesystem;
+import com.facebook.buck.model.BuildTargetFactory;
+import com.facebook.buck.testutil.FakeProjectFilesystem;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+
+import org.junit.Test;
+
+import java.util.Optional;
+
+public class CriticalPathEstimatorTest {
+
+  private final BuildRule fast = new FakeBuildRule("//:fast");
+  private final BuildRule slow = new FakeBuildRule("//:slow");
+  private final BuildRule top = new FakeBuildRule("//:top", fast, slow);
+  private final BuildRule leaf = new FakeBuildRule("//:leaf");
+  private final BuildRule lib = new FakeBuildRule("//:lib", leaf);
+  private final BuildRule app = new FakeBuildRule("//:app", lib, fast);
+
+  private final BuildRuleDurationHistory history =
+      BuildRuleDurationHistory.EMPTY.afterBuild(
+          ImmutableList.of(fast, slow),
+          ImmutableMap.of(fast, 100L, slow, 300L));
+
+  @Test
+  public void rulesWithoutHistoryTakeAsLongAsTheAverageRuleOfTheirType() {
+    CriticalPathEstimator estimator =
+        new CriticalPathEstimator(history, ImmutableList.of(top));
+
+    assertEquals(200, estimator.getEstimatedWallMillis(top));
+    assertEquals(500, estimator.getEstimatedCriticalPathMillis(top));
+    assertEquals(ImmutableList.of(slow, top), estimator.getEstimatedCriticalPath());
+  }
+
+  @Test
+  public void remainingCriticalPathGoesThroughTheLongestChainOfDependents() {
+    CriticalPathEstimator estimator =
+        new CriticalPathEstimator(history, ImmutableList.of(top, app));
+
+    assertEquals(200, estimator.getEstimatedRemainingCriticalPathMillis(app));
+    assertEquals(400, estimator.getEstimatedRemainingCriticalPathMillis(lib));
+    assertEquals(600, estimator.getEstimatedRemainingCriticalPathMillis(leaf));
+    assertEquals(300, estimator.getEstimatedRemainingCriticalPathMillis(fast));
+    assertEquals(500, estimator.getEstimatedRemainingCriticalPathMillis(slow));
+  }
+
+  @Test
+  public void allRulesTakeTheSameTimeWithoutHistory() {
+    CriticalPathEstimator estimator =
+        new CriticalPathEstimator(BuildRuleDurationHistory.EMPTY, ImmutableList.of(app));
+
+    assertEquals(
+        3 * CriticalPathEstimator.DEFAULT_WALL_MILLIS,
+        estimator.getEstimatedRemainingCriticalPathMillis(leaf));
+    assertEquals(
+        2 * CriticalPathEstimator.DEFAULT_WALL_MILLIS,
+        estimator.getEstimatedRemainingCriticalPathMillis(fast));
+  }
+
+  @Test
+  public void measuredDurationsOfRulesBuiltLocallyUpdateTheHistory() {
+    CriticalPathEstimator estimator =
+        new CriticalPathEstimator(history, ImmutableList.of(top));
+
+    estimator.recordWallMillis(fast, 1000, /* builtLocally */ true);
+    estimator.recordWallMillis(slow, 50, /* builtLocally */ false);
+    estimator.recordWallMillis(top, 10, /* builtLocally */ true);
+
+    assertEquals(ImmutableList.of(fast, top), estimator.getMeasuredCriticalPath());
+    BuildRuleDurationHistory history = estimator.getUpdatedHistory();
+    assertEquals(Optional.of(1000L), history.getWallMillis(fast));
+    assertEquals(Optional.of(300L), history.getWallMillis(slow));
+    assertEquals(Optional.of(10L), history.getWallMillis(top));
+  }
+
+  @Test
+  public void longChainsOfDepsDoNotOverflowTheStack() {
+    ProjectFilesystem filesystem = new FakeProjectFilesystem();
+    SourcePathResolver pathResolver = new SourcePathResolver(new SourcePathRuleFinder(
+        new BuildRuleResolver(TargetGraph.EMPTY, new DefaultTargetNodeToBuildRuleTransformer())));
+    BuildRule rule = new FakeBuildRule("//:rule0", pathResolver);
+    for (int i = 1; i < 100000; i++) {
+      rule = new FakeBuildRule(
+          BuildTargetFactory.newInstance("//:rule" + i),
+          filesystem,
+          pathResolver,
+          rule);
+    }
+    CriticalPathEstimator estimator =
+        new CriticalPathEstimator(BuildRuleDurationHistory.EMPTY, ImmutableList.of(rule));
+
+    assertEquals(
+        100000 * CriticalPathEstimator.DEFAULT_WALL_MILLIS,
+        estimator.getEstimatedCriticalPathMillis(rule));
+    assertEquals(100000, estimator.getEstimatedCriticalPath().size());
+    assertEquals(100000, estimator.getMeasuredCriticalPath().size());
+  }
+}
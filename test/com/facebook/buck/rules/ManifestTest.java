@@ -32,6 +32,7 @@ import org.junit.Test;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -74,6 +75,32 @@ public class ManifestTest {
         Matchers.equalTo(entries));
   }
 
+  @Test
+  public void deserializeLegacyVersion() throws IOException {
+    ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+    DataOutputStream output = new DataOutputStream(byteArrayOutputStream);
+    output.writeInt(0);
+    output.writeUTF("cc");
+    output.writeInt(1);
+    output.writeUTF("foo/bar.h");
+    output.writeInt(1);
+    output.writeInt(0);
+    output.writeUTF(HashCode.fromInt(20).toString());
+    output.writeInt(1);
+    output.writeInt(1);
+    output.writeInt(0);
+    output.writeUTF("aa");
+    Manifest deserialized =
+        new Manifest(new ByteArrayInputStream(byteArrayOutputStream.toByteArray()));
+    assertThat(deserialized.getKey(), Matchers.equalTo(new RuleKey("cc")));
+    assertThat(
+        deserialized.toMap(),
+        Matchers.equalTo(
+            ImmutableMap.of(
+                new RuleKey("aa"),
+                ImmutableMap.of("foo/bar.h", HashCode.fromInt(20)))));
+  }
+
   @Test
   public void addEntry() throws IOException {
     Manifest manifest = new Manifest(new RuleKey("cc"));
@@ -303,6 +330,91 @@ public class ManifestTest {
         Matchers.equalTo(Optional.of(key2)));
   }
 
+  @Test
+  public void lookupMatchWithHeadersOfSameContents() throws IOException {
+    RuleKey key = new RuleKey("aa");
+    SourcePath input1 = new FakeSourcePath("input1.h");
+    SourcePath input2 = new FakeSourcePath("input2.h");
+    ImmutableMap<RuleKey, ImmutableMap<String, HashCode>> entries =
+        ImmutableMap.of(
+            key,
+            ImmutableMap.of(
+                RESOLVER.getRelativePath(input1).toString(), HashCode.fromInt(1),
+                RESOLVER.getRelativePath(input2).toString(), HashCode.fromInt(1)));
+    Manifest manifest = Manifest.fromMap(new RuleKey("cc"), entries);
+    assertThat(manifest.toMap(), Matchers.equalTo(entries));
+    FileHashCache fileHashCache =
+        new FakeFileHashCache(
+            ImmutableMap.of(
+                RESOLVER.getAbsolutePath(input1), HashCode.fromInt(1),
+                RESOLVER.getAbsolutePath(input2), HashCode.fromInt(1)));
+    assertThat(
+        manifest.lookup(fileHashCache, RESOLVER, ImmutableSet.of(input1, input2)),
+        Matchers.equalTo(Optional.of(key)));
+  }
+
+  @Test
+  public void trimRemovesOldestEntriesAndTheirHashes() throws IOException {
+    Manifest manifest =
+        Manifest.fromMap(
+            new RuleKey("cc"),
+            ImmutableMap.of(
+                new RuleKey("aa"),
+                ImmutableMap.of("foo.h", HashCode.fromInt(0), "bar.h", HashCode.fromInt(0)),
+                new RuleKey("bb"),
+                ImmutableMap.of("foo.h", HashCode.fromInt(1)),
+                new RuleKey("dd"),
+                ImmutableMap.of("baz.h", HashCode.fromInt(2))));
+
+    manifest.trim(2);
+
+    ImmutableMap<RuleKey, ImmutableMap<String, HashCode>> remainingEntries =
+        ImmutableMap.of(
+            new RuleKey("bb"),
+            ImmutableMap.of("foo.h", HashCode.fromInt(1)),
+            new RuleKey("dd"),
+            ImmutableMap.of("baz.h", HashCode.fromInt(2)));
+    assertThat(manifest.toMap(), Matchers.equalTo(remainingEntries));
+    ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+    manifest.serialize(byteArrayOutputStream);
+    Manifest deserialized =
+        new Manifest(new ByteArrayInputStream(byteArrayOutputStream.toByteArray()));
+    assertThat(deserialized.toMap(), Matchers.equalTo(remainingEntries));
+    // Nothing is left of the removed entries.
+    ByteArrayOutputStream expectedOutputStream = new ByteArrayOutputStream();
+    Manifest.fromMap(new RuleKey("cc"), remainingEntries).serialize(expectedOutputStream);
+    assertThat(
+        byteArrayOutputStream.toByteArray(),
+        Matchers.equalTo(expectedOutputStream.toByteArray()));
+  }
+
+  @Test
+  public void addEntryMovesExistingEntryToTheEnd() throws IOException {
+    RuleKey key = new RuleKey("aa");
+    SourcePath input = new FakeSourcePath("input.h");
+    HashCode hashCode = HashCode.fromInt(20);
+    Manifest manifest =
+        Manifest.fromMap(
+            new RuleKey("cc"),
+            ImmutableMap.of(
+                key,
+                ImmutableMap.of(RESOLVER.getRelativePath(input).toString(), hashCode),
+                new RuleKey("bb"),
+                ImmutableMap.of("other.h", HashCode.fromInt(0))));
+    FileHashCache fileHashCache =
+        new FakeFileHashCache(ImmutableMap.of(RESOLVER.getAbsolutePath(input), hashCode));
+    manifest.addEntry(fileHashCache, key, RESOLVER, ImmutableSet.of(input), ImmutableSet.of(input));
+
+    assertThat(manifest.size(), Matchers.equalTo(2));
+    manifest.trim(1);
+    assertThat(
+        manifest.toMap(),
+        Matchers.equalTo(
+            ImmutableMap.of(
+                key,
+                ImmutableMap.of(RESOLVER.getRelativePath(input).toString(), hashCode))));
+  }
+
   @Test
   public void size() {
     assertThat(new Manifest(new RuleKey("cc")).size(), Matchers.equalTo(0));
@@ -240,6 +240,52 @@ public class TargetGraphHashingTest {
         not(equalTo(resultB.get(depTarget))));
   }
 
+  @Test
+  public void cachedHashesFollowChangesToInputsOfDeps()
+      throws IOException, InterruptedException, AcyclicDepthFirstPostOrderTraversal.CycleException {
+    FakeProjectFilesystem projectFilesystem = new FakeProjectFilesystem();
+    BuckEventBus eventBus = new DefaultBuckEventBus(new IncrementingFakeClock(), new BuildId());
+
+    BuildTarget nodeTarget = BuildTargetFactory.newInstance("//foo:lib");
+    BuildTarget depTarget = BuildTargetFactory.newInstance("//dep:lib");
+    TargetGraph targetGraph = createGraphWithANodeAndADep(
+        nodeTarget,
+        HashCode.fromLong(12345),
+        depTarget,
+        HashCode.fromLong(64738));
+
+    FileHashCache baseCache = new FakeFileHashCache(
+        ImmutableMap.of(
+            projectFilesystem.resolve("foo/FooLib.java"), HashCode.fromString("abcdef"),
+            projectFilesystem.resolve("dep/DepLib.java"), HashCode.fromString("123456")));
+    FileHashCache modifiedCache = new FakeFileHashCache(
+        ImmutableMap.of(
+            projectFilesystem.resolve("foo/FooLib.java"), HashCode.fromString("abcdef"),
+            projectFilesystem.resolve("dep/DepLib.java"), HashCode.fromString("123457")));
+
+    TargetNodeHashCache targetNodeHashCache = new TargetNodeHashCache();
+    ImmutableList<TargetNode<?, ?>> roots = ImmutableList.of(targetGraph.get(nodeTarget));
+    Map<BuildTarget, HashCode> baseResult =
+        new TargetGraphHashing(eventBus, targetGraph, baseCache, roots)
+            .setCache(targetNodeHashCache)
+            .hashTargetGraph();
+    Map<BuildTarget, HashCode> modifiedResult =
+        new TargetGraphHashing(eventBus, targetGraph, modifiedCache, roots)
+            .setCache(targetNodeHashCache)
+            .hashTargetGraph();
+    Map<BuildTarget, HashCode> reusedBaseResult =
+        new TargetGraphHashing(eventBus, targetGraph, baseCache, roots)
+            .setCache(targetNodeHashCache)
+            .hashTargetGraph();
+
+    assertThat(
+        modifiedResult,
+        equalTo(new TargetGraphHashing(eventBus, targetGraph, modifiedCache, roots)
+            .hashTargetGraph()));
+    assertThat(modifiedResult.get(nodeTarget), not(equalTo(baseResult.get(nodeTarget))));
+    assertThat(reusedBaseResult, equalTo(baseResult));
+  }
+
   private static TargetNode<?, ?> createJavaLibraryTargetNodeWithSrcs(
       BuildTarget buildTarget,
       HashCode hashCode,
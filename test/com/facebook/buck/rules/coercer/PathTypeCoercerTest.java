@@ -18,6 +18,7 @@ package com.facebook.buck.rules.coercer;
 
 import static com.facebook.buck.rules.TestCellBuilder.createCellRoots;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.fail;
 
 import com.facebook.buck.io.ProjectFilesystem;
@@ -84,4 +85,23 @@ public class PathTypeCoercerTest {
         missingPath);
   }
 
+  @Test
+  public void pathsCoercedFromDifferentBuildFilesAreShared() throws Exception {
+    PathTypeCoercer coercer =
+        new PathTypeCoercer(PathTypeCoercer.PathExistenceVerificationMode.DO_NOT_VERIFY);
+    Path fromFoo = coercer.coerce(
+        createCellRoots(filesystem),
+        filesystem,
+        Paths.get("foo"),
+        "../shared/file.txt");
+    Path fromBar = coercer.coerce(
+        createCellRoots(filesystem),
+        filesystem,
+        Paths.get("bar"),
+        "../shared/file.txt");
+
+    assertEquals(Paths.get("shared/file.txt"), fromFoo);
+    assertSame(fromFoo, fromBar);
+  }
+
 }
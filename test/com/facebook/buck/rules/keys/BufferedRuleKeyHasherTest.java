@@ -0,0 +1,117 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.rules.keys;
+
+import static org.junit.Assert.assertEquals;
+
+import com.facebook.buck.model.BuildTargetFactory;
+import com.facebook.buck.rules.BuildRuleType;
+import com.facebook.buck.rules.DefaultBuildTargetSourcePath;
+import com.facebook.buck.rules.RuleKey;
+import com.facebook.buck.rules.SourceRoot;
+import com.facebook.buck.util.sha1.Sha1HashCode;
+import com.google.common.base.Strings;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+
+import org.junit.Test;
+
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+public class BufferedRuleKeyHasherTest extends AbstractRuleKeyHasherTest<HashCode> {
+
+  @Override
+  protected BufferedRuleKeyHasher newHasher() {
+    return new BufferedRuleKeyHasher(Hashing.sha1().newHasher());
+  }
+
+  private static void assertSameHashAsGuava(
+      Function<RuleKeyHasher<HashCode>, RuleKeyHasher<HashCode>> puts) {
+    assertEquals(
+        puts.apply(new GuavaRuleKeyHasher(Hashing.sha1().newHasher())).hash(),
+        puts.apply(new BufferedRuleKeyHasher(Hashing.sha1().newHasher())).hash());
+  }
+
+  @Test
+  public void hashesTheSameAsGuavaRuleKeyHasher() {
+    assertSameHashAsGuava(hasher -> hasher);
+    assertSameHashAsGuava(hasher -> hasher
+        .putKey("key")
+        .putNull()
+        .putBoolean(true)
+        .putBoolean(false)
+        .putNumber(42)
+        .putNumber(-42L)
+        .putNumber((short) 42)
+        .putNumber((byte) 42)
+        .putNumber(4.2f)
+        .putNumber(-4.2)
+        .putString("string")
+        .putBytes(new byte[] {4, 2})
+        .putPattern(Pattern.compile("4.*2"))
+        .putSha1(Sha1HashCode.of("a002b39af204cdfaa5fdb67816b13867c32ac52c"))
+        .putPath(Paths.get("some/path"), HashCode.fromInt(42))
+        .putNonHashingPath("some/other/path")
+        .putSourceRoot(new SourceRoot("root"))
+        .putRuleKey(new RuleKey("b67816b13867c32ac52ca002b39af204cdfaa5fd"))
+        .putBuildRuleType(BuildRuleType.of("java_library"))
+        .putBuildTarget(BuildTargetFactory.newInstance(Paths.get("/root"), "//a/b:c"))
+        .putBuildTargetSourcePath(new DefaultBuildTargetSourcePath(
+            BuildTargetFactory.newInstance(Paths.get("/root"), "//a/b:c#flavor")))
+        .putContainer(RuleKeyHasher.Container.LIST, 42)
+        .putWrapper(RuleKeyHasher.Wrapper.OPTIONAL));
+  }
+
+  @Test
+  public void hashesNonAsciiStringsTheSameAsGuavaRuleKeyHasher() {
+    assertSameHashAsGuava(hasher -> hasher.putString("\u00e9t\u00e9"));
+    assertSameHashAsGuava(hasher -> hasher.putString("ascii then \u00e9t\u00e9 \ud83d\ude00"));
+    // An unpaired surrogate is replaced the same way as String#getBytes does.
+    assertSameHashAsGuava(hasher -> hasher.putString("broken \ud83d pair"));
+  }
+
+  @Test
+  public void hashesValuesLargerThanTheBufferTheSameAsGuavaRuleKeyHasher() {
+    String longString = Strings.repeat("0123456789", BufferedRuleKeyHasher.BUFFER_SIZE / 4);
+    byte[] longBytes = new byte[BufferedRuleKeyHasher.BUFFER_SIZE * 2 + 3];
+    Arrays.fill(longBytes, (byte) 42);
+    assertSameHashAsGuava(hasher -> hasher.putString(longString));
+    assertSameHashAsGuava(hasher -> hasher.putString(longString + "\u00e9").putKey(longString));
+    assertSameHashAsGuava(hasher -> hasher.putBytes(longBytes).putNumber(42));
+    assertSameHashAsGuava(hasher -> {
+      for (int i = 0; i < BufferedRuleKeyHasher.BUFFER_SIZE; i++) {
+        hasher.putNumber(i).putPath(Paths.get("path" + i), HashCode.fromInt(i));
+      }
+      return hasher;
+    });
+  }
+
+  @Test
+  public void nestedHashersDoNotShareBuffers() {
+    HashCode nestedHash = newHasher().putString("nested").hash();
+    BufferedRuleKeyHasher outer = newHasher().putString("outer");
+    BufferedRuleKeyHasher inner = newHasher().putString("nested");
+    outer.putString("more");
+    assertEquals(nestedHash, inner.hash());
+    // The buffer given back by the inner hasher is reused by this one.
+    newHasher().putString("something else").hash();
+    assertEquals(newHasher().putString("outer").putString("more").hash(), outer.hash());
+  }
+}
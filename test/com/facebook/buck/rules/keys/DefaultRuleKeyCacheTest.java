@@ -16,17 +16,22 @@
 
 package com.facebook.buck.rules.keys;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
 import com.facebook.buck.io.ProjectFilesystem;
+import com.facebook.buck.rules.BuildRule;
 import com.facebook.buck.rules.FakeBuildRuleParamsBuilder;
 import com.facebook.buck.rules.NoopBuildRule;
+import com.facebook.buck.rules.RuleKeyAppendable;
 import com.facebook.buck.testutil.FakeProjectFilesystem;
 import com.facebook.buck.timing.Clock;
 import com.facebook.buck.timing.IncrementingFakeClock;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 
 import org.hamcrest.Matchers;
 import org.junit.Test;
@@ -160,11 +165,43 @@ public class DefaultRuleKeyCacheTest {
         Matchers.equalTo(1L));
   }
 
+  @Test
+  public void testCachedBuildRuleResultsIncludeWhatAppendablesUsed() {
+    DefaultRuleKeyCache<String> cache = new DefaultRuleKeyCache<>();
+    RuleKeyInput input = RuleKeyInput.of(FILESYSTEM, FILESYSTEM.getPath("input"));
+    RuleKeyInput appendableInput = RuleKeyInput.of(FILESYSTEM, FILESYSTEM.getPath("appended"));
+    TestRule dep = new TestRule("//:dep");
+    cache.get(
+        dep,
+        r -> new RuleKeyResult<>("dep", ImmutableList.of(), ImmutableList.of()));
+    RuleKeyAppendable appendable = sink -> { };
+    cache.get(
+        appendable,
+        a -> new RuleKeyResult<>("appendable", ImmutableList.of(dep), ImmutableList.of(
+            appendableInput)));
+    TestRule rule = new TestRule();
+    cache.get(
+        rule,
+        r -> new RuleKeyResult<>("rule", ImmutableList.of(appendable), ImmutableList.of(input)));
+
+    ImmutableMap<BuildRule, RuleKeyResult<String>> results = cache.getCachedBuildRuleResults();
+    assertEquals(ImmutableSet.of(dep, rule), results.keySet());
+    RuleKeyResult<String> result = results.get(rule);
+    assertEquals("rule", result.result);
+    assertEquals(ImmutableSet.of(dep), ImmutableSet.copyOf(result.deps));
+    assertEquals(ImmutableSet.of(input, appendableInput), ImmutableSet.copyOf(result.inputs));
+    assertEquals(ImmutableList.of(), ImmutableList.copyOf(results.get(dep).deps));
+  }
+
   private static class TestRule extends NoopBuildRule {
 
     private TestRule() {
+      this("//:rule");
+    }
+
+    private TestRule(String target) {
       super(
-          new FakeBuildRuleParamsBuilder("//:rule")
+          new FakeBuildRuleParamsBuilder(target)
               .build()
       );
     }
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.rules.keys;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.model.BuildTargetFactory;
+import com.facebook.buck.rules.BuildRule;
+import com.facebook.buck.rules.BuildRuleResolver;
+import com.facebook.buck.rules.DefaultTargetNodeToBuildRuleTransformer;
+import com.facebook.buck.rules.FakeBuildRule;
+import com.facebook.buck.rules.RuleKey;
+import com.facebook.buck.rules.SourcePathResolver;
+import com.facebook.buck.rules.SourcePathRuleFinder;
+import com.facebook.buck.rules.TargetGraph;
+import com.facebook.buck.testutil.FakeFileHashCache;
+import com.facebook.buck.testutil.FakeProjectFilesystem;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.hash.HashCode;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+public class RuleKeyCacheSnapshotTest {
+
+  private static final HashCode FINGERPRINT = HashCode.fromInt(42);
+  private static final RuleKey DEP_KEY = new RuleKey("a002b39af204cdfaa5fdb67816b13867c32ac52c");
+  private static final RuleKey RULE_KEY = new RuleKey("b67816b13867c32ac52ca002b39af204cdfaa5fd");
+
+  private FakeProjectFilesystem filesystem;
+  private FakeFileHashCache hashCache;
+  private RuleKeyInput input;
+  private SourcePathResolver resolver;
+  private BuildRule dep;
+  private BuildRule rule;
+  private Map<BuildTarget, HashCode> targetNodeHashes;
+
+  @Before
+  public void setUp() {
+    filesystem = new FakeProjectFilesystem();
+    hashCache = new FakeFileHashCache(new HashMap<>());
+    hashCache.set(filesystem.resolve("input.txt"), HashCode.fromInt(1));
+    input = RuleKeyInput.of(filesystem, Paths.get("input.txt"));
+    resolver = new SourcePathResolver(
+        new SourcePathRuleFinder(
+            new BuildRuleResolver(
+                TargetGraph.EMPTY,
+                new DefaultTargetNodeToBuildRuleTransformer())));
+    dep = new FakeBuildRule(BuildTargetFactory.newInstance("//:dep"), filesystem, resolver);
+    rule = new FakeBuildRule(BuildTargetFactory.newInstance("//:rule"), filesystem, resolver, dep);
+    targetNodeHashes = new HashMap<>();
+    targetNodeHashes.put(dep.getBuildTarget(), HashCode.fromInt(2));
+    targetNodeHashes.put(rule.getBuildTarget(), HashCode.fromInt(3));
+  }
+
+  private Optional<HashCode> getTargetNodeHash(BuildTarget target) {
+    return Optional.ofNullable(targetNodeHashes.get(target));
+  }
+
+  private Optional<RuleKeyResult<RuleKey>> restore(
+      RuleKeyCacheSnapshot snapshot,
+      BuildRule rule,
+      RuleKey depKey) {
+    return snapshot.restore(rule, hashCache, r -> depKey);
+  }
+
+  private void saveSnapshot() {
+    RuleKeyCacheSnapshot.capture(
+        FINGERPRINT,
+        ImmutableMap.of(
+            dep, new RuleKeyResult<>(DEP_KEY, ImmutableList.of(), ImmutableList.of(input)),
+            rule, new RuleKeyResult<>(RULE_KEY, ImmutableList.of(dep), ImmutableList.of())),
+        hashCache,
+        this::getTargetNodeHash)
+        .save(filesystem);
+  }
+
+  private Optional<RuleKeyCacheSnapshot> loadSnapshot(HashCode fingerprint) {
+    return RuleKeyCacheSnapshot.load(filesystem, fingerprint, this::getTargetNodeHash);
+  }
+
+  private RuleKeyCacheSnapshot loadSnapshot() {
+    return loadSnapshot(FINGERPRINT).get();
+  }
+
+  @Test
+  public void savedRuleKeysAreRestored() {
+    saveSnapshot();
+    RuleKeyCacheSnapshot snapshot = loadSnapshot();
+
+    RuleKeyResult<RuleKey> depResult = restore(snapshot, dep, RULE_KEY).get();
+    assertEquals(DEP_KEY, depResult.result);
+    assertEquals(ImmutableList.of(), depResult.deps);
+    assertEquals(ImmutableList.of(input), depResult.inputs);
+
+    RuleKeyResult<RuleKey> ruleResult = restore(snapshot, rule, DEP_KEY).get();
+    assertEquals(RULE_KEY, ruleResult.result);
+    assertEquals(ImmutableList.of(dep), ruleResult.deps);
+    assertEquals(ImmutableList.of(), ruleResult.inputs);
+  }
+
+  @Test
+  public void snapshotOfAnotherFingerprintIsNotLoaded() {
+    saveSnapshot();
+    assertFalse(loadSnapshot(HashCode.fromInt(24)).isPresent());
+  }
+
+  @Test
+  public void missingSnapshotIsNotLoaded() {
+    assertFalse(loadSnapshot(FINGERPRINT).isPresent());
+  }
+
+  @Test
+  public void ruleKeyWithChangedInputIsNotRestored() {
+    saveSnapshot();
+    hashCache.set(filesystem.resolve("input.txt"), HashCode.fromInt(2));
+    assertFalse(restore(loadSnapshot(), dep, RULE_KEY).isPresent());
+  }
+
+  @Test
+  public void ruleKeyWithChangedDepIsNotRestored() {
+    saveSnapshot();
+    assertFalse(restore(loadSnapshot(), rule, RULE_KEY).isPresent());
+  }
+
+  @Test
+  public void ruleKeyOfRuleWithNewDepIsNotRestored() {
+    saveSnapshot();
+    BuildRule newDep =
+        new FakeBuildRule(BuildTargetFactory.newInstance("//:new_dep"), filesystem, resolver);
+    BuildRule ruleWithNewDep = new FakeBuildRule(
+        BuildTargetFactory.newInstance("//:rule"),
+        filesystem,
+        resolver,
+        dep,
+        newDep);
+    assertFalse(restore(loadSnapshot(), ruleWithNewDep, DEP_KEY).isPresent());
+  }
+
+  @Test
+  public void ruleKeyWithUnknownDepIsNotCaptured() {
+    RuleKeyCacheSnapshot.capture(
+        FINGERPRINT,
+        ImmutableMap.of(
+            rule, new RuleKeyResult<>(RULE_KEY, ImmutableList.of(dep), ImmutableList.of())),
+        hashCache,
+        this::getTargetNodeHash)
+        .save(filesystem);
+    Optional<RuleKeyCacheSnapshot> snapshot = loadSnapshot(FINGERPRINT);
+    assertTrue(snapshot.isPresent());
+    assertFalse(restore(snapshot.get(), rule, DEP_KEY).isPresent());
+  }
+
+  @Test
+  public void ruleKeyOfChangedTargetNodeIsNotRestored() {
+    saveSnapshot();
+    targetNodeHashes.put(rule.getBuildTarget(), HashCode.fromInt(4));
+    RuleKeyCacheSnapshot snapshot = loadSnapshot();
+    assertTrue(restore(snapshot, dep, RULE_KEY).isPresent());
+    assertFalse(restore(snapshot, rule, DEP_KEY).isPresent());
+  }
+
+  @Test
+  public void ruleKeyOfRuleWithoutTargetNodeIsNotCaptured() {
+    targetNodeHashes.remove(rule.getBuildTarget());
+    saveSnapshot();
+    targetNodeHashes.put(rule.getBuildTarget(), HashCode.fromInt(3));
+    RuleKeyCacheSnapshot snapshot = loadSnapshot();
+    assertTrue(restore(snapshot, dep, RULE_KEY).isPresent());
+    assertFalse(restore(snapshot, rule, DEP_KEY).isPresent());
+  }
+}
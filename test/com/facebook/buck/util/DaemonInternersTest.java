@@ -0,0 +1,46 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import com.google.common.collect.Interner;
+
+import org.junit.Test;
+
+public class DaemonInternersTest {
+
+  @Test
+  public void countsReplacedDuplicates() {
+    Interner<String> interner = DaemonInterners.newWeakInterner("test_strings");
+    String first = new String("foo");
+    String second = new String("foo");
+
+    assertSame(first, interner.intern(first));
+    assertSame(first, interner.intern(second));
+    assertSame(first, interner.intern(first));
+
+    assertEquals(Long.valueOf(1), DaemonInterners.getDuplicatesReplaced().get("test_strings"));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void namesMustBeUnique() {
+    DaemonInterners.newWeakInterner("test_duplicate_name");
+    DaemonInterners.newWeakInterner("test_duplicate_name");
+  }
+}
@@ -134,7 +134,8 @@ public class WatchmanWatcherIntegrationTest {
                 new WatchmanCursor(
                     new StringBuilder("n:buckd")
                         .append(UUID.randomUUID())
-                        .toString())));
+                        .toString())),
+            60000 /* recoveryTimeoutMillis */);
 
     // Clear out the initial overflow event.
     watcher.postEvents(
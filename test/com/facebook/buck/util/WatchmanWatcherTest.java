@@ -63,6 +63,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 public class WatchmanWatcherTest {
 
@@ -366,6 +367,35 @@ public class WatchmanWatcherTest {
         instanceOf(WatchmanOverflowEvent.class));
   }
 
+  @Test
+  public void whenClockQueryTimesOutThenChangesAreRecovered()
+      throws IOException, InterruptedException {
+    ImmutableMap<String, Object> watchmanOutput = ImmutableMap.of(
+        "clock", "c:0:1",
+        "files", ImmutableList.of(
+            ImmutableMap.<String, Object>of("name", "foo/bar/baz", "exists", false)));
+
+    WatchmanWatcher watcher = new WatchmanWatcher(
+        eventBus,
+        new FakeWatchmanClient(
+            TimeUnit.SECONDS.toNanos(20) /* queryElapsedTimeNanos */,
+            ImmutableMap.of(FAKE_CLOCK_QUERY, watchmanOutput)),
+        10000 /* timeout */,
+        60000 /* recoveryTimeout */,
+        ImmutableMap.of(FAKE_ROOT, FAKE_QUERY),
+        ImmutableMap.of(FAKE_ROOT, new WatchmanCursor("c:0:0")));
+    watcher.postEvents(
+        BuckEventBusFactory.newInstance(new FakeClock(0)),
+        WatchmanWatcher.FreshInstanceAction.NONE);
+
+    WatchmanPathEvent event = (WatchmanPathEvent) eventBuffer.getOnlyEvent();
+    assertEquals(WatchmanPathEvent.Kind.DELETE, event.getKind());
+    assertEquals(Paths.get("foo/bar/baz"), event.getPath());
+    assertThat(
+        watcher.getWatchmanQuery(FAKE_ROOT),
+        hasItem(hasEntry("since", "c:0:1")));
+  }
+
   @Test
   public void watchmanQueryWithRepoRelativePrefix() {
     WatchmanQuery query = WatchmanWatcher.createQuery(
@@ -650,6 +680,7 @@ public class WatchmanWatcherTest {
                 FAKE_CLOCK_QUERY, watchmanRootOutput,
                 FAKE_SECONDARY_QUERY.toList("c:0:0"), watchmanSecondaryOutput)),
         10000,
+        10000,
         ImmutableMap.of(
             FAKE_ROOT, FAKE_QUERY,
             FAKE_SECONDARY_ROOT, FAKE_SECONDARY_QUERY),
@@ -707,6 +738,7 @@ public class WatchmanWatcherTest {
         eventBus,
         watchmanClient,
         timeoutMillis,
+        timeoutMillis /* recoveryTimeoutMillis */,
         ImmutableMap.of(FAKE_ROOT, FAKE_QUERY),
         ImmutableMap.of(FAKE_ROOT, new WatchmanCursor(sinceCursor)));
   }
@@ -45,6 +45,7 @@ import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Optional;
+import java.util.Random;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 import java.util.jar.JarOutputStream;
@@ -300,4 +301,47 @@ public class DefaultFileHashCacheTest {
     assertTrue(cache.willGet(filesystem.getPath("buck-out/file.txt")));
     assertFalse(cache.willGet(filesystem.getPath("file.txt")));
   }
+
+  @Test
+  public void largeFileIsHashedCorrectly() throws IOException {
+    ProjectFilesystem filesystem = new ProjectFilesystem(tmp.getRoot());
+    byte[] contents = new byte[3 * 1024 * 1024 + 7];
+    new Random(42).nextBytes(contents);
+    Path input = Paths.get("large.bin");
+    filesystem.writeBytesToPath(contents, input);
+    DefaultFileHashCache cache = new DefaultFileHashCache(filesystem, Optional.empty());
+    assertEquals(Hashing.sha1().hashBytes(contents), cache.get(input));
+  }
+
+  @Test
+  public void hashingStatisticsCountEachHashedFileOnce() throws IOException {
+    ProjectFilesystem filesystem = new FakeProjectFilesystem();
+    Path input = filesystem.getPath("input");
+    filesystem.writeBytesToPath(new byte[123], input);
+    DefaultFileHashCache cache = new DefaultFileHashCache(filesystem, Optional.empty());
+    cache.get(input);
+    cache.get(input);
+    FileHashingStatistics statistics = cache.getHashingStatistics();
+    assertEquals(1, statistics.getFilesHashed());
+    assertEquals(123, statistics.getBytesHashed());
+  }
+
+  @Test
+  public void filesOfLargeDirectoryAreEachHashedOnce() throws IOException {
+    ProjectFilesystem filesystem = new FakeProjectFilesystem();
+    Path dir = filesystem.getPath("dir");
+    filesystem.mkdirs(dir);
+    for (int i = 0; i < 40; i++) {
+      filesystem.writeContentsToPath("file" + i, dir.resolve("file" + i));
+    }
+    DefaultFileHashCache cache = new DefaultFileHashCache(filesystem, Optional.empty());
+    HashCode dirHash = cache.get(dir);
+    assertEquals(40, cache.getHashingStatistics().getFilesHashed());
+    for (int i = 0; i < 40; i++) {
+      assertTrue(cache.loadingCache.getIfPresent(dir.resolve("file" + i)) != null);
+    }
+
+    cache.invalidateAll();
+    assertEquals(dirHash, cache.get(dir));
+  }
 }
@@ -0,0 +1,201 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.util.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+
+import com.facebook.buck.io.ProjectFilesystem;
+import com.facebook.buck.testutil.integration.TemporaryPaths;
+import com.facebook.buck.timing.SettableFakeClock;
+import com.google.common.hash.HashCode;
+import com.google.common.util.concurrent.MoreExecutors;
+
+import org.hamcrest.Matchers;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+public class PersistentFileHashStoreTest {
+
+  private static final long MODIFIED_MILLIS = 1_000_000_000L;
+  private static final Path STORE_PATH = Paths.get("buck-out/.file_hashes");
+
+  @Rule
+  public TemporaryPaths tmp = new TemporaryPaths();
+
+  private ProjectFilesystem filesystem;
+  private SettableFakeClock clock;
+
+  @Before
+  public void setUp() throws InterruptedException {
+    filesystem = new ProjectFilesystem(tmp.getRoot());
+    clock = new SettableFakeClock(MODIFIED_MILLIS + 60_000, 0);
+  }
+
+  @Test
+  public void hashesSurviveReopeningTheStore() throws IOException {
+    Path path = writeFile("Foo.java", "class Foo {}", MODIFIED_MILLIS);
+    HashCode hashCode = HashCode.fromInt(42);
+
+    try (PersistentFileHashStore store = open()) {
+      store.put(path, readAttributes(path), hashCode);
+      assertEquals(Optional.of(hashCode), store.get(path, readAttributes(path)));
+    }
+
+    try (PersistentFileHashStore store = open()) {
+      assertEquals(Optional.of(hashCode), store.get(path, readAttributes(path)));
+    }
+  }
+
+  @Test
+  public void modifiedFilesAreNotReturned() throws IOException {
+    Path path = writeFile("Foo.java", "class Foo {}", MODIFIED_MILLIS);
+
+    try (PersistentFileHashStore store = open()) {
+      store.put(path, readAttributes(path), HashCode.fromInt(42));
+      writeFile("Foo.java", "class Foo { int bar; }", MODIFIED_MILLIS + 1000);
+      assertEquals(Optional.empty(), store.get(path, readAttributes(path)));
+    }
+  }
+
+  @Test
+  public void recentlyModifiedFilesAreNotRecorded() throws IOException {
+    Path path = writeFile("Foo.java", "class Foo {}", MODIFIED_MILLIS);
+    clock.setCurrentTimeMillis(
+        MODIFIED_MILLIS + PersistentFileHashStore.RACY_MODIFICATION_WINDOW_MILLIS - 1);
+
+    try (PersistentFileHashStore store = open()) {
+      store.put(path, readAttributes(path), HashCode.fromInt(42));
+      assertEquals(Optional.empty(), store.get(path, readAttributes(path)));
+    }
+  }
+
+  @Test
+  public void truncatedRecordIsDiscarded() throws IOException {
+    Path foo = writeFile("Foo.java", "class Foo {}", MODIFIED_MILLIS);
+    Path bar = writeFile("Bar.java", "class Bar {}", MODIFIED_MILLIS);
+
+    try (PersistentFileHashStore store = open()) {
+      store.put(foo, readAttributes(foo), HashCode.fromInt(1));
+      store.put(bar, readAttributes(bar), HashCode.fromInt(2));
+    }
+    byte[] contents = Files.readAllBytes(filesystem.resolve(STORE_PATH));
+    try (OutputStream output = filesystem.newFileOutputStream(STORE_PATH)) {
+      output.write(contents, 0, contents.length - 3);
+    }
+
+    try (PersistentFileHashStore store = open()) {
+      assertEquals(1, store.size());
+      assertEquals(Optional.of(HashCode.fromInt(1)), store.get(foo, readAttributes(foo)));
+      assertEquals(Optional.empty(), store.get(bar, readAttributes(bar)));
+
+      store.put(bar, readAttributes(bar), HashCode.fromInt(2));
+    }
+
+    try (PersistentFileHashStore store = open()) {
+      assertEquals(Optional.of(HashCode.fromInt(2)), store.get(bar, readAttributes(bar)));
+    }
+  }
+
+  @Test
+  public void deletedAndChangedFilesAreDroppedWhenReopening() throws IOException {
+    Path foo = writeFile("Foo.java", "class Foo {}", MODIFIED_MILLIS);
+    Path bar = writeFile("Bar.java", "class Bar {}", MODIFIED_MILLIS);
+    Path baz = writeFile("Baz.java", "class Baz {}", MODIFIED_MILLIS);
+
+    try (PersistentFileHashStore store = open()) {
+      store.put(foo, readAttributes(foo), HashCode.fromInt(1));
+      store.put(bar, readAttributes(bar), HashCode.fromInt(2));
+      store.put(baz, readAttributes(baz), HashCode.fromInt(3));
+    }
+    long sizeBefore = filesystem.getFileSize(STORE_PATH);
+    filesystem.deleteFileAtPath(bar);
+    writeFile("Baz.java", "class Baz { int qux; }", MODIFIED_MILLIS + 1000);
+
+    try (PersistentFileHashStore store = open()) {
+      assertEquals(1, store.size());
+      assertEquals(Optional.of(HashCode.fromInt(1)), store.get(foo, readAttributes(foo)));
+    }
+    assertThat(filesystem.getFileSize(STORE_PATH), Matchers.lessThan(sizeBefore));
+  }
+
+  @Test
+  public void openingTheStoreLeavesStaleEntriesToTheExecutor() throws IOException {
+    Path foo = writeFile("Foo.java", "class Foo {}", MODIFIED_MILLIS);
+
+    try (PersistentFileHashStore store = open()) {
+      store.put(foo, readAttributes(foo), HashCode.fromInt(1));
+    }
+    filesystem.deleteFileAtPath(foo);
+
+    List<Runnable> pending = new ArrayList<>();
+    try (PersistentFileHashStore store =
+             PersistentFileHashStore.open(filesystem, STORE_PATH, clock, pending::add)) {
+      assertEquals(1, store.size());
+      assertEquals(1, pending.size());
+      pending.get(0).run();
+      assertEquals(0, store.size());
+    }
+  }
+
+  @Test
+  public void removedEntriesAreNotReturned() throws IOException {
+    Path path = writeFile("Foo.java", "class Foo {}", MODIFIED_MILLIS);
+
+    try (PersistentFileHashStore store = open()) {
+      store.put(path, readAttributes(path), HashCode.fromInt(42));
+      store.remove(path);
+      assertEquals(Optional.empty(), store.get(path, readAttributes(path)));
+      assertEquals(0, store.size());
+    }
+  }
+
+  /**
+   * Opens the store, removing its stale entries before returning.
+   */
+  private PersistentFileHashStore open() throws IOException {
+    return PersistentFileHashStore.open(
+        filesystem,
+        STORE_PATH,
+        clock,
+        MoreExecutors.directExecutor());
+  }
+
+  private Path writeFile(String name, String contents, long lastModifiedMillis)
+      throws IOException {
+    Path path = Paths.get(name);
+    filesystem.writeContentsToPath(contents, path);
+    filesystem.setLastModifiedTime(path, FileTime.fromMillis(lastModifiedMillis));
+    return path;
+  }
+
+  private BasicFileAttributes readAttributes(Path path) throws IOException {
+    return filesystem.readAttributes(path, BasicFileAttributes.class);
+  }
+}